@@ -32,6 +32,7 @@ import com.google.common.base.Preconditions;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -110,6 +111,13 @@ public class BlockInStream extends InputStream implements BoundedStream, Seekabl
       WorkerNetAddress address, long blockId, long length, InStreamOptions options)
       throws IOException {
     long packetSize = Configuration.getBytes(PropertyKey.USER_LOCAL_READER_PACKET_SIZE_BYTES);
+    // A buffer can map at most Integer.MAX_VALUE bytes.
+    if (Configuration.getBoolean(PropertyKey.USER_SHORT_CIRCUIT_MMAP_ENABLED)
+        && length <= Integer.MAX_VALUE) {
+      return new BlockInStream(new LocalMappedPacketReader.Factory(
+          context.getLocalBlockLeases(address), blockId, packetSize, options), address, blockId,
+          length);
+    }
     return new BlockInStream(
         new LocalFilePacketReader.Factory(context, address, blockId, packetSize, options), address,
         blockId, length);
@@ -191,6 +199,37 @@ public class BlockInStream extends InputStream implements BoundedStream, Seekabl
     return toRead;
   }
 
+  /**
+   * Reads up to {@code buf.remaining()} bytes into a buffer, which may be direct. The bytes are
+   * transferred from the current packet without an intermediate heap copy.
+   *
+   * @param buf the buffer to read into, whose position is advanced by the number of bytes read
+   * @return the number of bytes read, or -1 if the end of the block is reached
+   */
+  public int read(ByteBuffer buf) throws IOException {
+    checkIfClosed();
+    Preconditions.checkArgument(buf != null, PreconditionMessage.ERR_READ_BUFFER_NULL);
+    if (!buf.hasRemaining()) {
+      return 0;
+    }
+
+    readPacket();
+    if (mCurrentPacket == null) {
+      mEOF = true;
+    }
+    if (mEOF) {
+      closePacketReader();
+      return -1;
+    }
+    int toRead = Math.min(buf.remaining(), mCurrentPacket.readableBytes());
+    ByteBuffer dst = buf.duplicate();
+    dst.limit(dst.position() + toRead);
+    mCurrentPacket.readBytes(dst);
+    buf.position(dst.position());
+    mPos += toRead;
+    return toRead;
+  }
+
   @Override
   public int positionedRead(long pos, byte[] b, int off, int len) throws IOException {
     if (len == 0) {
@@ -0,0 +1,319 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.netty.NettyRPC;
+import alluxio.client.netty.NettyRPCContext;
+import alluxio.exception.ExceptionMessage;
+import alluxio.exception.status.NotFoundException;
+import alluxio.proto.dataserver.Protocol;
+import alluxio.util.IdUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.proto.ProtoMessage;
+import alluxio.wire.WorkerNetAddress;
+import alluxio.worker.block.io.LocalFileBlockReader;
+
+import com.google.common.base.Preconditions;
+import io.netty.channel.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The memory-mapped blocks a client reads from a local worker, and their leases. A lease keeps the
+ * worker from evicting a block for a while without locking and unlocking the block for each read.
+ * A leased block is mapped once and read without any request to the worker until its lease is due
+ * for renewal, and the leases of all the blocks read since their last renewal are renewed together
+ * in one request.
+ *
+ * The worker may revoke a lease to remove or move the block, and the leases of the blocks which
+ * are not read anymore lapse. Such a block is dropped here, and leased again on its next read.
+ * Its mapping is unmapped as soon as no reader references it anymore, so readers must release
+ * each block they acquire with {@link #releaseBlock(LeasedBlock)}.
+ */
+@ThreadSafe
+public final class LocalBlockLeases implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalBlockLeases.class);
+  private static final long RPC_TIMEOUT_MS =
+      Configuration.getMs(PropertyKey.USER_NETWORK_NETTY_TIMEOUT_MS);
+  /** The executor which drops the lapsed leases of all the local workers. */
+  private static final ScheduledExecutorService SWEEP_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+      ThreadFactoryUtils.build("LocalBlockLeasesSweepThread-%d", true));
+
+  private final FileSystemContext mContext;
+  private final WorkerNetAddress mAddress;
+  /** The session of the leases, which outlives the channels the requests are sent on. */
+  private final long mSessionId;
+  private final long mLeaseMs;
+  private final ScheduledFuture<?> mSweepFuture;
+
+  /** The leased blocks by block id. */
+  @GuardedBy("this")
+  private final Map<Long, LeasedBlock> mBlocks = new HashMap<>();
+  @GuardedBy("this")
+  private boolean mClosed;
+
+  /**
+   * Creates a new instance of {@link LocalBlockLeases}.
+   *
+   * @param context the file system context
+   * @param address the address of the local worker
+   */
+  public LocalBlockLeases(FileSystemContext context, WorkerNetAddress address) {
+    mContext = context;
+    mAddress = address;
+    mSessionId = IdUtils.createSessionId();
+    mLeaseMs = Configuration.getMs(PropertyKey.USER_SHORT_CIRCUIT_LEASE_MS);
+    long sweepIntervalMs = Math.max(mLeaseMs / 2, 1);
+    mSweepFuture = SWEEP_EXECUTOR.scheduleAtFixedRate(new Runnable() {
+      @Override
+      public void run() {
+        sweep();
+      }
+    }, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Acquires a block, leasing and mapping the block if it is not leased yet. The request to the
+   * worker is sent without holding the lock of this object, so the readers of the other leased
+   * blocks do not wait for it.
+   *
+   * @param blockId the block id
+   * @param promote whether to promote the block to the top tier if it is not leased yet
+   * @return the block, to be released with {@link #releaseBlock(LeasedBlock)}
+   */
+  public LeasedBlock acquireBlock(long blockId, boolean promote) throws IOException {
+    List<Long> blockIds = new ArrayList<>();
+    boolean mapped;
+    synchronized (this) {
+      Preconditions.checkState(!mClosed, "The leases of worker %s are closed", mAddress);
+      LeasedBlock block = mBlocks.get(blockId);
+      if (block != null && System.currentTimeMillis() < block.mRenewMs) {
+        return acquire(block);
+      }
+      mapped = block != null;
+      // Renew the leases of the other blocks read since their last renewal in the same request.
+      blockIds.add(blockId);
+      for (Map.Entry<Long, LeasedBlock> entry : mBlocks.entrySet()) {
+        if (entry.getKey() != blockId && entry.getValue().mRead) {
+          blockIds.add(entry.getKey());
+        }
+      }
+    }
+
+    long nowMs = System.currentTimeMillis();
+    Protocol.LocalBlockLeaseRequest.Builder request = Protocol.LocalBlockLeaseRequest.newBuilder()
+        .addAllBlockIds(blockIds).setSessionId(mSessionId).setLeaseMs(mLeaseMs);
+    if (promote && !mapped) {
+      request.addPromoteBlockIds(blockId);
+    }
+    ProtoMessage message = call(new ProtoMessage(request.build()));
+    Preconditions.checkState(message.isLocalBlockLeaseResponse());
+    Map<Long, String> paths = new HashMap<>();
+    for (Protocol.LocalBlockLease lease : message.asLocalBlockLeaseResponse().getLeasesList()) {
+      paths.put(lease.getBlockId(), lease.getPath());
+    }
+    String path = paths.get(blockId);
+    ByteBuffer buffer = path == null || mapped ? null : map(path);
+
+    synchronized (this) {
+      for (long id : blockIds) {
+        LeasedBlock block = mBlocks.get(id);
+        if (block == null) {
+          continue;
+        }
+        if (paths.containsKey(id)) {
+          block.mRead = false;
+          block.mExpiryMs = nowMs + mLeaseMs;
+          block.mRenewMs = nowMs + mLeaseMs / 2;
+        } else {
+          // The block was removed or moved by the worker.
+          drop(id);
+        }
+      }
+      if (mClosed || path == null) {
+        if (buffer != null) {
+          BufferUtils.cleanDirectBuffer(buffer);
+        }
+        Preconditions.checkState(!mClosed, "The leases of worker %s are closed", mAddress);
+        throw new NotFoundException(ExceptionMessage.NO_BLOCK_ID_FOUND.getMessage(blockId));
+      }
+      LeasedBlock block = mBlocks.get(blockId);
+      if (block == null) {
+        // The block was dropped by a sweep while its lease was being renewed.
+        block = new LeasedBlock(buffer == null ? map(path) : buffer);
+        block.mExpiryMs = nowMs + mLeaseMs;
+        block.mRenewMs = nowMs + mLeaseMs / 2;
+        mBlocks.put(blockId, block);
+      } else if (buffer != null) {
+        // Another reader mapped the block concurrently.
+        BufferUtils.cleanDirectBuffer(buffer);
+      }
+      return acquire(block);
+    }
+  }
+
+  /**
+   * Releases a block acquired with {@link #acquireBlock(long, boolean)}. The block is unmapped if
+   * it was dropped and this was its last reader.
+   *
+   * @param block the block
+   */
+  public synchronized void releaseBlock(LeasedBlock block) {
+    Preconditions.checkState(block.mRefCount > 0, "The block is not acquired");
+    block.mRefCount--;
+    if (block.mRefCount == 0 && block.mDropped) {
+      BufferUtils.cleanDirectBuffer(block.mBuffer);
+    }
+  }
+
+  @GuardedBy("this")
+  private LeasedBlock acquire(LeasedBlock block) {
+    block.mRead = true;
+    block.mRefCount++;
+    return block;
+  }
+
+  /**
+   * Drops a leased block, and unmaps it if no reader references it.
+   *
+   * @param blockId the block id
+   */
+  @GuardedBy("this")
+  private void drop(long blockId) {
+    LeasedBlock block = mBlocks.remove(blockId);
+    block.mDropped = true;
+    if (block.mRefCount == 0) {
+      BufferUtils.cleanDirectBuffer(block.mBuffer);
+    }
+  }
+
+  /**
+   * Drops the blocks whose leases expired because they were not read anymore.
+   */
+  private synchronized void sweep() {
+    long nowMs = System.currentTimeMillis();
+    List<Long> lapsed = new ArrayList<>();
+    for (Map.Entry<Long, LeasedBlock> entry : mBlocks.entrySet()) {
+      if (nowMs >= entry.getValue().mExpiryMs) {
+        lapsed.add(entry.getKey());
+      }
+    }
+    for (long blockId : lapsed) {
+      drop(blockId);
+    }
+  }
+
+  /**
+   * @param path the path of the block file
+   * @return the read-only mapping of the whole block file
+   */
+  private static ByteBuffer map(String path) throws IOException {
+    try (LocalFileBlockReader reader = new LocalFileBlockReader(path)) {
+      return reader.read(0, reader.getLength());
+    }
+  }
+
+  private ProtoMessage call(ProtoMessage request) throws IOException {
+    Channel channel = mContext.acquireNettyChannel(mAddress);
+    try {
+      return NettyRPC.call(
+          NettyRPCContext.defaults().setChannel(channel).setTimeout(RPC_TIMEOUT_MS), request);
+    } finally {
+      mContext.releaseNettyChannel(mAddress, channel);
+    }
+  }
+
+  /**
+   * Releases the leases of all the blocks. The blocks which are still acquired stay readable until
+   * they are released.
+   */
+  @Override
+  public void close() {
+    List<Long> blockIds;
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+      mSweepFuture.cancel(false);
+      blockIds = new ArrayList<>(mBlocks.keySet());
+      for (long blockId : blockIds) {
+        drop(blockId);
+      }
+    }
+    if (blockIds.isEmpty()) {
+      return;
+    }
+    Protocol.LocalBlockLeaseReleaseRequest request =
+        Protocol.LocalBlockLeaseReleaseRequest.newBuilder().addAllBlockIds(blockIds)
+            .setSessionId(mSessionId).build();
+    try {
+      call(new ProtoMessage(request));
+    } catch (IOException | RuntimeException e) {
+      // The worker releases the leases when they expire anyway.
+      LOG.warn("Failed to release the block leases on worker {}: {}", mAddress, e.getMessage());
+    }
+  }
+
+  /**
+   * A leased block. Its fields are guarded by the {@link LocalBlockLeases} it belongs to.
+   */
+  public static final class LeasedBlock {
+    private final ByteBuffer mBuffer;
+    /** The time in milliseconds when the lease expires on the worker. */
+    private long mExpiryMs;
+    /** The time in milliseconds after which the lease is renewed before the block is read. */
+    private long mRenewMs;
+    /** Whether the block was read since the lease was last renewed. */
+    private boolean mRead;
+    /** The number of readers which acquired the block and did not release it yet. */
+    private int mRefCount;
+    /** Whether the block was dropped, so it is unmapped when its last reader releases it. */
+    private boolean mDropped;
+
+    /**
+     * Creates a new instance of {@link LeasedBlock}.
+     *
+     * @param buffer the mapping of the block file
+     */
+    private LeasedBlock(ByteBuffer buffer) {
+      mBuffer = buffer;
+    }
+
+    /**
+     * @return a read-only buffer of the whole block, independent of the buffers of other readers;
+     *         it must not be used after the block is released
+     */
+    public ByteBuffer getBuffer() {
+      return mBuffer.duplicate();
+    }
+  }
+}
@@ -96,7 +96,10 @@ public final class LocalFilePacketWriter implements PacketWriter {
       int sz = buf.readableBytes();
       ensureReserved(mPos + sz);
       mPos += sz;
-      Preconditions.checkState(buf.readBytes(mWriter.getChannel(), sz) == sz);
+      // Transfers through the writer so that it computes the checksums of the block, which the
+      // worker commits with the block instead of reading the block to compute them.
+      mWriter.transferFrom(buf);
+      Preconditions.checkState(!buf.isReadable());
     } finally {
       buf.release();
     }
@@ -110,6 +113,9 @@ public final class LocalFilePacketWriter implements PacketWriter {
     mClosed = true;
 
     try {
+      // Aborts the writer before the worker removes the block, so that no checksum file of the
+      // cancelled block is written after the worker has cleaned it up.
+      mWriter.abort();
       NettyRPC.call(mNettyRPCContext, new ProtoMessage(
           Protocol.LocalBlockCompleteRequest.newBuilder().setBlockId(mBlockId).setCancel(true)
               .build()));
@@ -133,6 +139,8 @@ public final class LocalFilePacketWriter implements PacketWriter {
     mCloser.register(new Closeable() {
       @Override
       public void close() throws IOException {
+        // Closes the writer first so that the checksum file is written before the block commits.
+        mWriter.close();
         Protocol.LocalBlockCompleteRequest request =
             Protocol.LocalBlockCompleteRequest.newBuilder().setBlockId(mBlockId).build();
         NettyRPC.call(mNettyRPCContext, new ProtoMessage(request));
@@ -173,8 +181,8 @@ public final class LocalFilePacketWriter implements PacketWriter {
 
       ProtoMessage message = NettyRPC.call(mNettyRPCContext, mCreateRequest);
       Preconditions.checkState(message.isLocalBlockCreateResponse());
-      mWriter = mCloser
-          .register(new LocalFileBlockWriter(message.asLocalBlockCreateResponse().getPath()));
+      mWriter = mCloser.register(
+          new LocalFileBlockWriter(message.asLocalBlockCreateResponse().getPath(), true));
     } catch (Exception e) {
       throw CommonUtils.closeAndRethrow(mCloser, e);
     }
@@ -0,0 +1,125 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.network.protocol.databuffer.DataNettyBufferV2;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A packet reader that reads packets from a memory-mapped local block without copying them. The
+ * packets are slices of the mapping, so releasing them does not unmap the block.
+ */
+@NotThreadSafe
+public final class LocalMappedPacketReader implements PacketReader {
+  /** The mapping of the whole block. */
+  private final ByteBuffer mBlock;
+  private final int mEnd;
+  private final int mPacketSize;
+  private int mPos;
+
+  /**
+   * Creates an instance of {@link LocalMappedPacketReader}.
+   *
+   * @param block the mapping of the whole block
+   * @param offset the offset
+   * @param len the length to read
+   * @param packetSize the packet size
+   */
+  private LocalMappedPacketReader(ByteBuffer block, long offset, long len, long packetSize) {
+    Preconditions.checkArgument(packetSize > 0);
+    Preconditions.checkArgument(offset >= 0 && offset + len <= block.capacity(),
+        "offset=%s, length=%s, exceeding block size=%s", offset, len, block.capacity());
+    mBlock = block;
+    mPos = (int) offset;
+    mEnd = (int) (offset + len);
+    mPacketSize = (int) Math.min(packetSize, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public DataBuffer readPacket() {
+    if (mPos >= mEnd) {
+      return null;
+    }
+    ByteBuffer packet = mBlock.duplicate();
+    packet.position(mPos);
+    packet.limit(mPos + Math.min(mPacketSize, mEnd - mPos));
+    mPos = packet.limit();
+    // A read-only buffer is wrapped without copying, and releasing the wrapper frees nothing.
+    return new DataNettyBufferV2(Unpooled.wrappedBuffer(packet.slice()));
+  }
+
+  @Override
+  public long pos() {
+    return mPos;
+  }
+
+  @Override
+  public void close() {}
+
+  /**
+   * Factory class to create {@link LocalMappedPacketReader}s. The block is leased from the local
+   * worker through the {@link LocalBlockLeases} of the file system context, so creating a factory
+   * only sends a request to the worker when the block is not leased yet or its lease is due for
+   * renewal, and closing a factory sends no request at all. The block stays mapped until the
+   * factory is closed.
+   */
+  public static class Factory implements PacketReader.Factory {
+    private final LocalBlockLeases mLeases;
+    private final LocalBlockLeases.LeasedBlock mBlock;
+    private final long mPacketSize;
+    private boolean mClosed;
+
+    /**
+     * Creates an instance of {@link Factory}.
+     *
+     * @param leases the leases of the blocks of the local worker
+     * @param blockId the block ID
+     * @param packetSize the packet size
+     * @param options the instream options
+     */
+    public Factory(LocalBlockLeases leases, long blockId, long packetSize,
+        InStreamOptions options) throws IOException {
+      mLeases = leases;
+      mBlock = leases.acquireBlock(blockId, options.getAlluxioStorageType().isPromote());
+      mPacketSize = packetSize;
+    }
+
+    @Override
+    public PacketReader create(long offset, long len) {
+      return new LocalMappedPacketReader(mBlock.getBuffer(), offset, len, mPacketSize);
+    }
+
+    @Override
+    public boolean isShortCircuit() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      if (mClosed) {
+        return;
+      }
+      // The packets read from the block are released before the factory is closed.
+      mLeases.releaseBlock(mBlock);
+      mClosed = true;
+    }
+  }
+}
@@ -15,6 +15,7 @@ import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.client.file.FileSystemContext;
 import alluxio.client.file.options.InStreamOptions;
+import alluxio.client.netty.NettyStream;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.CanceledException;
 import alluxio.exception.status.DeadlineExceededException;
@@ -62,6 +63,12 @@ import javax.annotation.concurrent.NotThreadSafe;
  * 6. If the client wants to reuse the channel, the client must read all the packets in the channel
  *    before releasing the channel to the channel pool.
  * 7. To make it simple to handle errors, the channel is closed if any error occurs.
+ *
+ * If {@link PropertyKey#USER_NETWORK_NETTY_MULTIPLEX_ENABLED} is set, the reader opens a stream
+ * on a channel shared with other readers and writers instead. The requests carry the id of the
+ * stream. Rather than turning off the auto read of the shared channel, the reader grants the
+ * server credits for the packets it has read, and the server only sends as many packets as it has
+ * credits for. An error only fails the stream, the shared channel is kept open.
  */
 @NotThreadSafe
 public final class NettyPacketReader implements PacketReader {
@@ -81,6 +88,8 @@ public final class NettyPacketReader implements PacketReader {
 
   private final FileSystemContext mContext;
   private final Channel mChannel;
+  /** The multiplexed stream of the reader, or null if the reader has a channel of its own. */
+  private final NettyStream mStream;
   private final Protocol.ReadRequest mReadRequest;
   private final WorkerNetAddress mAddress;
 
@@ -107,6 +116,11 @@ public final class NettyPacketReader implements PacketReader {
    * by the client thread (not touched by the netty I/O thread).
    */
   private boolean mDone = false;
+  /**
+   * The number of packets read since credits were last granted to the server on a multiplexed
+   * stream. This is only used by the client thread.
+   */
+  private int mPacketsNotGranted;
 
   private boolean mClosed = false;
 
@@ -124,10 +138,18 @@ public final class NettyPacketReader implements PacketReader {
     mContext = context;
     mAddress = address;
     mPosToRead = readRequest.getOffset();
-    mReadRequest = readRequest;
 
-    mChannel = mContext.acquireNettyChannel(address);
-    mChannel.pipeline().addLast(new PacketReadHandler());
+    if (Configuration.getBoolean(PropertyKey.USER_NETWORK_NETTY_MULTIPLEX_ENABLED)) {
+      mStream = mContext.openNettyStream(address, new PacketReadHandler());
+      mChannel = mStream.getChannel();
+      readRequest = readRequest.toBuilder().setStreamId(mStream.getId())
+          .setCredits(MAX_PACKETS_IN_FLIGHT).build();
+    } else {
+      mStream = null;
+      mChannel = mContext.acquireNettyChannel(address);
+      mChannel.pipeline().addLast(new PacketReadHandler());
+    }
+    mReadRequest = readRequest;
     mChannel.writeAndFlush(new RPCProtoMessage(new ProtoMessage(mReadRequest)))
         .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
   }
@@ -141,7 +163,7 @@ public final class NettyPacketReader implements PacketReader {
   public DataBuffer readPacket() throws IOException {
     Preconditions.checkState(!mClosed, "PacketReader is closed while reading packets.");
     // TODO(peis): Have a better criteria to resume so that we can have fewer state changes.
-    if (!tooManyPacketsPending()) {
+    if (mStream == null && !tooManyPacketsPending()) {
       NettyUtils.enableAutoRead(mChannel);
     }
     ByteBuf buf;
@@ -167,9 +189,30 @@ public final class NettyPacketReader implements PacketReader {
     }
     mPosToRead += buf.readableBytes();
     Preconditions.checkState(mPosToRead - mReadRequest.getOffset() <= mReadRequest.getLength());
+    grantCredits();
     return new DataNettyBufferV2(buf);
   }
 
+  /**
+   * Grants the server credits for the packets read from a multiplexed stream. The credits are
+   * granted once half of the buffer has been read, so that the server does not wait for them as
+   * long as the client keeps up.
+   */
+  private void grantCredits() {
+    if (mStream == null) {
+      return;
+    }
+    mPacketsNotGranted++;
+    if (mPacketsNotGranted < Math.max(1, MAX_PACKETS_IN_FLIGHT / 2) || remaining() == 0) {
+      return;
+    }
+    Protocol.ReadRequest grant = Protocol.ReadRequest.newBuilder().setStreamId(mStream.getId())
+        .setCredits(mPacketsNotGranted).build();
+    mChannel.writeAndFlush(new RPCProtoMessage(new ProtoMessage(grant)))
+        .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    mPacketsNotGranted = 0;
+  }
+
   @Override
   public void close() {
     if (mClosed) {
@@ -182,6 +225,10 @@ public final class NettyPacketReader implements PacketReader {
       if (!mChannel.isOpen()) {
         return;
       }
+      if (mStream != null && mPacketReaderException != null) {
+        // The stream has failed, the server does not send anything more for it.
+        return;
+      }
       if (remaining() > 0) {
         Protocol.ReadRequest cancelRequest = mReadRequest.toBuilder().setCancel(true).build();
         mChannel.writeAndFlush(new RPCProtoMessage(new ProtoMessage(cancelRequest)))
@@ -193,17 +240,23 @@ public final class NettyPacketReader implements PacketReader {
       } catch (IOException e) {
         LOG.warn("Failed to close the NettyBlockReader (block: {}, address: {}) with exception {}.",
             mReadRequest.getBlockId(), mAddress, e.getMessage());
-        CommonUtils.closeChannel(mChannel);
+        if (mStream == null) {
+          CommonUtils.closeChannel(mChannel);
+        }
         return;
       }
     } finally {
-      if (mChannel.isOpen()) {
-        mChannel.pipeline().removeLast();
+      if (mStream != null) {
+        mStream.close();
+      } else {
+        if (mChannel.isOpen()) {
+          mChannel.pipeline().removeLast();
 
-        // Make sure "autoread" is on before releasing the channel.
-        NettyUtils.enableAutoRead(mChannel);
+          // Make sure "autoread" is on before releasing the channel.
+          NettyUtils.enableAutoRead(mChannel);
+        }
+        mContext.releaseNettyChannel(mAddress, mChannel);
       }
-      mContext.releaseNettyChannel(mAddress, mChannel);
       mClosed = true;
     }
   }
@@ -280,7 +333,7 @@ public final class NettyPacketReader implements PacketReader {
             String.format("Incorrect response type %s.", message.toString()));
       }
 
-      if (tooManyPacketsPending()) {
+      if (mStream == null && tooManyPacketsPending()) {
         NettyUtils.disableAutoRead(ctx.channel());
       }
       mPackets.offer(buf);
@@ -298,7 +351,9 @@ public final class NettyPacketReader implements PacketReader {
         mPacketReaderException = cause;
         mPackets.offer(THROWABLE);
       }
-      ctx.close();
+      if (mStream == null) {
+        ctx.close();
+      }
     }
 
     @Override
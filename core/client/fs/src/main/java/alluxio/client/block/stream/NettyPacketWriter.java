@@ -14,6 +14,7 @@ package alluxio.client.block.stream;
 import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.client.file.FileSystemContext;
+import alluxio.client.netty.NettyStream;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.CanceledException;
 import alluxio.exception.status.DeadlineExceededException;
@@ -61,6 +62,12 @@ import javax.annotation.concurrent.NotThreadSafe;
  *    sure that the server has cleaned its states.
  * 4. To make it simple to handle errors, the channel is closed if any error occurs.
  *
+ * If {@link PropertyKey#USER_NETWORK_NETTY_MULTIPLEX_ENABLED} is set, the writer opens a stream
+ * on a channel shared with other readers and writers instead. The requests carry the id of the
+ * stream. As the server can not turn off the auto read of the shared channel, it acknowledges the
+ * packets it has written, and the writer pauses while too many packets are not acknowledged. An
+ * error only fails the stream, the shared channel is kept open.
+ *
  * NOTE: this class is NOT threadsafe. Do not call cancel/close while some other threads are
  * writing.
  */
@@ -75,6 +82,8 @@ public final class NettyPacketWriter implements PacketWriter {
 
   private final FileSystemContext mContext;
   private final Channel mChannel;
+  /** The multiplexed stream of the writer, or null if the writer has a channel of its own. */
+  private final NettyStream mStream;
   private final WorkerNetAddress mAddress;
   private final long mLength;
   private final Protocol.WriteRequest mPartialRequest;
@@ -92,6 +101,9 @@ public final class NettyPacketWriter implements PacketWriter {
    */
   @GuardedBy("mLock")
   private long mPosToQueue;
+  /** The number of packets sent and not acknowledged by the server of a multiplexed stream. */
+  @GuardedBy("mLock")
+  private int mPacketsNotAcked;
   @GuardedBy("mLock")
   private Throwable mPacketWriteException;
   @GuardedBy("mLock")
@@ -138,10 +150,18 @@ public final class NettyPacketWriter implements PacketWriter {
     mContext = context;
     mAddress = address;
     mLength = length;
-    mPartialRequest = partialRequest;
     mPacketSize = packetSize;
-    mChannel = mContext.acquireNettyChannel(address);
-    mChannel.pipeline().addLast(new PacketWriteHandler());
+    if (Configuration.getBoolean(PropertyKey.USER_NETWORK_NETTY_MULTIPLEX_ENABLED)) {
+      mStream = mContext.openNettyStream(address, new PacketWriteHandler());
+      mChannel = mStream.getChannel();
+      mPartialRequest = partialRequest.toBuilder().setStreamId(mStream.getId())
+          .setCredits(MAX_PACKETS_IN_FLIGHT).buildPartial();
+    } else {
+      mStream = null;
+      mPartialRequest = partialRequest;
+      mChannel = mContext.acquireNettyChannel(address);
+      mChannel.pipeline().addLast(new PacketWriteHandler());
+    }
   }
 
   @Override
@@ -166,6 +186,7 @@ public final class NettyPacketWriter implements PacketWriter {
         if (!tooManyPacketsInFlight()) {
           offset = mPosToQueue;
           mPosToQueue += buf.readableBytes();
+          mPacketsNotAcked++;
           len = buf.readableBytes();
           break;
         }
@@ -238,23 +259,13 @@ public final class NettyPacketWriter implements PacketWriter {
         }
         try {
           if (mPacketWriteException != null) {
-            closeFuture = mChannel.eventLoop().submit(new Runnable() {
-              @Override
-              public void run() {
-                mChannel.close();
-              }
-            });
+            closeFuture = closeChannelOnFailure();
             throw new UnavailableException(mPacketWriteException);
           }
           if (!mDoneOrFailed
               .await(Configuration.getMs(PropertyKey.USER_NETWORK_NETTY_WRITER_CLOSE_TIMEOUT_MS),
                   TimeUnit.MILLISECONDS)) {
-            closeFuture = mChannel.eventLoop().submit(new Runnable() {
-              @Override
-              public void run() {
-                mChannel.close();
-              }
-            });
+            closeFuture = closeChannelOnFailure();
             throw new DeadlineExceededException(String.format(
                 "Timeout closing PacketWriter to %s for request %s.", mAddress, mPartialRequest));
           }
@@ -273,19 +284,42 @@ public final class NettyPacketWriter implements PacketWriter {
           throw new CanceledException(e);
         }
       }
-      if (mChannel.isOpen()) {
-        mChannel.pipeline().removeLast();
+      if (mStream != null) {
+        mStream.close();
+      } else {
+        if (mChannel.isOpen()) {
+          mChannel.pipeline().removeLast();
+        }
+        mContext.releaseNettyChannel(mAddress, mChannel);
       }
-      mContext.releaseNettyChannel(mAddress, mChannel);
       mClosed = true;
     }
   }
 
   /**
-   * @return true if there are too many bytes in flight
+   * Closes the channel after a failure unless it is shared by multiplexed streams.
+   *
+   * @return the future of closing the channel, or null if the channel is not closed
+   */
+  private Future<?> closeChannelOnFailure() {
+    if (mStream != null) {
+      return null;
+    }
+    return mChannel.eventLoop().submit(new Runnable() {
+      @Override
+      public void run() {
+        mChannel.close();
+      }
+    });
+  }
+
+  /**
+   * @return true if there are too many bytes in flight, or too many packets not acknowledged on a
+   *         multiplexed stream
    */
   private boolean tooManyPacketsInFlight() {
-    return mPosToQueue - mPosToWrite >= MAX_PACKETS_IN_FLIGHT * mPacketSize;
+    return mPosToQueue - mPosToWrite >= MAX_PACKETS_IN_FLIGHT * mPacketSize
+        || (mStream != null && mPacketsNotAcked >= MAX_PACKETS_IN_FLIGHT);
   }
 
   /**
@@ -345,6 +379,15 @@ public final class NettyPacketWriter implements PacketWriter {
       Preconditions.checkState(acceptMessage(msg),
           String.format("Incorrect response type %s.", msg.toString()));
       RPCProtoMessage response = (RPCProtoMessage) msg;
+      if (response.getMessage().asResponse().hasCredits()) {
+        try (LockResource lr = new LockResource(mLock)) {
+          mPacketsNotAcked -= response.getMessage().asResponse().getCredits();
+          if (!tooManyPacketsInFlight()) {
+            mBufferNotFullOrFailed.signal();
+          }
+        }
+        return;
+      }
       // Canceled is considered a valid status and handled in the writer. We avoid creating a
       // CanceledException as an optimization.
       if (response.getMessage().asResponse().getStatus() != PStatus.CANCELED) {
@@ -367,7 +410,9 @@ public final class NettyPacketWriter implements PacketWriter {
         mBufferEmptyOrFailed.signal();
       }
 
-      ctx.close();
+      if (mStream == null) {
+        ctx.close();
+      }
     }
 
     @Override
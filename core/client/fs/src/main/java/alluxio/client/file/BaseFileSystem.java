@@ -40,12 +40,15 @@ import alluxio.exception.status.FailedPreconditionException;
 import alluxio.exception.status.InvalidArgumentException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.LoadMetadataType;
 
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -138,6 +141,37 @@ public class BaseFileSystem implements FileSystem {
     return new FileOutStream(path, outStreamOptions, mFileSystemContext);
   }
 
+  @Override
+  public List<FileOutStream> createFilesBatch(List<AlluxioURI> paths, CreateFileOptions options)
+      throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    List<URIStatus> statuses;
+    try {
+      masterClient.createFilesBatch(paths, options);
+      statuses = masterClient.getStatusBatch(paths, GetStatusOptions.defaults()
+          .setLoadMetadataType(LoadMetadataType.Never));
+      LOG.debug("Created {} files, options: {}", paths.size(), options);
+    } catch (AlreadyExistsException e) {
+      throw new FileAlreadyExistsException(e.getMessage());
+    } catch (InvalidArgumentException e) {
+      throw new InvalidPathException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+    List<FileOutStream> outStreams = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      OutStreamOptions outStreamOptions = options.toOutStreamOptions();
+      outStreamOptions.setUfsPath(statuses.get(i).getUfsPath());
+      outStreamOptions.setMountId(statuses.get(i).getMountId());
+      outStreams.add(new FileOutStream(paths.get(i), outStreamOptions, mFileSystemContext));
+    }
+    return outStreams;
+  }
+
   @Override
   public void delete(AlluxioURI path)
       throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException {
@@ -165,6 +199,26 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public void deleteBatch(List<AlluxioURI> paths, DeleteOptions options)
+      throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      masterClient.deleteBatch(paths, options);
+      LOG.debug("Deleted {} paths, options: {}", paths.size(), options);
+    } catch (FailedPreconditionException e) {
+      throw new DirectoryNotEmptyException(e.getMessage());
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public boolean exists(AlluxioURI path)
       throws InvalidPathException, IOException, AlluxioException {
@@ -218,6 +272,37 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public long getFileChecksum(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.getFileChecksum(path);
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
+  @Override
+  public LoadJobInfo getLoadJobInfo(long id) throws IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.getLoadJobInfo(id);
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public URIStatus getStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -241,6 +326,23 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public List<URIStatus> getStatusBatch(List<AlluxioURI> paths, GetStatusOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.getStatusBatch(paths, options);
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public List<URIStatus> listStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -265,6 +367,23 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public LoadJobInfo load(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.load(path);
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -367,6 +486,26 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public void renameBatch(List<AlluxioURI> srcs, List<AlluxioURI> dsts, RenameOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    Preconditions.checkArgument(srcs.size() == dsts.size(),
+        "The number of sources (%s) and destinations (%s) must match", srcs.size(), dsts.size());
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      masterClient.renameBatch(srcs, dsts);
+      LOG.debug("Renamed {} paths, options: {}", srcs.size(), options);
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public void setAttribute(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
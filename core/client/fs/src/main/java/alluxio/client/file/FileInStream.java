@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -179,6 +180,60 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     return readInternal(b, off, len);
   }
 
+  /**
+   * Reads up to {@code buf.remaining()} bytes into a buffer, which may be direct. The bytes are
+   * transferred from the packets of the block streams without an intermediate heap copy, unless
+   * the block being read is also being cached.
+   *
+   * @param buf the buffer to read into, whose position is advanced by the number of bytes read
+   * @return the number of bytes read, or -1 if the end of the file is reached
+   */
+  public int read(ByteBuffer buf) throws IOException {
+    Preconditions.checkArgument(buf != null, PreconditionMessage.ERR_READ_BUFFER_NULL);
+    int len = buf.remaining();
+    if (len == 0) {
+      return 0;
+    } else if (remainingInternal() <= 0) {
+      return -1;
+    }
+
+    while (buf.hasRemaining() && remainingInternal() > 0) {
+      updateStreams();
+      Preconditions.checkNotNull(mCurrentBlockInStream, PreconditionMessage.ERR_UNEXPECTED_EOF);
+      int bytesToRead = (int) Math.min(buf.remaining(), mCurrentBlockInStream.remaining());
+      ByteBuffer dst = buf.duplicate();
+      dst.limit(dst.position() + bytesToRead);
+
+      int bytesRead;
+      try {
+        bytesRead = mCurrentBlockInStream.read(dst);
+      } catch (IOException e) {
+        throw AlluxioStatusException.fromIOException(e);
+      }
+      if (bytesRead > 0) {
+        if (mCurrentCacheStream != null) {
+          byte[] bytes = new byte[bytesRead];
+          ByteBuffer data = buf.duplicate();
+          data.get(bytes);
+          try {
+            mCurrentCacheStream.write(bytes);
+          } catch (IOException e) {
+            handleCacheStreamException(e);
+          }
+        }
+        buf.position(buf.position() + bytesRead);
+        mPos += bytesRead;
+      }
+    }
+
+    if (buf.remaining() == len && mCurrentBlockInStream.remaining() == 0) {
+      // Nothing was read, and the underlying stream is done.
+      return -1;
+    }
+
+    return len - buf.remaining();
+  }
+
   private int readInternal() throws IOException {
     if (remainingInternal() <= 0) {
       return -1;
@@ -291,6 +346,13 @@ public class FileInStream extends InputStream implements BoundedStream, Seekable
     return lenCopy - len;
   }
 
+  /**
+   * @return the length of the file in bytes
+   */
+  public long getLength() {
+    return mFileLength;
+  }
+
   @Override
   public long remaining() {
     // WARNING: do not call remaining() directly within this file, use remainingInternal() instead
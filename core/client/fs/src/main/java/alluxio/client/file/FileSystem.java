@@ -12,6 +12,7 @@
 package alluxio.client.file;
 
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.annotation.PublicApi;
@@ -35,6 +36,7 @@ import alluxio.exception.DirectoryNotEmptyException;
 import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
+import alluxio.wire.LoadJobInfo;
 
 import java.io.IOException;
 import java.util.List;
@@ -115,6 +117,19 @@ public interface FileSystem {
   FileOutStream createFile(AlluxioURI path, CreateFileOptions options)
       throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException;
 
+  /**
+   * Creates a batch of files with the same options using a single metadata round trip. The batch
+   * is not atomic: if one of the files cannot be created, the files created before it remain.
+   *
+   * @param paths the paths of the files to create in Alluxio space
+   * @param options options to associate with this operation
+   * @return a {@link FileOutStream} for each of the newly created files, in the order of the paths
+   * @throws FileAlreadyExistsException if there is already a file at one of the given paths
+   * @throws InvalidPathException if one of the paths is invalid
+   */
+  List<FileOutStream> createFilesBatch(List<AlluxioURI> paths, CreateFileOptions options)
+      throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #delete(AlluxioURI, DeleteOptions)} with default options.
    *
@@ -136,6 +151,19 @@ public interface FileSystem {
   void delete(AlluxioURI path, DeleteOptions options)
       throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Deletes a batch of files or directories with the same options using a single round trip. The
+   * batch is not atomic: if one of the paths cannot be deleted, the paths deleted before it remain
+   * deleted.
+   *
+   * @param paths the paths to delete in Alluxio space
+   * @param options options to associate with this operation
+   * @throws FileDoesNotExistException if one of the given paths does not exist
+   * @throws DirectoryNotEmptyException if recursive is false and a path is a nonempty directory
+   */
+  void deleteBatch(List<AlluxioURI> paths, DeleteOptions options)
+      throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #exists(AlluxioURI, ExistsOptions)} with default options.
    *
@@ -175,6 +203,29 @@ public interface FileSystem {
   void free(AlluxioURI path, FreeOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the CRC32C checksum of the content of a file without reading the file. The master composes
+   * the checksum from the checksums of the blocks, which the workers compute as the blocks are
+   * written, so the checksum is only available for complete files whose blocks were all written
+   * to Alluxio. It does not depend on the block size of the file, and it is the same as the
+   * COMPOSITE-CRC checksum HDFS computes for a file with the same content.
+   *
+   * @param path the path of the file
+   * @return the checksum, or {@link Constants#UNKNOWN_CHECKSUM} if it is not available
+   * @throws FileDoesNotExistException if the path does not exist or is a directory
+   */
+  long getFileChecksum(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
+  /**
+   * Gets the progress of a load started by {@link #load(AlluxioURI)}.
+   *
+   * @param id the id of the load job
+   * @return the information about the load job
+   * @throws AlluxioException if the load job does not exist or was completed long ago
+   */
+  LoadJobInfo getLoadJobInfo(long id) throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #getStatus(AlluxioURI, GetStatusOptions)} with default options.
    *
@@ -196,6 +247,17 @@ public interface FileSystem {
   URIStatus getStatus(AlluxioURI path, GetStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the {@link URIStatus} objects of a batch of Alluxio paths using a single round trip.
+   *
+   * @param paths the paths to obtain information about
+   * @param options options to associate with this operation
+   * @return the {@link URIStatus} of each path, in the order of the given paths
+   * @throws FileDoesNotExistException if one of the paths does not exist
+   */
+  List<URIStatus> getStatusBatch(List<AlluxioURI> paths, GetStatusOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #listStatus(AlluxioURI, ListStatusOptions)} with default options.
    *
@@ -220,6 +282,19 @@ public interface FileSystem {
   List<URIStatus> listStatus(AlluxioURI path, ListStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Schedules the workers to load the blocks of the files under the given path from the under
+   * storage, without reading the data through this client. If a load of the path is in progress,
+   * its progress is returned instead.
+   *
+   * @param path the path of the file or directory to load
+   * @return the information about the load job, whose progress is polled with
+   *         {@link #getLoadJobInfo(long)}
+   * @throws FileDoesNotExistException if the path does not exist
+   */
+  LoadJobInfo load(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #loadMetadata(AlluxioURI, LoadMetadataOptions)} with default
    * options.
@@ -310,6 +385,19 @@ public interface FileSystem {
   void rename(AlluxioURI src, AlluxioURI dst, RenameOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Renames a batch of Alluxio paths using a single round trip, the i-th source to the i-th
+   * destination. The batch is not atomic: if one of the paths cannot be renamed, the paths renamed
+   * before it remain renamed.
+   *
+   * @param srcs the paths of the sources, these must already exist
+   * @param dsts the paths of the destinations, these paths should not exist
+   * @param options options to associate with this operation
+   * @throws FileDoesNotExistException if one of the given files does not exist
+   */
+  void renameBatch(List<AlluxioURI> srcs, List<AlluxioURI> dsts, RenameOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #setAttribute(AlluxioURI, SetAttributeOptions)} with default
    * options.
@@ -15,7 +15,10 @@ import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.client.block.BlockMasterClient;
 import alluxio.client.block.BlockMasterClientPool;
+import alluxio.client.block.stream.LocalBlockLeases;
+import alluxio.client.netty.MultiplexedChannelPool;
 import alluxio.client.netty.NettyClient;
+import alluxio.client.netty.NettyStream;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.status.UnavailableException;
 import alluxio.metrics.MetricsSystem;
@@ -30,6 +33,7 @@ import com.codahale.metrics.Gauge;
 import com.google.common.base.Preconditions;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandler;
 import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
 
 import java.io.Closeable;
@@ -71,6 +75,14 @@ public final class FileSystemContext implements Closeable {
   private final ConcurrentHashMapV8<SocketAddress, NettyChannelPool>
       mNettyChannelPools = new ConcurrentHashMapV8<>();
 
+  // The netty data server channels shared by multiplexed streams.
+  private final ConcurrentHashMapV8<SocketAddress, MultiplexedChannelPool>
+      mMultiplexedChannelPools = new ConcurrentHashMapV8<>();
+
+  // The leases of the blocks read through memory maps, by local worker.
+  private final ConcurrentHashMapV8<WorkerNetAddress, LocalBlockLeases>
+      mLocalBlockLeases = new ConcurrentHashMapV8<>();
+
   /** The shared master address associated with the {@link FileSystemContext}. */
   @GuardedBy("this")
   private InetSocketAddress mMasterAddress;
@@ -141,10 +153,20 @@ public final class FileSystemContext implements Closeable {
     mBlockMasterClientPool.close();
     mBlockMasterClientPool = null;
 
+    // The leases are released through the netty channels, so they are closed first.
+    for (LocalBlockLeases leases : mLocalBlockLeases.values()) {
+      leases.close();
+    }
+    mLocalBlockLeases.clear();
+
     for (NettyChannelPool pool : mNettyChannelPools.values()) {
       pool.close();
     }
     mNettyChannelPools.clear();
+    for (MultiplexedChannelPool pool : mMultiplexedChannelPools.values()) {
+      pool.close();
+    }
+    mMultiplexedChannelPools.clear();
 
     synchronized (this) {
       mMasterAddress = null;
@@ -260,6 +282,51 @@ public final class FileSystemContext implements Closeable {
     mNettyChannelPools.get(address).release(channel);
   }
 
+  /**
+   * Opens a stream multiplexed on one of the netty channels shared by the streams to a worker. The
+   * channels are created when they are needed, up to
+   * {@link PropertyKey#USER_NETWORK_NETTY_MULTIPLEX_CHANNELS} channels per worker.
+   *
+   * @param workerNetAddress the network address of the worker
+   * @param handler the handler of the responses of the stream
+   * @return the opened stream, which must be closed when it is no longer used
+   */
+  public NettyStream openNettyStream(WorkerNetAddress workerNetAddress,
+      ChannelInboundHandler handler) throws IOException {
+    SocketAddress address = NetworkAddressUtils.getDataPortSocketAddress(workerNetAddress);
+    MultiplexedChannelPool pool = mMultiplexedChannelPools.get(address);
+    if (pool == null) {
+      Bootstrap bs = NettyClient.createClientBootstrap(address);
+      bs.remoteAddress(address);
+      MultiplexedChannelPool newPool = new MultiplexedChannelPool(bs,
+          Configuration.getInt(PropertyKey.USER_NETWORK_NETTY_MULTIPLEX_CHANNELS));
+      pool = mMultiplexedChannelPools.putIfAbsent(address, newPool);
+      if (pool == null) {
+        pool = newPool;
+      }
+    }
+    return pool.open(handler);
+  }
+
+  /**
+   * Gets the leases of the blocks read through memory maps from a local worker.
+   *
+   * @param workerNetAddress the address of the local worker
+   * @return the block leases of the worker
+   */
+  public LocalBlockLeases getLocalBlockLeases(WorkerNetAddress workerNetAddress) {
+    LocalBlockLeases leases = mLocalBlockLeases.get(workerNetAddress);
+    if (leases == null) {
+      leases = new LocalBlockLeases(this, workerNetAddress);
+      LocalBlockLeases existing = mLocalBlockLeases.putIfAbsent(workerNetAddress, leases);
+      if (existing != null) {
+        // This can happen if this function is called concurrently.
+        leases = existing;
+      }
+    }
+    return leases;
+  }
+
   /**
    * @return if there is a local worker running the same machine
    */
@@ -335,6 +402,9 @@ public final class FileSystemContext implements Closeable {
               for (NettyChannelPool pool : INSTANCE.mNettyChannelPools.values()) {
                 ret += pool.size();
               }
+              for (MultiplexedChannelPool pool : INSTANCE.mMultiplexedChannelPools.values()) {
+                ret += pool.size();
+              }
               return ret;
             }
           });
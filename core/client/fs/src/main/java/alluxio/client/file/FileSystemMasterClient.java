@@ -12,6 +12,7 @@
 package alluxio.client.file;
 
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.MasterClient;
 import alluxio.client.file.options.CheckConsistencyOptions;
 import alluxio.client.file.options.CompleteFileOptions;
@@ -26,6 +27,7 @@ import alluxio.client.file.options.MountOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.exception.status.AlreadyExistsException;
 import alluxio.exception.status.NotFoundException;
+import alluxio.wire.LoadJobInfo;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -96,6 +98,15 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   void createFile(AlluxioURI path, CreateFileOptions options) throws IOException;
 
+  /**
+   * Creates a batch of new files in a single RPC.
+   *
+   * @param paths the file paths
+   * @param options method options shared by all the files
+   * @throws AlreadyExistsException if one of the files already exists
+   */
+  void createFilesBatch(List<AlluxioURI> paths, CreateFileOptions options) throws IOException;
+
   /**
    * Marks a file as completed.
    *
@@ -112,6 +123,14 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   void delete(AlluxioURI path, DeleteOptions options) throws IOException;
 
+  /**
+   * Deletes a batch of files or directories in a single RPC.
+   *
+   * @param paths the paths to delete
+   * @param options method options shared by all the paths
+   */
+  void deleteBatch(List<AlluxioURI> paths, DeleteOptions options) throws IOException;
+
   /**
    * Frees a file.
    *
@@ -121,6 +140,14 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   void free(AlluxioURI path, FreeOptions options) throws IOException;
 
+  /**
+   * @param path the file path
+   * @return the CRC32C checksum of the file content, or {@link Constants#UNKNOWN_CHECKSUM} if it is
+   *         not available
+   * @throws NotFoundException if the path does not exist
+   */
+  long getFileChecksum(AlluxioURI path) throws IOException;
+
   /**
    * @param path the file path
    * @param options the getStatus options
@@ -129,6 +156,22 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   URIStatus getStatus(AlluxioURI path, GetStatusOptions options) throws IOException;
 
+  /**
+   * @param paths the file paths
+   * @param options the getStatus options
+   * @return the file info for each of the given paths, in the same order
+   * @throws NotFoundException if one of the paths does not exist
+   */
+  List<URIStatus> getStatusBatch(List<AlluxioURI> paths, GetStatusOptions options)
+      throws IOException;
+
+  /**
+   * @param id the id of a load job
+   * @return the information about the load job
+   * @throws NotFoundException if the load job does not exist
+   */
+  LoadJobInfo getLoadJobInfo(long id) throws IOException;
+
   /**
    * @param path the file path
    * @return the next blockId for the file
@@ -143,6 +186,16 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   List<URIStatus> listStatus(AlluxioURI path, ListStatusOptions options) throws IOException;
 
+  /**
+   * Schedules the workers to load the blocks of the files under the given path from the under
+   * file system. If a load of the path is in progress, its progress is returned instead.
+   *
+   * @param path the path of the file or directory to load
+   * @return the information about the load job
+   * @throws NotFoundException if the path does not exist
+   */
+  LoadJobInfo load(AlluxioURI path) throws IOException;
+
   /**
    * Loads the metadata of a file from the under file system.
    *
@@ -172,6 +225,16 @@ public interface FileSystemMasterClient extends MasterClient {
    */
   void rename(AlluxioURI src, AlluxioURI dst) throws IOException;
 
+  /**
+   * Renames a batch of files or directories in a single RPC. The i-th source path is renamed to
+   * the i-th destination path.
+   *
+   * @param srcs the paths to rename
+   * @param dsts the new file paths
+   * @throws NotFoundException if one of the paths does not exist
+   */
+  void renameBatch(List<AlluxioURI> srcs, List<AlluxioURI> dsts) throws IOException;
+
   /**
    * Sets the file or directory attributes.
    *
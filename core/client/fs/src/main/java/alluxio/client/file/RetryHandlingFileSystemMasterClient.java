@@ -27,11 +27,16 @@ import alluxio.client.file.options.MountOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.thrift.AlluxioService;
 import alluxio.thrift.FileSystemMasterClientService;
+import alluxio.thrift.GetFileChecksumTOptions;
+import alluxio.thrift.GetFileChecksumTResponse;
+import alluxio.thrift.GetLoadJobInfoTOptions;
 import alluxio.thrift.GetNewBlockIdForFileTOptions;
 import alluxio.thrift.LoadMetadataTOptions;
+import alluxio.thrift.LoadTOptions;
 import alluxio.thrift.RenameTOptions;
 import alluxio.thrift.ScheduleAsyncPersistenceTOptions;
 import alluxio.thrift.UnmountTOptions;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.ThriftUtils;
 
 import org.apache.thrift.TException;
@@ -131,6 +136,18 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized void createFilesBatch(final List<AlluxioURI> paths,
+      final CreateFileOptions options) throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.createFilesBatch(toPaths(paths), options.toThrift());
+        return null;
+      }
+    });
+  }
+
   @Override
   public synchronized void completeFile(final AlluxioURI path, final CompleteFileOptions options)
       throws IOException {
@@ -155,6 +172,18 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized void deleteBatch(final List<AlluxioURI> paths, final DeleteOptions options)
+      throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.deleteBatch(toPaths(paths), options.toThrift());
+        return null;
+      }
+    });
+  }
+
   @Override
   public synchronized void free(final AlluxioURI path, final FreeOptions options)
       throws IOException {
@@ -167,6 +196,18 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized long getFileChecksum(final AlluxioURI path) throws IOException {
+    return retryRPC(new RpcCallable<Long>() {
+      @Override
+      public Long call() throws TException {
+        GetFileChecksumTResponse response =
+            mClient.getFileChecksum(path.getPath(), new GetFileChecksumTOptions());
+        return response.isSetChecksum() ? response.getChecksum() : Constants.UNKNOWN_CHECKSUM;
+      }
+    });
+  }
+
   @Override
   public synchronized URIStatus getStatus(final AlluxioURI path, final GetStatusOptions options)
       throws IOException {
@@ -179,6 +220,33 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized List<URIStatus> getStatusBatch(final List<AlluxioURI> paths,
+      final GetStatusOptions options) throws IOException {
+    return retryRPC(new RpcCallable<List<URIStatus>>() {
+      @Override
+      public List<URIStatus> call() throws TException {
+        List<URIStatus> result = new ArrayList<>(paths.size());
+        for (alluxio.thrift.FileInfo fileInfo : mClient
+            .getStatusBatch(toPaths(paths), options.toThrift()).getFileInfoList()) {
+          result.add(new URIStatus(ThriftUtils.fromThrift(fileInfo)));
+        }
+        return result;
+      }
+    });
+  }
+
+  @Override
+  public synchronized LoadJobInfo getLoadJobInfo(final long id) throws IOException {
+    return retryRPC(new RpcCallable<LoadJobInfo>() {
+      @Override
+      public LoadJobInfo call() throws TException {
+        return ThriftUtils
+            .fromThrift(mClient.getLoadJobInfo(id, new GetLoadJobInfoTOptions()).getJobInfo());
+      }
+    });
+  }
+
   @Override
   public synchronized long getNewBlockIdForFile(final AlluxioURI path) throws IOException {
     return retryRPC(new RpcCallable<Long>() {
@@ -206,6 +274,17 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized LoadJobInfo load(final AlluxioURI path) throws IOException {
+    return retryRPC(new RpcCallable<LoadJobInfo>() {
+      @Override
+      public LoadJobInfo call() throws TException {
+        return ThriftUtils
+            .fromThrift(mClient.load(path.getPath(), new LoadTOptions()).getJobInfo());
+      }
+    });
+  }
+
   @Override
   public synchronized void loadMetadata(final AlluxioURI path,
       final LoadMetadataOptions options) throws IOException {
@@ -242,6 +321,18 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized void renameBatch(final List<AlluxioURI> srcs, final List<AlluxioURI> dsts)
+      throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.renameBatch(toPaths(srcs), toPaths(dsts), new RenameTOptions());
+        return null;
+      }
+    });
+  }
+
   @Override
   public synchronized void setAttribute(final AlluxioURI path, final SetAttributeOptions options)
       throws IOException {
@@ -275,4 +366,16 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
       }
     });
   }
+
+  /**
+   * @param uris the URIs to convert
+   * @return the paths of the given URIs
+   */
+  private static List<String> toPaths(List<AlluxioURI> uris) {
+    List<String> paths = new ArrayList<>(uris.size());
+    for (AlluxioURI uri : uris) {
+      paths.add(uri.getPath());
+    }
+    return paths;
+  }
 }
@@ -31,6 +31,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 @JsonInclude(Include.NON_EMPTY)
 public final class ListStatusOptions {
   private LoadMetadataType mLoadMetadataType;
+  private String mStartAfter;
+  private int mBatchSize;
 
   /**
    * @return the default {@link ListStatusOptions}
@@ -42,6 +44,8 @@ public final class ListStatusOptions {
   private ListStatusOptions() {
     mLoadMetadataType =
         Configuration.getEnum(PropertyKey.USER_FILE_METADATA_LOAD_TYPE, LoadMetadataType.class);
+    mStartAfter = "";
+    mBatchSize = 0;
   }
 
   /**
@@ -61,6 +65,43 @@ public final class ListStatusOptions {
     return this;
   }
 
+  /**
+   * @return the name after which the children are listed, the empty string lists the children
+   *         from the first one
+   */
+  public String getStartAfter() {
+    return mStartAfter;
+  }
+
+  /**
+   * @return the maximum number of children to list, 0 lists all of them
+   */
+  public int getBatchSize() {
+    return mBatchSize;
+  }
+
+  /**
+   * Sets the name after which the children are listed. Together with
+   * {@link #setBatchSize(int)}, this lists a large directory in pages of children sorted by name,
+   * where each page starts after the name of the last child of the previous page.
+   *
+   * @param startAfter the name after which the children are listed
+   * @return the updated options
+   */
+  public ListStatusOptions setStartAfter(String startAfter) {
+    mStartAfter = startAfter;
+    return this;
+  }
+
+  /**
+   * @param batchSize the maximum number of children to list, 0 lists all of them
+   * @return the updated options
+   */
+  public ListStatusOptions setBatchSize(int batchSize) {
+    mBatchSize = batchSize;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -70,18 +111,22 @@ public final class ListStatusOptions {
       return false;
     }
     ListStatusOptions that = (ListStatusOptions) o;
-    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType);
+    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType)
+        && Objects.equal(mStartAfter, that.mStartAfter)
+        && mBatchSize == that.mBatchSize;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mLoadMetadataType);
+    return Objects.hashCode(mLoadMetadataType, mStartAfter, mBatchSize);
   }
 
   @Override
   public String toString() {
     return Objects.toStringHelper(this)
         .add("loadMetadataType", mLoadMetadataType.toString())
+        .add("startAfter", mStartAfter)
+        .add("batchSize", mBatchSize)
         .toString();
   }
 
@@ -94,6 +139,12 @@ public final class ListStatusOptions {
         mLoadMetadataType == LoadMetadataType.Once || mLoadMetadataType == LoadMetadataType.Always);
 
     options.setLoadMetadataType(LoadMetadataType.toThrift(mLoadMetadataType));
+    if (!mStartAfter.isEmpty()) {
+      options.setStartAfter(mStartAfter);
+    }
+    if (mBatchSize > 0) {
+      options.setBatchSize(mBatchSize);
+    }
     return options;
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.netty;
+
+import alluxio.exception.status.CanceledException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.util.CommonUtils;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInboundHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A fixed number of netty channels to a data server, shared by the streams multiplexed on them.
+ * A stream is opened on the channel with the fewest streams. A new channel is only connected when
+ * all the connected channels have streams, so the number of channels stays bounded however many
+ * streams are open. A channel which has been closed is reconnected when a stream is opened.
+ */
+@ThreadSafe
+public final class MultiplexedChannelPool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(MultiplexedChannelPool.class);
+
+  private final Bootstrap mBootstrap;
+  /** The demultiplexing handlers of the channels, null if a channel is not connected yet. */
+  private final AtomicReferenceArray<StreamDemuxHandler> mChannels;
+
+  /**
+   * Creates an instance of {@link MultiplexedChannelPool}.
+   *
+   * @param bootstrap the netty bootstrap used to create the channels
+   * @param maxChannels the maximum number of channels
+   */
+  public MultiplexedChannelPool(Bootstrap bootstrap, int maxChannels) {
+    mBootstrap = bootstrap;
+    mChannels = new AtomicReferenceArray<>(Math.max(1, maxChannels));
+  }
+
+  /**
+   * Opens a stream on one of the channels, connecting a channel if needed.
+   *
+   * @param handler the handler of the responses of the stream
+   * @return the stream
+   */
+  public NettyStream open(ChannelInboundHandler handler) throws IOException {
+    StreamDemuxHandler best = null;
+    int unconnected = -1;
+    for (int i = 0; i < mChannels.length(); i++) {
+      StreamDemuxHandler demuxHandler = mChannels.get(i);
+      if (demuxHandler == null || !demuxHandler.getChannel().isActive()) {
+        if (unconnected < 0) {
+          unconnected = i;
+        }
+      } else if (best == null || demuxHandler.getStreamCount() < best.getStreamCount()) {
+        best = demuxHandler;
+      }
+    }
+    if (unconnected >= 0 && (best == null || best.getStreamCount() > 0)) {
+      best = connect(unconnected);
+    }
+    return best.open(handler);
+  }
+
+  /**
+   * @return the number of connected channels
+   */
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < mChannels.length(); i++) {
+      StreamDemuxHandler demuxHandler = mChannels.get(i);
+      if (demuxHandler != null && demuxHandler.getChannel().isActive()) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Closes all the channels, failing the streams open on them.
+   */
+  @Override
+  public synchronized void close() {
+    for (int i = 0; i < mChannels.length(); i++) {
+      StreamDemuxHandler demuxHandler = mChannels.getAndSet(i, null);
+      if (demuxHandler != null) {
+        CommonUtils.closeChannel(demuxHandler.getChannel());
+      }
+    }
+  }
+
+  /**
+   * Connects the channel of a slot unless another thread has just connected it.
+   *
+   * @param index the index of the slot
+   * @return the demultiplexing handler of the connected channel
+   */
+  private synchronized StreamDemuxHandler connect(int index) throws IOException {
+    StreamDemuxHandler demuxHandler = mChannels.get(index);
+    if (demuxHandler != null && demuxHandler.getChannel().isActive()) {
+      return demuxHandler;
+    }
+    try {
+      ChannelFuture channelFuture = mBootstrap.clone().connect().sync();
+      if (!channelFuture.isSuccess()) {
+        throw new UnavailableException(channelFuture.cause());
+      }
+      Channel channel = channelFuture.channel();
+      demuxHandler = new StreamDemuxHandler(channel);
+      channel.pipeline().addLast(demuxHandler);
+      LOG.info("Created multiplexed netty channel with netty bootstrap {}.", mBootstrap);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CanceledException(e);
+    }
+    mChannels.set(index, demuxHandler);
+    return demuxHandler;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.netty;
+
+import io.netty.channel.Channel;
+
+import java.io.Closeable;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A stream multiplexed on a netty channel shared with other streams. The requests of the stream
+ * must carry its id, and the responses with its id are passed to the handler of the stream.
+ */
+@ThreadSafe
+public final class NettyStream implements Closeable {
+  private final StreamDemuxHandler mDemuxHandler;
+  private final long mId;
+
+  /**
+   * Creates an instance of {@link NettyStream}.
+   *
+   * @param demuxHandler the demultiplexing handler of the channel of the stream
+   * @param id the id of the stream
+   */
+  NettyStream(StreamDemuxHandler demuxHandler, long id) {
+    mDemuxHandler = demuxHandler;
+    mId = id;
+  }
+
+  /**
+   * @return the channel shared by the stream
+   */
+  public Channel getChannel() {
+    return mDemuxHandler.getChannel();
+  }
+
+  /**
+   * @return the id of the stream
+   */
+  public long getId() {
+    return mId;
+  }
+
+  /**
+   * Closes the stream. The responses received for the stream after this are dropped, the channel
+   * is kept open for the other streams.
+   */
+  @Override
+  public void close() {
+    mDemuxHandler.close(mId);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.netty;
+
+import alluxio.network.protocol.RPCProtoMessage;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandler;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Demultiplexes the responses of the streams multiplexed on a netty channel to the handlers of the
+ * streams. It must be the last handler of the pipeline. An exception thrown by the handler of a
+ * stream only fails that stream, while an exception caught on the channel or the channel being
+ * closed fails all the streams.
+ */
+@ThreadSafe
+public final class StreamDemuxHandler extends ChannelInboundHandlerAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(StreamDemuxHandler.class);
+
+  private final Channel mChannel;
+  private final AtomicLong mNextStreamId = new AtomicLong(RPCProtoMessage.NO_STREAM);
+  /** Maps from stream id to the handler of the stream. */
+  private final ConcurrentHashMapV8<Long, ChannelInboundHandler> mStreams =
+      new ConcurrentHashMapV8<>();
+
+  /**
+   * Creates an instance of {@link StreamDemuxHandler}.
+   *
+   * @param channel the channel which the handler is added to
+   */
+  public StreamDemuxHandler(Channel channel) {
+    mChannel = channel;
+  }
+
+  /**
+   * Opens a stream on the channel.
+   *
+   * @param handler the handler of the responses of the stream
+   * @return the stream
+   */
+  public NettyStream open(ChannelInboundHandler handler) {
+    long id = mNextStreamId.incrementAndGet();
+    mStreams.put(id, handler);
+    return new NettyStream(this, id);
+  }
+
+  /**
+   * Closes a stream.
+   *
+   * @param streamId the id of the stream
+   */
+  void close(long streamId) {
+    mStreams.remove(streamId);
+  }
+
+  /**
+   * @return the channel
+   */
+  public Channel getChannel() {
+    return mChannel;
+  }
+
+  /**
+   * @return the number of open streams on the channel
+   */
+  public int getStreamCount() {
+    return mStreams.size();
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (!(msg instanceof RPCProtoMessage)) {
+      throw new IllegalStateException(String
+          .format("Incorrect response type %s, %s.", msg.getClass().getCanonicalName(), msg));
+    }
+    RPCProtoMessage response = (RPCProtoMessage) msg;
+    ChannelInboundHandler handler = mStreams.get(response.getStreamId());
+    if (handler == null) {
+      // This happens when responses are received after the stream is closed.
+      LOG.debug("Dropping response {} of closed stream {}.", response, response.getStreamId());
+      if (response.getPayloadDataBuffer() != null) {
+        response.getPayloadDataBuffer().release();
+      }
+      return;
+    }
+    try {
+      handler.channelRead(ctx, msg);
+    } catch (Exception e) {
+      handler.exceptionCaught(ctx, e);
+    }
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+    for (ChannelInboundHandler handler : mStreams.values()) {
+      handler.exceptionCaught(ctx, cause);
+    }
+    ctx.close();
+  }
+
+  @Override
+  public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+    // The handlers pass the event on to the end of the pipeline, where it is ignored.
+    for (ChannelInboundHandler handler : mStreams.values()) {
+      handler.channelUnregistered(ctx);
+    }
+    ctx.fireChannelUnregistered();
+  }
+}
@@ -25,6 +25,7 @@ import alluxio.client.file.options.RenameOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.client.file.options.UnmountOptions;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.LoadMetadataType;
 
 import org.junit.After;
@@ -170,6 +171,28 @@ public final class BaseFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#getFileChecksum(AlluxioURI)} method.
+   */
+  @Test
+  public void getFileChecksum() throws Exception {
+    AlluxioURI file = new AlluxioURI("/file");
+    Mockito.when(mFileSystemMasterClient.getFileChecksum(file)).thenReturn(0xE3069283L);
+    Assert.assertEquals(0xE3069283L, mFileSystem.getFileChecksum(file));
+    Mockito.verify(mFileSystemMasterClient).getFileChecksum(file);
+  }
+
+  /**
+   * Tests for the {@link BaseFileSystem#getLoadJobInfo(long)} method.
+   */
+  @Test
+  public void getLoadJobInfo() throws Exception {
+    LoadJobInfo jobInfo = new LoadJobInfo().setId(1).setPath("/dir");
+    Mockito.when(mFileSystemMasterClient.getLoadJobInfo(1)).thenReturn(jobInfo);
+    Assert.assertSame(jobInfo, mFileSystem.getLoadJobInfo(1));
+    Mockito.verify(mFileSystemMasterClient).getLoadJobInfo(1);
+  }
+
   /**
    * Tests for the {@link BaseFileSystem#getStatus(AlluxioURI, GetStatusOptions)} method.
    */
@@ -199,6 +222,24 @@ public final class BaseFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#getStatusBatch(List, GetStatusOptions)} method.
+   */
+  @Test
+  public void getStatusBatch() throws Exception {
+    List<AlluxioURI> files = new ArrayList<>();
+    files.add(new AlluxioURI("/file"));
+    files.add(new AlluxioURI("/file2"));
+    List<URIStatus> statuses = new ArrayList<>();
+    statuses.add(new URIStatus(new FileInfo()));
+    statuses.add(new URIStatus(new FileInfo()));
+    GetStatusOptions getStatusOptions = GetStatusOptions.defaults();
+    Mockito.when(mFileSystemMasterClient.getStatusBatch(files, getStatusOptions))
+        .thenReturn(statuses);
+    Assert.assertSame(statuses, mFileSystem.getStatusBatch(files, getStatusOptions));
+    Mockito.verify(mFileSystemMasterClient).getStatusBatch(files, getStatusOptions);
+  }
+
   /**
    * Tests for the {@link BaseFileSystem#listStatus(AlluxioURI, ListStatusOptions)} method.
    */
@@ -230,6 +271,18 @@ public final class BaseFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#load(AlluxioURI)} method.
+   */
+  @Test
+  public void load() throws Exception {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    LoadJobInfo jobInfo = new LoadJobInfo().setId(1).setPath(dir.getPath());
+    Mockito.when(mFileSystemMasterClient.load(dir)).thenReturn(jobInfo);
+    Assert.assertSame(jobInfo, mFileSystem.load(dir));
+    Mockito.verify(mFileSystemMasterClient).load(dir);
+  }
+
   /**
    * Tests for the {@link BaseFileSystem#loadMetadata(AlluxioURI, LoadMetadataOptions)}
    * method.
@@ -367,6 +420,19 @@ public final class BaseFileSystemTest {
     Mockito.verify(mFileSystemMasterClient).rename(src, dst);
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#renameBatch(List, List, RenameOptions)} method.
+   */
+  @Test
+  public void renameBatch() throws Exception {
+    List<AlluxioURI> srcs = new ArrayList<>();
+    srcs.add(new AlluxioURI("/file"));
+    List<AlluxioURI> dsts = new ArrayList<>();
+    dsts.add(new AlluxioURI("/file2"));
+    mFileSystem.renameBatch(srcs, dsts, RenameOptions.defaults());
+    Mockito.verify(mFileSystemMasterClient).renameBatch(srcs, dsts);
+  }
+
   /**
    * Ensures that an exception is propagated successfully when renaming a file.
    */
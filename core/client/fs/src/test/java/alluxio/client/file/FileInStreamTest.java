@@ -207,6 +207,47 @@ public class FileInStreamTest {
     verifyCacheStreams(FILE_LENGTH);
   }
 
+  /**
+   * Tests reading the whole file into a direct buffer.
+   */
+  @Test
+  public void readDirectByteBuffer() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocateDirect((int) FILE_LENGTH);
+    while (buffer.hasRemaining()) {
+      Assert.assertTrue(mTestStream.read(buffer) > 0);
+    }
+    Assert.assertEquals(-1, mTestStream.read(ByteBuffer.allocate(1)));
+    buffer.flip();
+    byte[] data = new byte[(int) FILE_LENGTH];
+    buffer.get(data);
+    Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray((int) FILE_LENGTH), data);
+    mTestStream.close();
+    verifyCacheStreams(FILE_LENGTH);
+  }
+
+  /**
+   * Read through the file in small chunks into a buffer with an offset, and verify each chunk.
+   */
+  @Test
+  public void readByteBufferManyChunks() throws IOException {
+    int chunksize = 10;
+    // chunksize must divide FILE_LENGTH evenly for this test to work
+    Assert.assertEquals(0, FILE_LENGTH % chunksize);
+    ByteBuffer buffer = ByteBuffer.allocate(chunksize + 1);
+    int offset = 0;
+    for (int i = 0; i < FILE_LENGTH / chunksize; i++) {
+      buffer.clear();
+      buffer.position(1);
+      Assert.assertEquals(chunksize, mTestStream.read(buffer));
+      Assert.assertEquals(chunksize + 1, buffer.position());
+      Assert.assertArrayEquals(BufferUtils.getIncreasingByteArray(offset, chunksize),
+          Arrays.copyOfRange(buffer.array(), 1, chunksize + 1));
+      offset += chunksize;
+    }
+    mTestStream.close();
+    verifyCacheStreams(FILE_LENGTH);
+  }
+
   /**
    * Tests that {@link FileInStream#remaining()} is correctly updated during reads, skips, and
    * seeks.
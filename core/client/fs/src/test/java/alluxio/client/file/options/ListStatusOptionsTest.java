@@ -34,6 +34,11 @@ public class ListStatusOptionsTest {
   public void fields() {
     ListStatusOptions options = ListStatusOptions.defaults();
     Assert.assertEquals(LoadMetadataType.Once, options.getLoadMetadataType());
+    Assert.assertEquals("", options.getStartAfter());
+    Assert.assertEquals(0, options.getBatchSize());
+    options.setStartAfter("name").setBatchSize(100);
+    Assert.assertEquals("name", options.getStartAfter());
+    Assert.assertEquals(100, options.getBatchSize());
   }
 
   @Test
@@ -41,6 +46,12 @@ public class ListStatusOptionsTest {
     ListStatusOptions options = ListStatusOptions.defaults();
     ListStatusTOptions thriftOptions = options.toThrift();
     Assert.assertEquals(LoadMetadataTType.Once, thriftOptions.getLoadMetadataType());
+    Assert.assertFalse(thriftOptions.isSetStartAfter());
+    Assert.assertFalse(thriftOptions.isSetBatchSize());
+
+    thriftOptions = options.setStartAfter("name").setBatchSize(100).toThrift();
+    Assert.assertEquals("name", thriftOptions.getStartAfter());
+    Assert.assertEquals(100, thriftOptions.getBatchSize());
   }
 
   @Test
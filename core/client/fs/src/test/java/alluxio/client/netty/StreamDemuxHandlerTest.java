@@ -0,0 +1,148 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.netty;
+
+import alluxio.network.protocol.RPCProtoMessage;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link StreamDemuxHandler}.
+ */
+public final class StreamDemuxHandlerTest {
+  private EmbeddedChannel mChannel;
+  private StreamDemuxHandler mDemuxHandler;
+
+  @Before
+  public void before() {
+    mChannel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    mDemuxHandler = new StreamDemuxHandler(mChannel);
+    mChannel.pipeline().addFirst(mDemuxHandler);
+  }
+
+  @After
+  public void after() {
+    mChannel.close();
+  }
+
+  /**
+   * Tests that the responses are passed to the handlers of their streams.
+   */
+  @Test
+  public void route() {
+    RecordingHandler handler1 = new RecordingHandler();
+    RecordingHandler handler2 = new RecordingHandler();
+    NettyStream stream1 = mDemuxHandler.open(handler1);
+    NettyStream stream2 = mDemuxHandler.open(handler2);
+    Assert.assertNotEquals(stream1.getId(), stream2.getId());
+    Assert.assertEquals(2, mDemuxHandler.getStreamCount());
+
+    RPCProtoMessage response1 =
+        RPCProtoMessage.createOkResponse(null).withStreamId(stream1.getId());
+    RPCProtoMessage response2 =
+        RPCProtoMessage.createOkResponse(null).withStreamId(stream2.getId());
+    mChannel.writeInbound(response2);
+    mChannel.writeInbound(response1);
+    Assert.assertEquals(1, handler1.mMessages.size());
+    Assert.assertSame(response1, handler1.mMessages.get(0));
+    Assert.assertEquals(1, handler2.mMessages.size());
+    Assert.assertSame(response2, handler2.mMessages.get(0));
+  }
+
+  /**
+   * Tests that the responses of a closed stream are dropped.
+   */
+  @Test
+  public void closedStream() {
+    RecordingHandler handler = new RecordingHandler();
+    NettyStream stream = mDemuxHandler.open(handler);
+    stream.close();
+    Assert.assertEquals(0, mDemuxHandler.getStreamCount());
+
+    mChannel.writeInbound(RPCProtoMessage.createOkResponse(null).withStreamId(stream.getId()));
+    Assert.assertTrue(handler.mMessages.isEmpty());
+    Assert.assertTrue(mChannel.isOpen());
+  }
+
+  /**
+   * Tests that an exception thrown by the handler of a stream only fails that stream.
+   */
+  @Test
+  public void streamFailure() {
+    RecordingHandler failing = new RecordingHandler();
+    failing.mFail = true;
+    RecordingHandler handler = new RecordingHandler();
+    NettyStream failingStream = mDemuxHandler.open(failing);
+    NettyStream stream = mDemuxHandler.open(handler);
+
+    mChannel.writeInbound(RPCProtoMessage.createOkResponse(null)
+        .withStreamId(failingStream.getId()));
+    mChannel.writeInbound(RPCProtoMessage.createOkResponse(null).withStreamId(stream.getId()));
+    Assert.assertNotNull(failing.mCause);
+    Assert.assertNull(handler.mCause);
+    Assert.assertEquals(1, handler.mMessages.size());
+    Assert.assertTrue(mChannel.isOpen());
+  }
+
+  /**
+   * Tests that closing the channel fails all the streams.
+   */
+  @Test
+  public void channelClosed() {
+    RecordingHandler handler1 = new RecordingHandler();
+    RecordingHandler handler2 = new RecordingHandler();
+    mDemuxHandler.open(handler1);
+    mDemuxHandler.open(handler2);
+    mChannel.close();
+    mChannel.runPendingTasks();
+    Assert.assertTrue(handler1.mUnregistered);
+    Assert.assertTrue(handler2.mUnregistered);
+  }
+
+  /**
+   * A handler recording the events of a stream.
+   */
+  private static final class RecordingHandler extends ChannelInboundHandlerAdapter {
+    private final List<Object> mMessages = new ArrayList<>();
+    private boolean mFail;
+    private Throwable mCause;
+    private boolean mUnregistered;
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (mFail) {
+        throw new IllegalStateException("failed");
+      }
+      mMessages.add(msg);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      mCause = cause;
+    }
+
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) {
+      mUnregistered = true;
+      ctx.fireChannelUnregistered();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The base of the Alluxio Hadoop file systems built against Hadoop 1, which has none of the
+ * iterator based listings the version of this class in src/main/java-hadoop-2 adds.
+ */
+@NotThreadSafe
+abstract class PagedListingFileSystem extends AbstractFileSystem {
+  /**
+   * Constructs a new {@link PagedListingFileSystem} instance with a
+   * specified {@link alluxio.client.file.FileSystem} handler for tests.
+   *
+   * @param fileSystem handler to file system
+   */
+  PagedListingFileSystem(alluxio.client.file.FileSystem fileSystem) {
+    super(fileSystem);
+  }
+
+  /**
+   * Constructs a new {@link PagedListingFileSystem}.
+   */
+  PagedListingFileSystem() {}
+}
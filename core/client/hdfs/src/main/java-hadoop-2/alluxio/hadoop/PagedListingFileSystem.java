@@ -0,0 +1,122 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import alluxio.PropertyKey;
+import alluxio.client.file.URIStatus;
+
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PathFilter;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The base of the Alluxio Hadoop file systems built against Hadoop 2, which adds the iterator
+ * based listings of Hadoop 2. The statuses are fetched from the master in pages of
+ * {@link PropertyKey#USER_FILE_LIST_STATUS_BATCH_SIZE} entries as the iterators advance.
+ * <p>
+ * Hadoop 1 has none of these listings, so the build against it uses the version of this class in
+ * src/main/java-hadoop-1 instead.
+ */
+@NotThreadSafe
+abstract class PagedListingFileSystem extends AbstractFileSystem {
+  private static final Logger LOG = LoggerFactory.getLogger(PagedListingFileSystem.class);
+
+  /**
+   * Constructs a new {@link PagedListingFileSystem} instance with a
+   * specified {@link alluxio.client.file.FileSystem} handler for tests.
+   *
+   * @param fileSystem handler to file system
+   */
+  PagedListingFileSystem(alluxio.client.file.FileSystem fileSystem) {
+    super(fileSystem);
+  }
+
+  /**
+   * Constructs a new {@link PagedListingFileSystem}.
+   */
+  PagedListingFileSystem() {}
+
+  /**
+   * {@inheritDoc}
+   *
+   * The statuses include the block locations of the files, so no further master call is made per
+   * file.
+   */
+  @Override
+  protected RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path,
+      final PathFilter filter) throws IOException {
+    LOG.debug("listLocatedStatus({})", path);
+
+    final StatusLister lister = createStatusLister(path);
+    return new RemoteIterator<LocatedFileStatus>() {
+      private LocatedFileStatus mNext;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        while (mNext == null && lister.hasNext()) {
+          URIStatus status = lister.next();
+          FileStatus fileStatus = toFileStatus(status);
+          if (filter.accept(fileStatus.getPath())) {
+            BlockLocation[] locations = status.isFolder() ? null
+                : toBlockLocations(status.getFileBlockInfos(), 0, status.getLength());
+            mNext = new LocatedFileStatus(fileStatus, locations);
+          }
+        }
+        return mNext != null;
+      }
+
+      @Override
+      public LocatedFileStatus next() throws IOException {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        LocatedFileStatus next = mNext;
+        mNext = null;
+        return next;
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator over the statuses of the files and directories in the given path. This
+   * overrides the method of the Hadoop versions which have it.
+   *
+   * @param path the path to list
+   * @return an iterator over the statuses of the files and directories in the path
+   */
+  public RemoteIterator<FileStatus> listStatusIterator(Path path) throws IOException {
+    LOG.debug("listStatusIterator({})", path);
+
+    final StatusLister lister = createStatusLister(path);
+    return new RemoteIterator<FileStatus>() {
+      @Override
+      public boolean hasNext() throws IOException {
+        return lister.hasNext();
+      }
+
+      @Override
+      public FileStatus next() throws IOException {
+        return toFileStatus(lister.next());
+      }
+    };
+  }
+}
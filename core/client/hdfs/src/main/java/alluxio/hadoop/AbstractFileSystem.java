@@ -13,6 +13,7 @@ package alluxio.hadoop;
 
 import alluxio.AlluxioURI;
 import alluxio.Configuration;
+import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.client.file.FileOutStream;
 import alluxio.client.file.FileSystem;
@@ -22,6 +23,7 @@ import alluxio.client.file.URIStatus;
 import alluxio.client.file.options.CreateDirectoryOptions;
 import alluxio.client.file.options.CreateFileOptions;
 import alluxio.client.file.options.DeleteOptions;
+import alluxio.client.file.options.ListStatusOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.client.lineage.LineageContext;
 import alluxio.exception.AlluxioException;
@@ -33,13 +35,16 @@ import alluxio.security.User;
 import alluxio.security.authorization.Mode;
 import alluxio.util.CommonUtils;
 import alluxio.wire.FileBlockInfo;
+import alluxio.wire.LoadMetadataType;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.net.HostAndPort;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileChecksum;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.permission.FsPermission;
@@ -50,12 +55,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -75,6 +84,12 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
   public static final String FIRST_COM_PATH = "alluxio_dep/";
   // Always tell Hadoop that we have 3x replication.
   private static final int BLOCK_REPLICATION_CONSTANT = 3;
+  private static final String BYTE_BUFFER_READABLE_CLASS =
+      "org.apache.hadoop.fs.ByteBufferReadable";
+  private static final String BYTE_BUFFER_STREAM_CLASS =
+      "alluxio.hadoop.ByteBufferHdfsFileInputStream";
+  private static final Constructor<? extends HdfsFileInputStream> BYTE_BUFFER_STREAM_CTOR =
+      getByteBufferStreamConstructor();
   /** Lock for initializing the contexts, currently only one set of contexts is supported. */
   private static final Object INIT_LOCK = new Object();
 
@@ -264,7 +279,17 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     }
 
     AlluxioURI path = new AlluxioURI(HadoopUtils.getPathWithoutScheme(file.getPath()));
-    List<FileBlockInfo> blocks = getFileBlocks(path);
+    return toBlockLocations(getFileBlocks(path), start, len);
+  }
+
+  /**
+   * @param blocks the blocks of a file
+   * @param start the start of the range of the file
+   * @param len the length of the range of the file
+   * @return the locations of the blocks overlapping with the range
+   */
+  static BlockLocation[] toBlockLocations(List<FileBlockInfo> blocks, long start,
+      long len) {
     List<BlockLocation> blockLocations = new ArrayList<>();
     for (FileBlockInfo fileBlockInfo : blocks) {
       long offset = fileBlockInfo.getOffset();
@@ -324,6 +349,33 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
         fileStatus.getOwner(), fileStatus.getGroup(), new Path(mAlluxioHeader + uri));
   }
 
+  /**
+   * Returns the CRC32C checksum of a file, composed by the Alluxio master from the checksums of the
+   * blocks of the file, so that no data is read. The checksum is comparable with the COMPOSITE-CRC
+   * checksums of HDFS.
+   *
+   * @param path the path of the file
+   * @return the checksum, or null if it is not available since the file is not complete or some of
+   *         its blocks were not written to Alluxio
+   */
+  @Override
+  public FileChecksum getFileChecksum(Path path) throws IOException {
+    LOG.debug("getFileChecksum({})", path);
+    if (mStatistics != null) {
+      mStatistics.incrementReadOps(1);
+    }
+    AlluxioURI uri = new AlluxioURI(HadoopUtils.getPathWithoutScheme(path));
+    long checksum;
+    try {
+      checksum = mFileSystem.getFileChecksum(uri);
+    } catch (FileDoesNotExistException e) {
+      throw new FileNotFoundException(e.getMessage());
+    } catch (AlluxioException e) {
+      throw new IOException(e);
+    }
+    return checksum == Constants.UNKNOWN_CHECKSUM ? null : new CompositeCrcFileChecksum(checksum);
+  }
+
   /**
    * Changes owner or group of a path (i.e. a file or a directory). If username is null, the
    * original username remains unchanged. Same as groupname. If username and groupname are non-null,
@@ -553,26 +605,38 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
       mStatistics.incrementReadOps(1);
     }
 
-    AlluxioURI uri = new AlluxioURI(HadoopUtils.getPathWithoutScheme(path));
-    List<URIStatus> statuses;
-    try {
-      statuses = mFileSystem.listStatus(uri);
-    } catch (FileDoesNotExistException e) {
-      throw new FileNotFoundException(HadoopUtils.getPathWithoutScheme(path));
-    } catch (AlluxioException e) {
-      throw new IOException(e);
+    StatusLister lister = new StatusLister(path);
+    List<FileStatus> ret = new ArrayList<>();
+    while (lister.hasNext()) {
+      ret.add(toFileStatus(lister.next()));
     }
+    return ret.toArray(new FileStatus[ret.size()]);
+  }
 
-    FileStatus[] ret = new FileStatus[statuses.size()];
-    for (int k = 0; k < statuses.size(); k++) {
-      URIStatus status = statuses.get(k);
-
-      ret[k] = new FileStatus(status.getLength(), status.isFolder(), BLOCK_REPLICATION_CONSTANT,
-          status.getBlockSizeBytes(), status.getLastModificationTimeMs(),
-          status.getCreationTimeMs(), new FsPermission((short) status.getMode()), status.getOwner(),
-          status.getGroup(), new Path(mAlluxioHeader + status.getPath()));
+  /**
+   * Starts listing a path in pages of
+   * {@link PropertyKey#USER_FILE_LIST_STATUS_BATCH_SIZE} statuses, which include the block
+   * locations of the files, so no further master call is made per file.
+   *
+   * @param path the path to list
+   * @return the lister, with the first page fetched
+   */
+  StatusLister createStatusLister(Path path) throws IOException {
+    if (mStatistics != null) {
+      mStatistics.incrementReadOps(1);
     }
-    return ret;
+    return new StatusLister(path);
+  }
+
+  /**
+   * @param status the Alluxio status of a file or directory
+   * @return the Hadoop status of the file or directory
+   */
+  FileStatus toFileStatus(URIStatus status) {
+    return new FileStatus(status.getLength(), status.isFolder(), BLOCK_REPLICATION_CONSTANT,
+        status.getBlockSizeBytes(), status.getLastModificationTimeMs(),
+        status.getCreationTimeMs(), new FsPermission((short) status.getMode()), status.getOwner(),
+        status.getGroup(), new Path(mAlluxioHeader + status.getPath()));
   }
 
   /**
@@ -616,7 +680,34 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     }
 
     AlluxioURI uri = new AlluxioURI(HadoopUtils.getPathWithoutScheme(path));
-    return new FSDataInputStream(new HdfsFileInputStream(mContext, uri, mStatistics));
+    if (BYTE_BUFFER_STREAM_CTOR == null) {
+      return new FSDataInputStream(new HdfsFileInputStream(mContext, uri, mStatistics));
+    }
+    try {
+      return new FSDataInputStream(
+          BYTE_BUFFER_STREAM_CTOR.newInstance(mContext, uri, mStatistics));
+    } catch (InvocationTargetException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new IOException(e.getCause());
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * @return the constructor of {@link HdfsFileInputStream}'s Hadoop 2 subclass which also reads
+   *         into byte buffers, or null when it is not built or Hadoop 1 is on the classpath
+   */
+  private static Constructor<? extends HdfsFileInputStream> getByteBufferStreamConstructor() {
+    try {
+      // Looked up by name, as the class implements a Hadoop 2 interface and is not built with
+      // Hadoop 1.
+      Class.forName(BYTE_BUFFER_READABLE_CLASS);
+      return Class.forName(BYTE_BUFFER_STREAM_CLASS).asSubclass(HdfsFileInputStream.class)
+          .getConstructor(FileSystemContext.class, AlluxioURI.class, Statistics.class);
+    } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+      return null;
+    }
   }
 
   @Override
@@ -693,4 +784,70 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
       throw new IOException(e);
     }
   }
+
+  /**
+   * Lists a path in pages of statuses sorted by name. The first page is fetched when the lister
+   * is created, so that a missing path is reported right away, and each following page is
+   * fetched when the previous one is consumed.
+   */
+  final class StatusLister {
+    private final AlluxioURI mUri;
+    private final int mBatchSize =
+        Configuration.getInt(PropertyKey.USER_FILE_LIST_STATUS_BATCH_SIZE);
+    private Iterator<URIStatus> mPage;
+    /** The name of the last status fetched, the next page starts after it. */
+    private String mStartAfter = "";
+    private boolean mLastPage;
+
+    /**
+     * Creates a new {@link StatusLister} and fetches the first page.
+     *
+     * @param path the path to list
+     */
+    StatusLister(Path path) throws IOException {
+      mUri = new AlluxioURI(HadoopUtils.getPathWithoutScheme(path));
+      fetchPage();
+    }
+
+    /**
+     * @return whether there are more statuses
+     */
+    boolean hasNext() throws IOException {
+      while (!mPage.hasNext() && !mLastPage) {
+        fetchPage();
+      }
+      return mPage.hasNext();
+    }
+
+    /**
+     * @return the next status
+     */
+    URIStatus next() throws IOException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return mPage.next();
+    }
+
+    private void fetchPage() throws IOException {
+      ListStatusOptions options = ListStatusOptions.defaults().setBatchSize(mBatchSize);
+      if (!mStartAfter.isEmpty()) {
+        // The metadata of the children is loaded with the first page, if needed.
+        options.setStartAfter(mStartAfter).setLoadMetadataType(LoadMetadataType.Never);
+      }
+      List<URIStatus> page;
+      try {
+        page = mFileSystem.listStatus(mUri, options);
+      } catch (FileDoesNotExistException e) {
+        throw new FileNotFoundException(mUri.getPath());
+      } catch (AlluxioException e) {
+        throw new IOException(e);
+      }
+      mLastPage = mBatchSize <= 0 || page.size() < mBatchSize;
+      if (!page.isEmpty()) {
+        mStartAfter = page.get(page.size() - 1).getName();
+      }
+      mPage = page.iterator();
+    }
+  }
 }
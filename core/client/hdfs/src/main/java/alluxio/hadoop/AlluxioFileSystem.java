@@ -16,6 +16,10 @@ import alluxio.PropertyKey;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.DelegateToFileSystem;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 
 import java.io.IOException;
 import java.net.URI;
@@ -54,4 +58,14 @@ public class AlluxioFileSystem extends DelegateToFileSystem {
   public int getUriDefaultPort() {
     return Integer.parseInt(PropertyKey.MASTER_RPC_PORT.getDefaultValue());
   }
+
+  @Override
+  public RemoteIterator<FileStatus> listStatusIterator(Path path) throws IOException {
+    return ((PagedListingFileSystem) fsImpl).listStatusIterator(path);
+  }
+
+  @Override
+  public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path) throws IOException {
+    return fsImpl.listLocatedStatus(path);
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import alluxio.AlluxioURI;
+import alluxio.client.file.FileSystemContext;
+
+import org.apache.hadoop.fs.ByteBufferReadable;
+import org.apache.hadoop.fs.FileSystem.Statistics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link HdfsFileInputStream} which implements {@link ByteBufferReadable}, so that readers of
+ * columnar formats reading into direct buffers get the data without a heap copy.
+ * {@link ByteBufferReadable} only exists in Hadoop 2, so this class is not built with Hadoop 1.
+ */
+@NotThreadSafe
+public final class ByteBufferHdfsFileInputStream extends HdfsFileInputStream
+    implements ByteBufferReadable {
+  /**
+   * Constructs a new stream for reading a file from HDFS.
+   *
+   * @param context the file system context
+   * @param uri the Alluxio file URI
+   * @param stats filesystem statistics
+   */
+  public ByteBufferHdfsFileInputStream(FileSystemContext context, AlluxioURI uri,
+      Statistics stats) throws IOException {
+    super(context, uri, stats);
+  }
+
+  @Override
+  public int read(ByteBuffer buf) throws IOException {
+    return readToBuffer(buf);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import org.apache.hadoop.fs.FileChecksum;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The CRC32C checksum of the whole content of a file. It has the same algorithm name and bytes as
+ * the COMPOSITE-CRC file checksums of HDFS with CRC32C, so that the checksums of a file copied
+ * between Alluxio and HDFS are equal, whatever the block sizes of the copies.
+ */
+@NotThreadSafe
+public final class CompositeCrcFileChecksum extends FileChecksum {
+  private static final String ALGORITHM_NAME = "COMPOSITE-CRC32C";
+
+  private int mCrc;
+
+  /**
+   * Creates a new instance of {@link CompositeCrcFileChecksum}, to be read with
+   * {@link #readFields(DataInput)}.
+   */
+  public CompositeCrcFileChecksum() {}
+
+  /**
+   * Creates a new instance of {@link CompositeCrcFileChecksum}.
+   *
+   * @param crc the CRC32C checksum of the file content
+   */
+  public CompositeCrcFileChecksum(long crc) {
+    mCrc = (int) crc;
+  }
+
+  @Override
+  public String getAlgorithmName() {
+    return ALGORITHM_NAME;
+  }
+
+  @Override
+  public int getLength() {
+    return 4;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    return new byte[] {(byte) (mCrc >>> 24), (byte) (mCrc >>> 16), (byte) (mCrc >>> 8),
+        (byte) mCrc};
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(mCrc);
+  }
+
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    mCrc = in.readInt();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s:%08x", ALGORITHM_NAME, mCrc);
+  }
+}
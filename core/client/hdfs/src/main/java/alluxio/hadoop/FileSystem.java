@@ -24,7 +24,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  */
 @PublicApi
 @NotThreadSafe
-public final class FileSystem extends AbstractFileSystem {
+public final class FileSystem extends PagedListingFileSystem {
   /**
    * Constructs a new {@link FileSystem}.
    */
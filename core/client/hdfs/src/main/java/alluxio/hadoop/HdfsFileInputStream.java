@@ -31,11 +31,13 @@ import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * An input stream for reading a file from HDFS.
+ * An input stream for reading a file from HDFS. With Hadoop 2, the
+ * {@link ByteBufferHdfsFileInputStream} subclass also reads into byte buffers.
  */
 @NotThreadSafe
 public class HdfsFileInputStream extends InputStream implements Seekable, PositionedReadable {
@@ -163,6 +165,27 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
     }
   }
 
+  /**
+   * Reads bytes into a byte buffer, without an intermediate heap copy when the buffer is direct.
+   *
+   * @param buf the buffer to read into, from its position up to its limit
+   * @return the number of bytes read, or -1 at the end of the file
+   */
+  protected int readToBuffer(ByteBuffer buf) throws IOException {
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+    }
+
+    int ret = mInputStream.read(buf);
+    if (ret != -1) {
+      mCurrentPosition += ret;
+      if (mStatistics != null) {
+        mStatistics.incrementBytesRead(ret);
+      }
+    }
+    return ret;
+  }
+
   /**
    * Seek to the given offset from the start of the file. The next {@link #read()} will be from that
    * location. Can't seek past the end of the file.
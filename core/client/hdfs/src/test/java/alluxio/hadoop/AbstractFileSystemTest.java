@@ -19,6 +19,7 @@ import alluxio.PropertyKey;
 import alluxio.client.file.FileSystemContext;
 import alluxio.client.file.FileSystemMasterClient;
 import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.ListStatusOptions;
 import alluxio.client.lineage.LineageContext;
 import alluxio.exception.status.UnavailableException;
 import alluxio.wire.FileInfo;
@@ -275,7 +276,9 @@ public class AbstractFileSystemTest {
     Path path = new Path("/dir");
     alluxio.client.file.FileSystem alluxioFs =
         Mockito.mock(alluxio.client.file.FileSystem.class);
-    Mockito.when(alluxioFs.listStatus(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))))
+    Mockito.when(alluxioFs.listStatus(
+        Mockito.eq(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))),
+        Mockito.any(ListStatusOptions.class)))
         .thenReturn(Lists.newArrayList(new URIStatus(fileInfo1), new URIStatus(fileInfo2)));
     FileSystem alluxioHadoopFs = new FileSystem(alluxioFs);
 
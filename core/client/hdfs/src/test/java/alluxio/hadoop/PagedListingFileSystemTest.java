@@ -0,0 +1,106 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import alluxio.AlluxioURI;
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.ListStatusOptions;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.BlockLocation;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.FileInfo;
+import alluxio.wire.LoadMetadataType;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.collect.Lists;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the paged listings of {@link PagedListingFileSystem}.
+ */
+public final class PagedListingFileSystemTest {
+  private static final Path PATH = new Path("/dir");
+  private static final AlluxioURI URI = new AlluxioURI(HadoopUtils.getPathWithoutScheme(PATH));
+
+  private alluxio.client.file.FileSystem mAlluxioFs;
+  private FileSystem mAlluxioHadoopFs;
+
+  @Rule
+  public ConfigurationRule mConfigurationRule =
+      new ConfigurationRule(PropertyKey.USER_FILE_LIST_STATUS_BATCH_SIZE, "2");
+
+  @Before
+  public void before() throws Exception {
+    List<URIStatus> statuses = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      WorkerNetAddress address = new WorkerNetAddress().setHost("worker" + i).setDataPort(29999);
+      BlockInfo blockInfo = new BlockInfo().setBlockId(i).setLength(10)
+          .setLocations(Lists.newArrayList(new BlockLocation().setWorkerAddress(address)));
+      FileInfo fileInfo = new FileInfo().setName("file" + i).setPath("/dir/file" + i)
+          .setLength(10).setFolder(false).setMode(00644)
+          .setFileBlockInfos(Lists.newArrayList(new FileBlockInfo().setBlockInfo(blockInfo)));
+      statuses.add(new URIStatus(fileInfo));
+    }
+    mAlluxioFs = Mockito.mock(alluxio.client.file.FileSystem.class);
+    Mockito.when(mAlluxioFs.listStatus(URI, ListStatusOptions.defaults().setBatchSize(2)))
+        .thenReturn(statuses.subList(0, 2));
+    Mockito.when(mAlluxioFs.listStatus(URI, ListStatusOptions.defaults().setBatchSize(2)
+        .setStartAfter("file1").setLoadMetadataType(LoadMetadataType.Never)))
+        .thenReturn(statuses.subList(2, 3));
+    mAlluxioHadoopFs = new FileSystem(mAlluxioFs);
+  }
+
+  /**
+   * Tests that {@link FileSystem#listLocatedStatus(Path)} fetches the statuses in pages and returns
+   * the block locations included in them.
+   */
+  @Test
+  public void listLocatedStatus() throws Exception {
+    RemoteIterator<LocatedFileStatus> iterator = mAlluxioHadoopFs.listLocatedStatus(PATH);
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(iterator.hasNext());
+      LocatedFileStatus status = iterator.next();
+      Assert.assertEquals("file" + i, status.getPath().getName());
+      Assert.assertEquals(1, status.getBlockLocations().length);
+      Assert.assertArrayEquals(new String[] {"worker" + i},
+          status.getBlockLocations()[0].getHosts());
+    }
+    Assert.assertFalse(iterator.hasNext());
+    Mockito.verify(mAlluxioFs, Mockito.never()).getStatus(Mockito.any(AlluxioURI.class));
+  }
+
+  /**
+   * Tests that {@link FileSystem#listStatusIterator(Path)} fetches the statuses in pages.
+   */
+  @Test
+  public void listStatusIterator() throws Exception {
+    RemoteIterator<FileStatus> iterator = mAlluxioHadoopFs.listStatusIterator(PATH);
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(iterator.hasNext());
+      Assert.assertEquals("file" + i, iterator.next().getPath().getName());
+    }
+    Assert.assertFalse(iterator.hasNext());
+  }
+}
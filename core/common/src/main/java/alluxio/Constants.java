@@ -66,6 +66,7 @@ public final class Constants {
   public static final int BYTES_IN_INTEGER = 4;
 
   public static final long UNKNOWN_SIZE = -1;
+  public static final long UNKNOWN_CHECKSUM = -1;
 
   public static final String SCHEME = "alluxio";
   public static final String HEADER = SCHEME + "://";
@@ -40,10 +40,24 @@ public class PropertyKey {
   public static final PropertyKey CONF_DIR =
       create(Name.CONF_DIR, String.format("${%s}/conf", Name.HOME));
   public static final PropertyKey DEBUG = create(Name.DEBUG, false);
+  public static final PropertyKey HEARTBEAT_JITTER_RATIO =
+      create(Name.HEARTBEAT_JITTER_RATIO, 0.1);
+  public static final PropertyKey HEARTBEAT_THREADS = create(Name.HEARTBEAT_THREADS, 4);
+  public static final PropertyKey HEARTBEAT_TICK_MS = create(Name.HEARTBEAT_TICK_MS, "10ms");
   public static final PropertyKey HOME = create(Name.HOME, "/opt/alluxio");
+  public static final PropertyKey KEY_VALUE_BULK_LOAD_BUFFER_SIZE_BYTES =
+      create(Name.KEY_VALUE_BULK_LOAD_BUFFER_SIZE_BYTES, "64MB");
+  public static final PropertyKey KEY_VALUE_BULK_LOAD_THREADS =
+      create(Name.KEY_VALUE_BULK_LOAD_THREADS, 4);
   public static final PropertyKey KEY_VALUE_ENABLED = create(Name.KEY_VALUE_ENABLED, false);
   public static final PropertyKey KEY_VALUE_PARTITION_SIZE_BYTES_MAX =
       create(Name.KEY_VALUE_PARTITION_SIZE_BYTES_MAX, "512MB");
+  public static final PropertyKey KEY_VALUE_PARTITION_CACHE_SIZE_BYTES_MAX =
+      create(Name.KEY_VALUE_PARTITION_CACHE_SIZE_BYTES_MAX, "2GB");
+  public static final PropertyKey KEY_VALUE_PARTITION_INDEX_TYPE =
+      create(Name.KEY_VALUE_PARTITION_INDEX_TYPE, "LINEAR_PROBING");
+  public static final PropertyKey KEY_VALUE_SCAN_BATCH_SIZE =
+      create(Name.KEY_VALUE_SCAN_BATCH_SIZE, 100);
   public static final PropertyKey LOGGER_TYPE = create(Name.LOGGER_TYPE, "Console");
   public static final PropertyKey LOGS_DIR =
       create(Name.LOGS_DIR, String.format("${%s}/logs", Name.WORK_DIR));
@@ -53,6 +67,10 @@ public class PropertyKey {
       create(Name.NETWORK_HOST_RESOLUTION_TIMEOUT_MS, "5sec");
   public static final PropertyKey NETWORK_NETTY_HEARTBEAT_TIMEOUT_MS =
       create(Name.NETWORK_NETTY_HEARTBEAT_TIMEOUT_MS, "30sec");
+  public static final PropertyKey NETWORK_RPC_SLOW_LOG_SIZE =
+      create(Name.NETWORK_RPC_SLOW_LOG_SIZE, 100);
+  public static final PropertyKey NETWORK_RPC_SLOW_LOG_THRESHOLD_MS =
+      create(Name.NETWORK_RPC_SLOW_LOG_THRESHOLD_MS, "1sec");
   public static final PropertyKey NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX =
       create(Name.NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX, "16MB");
   public static final PropertyKey SITE_CONF_DIR =
@@ -86,6 +104,24 @@ public class PropertyKey {
       create(Name.UNDERFS_ALLOW_SET_OWNER_FAILURE, false);
   public static final PropertyKey UNDERFS_LISTING_LENGTH =
       create(Name.UNDERFS_LISTING_LENGTH, 1000);
+  public static final PropertyKey UNDERFS_BACKGROUND_CONCURRENCY_RATIO =
+      create(Name.UNDERFS_BACKGROUND_CONCURRENCY_RATIO, 0.5);
+  public static final PropertyKey UNDERFS_LIST_CONCURRENCY =
+      create(Name.UNDERFS_LIST_CONCURRENCY, 64);
+  public static final PropertyKey UNDERFS_LIST_RATE = create(Name.UNDERFS_LIST_RATE, 0);
+  public static final PropertyKey UNDERFS_METADATA_CONCURRENCY =
+      create(Name.UNDERFS_METADATA_CONCURRENCY, 256);
+  public static final PropertyKey UNDERFS_METADATA_RATE = create(Name.UNDERFS_METADATA_RATE, 0);
+  public static final PropertyKey UNDERFS_READ_CONCURRENCY =
+      create(Name.UNDERFS_READ_CONCURRENCY, 512);
+  public static final PropertyKey UNDERFS_READ_RATE = create(Name.UNDERFS_READ_RATE, 0);
+  public static final PropertyKey UNDERFS_THROTTLE_BACKOFF_INITIAL_MS =
+      create(Name.UNDERFS_THROTTLE_BACKOFF_INITIAL_MS, "100ms");
+  public static final PropertyKey UNDERFS_THROTTLE_BACKOFF_MAX_MS =
+      create(Name.UNDERFS_THROTTLE_BACKOFF_MAX_MS, "10sec");
+  public static final PropertyKey UNDERFS_WRITE_CONCURRENCY =
+      create(Name.UNDERFS_WRITE_CONCURRENCY, 128);
+  public static final PropertyKey UNDERFS_WRITE_RATE = create(Name.UNDERFS_WRITE_RATE, 0);
   public static final PropertyKey UNDERFS_GCS_OWNER_ID_TO_USERNAME_MAPPING =
       create(Name.UNDERFS_GCS_OWNER_ID_TO_USERNAME_MAPPING, "");
   public static final PropertyKey UNDERFS_GLUSTERFS_IMPL =
@@ -209,11 +245,35 @@ public class PropertyKey {
   public static final PropertyKey MASTER_FILE_ASYNC_PERSIST_HANDLER =
       create(Name.MASTER_FILE_ASYNC_PERSIST_HANDLER,
           "alluxio.master.file.async.DefaultAsyncPersistHandler");
+  public static final PropertyKey MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS =
+      create(Name.MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS, "10min");
+  public static final PropertyKey MASTER_FILE_LOAD_MAX_ATTEMPTS =
+      create(Name.MASTER_FILE_LOAD_MAX_ATTEMPTS, 3);
+  public static final PropertyKey MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER =
+      create(Name.MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER, 64);
   public static final PropertyKey MASTER_FORMAT_FILE_PREFIX =
       create(Name.MASTER_FORMAT_FILE_PREFIX, "_format_");
   public static final PropertyKey MASTER_HEARTBEAT_INTERVAL_MS =
       create(Name.MASTER_HEARTBEAT_INTERVAL_MS, "1sec");
   public static final PropertyKey MASTER_HOSTNAME = create(Name.MASTER_HOSTNAME, null);
+  public static final PropertyKey MASTER_HOT_BLOCK_REPLICATION_ENABLED =
+      create(Name.MASTER_HOT_BLOCK_REPLICATION_ENABLED, false);
+  public static final PropertyKey MASTER_HOT_BLOCK_REPLICATION_HEAT_HALF_LIFE_MS =
+      create(Name.MASTER_HOT_BLOCK_REPLICATION_HEAT_HALF_LIFE_MS, "5min");
+  public static final PropertyKey MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD =
+      create(Name.MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD, 1000);
+  public static final PropertyKey MASTER_HOT_BLOCK_REPLICATION_INTERVAL_MS =
+      create(Name.MASTER_HOT_BLOCK_REPLICATION_INTERVAL_MS, "30sec");
+  public static final PropertyKey MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS =
+      create(Name.MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS, 3);
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_BLOCK_SIZE_BYTES =
+      create(Name.MASTER_JOURNAL_CHECKPOINT_BLOCK_SIZE_BYTES, "4MB");
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED =
+      create(Name.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED, true);
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_THREADS =
+      create(Name.MASTER_JOURNAL_CHECKPOINT_THREADS, 4);
+  public static final PropertyKey MASTER_JOURNAL_FILE_SYSTEM_SHARDS =
+      create(Name.MASTER_JOURNAL_FILE_SYSTEM_SHARDS, 1);
   public static final PropertyKey MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
       create(Name.MASTER_JOURNAL_FLUSH_BATCH_TIME_MS, "5ms");
   public static final PropertyKey MASTER_JOURNAL_FLUSH_TIMEOUT_MS =
@@ -261,7 +321,13 @@ public class PropertyKey {
   @Deprecated
   public static final PropertyKey MASTER_RETRY =
       create(Name.MASTER_RETRY, String.format("${%s}", Name.USER_RPC_RETRY_MAX_NUM_RETRY));
+  public static final PropertyKey MASTER_RPC_EXECUTOR_QUEUE_SIZE =
+      create(Name.MASTER_RPC_EXECUTOR_QUEUE_SIZE, 10000);
+  public static final PropertyKey MASTER_RPC_EXECUTOR_THREADS =
+      create(Name.MASTER_RPC_EXECUTOR_THREADS, 512);
   public static final PropertyKey MASTER_RPC_PORT = create(Name.MASTER_RPC_PORT, 19998);
+  public static final PropertyKey MASTER_RPC_SERVER_TYPE =
+      create(Name.MASTER_RPC_SERVER_TYPE, "THREAD_POOL");
   public static final PropertyKey MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED =
       create(Name.MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED, true);
   public static final PropertyKey MASTER_TIERED_STORE_GLOBAL_LEVEL0_ALIAS =
@@ -278,6 +344,10 @@ public class PropertyKey {
       create(Name.MASTER_UFS_PATH_CACHE_CAPACITY, 100000);
   public static final PropertyKey MASTER_UFS_PATH_CACHE_THREADS =
       create(Name.MASTER_UFS_PATH_CACHE_THREADS, 64);
+  public static final PropertyKey MASTER_UFS_STATUS_CACHE_CAPACITY =
+      create(Name.MASTER_UFS_STATUS_CACHE_CAPACITY, 100000);
+  public static final PropertyKey MASTER_UFS_STATUS_CACHE_TTL_MS =
+      create(Name.MASTER_UFS_STATUS_CACHE_TTL_MS, "5sec");
   public static final PropertyKey MASTER_WEB_BIND_HOST =
       create(Name.MASTER_WEB_BIND_HOST, "0.0.0.0");
   public static final PropertyKey MASTER_WEB_HOSTNAME = create(Name.MASTER_WEB_HOSTNAME, null);
@@ -324,6 +394,8 @@ public class PropertyKey {
       create(Name.WORKER_EVICTOR_LRFU_ATTENUATION_FACTOR, 2.0);
   public static final PropertyKey WORKER_EVICTOR_LRFU_STEP_FACTOR =
       create(Name.WORKER_EVICTOR_LRFU_STEP_FACTOR, 0.25);
+  public static final PropertyKey WORKER_FILE_LOAD_POOL_SIZE =
+      create(Name.WORKER_FILE_LOAD_POOL_SIZE, 16);
   public static final PropertyKey WORKER_FILE_PERSIST_POOL_SIZE =
       create(Name.WORKER_FILE_PERSIST_POOL_SIZE, 64);
   public static final PropertyKey WORKER_FILE_PERSIST_RATE_LIMIT =
@@ -347,6 +419,10 @@ public class PropertyKey {
       create(Name.WORKER_NETWORK_NETTY_BUFFER_SEND, null);
   public static final PropertyKey WORKER_NETWORK_NETTY_CHANNEL =
       create(Name.WORKER_NETWORK_NETTY_CHANNEL, null);
+  public static final PropertyKey WORKER_NETWORK_NETTY_DISK_QUEUE_SIZE =
+      create(Name.WORKER_NETWORK_NETTY_DISK_QUEUE_SIZE, 4096);
+  public static final PropertyKey WORKER_NETWORK_NETTY_DISK_THREADS_MAX =
+      create(Name.WORKER_NETWORK_NETTY_DISK_THREADS_MAX, 8);
   public static final PropertyKey WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE =
       create(Name.WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE, "MAPPED");
   public static final PropertyKey WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD =
@@ -380,7 +456,13 @@ public class PropertyKey {
       create(Name.WORKER_BLOCK_MASTER_CLIENT_POOL_SIZE, 11);
 
   public static final PropertyKey WORKER_PRINCIPAL = create(Name.WORKER_PRINCIPAL, null);
+  public static final PropertyKey WORKER_RPC_EXECUTOR_QUEUE_SIZE =
+      create(Name.WORKER_RPC_EXECUTOR_QUEUE_SIZE, 10000);
+  public static final PropertyKey WORKER_RPC_EXECUTOR_THREADS =
+      create(Name.WORKER_RPC_EXECUTOR_THREADS, 256);
   public static final PropertyKey WORKER_RPC_PORT = create(Name.WORKER_RPC_PORT, 29998);
+  public static final PropertyKey WORKER_RPC_SERVER_TYPE =
+      create(Name.WORKER_RPC_SERVER_TYPE, "THREAD_POOL");
   public static final PropertyKey WORKER_SESSION_TIMEOUT_MS =
       create(Name.WORKER_SESSION_TIMEOUT_MS, "1min");
   public static final PropertyKey WORKER_TIERED_STORE_BLOCK_LOCK_READERS =
@@ -461,6 +543,8 @@ public class PropertyKey {
   //
   // Proxy related properties
   //
+  public static final PropertyKey PROXY_STREAM_BUFFER_BYTES =
+      create(Name.PROXY_STREAM_BUFFER_BYTES, "1MB");
   public static final PropertyKey PROXY_STREAM_CACHE_TIMEOUT_MS =
       create(Name.PROXY_STREAM_CACHE_TIMEOUT_MS, "1hour");
   public static final PropertyKey PROXY_WEB_BIND_HOST = create(Name.PROXY_WEB_BIND_HOST, "0.0.0.0");
@@ -507,6 +591,8 @@ public class PropertyKey {
           "alluxio.client.file.policy.RoundRobinPolicy");
   public static final PropertyKey USER_FILE_DELETE_UNCHECKED =
       create(Name.USER_FILE_DELETE_UNCHECKED, false);
+  public static final PropertyKey USER_FILE_LIST_STATUS_BATCH_SIZE =
+      create(Name.USER_FILE_LIST_STATUS_BATCH_SIZE, 1000);
   public static final PropertyKey USER_FILE_MASTER_CLIENT_THREADS =
       create(Name.USER_FILE_MASTER_CLIENT_THREADS, 10);
   public static final PropertyKey USER_FILE_METADATA_LOAD_TYPE =
@@ -555,6 +641,10 @@ public class PropertyKey {
       create(Name.USER_NETWORK_NETTY_CHANNEL_POOL_GC_THRESHOLD_MS, 300 * Constants.SECOND_MS);
   public static final PropertyKey USER_NETWORK_NETTY_CHANNEL_POOL_DISABLED =
       create(Name.USER_NETWORK_NETTY_CHANNEL_POOL_DISABLED, false);
+  public static final PropertyKey USER_NETWORK_NETTY_MULTIPLEX_CHANNELS =
+      create(Name.USER_NETWORK_NETTY_MULTIPLEX_CHANNELS, 4);
+  public static final PropertyKey USER_NETWORK_NETTY_MULTIPLEX_ENABLED =
+      create(Name.USER_NETWORK_NETTY_MULTIPLEX_ENABLED, false);
   public static final PropertyKey USER_NETWORK_NETTY_WRITER_PACKET_SIZE_BYTES =
       create(Name.USER_NETWORK_NETTY_WRITER_PACKET_SIZE_BYTES, "64KB");
   public static final PropertyKey USER_NETWORK_NETTY_WRITER_BUFFER_SIZE_PACKETS =
@@ -613,6 +703,10 @@ public class PropertyKey {
       create(Name.USER_UFS_BLOCK_OPEN_TIMEOUT_MS, 300000);
   public static final PropertyKey USER_SHORT_CIRCUIT_ENABLED =
       create(Name.USER_SHORT_CIRCUIT_ENABLED, true);
+  public static final PropertyKey USER_SHORT_CIRCUIT_LEASE_MS =
+      create(Name.USER_SHORT_CIRCUIT_LEASE_MS, 30000);
+  public static final PropertyKey USER_SHORT_CIRCUIT_MMAP_ENABLED =
+      create(Name.USER_SHORT_CIRCUIT_MMAP_ENABLED, false);
 
   //
   // FUSE integration related properties
@@ -698,6 +792,9 @@ public class PropertyKey {
   public static final class Name {
     public static final String CONF_DIR = "alluxio.conf.dir";
     public static final String DEBUG = "alluxio.debug";
+    public static final String HEARTBEAT_JITTER_RATIO = "alluxio.heartbeat.jitter.ratio";
+    public static final String HEARTBEAT_THREADS = "alluxio.heartbeat.threads";
+    public static final String HEARTBEAT_TICK_MS = "alluxio.heartbeat.tick.ms";
     public static final String HOME = "alluxio.home";
     public static final String INTEGRATION_MASTER_RESOURCE_CPU =
         "alluxio.integration.master.resource.cpu";
@@ -723,9 +820,17 @@ public class PropertyKey {
         "alluxio.integration.worker.resource.mem";
     public static final String INTEGRATION_YARN_WORKERS_PER_HOST_MAX =
         "alluxio.integration.yarn.workers.per.host.max";
+    public static final String KEY_VALUE_BULK_LOAD_BUFFER_SIZE_BYTES =
+        "alluxio.keyvalue.bulk.load.buffer.size.bytes";
+    public static final String KEY_VALUE_BULK_LOAD_THREADS = "alluxio.keyvalue.bulk.load.threads";
     public static final String KEY_VALUE_ENABLED = "alluxio.keyvalue.enabled";
     public static final String KEY_VALUE_PARTITION_SIZE_BYTES_MAX =
         "alluxio.keyvalue.partition.size.bytes.max";
+    public static final String KEY_VALUE_PARTITION_CACHE_SIZE_BYTES_MAX =
+        "alluxio.keyvalue.partition.cache.size.bytes.max";
+    public static final String KEY_VALUE_PARTITION_INDEX_TYPE =
+        "alluxio.keyvalue.partition.index.type";
+    public static final String KEY_VALUE_SCAN_BATCH_SIZE = "alluxio.keyvalue.scan.batch.size";
     public static final String LOGGER_TYPE = "alluxio.logger.type";
     public static final String LOGS_DIR = "alluxio.logs.dir";
     public static final String METRICS_CONF_FILE = "alluxio.metrics.conf.file";
@@ -733,6 +838,9 @@ public class PropertyKey {
         "alluxio.network.host.resolution.timeout.ms";
     public static final String NETWORK_NETTY_HEARTBEAT_TIMEOUT_MS =
         "alluxio.network.netty.heartbeat.timeout.ms";
+    public static final String NETWORK_RPC_SLOW_LOG_SIZE = "alluxio.network.rpc.slow.log.size";
+    public static final String NETWORK_RPC_SLOW_LOG_THRESHOLD_MS =
+        "alluxio.network.rpc.slow.log.threshold.ms";
     public static final String NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX =
         "alluxio.network.thrift.frame.size.bytes.max";
     public static final String SITE_CONF_DIR = "alluxio.site.conf.dir";
@@ -755,6 +863,21 @@ public class PropertyKey {
     public static final String UNDERFS_ALLOW_SET_OWNER_FAILURE =
         "alluxio.underfs.allow.set.owner.failure";
     public static final String UNDERFS_LISTING_LENGTH = "alluxio.underfs.listing.length";
+    public static final String UNDERFS_BACKGROUND_CONCURRENCY_RATIO =
+        "alluxio.underfs.background.concurrency.ratio";
+    public static final String UNDERFS_LIST_CONCURRENCY = "alluxio.underfs.list.concurrency";
+    public static final String UNDERFS_LIST_RATE = "alluxio.underfs.list.rate";
+    public static final String UNDERFS_METADATA_CONCURRENCY =
+        "alluxio.underfs.metadata.concurrency";
+    public static final String UNDERFS_METADATA_RATE = "alluxio.underfs.metadata.rate";
+    public static final String UNDERFS_READ_CONCURRENCY = "alluxio.underfs.read.concurrency";
+    public static final String UNDERFS_READ_RATE = "alluxio.underfs.read.rate";
+    public static final String UNDERFS_THROTTLE_BACKOFF_INITIAL_MS =
+        "alluxio.underfs.throttle.backoff.initial.ms";
+    public static final String UNDERFS_THROTTLE_BACKOFF_MAX_MS =
+        "alluxio.underfs.throttle.backoff.max.ms";
+    public static final String UNDERFS_WRITE_CONCURRENCY = "alluxio.underfs.write.concurrency";
+    public static final String UNDERFS_WRITE_RATE = "alluxio.underfs.write.rate";
     public static final String UNDERFS_GCS_OWNER_ID_TO_USERNAME_MAPPING =
         "alluxio.underfs.gcs.owner.id.to.username.mapping";
     public static final String UNDERFS_GLUSTERFS_IMPL = "alluxio.underfs.glusterfs.impl";
@@ -841,10 +964,34 @@ public class PropertyKey {
         "alluxio.master.connection.timeout.ms";
     public static final String MASTER_FILE_ASYNC_PERSIST_HANDLER =
         "alluxio.master.file.async.persist.handler";
+    public static final String MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS =
+        "alluxio.master.file.load.block.timeout.ms";
+    public static final String MASTER_FILE_LOAD_MAX_ATTEMPTS =
+        "alluxio.master.file.load.max.attempts";
+    public static final String MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER =
+        "alluxio.master.file.load.max.blocks.per.worker";
     public static final String MASTER_FORMAT_FILE_PREFIX = "alluxio.master.format.file_prefix";
     public static final String MASTER_HEARTBEAT_INTERVAL_MS =
         "alluxio.master.heartbeat.interval.ms";
     public static final String MASTER_HOSTNAME = "alluxio.master.hostname";
+    public static final String MASTER_HOT_BLOCK_REPLICATION_ENABLED =
+        "alluxio.master.hot.block.replication.enabled";
+    public static final String MASTER_HOT_BLOCK_REPLICATION_HEAT_HALF_LIFE_MS =
+        "alluxio.master.hot.block.replication.heat.half.life.ms";
+    public static final String MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD =
+        "alluxio.master.hot.block.replication.heat.threshold";
+    public static final String MASTER_HOT_BLOCK_REPLICATION_INTERVAL_MS =
+        "alluxio.master.hot.block.replication.interval.ms";
+    public static final String MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS =
+        "alluxio.master.hot.block.replication.max.replicas";
+    public static final String MASTER_JOURNAL_CHECKPOINT_BLOCK_SIZE_BYTES =
+        "alluxio.master.journal.checkpoint.block.size.bytes";
+    public static final String MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED =
+        "alluxio.master.journal.checkpoint.compression.enabled";
+    public static final String MASTER_JOURNAL_CHECKPOINT_THREADS =
+        "alluxio.master.journal.checkpoint.threads";
+    public static final String MASTER_JOURNAL_FILE_SYSTEM_SHARDS =
+        "alluxio.master.journal.file.system.shards";
     public static final String MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
         "alluxio.master.journal.flush.batch.time.ms";
     public static final String MASTER_JOURNAL_FLUSH_TIMEOUT_MS =
@@ -869,7 +1016,11 @@ public class PropertyKey {
         "alluxio.master.lineage.recompute.log.path";
     public static final String MASTER_PRINCIPAL = "alluxio.master.principal";
     public static final String MASTER_RETRY = "alluxio.master.retry";
+    public static final String MASTER_RPC_EXECUTOR_QUEUE_SIZE =
+        "alluxio.master.rpc.executor.queue.size";
+    public static final String MASTER_RPC_EXECUTOR_THREADS = "alluxio.master.rpc.executor.threads";
     public static final String MASTER_RPC_PORT = "alluxio.master.port";
+    public static final String MASTER_RPC_SERVER_TYPE = "alluxio.master.rpc.server.type";
     public static final String MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED =
         "alluxio.master.startup.consistency.check.enabled";
     public static final String MASTER_TIERED_STORE_GLOBAL_LEVEL0_ALIAS =
@@ -886,6 +1037,10 @@ public class PropertyKey {
         "alluxio.master.ufs.path.cache.capacity";
     public static final String MASTER_UFS_PATH_CACHE_THREADS =
         "alluxio.master.ufs.path.cache.threads";
+    public static final String MASTER_UFS_STATUS_CACHE_CAPACITY =
+        "alluxio.master.ufs.status.cache.capacity";
+    public static final String MASTER_UFS_STATUS_CACHE_TTL_MS =
+        "alluxio.master.ufs.status.cache.ttl.ms";
     public static final String MASTER_WEB_BIND_HOST = "alluxio.master.web.bind.host";
     public static final String MASTER_WEB_HOSTNAME = "alluxio.master.web.hostname";
     public static final String MASTER_WEB_PORT = "alluxio.master.web.port";
@@ -928,6 +1083,8 @@ public class PropertyKey {
         "alluxio.worker.evictor.lrfu.step.factor";
     public static final String WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS =
         "alluxio.worker.filesystem.heartbeat.interval.ms";
+    public static final String WORKER_FILE_LOAD_POOL_SIZE =
+        "alluxio.worker.file.load.pool.size";
     public static final String WORKER_FILE_PERSIST_POOL_SIZE =
         "alluxio.worker.file.persist.pool.size";
     public static final String WORKER_FILE_PERSIST_RATE_LIMIT =
@@ -948,6 +1105,10 @@ public class PropertyKey {
         "alluxio.worker.network.netty.buffer.send";
     public static final String WORKER_NETWORK_NETTY_CHANNEL =
         "alluxio.worker.network.netty.channel";
+    public static final String WORKER_NETWORK_NETTY_DISK_QUEUE_SIZE =
+        "alluxio.worker.network.netty.disk.queue.size";
+    public static final String WORKER_NETWORK_NETTY_DISK_THREADS_MAX =
+        "alluxio.worker.network.netty.disk.threads.max";
     public static final String WORKER_NETWORK_NETTY_FILE_TRANSFER_TYPE =
         "alluxio.worker.network.netty.file.transfer";
     public static final String WORKER_NETWORK_NETTY_SHUTDOWN_QUIET_PERIOD =
@@ -977,7 +1138,11 @@ public class PropertyKey {
     public static final String WORKER_BLOCK_MASTER_CLIENT_POOL_SIZE =
         "alluxio.worker.block.master.client.pool.size";
     public static final String WORKER_PRINCIPAL = "alluxio.worker.principal";
+    public static final String WORKER_RPC_EXECUTOR_QUEUE_SIZE =
+        "alluxio.worker.rpc.executor.queue.size";
+    public static final String WORKER_RPC_EXECUTOR_THREADS = "alluxio.worker.rpc.executor.threads";
     public static final String WORKER_RPC_PORT = "alluxio.worker.port";
+    public static final String WORKER_RPC_SERVER_TYPE = "alluxio.worker.rpc.server.type";
     public static final String WORKER_SESSION_TIMEOUT_MS = "alluxio.worker.session.timeout.ms";
     public static final String WORKER_TIERED_STORE_BLOCK_LOCK_READERS =
         "alluxio.worker.tieredstore.block.lock.readers";
@@ -1000,6 +1165,7 @@ public class PropertyKey {
     //
     // Proxy related properties
     //
+    public static final String PROXY_STREAM_BUFFER_BYTES = "alluxio.proxy.stream.buffer.bytes";
     public static final String PROXY_STREAM_CACHE_TIMEOUT_MS =
         "alluxio.proxy.stream.cache.timeout.ms";
     public static final String PROXY_WEB_BIND_HOST = "alluxio.proxy.web.bind.host";
@@ -1035,6 +1201,8 @@ public class PropertyKey {
             "alluxio.user.file.copyfromlocal.write.location.policy.class";
     public static final String USER_FILE_DELETE_UNCHECKED =
         "alluxio.user.file.delete.unchecked";
+    public static final String USER_FILE_LIST_STATUS_BATCH_SIZE =
+        "alluxio.user.file.list.status.batch.size";
     public static final String USER_FILE_MASTER_CLIENT_THREADS =
         "alluxio.user.file.master.client.threads";
     public static final String USER_FILE_METADATA_LOAD_TYPE =
@@ -1081,6 +1249,10 @@ public class PropertyKey {
         "alluxio.user.network.netty.channel.pool.gc.threshold.ms";
     public static final String USER_NETWORK_NETTY_CHANNEL_POOL_DISABLED =
         "alluxio.user.network.netty.channel.pool.disabled";
+    public static final String USER_NETWORK_NETTY_MULTIPLEX_CHANNELS =
+        "alluxio.user.network.netty.multiplex.channels";
+    public static final String USER_NETWORK_NETTY_MULTIPLEX_ENABLED =
+        "alluxio.user.network.netty.multiplex.enabled";
     public static final String USER_NETWORK_NETTY_WRITER_PACKET_SIZE_BYTES =
         "alluxio.user.network.netty.writer.packet.size.bytes";
     public static final String USER_NETWORK_NETTY_WRITER_BUFFER_SIZE_PACKETS =
@@ -1112,6 +1284,10 @@ public class PropertyKey {
     public static final String USER_UFS_BLOCK_OPEN_TIMEOUT_MS =
         "alluxio.user.ufs.block.open.timeout.ms";
     public static final String USER_SHORT_CIRCUIT_ENABLED = "alluxio.user.short.circuit.enabled";
+    public static final String USER_SHORT_CIRCUIT_LEASE_MS =
+        "alluxio.user.short.circuit.lease.ms";
+    public static final String USER_SHORT_CIRCUIT_MMAP_ENABLED =
+        "alluxio.user.short.circuit.mmap.enabled";
 
     //
     // FUSE integration related properties
@@ -0,0 +1,198 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hash set of primitive longs. Unlike a {@code HashSet<Long>}, it boxes neither the elements nor
+ * the entries: the elements are stored in an array with open addressing and linear probing, which
+ * takes around 15 bytes per element instead of around 60 bytes.
+ */
+@NotThreadSafe
+public final class LongHashSet {
+  private long[] mElements;
+  /** Whether each slot holds an element, since any long value can be an element. */
+  private boolean[] mUsed;
+  private int mMask;
+  private int mResizeThreshold;
+  private int mSize;
+
+  /**
+   * Creates a new instance of {@link LongHashSet}.
+   */
+  public LongHashSet() {
+    this(LongHashing.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates a new instance of {@link LongHashSet} which holds the given number of elements without
+   * growing.
+   *
+   * @param expectedSize the expected number of elements
+   */
+  public LongHashSet(int expectedSize) {
+    allocate(LongHashing.tableSize(expectedSize));
+  }
+
+  /**
+   * @return the number of elements
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the set has no element
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * @param element the element
+   * @return whether the set contains the element
+   */
+  public boolean contains(long element) {
+    return mUsed[find(element)];
+  }
+
+  /**
+   * Adds an element to the set.
+   *
+   * @param element the element
+   * @return whether the set did not contain the element
+   */
+  public boolean add(long element) {
+    int slot = find(element);
+    if (mUsed[slot]) {
+      return false;
+    }
+    if (mSize >= mResizeThreshold) {
+      grow();
+      slot = find(element);
+    }
+    mElements[slot] = element;
+    mUsed[slot] = true;
+    mSize++;
+    return true;
+  }
+
+  /**
+   * Removes an element from the set.
+   *
+   * @param element the element
+   * @return whether the set contained the element
+   */
+  public boolean remove(long element) {
+    int slot = find(element);
+    if (!mUsed[slot]) {
+      return false;
+    }
+    mSize--;
+    shiftElements(slot);
+    return true;
+  }
+
+  /**
+   * Removes all elements, keeping the current capacity.
+   */
+  public void clear() {
+    Arrays.fill(mUsed, false);
+    mSize = 0;
+  }
+
+  /**
+   * @return a new array of the elements, in no particular order
+   */
+  public long[] toArray() {
+    long[] elements = new long[mSize];
+    int i = 0;
+    for (int slot = 0; slot < mUsed.length; slot++) {
+      if (mUsed[slot]) {
+        elements[i++] = mElements[slot];
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * @return a new list of the boxed elements, in no particular order
+   */
+  public List<Long> toList() {
+    List<Long> elements = new ArrayList<>(mSize);
+    for (int slot = 0; slot < mUsed.length; slot++) {
+      if (mUsed[slot]) {
+        elements.add(mElements[slot]);
+      }
+    }
+    return elements;
+  }
+
+  /**
+   * @param element the element
+   * @return the slot of the element, or the free slot where the element would be inserted
+   */
+  private int find(long element) {
+    int slot = LongHashing.hash(element) & mMask;
+    while (mUsed[slot] && mElements[slot] != element) {
+      slot = (slot + 1) & mMask;
+    }
+    return slot;
+  }
+
+  /**
+   * Frees a slot, moving back the elements after it so that no lookup goes past a free slot
+   * before reaching its element.
+   *
+   * @param slot the slot to free
+   */
+  private void shiftElements(int slot) {
+    int free = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mMask;
+      if (!mUsed[next]) {
+        mUsed[free] = false;
+        return;
+      }
+      if (LongHashing.canShift(free, next, LongHashing.hash(mElements[next]) & mMask)) {
+        mElements[free] = mElements[next];
+        free = next;
+      }
+    }
+  }
+
+  private void allocate(int tableSize) {
+    mElements = new long[tableSize];
+    mUsed = new boolean[tableSize];
+    mMask = tableSize - 1;
+    mResizeThreshold = LongHashing.resizeThreshold(tableSize);
+  }
+
+  private void grow() {
+    long[] elements = mElements;
+    boolean[] used = mUsed;
+    allocate(LongHashing.grownTableSize(elements.length));
+    for (int i = 0; i < elements.length; i++) {
+      if (used[i]) {
+        int slot = find(elements[i]);
+        mElements[slot] = elements[i];
+        mUsed[slot] = true;
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Hashing utilities shared by the open addressing long-keyed collections.
+ */
+@ThreadSafe
+final class LongHashing {
+  /** The default number of entries a collection can hold before it has to grow. */
+  static final int DEFAULT_EXPECTED_SIZE = 16;
+  /** The maximum ratio of used slots to all slots. */
+  static final float LOAD_FACTOR = 0.75f;
+  /** The largest table size, which is the largest power of two an array can have. */
+  private static final int MAX_CAPACITY = 1 << 30;
+  /** 2^64 divided by the golden ratio, used to spread consecutive keys over the table. */
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  private LongHashing() {} // prevent instantiation
+
+  /**
+   * @param key the key to hash
+   * @return a well-mixed hash code of the key
+   */
+  static int hash(long key) {
+    long h = key * GOLDEN_RATIO;
+    h ^= h >>> 32;
+    return (int) (h ^ (h >>> 16));
+  }
+
+  /**
+   * @param expectedSize the number of entries the table should hold without growing
+   * @return the power of two table size for the expected size
+   */
+  static int tableSize(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "expectedSize must be non-negative");
+    long capacity = Math.max(2, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+    Preconditions.checkArgument(capacity <= MAX_CAPACITY, "expectedSize %s is too large",
+        expectedSize);
+    return Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+
+  /**
+   * @param tableSize the current table size
+   * @return the table size to grow to
+   */
+  static int grownTableSize(int tableSize) {
+    Preconditions.checkState(tableSize < MAX_CAPACITY, "The table cannot grow beyond %s slots",
+        MAX_CAPACITY);
+    return tableSize * 2;
+  }
+
+  /**
+   * @param tableSize the table size
+   * @return the number of entries above which the table has to grow
+   */
+  static int resizeThreshold(int tableSize) {
+    return Math.min(tableSize - 1, (int) (tableSize * LOAD_FACTOR));
+  }
+
+  /**
+   * Returns whether an entry at one slot can be moved back to a free slot during a removal, i.e.
+   * whether its ideal slot is not cyclically within (free, slot].
+   *
+   * @param free the free slot
+   * @param slot the slot of the entry
+   * @param ideal the slot the key of the entry hashes to
+   * @return whether the entry can be moved to the free slot
+   */
+  static boolean canShift(int free, int slot, int ideal) {
+    return free <= slot ? (free >= ideal || ideal > slot) : (free >= ideal && ideal > slot);
+  }
+}
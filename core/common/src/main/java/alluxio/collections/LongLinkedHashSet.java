@@ -0,0 +1,255 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import java.util.Arrays;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hash set of primitive longs which keeps the elements in the order they were last added, like
+ * an access-ordered {@link java.util.LinkedHashMap}: adding an element which is already in the set
+ * moves it to the end. This makes it usable as a least recently used list.
+ *
+ * The elements are stored in an array with open addressing and linear probing, and the order is
+ * kept as a doubly linked list of slot indices, which takes around 30 bytes per element instead
+ * of around 70 bytes for a {@code LinkedHashMap<Long, Boolean>}.
+ */
+@NotThreadSafe
+public final class LongLinkedHashSet {
+  /** The link of the first and last elements. */
+  private static final int NONE = -1;
+
+  private long[] mElements;
+  /** Whether each slot holds an element, since any long value can be an element. */
+  private boolean[] mUsed;
+  /** The slot of the element added before the element of each slot. */
+  private int[] mPrev;
+  /** The slot of the element added after the element of each slot. */
+  private int[] mNext;
+  private int mHead = NONE;
+  private int mTail = NONE;
+  private int mMask;
+  private int mResizeThreshold;
+  private int mSize;
+
+  /**
+   * Creates a new instance of {@link LongLinkedHashSet}.
+   */
+  public LongLinkedHashSet() {
+    this(LongHashing.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates a new instance of {@link LongLinkedHashSet} which holds the given number of elements
+   * without growing.
+   *
+   * @param expectedSize the expected number of elements
+   */
+  public LongLinkedHashSet(int expectedSize) {
+    allocate(LongHashing.tableSize(expectedSize));
+  }
+
+  /**
+   * @return the number of elements
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the set has no element
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * @param element the element
+   * @return whether the set contains the element
+   */
+  public boolean contains(long element) {
+    return mUsed[find(element)];
+  }
+
+  /**
+   * Adds an element to the end of the set, moving it there if the set already contains it.
+   *
+   * @param element the element
+   * @return whether the set did not contain the element
+   */
+  public boolean add(long element) {
+    int slot = find(element);
+    if (mUsed[slot]) {
+      unlink(slot);
+      linkLast(slot);
+      return false;
+    }
+    if (mSize >= mResizeThreshold) {
+      grow();
+      slot = find(element);
+    }
+    mElements[slot] = element;
+    mUsed[slot] = true;
+    linkLast(slot);
+    mSize++;
+    return true;
+  }
+
+  /**
+   * Removes an element from the set.
+   *
+   * @param element the element
+   * @return whether the set contained the element
+   */
+  public boolean remove(long element) {
+    int slot = find(element);
+    if (!mUsed[slot]) {
+      return false;
+    }
+    unlink(slot);
+    mSize--;
+    shiftElements(slot);
+    return true;
+  }
+
+  /**
+   * Removes all elements, keeping the current capacity.
+   */
+  public void clear() {
+    Arrays.fill(mUsed, false);
+    mHead = NONE;
+    mTail = NONE;
+    mSize = 0;
+  }
+
+  /**
+   * @return a new array of the elements, from the least recently added to the most recently added
+   */
+  public long[] toArray() {
+    long[] elements = new long[mSize];
+    int i = 0;
+    for (int slot = mHead; slot != NONE; slot = mNext[slot]) {
+      elements[i++] = mElements[slot];
+    }
+    return elements;
+  }
+
+  /**
+   * @param element the element
+   * @return the slot of the element, or the free slot where the element would be inserted
+   */
+  private int find(long element) {
+    int slot = LongHashing.hash(element) & mMask;
+    while (mUsed[slot] && mElements[slot] != element) {
+      slot = (slot + 1) & mMask;
+    }
+    return slot;
+  }
+
+  private void linkLast(int slot) {
+    mPrev[slot] = mTail;
+    mNext[slot] = NONE;
+    if (mTail == NONE) {
+      mHead = slot;
+    } else {
+      mNext[mTail] = slot;
+    }
+    mTail = slot;
+  }
+
+  private void unlink(int slot) {
+    int prev = mPrev[slot];
+    int next = mNext[slot];
+    if (prev == NONE) {
+      mHead = next;
+    } else {
+      mNext[prev] = next;
+    }
+    if (next == NONE) {
+      mTail = prev;
+    } else {
+      mPrev[next] = prev;
+    }
+  }
+
+  /**
+   * Moves a linked element to another slot, updating its neighbors to point to the new slot.
+   *
+   * @param from the slot of the element
+   * @param to the free slot to move the element to
+   */
+  private void move(int from, int to) {
+    mElements[to] = mElements[from];
+    int prev = mPrev[from];
+    int next = mNext[from];
+    mPrev[to] = prev;
+    mNext[to] = next;
+    if (prev == NONE) {
+      mHead = to;
+    } else {
+      mNext[prev] = to;
+    }
+    if (next == NONE) {
+      mTail = to;
+    } else {
+      mPrev[next] = to;
+    }
+  }
+
+  /**
+   * Frees an unlinked slot, moving back the elements after it so that no lookup goes past a free
+   * slot before reaching its element.
+   *
+   * @param slot the slot to free
+   */
+  private void shiftElements(int slot) {
+    int free = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mMask;
+      if (!mUsed[next]) {
+        mUsed[free] = false;
+        return;
+      }
+      if (LongHashing.canShift(free, next, LongHashing.hash(mElements[next]) & mMask)) {
+        move(next, free);
+        free = next;
+      }
+    }
+  }
+
+  private void allocate(int tableSize) {
+    mElements = new long[tableSize];
+    mUsed = new boolean[tableSize];
+    mPrev = new int[tableSize];
+    mNext = new int[tableSize];
+    mMask = tableSize - 1;
+    mResizeThreshold = LongHashing.resizeThreshold(tableSize);
+  }
+
+  private void grow() {
+    long[] elements = mElements;
+    int[] next = mNext;
+    int head = mHead;
+    allocate(LongHashing.grownTableSize(elements.length));
+    mHead = NONE;
+    mTail = NONE;
+    // Re-inserting in order rebuilds the links in the new table.
+    for (int i = head; i != NONE; i = next[i]) {
+      int slot = find(elements[i]);
+      mElements[slot] = elements[i];
+      mUsed[slot] = true;
+      linkLast(slot);
+    }
+  }
+}
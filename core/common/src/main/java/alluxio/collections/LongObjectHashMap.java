@@ -0,0 +1,223 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hash map from primitive longs to non-null objects. Unlike a {@code HashMap<Long, V>}, it boxes
+ * neither keys nor entries: the keys and values are stored in two parallel arrays with open
+ * addressing and linear probing, which takes around 16 bytes per entry on a 64-bit JVM instead of
+ * around 60 bytes.
+ *
+ * Null values are not supported, since a null value marks a free slot.
+ *
+ * @param <V> the type of the values
+ */
+@NotThreadSafe
+public final class LongObjectHashMap<V> {
+  private long[] mKeys;
+  private Object[] mValues;
+  private int mMask;
+  private int mResizeThreshold;
+  private int mSize;
+
+  /**
+   * Creates a new instance of {@link LongObjectHashMap}.
+   */
+  public LongObjectHashMap() {
+    this(LongHashing.DEFAULT_EXPECTED_SIZE);
+  }
+
+  /**
+   * Creates a new instance of {@link LongObjectHashMap} which holds the given number of entries
+   * without growing.
+   *
+   * @param expectedSize the expected number of entries
+   */
+  public LongObjectHashMap(int expectedSize) {
+    allocate(LongHashing.tableSize(expectedSize));
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the map has no entry
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * @param key the key
+   * @return whether the map has an entry for the key
+   */
+  public boolean containsKey(long key) {
+    return mValues[find(key)] != null;
+  }
+
+  /**
+   * @param key the key
+   * @return the value of the key, or null if the map has no entry for the key
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    return (V) mValues[find(key)];
+  }
+
+  /**
+   * Associates a value with a key, replacing the previous value of the key.
+   *
+   * @param key the key
+   * @param value the value, which must not be null
+   * @return the previous value of the key, or null if there was none
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Preconditions.checkNotNull(value, "value");
+    int slot = find(key);
+    V previous = (V) mValues[slot];
+    if (previous == null) {
+      if (mSize >= mResizeThreshold) {
+        grow();
+        slot = find(key);
+      }
+      mKeys[slot] = key;
+      mSize++;
+    }
+    mValues[slot] = value;
+    return previous;
+  }
+
+  /**
+   * Removes the entry of a key.
+   *
+   * @param key the key
+   * @return the value of the removed entry, or null if the map has no entry for the key
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    int slot = find(key);
+    V previous = (V) mValues[slot];
+    if (previous != null) {
+      mSize--;
+      shiftEntries(slot);
+    }
+    return previous;
+  }
+
+  /**
+   * Removes all entries, keeping the current capacity.
+   */
+  public void clear() {
+    Arrays.fill(mValues, null);
+    mSize = 0;
+  }
+
+  /**
+   * @return a new array of the keys, in no particular order
+   */
+  public long[] keys() {
+    long[] keys = new long[mSize];
+    int i = 0;
+    for (int slot = 0; slot < mValues.length; slot++) {
+      if (mValues[slot] != null) {
+        keys[i++] = mKeys[slot];
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * @return a new list of the values, in the same order as {@link #keys()}
+   */
+  @SuppressWarnings("unchecked")
+  public List<V> values() {
+    List<V> values = new ArrayList<>(mSize);
+    for (Object value : mValues) {
+      if (value != null) {
+        values.add((V) value);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @param key the key
+   * @return the slot of the key, or the free slot where the key would be inserted
+   */
+  private int find(long key) {
+    int slot = LongHashing.hash(key) & mMask;
+    while (mValues[slot] != null && mKeys[slot] != key) {
+      slot = (slot + 1) & mMask;
+    }
+    return slot;
+  }
+
+  /**
+   * Frees a slot, moving back the entries after it so that no lookup goes past a free slot before
+   * reaching its key.
+   *
+   * @param slot the slot to free
+   */
+  private void shiftEntries(int slot) {
+    int free = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mMask;
+      if (mValues[next] == null) {
+        mValues[free] = null;
+        return;
+      }
+      if (LongHashing.canShift(free, next, LongHashing.hash(mKeys[next]) & mMask)) {
+        mKeys[free] = mKeys[next];
+        mValues[free] = mValues[next];
+        free = next;
+      }
+    }
+  }
+
+  private void allocate(int tableSize) {
+    mKeys = new long[tableSize];
+    mValues = new Object[tableSize];
+    mMask = tableSize - 1;
+    mResizeThreshold = LongHashing.resizeThreshold(tableSize);
+  }
+
+  private void grow() {
+    long[] keys = mKeys;
+    Object[] values = mValues;
+    allocate(LongHashing.grownTableSize(keys.length));
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] != null) {
+        int slot = find(keys[i]);
+        mKeys[slot] = keys[i];
+        mValues[slot] = values[i];
+      }
+    }
+  }
+}
@@ -86,6 +86,7 @@ public enum ExceptionMessage {
   // tieredBlockStore
   BLOCK_ID_FOR_DIFFERENT_SESSION(
       "blockId {0,number,#} is owned by sessionId {1,number,#} not {2,number,#}"),
+  BLOCK_LEASE_REVOKED("blockId {0,number,#} cannot be leased while it is being removed or moved"),
   BLOCK_NOT_FOUND_AT_LOCATION("blockId {0,number,#} not found at location: {1}"),
   MOVE_UNCOMMITTED_BLOCK("Cannot move uncommitted blockId {0,number,#}"),
   NO_BLOCK_ID_FOUND("blockId {0,number,#} not found"),
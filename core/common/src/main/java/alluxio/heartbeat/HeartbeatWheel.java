@@ -0,0 +1,372 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.heartbeat;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.security.LoginUser;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.util.SecurityUtils;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs the periodic heartbeats of a process on a shared hashed timer wheel, instead of a
+ * {@link HeartbeatThread} sleeping between the heartbeats of each {@link HeartbeatExecutor}. A
+ * thread is only taken from a small pool while a heartbeat runs.
+ * <p>
+ * The heartbeats of an executor never overlap: the next heartbeat is scheduled an interval after
+ * the previous one started, or right after it finished if it took longer than the interval, which
+ * is counted as an overrun. The heartbeats are jittered by
+ * {@link PropertyKey#HEARTBEAT_JITTER_RATIO} so that the heartbeats of many executors and processes
+ * spread over the interval. The run time and the lag behind the scheduled time of the heartbeats
+ * are reported by {@link MetricsSystem}.
+ */
+@ThreadSafe
+public final class HeartbeatWheel {
+  private static final Logger LOG = LoggerFactory.getLogger(HeartbeatWheel.class);
+  /** How long idle threads beyond the kept ones are kept. */
+  private static final long THREAD_KEEP_ALIVE_MS = 60 * 1000;
+
+  @GuardedBy("HeartbeatWheel.class")
+  private static HeartbeatWheel sInstance;
+
+  private final HashedWheelTimer mTimer;
+  private final ThreadPoolExecutor mPool;
+  private final double mJitterRatio;
+
+  /**
+   * @return the heartbeat wheel shared by the process
+   */
+  public static synchronized HeartbeatWheel get() {
+    if (sInstance == null) {
+      sInstance = new HeartbeatWheel(Configuration.getMs(PropertyKey.HEARTBEAT_TICK_MS),
+          Configuration.getInt(PropertyKey.HEARTBEAT_THREADS),
+          Configuration.getDouble(PropertyKey.HEARTBEAT_JITTER_RATIO));
+    }
+    return sInstance;
+  }
+
+  /**
+   * Starts executing heartbeats periodically. They run on the shared heartbeat wheel, unless they
+   * are scheduled by a {@link ScheduledTimer} (e.g. in tests) instead of a {@link SleepingTimer},
+   * in which case they run on a {@link HeartbeatThread} submitted to the given executor service.
+   * <p>
+   * Canceling the returned future stops the heartbeats and closes the heartbeat executor.
+   *
+   * @param name the name of the heartbeats, e.g. {@link HeartbeatContext#MASTER_TTL_CHECK}
+   * @param metricName the prefix of the names of the metrics of the heartbeats
+   * @param executor the heartbeat executor
+   * @param intervalMs the heartbeat interval
+   * @param executorService the executor service to run a {@link HeartbeatThread} on
+   * @return a future to cancel the heartbeats
+   */
+  public static Future<?> start(String name, String metricName, HeartbeatExecutor executor,
+      long intervalMs, ExecutorService executorService) {
+    if (HeartbeatContext.getTimerClass(name) != HeartbeatContext.SLEEPING_TIMER_CLASS) {
+      return executorService.submit(new HeartbeatThread(name, executor, intervalMs));
+    }
+    return get().schedule(name, metricName, executor, intervalMs);
+  }
+
+  /**
+   * Creates a new instance of {@link HeartbeatWheel}.
+   *
+   * @param tickMs the duration of a tick of the wheel
+   * @param threads the number of threads kept to run heartbeats
+   * @param jitterRatio the jitter of the heartbeats as a fraction of their intervals
+   */
+  HeartbeatWheel(long tickMs, int threads, double jitterRatio) {
+    Preconditions.checkArgument(tickMs > 0, "tickMs=%s", tickMs);
+    Preconditions.checkArgument(threads > 0, "threads=%s", threads);
+    Preconditions.checkArgument(jitterRatio >= 0 && jitterRatio <= 1, "jitterRatio=%s",
+        jitterRatio);
+    mTimer = new HashedWheelTimer(ThreadFactoryUtils.build("heartbeat-wheel-%d", true), tickMs,
+        TimeUnit.MILLISECONDS);
+    // A blocked heartbeat, e.g. waiting for an unavailable master, takes another thread rather
+    // than delaying the heartbeats of the other executors.
+    mPool = new ThreadPoolExecutor(threads, Integer.MAX_VALUE, THREAD_KEEP_ALIVE_MS,
+        TimeUnit.MILLISECONDS, new SynchronousQueue<Runnable>(),
+        ThreadFactoryUtils.build("heartbeat-%d", true));
+    mJitterRatio = jitterRatio;
+  }
+
+  /**
+   * Starts executing heartbeats periodically on this wheel.
+   *
+   * @param name the name of the heartbeats
+   * @param metricName the prefix of the names of the metrics of the heartbeats
+   * @param executor the heartbeat executor
+   * @param intervalMs the heartbeat interval
+   * @return a future to cancel the heartbeats
+   */
+  public Future<?> schedule(String name, String metricName, HeartbeatExecutor executor,
+      long intervalMs) {
+    Preconditions.checkArgument(intervalMs > 0, "intervalMs=%s", intervalMs);
+    Heartbeat heartbeat = new Heartbeat(name, metricName, executor, intervalMs);
+    heartbeat.scheduleNext((long) (ThreadLocalRandom.current().nextDouble() * mJitterRatio
+        * intervalMs));
+    return heartbeat;
+  }
+
+  /**
+   * Stops the wheel. The heartbeats which have not been canceled are not run any more, and their
+   * executors are not closed.
+   */
+  void stop() {
+    mTimer.stop();
+    mPool.shutdownNow();
+  }
+
+  /**
+   * The heartbeats of an executor.
+   */
+  private final class Heartbeat implements Future<Void>, TimerTask, Runnable {
+    private final String mName;
+    private final HeartbeatExecutor mExecutor;
+    private final long mIntervalMs;
+    private final Timer mRunTime;
+    private final Timer mLag;
+    private final Counter mOverruns;
+
+    /** The next heartbeat, or null while a heartbeat runs. */
+    @GuardedBy("this")
+    private Timeout mTimeout;
+    /** The scheduled time of the next heartbeat, by {@link System#nanoTime()}. */
+    @GuardedBy("this")
+    private long mScheduledNanos;
+    /** The thread running a heartbeat, or null. */
+    @GuardedBy("this")
+    private Thread mRunningThread;
+    @GuardedBy("this")
+    private boolean mCancelled;
+    /** The failure which stopped the heartbeats, or null. */
+    @GuardedBy("this")
+    private Throwable mFailure;
+    /** Whether the heartbeats are stopped and the executor is closed. */
+    @GuardedBy("this")
+    private boolean mDone;
+
+    Heartbeat(String name, String metricName, HeartbeatExecutor executor, long intervalMs) {
+      mName = Preconditions.checkNotNull(name);
+      mExecutor = Preconditions.checkNotNull(executor);
+      mIntervalMs = intervalMs;
+      mRunTime = MetricsSystem.METRIC_REGISTRY.timer(metricName + ".RunTime");
+      mLag = MetricsSystem.METRIC_REGISTRY.timer(metricName + ".Lag");
+      mOverruns = MetricsSystem.METRIC_REGISTRY.counter(metricName + ".Overruns");
+    }
+
+    synchronized void scheduleNext(long delayMs) {
+      mScheduledNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+      mTimeout = mTimer.newTimeout(this, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Hands the due heartbeat from the wheel over to a thread of the pool.
+     */
+    @Override
+    public void run(Timeout timeout) {
+      try {
+        mPool.execute(this);
+      } catch (RejectedExecutionException e) {
+        LOG.warn("Heartbeat {} is rejected since the heartbeat wheel is stopped", mName);
+      }
+    }
+
+    @Override
+    public void run() {
+      synchronized (this) {
+        if (mCancelled) {
+          return;
+        }
+        mTimeout = null;
+        mRunningThread = Thread.currentThread();
+      }
+      long startNanos = System.nanoTime();
+      mLag.update(Math.max(0, startNanos - mScheduledNanos), TimeUnit.NANOSECONDS);
+      String threadName = Thread.currentThread().getName();
+      Thread.currentThread().setName(mName);
+      try {
+        if (SecurityUtils.isSecurityEnabled() && AuthenticatedClientUser.get() == null) {
+          AuthenticatedClientUser.set(LoginUser.get().getName());
+        }
+      } catch (IOException e) {
+        LOG.error("Failed to set AuthenticatedClientUser for heartbeat {}.", mName);
+      }
+      Throwable failure = null;
+      try {
+        mExecutor.heartbeat();
+      } catch (InterruptedException e) {
+        LOG.info("Heartbeat {} is interrupted.", mName);
+      } catch (Throwable e) {
+        LOG.error("Uncaught exception in heartbeat executor, heartbeat {} stopping", mName, e);
+        failure = e;
+      } finally {
+        // Clears the interrupt of a cancel, as the thread goes back to the pool.
+        Thread.interrupted();
+        Thread.currentThread().setName(threadName);
+      }
+      long runTimeNanos = System.nanoTime() - startNanos;
+      mRunTime.update(runTimeNanos, TimeUnit.NANOSECONDS);
+
+      synchronized (this) {
+        mRunningThread = null;
+        if (failure != null) {
+          mFailure = failure;
+        } else if (!mCancelled) {
+          long runTimeMs = TimeUnit.NANOSECONDS.toMillis(runTimeNanos);
+          long delayMs = 0;
+          if (runTimeMs > mIntervalMs) {
+            mOverruns.inc();
+            LOG.warn("{} last execution took {} ms. Longer than the interval {}", mName,
+                runTimeMs, mIntervalMs);
+          } else {
+            double jitter = (ThreadLocalRandom.current().nextDouble() - 0.5) * mJitterRatio;
+            delayMs = Math.max(0, mIntervalMs - runTimeMs + (long) (jitter * mIntervalMs));
+          }
+          scheduleNext(delayMs);
+          return;
+        }
+      }
+      close();
+    }
+
+    /**
+     * Closes the executor once the heartbeats are stopped.
+     */
+    private void close() {
+      synchronized (this) {
+        if (mDone) {
+          return;
+        }
+        mDone = true;
+      }
+      try {
+        mExecutor.close();
+      } finally {
+        synchronized (this) {
+          notifyAll();
+        }
+      }
+    }
+
+    /**
+     * Stops the heartbeats. If a heartbeat is running, it is interrupted if requested, and this
+     * waits for it to finish unless called from the heartbeat itself.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean running;
+      synchronized (this) {
+        if (mCancelled || mDone) {
+          return false;
+        }
+        mCancelled = true;
+        if (mTimeout != null) {
+          mTimeout.cancel();
+          mTimeout = null;
+        }
+        running = mRunningThread != null;
+        if (running) {
+          if (mRunningThread == Thread.currentThread()) {
+            return true;
+          }
+          if (mayInterruptIfRunning) {
+            mRunningThread.interrupt();
+          }
+        }
+      }
+      if (!running) {
+        close();
+        return true;
+      }
+      synchronized (this) {
+        boolean interrupted = false;
+        while (!mDone) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+      return mCancelled;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+      return mDone;
+    }
+
+    @Override
+    public synchronized Void get() throws InterruptedException, ExecutionException {
+      while (!mDone) {
+        wait();
+      }
+      return result();
+    }
+
+    @Override
+    public synchronized Void get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+      while (!mDone) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+          throw new TimeoutException();
+        }
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+      return result();
+    }
+
+    @GuardedBy("this")
+    private Void result() throws ExecutionException {
+      if (mFailure != null) {
+        throw new ExecutionException(mFailure);
+      }
+      throw new CancellationException();
+    }
+  }
+}
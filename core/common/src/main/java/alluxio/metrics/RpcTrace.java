@@ -0,0 +1,122 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The time spent by the RPC served by the current thread, broken down by {@link Phase}. A trace is
+ * started when the RPC starts and stopped when it completes. In between, code entering one of the
+ * phases records the time spent in it with {@link #record(Phase, long)}, which is a noop if the
+ * current thread is not serving an RPC.
+ */
+@NotThreadSafe
+public final class RpcTrace {
+  private static final ThreadLocal<RpcTrace> CURRENT = new ThreadLocal<>();
+
+  /**
+   * The phases of an RPC which are timed separately.
+   */
+  public enum Phase {
+    /** Waiting for and acquiring inode locks. */
+    INODE_LOCK("InodeLock"),
+    /** Calls to the under file system. */
+    UFS("Ufs"),
+    /** Waiting for journal entries to be flushed. */
+    JOURNAL_FLUSH("JournalFlush"),
+    ;
+
+    private final String mName;
+
+    Phase(String name) {
+      mName = name;
+    }
+
+    /**
+     * @return the name of the phase, used in metric names
+     */
+    public String getName() {
+      return mName;
+    }
+  }
+
+  /** The trace of the RPC this RPC is nested in, restored when this trace is stopped. */
+  private final RpcTrace mParent;
+  private final long mStartTimeMs;
+  private final long mStartTimeNanos;
+  private final long[] mPhaseNanos = new long[Phase.values().length];
+  private long mDurationNanos = -1;
+
+  private RpcTrace(RpcTrace parent) {
+    mParent = parent;
+    mStartTimeMs = System.currentTimeMillis();
+    mStartTimeNanos = System.nanoTime();
+  }
+
+  /**
+   * Starts a trace for the RPC served by the current thread.
+   *
+   * @return the trace
+   */
+  public static RpcTrace start() {
+    RpcTrace trace = new RpcTrace(CURRENT.get());
+    CURRENT.set(trace);
+    return trace;
+  }
+
+  /**
+   * Records the time spent in a phase by the RPC served by the current thread, if any.
+   *
+   * @param phase the phase
+   * @param startTimeNanos the {@link System#nanoTime()} when the phase was entered
+   */
+  public static void record(Phase phase, long startTimeNanos) {
+    RpcTrace trace = CURRENT.get();
+    if (trace != null) {
+      trace.mPhaseNanos[phase.ordinal()] += System.nanoTime() - startTimeNanos;
+    }
+  }
+
+  /**
+   * Stops this trace. It must be called by the thread which started the trace.
+   */
+  public void stop() {
+    mDurationNanos = System.nanoTime() - mStartTimeNanos;
+    if (mParent == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(mParent);
+    }
+  }
+
+  /**
+   * @return the wall clock time in milliseconds when the trace was started
+   */
+  public long getStartTimeMs() {
+    return mStartTimeMs;
+  }
+
+  /**
+   * @return the duration of the RPC in nanoseconds, or -1 if the trace has not been stopped
+   */
+  public long getDurationNanos() {
+    return mDurationNanos;
+  }
+
+  /**
+   * @param phase the phase
+   * @return the time spent in the phase in nanoseconds
+   */
+  public long getPhaseNanos(Phase phase) {
+    return mPhaseNanos[phase.ordinal()];
+  }
+}
@@ -122,7 +122,6 @@ public final class NettyChannelPool extends DynamicResourcePool<Channel> {
 
   @Override
   protected boolean shouldGc(ResourceInternal<Channel> channelResourceInternal) {
-    return System.currentTimeMillis() - channelResourceInternal
-        .getLastAccessTimeMs() > mGcThresholdMs;
+    return mClock.millis() - channelResourceInternal.getLastAccessTimeMs() > mGcThresholdMs;
   }
 }
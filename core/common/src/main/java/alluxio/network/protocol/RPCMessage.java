@@ -57,6 +57,9 @@ public abstract class RPCMessage implements EncodedMessage {
     RPC_LOCAL_BLOCK_CREATE_RESPONSE(109),
     RPC_LOCAL_BLOCK_COMPLETE_REQUEST(110),
     RPC_READ_RESPONSE(111),
+    RPC_LOCAL_BLOCK_LEASE_REQUEST(112),
+    RPC_LOCAL_BLOCK_LEASE_RESPONSE(113),
+    RPC_LOCAL_BLOCK_LEASE_RELEASE_REQUEST(114),
 
     RPC_UNKNOWN(1000),
     ;
@@ -144,6 +147,12 @@ public abstract class RPCMessage implements EncodedMessage {
           return RPC_LOCAL_BLOCK_COMPLETE_REQUEST;
         case 111:
           return RPC_READ_RESPONSE;
+        case 112:
+          return RPC_LOCAL_BLOCK_LEASE_REQUEST;
+        case 113:
+          return RPC_LOCAL_BLOCK_LEASE_RESPONSE;
+        case 114:
+          return RPC_LOCAL_BLOCK_LEASE_RELEASE_REQUEST;
         default:
           throw new IllegalArgumentException("Unknown RPCMessage type id. id: " + id);
       }
@@ -259,6 +268,15 @@ public abstract class RPCMessage implements EncodedMessage {
       case RPC_READ_RESPONSE:
         return RPCProtoMessage
             .decode(in, new ProtoMessage(Protocol.ReadResponse.getDefaultInstance()));
+      case RPC_LOCAL_BLOCK_LEASE_REQUEST:
+        return RPCProtoMessage
+            .decode(in, new ProtoMessage(Protocol.LocalBlockLeaseRequest.getDefaultInstance()));
+      case RPC_LOCAL_BLOCK_LEASE_RESPONSE:
+        return RPCProtoMessage
+            .decode(in, new ProtoMessage(Protocol.LocalBlockLeaseResponse.getDefaultInstance()));
+      case RPC_LOCAL_BLOCK_LEASE_RELEASE_REQUEST:
+        return RPCProtoMessage.decode(in,
+            new ProtoMessage(Protocol.LocalBlockLeaseReleaseRequest.getDefaultInstance()));
       default:
         throw new IllegalArgumentException("Unknown RPCMessage type. type: " + type);
     }
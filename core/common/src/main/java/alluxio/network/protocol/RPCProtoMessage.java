@@ -47,6 +47,9 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public final class RPCProtoMessage extends RPCMessage {
+  /** The stream id of the messages which are not sent on a multiplexed stream. */
+  public static final long NO_STREAM = 0;
+
   private final ProtoMessage mMessage;
   private final byte[] mMessageEncoded;
   private final DataBuffer mData;
@@ -158,6 +161,12 @@ public final class RPCProtoMessage extends RPCMessage {
       return Type.RPC_HEARTBEAT;
     } else if (mMessage.isReadResponse()) {
       return Type.RPC_READ_RESPONSE;
+    } else if (mMessage.isLocalBlockLeaseRequest()) {
+      return Type.RPC_LOCAL_BLOCK_LEASE_REQUEST;
+    } else if (mMessage.isLocalBlockLeaseResponse()) {
+      return Type.RPC_LOCAL_BLOCK_LEASE_RESPONSE;
+    } else if (mMessage.isLocalBlockLeaseReleaseRequest()) {
+      return Type.RPC_LOCAL_BLOCK_LEASE_RELEASE_REQUEST;
     } else {
       return RPCMessage.Type.RPC_UNKNOWN;
     }
@@ -184,6 +193,60 @@ public final class RPCProtoMessage extends RPCMessage {
     return mMessage;
   }
 
+  /**
+   * @return the id of the multiplexed stream of the message, or {@link #NO_STREAM} if the message
+   *         is not sent on a multiplexed stream
+   */
+  public long getStreamId() {
+    if (mMessage.isReadRequest()) {
+      return mMessage.asReadRequest().getStreamId();
+    } else if (mMessage.isWriteRequest()) {
+      return mMessage.asWriteRequest().getStreamId();
+    } else if (mMessage.isResponse()) {
+      return mMessage.asResponse().getStreamId();
+    } else if (mMessage.isReadResponse()) {
+      return mMessage.asReadResponse().getStreamId();
+    }
+    return NO_STREAM;
+  }
+
+  /**
+   * Tags a response with the id of the multiplexed stream it is sent on. The data buffer is
+   * shared with the returned message.
+   *
+   * @param streamId the id of the stream, this message is returned as is if it is
+   *        {@link #NO_STREAM}
+   * @return the tagged message
+   */
+  public RPCProtoMessage withStreamId(long streamId) {
+    if (streamId == NO_STREAM) {
+      return this;
+    }
+    ProtoMessage message;
+    if (mMessage.isResponse()) {
+      message = new ProtoMessage(mMessage.asResponse().toBuilder().setStreamId(streamId).build());
+    } else {
+      Preconditions.checkState(mMessage.isReadResponse(), "Only responses have a stream id: %s",
+          mMessage);
+      message =
+          new ProtoMessage(mMessage.asReadResponse().toBuilder().setStreamId(streamId).build());
+    }
+    return new RPCProtoMessage(message, mData);
+  }
+
+  /**
+   * Creates a response which acknowledges the packets written to a multiplexed stream.
+   *
+   * @param streamId the id of the stream
+   * @param credits the number of packets acknowledged
+   * @return the created {@link RPCProtoMessage}
+   */
+  public static RPCProtoMessage createCreditResponse(long streamId, int credits) {
+    Response response = Protocol.Response.newBuilder().setStatus(Status.toProto(Status.OK))
+        .setStreamId(streamId).setCredits(credits).build();
+    return new RPCProtoMessage(new ProtoMessage(response));
+  }
+
   /**
    * Creates a response for a given {@link AlluxioStatusException}.
    *
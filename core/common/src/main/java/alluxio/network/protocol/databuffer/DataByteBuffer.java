@@ -60,6 +60,14 @@ public final class DataByteBuffer implements DataBuffer {
     mBuffer.get(dst, dstIndex, length);
   }
 
+  @Override
+  public void readBytes(ByteBuffer dst) {
+    ByteBuffer src = mBuffer.duplicate();
+    src.limit(src.position() + dst.remaining());
+    dst.put(src);
+    mBuffer.position(src.position());
+  }
+
   @Override
   public int readableBytes() {
     return mBuffer.remaining();
@@ -57,6 +57,11 @@ public final class DataNettyBufferV2 implements DataBuffer {
     mNettyBuf.readBytes(dst, dstIndex, length);
   }
 
+  @Override
+  public void readBytes(ByteBuffer dst) {
+    mNettyBuf.readBytes(dst);
+  }
+
   @Override
   public int readableBytes() {
     return mNettyBuf.readableBytes();
@@ -0,0 +1,561 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.metrics.MetricsSystem;
+import alluxio.security.User;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.util.SecurityUtils;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TNonblockingSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A Thrift server which watches all client connections with a single selector thread and hands a
+ * connection to a bounded executor only when a request is ready to be read from it. Unlike
+ * {@link org.apache.thrift.server.TThreadPoolServer}, an idle connection does not occupy a thread,
+ * so the number of concurrent client connections is not capped by the number of threads.
+ *
+ * Unlike {@link org.apache.thrift.server.THsHaServer}, requests are read and written by the
+ * executor threads through the regular {@link org.apache.thrift.transport.TTransportFactory}, so
+ * that the SASL transports returned by
+ * {@link alluxio.security.authentication.TransportProvider#getServerTransportFactory} can be used
+ * unchanged. The authentication handshake of a connection happens on the executor thread which
+ * serves its first request, and the authenticated user is restored in
+ * {@link AuthenticatedClientUser} before every later request on that connection.
+ *
+ * The time a request spends between becoming readable and being picked up by an executor thread
+ * is recorded in a timer per Thrift service.
+ */
+@ThreadSafe
+public final class SelectorThriftServer extends TServer {
+  private static final Logger LOG = LoggerFactory.getLogger(SelectorThriftServer.class);
+
+  /** The name of the timer for the queue time of the requests to a service. */
+  private static final String QUEUE_TIME_METRIC_FORMAT = "RpcQueueTime.%s";
+
+  private final TNonblockingServerTransport mServerTransport;
+  private final int mStopTimeoutSeconds;
+  private final String mMetricsInstance;
+  private final ThreadPoolExecutor mExecutor;
+  /** Connections which finished a request and wait to be registered with the selector again. */
+  private final Queue<Connection> mPendingConnections = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger mNumConnections = new AtomicInteger();
+  private final ConcurrentMap<String, Timer> mQueueTimers = new ConcurrentHashMap<>();
+  private final Counter mRejectedConnections;
+  private final CountDownLatch mStoppedLatch = new CountDownLatch(1);
+
+  private volatile Selector mSelector;
+
+  /**
+   * Arguments for the {@link SelectorThriftServer}.
+   */
+  public static final class Args extends AbstractServerArgs<Args> {
+    private int mExecutorThreads = 256;
+    private int mExecutorQueueSize = 10000;
+    private int mStopTimeoutSeconds = 60;
+    private String mMetricsInstance = MetricsSystem.MASTER_INSTANCE;
+    private String mName = "rpc";
+
+    /**
+     * @param transport the non-blocking server transport to accept connections from
+     */
+    public Args(TNonblockingServerTransport transport) {
+      super(transport);
+    }
+
+    /**
+     * @param executorThreads the number of threads processing requests
+     * @return the updated args
+     */
+    public Args executorThreads(int executorThreads) {
+      mExecutorThreads = executorThreads;
+      return this;
+    }
+
+    /**
+     * @param executorQueueSize the maximum number of ready requests waiting for a thread
+     * @return the updated args
+     */
+    public Args executorQueueSize(int executorQueueSize) {
+      mExecutorQueueSize = executorQueueSize;
+      return this;
+    }
+
+    /**
+     * @param stopTimeoutSeconds the time to wait for in-flight requests when stopping
+     * @return the updated args
+     */
+    public Args stopTimeoutSeconds(int stopTimeoutSeconds) {
+      mStopTimeoutSeconds = stopTimeoutSeconds;
+      return this;
+    }
+
+    /**
+     * @param metricsInstance the metrics instance the server metrics are reported under, either
+     *        {@link MetricsSystem#MASTER_INSTANCE} or {@link MetricsSystem#WORKER_INSTANCE}
+     * @return the updated args
+     */
+    public Args metricsInstance(String metricsInstance) {
+      mMetricsInstance = metricsInstance;
+      return this;
+    }
+
+    /**
+     * @param name the name of the server, used to name its threads
+     * @return the updated args
+     */
+    public Args name(String name) {
+      mName = name;
+      return this;
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link SelectorThriftServer}.
+   *
+   * @param args the server arguments
+   */
+  public SelectorThriftServer(Args args) {
+    super(args);
+    Preconditions.checkArgument(args.mExecutorThreads > 0, "executor threads must be positive");
+    Preconditions.checkArgument(args.mExecutorQueueSize > 0,
+        "executor queue size must be positive");
+    mServerTransport = (TNonblockingServerTransport) serverTransport_;
+    mStopTimeoutSeconds = args.mStopTimeoutSeconds;
+    mMetricsInstance = args.mMetricsInstance;
+    mExecutor = new ThreadPoolExecutor(args.mExecutorThreads, args.mExecutorThreads, 60,
+        TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(args.mExecutorQueueSize),
+        ThreadFactoryUtils.build(args.mName + "-executor-%d", true), new BlockingPolicy());
+    mExecutor.allowCoreThreadTimeOut(true);
+    mRejectedConnections = MetricsSystem.METRIC_REGISTRY.counter(getMetricName("RpcRejected"));
+    // A restarted server replaces the gauges of the previous one.
+    registerGauge(getMetricName("RpcConnections"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return mNumConnections.get();
+      }
+    });
+    registerGauge(getMetricName("RpcQueueSize"), new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return mExecutor.getQueue().size();
+      }
+    });
+  }
+
+  @Override
+  public void serve() {
+    try {
+      mServerTransport.listen();
+      mSelector = Selector.open();
+      mServerTransport.registerSelector(mSelector);
+    } catch (TTransportException | IOException e) {
+      LOG.error("Failed to start listening for RPC connections", e);
+      mStoppedLatch.countDown();
+      return;
+    }
+    stopped_ = false;
+    setServing(true);
+    try {
+      List<Connection> readyConnections = new ArrayList<>();
+      while (!stopped_) {
+        if (mSelector.selectedKeys().isEmpty()) {
+          mSelector.select();
+        } else {
+          mSelector.selectNow();
+        }
+        processSelectedKeys(readyConnections);
+        // A channel can only be switched to blocking mode once its cancelled key has been removed
+        // from the selector, which happens during the next selection operation.
+        mSelector.selectNow();
+        for (Connection connection : readyConnections) {
+          dispatch(connection);
+        }
+        readyConnections.clear();
+        registerPendingConnections();
+      }
+    } catch (IOException e) {
+      LOG.error("RPC selector thread failed", e);
+    } finally {
+      shutdown();
+    }
+  }
+
+  @Override
+  public void stop() {
+    stopped_ = true;
+    Selector selector = mSelector;
+    if (selector != null) {
+      selector.wakeup();
+      try {
+        mStoppedLatch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Accepts new connections and collects the connections which have a request ready to be read.
+   * The keys of the ready connections are cancelled so that the selector does not watch them while
+   * an executor thread serves them.
+   *
+   * @param readyConnections the list to add the ready connections to
+   */
+  private void processSelectedKeys(List<Connection> readyConnections) {
+    Iterator<SelectionKey> iterator = mSelector.selectedKeys().iterator();
+    while (iterator.hasNext()) {
+      SelectionKey key = iterator.next();
+      iterator.remove();
+      if (!key.isValid()) {
+        continue;
+      }
+      if (key.isAcceptable()) {
+        accept();
+      } else if (key.isReadable()) {
+        Connection connection = (Connection) key.attachment();
+        key.cancel();
+        connection.mReadyTimeNanos = System.nanoTime();
+        readyConnections.add(connection);
+      }
+    }
+  }
+
+  /**
+   * Accepts all pending client connections.
+   */
+  private void accept() {
+    while (true) {
+      TNonblockingSocket socket;
+      try {
+        socket = (TNonblockingSocket) mServerTransport.accept();
+      } catch (TTransportException e) {
+        LOG.warn("Failed to accept RPC connection: {}", e.getMessage());
+        return;
+      }
+      if (socket == null) {
+        return;
+      }
+      Connection connection = new Connection(socket.getSocketChannel());
+      mNumConnections.incrementAndGet();
+      try {
+        connection.mChannel.register(mSelector, SelectionKey.OP_READ, connection);
+      } catch (ClosedChannelException e) {
+        connection.close();
+      }
+    }
+  }
+
+  /**
+   * Hands a ready connection to the executor.
+   *
+   * @param connection the connection with a request ready to be read
+   */
+  private void dispatch(Connection connection) {
+    try {
+      mExecutor.execute(connection);
+    } catch (RejectedExecutionException e) {
+      LOG.warn("Failed to schedule RPC request from {}: {}", connection, e.getMessage());
+      mRejectedConnections.inc();
+      connection.close();
+    }
+  }
+
+  /**
+   * Registers the connections which have finished their requests with the selector again.
+   */
+  private void registerPendingConnections() {
+    Connection connection;
+    while ((connection = mPendingConnections.poll()) != null) {
+      try {
+        connection.mChannel.configureBlocking(false);
+        connection.mChannel.register(mSelector, SelectionKey.OP_READ, connection);
+      } catch (IOException e) {
+        LOG.debug("Failed to register RPC connection {} with the selector", connection, e);
+        connection.close();
+      }
+    }
+  }
+
+  /**
+   * Closes the listening socket and all idle connections, and waits for in-flight requests.
+   */
+  private void shutdown() {
+    setServing(false);
+    mServerTransport.close();
+    mExecutor.shutdown();
+    try {
+      if (!mExecutor.awaitTermination(mStopTimeoutSeconds, TimeUnit.SECONDS)) {
+        mExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      mExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    try {
+      for (SelectionKey key : mSelector.keys()) {
+        if (key.attachment() instanceof Connection) {
+          ((Connection) key.attachment()).close();
+        }
+      }
+      Connection connection;
+      while ((connection = mPendingConnections.poll()) != null) {
+        connection.close();
+      }
+      mSelector.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the RPC selector: {}", e.getMessage());
+    } finally {
+      mStoppedLatch.countDown();
+    }
+  }
+
+  /**
+   * @param name the name of a server metric
+   * @return the name of the metric in the metrics registry
+   */
+  private String getMetricName(String name) {
+    if (mMetricsInstance.equals(MetricsSystem.MASTER_INSTANCE)) {
+      return MetricsSystem.getMasterMetricName(name);
+    }
+    return MetricsSystem.getMetricNameWithUniqueId(mMetricsInstance, name);
+  }
+
+  /**
+   * Registers a gauge, replacing any gauge registered under the same name.
+   *
+   * @param name the gauge name
+   * @param gauge the gauge
+   */
+  private static synchronized void registerGauge(String name, Gauge<Integer> gauge) {
+    MetricsSystem.METRIC_REGISTRY.remove(name);
+    MetricsSystem.METRIC_REGISTRY.register(name, gauge);
+  }
+
+  /**
+   * @param serviceName the name of a Thrift service
+   * @return the timer recording the queue time of the requests to the service
+   */
+  private Timer getQueueTimer(String serviceName) {
+    Timer timer = mQueueTimers.get(serviceName);
+    if (timer == null) {
+      timer = MetricsSystem.METRIC_REGISTRY
+          .timer(getMetricName(String.format(QUEUE_TIME_METRIC_FORMAT, serviceName)));
+      mQueueTimers.putIfAbsent(serviceName, timer);
+    }
+    return timer;
+  }
+
+  /**
+   * Blocks the selector thread while the executor queue is full, so that no more requests are read
+   * from the clients until the executor catches up.
+   */
+  private static final class BlockingPolicy implements RejectedExecutionHandler {
+    /**
+     * Creates a new instance of {@link BlockingPolicy}.
+     */
+    BlockingPolicy() {}
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      if (executor.isShutdown()) {
+        throw new RejectedExecutionException("RPC executor has been shut down");
+      }
+      try {
+        executor.getQueue().put(r);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RejectedExecutionException("Interrupted while waiting for the RPC executor");
+      }
+    }
+  }
+
+  /**
+   * A client connection. It is served by at most one executor thread at a time, and is not watched
+   * by the selector while being served.
+   */
+  private final class Connection implements Runnable {
+    private final SocketChannel mChannel;
+    /** The time the current request became readable. */
+    private volatile long mReadyTimeNanos;
+    /** The time the current request waited for an executor thread. */
+    private long mQueueTimeNanos;
+    /** The transport, created lazily by the first executor thread serving this connection. */
+    private TTransport mTransport;
+    private TProtocol mInputProtocol;
+    private TProtocol mOutputProtocol;
+    private TProcessor mProcessor;
+    /** The authenticated user of this connection, or null if authentication is not enabled. */
+    private User mUser;
+    private boolean mClosed;
+
+    /**
+     * @param channel the socket channel of the connection
+     */
+    Connection(SocketChannel channel) {
+      mChannel = channel;
+    }
+
+    @Override
+    public void run() {
+      mQueueTimeNanos = System.nanoTime() - mReadyTimeNanos;
+      try {
+        mChannel.configureBlocking(true);
+        if (mTransport == null) {
+          // The first bytes of a connection may only be the authentication handshake, the client
+          // does not send a request before the handshake completes.
+          open();
+        } else {
+          if (mUser != null) {
+            AuthenticatedClientUser.set(mUser.getName());
+          }
+          do {
+            mProcessor.process(mInputProtocol, mOutputProtocol);
+          } while (mTransport.getBytesRemainingInBuffer() > 0);
+        }
+      } catch (TTransportException e) {
+        if (e.getType() != TTransportException.END_OF_FILE) {
+          LOG.debug("RPC connection {} failed", this, e);
+        }
+        close();
+        return;
+      } catch (TException | IOException | RuntimeException e) {
+        LOG.warn("Failed to process RPC request from {}: {}", this, e.toString());
+        close();
+        return;
+      } finally {
+        AuthenticatedClientUser.remove();
+      }
+      if (stopped_) {
+        close();
+        return;
+      }
+      mPendingConnections.add(this);
+      Selector selector = mSelector;
+      if (selector != null) {
+        selector.wakeup();
+      }
+    }
+
+    /**
+     * Creates the transport of this connection, which performs the authentication handshake.
+     */
+    private void open() throws TException, IOException {
+      Socket socket = mChannel.socket();
+      // The input is not buffered, so that no bytes are left unread outside of the transport
+      // when the connection is handed back to the selector.
+      TTransport socketTransport = new TIOStreamTransport(socket.getInputStream(),
+          new BufferedOutputStream(socket.getOutputStream(), 1024));
+      mTransport = inputTransportFactory_.getTransport(socketTransport);
+      TTransport outputTransport = outputTransportFactory_.getTransport(socketTransport);
+      mInputProtocol = new QueueTimeProtocol(inputProtocolFactory_.getProtocol(mTransport), this);
+      mOutputProtocol = outputProtocolFactory_.getProtocol(outputTransport);
+      mProcessor = processorFactory_.getProcessor(mTransport);
+      if (SecurityUtils.isAuthenticationEnabled()) {
+        mUser = AuthenticatedClientUser.get();
+      }
+    }
+
+    /**
+     * Closes this connection, ignoring any error.
+     */
+    private synchronized void close() {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+      mNumConnections.decrementAndGet();
+      if (mTransport != null) {
+        mTransport.close();
+      }
+      try {
+        mChannel.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close RPC connection {}", this, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      Socket socket = mChannel.socket();
+      return socket == null ? "unknown" : String.valueOf(socket.getRemoteSocketAddress());
+    }
+  }
+
+  /**
+   * A protocol decorator recording the queue time of a request once the name of the service it is
+   * sent to has been read.
+   */
+  private final class QueueTimeProtocol extends TProtocolDecorator {
+    private final Connection mConnection;
+
+    /**
+     * @param protocol the protocol to decorate
+     * @param connection the connection the protocol reads from
+     */
+    QueueTimeProtocol(TProtocol protocol, Connection connection) {
+      super(protocol);
+      mConnection = connection;
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+      TMessage message = super.readMessageBegin();
+      int index = message.name.indexOf(TMultiplexedProtocol.SEPARATOR);
+      String serviceName = index < 0 ? "Unknown" : message.name.substring(0, index);
+      getQueueTimer(serviceName).update(mConnection.mQueueTimeNanos, TimeUnit.NANOSECONDS);
+      return message;
+    }
+  }
+}
@@ -14,6 +14,7 @@ package alluxio.resource;
 import alluxio.Constants;
 import alluxio.clock.Clock;
 import alluxio.clock.SystemClock;
+import alluxio.exception.status.CanceledException;
 
 import com.google.common.base.Preconditions;
 import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
@@ -21,26 +22,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A dynamic pool that manages the resources. It clears old resources.
+ * A dynamic pool that manages the resources. It clears old and unhealthy resources.
  * It accepts a min and max capacity.
  *
- * When acquiring resources, the most recently used resource is returned.
+ * When acquiring resources, the most recently used resource is returned. Acquiring and releasing
+ * resources are lock-free unless the pool is full and threads wait for resources to be released.
  *
  * @param <T> the type of the resource
  */
@@ -58,7 +59,7 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
     private R mResource;
 
     /** The last access time in ms. */
-    private long mLastAccessTimeMs;
+    private volatile long mLastAccessTimeMs;
 
     /**
      * @param lastAccessTimeMs the last access time in ms
@@ -199,9 +200,16 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
     }
   }
 
+  /**
+   * Guards waiting for a resource when the pool is full. Acquiring and releasing resources do not
+   * take the lock unless there are waiting threads.
+   */
   private final ReentrantLock mLock = new ReentrantLock();
   private final Condition mNotEmpty = mLock.newCondition();
 
+  /** The number of threads waiting for a resource to be released. */
+  private final AtomicInteger mWaiters = new AtomicInteger();
+
   /** The max capacity. */
   private final int mMaxCapacity;
 
@@ -212,17 +220,19 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
   // the most recently used resource).
   // These are the resources that acquire() will take.
   // This is always a subset of the other data structure mResources.
-  @GuardedBy("mLock")
-  private final Deque<ResourceInternal<T>> mAvailableResources;
+  private final ConcurrentLinkedDeque<ResourceInternal<T>> mAvailableResources =
+      new ConcurrentLinkedDeque<>();
 
   // Tracks all the resources that are not closed.
-  // put/delete operations are guarded by "mLock" so that we can control its size to be within
-  // a [min, max] range. mLock is reused for simplicity. A separate lock can be used if we see
-  // any performance overhead.
   private final ConcurrentHashMapV8<T, ResourceInternal<T>> mResources =
       new ConcurrentHashMapV8<>(32);
 
-  // Thread to scan mAvailableResources to close those resources that are old.
+  // The number of resources that are not closed, including the ones being created. A slot is
+  // reserved with compare-and-set before a resource is created, so that the size is kept within
+  // the [min, max] range without locking.
+  private final AtomicInteger mSize = new AtomicInteger();
+
+  // Thread to scan mAvailableResources to close those resources that are old or unhealthy.
   private ScheduledExecutorService mExecutor;
   private ScheduledFuture<?> mGcFuture;
 
@@ -238,34 +248,26 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
 
     mMaxCapacity = options.getMaxCapacity();
     mMinCapacity = options.getMinCapacity();
-    mAvailableResources = new ArrayDeque<>(Math.min(mMaxCapacity, 32));
 
     mGcFuture = mExecutor.scheduleAtFixedRate(new Runnable() {
       @Override
       public void run() {
         List<T> resourcesToGc = new ArrayList<T>();
 
-        try {
-          mLock.lock();
-          if (mResources.size() <= mMinCapacity) {
-            return;
+        // Scan from the least recently used resource. Unhealthy resources (e.g. channels closed
+        // by the server while idle) are removed even if the pool is at its min capacity.
+        Iterator<ResourceInternal<T>> iterator = mAvailableResources.descendingIterator();
+        while (iterator.hasNext()) {
+          ResourceInternal<T> next = iterator.next();
+          if (isHealthy(next.mResource)
+              && (mSize.get() <= mMinCapacity || !shouldGc(next))) {
+            continue;
           }
-          int currentSize = mResources.size();
-          Iterator<ResourceInternal<T>> iterator = mAvailableResources.iterator();
-          while (iterator.hasNext()) {
-            ResourceInternal<T> next = iterator.next();
-            if (shouldGc(next)) {
-              resourcesToGc.add(next.mResource);
-              iterator.remove();
-              mResources.remove(next.mResource);
-              currentSize--;
-              if (currentSize <= mMinCapacity) {
-                break;
-              }
-            }
+          // The resource may have been acquired since it was seen by the iterator.
+          if (mAvailableResources.removeFirstOccurrence(next)) {
+            remove(next.mResource);
+            resourcesToGc.add(next.mResource);
           }
-        } finally {
-          mLock.unlock();
         }
 
         for (T resource : resourcesToGc) {
@@ -306,47 +308,36 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
   public T acquire(long time, TimeUnit unit) throws TimeoutException, IOException {
     long endTimeMs = mClock.millis() + unit.toMillis(time);
 
-    // Try to take a resource without blocking
-    ResourceInternal<T> resource = poll();
-    if (resource != null) {
-      return checkHealthyAndRetry(resource.mResource, endTimeMs);
-    }
-
-    if (!isFull()) {
-      // If the resource pool is empty but capacity is not yet full, create a new resource.
-      T newResource = createNewResource();
-      ResourceInternal<T> resourceInternal = new ResourceInternal<>(newResource);
-      if (add(resourceInternal)) {
-        return newResource;
-      } else {
-        closeResource(newResource);
+    while (true) {
+      // Try to take a resource without blocking
+      ResourceInternal<T> resource = mAvailableResources.pollFirst();
+      if (resource != null) {
+        if (isHealthy(resource.mResource)) {
+          return resource.mResource;
+        }
+        LOG.info("Clearing unhealthy resource {}.", resource.mResource);
+        remove(resource.mResource);
+        closeResource(resource.mResource);
+        continue;
       }
-    }
 
-    // Otherwise, try to take a resource from the pool, blocking if none are available.
-    try {
-      mLock.lock();
-      while (true) {
-        resource = poll();
-        if (resource != null) {
-          break;
-        }
-        long currTimeMs = mClock.millis();
+      if (reserve()) {
+        // If the resource pool is empty but capacity is not yet full, create a new resource.
+        T newResource;
         try {
-          if (currTimeMs >= endTimeMs || !mNotEmpty
-              .await(endTimeMs - currTimeMs, TimeUnit.MILLISECONDS)) {
-            throw new TimeoutException("Acquire resource times out.");
-          }
-        } catch (InterruptedException e) {
-          // Restore the interrupt flag so that it can be handled later.
-          Thread.currentThread().interrupt();
+          newResource = createNewResource();
+        } catch (IOException | RuntimeException e) {
+          mSize.decrementAndGet();
+          signalWaiters();
+          throw e;
         }
+        mResources.put(newResource, new ResourceInternal<>(newResource));
+        return newResource;
       }
-    } finally {
-      mLock.unlock();
-    }
 
-    return checkHealthyAndRetry(resource.mResource, endTimeMs);
+      // Otherwise, wait until a resource is released or the capacity is freed.
+      await(endTimeMs);
+    }
   }
 
   /**
@@ -360,21 +351,16 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
    */
   @Override
   public void release(T resource) {
-    // We don't need to acquire mLock here because the resource is guaranteed not to be removed
-    // if it is not available (i.e. not in mAvailableResources list).
-    if (!mResources.containsKey(resource)) {
+    // The resource is guaranteed not to be removed if it is not available (i.e. not in
+    // mAvailableResources list).
+    ResourceInternal<T> resourceInternal = mResources.get(resource);
+    if (resourceInternal == null) {
       throw new IllegalArgumentException(
           "Resource " + resource.toString() + " was not acquired from this resource pool.");
     }
-    ResourceInternal<T> resourceInternal = mResources.get(resource);
     resourceInternal.setLastAccessTimeMs(mClock.millis());
-    try {
-      mLock.lock();
-      mAvailableResources.addFirst(resourceInternal);
-      mNotEmpty.signal();
-    } finally {
-      mLock.unlock();
-    }
+    mAvailableResources.addFirst(resourceInternal);
+    signalWaiters();
   }
 
   /**
@@ -382,18 +368,14 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
    */
   @Override
   public void close() {
-    try {
-      mLock.lock();
-      if (mAvailableResources.size() != mResources.size()) {
-        LOG.warn("{} resources are not released when closing the resource pool.",
-            mResources.size() - mAvailableResources.size());
-      }
-      for (ResourceInternal<T> resourceInternal : mAvailableResources) {
-        closeResource(resourceInternal.mResource);
-      }
-      mAvailableResources.clear();
-    } finally {
-      mLock.unlock();
+    ResourceInternal<T> resourceInternal;
+    while ((resourceInternal = mAvailableResources.pollFirst()) != null) {
+      remove(resourceInternal.mResource);
+      closeResource(resourceInternal.mResource);
+    }
+    if (!mResources.isEmpty()) {
+      LOG.warn("{} resources are not released when closing the resource pool.",
+          mResources.size());
     }
     mGcFuture.cancel(true);
   }
@@ -404,75 +386,68 @@ public abstract class DynamicResourcePool<T> implements Pool<T> {
   }
 
   /**
-   * @return true if the pool is full
-   */
-  private boolean isFull() {
-    return mResources.size() >= mMaxCapacity;
-  }
-
-  /**
-   * Adds a newly created resource to the pool. The resource is not available when it is added.
+   * Reserves the capacity for a new resource.
    *
-   * @param resource
-   * @return true if the resource is successfully added
+   * @return true if the pool is not full and the capacity is reserved
    */
-  private boolean add(ResourceInternal<T> resource) {
-    try {
-      mLock.lock();
-      if (mResources.size() >= mMaxCapacity) {
+  private boolean reserve() {
+    while (true) {
+      int size = mSize.get();
+      if (size >= mMaxCapacity) {
         return false;
-      } else {
-        mResources.put(resource.mResource, resource);
+      }
+      if (mSize.compareAndSet(size, size + 1)) {
         return true;
       }
-    } finally {
-      mLock.unlock();
     }
   }
 
   /**
-   * Removes an existing resource from the pool.
+   * Removes an existing resource from the pool, freeing its capacity.
    *
-   * @param resource
+   * @param resource the resource to remove
    */
   private void remove(T resource) {
-    try {
-      mLock.lock();
-      mResources.remove(resource);
-    } finally {
-      mLock.unlock();
+    if (mResources.remove(resource) != null) {
+      mSize.decrementAndGet();
+      signalWaiters();
     }
   }
 
   /**
-   * @return the most recently used resource and null if there are no free resources
+   * Waits until a resource is available or the pool is not full.
+   *
+   * @param endTimeMs the end time to wait till
+   * @throws TimeoutException if it times out to wait for a resource
    */
-  private ResourceInternal<T> poll() {
-    try {
-      mLock.lock();
-      return mAvailableResources.pollFirst();
+  private void await(long endTimeMs) throws TimeoutException, IOException {
+    // A waiter is counted before it checks the pool, and a releaser checks the waiters after it
+    // changes the pool, so that either the waiter sees the change or it is signaled.
+    mWaiters.incrementAndGet();
+    try (LockResource r = new LockResource(mLock)) {
+      while (mAvailableResources.isEmpty() && mSize.get() >= mMaxCapacity) {
+        long currTimeMs = mClock.millis();
+        if (currTimeMs >= endTimeMs || !mNotEmpty
+            .await(endTimeMs - currTimeMs, TimeUnit.MILLISECONDS)) {
+          throw new TimeoutException("Acquire resource times out.");
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CanceledException(e);
     } finally {
-      mLock.unlock();
+      mWaiters.decrementAndGet();
     }
   }
 
   /**
-   * Check whether the resource is healthy. If not retry. When this called, the resource
-   * is not in mAvailableResources.
-   *
-   * @param resource the resource to check
-   * @param endTimeMs the end time to wait till
-   * @return the resource
-   * @throws TimeoutException if it times out to wait for a resource
+   * Wakes up a thread waiting for a resource, if there is any.
    */
-  private T checkHealthyAndRetry(T resource, long endTimeMs) throws TimeoutException, IOException {
-    if (isHealthy(resource)) {
-      return resource;
-    } else {
-      LOG.info("Clearing unhealthy resource {}.", resource);
-      remove(resource);
-      closeResource(resource);
-      return acquire(endTimeMs - mClock.millis(), TimeUnit.MILLISECONDS);
+  private void signalWaiters() {
+    if (mWaiters.get() > 0) {
+      try (LockResource r = new LockResource(mLock)) {
+        mNotEmpty.signal();
+      }
     }
   }
 
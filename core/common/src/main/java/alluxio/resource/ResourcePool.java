@@ -35,6 +35,8 @@ public abstract class ResourcePool<T> implements Pool<T> {
   private static final long WAIT_INDEFINITELY = -1;
   private final ReentrantLock mTakeLock;
   private final Condition mNotEmpty;
+  /** The number of threads waiting for a resource to be released. */
+  private final AtomicInteger mWaiters;
   protected final int mMaxCapacity;
   protected final ConcurrentLinkedQueue<T> mResources;
   /** It represents the total number of resources that have been created by this pool. */
@@ -58,6 +60,7 @@ public abstract class ResourcePool<T> implements Pool<T> {
   protected ResourcePool(int maxCapacity, ConcurrentLinkedQueue<T> resources) {
     mTakeLock = new ReentrantLock();
     mNotEmpty = mTakeLock.newCondition();
+    mWaiters = new AtomicInteger();
     mMaxCapacity = maxCapacity;
     mCurrentCapacity = new AtomicInteger();
     mResources = resources;
@@ -107,7 +110,10 @@ public abstract class ResourcePool<T> implements Pool<T> {
     }
 
     mCurrentCapacity.decrementAndGet();
-    // Otherwise, try to take a resource from the pool, blocking if none are available.
+    // Otherwise, try to take a resource from the pool, blocking if none are available. A waiter is
+    // counted before it polls the pool, and a releaser checks the waiters after it adds to the
+    // pool, so that either the waiter sees the resource or it is signaled.
+    mWaiters.incrementAndGet();
     try {
       mTakeLock.lockInterruptibly();
       try {
@@ -133,6 +139,8 @@ public abstract class ResourcePool<T> implements Pool<T> {
       }
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
+    } finally {
+      mWaiters.decrementAndGet();
     }
   }
 
@@ -153,8 +161,10 @@ public abstract class ResourcePool<T> implements Pool<T> {
   public void release(T resource) {
     if (resource != null) {
       mResources.add(resource);
-      try (LockResource r = new LockResource(mTakeLock)) {
-        mNotEmpty.signal();
+      if (mWaiters.get() > 0) {
+        try (LockResource r = new LockResource(mTakeLock)) {
+          mNotEmpty.signal();
+        }
       }
     }
   }
@@ -27,7 +27,9 @@ import javax.annotation.concurrent.ThreadSafe;
  * {@link org.apache.thrift.server.TThreadPoolServer} allocates a thread to serve a connection
  * from client side and take back it when connection is closed. During the thread alive cycle,
  * all the RPC happens in this thread. These RPC methods implemented in server side could
- * get the client user by this class.
+ * get the client user by this class. {@link alluxio.network.thrift.SelectorThriftServer} serves
+ * the requests of a connection with different threads, and sets the client user of the connection
+ * before each request.
  */
 @ThreadSafe
 public final class AuthenticatedClientUser {
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHeartbeatTOptions, BlockHeartbeatTOptions._Fields>, java.io.Serializable, Cloneable, Comparable<BlockHeartbeatTOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("BlockHeartbeatTOptions");
 
+  private static final org.apache.thrift.protocol.TField BLOCK_READ_COUNTS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockReadCounts", org.apache.thrift.protocol.TType.MAP, (short)1);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,10 +46,11 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     schemes.put(TupleScheme.class, new BlockHeartbeatTOptionsTupleSchemeFactory());
   }
 
+  private Map<Long,Long> blockReadCounts; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+    BLOCK_READ_COUNTS((short)1, "blockReadCounts");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -63,6 +65,8 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
      */
     public static _Fields findByThriftId(int fieldId) {
       switch(fieldId) {
+        case 1: // BLOCK_READ_COUNTS
+          return BLOCK_READ_COUNTS;
         default:
           return null;
       }
@@ -101,9 +105,16 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
       return _fieldName;
     }
   }
+
+  // isset id assignments
+  private static final _Fields optionals[] = {_Fields.BLOCK_READ_COUNTS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.BLOCK_READ_COUNTS, new org.apache.thrift.meta_data.FieldMetaData("blockReadCounts", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(BlockHeartbeatTOptions.class, metaDataMap);
   }
@@ -115,6 +126,10 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
    * Performs a deep copy on <i>other</i>.
    */
   public BlockHeartbeatTOptions(BlockHeartbeatTOptions other) {
+    if (other.isSetBlockReadCounts()) {
+      Map<Long,Long> __this__blockReadCounts = new HashMap<Long,Long>(other.blockReadCounts);
+      this.blockReadCounts = __this__blockReadCounts;
+    }
   }
 
   public BlockHeartbeatTOptions deepCopy() {
@@ -123,15 +138,62 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
 
   @Override
   public void clear() {
+    this.blockReadCounts = null;
+  }
+
+  public int getBlockReadCountsSize() {
+    return (this.blockReadCounts == null) ? 0 : this.blockReadCounts.size();
+  }
+
+  public void putToBlockReadCounts(long key, long val) {
+    if (this.blockReadCounts == null) {
+      this.blockReadCounts = new HashMap<Long,Long>();
+    }
+    this.blockReadCounts.put(key, val);
+  }
+
+  public Map<Long,Long> getBlockReadCounts() {
+    return this.blockReadCounts;
+  }
+
+  public BlockHeartbeatTOptions setBlockReadCounts(Map<Long,Long> blockReadCounts) {
+    this.blockReadCounts = blockReadCounts;
+    return this;
+  }
+
+  public void unsetBlockReadCounts() {
+    this.blockReadCounts = null;
+  }
+
+  /** Returns true if field blockReadCounts is set (has been assigned a value) and false otherwise */
+  public boolean isSetBlockReadCounts() {
+    return this.blockReadCounts != null;
+  }
+
+  public void setBlockReadCountsIsSet(boolean value) {
+    if (!value) {
+      this.blockReadCounts = null;
+    }
   }
 
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
+    case BLOCK_READ_COUNTS:
+      if (value == null) {
+        unsetBlockReadCounts();
+      } else {
+        setBlockReadCounts((Map<Long,Long>)value);
+      }
+      break;
+
     }
   }
 
   public Object getFieldValue(_Fields field) {
     switch (field) {
+    case BLOCK_READ_COUNTS:
+      return getBlockReadCounts();
+
     }
     throw new IllegalStateException();
   }
@@ -143,6 +205,8 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     }
 
     switch (field) {
+    case BLOCK_READ_COUNTS:
+      return isSetBlockReadCounts();
     }
     throw new IllegalStateException();
   }
@@ -160,6 +224,15 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     if (that == null)
       return false;
 
+    boolean this_present_blockReadCounts = true && this.isSetBlockReadCounts();
+    boolean that_present_blockReadCounts = true && that.isSetBlockReadCounts();
+    if (this_present_blockReadCounts || that_present_blockReadCounts) {
+      if (!(this_present_blockReadCounts && that_present_blockReadCounts))
+        return false;
+      if (!this.blockReadCounts.equals(that.blockReadCounts))
+        return false;
+    }
+
     return true;
   }
 
@@ -167,6 +240,11 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
   public int hashCode() {
     List<Object> list = new ArrayList<Object>();
 
+    boolean present_blockReadCounts = true && (isSetBlockReadCounts());
+    list.add(present_blockReadCounts);
+    if (present_blockReadCounts)
+      list.add(blockReadCounts);
+
     return list.hashCode();
   }
 
@@ -178,6 +256,16 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
 
     int lastComparison = 0;
 
+    lastComparison = Boolean.valueOf(isSetBlockReadCounts()).compareTo(other.isSetBlockReadCounts());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetBlockReadCounts()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockReadCounts, other.blockReadCounts);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -198,6 +286,15 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     StringBuilder sb = new StringBuilder("BlockHeartbeatTOptions(");
     boolean first = true;
 
+    if (isSetBlockReadCounts()) {
+      sb.append("blockReadCounts:");
+      if (this.blockReadCounts == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockReadCounts);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -241,6 +338,26 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
           break;
         }
         switch (schemeField.id) {
+          case 1: // BLOCK_READ_COUNTS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map20 = iprot.readMapBegin();
+                struct.blockReadCounts = new HashMap<Long,Long>(2*_map20.size);
+                long _key21;
+                long _val22;
+                for (int _i23 = 0; _i23 < _map20.size; ++_i23)
+                {
+                  _key21 = iprot.readI64();
+                  _val22 = iprot.readI64();
+                  struct.blockReadCounts.put(_key21, _val22);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setBlockReadCountsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -256,6 +373,21 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
       struct.validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.blockReadCounts != null) {
+        if (struct.isSetBlockReadCounts()) {
+          oprot.writeFieldBegin(BLOCK_READ_COUNTS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.I64, struct.blockReadCounts.size()));
+            for (Map.Entry<Long, Long> _iter24 : struct.blockReadCounts.entrySet())
+            {
+              oprot.writeI64(_iter24.getKey());
+              oprot.writeI64(_iter24.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -273,13 +405,43 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     @Override
     public void write(org.apache.thrift.protocol.TProtocol prot, BlockHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetBlockReadCounts()) {
+        optionals.set(0);
+      }
+      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetBlockReadCounts()) {
+        {
+          oprot.writeI32(struct.blockReadCounts.size());
+          for (Map.Entry<Long, Long> _iter25 : struct.blockReadCounts.entrySet())
+          {
+            oprot.writeI64(_iter25.getKey());
+            oprot.writeI64(_iter25.getValue());
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, BlockHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(1);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TMap _map26 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.blockReadCounts = new HashMap<Long,Long>(2*_map26.size);
+          long _key27;
+          long _val28;
+          for (int _i29 = 0; _i29 < _map26.size; ++_i29)
+          {
+            _key27 = iprot.readI64();
+            _val28 = iprot.readI64();
+            struct.blockReadCounts.put(_key27, _val28);
+          }
+        }
+        struct.setBlockReadCountsIsSet(true);
+      }
     }
   }
 
 }
-
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockTOptions, CommitBlockTOptions._Fields>, java.io.Serializable, Cloneable, Comparable<CommitBlockTOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("CommitBlockTOptions");
 
+  private static final org.apache.thrift.protocol.TField CHECKSUM_FIELD_DESC = new org.apache.thrift.protocol.TField("checksum", org.apache.thrift.protocol.TType.I64, (short)1);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,10 +46,11 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
     schemes.put(TupleScheme.class, new CommitBlockTOptionsTupleSchemeFactory());
   }
 
+  private long checksum; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+    CHECKSUM((short)1, "checksum");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -63,6 +65,8 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
      */
     public static _Fields findByThriftId(int fieldId) {
       switch(fieldId) {
+        case 1: // CHECKSUM
+          return CHECKSUM;
         default:
           return null;
       }
@@ -101,9 +105,16 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
       return _fieldName;
     }
   }
+
+  // isset id assignments
+  private static final int __CHECKSUM_ISSET_ID = 0;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.CHECKSUM};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.CHECKSUM, new org.apache.thrift.meta_data.FieldMetaData("checksum", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(CommitBlockTOptions.class, metaDataMap);
   }
@@ -115,6 +126,8 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
    * Performs a deep copy on <i>other</i>.
    */
   public CommitBlockTOptions(CommitBlockTOptions other) {
+    __isset_bitfield = other.__isset_bitfield;
+    this.checksum = other.checksum;
   }
 
   public CommitBlockTOptions deepCopy() {
@@ -123,15 +136,51 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
 
   @Override
   public void clear() {
+    setChecksumIsSet(false);
+    this.checksum = 0;
+  }
+
+  public long getChecksum() {
+    return this.checksum;
+  }
+
+  public CommitBlockTOptions setChecksum(long checksum) {
+    this.checksum = checksum;
+    setChecksumIsSet(true);
+    return this;
+  }
+
+  public void unsetChecksum() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CHECKSUM_ISSET_ID);
+  }
+
+  /** Returns true if field checksum is set (has been assigned a value) and false otherwise */
+  public boolean isSetChecksum() {
+    return EncodingUtils.testBit(__isset_bitfield, __CHECKSUM_ISSET_ID);
+  }
+
+  public void setChecksumIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CHECKSUM_ISSET_ID, value);
   }
 
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
+    case CHECKSUM:
+      if (value == null) {
+        unsetChecksum();
+      } else {
+        setChecksum((Long)value);
+      }
+      break;
+
     }
   }
 
   public Object getFieldValue(_Fields field) {
     switch (field) {
+    case CHECKSUM:
+      return getChecksum();
+
     }
     throw new IllegalStateException();
   }
@@ -143,6 +192,8 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
     }
 
     switch (field) {
+    case CHECKSUM:
+      return isSetChecksum();
     }
     throw new IllegalStateException();
   }
@@ -160,6 +211,15 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
     if (that == null)
       return false;
 
+    boolean this_present_checksum = true && this.isSetChecksum();
+    boolean that_present_checksum = true && that.isSetChecksum();
+    if (this_present_checksum || that_present_checksum) {
+      if (!(this_present_checksum && that_present_checksum))
+        return false;
+      if (this.checksum != that.checksum)
+        return false;
+    }
+
     return true;
   }
 
@@ -167,6 +227,11 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
   public int hashCode() {
     List<Object> list = new ArrayList<Object>();
 
+    boolean present_checksum = true && (isSetChecksum());
+    list.add(present_checksum);
+    if (present_checksum)
+      list.add(checksum);
+
     return list.hashCode();
   }
 
@@ -178,6 +243,16 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
 
     int lastComparison = 0;
 
+    lastComparison = Boolean.valueOf(isSetChecksum()).compareTo(other.isSetChecksum());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetChecksum()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.checksum, other.checksum);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -198,6 +273,11 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
     StringBuilder sb = new StringBuilder("CommitBlockTOptions(");
     boolean first = true;
 
+    if (isSetChecksum()) {
+      sb.append("checksum:");
+      sb.append(this.checksum);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -217,6 +297,8 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -241,6 +323,14 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
           break;
         }
         switch (schemeField.id) {
+          case 1: // CHECKSUM
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.checksum = iprot.readI64();
+              struct.setChecksumIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -256,6 +346,11 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
       struct.validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.isSetChecksum()) {
+        oprot.writeFieldBegin(CHECKSUM_FIELD_DESC);
+        oprot.writeI64(struct.checksum);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -273,11 +368,24 @@ public class CommitBlockTOptions implements org.apache.thrift.TBase<CommitBlockT
     @Override
     public void write(org.apache.thrift.protocol.TProtocol prot, CommitBlockTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetChecksum()) {
+        optionals.set(0);
+      }
+      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetChecksum()) {
+        oprot.writeI64(struct.checksum);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, CommitBlockTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(1);
+      if (incoming.get(0)) {
+        struct.checksum = iprot.readI64();
+        struct.setChecksumIsSet(true);
+      }
     }
   }
 
@@ -2306,13 +2306,13 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
           case 13: // BLOCK_IDS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
-                struct.blockIds = new ArrayList<Long>(_list32.size);
-                long _elem33;
-                for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                struct.blockIds = new ArrayList<Long>(_list40.size);
+                long _elem41;
+                for (int _i42 = 0; _i42 < _list40.size; ++_i42)
                 {
-                  _elem33 = iprot.readI64();
-                  struct.blockIds.add(_elem33);
+                  _elem41 = iprot.readI64();
+                  struct.blockIds.add(_elem41);
                 }
                 iprot.readListEnd();
               }
@@ -2388,14 +2388,14 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
           case 23: // FILE_BLOCK_INFOS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list35 = iprot.readListBegin();
-                struct.fileBlockInfos = new ArrayList<FileBlockInfo>(_list35.size);
-                FileBlockInfo _elem36;
-                for (int _i37 = 0; _i37 < _list35.size; ++_i37)
+                org.apache.thrift.protocol.TList _list43 = iprot.readListBegin();
+                struct.fileBlockInfos = new ArrayList<FileBlockInfo>(_list43.size);
+                FileBlockInfo _elem44;
+                for (int _i45 = 0; _i45 < _list43.size; ++_i45)
                 {
-                  _elem36 = new FileBlockInfo();
-                  _elem36.read(iprot);
-                  struct.fileBlockInfos.add(_elem36);
+                  _elem44 = new FileBlockInfo();
+                  _elem44.read(iprot);
+                  struct.fileBlockInfos.add(_elem44);
                 }
                 iprot.readListEnd();
               }
@@ -2481,9 +2481,9 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
         oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
-          for (long _iter38 : struct.blockIds)
+          for (long _iter46 : struct.blockIds)
           {
-            oprot.writeI64(_iter38);
+            oprot.writeI64(_iter46);
           }
           oprot.writeListEnd();
         }
@@ -2523,9 +2523,9 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
         oprot.writeFieldBegin(FILE_BLOCK_INFOS_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.fileBlockInfos.size()));
-          for (FileBlockInfo _iter39 : struct.fileBlockInfos)
+          for (FileBlockInfo _iter47 : struct.fileBlockInfos)
           {
-            _iter39.write(oprot);
+            _iter47.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -2669,9 +2669,9 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
       if (struct.isSetBlockIds()) {
         {
           oprot.writeI32(struct.blockIds.size());
-          for (long _iter40 : struct.blockIds)
+          for (long _iter48 : struct.blockIds)
           {
-            oprot.writeI64(_iter40);
+            oprot.writeI64(_iter48);
           }
         }
       }
@@ -2702,9 +2702,9 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
       if (struct.isSetFileBlockInfos()) {
         {
           oprot.writeI32(struct.fileBlockInfos.size());
-          for (FileBlockInfo _iter41 : struct.fileBlockInfos)
+          for (FileBlockInfo _iter49 : struct.fileBlockInfos)
           {
-            _iter41.write(oprot);
+            _iter49.write(oprot);
           }
         }
       }
@@ -2770,13 +2770,13 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
       }
       if (incoming.get(12)) {
         {
-          org.apache.thrift.protocol.TList _list42 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.blockIds = new ArrayList<Long>(_list42.size);
-          long _elem43;
-          for (int _i44 = 0; _i44 < _list42.size; ++_i44)
+          org.apache.thrift.protocol.TList _list50 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.blockIds = new ArrayList<Long>(_list50.size);
+          long _elem51;
+          for (int _i52 = 0; _i52 < _list50.size; ++_i52)
           {
-            _elem43 = iprot.readI64();
-            struct.blockIds.add(_elem43);
+            _elem51 = iprot.readI64();
+            struct.blockIds.add(_elem51);
           }
         }
         struct.setBlockIdsIsSet(true);
@@ -2815,14 +2815,14 @@ public class FileInfo implements org.apache.thrift.TBase<FileInfo, FileInfo._Fie
       }
       if (incoming.get(21)) {
         {
-          org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.fileBlockInfos = new ArrayList<FileBlockInfo>(_list45.size);
-          FileBlockInfo _elem46;
-          for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+          org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.fileBlockInfos = new ArrayList<FileBlockInfo>(_list53.size);
+          FileBlockInfo _elem54;
+          for (int _i55 = 0; _i55 < _list53.size; ++_i55)
           {
-            _elem46 = new FileBlockInfo();
-            _elem46.read(iprot);
-            struct.fileBlockInfos.add(_elem46);
+            _elem54 = new FileBlockInfo();
+            _elem54.read(iprot);
+            struct.fileBlockInfos.add(_elem54);
           }
         }
         struct.setFileBlockInfosIsSet(true);
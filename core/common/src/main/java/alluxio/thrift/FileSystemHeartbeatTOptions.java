@@ -38,6 +38,9 @@ import org.slf4j.LoggerFactory;
 public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<FileSystemHeartbeatTOptions, FileSystemHeartbeatTOptions._Fields>, java.io.Serializable, Cloneable, Comparable<FileSystemHeartbeatTOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("FileSystemHeartbeatTOptions");
 
+  private static final org.apache.thrift.protocol.TField LOADED_BLOCKS_FIELD_DESC = new org.apache.thrift.protocol.TField("loadedBlocks", org.apache.thrift.protocol.TType.LIST, (short)1);
+  private static final org.apache.thrift.protocol.TField FAILED_BLOCKS_FIELD_DESC = new org.apache.thrift.protocol.TField("failedBlocks", org.apache.thrift.protocol.TType.LIST, (short)2);
+  private static final org.apache.thrift.protocol.TField LOADING_BLOCKS_FIELD_DESC = new org.apache.thrift.protocol.TField("loadingBlocks", org.apache.thrift.protocol.TType.LIST, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,10 +48,15 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     schemes.put(TupleScheme.class, new FileSystemHeartbeatTOptionsTupleSchemeFactory());
   }
 
+  private List<Long> loadedBlocks; // optional
+  private List<Long> failedBlocks; // optional
+  private List<Long> loadingBlocks; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+    LOADED_BLOCKS((short)1, "loadedBlocks"),
+    FAILED_BLOCKS((short)2, "failedBlocks"),
+    LOADING_BLOCKS((short)3, "loadingBlocks");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -63,6 +71,12 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
      */
     public static _Fields findByThriftId(int fieldId) {
       switch(fieldId) {
+        case 1: // LOADED_BLOCKS
+          return LOADED_BLOCKS;
+        case 2: // FAILED_BLOCKS
+          return FAILED_BLOCKS;
+        case 3: // LOADING_BLOCKS
+          return LOADING_BLOCKS;
         default:
           return null;
       }
@@ -101,9 +115,21 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       return _fieldName;
     }
   }
+
+  // isset id assignments
+  private static final _Fields optionals[] = {_Fields.LOADED_BLOCKS,_Fields.FAILED_BLOCKS,_Fields.LOADING_BLOCKS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.LOADED_BLOCKS, new org.apache.thrift.meta_data.FieldMetaData("loadedBlocks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.FAILED_BLOCKS, new org.apache.thrift.meta_data.FieldMetaData("failedBlocks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.LOADING_BLOCKS, new org.apache.thrift.meta_data.FieldMetaData("loadingBlocks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(FileSystemHeartbeatTOptions.class, metaDataMap);
   }
@@ -115,6 +141,18 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
    * Performs a deep copy on <i>other</i>.
    */
   public FileSystemHeartbeatTOptions(FileSystemHeartbeatTOptions other) {
+    if (other.isSetLoadedBlocks()) {
+      List<Long> __this__loadedBlocks = new ArrayList<Long>(other.loadedBlocks);
+      this.loadedBlocks = __this__loadedBlocks;
+    }
+    if (other.isSetFailedBlocks()) {
+      List<Long> __this__failedBlocks = new ArrayList<Long>(other.failedBlocks);
+      this.failedBlocks = __this__failedBlocks;
+    }
+    if (other.isSetLoadingBlocks()) {
+      List<Long> __this__loadingBlocks = new ArrayList<Long>(other.loadingBlocks);
+      this.loadingBlocks = __this__loadingBlocks;
+    }
   }
 
   public FileSystemHeartbeatTOptions deepCopy() {
@@ -123,15 +161,168 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
 
   @Override
   public void clear() {
+    this.loadedBlocks = null;
+    this.failedBlocks = null;
+    this.loadingBlocks = null;
+  }
+
+  public int getLoadedBlocksSize() {
+    return (this.loadedBlocks == null) ? 0 : this.loadedBlocks.size();
+  }
+
+  public java.util.Iterator<Long> getLoadedBlocksIterator() {
+    return (this.loadedBlocks == null) ? null : this.loadedBlocks.iterator();
+  }
+
+  public void addToLoadedBlocks(long elem) {
+    if (this.loadedBlocks == null) {
+      this.loadedBlocks = new ArrayList<Long>();
+    }
+    this.loadedBlocks.add(elem);
+  }
+
+  public List<Long> getLoadedBlocks() {
+    return this.loadedBlocks;
+  }
+
+  public FileSystemHeartbeatTOptions setLoadedBlocks(List<Long> loadedBlocks) {
+    this.loadedBlocks = loadedBlocks;
+    return this;
+  }
+
+  public void unsetLoadedBlocks() {
+    this.loadedBlocks = null;
+  }
+
+  /** Returns true if field loadedBlocks is set (has been assigned a value) and false otherwise */
+  public boolean isSetLoadedBlocks() {
+    return this.loadedBlocks != null;
+  }
+
+  public void setLoadedBlocksIsSet(boolean value) {
+    if (!value) {
+      this.loadedBlocks = null;
+    }
+  }
+
+  public int getFailedBlocksSize() {
+    return (this.failedBlocks == null) ? 0 : this.failedBlocks.size();
+  }
+
+  public java.util.Iterator<Long> getFailedBlocksIterator() {
+    return (this.failedBlocks == null) ? null : this.failedBlocks.iterator();
+  }
+
+  public void addToFailedBlocks(long elem) {
+    if (this.failedBlocks == null) {
+      this.failedBlocks = new ArrayList<Long>();
+    }
+    this.failedBlocks.add(elem);
+  }
+
+  public List<Long> getFailedBlocks() {
+    return this.failedBlocks;
+  }
+
+  public FileSystemHeartbeatTOptions setFailedBlocks(List<Long> failedBlocks) {
+    this.failedBlocks = failedBlocks;
+    return this;
+  }
+
+  public void unsetFailedBlocks() {
+    this.failedBlocks = null;
+  }
+
+  /** Returns true if field failedBlocks is set (has been assigned a value) and false otherwise */
+  public boolean isSetFailedBlocks() {
+    return this.failedBlocks != null;
+  }
+
+  public void setFailedBlocksIsSet(boolean value) {
+    if (!value) {
+      this.failedBlocks = null;
+    }
+  }
+
+  public int getLoadingBlocksSize() {
+    return (this.loadingBlocks == null) ? 0 : this.loadingBlocks.size();
+  }
+
+  public java.util.Iterator<Long> getLoadingBlocksIterator() {
+    return (this.loadingBlocks == null) ? null : this.loadingBlocks.iterator();
+  }
+
+  public void addToLoadingBlocks(long elem) {
+    if (this.loadingBlocks == null) {
+      this.loadingBlocks = new ArrayList<Long>();
+    }
+    this.loadingBlocks.add(elem);
+  }
+
+  public List<Long> getLoadingBlocks() {
+    return this.loadingBlocks;
+  }
+
+  public FileSystemHeartbeatTOptions setLoadingBlocks(List<Long> loadingBlocks) {
+    this.loadingBlocks = loadingBlocks;
+    return this;
+  }
+
+  public void unsetLoadingBlocks() {
+    this.loadingBlocks = null;
+  }
+
+  /** Returns true if field loadingBlocks is set (has been assigned a value) and false otherwise */
+  public boolean isSetLoadingBlocks() {
+    return this.loadingBlocks != null;
+  }
+
+  public void setLoadingBlocksIsSet(boolean value) {
+    if (!value) {
+      this.loadingBlocks = null;
+    }
   }
 
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
+    case LOADED_BLOCKS:
+      if (value == null) {
+        unsetLoadedBlocks();
+      } else {
+        setLoadedBlocks((List<Long>)value);
+      }
+      break;
+
+    case FAILED_BLOCKS:
+      if (value == null) {
+        unsetFailedBlocks();
+      } else {
+        setFailedBlocks((List<Long>)value);
+      }
+      break;
+
+    case LOADING_BLOCKS:
+      if (value == null) {
+        unsetLoadingBlocks();
+      } else {
+        setLoadingBlocks((List<Long>)value);
+      }
+      break;
+
     }
   }
 
   public Object getFieldValue(_Fields field) {
     switch (field) {
+    case LOADED_BLOCKS:
+      return getLoadedBlocks();
+
+    case FAILED_BLOCKS:
+      return getFailedBlocks();
+
+    case LOADING_BLOCKS:
+      return getLoadingBlocks();
+
     }
     throw new IllegalStateException();
   }
@@ -143,6 +334,12 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     }
 
     switch (field) {
+    case LOADED_BLOCKS:
+      return isSetLoadedBlocks();
+    case FAILED_BLOCKS:
+      return isSetFailedBlocks();
+    case LOADING_BLOCKS:
+      return isSetLoadingBlocks();
     }
     throw new IllegalStateException();
   }
@@ -160,6 +357,33 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     if (that == null)
       return false;
 
+    boolean this_present_loadedBlocks = true && this.isSetLoadedBlocks();
+    boolean that_present_loadedBlocks = true && that.isSetLoadedBlocks();
+    if (this_present_loadedBlocks || that_present_loadedBlocks) {
+      if (!(this_present_loadedBlocks && that_present_loadedBlocks))
+        return false;
+      if (!this.loadedBlocks.equals(that.loadedBlocks))
+        return false;
+    }
+
+    boolean this_present_failedBlocks = true && this.isSetFailedBlocks();
+    boolean that_present_failedBlocks = true && that.isSetFailedBlocks();
+    if (this_present_failedBlocks || that_present_failedBlocks) {
+      if (!(this_present_failedBlocks && that_present_failedBlocks))
+        return false;
+      if (!this.failedBlocks.equals(that.failedBlocks))
+        return false;
+    }
+
+    boolean this_present_loadingBlocks = true && this.isSetLoadingBlocks();
+    boolean that_present_loadingBlocks = true && that.isSetLoadingBlocks();
+    if (this_present_loadingBlocks || that_present_loadingBlocks) {
+      if (!(this_present_loadingBlocks && that_present_loadingBlocks))
+        return false;
+      if (!this.loadingBlocks.equals(that.loadingBlocks))
+        return false;
+    }
+
     return true;
   }
 
@@ -167,6 +391,21 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
   public int hashCode() {
     List<Object> list = new ArrayList<Object>();
 
+    boolean present_loadedBlocks = true && (isSetLoadedBlocks());
+    list.add(present_loadedBlocks);
+    if (present_loadedBlocks)
+      list.add(loadedBlocks);
+
+    boolean present_failedBlocks = true && (isSetFailedBlocks());
+    list.add(present_failedBlocks);
+    if (present_failedBlocks)
+      list.add(failedBlocks);
+
+    boolean present_loadingBlocks = true && (isSetLoadingBlocks());
+    list.add(present_loadingBlocks);
+    if (present_loadingBlocks)
+      list.add(loadingBlocks);
+
     return list.hashCode();
   }
 
@@ -178,6 +417,36 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
 
     int lastComparison = 0;
 
+    lastComparison = Boolean.valueOf(isSetLoadedBlocks()).compareTo(other.isSetLoadedBlocks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLoadedBlocks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.loadedBlocks, other.loadedBlocks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetFailedBlocks()).compareTo(other.isSetFailedBlocks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFailedBlocks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.failedBlocks, other.failedBlocks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetLoadingBlocks()).compareTo(other.isSetLoadingBlocks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLoadingBlocks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.loadingBlocks, other.loadingBlocks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -198,6 +467,35 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     StringBuilder sb = new StringBuilder("FileSystemHeartbeatTOptions(");
     boolean first = true;
 
+    if (isSetLoadedBlocks()) {
+      sb.append("loadedBlocks:");
+      if (this.loadedBlocks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.loadedBlocks);
+      }
+      first = false;
+    }
+    if (isSetFailedBlocks()) {
+      if (!first) sb.append(", ");
+      sb.append("failedBlocks:");
+      if (this.failedBlocks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.failedBlocks);
+      }
+      first = false;
+    }
+    if (isSetLoadingBlocks()) {
+      if (!first) sb.append(", ");
+      sb.append("loadingBlocks:");
+      if (this.loadingBlocks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.loadingBlocks);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -241,6 +539,60 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
           break;
         }
         switch (schemeField.id) {
+          case 1: // LOADED_BLOCKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list90 = iprot.readListBegin();
+                struct.loadedBlocks = new ArrayList<Long>(_list90.size);
+                long _elem91;
+                for (int _i92 = 0; _i92 < _list90.size; ++_i92)
+                {
+                  _elem91 = iprot.readI64();
+                  struct.loadedBlocks.add(_elem91);
+                }
+                iprot.readListEnd();
+              }
+              struct.setLoadedBlocksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 2: // FAILED_BLOCKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list93 = iprot.readListBegin();
+                struct.failedBlocks = new ArrayList<Long>(_list93.size);
+                long _elem94;
+                for (int _i95 = 0; _i95 < _list93.size; ++_i95)
+                {
+                  _elem94 = iprot.readI64();
+                  struct.failedBlocks.add(_elem94);
+                }
+                iprot.readListEnd();
+              }
+              struct.setFailedBlocksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // LOADING_BLOCKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list96 = iprot.readListBegin();
+                struct.loadingBlocks = new ArrayList<Long>(_list96.size);
+                long _elem97;
+                for (int _i98 = 0; _i98 < _list96.size; ++_i98)
+                {
+                  _elem97 = iprot.readI64();
+                  struct.loadingBlocks.add(_elem97);
+                }
+                iprot.readListEnd();
+              }
+              struct.setLoadingBlocksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -256,6 +608,48 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       struct.validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.loadedBlocks != null) {
+        if (struct.isSetLoadedBlocks()) {
+          oprot.writeFieldBegin(LOADED_BLOCKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.loadedBlocks.size()));
+            for (long _iter99 : struct.loadedBlocks)
+            {
+              oprot.writeI64(_iter99);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.failedBlocks != null) {
+        if (struct.isSetFailedBlocks()) {
+          oprot.writeFieldBegin(FAILED_BLOCKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.failedBlocks.size()));
+            for (long _iter100 : struct.failedBlocks)
+            {
+              oprot.writeI64(_iter100);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.loadingBlocks != null) {
+        if (struct.isSetLoadingBlocks()) {
+          oprot.writeFieldBegin(LOADING_BLOCKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.loadingBlocks.size()));
+            for (long _iter101 : struct.loadingBlocks)
+            {
+              oprot.writeI64(_iter101);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -273,11 +667,89 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     @Override
     public void write(org.apache.thrift.protocol.TProtocol prot, FileSystemHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetLoadedBlocks()) {
+        optionals.set(0);
+      }
+      if (struct.isSetFailedBlocks()) {
+        optionals.set(1);
+      }
+      if (struct.isSetLoadingBlocks()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetLoadedBlocks()) {
+        {
+          oprot.writeI32(struct.loadedBlocks.size());
+          for (long _iter102 : struct.loadedBlocks)
+          {
+            oprot.writeI64(_iter102);
+          }
+        }
+      }
+      if (struct.isSetFailedBlocks()) {
+        {
+          oprot.writeI32(struct.failedBlocks.size());
+          for (long _iter103 : struct.failedBlocks)
+          {
+            oprot.writeI64(_iter103);
+          }
+        }
+      }
+      if (struct.isSetLoadingBlocks()) {
+        {
+          oprot.writeI32(struct.loadingBlocks.size());
+          for (long _iter104 : struct.loadingBlocks)
+          {
+            oprot.writeI64(_iter104);
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, FileSystemHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(3);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TList _list105 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.loadedBlocks = new ArrayList<Long>(_list105.size);
+          long _elem106;
+          for (int _i107 = 0; _i107 < _list105.size; ++_i107)
+          {
+            _elem106 = iprot.readI64();
+            struct.loadedBlocks.add(_elem106);
+          }
+        }
+        struct.setLoadedBlocksIsSet(true);
+      }
+      if (incoming.get(1)) {
+        {
+          org.apache.thrift.protocol.TList _list108 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.failedBlocks = new ArrayList<Long>(_list108.size);
+          long _elem109;
+          for (int _i110 = 0; _i110 < _list108.size; ++_i110)
+          {
+            _elem109 = iprot.readI64();
+            struct.failedBlocks.add(_elem109);
+          }
+        }
+        struct.setFailedBlocksIsSet(true);
+      }
+      if (incoming.get(2)) {
+        {
+          org.apache.thrift.protocol.TList _list111 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.loadingBlocks = new ArrayList<Long>(_list111.size);
+          long _elem112;
+          for (int _i113 = 0; _i113 < _list111.size; ++_i113)
+          {
+            _elem112 = iprot.readI64();
+            struct.loadingBlocks.add(_elem112);
+          }
+        }
+        struct.setLoadingBlocksIsSet(true);
+      }
     }
   }
 
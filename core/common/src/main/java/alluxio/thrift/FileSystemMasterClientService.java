@@ -78,6 +78,16 @@ public class FileSystemMasterClientService {
      */
     public CreateFileTResponse createFile(String path, CreateFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Creates a batch of files in a single round trip. All files share the same options and the
+     * master commits the whole batch with a single journal flush.
+     * 
+     * @param paths the paths of the files
+     * 
+     * @param options the options for creating the files
+     */
+    public CreateFilesBatchTResponse createFilesBatch(List<String> paths, CreateFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Frees the given file or directory from Alluxio.
      * 
@@ -89,6 +99,16 @@ public class FileSystemMasterClientService {
      */
     public FreeTResponse free(String path, boolean recursive, FreeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the checksum of the given file, composed by the master from the checksums of its
+     * blocks without reading the file.
+     * 
+     * @param path the path of the file
+     * 
+     * @param options the method options
+     */
+    public GetFileChecksumTResponse getFileChecksum(String path, GetFileChecksumTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Returns the status of the file or directory.
      * 
@@ -98,6 +118,24 @@ public class FileSystemMasterClientService {
      */
     public GetStatusTResponse getStatus(String path, GetStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the status of each of the given files or directories, in the order of the given paths.
+     * 
+     * @param paths the paths of the files or directories
+     * 
+     * @param options the method options
+     */
+    public GetStatusBatchTResponse getStatusBatch(List<String> paths, GetStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
+    /**
+     * Returns the progress of a distributed load.
+     * 
+     * @param id the id of the load job
+     * 
+     * @param options the method options
+     */
+    public GetLoadJobInfoTResponse getLoadJobInfo(long id, GetLoadJobInfoTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Generates a new block id for the given file.
      * 
@@ -118,6 +156,17 @@ public class FileSystemMasterClientService {
      */
     public ListStatusTResponse listStatus(String path, ListStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Schedules the workers to load the blocks of the files under the given path from the under
+     * storage. Blocks which are already in Alluxio are skipped, so a failed or interrupted load can
+     * be resumed by loading the same path again.
+     * 
+     * @param path the path of the file or directory
+     * 
+     * @param options the method options
+     */
+    public LoadTResponse load(String path, LoadTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Loads metadata for the object identified by the given Alluxio path from UFS into Alluxio.
      * 
@@ -155,6 +204,16 @@ public class FileSystemMasterClientService {
      */
     public DeleteTResponse remove(String path, boolean recursive, DeleteTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Deletes a batch of files or directories in a single round trip. The master commits the whole
+     * batch with a single journal flush.
+     * 
+     * @param paths the paths of the files or directories
+     * 
+     * @param options the options for deleting the files
+     */
+    public DeleteBatchTResponse deleteBatch(List<String> paths, DeleteTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Renames a file or a directory.
      * 
@@ -166,6 +225,19 @@ public class FileSystemMasterClientService {
      */
     public RenameTResponse rename(String path, String dstPath, RenameTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Renames a batch of files or directories in a single round trip. The i-th source path is
+     * renamed to the i-th destination path. The master commits the whole batch with a single journal
+     * flush.
+     * 
+     * @param srcPaths the source paths of the files or directories
+     * 
+     * @param dstPaths the destination paths of the files
+     * 
+     * @param options the method options
+     */
+    public RenameBatchTResponse renameBatch(List<String> srcPaths, List<String> dstPaths, RenameTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Sets file or directory attributes.
      * 
@@ -207,22 +279,36 @@ public class FileSystemMasterClientService {
 
     public void createFile(String path, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void createFilesBatch(List<String> paths, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void free(String path, boolean recursive, FreeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getFileChecksum(String path, GetFileChecksumTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getStatus(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getStatusBatch(List<String> paths, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getLoadJobInfo(long id, GetLoadJobInfoTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getNewBlockIdForFile(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void listStatus(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void load(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void mount(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void remove(String path, boolean recursive, DeleteTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void deleteBatch(List<String> paths, DeleteTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void rename(String path, String dstPath, RenameTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void renameBatch(List<String> srcPaths, List<String> dstPaths, RenameTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void setAttribute(String path, SetAttributeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void scheduleAsyncPersistence(String path, ScheduleAsyncPersistenceTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -359,6 +445,33 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createFile failed: unknown result");
     }
 
+    public CreateFilesBatchTResponse createFilesBatch(List<String> paths, CreateFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_createFilesBatch(paths, options);
+      return recv_createFilesBatch();
+    }
+
+    public void send_createFilesBatch(List<String> paths, CreateFileTOptions options) throws org.apache.thrift.TException
+    {
+      createFilesBatch_args args = new createFilesBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("createFilesBatch", args);
+    }
+
+    public CreateFilesBatchTResponse recv_createFilesBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      createFilesBatch_result result = new createFilesBatch_result();
+      receiveBase(result, "createFilesBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createFilesBatch failed: unknown result");
+    }
+
     public FreeTResponse free(String path, boolean recursive, FreeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_free(path, recursive, options);
@@ -387,6 +500,33 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "free failed: unknown result");
     }
 
+    public GetFileChecksumTResponse getFileChecksum(String path, GetFileChecksumTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getFileChecksum(path, options);
+      return recv_getFileChecksum();
+    }
+
+    public void send_getFileChecksum(String path, GetFileChecksumTOptions options) throws org.apache.thrift.TException
+    {
+      getFileChecksum_args args = new getFileChecksum_args();
+      args.setPath(path);
+      args.setOptions(options);
+      sendBase("getFileChecksum", args);
+    }
+
+    public GetFileChecksumTResponse recv_getFileChecksum() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getFileChecksum_result result = new getFileChecksum_result();
+      receiveBase(result, "getFileChecksum");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileChecksum failed: unknown result");
+    }
+
     public GetStatusTResponse getStatus(String path, GetStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getStatus(path, options);
@@ -414,6 +554,60 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public GetStatusBatchTResponse getStatusBatch(List<String> paths, GetStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getStatusBatch(paths, options);
+      return recv_getStatusBatch();
+    }
+
+    public void send_getStatusBatch(List<String> paths, GetStatusTOptions options) throws org.apache.thrift.TException
+    {
+      getStatusBatch_args args = new getStatusBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("getStatusBatch", args);
+    }
+
+    public GetStatusBatchTResponse recv_getStatusBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getStatusBatch_result result = new getStatusBatch_result();
+      receiveBase(result, "getStatusBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatusBatch failed: unknown result");
+    }
+
+    public GetLoadJobInfoTResponse getLoadJobInfo(long id, GetLoadJobInfoTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getLoadJobInfo(id, options);
+      return recv_getLoadJobInfo();
+    }
+
+    public void send_getLoadJobInfo(long id, GetLoadJobInfoTOptions options) throws org.apache.thrift.TException
+    {
+      getLoadJobInfo_args args = new getLoadJobInfo_args();
+      args.setId(id);
+      args.setOptions(options);
+      sendBase("getLoadJobInfo", args);
+    }
+
+    public GetLoadJobInfoTResponse recv_getLoadJobInfo() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getLoadJobInfo_result result = new getLoadJobInfo_result();
+      receiveBase(result, "getLoadJobInfo");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoadJobInfo failed: unknown result");
+    }
+
     public GetNewBlockIdForFileTResponse getNewBlockIdForFile(String path, GetNewBlockIdForFileTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getNewBlockIdForFile(path, options);
@@ -468,6 +662,33 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listStatus failed: unknown result");
     }
 
+    public LoadTResponse load(String path, LoadTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_load(path, options);
+      return recv_load();
+    }
+
+    public void send_load(String path, LoadTOptions options) throws org.apache.thrift.TException
+    {
+      load_args args = new load_args();
+      args.setPath(path);
+      args.setOptions(options);
+      sendBase("load", args);
+    }
+
+    public LoadTResponse recv_load() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      load_result result = new load_result();
+      receiveBase(result, "load");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "load failed: unknown result");
+    }
+
     public LoadMetadataTResponse loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_loadMetadata(ufsPath, recursive, options);
@@ -552,6 +773,33 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "remove failed: unknown result");
     }
 
+    public DeleteBatchTResponse deleteBatch(List<String> paths, DeleteTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_deleteBatch(paths, options);
+      return recv_deleteBatch();
+    }
+
+    public void send_deleteBatch(List<String> paths, DeleteTOptions options) throws org.apache.thrift.TException
+    {
+      deleteBatch_args args = new deleteBatch_args();
+      args.setPaths(paths);
+      args.setOptions(options);
+      sendBase("deleteBatch", args);
+    }
+
+    public DeleteBatchTResponse recv_deleteBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      deleteBatch_result result = new deleteBatch_result();
+      receiveBase(result, "deleteBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "deleteBatch failed: unknown result");
+    }
+
     public RenameTResponse rename(String path, String dstPath, RenameTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_rename(path, dstPath, options);
@@ -580,6 +828,34 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "rename failed: unknown result");
     }
 
+    public RenameBatchTResponse renameBatch(List<String> srcPaths, List<String> dstPaths, RenameTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_renameBatch(srcPaths, dstPaths, options);
+      return recv_renameBatch();
+    }
+
+    public void send_renameBatch(List<String> srcPaths, List<String> dstPaths, RenameTOptions options) throws org.apache.thrift.TException
+    {
+      renameBatch_args args = new renameBatch_args();
+      args.setSrcPaths(srcPaths);
+      args.setDstPaths(dstPaths);
+      args.setOptions(options);
+      sendBase("renameBatch", args);
+    }
+
+    public RenameBatchTResponse recv_renameBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      renameBatch_result result = new renameBatch_result();
+      receiveBase(result, "renameBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "renameBatch failed: unknown result");
+    }
+
     public SetAttributeTResponse setAttribute(String path, SetAttributeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_setAttribute(path, options);
@@ -819,6 +1095,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void createFilesBatch(List<String> paths, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      createFilesBatch_call method_call = new createFilesBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class createFilesBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private CreateFileTOptions options;
+      public createFilesBatch_call(List<String> paths, CreateFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createFilesBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        createFilesBatch_args args = new createFilesBatch_args();
+        args.setPaths(paths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public CreateFilesBatchTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_createFilesBatch();
+      }
+    }
+
     public void free(String path, boolean recursive, FreeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       free_call method_call = new free_call(path, recursive, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -857,161 +1168,301 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public void getStatus(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getFileChecksum(String path, GetFileChecksumTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getStatus_call method_call = new getStatus_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      getFileChecksum_call method_call = new getFileChecksum_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class getStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
+    public static class getFileChecksum_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String path;
-      private GetStatusTOptions options;
-      public getStatus_call(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private GetFileChecksumTOptions options;
+      public getFileChecksum_call(String path, GetFileChecksumTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.path = path;
         this.options = options;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        getStatus_args args = new getStatus_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getFileChecksum", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getFileChecksum_args args = new getFileChecksum_args();
         args.setPath(path);
         args.setOptions(options);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public GetStatusTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+      public GetFileChecksumTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_getStatus();
+        return (new Client(prot)).recv_getFileChecksum();
       }
     }
 
-    public void getNewBlockIdForFile(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getStatus(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getNewBlockIdForFile_call method_call = new getNewBlockIdForFile_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      getStatus_call method_call = new getStatus_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class getNewBlockIdForFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+    public static class getStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
       private String path;
-      private GetNewBlockIdForFileTOptions options;
-      public getNewBlockIdForFile_call(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private GetStatusTOptions options;
+      public getStatus_call(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.path = path;
         this.options = options;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getNewBlockIdForFile", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        getNewBlockIdForFile_args args = new getNewBlockIdForFile_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getStatus_args args = new getStatus_args();
         args.setPath(path);
         args.setOptions(options);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public GetNewBlockIdForFileTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+      public GetStatusTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_getNewBlockIdForFile();
+        return (new Client(prot)).recv_getStatus();
       }
     }
 
-    public void listStatus(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getStatusBatch(List<String> paths, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      listStatus_call method_call = new listStatus_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      getStatusBatch_call method_call = new getStatusBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class listStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String path;
-      private ListStatusTOptions options;
-      public listStatus_call(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getStatusBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private GetStatusTOptions options;
+      public getStatusBatch_call(List<String> paths, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.path = path;
+        this.paths = paths;
         this.options = options;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("listStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        listStatus_args args = new listStatus_args();
-        args.setPath(path);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getStatusBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getStatusBatch_args args = new getStatusBatch_args();
+        args.setPaths(paths);
         args.setOptions(options);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public ListStatusTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+      public GetStatusBatchTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_listStatus();
+        return (new Client(prot)).recv_getStatusBatch();
       }
     }
 
-    public void loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getLoadJobInfo(long id, GetLoadJobInfoTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      loadMetadata_call method_call = new loadMetadata_call(ufsPath, recursive, options, resultHandler, this, ___protocolFactory, ___transport);
+      getLoadJobInfo_call method_call = new getLoadJobInfo_call(id, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class loadMetadata_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String ufsPath;
-      private boolean recursive;
-      private LoadMetadataTOptions options;
-      public loadMetadata_call(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getLoadJobInfo_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long id;
+      private GetLoadJobInfoTOptions options;
+      public getLoadJobInfo_call(long id, GetLoadJobInfoTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.ufsPath = ufsPath;
-        this.recursive = recursive;
+        this.id = id;
         this.options = options;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("loadMetadata", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        loadMetadata_args args = new loadMetadata_args();
-        args.setUfsPath(ufsPath);
-        args.setRecursive(recursive);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getLoadJobInfo", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getLoadJobInfo_args args = new getLoadJobInfo_args();
+        args.setId(id);
         args.setOptions(options);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public LoadMetadataTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+      public GetLoadJobInfoTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_loadMetadata();
+        return (new Client(prot)).recv_getLoadJobInfo();
       }
     }
 
-    public void mount(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getNewBlockIdForFile(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      mount_call method_call = new mount_call(alluxioPath, ufsPath, options, resultHandler, this, ___protocolFactory, ___transport);
+      getNewBlockIdForFile_call method_call = new getNewBlockIdForFile_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class mount_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String alluxioPath;
-      private String ufsPath;
-      private MountTOptions options;
-      public mount_call(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getNewBlockIdForFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private GetNewBlockIdForFileTOptions options;
+      public getNewBlockIdForFile_call(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getNewBlockIdForFile", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getNewBlockIdForFile_args args = new getNewBlockIdForFile_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public GetNewBlockIdForFileTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getNewBlockIdForFile();
+      }
+    }
+
+    public void listStatus(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      listStatus_call method_call = new listStatus_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class listStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private ListStatusTOptions options;
+      public listStatus_call(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("listStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        listStatus_args args = new listStatus_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ListStatusTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_listStatus();
+      }
+    }
+
+    public void load(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      load_call method_call = new load_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class load_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private LoadTOptions options;
+      public load_call(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("load", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        load_args args = new load_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public LoadTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_load();
+      }
+    }
+
+    public void loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      loadMetadata_call method_call = new loadMetadata_call(ufsPath, recursive, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class loadMetadata_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String ufsPath;
+      private boolean recursive;
+      private LoadMetadataTOptions options;
+      public loadMetadata_call(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.ufsPath = ufsPath;
+        this.recursive = recursive;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("loadMetadata", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        loadMetadata_args args = new loadMetadata_args();
+        args.setUfsPath(ufsPath);
+        args.setRecursive(recursive);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public LoadMetadataTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_loadMetadata();
+      }
+    }
+
+    public void mount(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      mount_call method_call = new mount_call(alluxioPath, ufsPath, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class mount_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String alluxioPath;
+      private String ufsPath;
+      private MountTOptions options;
+      public mount_call(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.alluxioPath = alluxioPath;
         this.ufsPath = ufsPath;
@@ -1076,6 +1527,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void deleteBatch(List<String> paths, DeleteTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      deleteBatch_call method_call = new deleteBatch_call(paths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class deleteBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private DeleteTOptions options;
+      public deleteBatch_call(List<String> paths, DeleteTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("deleteBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        deleteBatch_args args = new deleteBatch_args();
+        args.setPaths(paths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public DeleteBatchTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_deleteBatch();
+      }
+    }
+
     public void rename(String path, String dstPath, RenameTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       rename_call method_call = new rename_call(path, dstPath, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -1114,6 +1600,44 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void renameBatch(List<String> srcPaths, List<String> dstPaths, RenameTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      renameBatch_call method_call = new renameBatch_call(srcPaths, dstPaths, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class renameBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> srcPaths;
+      private List<String> dstPaths;
+      private RenameTOptions options;
+      public renameBatch_call(List<String> srcPaths, List<String> dstPaths, RenameTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.srcPaths = srcPaths;
+        this.dstPaths = dstPaths;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("renameBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        renameBatch_args args = new renameBatch_args();
+        args.setSrcPaths(srcPaths);
+        args.setDstPaths(dstPaths);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public RenameBatchTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_renameBatch();
+      }
+    }
+
     public void setAttribute(String path, SetAttributeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       setAttribute_call method_call = new setAttribute_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -1236,14 +1760,21 @@ public class FileSystemMasterClientService {
       processMap.put("completeFile", new completeFile());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
+      processMap.put("createFilesBatch", new createFilesBatch());
       processMap.put("free", new free());
+      processMap.put("getFileChecksum", new getFileChecksum());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatusBatch", new getStatusBatch());
+      processMap.put("getLoadJobInfo", new getLoadJobInfo());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("listStatus", new listStatus());
+      processMap.put("load", new load());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("deleteBatch", new deleteBatch());
       processMap.put("rename", new rename());
+      processMap.put("renameBatch", new renameBatch());
       processMap.put("setAttribute", new setAttribute());
       processMap.put("scheduleAsyncPersistence", new scheduleAsyncPersistence());
       processMap.put("unmount", new unmount());
@@ -1346,6 +1877,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class createFilesBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createFilesBatch_args> {
+      public createFilesBatch() {
+        super("createFilesBatch");
+      }
+
+      public createFilesBatch_args getEmptyArgsInstance() {
+        return new createFilesBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public createFilesBatch_result getResult(I iface, createFilesBatch_args args) throws org.apache.thrift.TException {
+        createFilesBatch_result result = new createFilesBatch_result();
+        try {
+          result.success = iface.createFilesBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class free<I extends Iface> extends org.apache.thrift.ProcessFunction<I, free_args> {
       public free() {
         super("free");
@@ -1370,6 +1925,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getFileChecksum<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileChecksum_args> {
+      public getFileChecksum() {
+        super("getFileChecksum");
+      }
+
+      public getFileChecksum_args getEmptyArgsInstance() {
+        return new getFileChecksum_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getFileChecksum_result getResult(I iface, getFileChecksum_args args) throws org.apache.thrift.TException {
+        getFileChecksum_result result = new getFileChecksum_result();
+        try {
+          result.success = iface.getFileChecksum(args.path, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatus_args> {
       public getStatus() {
         super("getStatus");
@@ -1394,6 +1973,54 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getStatusBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatusBatch_args> {
+      public getStatusBatch() {
+        super("getStatusBatch");
+      }
+
+      public getStatusBatch_args getEmptyArgsInstance() {
+        return new getStatusBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getStatusBatch_result getResult(I iface, getStatusBatch_args args) throws org.apache.thrift.TException {
+        getStatusBatch_result result = new getStatusBatch_result();
+        try {
+          result.success = iface.getStatusBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class getLoadJobInfo<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLoadJobInfo_args> {
+      public getLoadJobInfo() {
+        super("getLoadJobInfo");
+      }
+
+      public getLoadJobInfo_args getEmptyArgsInstance() {
+        return new getLoadJobInfo_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getLoadJobInfo_result getResult(I iface, getLoadJobInfo_args args) throws org.apache.thrift.TException {
+        getLoadJobInfo_result result = new getLoadJobInfo_result();
+        try {
+          result.success = iface.getLoadJobInfo(args.id, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getNewBlockIdForFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getNewBlockIdForFile_args> {
       public getNewBlockIdForFile() {
         super("getNewBlockIdForFile");
@@ -1442,23 +2069,23 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public static class loadMetadata<I extends Iface> extends org.apache.thrift.ProcessFunction<I, loadMetadata_args> {
-      public loadMetadata() {
-        super("loadMetadata");
+    public static class load<I extends Iface> extends org.apache.thrift.ProcessFunction<I, load_args> {
+      public load() {
+        super("load");
       }
 
-      public loadMetadata_args getEmptyArgsInstance() {
-        return new loadMetadata_args();
+      public load_args getEmptyArgsInstance() {
+        return new load_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public loadMetadata_result getResult(I iface, loadMetadata_args args) throws org.apache.thrift.TException {
-        loadMetadata_result result = new loadMetadata_result();
+      public load_result getResult(I iface, load_args args) throws org.apache.thrift.TException {
+        load_result result = new load_result();
         try {
-          result.success = iface.loadMetadata(args.ufsPath, args.recursive, args.options);
+          result.success = iface.load(args.path, args.options);
         } catch (alluxio.thrift.AlluxioTException e) {
           result.e = e;
         }
@@ -1466,7 +2093,31 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public static class mount<I extends Iface> extends org.apache.thrift.ProcessFunction<I, mount_args> {
+    public static class loadMetadata<I extends Iface> extends org.apache.thrift.ProcessFunction<I, loadMetadata_args> {
+      public loadMetadata() {
+        super("loadMetadata");
+      }
+
+      public loadMetadata_args getEmptyArgsInstance() {
+        return new loadMetadata_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public loadMetadata_result getResult(I iface, loadMetadata_args args) throws org.apache.thrift.TException {
+        loadMetadata_result result = new loadMetadata_result();
+        try {
+          result.success = iface.loadMetadata(args.ufsPath, args.recursive, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class mount<I extends Iface> extends org.apache.thrift.ProcessFunction<I, mount_args> {
       public mount() {
         super("mount");
       }
@@ -1514,6 +2165,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class deleteBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteBatch_args> {
+      public deleteBatch() {
+        super("deleteBatch");
+      }
+
+      public deleteBatch_args getEmptyArgsInstance() {
+        return new deleteBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public deleteBatch_result getResult(I iface, deleteBatch_args args) throws org.apache.thrift.TException {
+        deleteBatch_result result = new deleteBatch_result();
+        try {
+          result.success = iface.deleteBatch(args.paths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, rename_args> {
       public rename() {
         super("rename");
@@ -1538,6 +2213,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class renameBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, renameBatch_args> {
+      public renameBatch() {
+        super("renameBatch");
+      }
+
+      public renameBatch_args getEmptyArgsInstance() {
+        return new renameBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public renameBatch_result getResult(I iface, renameBatch_args args) throws org.apache.thrift.TException {
+        renameBatch_result result = new renameBatch_result();
+        try {
+          result.success = iface.renameBatch(args.srcPaths, args.dstPaths, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class setAttribute<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setAttribute_args> {
       public setAttribute() {
         super("setAttribute");
@@ -1627,14 +2326,21 @@ public class FileSystemMasterClientService {
       processMap.put("completeFile", new completeFile());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
+      processMap.put("createFilesBatch", new createFilesBatch());
       processMap.put("free", new free());
+      processMap.put("getFileChecksum", new getFileChecksum());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getStatusBatch", new getStatusBatch());
+      processMap.put("getLoadJobInfo", new getLoadJobInfo());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("listStatus", new listStatus());
+      processMap.put("load", new load());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("remove", new remove());
+      processMap.put("deleteBatch", new deleteBatch());
       processMap.put("rename", new rename());
+      processMap.put("renameBatch", new renameBatch());
       processMap.put("setAttribute", new setAttribute());
       processMap.put("scheduleAsyncPersistence", new scheduleAsyncPersistence());
       processMap.put("unmount", new unmount());
@@ -1869,20 +2575,20 @@ public class FileSystemMasterClientService {
       }
     }
 
-    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, FreeTResponse> {
-      public free() {
-        super("free");
+    public static class createFilesBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createFilesBatch_args, CreateFilesBatchTResponse> {
+      public createFilesBatch() {
+        super("createFilesBatch");
       }
 
-      public free_args getEmptyArgsInstance() {
-        return new free_args();
+      public createFilesBatch_args getEmptyArgsInstance() {
+        return new createFilesBatch_args();
       }
 
-      public AsyncMethodCallback<FreeTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<CreateFilesBatchTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<FreeTResponse>() { 
-          public void onComplete(FreeTResponse o) {
-            free_result result = new free_result();
+        return new AsyncMethodCallback<CreateFilesBatchTResponse>() { 
+          public void onComplete(CreateFilesBatchTResponse o) {
+            createFilesBatch_result result = new createFilesBatch_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1895,7 +2601,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            free_result result = new free_result();
+            createFilesBatch_result result = new createFilesBatch_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -1921,25 +2627,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, free_args args, org.apache.thrift.async.AsyncMethodCallback<FreeTResponse> resultHandler) throws TException {
-        iface.free(args.path, args.recursive, args.options,resultHandler);
+      public void start(I iface, createFilesBatch_args args, org.apache.thrift.async.AsyncMethodCallback<CreateFilesBatchTResponse> resultHandler) throws TException {
+        iface.createFilesBatch(args.paths, args.options,resultHandler);
       }
     }
 
-    public static class getStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatus_args, GetStatusTResponse> {
-      public getStatus() {
-        super("getStatus");
+    public static class free<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, free_args, FreeTResponse> {
+      public free() {
+        super("free");
       }
 
-      public getStatus_args getEmptyArgsInstance() {
-        return new getStatus_args();
+      public free_args getEmptyArgsInstance() {
+        return new free_args();
       }
 
-      public AsyncMethodCallback<GetStatusTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<FreeTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<GetStatusTResponse>() { 
-          public void onComplete(GetStatusTResponse o) {
-            getStatus_result result = new getStatus_result();
+        return new AsyncMethodCallback<FreeTResponse>() { 
+          public void onComplete(FreeTResponse o) {
+            free_result result = new free_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -1952,7 +2658,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getStatus_result result = new getStatus_result();
+            free_result result = new free_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -1978,25 +2684,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getStatus_args args, org.apache.thrift.async.AsyncMethodCallback<GetStatusTResponse> resultHandler) throws TException {
-        iface.getStatus(args.path, args.options,resultHandler);
+      public void start(I iface, free_args args, org.apache.thrift.async.AsyncMethodCallback<FreeTResponse> resultHandler) throws TException {
+        iface.free(args.path, args.recursive, args.options,resultHandler);
       }
     }
 
-    public static class getNewBlockIdForFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getNewBlockIdForFile_args, GetNewBlockIdForFileTResponse> {
-      public getNewBlockIdForFile() {
-        super("getNewBlockIdForFile");
+    public static class getFileChecksum<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileChecksum_args, GetFileChecksumTResponse> {
+      public getFileChecksum() {
+        super("getFileChecksum");
       }
 
-      public getNewBlockIdForFile_args getEmptyArgsInstance() {
-        return new getNewBlockIdForFile_args();
+      public getFileChecksum_args getEmptyArgsInstance() {
+        return new getFileChecksum_args();
       }
 
-      public AsyncMethodCallback<GetNewBlockIdForFileTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<GetFileChecksumTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<GetNewBlockIdForFileTResponse>() { 
-          public void onComplete(GetNewBlockIdForFileTResponse o) {
-            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
+        return new AsyncMethodCallback<GetFileChecksumTResponse>() { 
+          public void onComplete(GetFileChecksumTResponse o) {
+            getFileChecksum_result result = new getFileChecksum_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2009,7 +2715,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
+            getFileChecksum_result result = new getFileChecksum_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2035,25 +2741,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, getNewBlockIdForFile_args args, org.apache.thrift.async.AsyncMethodCallback<GetNewBlockIdForFileTResponse> resultHandler) throws TException {
-        iface.getNewBlockIdForFile(args.path, args.options,resultHandler);
+      public void start(I iface, getFileChecksum_args args, org.apache.thrift.async.AsyncMethodCallback<GetFileChecksumTResponse> resultHandler) throws TException {
+        iface.getFileChecksum(args.path, args.options,resultHandler);
       }
     }
 
-    public static class listStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listStatus_args, ListStatusTResponse> {
-      public listStatus() {
-        super("listStatus");
+    public static class getStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatus_args, GetStatusTResponse> {
+      public getStatus() {
+        super("getStatus");
       }
 
-      public listStatus_args getEmptyArgsInstance() {
-        return new listStatus_args();
+      public getStatus_args getEmptyArgsInstance() {
+        return new getStatus_args();
       }
 
-      public AsyncMethodCallback<ListStatusTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<GetStatusTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ListStatusTResponse>() { 
-          public void onComplete(ListStatusTResponse o) {
-            listStatus_result result = new listStatus_result();
+        return new AsyncMethodCallback<GetStatusTResponse>() { 
+          public void onComplete(GetStatusTResponse o) {
+            getStatus_result result = new getStatus_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2066,7 +2772,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listStatus_result result = new listStatus_result();
+            getStatus_result result = new getStatus_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2092,25 +2798,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, listStatus_args args, org.apache.thrift.async.AsyncMethodCallback<ListStatusTResponse> resultHandler) throws TException {
-        iface.listStatus(args.path, args.options,resultHandler);
+      public void start(I iface, getStatus_args args, org.apache.thrift.async.AsyncMethodCallback<GetStatusTResponse> resultHandler) throws TException {
+        iface.getStatus(args.path, args.options,resultHandler);
       }
     }
 
-    public static class loadMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadMetadata_args, LoadMetadataTResponse> {
-      public loadMetadata() {
-        super("loadMetadata");
+    public static class getStatusBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatusBatch_args, GetStatusBatchTResponse> {
+      public getStatusBatch() {
+        super("getStatusBatch");
       }
 
-      public loadMetadata_args getEmptyArgsInstance() {
-        return new loadMetadata_args();
+      public getStatusBatch_args getEmptyArgsInstance() {
+        return new getStatusBatch_args();
       }
 
-      public AsyncMethodCallback<LoadMetadataTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<GetStatusBatchTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<LoadMetadataTResponse>() { 
-          public void onComplete(LoadMetadataTResponse o) {
-            loadMetadata_result result = new loadMetadata_result();
+        return new AsyncMethodCallback<GetStatusBatchTResponse>() { 
+          public void onComplete(GetStatusBatchTResponse o) {
+            getStatusBatch_result result = new getStatusBatch_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2123,7 +2829,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            loadMetadata_result result = new loadMetadata_result();
+            getStatusBatch_result result = new getStatusBatch_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2149,25 +2855,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, loadMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<LoadMetadataTResponse> resultHandler) throws TException {
-        iface.loadMetadata(args.ufsPath, args.recursive, args.options,resultHandler);
+      public void start(I iface, getStatusBatch_args args, org.apache.thrift.async.AsyncMethodCallback<GetStatusBatchTResponse> resultHandler) throws TException {
+        iface.getStatusBatch(args.paths, args.options,resultHandler);
       }
     }
 
-    public static class mount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mount_args, MountTResponse> {
-      public mount() {
-        super("mount");
+    public static class getLoadJobInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLoadJobInfo_args, GetLoadJobInfoTResponse> {
+      public getLoadJobInfo() {
+        super("getLoadJobInfo");
       }
 
-      public mount_args getEmptyArgsInstance() {
-        return new mount_args();
+      public getLoadJobInfo_args getEmptyArgsInstance() {
+        return new getLoadJobInfo_args();
       }
 
-      public AsyncMethodCallback<MountTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<GetLoadJobInfoTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<MountTResponse>() { 
-          public void onComplete(MountTResponse o) {
-            mount_result result = new mount_result();
+        return new AsyncMethodCallback<GetLoadJobInfoTResponse>() { 
+          public void onComplete(GetLoadJobInfoTResponse o) {
+            getLoadJobInfo_result result = new getLoadJobInfo_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2180,7 +2886,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            mount_result result = new mount_result();
+            getLoadJobInfo_result result = new getLoadJobInfo_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2206,25 +2912,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, mount_args args, org.apache.thrift.async.AsyncMethodCallback<MountTResponse> resultHandler) throws TException {
-        iface.mount(args.alluxioPath, args.ufsPath, args.options,resultHandler);
+      public void start(I iface, getLoadJobInfo_args args, org.apache.thrift.async.AsyncMethodCallback<GetLoadJobInfoTResponse> resultHandler) throws TException {
+        iface.getLoadJobInfo(args.id, args.options,resultHandler);
       }
     }
 
-    public static class remove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, remove_args, DeleteTResponse> {
-      public remove() {
-        super("remove");
+    public static class getNewBlockIdForFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getNewBlockIdForFile_args, GetNewBlockIdForFileTResponse> {
+      public getNewBlockIdForFile() {
+        super("getNewBlockIdForFile");
       }
 
-      public remove_args getEmptyArgsInstance() {
-        return new remove_args();
+      public getNewBlockIdForFile_args getEmptyArgsInstance() {
+        return new getNewBlockIdForFile_args();
       }
 
-      public AsyncMethodCallback<DeleteTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<GetNewBlockIdForFileTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<DeleteTResponse>() { 
-          public void onComplete(DeleteTResponse o) {
-            remove_result result = new remove_result();
+        return new AsyncMethodCallback<GetNewBlockIdForFileTResponse>() { 
+          public void onComplete(GetNewBlockIdForFileTResponse o) {
+            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2237,7 +2943,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            remove_result result = new remove_result();
+            getNewBlockIdForFile_result result = new getNewBlockIdForFile_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2263,25 +2969,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, remove_args args, org.apache.thrift.async.AsyncMethodCallback<DeleteTResponse> resultHandler) throws TException {
-        iface.remove(args.path, args.recursive, args.options,resultHandler);
+      public void start(I iface, getNewBlockIdForFile_args args, org.apache.thrift.async.AsyncMethodCallback<GetNewBlockIdForFileTResponse> resultHandler) throws TException {
+        iface.getNewBlockIdForFile(args.path, args.options,resultHandler);
       }
     }
 
-    public static class rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_args, RenameTResponse> {
-      public rename() {
-        super("rename");
+    public static class listStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listStatus_args, ListStatusTResponse> {
+      public listStatus() {
+        super("listStatus");
       }
 
-      public rename_args getEmptyArgsInstance() {
-        return new rename_args();
+      public listStatus_args getEmptyArgsInstance() {
+        return new listStatus_args();
       }
 
-      public AsyncMethodCallback<RenameTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<ListStatusTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RenameTResponse>() { 
-          public void onComplete(RenameTResponse o) {
-            rename_result result = new rename_result();
+        return new AsyncMethodCallback<ListStatusTResponse>() { 
+          public void onComplete(ListStatusTResponse o) {
+            listStatus_result result = new listStatus_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2294,7 +3000,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            rename_result result = new rename_result();
+            listStatus_result result = new listStatus_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2320,25 +3026,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, rename_args args, org.apache.thrift.async.AsyncMethodCallback<RenameTResponse> resultHandler) throws TException {
-        iface.rename(args.path, args.dstPath, args.options,resultHandler);
+      public void start(I iface, listStatus_args args, org.apache.thrift.async.AsyncMethodCallback<ListStatusTResponse> resultHandler) throws TException {
+        iface.listStatus(args.path, args.options,resultHandler);
       }
     }
 
-    public static class setAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setAttribute_args, SetAttributeTResponse> {
-      public setAttribute() {
-        super("setAttribute");
+    public static class load<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, load_args, LoadTResponse> {
+      public load() {
+        super("load");
       }
 
-      public setAttribute_args getEmptyArgsInstance() {
-        return new setAttribute_args();
+      public load_args getEmptyArgsInstance() {
+        return new load_args();
       }
 
-      public AsyncMethodCallback<SetAttributeTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<LoadTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<SetAttributeTResponse>() { 
-          public void onComplete(SetAttributeTResponse o) {
-            setAttribute_result result = new setAttribute_result();
+        return new AsyncMethodCallback<LoadTResponse>() { 
+          public void onComplete(LoadTResponse o) {
+            load_result result = new load_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2351,7 +3057,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            setAttribute_result result = new setAttribute_result();
+            load_result result = new load_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2377,25 +3083,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, setAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<SetAttributeTResponse> resultHandler) throws TException {
-        iface.setAttribute(args.path, args.options,resultHandler);
+      public void start(I iface, load_args args, org.apache.thrift.async.AsyncMethodCallback<LoadTResponse> resultHandler) throws TException {
+        iface.load(args.path, args.options,resultHandler);
       }
     }
 
-    public static class scheduleAsyncPersistence<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, scheduleAsyncPersistence_args, ScheduleAsyncPersistenceTResponse> {
-      public scheduleAsyncPersistence() {
-        super("scheduleAsyncPersistence");
+    public static class loadMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadMetadata_args, LoadMetadataTResponse> {
+      public loadMetadata() {
+        super("loadMetadata");
       }
 
-      public scheduleAsyncPersistence_args getEmptyArgsInstance() {
-        return new scheduleAsyncPersistence_args();
+      public loadMetadata_args getEmptyArgsInstance() {
+        return new loadMetadata_args();
       }
 
-      public AsyncMethodCallback<ScheduleAsyncPersistenceTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<LoadMetadataTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ScheduleAsyncPersistenceTResponse>() { 
-          public void onComplete(ScheduleAsyncPersistenceTResponse o) {
-            scheduleAsyncPersistence_result result = new scheduleAsyncPersistence_result();
+        return new AsyncMethodCallback<LoadMetadataTResponse>() { 
+          public void onComplete(LoadMetadataTResponse o) {
+            loadMetadata_result result = new loadMetadata_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2408,7 +3114,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            scheduleAsyncPersistence_result result = new scheduleAsyncPersistence_result();
+            loadMetadata_result result = new loadMetadata_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2434,25 +3140,25 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, scheduleAsyncPersistence_args args, org.apache.thrift.async.AsyncMethodCallback<ScheduleAsyncPersistenceTResponse> resultHandler) throws TException {
-        iface.scheduleAsyncPersistence(args.path, args.options,resultHandler);
+      public void start(I iface, loadMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<LoadMetadataTResponse> resultHandler) throws TException {
+        iface.loadMetadata(args.ufsPath, args.recursive, args.options,resultHandler);
       }
     }
 
-    public static class unmount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unmount_args, UnmountTResponse> {
-      public unmount() {
-        super("unmount");
+    public static class mount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, mount_args, MountTResponse> {
+      public mount() {
+        super("mount");
       }
 
-      public unmount_args getEmptyArgsInstance() {
-        return new unmount_args();
+      public mount_args getEmptyArgsInstance() {
+        return new mount_args();
       }
 
-      public AsyncMethodCallback<UnmountTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<MountTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<UnmountTResponse>() { 
-          public void onComplete(UnmountTResponse o) {
-            unmount_result result = new unmount_result();
+        return new AsyncMethodCallback<MountTResponse>() { 
+          public void onComplete(MountTResponse o) {
+            mount_result result = new mount_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2465,7 +3171,7 @@ public class FileSystemMasterClientService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            unmount_result result = new unmount_result();
+            mount_result result = new mount_result();
             if (e instanceof alluxio.thrift.AlluxioTException) {
                         result.e = (alluxio.thrift.AlluxioTException) e;
                         result.setEIsSet(true);
@@ -2491,32 +3197,7326 @@ public class FileSystemMasterClientService {
         return false;
       }
 
-      public void start(I iface, unmount_args args, org.apache.thrift.async.AsyncMethodCallback<UnmountTResponse> resultHandler) throws TException {
-        iface.unmount(args.alluxioPath, args.options,resultHandler);
+      public void start(I iface, mount_args args, org.apache.thrift.async.AsyncMethodCallback<MountTResponse> resultHandler) throws TException {
+        iface.mount(args.alluxioPath, args.ufsPath, args.options,resultHandler);
+      }
+    }
+
+    public static class remove<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, remove_args, DeleteTResponse> {
+      public remove() {
+        super("remove");
+      }
+
+      public remove_args getEmptyArgsInstance() {
+        return new remove_args();
+      }
+
+      public AsyncMethodCallback<DeleteTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<DeleteTResponse>() { 
+          public void onComplete(DeleteTResponse o) {
+            remove_result result = new remove_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            remove_result result = new remove_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, remove_args args, org.apache.thrift.async.AsyncMethodCallback<DeleteTResponse> resultHandler) throws TException {
+        iface.remove(args.path, args.recursive, args.options,resultHandler);
+      }
+    }
+
+    public static class deleteBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteBatch_args, DeleteBatchTResponse> {
+      public deleteBatch() {
+        super("deleteBatch");
+      }
+
+      public deleteBatch_args getEmptyArgsInstance() {
+        return new deleteBatch_args();
+      }
+
+      public AsyncMethodCallback<DeleteBatchTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<DeleteBatchTResponse>() { 
+          public void onComplete(DeleteBatchTResponse o) {
+            deleteBatch_result result = new deleteBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            deleteBatch_result result = new deleteBatch_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, deleteBatch_args args, org.apache.thrift.async.AsyncMethodCallback<DeleteBatchTResponse> resultHandler) throws TException {
+        iface.deleteBatch(args.paths, args.options,resultHandler);
+      }
+    }
+
+    public static class rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_args, RenameTResponse> {
+      public rename() {
+        super("rename");
+      }
+
+      public rename_args getEmptyArgsInstance() {
+        return new rename_args();
+      }
+
+      public AsyncMethodCallback<RenameTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RenameTResponse>() { 
+          public void onComplete(RenameTResponse o) {
+            rename_result result = new rename_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            rename_result result = new rename_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, rename_args args, org.apache.thrift.async.AsyncMethodCallback<RenameTResponse> resultHandler) throws TException {
+        iface.rename(args.path, args.dstPath, args.options,resultHandler);
+      }
+    }
+
+    public static class renameBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, renameBatch_args, RenameBatchTResponse> {
+      public renameBatch() {
+        super("renameBatch");
+      }
+
+      public renameBatch_args getEmptyArgsInstance() {
+        return new renameBatch_args();
+      }
+
+      public AsyncMethodCallback<RenameBatchTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RenameBatchTResponse>() { 
+          public void onComplete(RenameBatchTResponse o) {
+            renameBatch_result result = new renameBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            renameBatch_result result = new renameBatch_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, renameBatch_args args, org.apache.thrift.async.AsyncMethodCallback<RenameBatchTResponse> resultHandler) throws TException {
+        iface.renameBatch(args.srcPaths, args.dstPaths, args.options,resultHandler);
+      }
+    }
+
+    public static class setAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setAttribute_args, SetAttributeTResponse> {
+      public setAttribute() {
+        super("setAttribute");
+      }
+
+      public setAttribute_args getEmptyArgsInstance() {
+        return new setAttribute_args();
+      }
+
+      public AsyncMethodCallback<SetAttributeTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<SetAttributeTResponse>() { 
+          public void onComplete(SetAttributeTResponse o) {
+            setAttribute_result result = new setAttribute_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            setAttribute_result result = new setAttribute_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<SetAttributeTResponse> resultHandler) throws TException {
+        iface.setAttribute(args.path, args.options,resultHandler);
+      }
+    }
+
+    public static class scheduleAsyncPersistence<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, scheduleAsyncPersistence_args, ScheduleAsyncPersistenceTResponse> {
+      public scheduleAsyncPersistence() {
+        super("scheduleAsyncPersistence");
+      }
+
+      public scheduleAsyncPersistence_args getEmptyArgsInstance() {
+        return new scheduleAsyncPersistence_args();
+      }
+
+      public AsyncMethodCallback<ScheduleAsyncPersistenceTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ScheduleAsyncPersistenceTResponse>() { 
+          public void onComplete(ScheduleAsyncPersistenceTResponse o) {
+            scheduleAsyncPersistence_result result = new scheduleAsyncPersistence_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            scheduleAsyncPersistence_result result = new scheduleAsyncPersistence_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, scheduleAsyncPersistence_args args, org.apache.thrift.async.AsyncMethodCallback<ScheduleAsyncPersistenceTResponse> resultHandler) throws TException {
+        iface.scheduleAsyncPersistence(args.path, args.options,resultHandler);
+      }
+    }
+
+    public static class unmount<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unmount_args, UnmountTResponse> {
+      public unmount() {
+        super("unmount");
+      }
+
+      public unmount_args getEmptyArgsInstance() {
+        return new unmount_args();
+      }
+
+      public AsyncMethodCallback<UnmountTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<UnmountTResponse>() { 
+          public void onComplete(UnmountTResponse o) {
+            unmount_result result = new unmount_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            unmount_result result = new unmount_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, unmount_args args, org.apache.thrift.async.AsyncMethodCallback<UnmountTResponse> resultHandler) throws TException {
+        iface.unmount(args.alluxioPath, args.options,resultHandler);
+      }
+    }
+
+  }
+
+  public static class checkConsistency_args implements org.apache.thrift.TBase<checkConsistency_args, checkConsistency_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new checkConsistency_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkConsistency_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CheckConsistencyTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the root of the subtree to check
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_args.class, metaDataMap);
+    }
+
+    public checkConsistency_args() {
+    }
+
+    public checkConsistency_args(
+      String path,
+      CheckConsistencyTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkConsistency_args(checkConsistency_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CheckConsistencyTOptions(other.options);
+      }
+    }
+
+    public checkConsistency_args deepCopy() {
+      return new checkConsistency_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the root of the subtree to check
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the root of the subtree to check
+     */
+    public checkConsistency_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CheckConsistencyTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public checkConsistency_args setOptions(CheckConsistencyTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CheckConsistencyTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkConsistency_args)
+        return this.equals((checkConsistency_args)that);
+      return false;
+    }
+
+    public boolean equals(checkConsistency_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(checkConsistency_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("checkConsistency_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class checkConsistency_argsStandardSchemeFactory implements SchemeFactory {
+      public checkConsistency_argsStandardScheme getScheme() {
+        return new checkConsistency_argsStandardScheme();
+      }
+    }
+
+    private static class checkConsistency_argsStandardScheme extends StandardScheme<checkConsistency_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CheckConsistencyTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class checkConsistency_argsTupleSchemeFactory implements SchemeFactory {
+      public checkConsistency_argsTupleScheme getScheme() {
+        return new checkConsistency_argsTupleScheme();
+      }
+    }
+
+    private static class checkConsistency_argsTupleScheme extends TupleScheme<checkConsistency_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CheckConsistencyTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class checkConsistency_result implements org.apache.thrift.TBase<checkConsistency_result, checkConsistency_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new checkConsistency_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkConsistency_resultTupleSchemeFactory());
+    }
+
+    private CheckConsistencyTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_result.class, metaDataMap);
+    }
+
+    public checkConsistency_result() {
+    }
+
+    public checkConsistency_result(
+      CheckConsistencyTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkConsistency_result(checkConsistency_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CheckConsistencyTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public checkConsistency_result deepCopy() {
+      return new checkConsistency_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CheckConsistencyTResponse getSuccess() {
+      return this.success;
+    }
+
+    public checkConsistency_result setSuccess(CheckConsistencyTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public checkConsistency_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CheckConsistencyTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkConsistency_result)
+        return this.equals((checkConsistency_result)that);
+      return false;
+    }
+
+    public boolean equals(checkConsistency_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(checkConsistency_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("checkConsistency_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class checkConsistency_resultStandardSchemeFactory implements SchemeFactory {
+      public checkConsistency_resultStandardScheme getScheme() {
+        return new checkConsistency_resultStandardScheme();
+      }
+    }
+
+    private static class checkConsistency_resultStandardScheme extends StandardScheme<checkConsistency_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CheckConsistencyTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class checkConsistency_resultTupleSchemeFactory implements SchemeFactory {
+      public checkConsistency_resultTupleScheme getScheme() {
+        return new checkConsistency_resultTupleScheme();
+      }
+    }
+
+    private static class checkConsistency_resultTupleScheme extends TupleScheme<checkConsistency_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CheckConsistencyTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CompleteFileTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
+    }
+
+    public completeFile_args() {
+    }
+
+    public completeFile_args(
+      String path,
+      CompleteFileTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFile_args(completeFile_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CompleteFileTOptions(other.options);
+      }
+    }
+
+    public completeFile_args deepCopy() {
+      return new completeFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public completeFile_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CompleteFileTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public completeFile_args setOptions(CompleteFileTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CompleteFileTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFile_args)
+        return this.equals((completeFile_args)that);
+      return false;
+    }
+
+    public boolean equals(completeFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFile_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public completeFile_argsStandardScheme getScheme() {
+        return new completeFile_argsStandardScheme();
+      }
+    }
+
+    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CompleteFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public completeFile_argsTupleScheme getScheme() {
+        return new completeFile_argsTupleScheme();
+      }
+    }
+
+    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CompleteFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
+    }
+
+    private CompleteFileTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
+    }
+
+    public completeFile_result() {
+    }
+
+    public completeFile_result(
+      CompleteFileTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public completeFile_result(completeFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CompleteFileTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public completeFile_result deepCopy() {
+      return new completeFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CompleteFileTResponse getSuccess() {
+      return this.success;
+    }
+
+    public completeFile_result setSuccess(CompleteFileTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CompleteFileTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof completeFile_result)
+        return this.equals((completeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(completeFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(completeFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("completeFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public completeFile_resultStandardScheme getScheme() {
+        return new completeFile_resultStandardScheme();
+      }
+    }
+
+    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CompleteFileTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public completeFile_resultTupleScheme getScheme() {
+        return new completeFile_resultTupleScheme();
+      }
+    }
+
+    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CompleteFileTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CreateDirectoryTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
+    }
+
+    public createDirectory_args() {
+    }
+
+    public createDirectory_args(
+      String path,
+      CreateDirectoryTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createDirectory_args(createDirectory_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateDirectoryTOptions(other.options);
+      }
+    }
+
+    public createDirectory_args deepCopy() {
+      return new createDirectory_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the directory
+     */
+    public createDirectory_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CreateDirectoryTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CreateDirectoryTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createDirectory_args)
+        return this.equals((createDirectory_args)that);
+      return false;
+    }
+
+    public boolean equals(createDirectory_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createDirectory_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createDirectory_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_argsStandardScheme getScheme() {
+        return new createDirectory_argsStandardScheme();
+      }
+    }
+
+    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateDirectoryTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_argsTupleScheme getScheme() {
+        return new createDirectory_argsTupleScheme();
+      }
+    }
+
+    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateDirectoryTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
+    }
+
+    private CreateDirectoryTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
+    }
+
+    public createDirectory_result() {
+    }
+
+    public createDirectory_result(
+      CreateDirectoryTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createDirectory_result(createDirectory_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CreateDirectoryTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public createDirectory_result deepCopy() {
+      return new createDirectory_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CreateDirectoryTResponse getSuccess() {
+      return this.success;
+    }
+
+    public createDirectory_result setSuccess(CreateDirectoryTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CreateDirectoryTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createDirectory_result)
+        return this.equals((createDirectory_result)that);
+      return false;
+    }
+
+    public boolean equals(createDirectory_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createDirectory_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createDirectory_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_resultStandardScheme getScheme() {
+        return new createDirectory_resultStandardScheme();
+      }
+    }
+
+    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CreateDirectoryTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_resultTupleScheme getScheme() {
+        return new createDirectory_resultTupleScheme();
+      }
+    }
+
+    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CreateDirectoryTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private CreateFileTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path"),
+      /**
+       * the options for creating the file
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
+    }
+
+    public createFile_args() {
+    }
+
+    public createFile_args(
+      String path,
+      CreateFileTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFile_args(createFile_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateFileTOptions(other.options);
+      }
+    }
+
+    public createFile_args deepCopy() {
+      return new createFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public createFile_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the options for creating the file
+     */
+    public CreateFileTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for creating the file
+     */
+    public createFile_args setOptions(CreateFileTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CreateFileTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFile_args)
+        return this.equals((createFile_args)that);
+      return false;
+    }
+
+    public boolean equals(createFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFile_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
+      public createFile_argsStandardScheme getScheme() {
+        return new createFile_argsStandardScheme();
+      }
+    }
+
+    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
+      public createFile_argsTupleScheme getScheme() {
+        return new createFile_argsTupleScheme();
+      }
+    }
+
+    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+    }
+
+    private CreateFileTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+    }
+
+    public createFile_result() {
+    }
+
+    public createFile_result(
+      CreateFileTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFile_result(createFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CreateFileTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public createFile_result deepCopy() {
+      return new createFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CreateFileTResponse getSuccess() {
+      return this.success;
+    }
+
+    public createFile_result setSuccess(CreateFileTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CreateFileTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFile_result)
+        return this.equals((createFile_result)that);
+      return false;
+    }
+
+    public boolean equals(createFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
+      public createFile_resultStandardScheme getScheme() {
+        return new createFile_resultStandardScheme();
+      }
+    }
+
+    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CreateFileTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
+      public createFile_resultTupleScheme getScheme() {
+        return new createFile_resultTupleScheme();
+      }
+    }
+
+    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CreateFileTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFilesBatch_args implements org.apache.thrift.TBase<createFilesBatch_args, createFilesBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFilesBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFilesBatch_args");
+
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFilesBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFilesBatch_argsTupleSchemeFactory());
+    }
+
+    private List<String> paths; // required
+    private CreateFileTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the paths of the files
+       */
+      PATHS((short)1, "paths"),
+      /**
+       * the options for creating the files
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFilesBatch_args.class, metaDataMap);
+    }
+
+    public createFilesBatch_args() {
+    }
+
+    public createFilesBatch_args(
+      List<String> paths,
+      CreateFileTOptions options)
+    {
+      this();
+      this.paths = paths;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFilesBatch_args(createFilesBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CreateFileTOptions(other.options);
+      }
+    }
+
+    public createFilesBatch_args deepCopy() {
+      return new createFilesBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.paths = null;
+      this.options = null;
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    /**
+     * the paths of the files
+     */
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    /**
+     * the paths of the files
+     */
+    public createFilesBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
+    }
+
+    public void unsetPaths() {
+      this.paths = null;
+    }
+
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
+    }
+
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    /**
+     * the options for creating the files
+     */
+    public CreateFileTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for creating the files
+     */
+    public createFilesBatch_args setOptions(CreateFileTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CreateFileTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATHS:
+        return getPaths();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATHS:
+        return isSetPaths();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFilesBatch_args)
+        return this.equals((createFilesBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(createFilesBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
+          return false;
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFilesBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFilesBatch_args(");
+      boolean first = true;
+
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFilesBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public createFilesBatch_argsStandardScheme getScheme() {
+        return new createFilesBatch_argsStandardScheme();
+      }
+    }
+
+    private static class createFilesBatch_argsStandardScheme extends StandardScheme<createFilesBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFilesBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list122 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list122.size);
+                  String _elem123;
+                  for (int _i124 = 0; _i124 < _list122.size; ++_i124)
+                  {
+                    _elem123 = iprot.readString();
+                    struct.paths.add(_elem123);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFilesBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter125 : struct.paths)
+            {
+              oprot.writeString(_iter125);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFilesBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public createFilesBatch_argsTupleScheme getScheme() {
+        return new createFilesBatch_argsTupleScheme();
+      }
+    }
+
+    private static class createFilesBatch_argsTupleScheme extends TupleScheme<createFilesBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFilesBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPaths()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter126 : struct.paths)
+            {
+              oprot.writeString(_iter126);
+            }
+          }
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFilesBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list127 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list127.size);
+            String _elem128;
+            for (int _i129 = 0; _i129 < _list127.size; ++_i129)
+            {
+              _elem128 = iprot.readString();
+              struct.paths.add(_elem128);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFilesBatch_result implements org.apache.thrift.TBase<createFilesBatch_result, createFilesBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFilesBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFilesBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFilesBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFilesBatch_resultTupleSchemeFactory());
+    }
+
+    private CreateFilesBatchTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFilesBatchTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFilesBatch_result.class, metaDataMap);
+    }
+
+    public createFilesBatch_result() {
+    }
+
+    public createFilesBatch_result(
+      CreateFilesBatchTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFilesBatch_result(createFilesBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CreateFilesBatchTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public createFilesBatch_result deepCopy() {
+      return new createFilesBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CreateFilesBatchTResponse getSuccess() {
+      return this.success;
+    }
+
+    public createFilesBatch_result setSuccess(CreateFilesBatchTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createFilesBatch_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CreateFilesBatchTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFilesBatch_result)
+        return this.equals((createFilesBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(createFilesBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFilesBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFilesBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFilesBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public createFilesBatch_resultStandardScheme getScheme() {
+        return new createFilesBatch_resultStandardScheme();
+      }
+    }
+
+    private static class createFilesBatch_resultStandardScheme extends StandardScheme<createFilesBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFilesBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CreateFilesBatchTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFilesBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFilesBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public createFilesBatch_resultTupleScheme getScheme() {
+        return new createFilesBatch_resultTupleScheme();
+      }
+    }
+
+    private static class createFilesBatch_resultTupleScheme extends TupleScheme<createFilesBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFilesBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFilesBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CreateFilesBatchTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private boolean recursive; // required
+    private FreeTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * whether to free recursively
+       */
+      RECURSIVE((short)2, "recursive"),
+      /**
+       * the options for freeing a path
+       */
+      OPTIONS((short)3, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
+          case 3: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+    }
+
+    public free_args() {
+    }
+
+    public free_args(
+      String path,
+      boolean recursive,
+      FreeTOptions options)
+    {
+      this();
+      this.path = path;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_args(free_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.recursive = other.recursive;
+      if (other.isSetOptions()) {
+        this.options = new FreeTOptions(other.options);
+      }
+    }
+
+    public free_args deepCopy() {
+      return new free_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public free_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public free_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    /**
+     * the options for freeing a path
+     */
+    public FreeTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for freeing a path
+     */
+    public free_args setOptions(FreeTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((FreeTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case RECURSIVE:
+        return isRecursive();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case RECURSIVE:
+        return isSetRecursive();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_args)
+        return this.equals((free_args)that);
+      return false;
+    }
+
+    public boolean equals(free_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_argsStandardSchemeFactory implements SchemeFactory {
+      public free_argsStandardScheme getScheme() {
+        return new free_argsStandardScheme();
+      }
+    }
+
+    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new FreeTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_argsTupleSchemeFactory implements SchemeFactory {
+      public free_argsTupleScheme getScheme() {
+        return new free_argsTupleScheme();
+      }
+    }
+
+    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new FreeTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+    }
+
+    private FreeTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+    }
+
+    public free_result() {
+    }
+
+    public free_result(
+      FreeTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_result(free_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FreeTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public free_result deepCopy() {
+      return new free_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public FreeTResponse getSuccess() {
+      return this.success;
+    }
+
+    public free_result setSuccess(FreeTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public free_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FreeTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_result)
+        return this.equals((free_result)that);
+      return false;
+    }
+
+    public boolean equals(free_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_resultStandardSchemeFactory implements SchemeFactory {
+      public free_resultStandardScheme getScheme() {
+        return new free_resultStandardScheme();
+      }
+    }
+
+    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FreeTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_resultTupleSchemeFactory implements SchemeFactory {
+      public free_resultTupleScheme getScheme() {
+        return new free_resultTupleScheme();
+      }
+    }
+
+    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new FreeTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileChecksum_args implements org.apache.thrift.TBase<getFileChecksum_args, getFileChecksum_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileChecksum_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileChecksum_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileChecksum_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileChecksum_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private GetFileChecksumTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetFileChecksumTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileChecksum_args.class, metaDataMap);
+    }
+
+    public getFileChecksum_args() {
+    }
+
+    public getFileChecksum_args(
+      String path,
+      GetFileChecksumTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileChecksum_args(getFileChecksum_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new GetFileChecksumTOptions(other.options);
+      }
+    }
+
+    public getFileChecksum_args deepCopy() {
+      return new getFileChecksum_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file
+     */
+    public getFileChecksum_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public GetFileChecksumTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public getFileChecksum_args setOptions(GetFileChecksumTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((GetFileChecksumTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileChecksum_args)
+        return this.equals((getFileChecksum_args)that);
+      return false;
+    }
+
+    public boolean equals(getFileChecksum_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileChecksum_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileChecksum_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileChecksum_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileChecksum_argsStandardScheme getScheme() {
+        return new getFileChecksum_argsStandardScheme();
+      }
+    }
+
+    private static class getFileChecksum_argsStandardScheme extends StandardScheme<getFileChecksum_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileChecksum_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new GetFileChecksumTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileChecksum_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileChecksum_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileChecksum_argsTupleScheme getScheme() {
+        return new getFileChecksum_argsTupleScheme();
+      }
+    }
+
+    private static class getFileChecksum_argsTupleScheme extends TupleScheme<getFileChecksum_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileChecksum_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileChecksum_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new GetFileChecksumTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getFileChecksum_result implements org.apache.thrift.TBase<getFileChecksum_result, getFileChecksum_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileChecksum_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileChecksum_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getFileChecksum_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileChecksum_resultTupleSchemeFactory());
+    }
+
+    private GetFileChecksumTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetFileChecksumTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileChecksum_result.class, metaDataMap);
+    }
+
+    public getFileChecksum_result() {
+    }
+
+    public getFileChecksum_result(
+      GetFileChecksumTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFileChecksum_result(getFileChecksum_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GetFileChecksumTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getFileChecksum_result deepCopy() {
+      return new getFileChecksum_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public GetFileChecksumTResponse getSuccess() {
+      return this.success;
+    }
+
+    public getFileChecksum_result setSuccess(GetFileChecksumTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getFileChecksum_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GetFileChecksumTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFileChecksum_result)
+        return this.equals((getFileChecksum_result)that);
+      return false;
+    }
+
+    public boolean equals(getFileChecksum_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getFileChecksum_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileChecksum_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFileChecksum_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileChecksum_resultStandardScheme getScheme() {
+        return new getFileChecksum_resultStandardScheme();
+      }
+    }
+
+    private static class getFileChecksum_resultStandardScheme extends StandardScheme<getFileChecksum_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileChecksum_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GetFileChecksumTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileChecksum_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFileChecksum_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileChecksum_resultTupleScheme getScheme() {
+        return new getFileChecksum_resultTupleScheme();
+      }
+    }
+
+    private static class getFileChecksum_resultTupleScheme extends TupleScheme<getFileChecksum_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileChecksum_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileChecksum_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new GetFileChecksumTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class checkConsistency_args implements org.apache.thrift.TBase<checkConsistency_args, checkConsistency_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_args");
+  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new checkConsistency_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new checkConsistency_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CheckConsistencyTOptions options; // required
+    private GetStatusTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the root of the subtree to check
+       * the path of the file or directory
        */
       PATH((short)1, "path"),
       /**
@@ -2587,17 +10587,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
     }
 
-    public checkConsistency_args() {
+    public getStatus_args() {
     }
 
-    public checkConsistency_args(
+    public getStatus_args(
       String path,
-      CheckConsistencyTOptions options)
+      GetStatusTOptions options)
     {
       this();
       this.path = path;
@@ -2607,17 +10607,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkConsistency_args(checkConsistency_args other) {
+    public getStatus_args(getStatus_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CheckConsistencyTOptions(other.options);
+        this.options = new GetStatusTOptions(other.options);
       }
     }
 
-    public checkConsistency_args deepCopy() {
-      return new checkConsistency_args(this);
+    public getStatus_args deepCopy() {
+      return new getStatus_args(this);
     }
 
     @Override
@@ -2627,16 +10627,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the root of the subtree to check
+     * the path of the file or directory
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the root of the subtree to check
+     * the path of the file or directory
      */
-    public checkConsistency_args setPath(String path) {
+    public getStatus_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -2659,14 +10659,14 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public CheckConsistencyTOptions getOptions() {
+    public GetStatusTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public checkConsistency_args setOptions(CheckConsistencyTOptions options) {
+    public getStatus_args setOptions(GetStatusTOptions options) {
       this.options = options;
       return this;
     }
@@ -2700,7 +10700,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CheckConsistencyTOptions)value);
+          setOptions((GetStatusTOptions)value);
         }
         break;
 
@@ -2738,12 +10738,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkConsistency_args)
-        return this.equals((checkConsistency_args)that);
+      if (that instanceof getStatus_args)
+        return this.equals((getStatus_args)that);
       return false;
     }
 
-    public boolean equals(checkConsistency_args that) {
+    public boolean equals(getStatus_args that) {
       if (that == null)
         return false;
 
@@ -2786,7 +10786,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(checkConsistency_args other) {
+    public int compareTo(getStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2830,7 +10830,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("checkConsistency_args(");
+      StringBuilder sb = new StringBuilder("getStatus_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -2876,15 +10876,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class checkConsistency_argsStandardSchemeFactory implements SchemeFactory {
-      public checkConsistency_argsStandardScheme getScheme() {
-        return new checkConsistency_argsStandardScheme();
+    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatus_argsStandardScheme getScheme() {
+        return new getStatus_argsStandardScheme();
       }
     }
 
-    private static class checkConsistency_argsStandardScheme extends StandardScheme<checkConsistency_args> {
+    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2904,7 +10904,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CheckConsistencyTOptions();
+                struct.options = new GetStatusTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -2922,7 +10922,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2942,16 +10942,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class checkConsistency_argsTupleSchemeFactory implements SchemeFactory {
-      public checkConsistency_argsTupleScheme getScheme() {
-        return new checkConsistency_argsTupleScheme();
+    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatus_argsTupleScheme getScheme() {
+        return new getStatus_argsTupleScheme();
       }
     }
 
-    private static class checkConsistency_argsTupleScheme extends TupleScheme<checkConsistency_args> {
+    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -2970,7 +10970,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -2978,7 +10978,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CheckConsistencyTOptions();
+          struct.options = new GetStatusTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -2987,19 +10987,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class checkConsistency_result implements org.apache.thrift.TBase<checkConsistency_result, checkConsistency_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_result");
+  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new checkConsistency_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new checkConsistency_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
     }
 
-    private CheckConsistencyTResponse success; // required
+    private GetStatusTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3068,18 +11068,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
     }
 
-    public checkConsistency_result() {
+    public getStatus_result() {
     }
 
-    public checkConsistency_result(
-      CheckConsistencyTResponse success,
+    public getStatus_result(
+      GetStatusTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -3090,17 +11090,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkConsistency_result(checkConsistency_result other) {
+    public getStatus_result(getStatus_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CheckConsistencyTResponse(other.success);
+        this.success = new GetStatusTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public checkConsistency_result deepCopy() {
-      return new checkConsistency_result(this);
+    public getStatus_result deepCopy() {
+      return new getStatus_result(this);
     }
 
     @Override
@@ -3109,11 +11109,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CheckConsistencyTResponse getSuccess() {
+    public GetStatusTResponse getSuccess() {
       return this.success;
     }
 
-    public checkConsistency_result setSuccess(CheckConsistencyTResponse success) {
+    public getStatus_result setSuccess(GetStatusTResponse success) {
       this.success = success;
       return this;
     }
@@ -3137,7 +11137,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public checkConsistency_result setE(alluxio.thrift.AlluxioTException e) {
+    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -3163,7 +11163,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CheckConsistencyTResponse)value);
+          setSuccess((GetStatusTResponse)value);
         }
         break;
 
@@ -3209,12 +11209,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkConsistency_result)
-        return this.equals((checkConsistency_result)that);
+      if (that instanceof getStatus_result)
+        return this.equals((getStatus_result)that);
       return false;
     }
 
-    public boolean equals(checkConsistency_result that) {
+    public boolean equals(getStatus_result that) {
       if (that == null)
         return false;
 
@@ -3257,7 +11257,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(checkConsistency_result other) {
+    public int compareTo(getStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3301,7 +11301,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("checkConsistency_result(");
+      StringBuilder sb = new StringBuilder("getStatus_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3347,15 +11347,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class checkConsistency_resultStandardSchemeFactory implements SchemeFactory {
-      public checkConsistency_resultStandardScheme getScheme() {
-        return new checkConsistency_resultStandardScheme();
+    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatus_resultStandardScheme getScheme() {
+        return new getStatus_resultStandardScheme();
       }
     }
 
-    private static class checkConsistency_resultStandardScheme extends StandardScheme<checkConsistency_result> {
+    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3367,7 +11367,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CheckConsistencyTResponse();
+                struct.success = new GetStatusTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3394,7 +11394,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3414,16 +11414,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class checkConsistency_resultTupleSchemeFactory implements SchemeFactory {
-      public checkConsistency_resultTupleScheme getScheme() {
-        return new checkConsistency_resultTupleScheme();
+    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatus_resultTupleScheme getScheme() {
+        return new getStatus_resultTupleScheme();
       }
     }
 
-    private static class checkConsistency_resultTupleScheme extends TupleScheme<checkConsistency_result> {
+    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3442,11 +11442,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CheckConsistencyTResponse();
+          struct.success = new GetStatusTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -3460,27 +11460,27 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_args");
+  public static class getStatusBatch_args implements org.apache.thrift.TBase<getStatusBatch_args, getStatusBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusBatch_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusBatch_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CompleteFileTOptions options; // required
+    private List<String> paths; // required
+    private GetStatusTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the paths of the files or directories
        */
-      PATH((short)1, "path"),
+      PATHS((short)1, "paths"),
       /**
        * the method options
        */
@@ -3499,8 +11499,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // PATHS
+            return PATHS;
           case 2: // OPTIONS
             return OPTIONS;
           default:
@@ -3546,89 +11546,106 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusBatch_args.class, metaDataMap);
     }
 
-    public completeFile_args() {
+    public getStatusBatch_args() {
     }
 
-    public completeFile_args(
-      String path,
-      CompleteFileTOptions options)
+    public getStatusBatch_args(
+      List<String> paths,
+      GetStatusTOptions options)
     {
       this();
-      this.path = path;
+      this.paths = paths;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_args(completeFile_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public getStatusBatch_args(getStatusBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
       if (other.isSetOptions()) {
-        this.options = new CompleteFileTOptions(other.options);
+        this.options = new GetStatusTOptions(other.options);
       }
     }
 
-    public completeFile_args deepCopy() {
-      return new completeFile_args(this);
+    public getStatusBatch_args deepCopy() {
+      return new getStatusBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.paths = null;
       this.options = null;
     }
 
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
     /**
-     * the path of the file
+     * the paths of the files or directories
      */
-    public String getPath() {
-      return this.path;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
     /**
-     * the path of the file
+     * the paths of the files or directories
      */
-    public completeFile_args setPath(String path) {
-      this.path = path;
+    public getStatusBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.paths = null;
       }
     }
 
     /**
      * the method options
      */
-    public CompleteFileTOptions getOptions() {
+    public GetStatusTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public completeFile_args setOptions(CompleteFileTOptions options) {
+    public getStatusBatch_args setOptions(GetStatusTOptions options) {
       this.options = options;
       return this;
     }
@@ -3650,11 +11667,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case PATHS:
         if (value == null) {
-          unsetPath();
+          unsetPaths();
         } else {
-          setPath((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -3662,7 +11679,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CompleteFileTOptions)value);
+          setOptions((GetStatusTOptions)value);
         }
         break;
 
@@ -3671,8 +11688,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case PATHS:
+        return getPaths();
 
       case OPTIONS:
         return getOptions();
@@ -3688,8 +11705,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case PATHS:
+        return isSetPaths();
       case OPTIONS:
         return isSetOptions();
       }
@@ -3700,21 +11717,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_args)
-        return this.equals((completeFile_args)that);
+      if (that instanceof getStatusBatch_args)
+        return this.equals((getStatusBatch_args)that);
       return false;
     }
 
-    public boolean equals(completeFile_args that) {
+    public boolean equals(getStatusBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -3734,10 +11751,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -3748,19 +11765,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(completeFile_args other) {
+    public int compareTo(getStatusBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3792,14 +11809,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_args(");
+      StringBuilder sb = new StringBuilder("getStatusBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.paths);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -3838,15 +11855,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public completeFile_argsStandardScheme getScheme() {
-        return new completeFile_argsStandardScheme();
+    private static class getStatusBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatusBatch_argsStandardScheme getScheme() {
+        return new getStatusBatch_argsStandardScheme();
       }
     }
 
-    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
+    private static class getStatusBatch_argsStandardScheme extends StandardScheme<getStatusBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3856,17 +11873,27 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list130 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list130.size);
+                  String _elem131;
+                  for (int _i132 = 0; _i132 < _list130.size; ++_i132)
+                  {
+                    _elem131 = iprot.readString();
+                    struct.paths.add(_elem131);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CompleteFileTOptions();
+                struct.options = new GetStatusTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -3884,13 +11911,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter133 : struct.paths)
+            {
+              oprot.writeString(_iter133);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -3904,27 +11938,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public completeFile_argsTupleScheme getScheme() {
-        return new completeFile_argsTupleScheme();
+    private static class getStatusBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatusBatch_argsTupleScheme getScheme() {
+        return new getStatusBatch_argsTupleScheme();
       }
     }
 
-    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
+    private static class getStatusBatch_argsTupleScheme extends TupleScheme<getStatusBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
         if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter134 : struct.paths)
+            {
+              oprot.writeString(_iter134);
+            }
+          }
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -3932,15 +11972,24 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list135 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list135.size);
+            String _elem136;
+            for (int _i137 = 0; _i137 < _list135.size; ++_i137)
+            {
+              _elem136 = iprot.readString();
+              struct.paths.add(_elem136);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CompleteFileTOptions();
+          struct.options = new GetStatusTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -3949,19 +11998,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
+  public static class getStatusBatch_result implements org.apache.thrift.TBase<getStatusBatch_result, getStatusBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatusBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatusBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatusBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatusBatch_resultTupleSchemeFactory());
     }
 
-    private CompleteFileTResponse success; // required
+    private GetStatusBatchTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4030,18 +12079,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusBatchTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatusBatch_result.class, metaDataMap);
     }
 
-    public completeFile_result() {
+    public getStatusBatch_result() {
     }
 
-    public completeFile_result(
-      CompleteFileTResponse success,
+    public getStatusBatch_result(
+      GetStatusBatchTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -4052,17 +12101,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_result(completeFile_result other) {
+    public getStatusBatch_result(getStatusBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CompleteFileTResponse(other.success);
+        this.success = new GetStatusBatchTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public completeFile_result deepCopy() {
-      return new completeFile_result(this);
+    public getStatusBatch_result deepCopy() {
+      return new getStatusBatch_result(this);
     }
 
     @Override
@@ -4071,11 +12120,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CompleteFileTResponse getSuccess() {
+    public GetStatusBatchTResponse getSuccess() {
       return this.success;
     }
 
-    public completeFile_result setSuccess(CompleteFileTResponse success) {
+    public getStatusBatch_result setSuccess(GetStatusBatchTResponse success) {
       this.success = success;
       return this;
     }
@@ -4099,7 +12148,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public getStatusBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -4125,7 +12174,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CompleteFileTResponse)value);
+          setSuccess((GetStatusBatchTResponse)value);
         }
         break;
 
@@ -4171,12 +12220,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_result)
-        return this.equals((completeFile_result)that);
+      if (that instanceof getStatusBatch_result)
+        return this.equals((getStatusBatch_result)that);
       return false;
     }
 
-    public boolean equals(completeFile_result that) {
+    public boolean equals(getStatusBatch_result that) {
       if (that == null)
         return false;
 
@@ -4219,7 +12268,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(completeFile_result other) {
+    public int compareTo(getStatusBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4263,7 +12312,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_result(");
+      StringBuilder sb = new StringBuilder("getStatusBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -4309,15 +12358,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public completeFile_resultStandardScheme getScheme() {
-        return new completeFile_resultStandardScheme();
+    private static class getStatusBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatusBatch_resultStandardScheme getScheme() {
+        return new getStatusBatch_resultStandardScheme();
       }
     }
 
-    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
+    private static class getStatusBatch_resultStandardScheme extends StandardScheme<getStatusBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4329,7 +12378,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CompleteFileTResponse();
+                struct.success = new GetStatusBatchTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -4356,7 +12405,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4376,16 +12425,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public completeFile_resultTupleScheme getScheme() {
-        return new completeFile_resultTupleScheme();
+    private static class getStatusBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatusBatch_resultTupleScheme getScheme() {
+        return new getStatusBatch_resultTupleScheme();
       }
     }
 
-    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
+    private static class getStatusBatch_resultTupleScheme extends TupleScheme<getStatusBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -4404,11 +12453,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CompleteFileTResponse();
+          struct.success = new GetStatusBatchTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -4422,27 +12471,27 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
+  public static class getLoadJobInfo_args implements org.apache.thrift.TBase<getLoadJobInfo_args, getLoadJobInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadJobInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadJobInfo_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLoadJobInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadJobInfo_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CreateDirectoryTOptions options; // required
+    private long id; // required
+    private GetLoadJobInfoTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the directory
+       * the id of the load job
        */
-      PATH((short)1, "path"),
+      ID((short)1, "id"),
       /**
        * the method options
        */
@@ -4461,8 +12510,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // ID
+            return ID;
           case 2: // OPTIONS
             return OPTIONS;
           default:
@@ -4505,92 +12554,94 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetLoadJobInfoTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadJobInfo_args.class, metaDataMap);
     }
 
-    public createDirectory_args() {
+    public getLoadJobInfo_args() {
     }
 
-    public createDirectory_args(
-      String path,
-      CreateDirectoryTOptions options)
+    public getLoadJobInfo_args(
+      long id,
+      GetLoadJobInfoTOptions options)
     {
       this();
-      this.path = path;
+      this.id = id;
+      setIdIsSet(true);
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_args(createDirectory_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
+    public getLoadJobInfo_args(getLoadJobInfo_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
       if (other.isSetOptions()) {
-        this.options = new CreateDirectoryTOptions(other.options);
+        this.options = new GetLoadJobInfoTOptions(other.options);
       }
     }
 
-    public createDirectory_args deepCopy() {
-      return new createDirectory_args(this);
+    public getLoadJobInfo_args deepCopy() {
+      return new getLoadJobInfo_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      setIdIsSet(false);
+      this.id = 0;
       this.options = null;
     }
 
     /**
-     * the path of the directory
+     * the id of the load job
      */
-    public String getPath() {
-      return this.path;
+    public long getId() {
+      return this.id;
     }
 
     /**
-     * the path of the directory
+     * the id of the load job
      */
-    public createDirectory_args setPath(String path) {
-      this.path = path;
+    public getLoadJobInfo_args setId(long id) {
+      this.id = id;
+      setIdIsSet(true);
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
     /**
      * the method options
      */
-    public CreateDirectoryTOptions getOptions() {
+    public GetLoadJobInfoTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
+    public getLoadJobInfo_args setOptions(GetLoadJobInfoTOptions options) {
       this.options = options;
       return this;
     }
@@ -4612,11 +12663,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case ID:
         if (value == null) {
-          unsetPath();
+          unsetId();
         } else {
-          setPath((String)value);
+          setId((Long)value);
         }
         break;
 
@@ -4624,7 +12675,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateDirectoryTOptions)value);
+          setOptions((GetLoadJobInfoTOptions)value);
         }
         break;
 
@@ -4633,8 +12684,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case ID:
+        return getId();
 
       case OPTIONS:
         return getOptions();
@@ -4650,8 +12701,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case ID:
+        return isSetId();
       case OPTIONS:
         return isSetOptions();
       }
@@ -4662,21 +12713,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_args)
-        return this.equals((createDirectory_args)that);
+      if (that instanceof getLoadJobInfo_args)
+        return this.equals((getLoadJobInfo_args)that);
       return false;
     }
 
-    public boolean equals(createDirectory_args that) {
+    public boolean equals(getLoadJobInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
           return false;
-        if (!this.path.equals(that.path))
+        if (this.id != that.id)
           return false;
       }
 
@@ -4696,10 +12747,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_id = true;
+      list.add(present_id);
+      if (present_id)
+        list.add(id);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -4710,19 +12761,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createDirectory_args other) {
+    public int compareTo(getLoadJobInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetId()).compareTo(other.isSetId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4754,15 +12805,11 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_args(");
+      StringBuilder sb = new StringBuilder("getLoadJobInfo_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
+      sb.append("id:");
+      sb.append(this.id);
       first = false;
       if (!first) sb.append(", ");
       sb.append("options:");
@@ -4794,21 +12841,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_argsStandardScheme getScheme() {
-        return new createDirectory_argsStandardScheme();
+    private static class getLoadJobInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_argsStandardScheme getScheme() {
+        return new getLoadJobInfo_argsStandardScheme();
       }
     }
 
-    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
+    private static class getLoadJobInfo_argsStandardScheme extends StandardScheme<getLoadJobInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4818,17 +12867,17 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.id = iprot.readI64();
+                struct.setIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateDirectoryTOptions();
+                struct.options = new GetLoadJobInfoTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -4846,15 +12895,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
+        oprot.writeFieldEnd();
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -4866,27 +12913,27 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_argsTupleScheme getScheme() {
-        return new createDirectory_argsTupleScheme();
+    private static class getLoadJobInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_argsTupleScheme getScheme() {
+        return new getLoadJobInfo_argsTupleScheme();
       }
     }
 
-    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
+    private static class getLoadJobInfo_argsTupleScheme extends TupleScheme<getLoadJobInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetId()) {
           optionals.set(0);
         }
         if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetId()) {
+          oprot.writeI64(struct.id);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -4894,15 +12941,15 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.id = iprot.readI64();
+          struct.setIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateDirectoryTOptions();
+          struct.options = new GetLoadJobInfoTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -4911,19 +12958,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
+  public static class getLoadJobInfo_result implements org.apache.thrift.TBase<getLoadJobInfo_result, getLoadJobInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadJobInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadJobInfo_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getLoadJobInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadJobInfo_resultTupleSchemeFactory());
     }
 
-    private CreateDirectoryTResponse success; // required
+    private GetLoadJobInfoTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4992,18 +13039,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetLoadJobInfoTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadJobInfo_result.class, metaDataMap);
     }
 
-    public createDirectory_result() {
+    public getLoadJobInfo_result() {
     }
 
-    public createDirectory_result(
-      CreateDirectoryTResponse success,
+    public getLoadJobInfo_result(
+      GetLoadJobInfoTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -5014,17 +13061,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_result(createDirectory_result other) {
+    public getLoadJobInfo_result(getLoadJobInfo_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CreateDirectoryTResponse(other.success);
+        this.success = new GetLoadJobInfoTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public createDirectory_result deepCopy() {
-      return new createDirectory_result(this);
+    public getLoadJobInfo_result deepCopy() {
+      return new getLoadJobInfo_result(this);
     }
 
     @Override
@@ -5033,11 +13080,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CreateDirectoryTResponse getSuccess() {
+    public GetLoadJobInfoTResponse getSuccess() {
       return this.success;
     }
 
-    public createDirectory_result setSuccess(CreateDirectoryTResponse success) {
+    public getLoadJobInfo_result setSuccess(GetLoadJobInfoTResponse success) {
       this.success = success;
       return this;
     }
@@ -5061,7 +13108,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
+    public getLoadJobInfo_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -5087,7 +13134,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CreateDirectoryTResponse)value);
+          setSuccess((GetLoadJobInfoTResponse)value);
         }
         break;
 
@@ -5133,12 +13180,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_result)
-        return this.equals((createDirectory_result)that);
+      if (that instanceof getLoadJobInfo_result)
+        return this.equals((getLoadJobInfo_result)that);
       return false;
     }
 
-    public boolean equals(createDirectory_result that) {
+    public boolean equals(getLoadJobInfo_result that) {
       if (that == null)
         return false;
 
@@ -5181,7 +13228,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createDirectory_result other) {
+    public int compareTo(getLoadJobInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5225,7 +13272,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_result(");
+      StringBuilder sb = new StringBuilder("getLoadJobInfo_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5271,15 +13318,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_resultStandardScheme getScheme() {
-        return new createDirectory_resultStandardScheme();
+    private static class getLoadJobInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_resultStandardScheme getScheme() {
+        return new getLoadJobInfo_resultStandardScheme();
       }
     }
 
-    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
+    private static class getLoadJobInfo_resultStandardScheme extends StandardScheme<getLoadJobInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5291,7 +13338,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CreateDirectoryTResponse();
+                struct.success = new GetLoadJobInfoTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -5318,7 +13365,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5338,16 +13385,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_resultTupleScheme getScheme() {
-        return new createDirectory_resultTupleScheme();
+    private static class getLoadJobInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoadJobInfo_resultTupleScheme getScheme() {
+        return new getLoadJobInfo_resultTupleScheme();
       }
     }
 
-    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
+    private static class getLoadJobInfo_resultTupleScheme extends TupleScheme<getLoadJobInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5366,11 +13413,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadJobInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CreateDirectoryTResponse();
+          struct.success = new GetLoadJobInfoTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -5384,20 +13431,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
+  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CreateFileTOptions options; // required
+    private GetNewBlockIdForFileTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5406,7 +13453,7 @@ public class FileSystemMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * the options for creating the file
+       * the method options
        */
       OPTIONS((short)2, "options");
 
@@ -5473,17 +13520,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
     }
 
-    public createFile_args() {
+    public getNewBlockIdForFile_args() {
     }
 
-    public createFile_args(
+    public getNewBlockIdForFile_args(
       String path,
-      CreateFileTOptions options)
+      GetNewBlockIdForFileTOptions options)
     {
       this();
       this.path = path;
@@ -5493,17 +13540,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_args(createFile_args other) {
+    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CreateFileTOptions(other.options);
+        this.options = new GetNewBlockIdForFileTOptions(other.options);
       }
     }
 
-    public createFile_args deepCopy() {
-      return new createFile_args(this);
+    public getNewBlockIdForFile_args deepCopy() {
+      return new getNewBlockIdForFile_args(this);
     }
 
     @Override
@@ -5522,7 +13569,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file
      */
-    public createFile_args setPath(String path) {
+    public getNewBlockIdForFile_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -5543,16 +13590,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the options for creating the file
+     * the method options
      */
-    public CreateFileTOptions getOptions() {
+    public GetNewBlockIdForFileTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for creating the file
+     * the method options
      */
-    public createFile_args setOptions(CreateFileTOptions options) {
+    public getNewBlockIdForFile_args setOptions(GetNewBlockIdForFileTOptions options) {
       this.options = options;
       return this;
     }
@@ -5586,7 +13633,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateFileTOptions)value);
+          setOptions((GetNewBlockIdForFileTOptions)value);
         }
         break;
 
@@ -5624,12 +13671,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_args)
-        return this.equals((createFile_args)that);
+      if (that instanceof getNewBlockIdForFile_args)
+        return this.equals((getNewBlockIdForFile_args)that);
       return false;
     }
 
-    public boolean equals(createFile_args that) {
+    public boolean equals(getNewBlockIdForFile_args that) {
       if (that == null)
         return false;
 
@@ -5672,7 +13719,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createFile_args other) {
+    public int compareTo(getNewBlockIdForFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5716,7 +13763,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_args(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -5762,15 +13809,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
-      public createFile_argsStandardScheme getScheme() {
-        return new createFile_argsStandardScheme();
+    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsStandardScheme getScheme() {
+        return new getNewBlockIdForFile_argsStandardScheme();
       }
     }
 
-    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
+    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5790,7 +13837,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateFileTOptions();
+                struct.options = new GetNewBlockIdForFileTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -5808,7 +13855,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5828,16 +13875,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
-      public createFile_argsTupleScheme getScheme() {
-        return new createFile_argsTupleScheme();
+    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsTupleScheme getScheme() {
+        return new getNewBlockIdForFile_argsTupleScheme();
       }
     }
 
-    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -5856,7 +13903,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -5864,7 +13911,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateFileTOptions();
+          struct.options = new GetNewBlockIdForFileTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -5873,19 +13920,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
     }
 
-    private CreateFileTResponse success; // required
+    private GetNewBlockIdForFileTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -5954,18 +14001,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
     }
 
-    public createFile_result() {
+    public getNewBlockIdForFile_result() {
     }
 
-    public createFile_result(
-      CreateFileTResponse success,
+    public getNewBlockIdForFile_result(
+      GetNewBlockIdForFileTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -5976,17 +14023,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_result(createFile_result other) {
+    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CreateFileTResponse(other.success);
+        this.success = new GetNewBlockIdForFileTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public createFile_result deepCopy() {
-      return new createFile_result(this);
+    public getNewBlockIdForFile_result deepCopy() {
+      return new getNewBlockIdForFile_result(this);
     }
 
     @Override
@@ -5995,11 +14042,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CreateFileTResponse getSuccess() {
+    public GetNewBlockIdForFileTResponse getSuccess() {
       return this.success;
     }
 
-    public createFile_result setSuccess(CreateFileTResponse success) {
+    public getNewBlockIdForFile_result setSuccess(GetNewBlockIdForFileTResponse success) {
       this.success = success;
       return this;
     }
@@ -6023,7 +14070,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -6049,7 +14096,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CreateFileTResponse)value);
+          setSuccess((GetNewBlockIdForFileTResponse)value);
         }
         break;
 
@@ -6095,12 +14142,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_result)
-        return this.equals((createFile_result)that);
+      if (that instanceof getNewBlockIdForFile_result)
+        return this.equals((getNewBlockIdForFile_result)that);
       return false;
     }
 
-    public boolean equals(createFile_result that) {
+    public boolean equals(getNewBlockIdForFile_result that) {
       if (that == null)
         return false;
 
@@ -6143,7 +14190,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createFile_result other) {
+    public int compareTo(getNewBlockIdForFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6187,7 +14234,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_result(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6233,15 +14280,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
-      public createFile_resultStandardScheme getScheme() {
-        return new createFile_resultStandardScheme();
+    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultStandardScheme getScheme() {
+        return new getNewBlockIdForFile_resultStandardScheme();
       }
     }
 
-    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6253,7 +14300,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CreateFileTResponse();
+                struct.success = new GetNewBlockIdForFileTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -6280,7 +14327,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6300,16 +14347,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
-      public createFile_resultTupleScheme getScheme() {
-        return new createFile_resultTupleScheme();
+    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultTupleScheme getScheme() {
+        return new getNewBlockIdForFile_resultTupleScheme();
       }
     }
 
-    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6328,11 +14375,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CreateFileTResponse();
+          struct.success = new GetNewBlockIdForFileTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -6346,22 +14393,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private boolean recursive; // required
-    private FreeTOptions options; // required
+    private ListStatusTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6370,13 +14415,9 @@ public class FileSystemMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * whether to free recursively
-       */
-      RECURSIVE((short)2, "recursive"),
-      /**
-       * the options for freeing a path
+       * listStatus options
        */
-      OPTIONS((short)3, "options");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6393,9 +14434,7 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
-          case 3: // OPTIONS
+          case 2: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -6437,59 +14476,48 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
     }
 
-    public free_args() {
+    public listStatus_args() {
     }
 
-    public free_args(
+    public listStatus_args(
       String path,
-      boolean recursive,
-      FreeTOptions options)
+      ListStatusTOptions options)
     {
       this();
       this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_args(free_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public listStatus_args(listStatus_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.recursive = other.recursive;
       if (other.isSetOptions()) {
-        this.options = new FreeTOptions(other.options);
+        this.options = new ListStatusTOptions(other.options);
       }
     }
 
-    public free_args deepCopy() {
-      return new free_args(this);
+    public listStatus_args deepCopy() {
+      return new listStatus_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
       this.options = null;
     }
 
@@ -6503,7 +14531,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file or directory
      */
-    public free_args setPath(String path) {
+    public listStatus_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -6524,45 +14552,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * whether to free recursively
-     */
-    public boolean isRecursive() {
-      return this.recursive;
-    }
-
-    /**
-     * whether to free recursively
-     */
-    public free_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
-      return this;
-    }
-
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
-    }
-
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
-    }
-
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
-    }
-
-    /**
-     * the options for freeing a path
+     * listStatus options
      */
-    public FreeTOptions getOptions() {
+    public ListStatusTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for freeing a path
+     * listStatus options
      */
-    public free_args setOptions(FreeTOptions options) {
+    public listStatus_args setOptions(ListStatusTOptions options) {
       this.options = options;
       return this;
     }
@@ -6592,19 +14591,11 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case RECURSIVE:
-        if (value == null) {
-          unsetRecursive();
-        } else {
-          setRecursive((Boolean)value);
-        }
-        break;
-
       case OPTIONS:
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((FreeTOptions)value);
+          setOptions((ListStatusTOptions)value);
         }
         break;
 
@@ -6616,9 +14607,6 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case RECURSIVE:
-        return isRecursive();
-
       case OPTIONS:
         return getOptions();
 
@@ -6635,8 +14623,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case RECURSIVE:
-        return isSetRecursive();
       case OPTIONS:
         return isSetOptions();
       }
@@ -6647,12 +14633,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_args)
-        return this.equals((free_args)that);
+      if (that instanceof listStatus_args)
+        return this.equals((listStatus_args)that);
       return false;
     }
 
-    public boolean equals(free_args that) {
+    public boolean equals(listStatus_args that) {
       if (that == null)
         return false;
 
@@ -6665,15 +14651,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
-          return false;
-        if (this.recursive != that.recursive)
-          return false;
-      }
-
       boolean this_present_options = true && this.isSetOptions();
       boolean that_present_options = true && that.isSetOptions();
       if (this_present_options || that_present_options) {
@@ -6695,11 +14672,6 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
-
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
       if (present_options)
@@ -6709,7 +14681,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(free_args other) {
+    public int compareTo(listStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6726,16 +14698,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6763,7 +14725,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_args(");
+      StringBuilder sb = new StringBuilder("listStatus_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -6774,10 +14736,6 @@ public class FileSystemMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("options:");
       if (this.options == null) {
         sb.append("null");
@@ -6807,23 +14765,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class free_argsStandardSchemeFactory implements SchemeFactory {
-      public free_argsStandardScheme getScheme() {
-        return new free_argsStandardScheme();
+    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public listStatus_argsStandardScheme getScheme() {
+        return new listStatus_argsStandardScheme();
       }
     }
 
-    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6841,17 +14797,9 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // OPTIONS
+            case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new FreeTOptions();
+                struct.options = new ListStatusTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -6869,7 +14817,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6878,9 +14826,6 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -6892,53 +14837,43 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_argsTupleSchemeFactory implements SchemeFactory {
-      public free_argsTupleScheme getScheme() {
-        return new free_argsTupleScheme();
+    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public listStatus_argsTupleScheme getScheme() {
+        return new listStatus_argsTupleScheme();
       }
     }
 
-    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
-          optionals.set(1);
-        }
         if (struct.isSetOptions()) {
-          optionals.set(2);
+          optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
-        }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.options = new FreeTOptions();
+          struct.options = new ListStatusTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -6947,19 +14882,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
     }
 
-    private FreeTResponse success; // required
+    private ListStatusTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7028,18 +14963,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
     }
 
-    public free_result() {
+    public listStatus_result() {
     }
 
-    public free_result(
-      FreeTResponse success,
+    public listStatus_result(
+      ListStatusTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -7050,17 +14985,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_result(free_result other) {
+    public listStatus_result(listStatus_result other) {
       if (other.isSetSuccess()) {
-        this.success = new FreeTResponse(other.success);
+        this.success = new ListStatusTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public free_result deepCopy() {
-      return new free_result(this);
+    public listStatus_result deepCopy() {
+      return new listStatus_result(this);
     }
 
     @Override
@@ -7069,11 +15004,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public FreeTResponse getSuccess() {
+    public ListStatusTResponse getSuccess() {
       return this.success;
     }
 
-    public free_result setSuccess(FreeTResponse success) {
+    public listStatus_result setSuccess(ListStatusTResponse success) {
       this.success = success;
       return this;
     }
@@ -7097,7 +15032,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public free_result setE(alluxio.thrift.AlluxioTException e) {
+    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -7123,7 +15058,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((FreeTResponse)value);
+          setSuccess((ListStatusTResponse)value);
         }
         break;
 
@@ -7169,12 +15104,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_result)
-        return this.equals((free_result)that);
+      if (that instanceof listStatus_result)
+        return this.equals((listStatus_result)that);
       return false;
     }
 
-    public boolean equals(free_result that) {
+    public boolean equals(listStatus_result that) {
       if (that == null)
         return false;
 
@@ -7217,7 +15152,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(free_result other) {
+    public int compareTo(listStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7261,7 +15196,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_result(");
+      StringBuilder sb = new StringBuilder("listStatus_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7307,15 +15242,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class free_resultStandardSchemeFactory implements SchemeFactory {
-      public free_resultStandardScheme getScheme() {
-        return new free_resultStandardScheme();
+    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public listStatus_resultStandardScheme getScheme() {
+        return new listStatus_resultStandardScheme();
       }
     }
 
-    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7327,7 +15262,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new FreeTResponse();
+                struct.success = new ListStatusTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -7354,7 +15289,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7374,16 +15309,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_resultTupleSchemeFactory implements SchemeFactory {
-      public free_resultTupleScheme getScheme() {
-        return new free_resultTupleScheme();
+    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public listStatus_resultTupleScheme getScheme() {
+        return new listStatus_resultTupleScheme();
       }
     }
 
-    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7402,11 +15337,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new FreeTResponse();
+          struct.success = new ListStatusTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -7420,20 +15355,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+  public static class load_args implements org.apache.thrift.TBase<load_args, load_args._Fields>, java.io.Serializable, Cloneable, Comparable<load_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("load_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new load_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new load_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private GetStatusTOptions options; // required
+    private LoadTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -7509,17 +15444,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(load_args.class, metaDataMap);
     }
 
-    public getStatus_args() {
+    public load_args() {
     }
 
-    public getStatus_args(
+    public load_args(
       String path,
-      GetStatusTOptions options)
+      LoadTOptions options)
     {
       this();
       this.path = path;
@@ -7529,17 +15464,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_args(getStatus_args other) {
+    public load_args(load_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new GetStatusTOptions(other.options);
+        this.options = new LoadTOptions(other.options);
       }
     }
 
-    public getStatus_args deepCopy() {
-      return new getStatus_args(this);
+    public load_args deepCopy() {
+      return new load_args(this);
     }
 
     @Override
@@ -7558,7 +15493,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file or directory
      */
-    public getStatus_args setPath(String path) {
+    public load_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -7581,14 +15516,14 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public GetStatusTOptions getOptions() {
+    public LoadTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public getStatus_args setOptions(GetStatusTOptions options) {
+    public load_args setOptions(LoadTOptions options) {
       this.options = options;
       return this;
     }
@@ -7622,7 +15557,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((GetStatusTOptions)value);
+          setOptions((LoadTOptions)value);
         }
         break;
 
@@ -7660,12 +15595,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_args)
-        return this.equals((getStatus_args)that);
+      if (that instanceof load_args)
+        return this.equals((load_args)that);
       return false;
     }
 
-    public boolean equals(getStatus_args that) {
+    public boolean equals(load_args that) {
       if (that == null)
         return false;
 
@@ -7708,7 +15643,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatus_args other) {
+    public int compareTo(load_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7752,7 +15687,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_args(");
+      StringBuilder sb = new StringBuilder("load_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -7798,15 +15733,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatus_argsStandardScheme getScheme() {
-        return new getStatus_argsStandardScheme();
+    private static class load_argsStandardSchemeFactory implements SchemeFactory {
+      public load_argsStandardScheme getScheme() {
+        return new load_argsStandardScheme();
       }
     }
 
-    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+    private static class load_argsStandardScheme extends StandardScheme<load_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, load_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7826,7 +15761,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new GetStatusTOptions();
+                struct.options = new LoadTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -7844,7 +15779,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, load_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7864,16 +15799,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatus_argsTupleScheme getScheme() {
-        return new getStatus_argsTupleScheme();
+    private static class load_argsTupleSchemeFactory implements SchemeFactory {
+      public load_argsTupleScheme getScheme() {
+        return new load_argsTupleScheme();
       }
     }
 
-    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+    private static class load_argsTupleScheme extends TupleScheme<load_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, load_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -7892,7 +15827,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, load_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -7900,7 +15835,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new GetStatusTOptions();
+          struct.options = new LoadTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -7909,19 +15844,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+  public static class load_result implements org.apache.thrift.TBase<load_result, load_result._Fields>, java.io.Serializable, Cloneable, Comparable<load_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("load_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new load_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new load_resultTupleSchemeFactory());
     }
 
-    private GetStatusTResponse success; // required
+    private LoadTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7990,18 +15925,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(load_result.class, metaDataMap);
     }
 
-    public getStatus_result() {
+    public load_result() {
     }
 
-    public getStatus_result(
-      GetStatusTResponse success,
+    public load_result(
+      LoadTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -8012,17 +15947,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_result(getStatus_result other) {
+    public load_result(load_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GetStatusTResponse(other.success);
+        this.success = new LoadTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getStatus_result deepCopy() {
-      return new getStatus_result(this);
+    public load_result deepCopy() {
+      return new load_result(this);
     }
 
     @Override
@@ -8031,11 +15966,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public GetStatusTResponse getSuccess() {
+    public LoadTResponse getSuccess() {
       return this.success;
     }
 
-    public getStatus_result setSuccess(GetStatusTResponse success) {
+    public load_result setSuccess(LoadTResponse success) {
       this.success = success;
       return this;
     }
@@ -8059,7 +15994,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public load_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -8085,7 +16020,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GetStatusTResponse)value);
+          setSuccess((LoadTResponse)value);
         }
         break;
 
@@ -8131,12 +16066,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_result)
-        return this.equals((getStatus_result)that);
+      if (that instanceof load_result)
+        return this.equals((load_result)that);
       return false;
     }
 
-    public boolean equals(getStatus_result that) {
+    public boolean equals(load_result that) {
       if (that == null)
         return false;
 
@@ -8179,7 +16114,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatus_result other) {
+    public int compareTo(load_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8223,7 +16158,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_result(");
+      StringBuilder sb = new StringBuilder("load_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8269,15 +16204,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatus_resultStandardScheme getScheme() {
-        return new getStatus_resultStandardScheme();
+    private static class load_resultStandardSchemeFactory implements SchemeFactory {
+      public load_resultStandardScheme getScheme() {
+        return new load_resultStandardScheme();
       }
     }
 
-    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+    private static class load_resultStandardScheme extends StandardScheme<load_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, load_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8289,7 +16224,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GetStatusTResponse();
+                struct.success = new LoadTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -8316,7 +16251,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, load_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8336,16 +16271,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatus_resultTupleScheme getScheme() {
-        return new getStatus_resultTupleScheme();
+    private static class load_resultTupleSchemeFactory implements SchemeFactory {
+      public load_resultTupleScheme getScheme() {
+        return new load_resultTupleScheme();
       }
     }
 
-    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+    private static class load_resultTupleScheme extends TupleScheme<load_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, load_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8364,11 +16299,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, load_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new GetStatusTResponse();
+          struct.success = new LoadTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -8382,31 +16317,37 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
+  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private GetNewBlockIdForFileTOptions options; // required
+    private String ufsPath; // required
+    private boolean recursive; // required
+    private LoadMetadataTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the path of the under file system
        */
-      PATH((short)1, "path"),
+      UFS_PATH((short)1, "ufsPath"),
+      /**
+       * whether to load metadata recursively
+       */
+      RECURSIVE((short)2, "recursive"),
       /**
        * the method options
        */
-      OPTIONS((short)2, "options");
+      OPTIONS((short)3, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8421,9 +16362,11 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
+          case 1: // UFS_PATH
+            return UFS_PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
+          case 3: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -8465,92 +16408,132 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadMetadataTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_args() {
+    public loadMetadata_args() {
     }
 
-    public getNewBlockIdForFile_args(
-      String path,
-      GetNewBlockIdForFileTOptions options)
+    public loadMetadata_args(
+      String ufsPath,
+      boolean recursive,
+      LoadMetadataTOptions options)
     {
       this();
-      this.path = path;
+      this.ufsPath = ufsPath;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public loadMetadata_args(loadMetadata_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
       }
+      this.recursive = other.recursive;
       if (other.isSetOptions()) {
-        this.options = new GetNewBlockIdForFileTOptions(other.options);
+        this.options = new LoadMetadataTOptions(other.options);
       }
     }
 
-    public getNewBlockIdForFile_args deepCopy() {
-      return new getNewBlockIdForFile_args(this);
+    public loadMetadata_args deepCopy() {
+      return new loadMetadata_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.ufsPath = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
       this.options = null;
     }
 
     /**
-     * the path of the file
+     * the path of the under file system
      */
-    public String getPath() {
-      return this.path;
+    public String getUfsPath() {
+      return this.ufsPath;
     }
 
     /**
-     * the path of the file
+     * the path of the under file system
      */
-    public getNewBlockIdForFile_args setPath(String path) {
-      this.path = path;
+    public loadMetadata_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetUfsPath() {
+      this.ufsPath = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setUfsPathIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.ufsPath = null;
       }
     }
 
+    /**
+     * whether to load metadata recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to load metadata recursively
+     */
+    public loadMetadata_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
     /**
      * the method options
      */
-    public GetNewBlockIdForFileTOptions getOptions() {
+    public LoadMetadataTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public getNewBlockIdForFile_args setOptions(GetNewBlockIdForFileTOptions options) {
+    public loadMetadata_args setOptions(LoadMetadataTOptions options) {
       this.options = options;
       return this;
     }
@@ -8572,11 +16555,19 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case UFS_PATH:
         if (value == null) {
-          unsetPath();
+          unsetUfsPath();
         } else {
-          setPath((String)value);
+          setUfsPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -8584,7 +16575,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((GetNewBlockIdForFileTOptions)value);
+          setOptions((LoadMetadataTOptions)value);
         }
         break;
 
@@ -8593,8 +16584,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case UFS_PATH:
+        return getUfsPath();
+
+      case RECURSIVE:
+        return isRecursive();
 
       case OPTIONS:
         return getOptions();
@@ -8610,8 +16604,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case UFS_PATH:
+        return isSetUfsPath();
+      case RECURSIVE:
+        return isSetRecursive();
       case OPTIONS:
         return isSetOptions();
       }
@@ -8622,21 +16618,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_args)
-        return this.equals((getNewBlockIdForFile_args)that);
+      if (that instanceof loadMetadata_args)
+        return this.equals((loadMetadata_args)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_args that) {
+    public boolean equals(loadMetadata_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.ufsPath.equals(that.ufsPath))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -8656,10 +16661,15 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -8670,19 +16680,29 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_args other) {
+    public int compareTo(loadMetadata_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8714,17 +16734,21 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
+      StringBuilder sb = new StringBuilder("loadMetadata_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.ufsPath);
       }
       first = false;
       if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("options:");
       if (this.options == null) {
         sb.append("null");
@@ -8754,21 +16778,23 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsStandardScheme getScheme() {
-        return new getNewBlockIdForFile_argsStandardScheme();
+    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsStandardScheme getScheme() {
+        return new loadMetadata_argsStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
+    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8778,17 +16804,25 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
+            case 1: // UFS_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new GetNewBlockIdForFileTOptions();
+                struct.options = new LoadMetadataTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -8806,15 +16840,18 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -8826,27 +16863,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsTupleScheme getScheme() {
-        return new getNewBlockIdForFile_argsTupleScheme();
+    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_argsTupleScheme getScheme() {
+        return new loadMetadata_argsTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
+    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetUfsPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetRecursive()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -8854,15 +16897,19 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.options = new GetNewBlockIdForFileTOptions();
+        if (incoming.get(2)) {
+          struct.options = new LoadMetadataTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -8871,19 +16918,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
+  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
     }
 
-    private GetNewBlockIdForFileTResponse success; // required
+    private LoadMetadataTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8952,18 +16999,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadMetadataTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_result() {
+    public loadMetadata_result() {
     }
 
-    public getNewBlockIdForFile_result(
-      GetNewBlockIdForFileTResponse success,
+    public loadMetadata_result(
+      LoadMetadataTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -8974,17 +17021,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
+    public loadMetadata_result(loadMetadata_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GetNewBlockIdForFileTResponse(other.success);
+        this.success = new LoadMetadataTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getNewBlockIdForFile_result deepCopy() {
-      return new getNewBlockIdForFile_result(this);
+    public loadMetadata_result deepCopy() {
+      return new loadMetadata_result(this);
     }
 
     @Override
@@ -8993,11 +17040,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public GetNewBlockIdForFileTResponse getSuccess() {
+    public LoadMetadataTResponse getSuccess() {
       return this.success;
     }
 
-    public getNewBlockIdForFile_result setSuccess(GetNewBlockIdForFileTResponse success) {
+    public loadMetadata_result setSuccess(LoadMetadataTResponse success) {
       this.success = success;
       return this;
     }
@@ -9021,7 +17068,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public loadMetadata_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -9047,7 +17094,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GetNewBlockIdForFileTResponse)value);
+          setSuccess((LoadMetadataTResponse)value);
         }
         break;
 
@@ -9093,12 +17140,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_result)
-        return this.equals((getNewBlockIdForFile_result)that);
+      if (that instanceof loadMetadata_result)
+        return this.equals((loadMetadata_result)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_result that) {
+    public boolean equals(loadMetadata_result that) {
       if (that == null)
         return false;
 
@@ -9141,7 +17188,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_result other) {
+    public int compareTo(loadMetadata_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9185,7 +17232,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
+      StringBuilder sb = new StringBuilder("loadMetadata_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9231,15 +17278,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultStandardScheme getScheme() {
-        return new getNewBlockIdForFile_resultStandardScheme();
+    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultStandardScheme getScheme() {
+        return new loadMetadata_resultStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
+    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9251,7 +17298,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GetNewBlockIdForFileTResponse();
+                struct.success = new LoadMetadataTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -9278,7 +17325,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9298,16 +17345,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultTupleScheme getScheme() {
-        return new getNewBlockIdForFile_resultTupleScheme();
+    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
+      public loadMetadata_resultTupleScheme getScheme() {
+        return new loadMetadata_resultTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
+    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9326,11 +17373,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new GetNewBlockIdForFileTResponse();
+          struct.success = new LoadMetadataTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -9344,31 +17391,37 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
+  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField ALLUXIO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("alluxioPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private ListStatusTOptions options; // required
+    private String alluxioPath; // required
+    private String ufsPath; // required
+    private MountTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
+       * the path of alluxio mount point
        */
-      PATH((short)1, "path"),
+      ALLUXIO_PATH((short)1, "alluxioPath"),
       /**
-       * listStatus options
+       * the path of the under file system
        */
-      OPTIONS((short)2, "options");
+      UFS_PATH((short)2, "ufsPath"),
+      /**
+       * the options for creating the mount point
+       */
+      OPTIONS((short)3, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9383,9 +17436,11 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // OPTIONS
+          case 1: // ALLUXIO_PATH
+            return ALLUXIO_PATH;
+          case 2: // UFS_PATH
+            return UFS_PATH;
+          case 3: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -9430,89 +17485,127 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.ALLUXIO_PATH, new org.apache.thrift.meta_data.FieldMetaData("alluxioPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
     }
 
-    public listStatus_args() {
+    public mount_args() {
     }
 
-    public listStatus_args(
-      String path,
-      ListStatusTOptions options)
+    public mount_args(
+      String alluxioPath,
+      String ufsPath,
+      MountTOptions options)
     {
       this();
-      this.path = path;
+      this.alluxioPath = alluxioPath;
+      this.ufsPath = ufsPath;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_args(listStatus_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public mount_args(mount_args other) {
+      if (other.isSetAlluxioPath()) {
+        this.alluxioPath = other.alluxioPath;
+      }
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
       }
       if (other.isSetOptions()) {
-        this.options = new ListStatusTOptions(other.options);
+        this.options = new MountTOptions(other.options);
       }
     }
 
-    public listStatus_args deepCopy() {
-      return new listStatus_args(this);
+    public mount_args deepCopy() {
+      return new mount_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.alluxioPath = null;
+      this.ufsPath = null;
       this.options = null;
     }
 
     /**
-     * the path of the file or directory
+     * the path of alluxio mount point
      */
-    public String getPath() {
-      return this.path;
+    public String getAlluxioPath() {
+      return this.alluxioPath;
     }
 
     /**
-     * the path of the file or directory
+     * the path of alluxio mount point
      */
-    public listStatus_args setPath(String path) {
-      this.path = path;
+    public mount_args setAlluxioPath(String alluxioPath) {
+      this.alluxioPath = alluxioPath;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetAlluxioPath() {
+      this.alluxioPath = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field alluxioPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetAlluxioPath() {
+      return this.alluxioPath != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setAlluxioPathIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.alluxioPath = null;
       }
     }
 
     /**
-     * listStatus options
+     * the path of the under file system
      */
-    public ListStatusTOptions getOptions() {
+    public String getUfsPath() {
+      return this.ufsPath;
+    }
+
+    /**
+     * the path of the under file system
+     */
+    public mount_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
+      return this;
+    }
+
+    public void unsetUfsPath() {
+      this.ufsPath = null;
+    }
+
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
+    }
+
+    public void setUfsPathIsSet(boolean value) {
+      if (!value) {
+        this.ufsPath = null;
+      }
+    }
+
+    /**
+     * the options for creating the mount point
+     */
+    public MountTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * listStatus options
+     * the options for creating the mount point
      */
-    public listStatus_args setOptions(ListStatusTOptions options) {
+    public mount_args setOptions(MountTOptions options) {
       this.options = options;
       return this;
     }
@@ -9534,11 +17627,19 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case ALLUXIO_PATH:
         if (value == null) {
-          unsetPath();
+          unsetAlluxioPath();
         } else {
-          setPath((String)value);
+          setAlluxioPath((String)value);
+        }
+        break;
+
+      case UFS_PATH:
+        if (value == null) {
+          unsetUfsPath();
+        } else {
+          setUfsPath((String)value);
         }
         break;
 
@@ -9546,7 +17647,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((ListStatusTOptions)value);
+          setOptions((MountTOptions)value);
         }
         break;
 
@@ -9555,8 +17656,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case ALLUXIO_PATH:
+        return getAlluxioPath();
+
+      case UFS_PATH:
+        return getUfsPath();
 
       case OPTIONS:
         return getOptions();
@@ -9572,8 +17676,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case ALLUXIO_PATH:
+        return isSetAlluxioPath();
+      case UFS_PATH:
+        return isSetUfsPath();
       case OPTIONS:
         return isSetOptions();
       }
@@ -9584,21 +17690,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_args)
-        return this.equals((listStatus_args)that);
+      if (that instanceof mount_args)
+        return this.equals((mount_args)that);
       return false;
     }
 
-    public boolean equals(listStatus_args that) {
+    public boolean equals(mount_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_alluxioPath = true && this.isSetAlluxioPath();
+      boolean that_present_alluxioPath = true && that.isSetAlluxioPath();
+      if (this_present_alluxioPath || that_present_alluxioPath) {
+        if (!(this_present_alluxioPath && that_present_alluxioPath))
+          return false;
+        if (!this.alluxioPath.equals(that.alluxioPath))
+          return false;
+      }
+
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.ufsPath.equals(that.ufsPath))
           return false;
       }
 
@@ -9618,10 +17733,15 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_alluxioPath = true && (isSetAlluxioPath());
+      list.add(present_alluxioPath);
+      if (present_alluxioPath)
+        list.add(alluxioPath);
+
+      boolean present_ufsPath = true && (isSetUfsPath());
+      list.add(present_ufsPath);
+      if (present_ufsPath)
+        list.add(ufsPath);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -9632,19 +17752,29 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(listStatus_args other) {
+    public int compareTo(mount_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetAlluxioPath()).compareTo(other.isSetAlluxioPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetAlluxioPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.alluxioPath, other.alluxioPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9676,14 +17806,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_args(");
+      StringBuilder sb = new StringBuilder("mount_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("alluxioPath:");
+      if (this.alluxioPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.alluxioPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ufsPath);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -9722,15 +17860,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public listStatus_argsStandardScheme getScheme() {
-        return new listStatus_argsStandardScheme();
+    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
+      public mount_argsStandardScheme getScheme() {
+        return new mount_argsStandardScheme();
       }
     }
 
-    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
+    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9740,17 +17878,25 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
+            case 1: // ALLUXIO_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+                struct.alluxioPath = iprot.readString();
+                struct.setAlluxioPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
+            case 2: // UFS_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new ListStatusTOptions();
+                struct.options = new MountTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -9768,13 +17914,18 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.alluxioPath != null) {
+          oprot.writeFieldBegin(ALLUXIO_PATH_FIELD_DESC);
+          oprot.writeString(struct.alluxioPath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -9788,27 +17939,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public listStatus_argsTupleScheme getScheme() {
-        return new listStatus_argsTupleScheme();
+    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
+      public mount_argsTupleScheme getScheme() {
+        return new mount_argsTupleScheme();
       }
     }
 
-    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
+    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetAlluxioPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetUfsPath()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetAlluxioPath()) {
+          oprot.writeString(struct.alluxioPath);
+        }
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -9816,15 +17973,19 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.alluxioPath = iprot.readString();
+          struct.setAlluxioPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new ListStatusTOptions();
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new MountTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -9833,19 +17994,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
+  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
     }
 
-    private ListStatusTResponse success; // required
+    private MountTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -9914,18 +18075,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
     }
 
-    public listStatus_result() {
+    public mount_result() {
     }
 
-    public listStatus_result(
-      ListStatusTResponse success,
+    public mount_result(
+      MountTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -9936,17 +18097,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_result(listStatus_result other) {
+    public mount_result(mount_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ListStatusTResponse(other.success);
+        this.success = new MountTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public listStatus_result deepCopy() {
-      return new listStatus_result(this);
+    public mount_result deepCopy() {
+      return new mount_result(this);
     }
 
     @Override
@@ -9955,11 +18116,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public ListStatusTResponse getSuccess() {
+    public MountTResponse getSuccess() {
       return this.success;
     }
 
-    public listStatus_result setSuccess(ListStatusTResponse success) {
+    public mount_result setSuccess(MountTResponse success) {
       this.success = success;
       return this;
     }
@@ -9983,7 +18144,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public mount_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -10009,7 +18170,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ListStatusTResponse)value);
+          setSuccess((MountTResponse)value);
         }
         break;
 
@@ -10055,12 +18216,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_result)
-        return this.equals((listStatus_result)that);
+      if (that instanceof mount_result)
+        return this.equals((mount_result)that);
       return false;
     }
 
-    public boolean equals(listStatus_result that) {
+    public boolean equals(mount_result that) {
       if (that == null)
         return false;
 
@@ -10103,7 +18264,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(listStatus_result other) {
+    public int compareTo(mount_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10147,7 +18308,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_result(");
+      StringBuilder sb = new StringBuilder("mount_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10193,15 +18354,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public listStatus_resultStandardScheme getScheme() {
-        return new listStatus_resultStandardScheme();
+    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
+      public mount_resultStandardScheme getScheme() {
+        return new mount_resultStandardScheme();
       }
     }
 
-    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
+    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10213,7 +18374,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ListStatusTResponse();
+                struct.success = new MountTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -10240,7 +18401,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10260,16 +18421,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public listStatus_resultTupleScheme getScheme() {
-        return new listStatus_resultTupleScheme();
+    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
+      public mount_resultTupleScheme getScheme() {
+        return new mount_resultTupleScheme();
       }
     }
 
-    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
+    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10288,11 +18449,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new ListStatusTResponse();
+          struct.success = new MountTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -10306,35 +18467,35 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class loadMetadata_args implements org.apache.thrift.TBase<loadMetadata_args, loadMetadata_args._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_args");
+  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
 
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
     }
 
-    private String ufsPath; // required
+    private String path; // required
     private boolean recursive; // required
-    private LoadMetadataTOptions options; // required
+    private DeleteTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the under file system
+       * the path of the file or directory
        */
-      UFS_PATH((short)1, "ufsPath"),
+      PATH((short)1, "path"),
       /**
-       * whether to load metadata recursively
+       * whether to remove recursively
        */
       RECURSIVE((short)2, "recursive"),
       /**
-       * the method options
+       * the options for deleting the file
        */
       OPTIONS((short)3, "options");
 
@@ -10351,8 +18512,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // UFS_PATH
-            return UFS_PATH;
+          case 1: // PATH
+            return PATH;
           case 2: // RECURSIVE
             return RECURSIVE;
           case 3: // OPTIONS
@@ -10402,26 +18563,26 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadMetadataTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
     }
 
-    public loadMetadata_args() {
+    public remove_args() {
     }
 
-    public loadMetadata_args(
-      String ufsPath,
+    public remove_args(
+      String path,
       boolean recursive,
-      LoadMetadataTOptions options)
+      DeleteTOptions options)
     {
       this();
-      this.ufsPath = ufsPath;
+      this.path = path;
       this.recursive = recursive;
       setRecursiveIsSet(true);
       this.options = options;
@@ -10430,70 +18591,70 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_args(loadMetadata_args other) {
+    public remove_args(remove_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+      if (other.isSetPath()) {
+        this.path = other.path;
       }
       this.recursive = other.recursive;
       if (other.isSetOptions()) {
-        this.options = new LoadMetadataTOptions(other.options);
+        this.options = new DeleteTOptions(other.options);
       }
     }
 
-    public loadMetadata_args deepCopy() {
-      return new loadMetadata_args(this);
+    public remove_args deepCopy() {
+      return new remove_args(this);
     }
 
     @Override
     public void clear() {
-      this.ufsPath = null;
+      this.path = null;
       setRecursiveIsSet(false);
       this.recursive = false;
       this.options = null;
     }
 
     /**
-     * the path of the under file system
+     * the path of the file or directory
      */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the path of the under file system
+     * the path of the file or directory
      */
-    public loadMetadata_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public remove_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setUfsPathIsSet(boolean value) {
+    public void setPathIsSet(boolean value) {
       if (!value) {
-        this.ufsPath = null;
+        this.path = null;
       }
     }
 
     /**
-     * whether to load metadata recursively
+     * whether to remove recursively
      */
     public boolean isRecursive() {
       return this.recursive;
     }
 
     /**
-     * whether to load metadata recursively
+     * whether to remove recursively
      */
-    public loadMetadata_args setRecursive(boolean recursive) {
+    public remove_args setRecursive(boolean recursive) {
       this.recursive = recursive;
       setRecursiveIsSet(true);
       return this;
@@ -10513,16 +18674,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the method options
+     * the options for deleting the file
      */
-    public LoadMetadataTOptions getOptions() {
+    public DeleteTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the method options
+     * the options for deleting the file
      */
-    public loadMetadata_args setOptions(LoadMetadataTOptions options) {
+    public remove_args setOptions(DeleteTOptions options) {
       this.options = options;
       return this;
     }
@@ -10544,11 +18705,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case UFS_PATH:
+      case PATH:
         if (value == null) {
-          unsetUfsPath();
+          unsetPath();
         } else {
-          setUfsPath((String)value);
+          setPath((String)value);
         }
         break;
 
@@ -10564,7 +18725,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((LoadMetadataTOptions)value);
+          setOptions((DeleteTOptions)value);
         }
         break;
 
@@ -10573,8 +18734,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case UFS_PATH:
-        return getUfsPath();
+      case PATH:
+        return getPath();
 
       case RECURSIVE:
         return isRecursive();
@@ -10593,8 +18754,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case UFS_PATH:
-        return isSetUfsPath();
+      case PATH:
+        return isSetPath();
       case RECURSIVE:
         return isSetRecursive();
       case OPTIONS:
@@ -10607,21 +18768,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_args)
-        return this.equals((loadMetadata_args)that);
+      if (that instanceof remove_args)
+        return this.equals((remove_args)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_args that) {
+    public boolean equals(remove_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (!this.path.equals(that.path))
           return false;
       }
 
@@ -10650,10 +18811,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
 
       boolean present_recursive = true;
       list.add(present_recursive);
@@ -10669,19 +18830,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(loadMetadata_args other) {
+    public int compareTo(remove_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10723,14 +18884,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_args(");
+      StringBuilder sb = new StringBuilder("remove_args(");
       boolean first = true;
 
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("path:");
+      if (this.path == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.path);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -10775,15 +18936,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class loadMetadata_argsStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsStandardScheme getScheme() {
-        return new loadMetadata_argsStandardScheme();
+    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
+      public remove_argsStandardScheme getScheme() {
+        return new remove_argsStandardScheme();
       }
     }
 
-    private static class loadMetadata_argsStandardScheme extends StandardScheme<loadMetadata_args> {
+    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10793,10 +18954,10 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // UFS_PATH
+            case 1: // PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10811,7 +18972,7 @@ public class FileSystemMasterClientService {
               break;
             case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new LoadMetadataTOptions();
+                struct.options = new DeleteTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -10829,13 +18990,13 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
@@ -10852,19 +19013,19 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class loadMetadata_argsTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_argsTupleScheme getScheme() {
-        return new loadMetadata_argsTupleScheme();
+    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
+      public remove_argsTupleScheme getScheme() {
+        return new remove_argsTupleScheme();
       }
     }
 
-    private static class loadMetadata_argsTupleScheme extends TupleScheme<loadMetadata_args> {
+    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetPath()) {
           optionals.set(0);
         }
         if (struct.isSetRecursive()) {
@@ -10874,8 +19035,8 @@ public class FileSystemMasterClientService {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
         if (struct.isSetRecursive()) {
           oprot.writeBool(struct.recursive);
@@ -10886,19 +19047,19 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
           struct.recursive = iprot.readBool();
           struct.setRecursiveIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.options = new LoadMetadataTOptions();
+          struct.options = new DeleteTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -10907,19 +19068,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class loadMetadata_result implements org.apache.thrift.TBase<loadMetadata_result, loadMetadata_result._Fields>, java.io.Serializable, Cloneable, Comparable<loadMetadata_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("loadMetadata_result");
+  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new loadMetadata_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new loadMetadata_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
     }
 
-    private LoadMetadataTResponse success; // required
+    private DeleteTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10988,18 +19149,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadMetadataTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(loadMetadata_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
     }
 
-    public loadMetadata_result() {
+    public remove_result() {
     }
 
-    public loadMetadata_result(
-      LoadMetadataTResponse success,
+    public remove_result(
+      DeleteTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -11010,17 +19171,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public loadMetadata_result(loadMetadata_result other) {
+    public remove_result(remove_result other) {
       if (other.isSetSuccess()) {
-        this.success = new LoadMetadataTResponse(other.success);
+        this.success = new DeleteTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public loadMetadata_result deepCopy() {
-      return new loadMetadata_result(this);
+    public remove_result deepCopy() {
+      return new remove_result(this);
     }
 
     @Override
@@ -11029,11 +19190,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public LoadMetadataTResponse getSuccess() {
+    public DeleteTResponse getSuccess() {
       return this.success;
     }
 
-    public loadMetadata_result setSuccess(LoadMetadataTResponse success) {
+    public remove_result setSuccess(DeleteTResponse success) {
       this.success = success;
       return this;
     }
@@ -11057,7 +19218,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public loadMetadata_result setE(alluxio.thrift.AlluxioTException e) {
+    public remove_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -11083,7 +19244,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((LoadMetadataTResponse)value);
+          setSuccess((DeleteTResponse)value);
         }
         break;
 
@@ -11129,12 +19290,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof loadMetadata_result)
-        return this.equals((loadMetadata_result)that);
+      if (that instanceof remove_result)
+        return this.equals((remove_result)that);
       return false;
     }
 
-    public boolean equals(loadMetadata_result that) {
+    public boolean equals(remove_result that) {
       if (that == null)
         return false;
 
@@ -11177,7 +19338,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(loadMetadata_result other) {
+    public int compareTo(remove_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11221,7 +19382,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("loadMetadata_result(");
+      StringBuilder sb = new StringBuilder("remove_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -11267,15 +19428,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class loadMetadata_resultStandardSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultStandardScheme getScheme() {
-        return new loadMetadata_resultStandardScheme();
+    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
+      public remove_resultStandardScheme getScheme() {
+        return new remove_resultStandardScheme();
       }
     }
 
-    private static class loadMetadata_resultStandardScheme extends StandardScheme<loadMetadata_result> {
+    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11287,7 +19448,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new LoadMetadataTResponse();
+                struct.success = new DeleteTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -11314,7 +19475,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11334,16 +19495,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class loadMetadata_resultTupleSchemeFactory implements SchemeFactory {
-      public loadMetadata_resultTupleScheme getScheme() {
-        return new loadMetadata_resultTupleScheme();
+    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
+      public remove_resultTupleScheme getScheme() {
+        return new remove_resultTupleScheme();
       }
     }
 
-    private static class loadMetadata_resultTupleScheme extends TupleScheme<loadMetadata_result> {
+    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -11362,11 +19523,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, loadMetadata_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new LoadMetadataTResponse();
+          struct.success = new DeleteTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -11380,37 +19541,31 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class mount_args implements org.apache.thrift.TBase<mount_args, mount_args._Fields>, java.io.Serializable, Cloneable, Comparable<mount_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_args");
+  public static class deleteBatch_args implements org.apache.thrift.TBase<deleteBatch_args, deleteBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteBatch_args");
 
-    private static final org.apache.thrift.protocol.TField ALLUXIO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("alluxioPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteBatch_argsTupleSchemeFactory());
     }
 
-    private String alluxioPath; // required
-    private String ufsPath; // required
-    private MountTOptions options; // required
+    private List<String> paths; // required
+    private DeleteTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of alluxio mount point
-       */
-      ALLUXIO_PATH((short)1, "alluxioPath"),
-      /**
-       * the path of the under file system
+       * the paths of the files or directories
        */
-      UFS_PATH((short)2, "ufsPath"),
+      PATHS((short)1, "paths"),
       /**
-       * the options for creating the mount point
+       * the options for deleting the files
        */
-      OPTIONS((short)3, "options");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11425,11 +19580,9 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ALLUXIO_PATH
-            return ALLUXIO_PATH;
-          case 2: // UFS_PATH
-            return UFS_PATH;
-          case 3: // OPTIONS
+          case 1: // PATHS
+            return PATHS;
+          case 2: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -11474,127 +19627,106 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ALLUXIO_PATH, new org.apache.thrift.meta_data.FieldMetaData("alluxioPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteBatch_args.class, metaDataMap);
     }
 
-    public mount_args() {
+    public deleteBatch_args() {
     }
 
-    public mount_args(
-      String alluxioPath,
-      String ufsPath,
-      MountTOptions options)
+    public deleteBatch_args(
+      List<String> paths,
+      DeleteTOptions options)
     {
       this();
-      this.alluxioPath = alluxioPath;
-      this.ufsPath = ufsPath;
+      this.paths = paths;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_args(mount_args other) {
-      if (other.isSetAlluxioPath()) {
-        this.alluxioPath = other.alluxioPath;
-      }
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+    public deleteBatch_args(deleteBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
       if (other.isSetOptions()) {
-        this.options = new MountTOptions(other.options);
+        this.options = new DeleteTOptions(other.options);
       }
     }
 
-    public mount_args deepCopy() {
-      return new mount_args(this);
+    public deleteBatch_args deepCopy() {
+      return new deleteBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.alluxioPath = null;
-      this.ufsPath = null;
+      this.paths = null;
       this.options = null;
     }
 
-    /**
-     * the path of alluxio mount point
-     */
-    public String getAlluxioPath() {
-      return this.alluxioPath;
-    }
-
-    /**
-     * the path of alluxio mount point
-     */
-    public mount_args setAlluxioPath(String alluxioPath) {
-      this.alluxioPath = alluxioPath;
-      return this;
-    }
-
-    public void unsetAlluxioPath() {
-      this.alluxioPath = null;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /** Returns true if field alluxioPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetAlluxioPath() {
-      return this.alluxioPath != null;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void setAlluxioPathIsSet(boolean value) {
-      if (!value) {
-        this.alluxioPath = null;
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
       }
+      this.paths.add(elem);
     }
 
     /**
-     * the path of the under file system
+     * the paths of the files or directories
      */
-    public String getUfsPath() {
-      return this.ufsPath;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
     /**
-     * the path of the under file system
+     * the paths of the files or directories
      */
-    public mount_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
+    public deleteBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetUfsPath() {
-      this.ufsPath = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setUfsPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.ufsPath = null;
+        this.paths = null;
       }
     }
 
     /**
-     * the options for creating the mount point
+     * the options for deleting the files
      */
-    public MountTOptions getOptions() {
+    public DeleteTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for creating the mount point
+     * the options for deleting the files
      */
-    public mount_args setOptions(MountTOptions options) {
+    public deleteBatch_args setOptions(DeleteTOptions options) {
       this.options = options;
       return this;
     }
@@ -11616,19 +19748,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case ALLUXIO_PATH:
-        if (value == null) {
-          unsetAlluxioPath();
-        } else {
-          setAlluxioPath((String)value);
-        }
-        break;
-
-      case UFS_PATH:
+      case PATHS:
         if (value == null) {
-          unsetUfsPath();
+          unsetPaths();
         } else {
-          setUfsPath((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -11636,7 +19760,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((MountTOptions)value);
+          setOptions((DeleteTOptions)value);
         }
         break;
 
@@ -11645,11 +19769,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case ALLUXIO_PATH:
-        return getAlluxioPath();
-
-      case UFS_PATH:
-        return getUfsPath();
+      case PATHS:
+        return getPaths();
 
       case OPTIONS:
         return getOptions();
@@ -11665,10 +19786,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case ALLUXIO_PATH:
-        return isSetAlluxioPath();
-      case UFS_PATH:
-        return isSetUfsPath();
+      case PATHS:
+        return isSetPaths();
       case OPTIONS:
         return isSetOptions();
       }
@@ -11679,30 +19798,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_args)
-        return this.equals((mount_args)that);
+      if (that instanceof deleteBatch_args)
+        return this.equals((deleteBatch_args)that);
       return false;
     }
 
-    public boolean equals(mount_args that) {
+    public boolean equals(deleteBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_alluxioPath = true && this.isSetAlluxioPath();
-      boolean that_present_alluxioPath = true && that.isSetAlluxioPath();
-      if (this_present_alluxioPath || that_present_alluxioPath) {
-        if (!(this_present_alluxioPath && that_present_alluxioPath))
-          return false;
-        if (!this.alluxioPath.equals(that.alluxioPath))
-          return false;
-      }
-
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.ufsPath.equals(that.ufsPath))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -11722,15 +19832,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_alluxioPath = true && (isSetAlluxioPath());
-      list.add(present_alluxioPath);
-      if (present_alluxioPath)
-        list.add(alluxioPath);
-
-      boolean present_ufsPath = true && (isSetUfsPath());
-      list.add(present_ufsPath);
-      if (present_ufsPath)
-        list.add(ufsPath);
+      boolean present_paths = true && (isSetPaths());
+      list.add(present_paths);
+      if (present_paths)
+        list.add(paths);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -11741,29 +19846,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(mount_args other) {
+    public int compareTo(deleteBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetAlluxioPath()).compareTo(other.isSetAlluxioPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetAlluxioPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.alluxioPath, other.alluxioPath);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11795,22 +19890,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_args(");
+      StringBuilder sb = new StringBuilder("deleteBatch_args(");
       boolean first = true;
 
-      sb.append("alluxioPath:");
-      if (this.alluxioPath == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.alluxioPath);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.paths);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -11849,15 +19936,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mount_argsStandardSchemeFactory implements SchemeFactory {
-      public mount_argsStandardScheme getScheme() {
-        return new mount_argsStandardScheme();
+    private static class deleteBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public deleteBatch_argsStandardScheme getScheme() {
+        return new deleteBatch_argsStandardScheme();
       }
     }
 
-    private static class mount_argsStandardScheme extends StandardScheme<mount_args> {
+    private static class deleteBatch_argsStandardScheme extends StandardScheme<deleteBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11867,25 +19954,27 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ALLUXIO_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.alluxioPath = iprot.readString();
-                struct.setAlluxioPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // UFS_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list138 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list138.size);
+                  String _elem139;
+                  for (int _i140 = 0; _i140 < _list138.size; ++_i140)
+                  {
+                    _elem139 = iprot.readString();
+                    struct.paths.add(_elem139);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // OPTIONS
+            case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new MountTOptions();
+                struct.options = new DeleteTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -11903,18 +19992,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.alluxioPath != null) {
-          oprot.writeFieldBegin(ALLUXIO_PATH_FIELD_DESC);
-          oprot.writeString(struct.alluxioPath);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter141 : struct.paths)
+            {
+              oprot.writeString(_iter141);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -11928,33 +20019,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mount_argsTupleSchemeFactory implements SchemeFactory {
-      public mount_argsTupleScheme getScheme() {
-        return new mount_argsTupleScheme();
+    private static class deleteBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public deleteBatch_argsTupleScheme getScheme() {
+        return new deleteBatch_argsTupleScheme();
       }
     }
 
-    private static class mount_argsTupleScheme extends TupleScheme<mount_args> {
+    private static class deleteBatch_argsTupleScheme extends TupleScheme<deleteBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetAlluxioPath()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetUfsPath()) {
-          optionals.set(1);
-        }
         if (struct.isSetOptions()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetAlluxioPath()) {
-          oprot.writeString(struct.alluxioPath);
+          optionals.set(1);
         }
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter142 : struct.paths)
+            {
+              oprot.writeString(_iter142);
+            }
+          }
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -11962,19 +20053,24 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.alluxioPath = iprot.readString();
-          struct.setAlluxioPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list143 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list143.size);
+            String _elem144;
+            for (int _i145 = 0; _i145 < _list143.size; ++_i145)
+            {
+              _elem144 = iprot.readString();
+              struct.paths.add(_elem144);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.options = new MountTOptions();
+          struct.options = new DeleteTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -11983,19 +20079,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class mount_result implements org.apache.thrift.TBase<mount_result, mount_result._Fields>, java.io.Serializable, Cloneable, Comparable<mount_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mount_result");
+  public static class deleteBatch_result implements org.apache.thrift.TBase<deleteBatch_result, deleteBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mount_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mount_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteBatch_resultTupleSchemeFactory());
     }
 
-    private MountTResponse success; // required
+    private DeleteBatchTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -12064,18 +20160,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MountTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteBatchTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mount_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteBatch_result.class, metaDataMap);
     }
 
-    public mount_result() {
+    public deleteBatch_result() {
     }
 
-    public mount_result(
-      MountTResponse success,
+    public deleteBatch_result(
+      DeleteBatchTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -12086,17 +20182,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mount_result(mount_result other) {
+    public deleteBatch_result(deleteBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new MountTResponse(other.success);
+        this.success = new DeleteBatchTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public mount_result deepCopy() {
-      return new mount_result(this);
+    public deleteBatch_result deepCopy() {
+      return new deleteBatch_result(this);
     }
 
     @Override
@@ -12105,11 +20201,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public MountTResponse getSuccess() {
+    public DeleteBatchTResponse getSuccess() {
       return this.success;
     }
 
-    public mount_result setSuccess(MountTResponse success) {
+    public deleteBatch_result setSuccess(DeleteBatchTResponse success) {
       this.success = success;
       return this;
     }
@@ -12133,7 +20229,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public mount_result setE(alluxio.thrift.AlluxioTException e) {
+    public deleteBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -12159,7 +20255,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((MountTResponse)value);
+          setSuccess((DeleteBatchTResponse)value);
         }
         break;
 
@@ -12205,12 +20301,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mount_result)
-        return this.equals((mount_result)that);
+      if (that instanceof deleteBatch_result)
+        return this.equals((deleteBatch_result)that);
       return false;
     }
 
-    public boolean equals(mount_result that) {
+    public boolean equals(deleteBatch_result that) {
       if (that == null)
         return false;
 
@@ -12253,7 +20349,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(mount_result other) {
+    public int compareTo(deleteBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12297,7 +20393,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mount_result(");
+      StringBuilder sb = new StringBuilder("deleteBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12343,15 +20439,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class mount_resultStandardSchemeFactory implements SchemeFactory {
-      public mount_resultStandardScheme getScheme() {
-        return new mount_resultStandardScheme();
+    private static class deleteBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public deleteBatch_resultStandardScheme getScheme() {
+        return new deleteBatch_resultStandardScheme();
       }
     }
 
-    private static class mount_resultStandardScheme extends StandardScheme<mount_result> {
+    private static class deleteBatch_resultStandardScheme extends StandardScheme<deleteBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12363,7 +20459,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new MountTResponse();
+                struct.success = new DeleteBatchTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -12390,7 +20486,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -12410,16 +20506,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class mount_resultTupleSchemeFactory implements SchemeFactory {
-      public mount_resultTupleScheme getScheme() {
-        return new mount_resultTupleScheme();
+    private static class deleteBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public deleteBatch_resultTupleScheme getScheme() {
+        return new deleteBatch_resultTupleScheme();
       }
     }
 
-    private static class mount_resultTupleScheme extends TupleScheme<mount_result> {
+    private static class deleteBatch_resultTupleScheme extends TupleScheme<deleteBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -12438,11 +20534,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new MountTResponse();
+          struct.success = new DeleteBatchTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -12456,35 +20552,35 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class remove_args implements org.apache.thrift.TBase<remove_args, remove_args._Fields>, java.io.Serializable, Cloneable, Comparable<remove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_args");
+  public static class rename_args implements org.apache.thrift.TBase<rename_args, rename_args._Fields>, java.io.Serializable, Cloneable, Comparable<rename_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField DST_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("dstPath", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new rename_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new rename_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private boolean recursive; // required
-    private DeleteTOptions options; // required
+    private String dstPath; // required
+    private RenameTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
+       * the source path of the file or directory
        */
       PATH((short)1, "path"),
       /**
-       * whether to remove recursively
+       * the desination path of the file
        */
-      RECURSIVE((short)2, "recursive"),
+      DST_PATH((short)2, "dstPath"),
       /**
-       * the options for deleting the file
+       * the method options
        */
       OPTIONS((short)3, "options");
 
@@ -12503,8 +20599,8 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
+          case 2: // DST_PATH
+            return DST_PATH;
           case 3: // OPTIONS
             return OPTIONS;
           default:
@@ -12547,73 +20643,70 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.DST_PATH, new org.apache.thrift.meta_data.FieldMetaData("dstPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_args.class, metaDataMap);
     }
 
-    public remove_args() {
+    public rename_args() {
     }
 
-    public remove_args(
+    public rename_args(
       String path,
-      boolean recursive,
-      DeleteTOptions options)
+      String dstPath,
+      RenameTOptions options)
     {
       this();
       this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.dstPath = dstPath;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_args(remove_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public rename_args(rename_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.recursive = other.recursive;
+      if (other.isSetDstPath()) {
+        this.dstPath = other.dstPath;
+      }
       if (other.isSetOptions()) {
-        this.options = new DeleteTOptions(other.options);
+        this.options = new RenameTOptions(other.options);
       }
     }
 
-    public remove_args deepCopy() {
-      return new remove_args(this);
+    public rename_args deepCopy() {
+      return new rename_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
+      this.dstPath = null;
       this.options = null;
     }
 
     /**
-     * the path of the file or directory
+     * the source path of the file or directory
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file or directory
+     * the source path of the file or directory
      */
-    public remove_args setPath(String path) {
+    public rename_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -12634,45 +20727,46 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * whether to remove recursively
+     * the desination path of the file
      */
-    public boolean isRecursive() {
-      return this.recursive;
+    public String getDstPath() {
+      return this.dstPath;
     }
 
     /**
-     * whether to remove recursively
+     * the desination path of the file
      */
-    public remove_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public rename_args setDstPath(String dstPath) {
+      this.dstPath = dstPath;
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetDstPath() {
+      this.dstPath = null;
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field dstPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetDstPath() {
+      return this.dstPath != null;
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setDstPathIsSet(boolean value) {
+      if (!value) {
+        this.dstPath = null;
+      }
     }
 
     /**
-     * the options for deleting the file
+     * the method options
      */
-    public DeleteTOptions getOptions() {
+    public RenameTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for deleting the file
+     * the method options
      */
-    public remove_args setOptions(DeleteTOptions options) {
+    public rename_args setOptions(RenameTOptions options) {
       this.options = options;
       return this;
     }
@@ -12702,11 +20796,11 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case RECURSIVE:
+      case DST_PATH:
         if (value == null) {
-          unsetRecursive();
+          unsetDstPath();
         } else {
-          setRecursive((Boolean)value);
+          setDstPath((String)value);
         }
         break;
 
@@ -12714,7 +20808,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((DeleteTOptions)value);
+          setOptions((RenameTOptions)value);
         }
         break;
 
@@ -12726,8 +20820,8 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case RECURSIVE:
-        return isRecursive();
+      case DST_PATH:
+        return getDstPath();
 
       case OPTIONS:
         return getOptions();
@@ -12745,8 +20839,8 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case RECURSIVE:
-        return isSetRecursive();
+      case DST_PATH:
+        return isSetDstPath();
       case OPTIONS:
         return isSetOptions();
       }
@@ -12757,12 +20851,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_args)
-        return this.equals((remove_args)that);
+      if (that instanceof rename_args)
+        return this.equals((rename_args)that);
       return false;
     }
 
-    public boolean equals(remove_args that) {
+    public boolean equals(rename_args that) {
       if (that == null)
         return false;
 
@@ -12775,12 +20869,12 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_dstPath = true && this.isSetDstPath();
+      boolean that_present_dstPath = true && that.isSetDstPath();
+      if (this_present_dstPath || that_present_dstPath) {
+        if (!(this_present_dstPath && that_present_dstPath))
           return false;
-        if (this.recursive != that.recursive)
+        if (!this.dstPath.equals(that.dstPath))
           return false;
       }
 
@@ -12805,10 +20899,10 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
+      boolean present_dstPath = true && (isSetDstPath());
+      list.add(present_dstPath);
+      if (present_dstPath)
+        list.add(dstPath);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -12819,7 +20913,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(remove_args other) {
+    public int compareTo(rename_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12836,12 +20930,12 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      lastComparison = Boolean.valueOf(isSetDstPath()).compareTo(other.isSetDstPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetDstPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dstPath, other.dstPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12873,7 +20967,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_args(");
+      StringBuilder sb = new StringBuilder("rename_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -12884,8 +20978,12 @@ public class FileSystemMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
+      sb.append("dstPath:");
+      if (this.dstPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.dstPath);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("options:");
@@ -12917,23 +21015,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class remove_argsStandardSchemeFactory implements SchemeFactory {
-      public remove_argsStandardScheme getScheme() {
-        return new remove_argsStandardScheme();
+    private static class rename_argsStandardSchemeFactory implements SchemeFactory {
+      public rename_argsStandardScheme getScheme() {
+        return new rename_argsStandardScheme();
       }
     }
 
-    private static class remove_argsStandardScheme extends StandardScheme<remove_args> {
+    private static class rename_argsStandardScheme extends StandardScheme<rename_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12951,17 +21047,17 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 2: // DST_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.dstPath = iprot.readString();
+                struct.setDstPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new DeleteTOptions();
+                struct.options = new RenameTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -12979,7 +21075,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -12988,9 +21084,11 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
+        if (struct.dstPath != null) {
+          oprot.writeFieldBegin(DST_PATH_FIELD_DESC);
+          oprot.writeString(struct.dstPath);
+          oprot.writeFieldEnd();
+        }
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -13002,22 +21100,22 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class remove_argsTupleSchemeFactory implements SchemeFactory {
-      public remove_argsTupleScheme getScheme() {
-        return new remove_argsTupleScheme();
+    private static class rename_argsTupleSchemeFactory implements SchemeFactory {
+      public rename_argsTupleScheme getScheme() {
+        return new rename_argsTupleScheme();
       }
     }
 
-    private static class remove_argsTupleScheme extends TupleScheme<remove_args> {
+    private static class rename_argsTupleScheme extends TupleScheme<rename_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
+        if (struct.isSetDstPath()) {
           optionals.set(1);
         }
         if (struct.isSetOptions()) {
@@ -13027,8 +21125,8 @@ public class FileSystemMasterClientService {
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        if (struct.isSetDstPath()) {
+          oprot.writeString(struct.dstPath);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -13036,7 +21134,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -13044,11 +21142,11 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.dstPath = iprot.readString();
+          struct.setDstPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.options = new DeleteTOptions();
+          struct.options = new RenameTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -13057,19 +21155,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class remove_result implements org.apache.thrift.TBase<remove_result, remove_result._Fields>, java.io.Serializable, Cloneable, Comparable<remove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("remove_result");
+  public static class rename_result implements org.apache.thrift.TBase<rename_result, rename_result._Fields>, java.io.Serializable, Cloneable, Comparable<rename_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new remove_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new remove_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new rename_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new rename_resultTupleSchemeFactory());
     }
 
-    private DeleteTResponse success; // required
+    private RenameTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -13138,18 +21236,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(remove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_result.class, metaDataMap);
     }
 
-    public remove_result() {
+    public rename_result() {
     }
 
-    public remove_result(
-      DeleteTResponse success,
+    public rename_result(
+      RenameTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -13160,17 +21258,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public remove_result(remove_result other) {
+    public rename_result(rename_result other) {
       if (other.isSetSuccess()) {
-        this.success = new DeleteTResponse(other.success);
+        this.success = new RenameTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public remove_result deepCopy() {
-      return new remove_result(this);
+    public rename_result deepCopy() {
+      return new rename_result(this);
     }
 
     @Override
@@ -13179,11 +21277,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public DeleteTResponse getSuccess() {
+    public RenameTResponse getSuccess() {
       return this.success;
     }
 
-    public remove_result setSuccess(DeleteTResponse success) {
+    public rename_result setSuccess(RenameTResponse success) {
       this.success = success;
       return this;
     }
@@ -13207,7 +21305,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public remove_result setE(alluxio.thrift.AlluxioTException e) {
+    public rename_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -13233,7 +21331,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((DeleteTResponse)value);
+          setSuccess((RenameTResponse)value);
         }
         break;
 
@@ -13279,12 +21377,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof remove_result)
-        return this.equals((remove_result)that);
+      if (that instanceof rename_result)
+        return this.equals((rename_result)that);
       return false;
     }
 
-    public boolean equals(remove_result that) {
+    public boolean equals(rename_result that) {
       if (that == null)
         return false;
 
@@ -13327,7 +21425,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(remove_result other) {
+    public int compareTo(rename_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13371,7 +21469,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("remove_result(");
+      StringBuilder sb = new StringBuilder("rename_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -13417,15 +21515,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class remove_resultStandardSchemeFactory implements SchemeFactory {
-      public remove_resultStandardScheme getScheme() {
-        return new remove_resultStandardScheme();
+    private static class rename_resultStandardSchemeFactory implements SchemeFactory {
+      public rename_resultStandardScheme getScheme() {
+        return new rename_resultStandardScheme();
       }
     }
 
-    private static class remove_resultStandardScheme extends StandardScheme<remove_result> {
+    private static class rename_resultStandardScheme extends StandardScheme<rename_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13437,7 +21535,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new DeleteTResponse();
+                struct.success = new RenameTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -13464,7 +21562,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -13484,16 +21582,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class remove_resultTupleSchemeFactory implements SchemeFactory {
-      public remove_resultTupleScheme getScheme() {
-        return new remove_resultTupleScheme();
+    private static class rename_resultTupleSchemeFactory implements SchemeFactory {
+      public rename_resultTupleScheme getScheme() {
+        return new rename_resultTupleScheme();
       }
     }
 
-    private static class remove_resultTupleScheme extends TupleScheme<remove_result> {
+    private static class rename_resultTupleScheme extends TupleScheme<rename_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -13512,11 +21610,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, remove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new DeleteTResponse();
+          struct.success = new RenameTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -13530,33 +21628,33 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class rename_args implements org.apache.thrift.TBase<rename_args, rename_args._Fields>, java.io.Serializable, Cloneable, Comparable<rename_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_args");
+  public static class renameBatch_args implements org.apache.thrift.TBase<renameBatch_args, renameBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBatch_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField DST_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("dstPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField SRC_PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("srcPaths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField DST_PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("dstPaths", org.apache.thrift.protocol.TType.LIST, (short)2);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new rename_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new rename_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new renameBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new renameBatch_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private String dstPath; // required
+    private List<String> srcPaths; // required
+    private List<String> dstPaths; // required
     private RenameTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the source path of the file or directory
+       * the source paths of the files or directories
        */
-      PATH((short)1, "path"),
+      SRC_PATHS((short)1, "srcPaths"),
       /**
-       * the desination path of the file
+       * the destination paths of the files
        */
-      DST_PATH((short)2, "dstPath"),
+      DST_PATHS((short)2, "dstPaths"),
       /**
        * the method options
        */
@@ -13575,10 +21673,10 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // DST_PATH
-            return DST_PATH;
+          case 1: // SRC_PATHS
+            return SRC_PATHS;
+          case 2: // DST_PATHS
+            return DST_PATHS;
           case 3: // OPTIONS
             return OPTIONS;
           default:
@@ -13624,113 +21722,147 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.DST_PATH, new org.apache.thrift.meta_data.FieldMetaData("dstPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SRC_PATHS, new org.apache.thrift.meta_data.FieldMetaData("srcPaths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.DST_PATHS, new org.apache.thrift.meta_data.FieldMetaData("dstPaths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBatch_args.class, metaDataMap);
     }
 
-    public rename_args() {
+    public renameBatch_args() {
     }
 
-    public rename_args(
-      String path,
-      String dstPath,
+    public renameBatch_args(
+      List<String> srcPaths,
+      List<String> dstPaths,
       RenameTOptions options)
     {
       this();
-      this.path = path;
-      this.dstPath = dstPath;
+      this.srcPaths = srcPaths;
+      this.dstPaths = dstPaths;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public rename_args(rename_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public renameBatch_args(renameBatch_args other) {
+      if (other.isSetSrcPaths()) {
+        List<String> __this__srcPaths = new ArrayList<String>(other.srcPaths);
+        this.srcPaths = __this__srcPaths;
       }
-      if (other.isSetDstPath()) {
-        this.dstPath = other.dstPath;
+      if (other.isSetDstPaths()) {
+        List<String> __this__dstPaths = new ArrayList<String>(other.dstPaths);
+        this.dstPaths = __this__dstPaths;
       }
       if (other.isSetOptions()) {
         this.options = new RenameTOptions(other.options);
       }
     }
 
-    public rename_args deepCopy() {
-      return new rename_args(this);
+    public renameBatch_args deepCopy() {
+      return new renameBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.dstPath = null;
+      this.srcPaths = null;
+      this.dstPaths = null;
       this.options = null;
     }
 
+    public int getSrcPathsSize() {
+      return (this.srcPaths == null) ? 0 : this.srcPaths.size();
+    }
+
+    public java.util.Iterator<String> getSrcPathsIterator() {
+      return (this.srcPaths == null) ? null : this.srcPaths.iterator();
+    }
+
+    public void addToSrcPaths(String elem) {
+      if (this.srcPaths == null) {
+        this.srcPaths = new ArrayList<String>();
+      }
+      this.srcPaths.add(elem);
+    }
+
     /**
-     * the source path of the file or directory
+     * the source paths of the files or directories
      */
-    public String getPath() {
-      return this.path;
+    public List<String> getSrcPaths() {
+      return this.srcPaths;
     }
 
     /**
-     * the source path of the file or directory
+     * the source paths of the files or directories
      */
-    public rename_args setPath(String path) {
-      this.path = path;
+    public renameBatch_args setSrcPaths(List<String> srcPaths) {
+      this.srcPaths = srcPaths;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetSrcPaths() {
+      this.srcPaths = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field srcPaths is set (has been assigned a value) and false otherwise */
+    public boolean isSetSrcPaths() {
+      return this.srcPaths != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setSrcPathsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.srcPaths = null;
+      }
+    }
+
+    public int getDstPathsSize() {
+      return (this.dstPaths == null) ? 0 : this.dstPaths.size();
+    }
+
+    public java.util.Iterator<String> getDstPathsIterator() {
+      return (this.dstPaths == null) ? null : this.dstPaths.iterator();
+    }
+
+    public void addToDstPaths(String elem) {
+      if (this.dstPaths == null) {
+        this.dstPaths = new ArrayList<String>();
       }
+      this.dstPaths.add(elem);
     }
 
     /**
-     * the desination path of the file
+     * the destination paths of the files
      */
-    public String getDstPath() {
-      return this.dstPath;
+    public List<String> getDstPaths() {
+      return this.dstPaths;
     }
 
     /**
-     * the desination path of the file
+     * the destination paths of the files
      */
-    public rename_args setDstPath(String dstPath) {
-      this.dstPath = dstPath;
+    public renameBatch_args setDstPaths(List<String> dstPaths) {
+      this.dstPaths = dstPaths;
       return this;
     }
 
-    public void unsetDstPath() {
-      this.dstPath = null;
+    public void unsetDstPaths() {
+      this.dstPaths = null;
     }
 
-    /** Returns true if field dstPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetDstPath() {
-      return this.dstPath != null;
+    /** Returns true if field dstPaths is set (has been assigned a value) and false otherwise */
+    public boolean isSetDstPaths() {
+      return this.dstPaths != null;
     }
 
-    public void setDstPathIsSet(boolean value) {
+    public void setDstPathsIsSet(boolean value) {
       if (!value) {
-        this.dstPath = null;
+        this.dstPaths = null;
       }
     }
 
@@ -13744,7 +21876,7 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public rename_args setOptions(RenameTOptions options) {
+    public renameBatch_args setOptions(RenameTOptions options) {
       this.options = options;
       return this;
     }
@@ -13766,19 +21898,19 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case SRC_PATHS:
         if (value == null) {
-          unsetPath();
+          unsetSrcPaths();
         } else {
-          setPath((String)value);
+          setSrcPaths((List<String>)value);
         }
         break;
 
-      case DST_PATH:
+      case DST_PATHS:
         if (value == null) {
-          unsetDstPath();
+          unsetDstPaths();
         } else {
-          setDstPath((String)value);
+          setDstPaths((List<String>)value);
         }
         break;
 
@@ -13795,11 +21927,11 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case SRC_PATHS:
+        return getSrcPaths();
 
-      case DST_PATH:
-        return getDstPath();
+      case DST_PATHS:
+        return getDstPaths();
 
       case OPTIONS:
         return getOptions();
@@ -13815,10 +21947,10 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case DST_PATH:
-        return isSetDstPath();
+      case SRC_PATHS:
+        return isSetSrcPaths();
+      case DST_PATHS:
+        return isSetDstPaths();
       case OPTIONS:
         return isSetOptions();
       }
@@ -13829,30 +21961,30 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof rename_args)
-        return this.equals((rename_args)that);
+      if (that instanceof renameBatch_args)
+        return this.equals((renameBatch_args)that);
       return false;
     }
 
-    public boolean equals(rename_args that) {
+    public boolean equals(renameBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_srcPaths = true && this.isSetSrcPaths();
+      boolean that_present_srcPaths = true && that.isSetSrcPaths();
+      if (this_present_srcPaths || that_present_srcPaths) {
+        if (!(this_present_srcPaths && that_present_srcPaths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.srcPaths.equals(that.srcPaths))
           return false;
       }
 
-      boolean this_present_dstPath = true && this.isSetDstPath();
-      boolean that_present_dstPath = true && that.isSetDstPath();
-      if (this_present_dstPath || that_present_dstPath) {
-        if (!(this_present_dstPath && that_present_dstPath))
+      boolean this_present_dstPaths = true && this.isSetDstPaths();
+      boolean that_present_dstPaths = true && that.isSetDstPaths();
+      if (this_present_dstPaths || that_present_dstPaths) {
+        if (!(this_present_dstPaths && that_present_dstPaths))
           return false;
-        if (!this.dstPath.equals(that.dstPath))
+        if (!this.dstPaths.equals(that.dstPaths))
           return false;
       }
 
@@ -13872,15 +22004,15 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_srcPaths = true && (isSetSrcPaths());
+      list.add(present_srcPaths);
+      if (present_srcPaths)
+        list.add(srcPaths);
 
-      boolean present_dstPath = true && (isSetDstPath());
-      list.add(present_dstPath);
-      if (present_dstPath)
-        list.add(dstPath);
+      boolean present_dstPaths = true && (isSetDstPaths());
+      list.add(present_dstPaths);
+      if (present_dstPaths)
+        list.add(dstPaths);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -13891,29 +22023,29 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(rename_args other) {
+    public int compareTo(renameBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetSrcPaths()).compareTo(other.isSetSrcPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetSrcPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.srcPaths, other.srcPaths);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetDstPath()).compareTo(other.isSetDstPath());
+      lastComparison = Boolean.valueOf(isSetDstPaths()).compareTo(other.isSetDstPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDstPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dstPath, other.dstPath);
+      if (isSetDstPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dstPaths, other.dstPaths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13945,22 +22077,22 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("rename_args(");
+      StringBuilder sb = new StringBuilder("renameBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("srcPaths:");
+      if (this.srcPaths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.srcPaths);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("dstPath:");
-      if (this.dstPath == null) {
+      sb.append("dstPaths:");
+      if (this.dstPaths == null) {
         sb.append("null");
       } else {
-        sb.append(this.dstPath);
+        sb.append(this.dstPaths);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -13999,15 +22131,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class rename_argsStandardSchemeFactory implements SchemeFactory {
-      public rename_argsStandardScheme getScheme() {
-        return new rename_argsStandardScheme();
+    private static class renameBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public renameBatch_argsStandardScheme getScheme() {
+        return new renameBatch_argsStandardScheme();
       }
     }
 
-    private static class rename_argsStandardScheme extends StandardScheme<rename_args> {
+    private static class renameBatch_argsStandardScheme extends StandardScheme<renameBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14017,18 +22149,38 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // SRC_PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list146 = iprot.readListBegin();
+                  struct.srcPaths = new ArrayList<String>(_list146.size);
+                  String _elem147;
+                  for (int _i148 = 0; _i148 < _list146.size; ++_i148)
+                  {
+                    _elem147 = iprot.readString();
+                    struct.srcPaths.add(_elem147);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSrcPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // DST_PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.dstPath = iprot.readString();
-                struct.setDstPathIsSet(true);
+            case 2: // DST_PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list149 = iprot.readListBegin();
+                  struct.dstPaths = new ArrayList<String>(_list149.size);
+                  String _elem150;
+                  for (int _i151 = 0; _i151 < _list149.size; ++_i151)
+                  {
+                    _elem150 = iprot.readString();
+                    struct.dstPaths.add(_elem150);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDstPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14053,18 +22205,32 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.srcPaths != null) {
+          oprot.writeFieldBegin(SRC_PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.srcPaths.size()));
+            for (String _iter152 : struct.srcPaths)
+            {
+              oprot.writeString(_iter152);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.dstPath != null) {
-          oprot.writeFieldBegin(DST_PATH_FIELD_DESC);
-          oprot.writeString(struct.dstPath);
+        if (struct.dstPaths != null) {
+          oprot.writeFieldBegin(DST_PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.dstPaths.size()));
+            for (String _iter153 : struct.dstPaths)
+            {
+              oprot.writeString(_iter153);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -14078,33 +22244,45 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class rename_argsTupleSchemeFactory implements SchemeFactory {
-      public rename_argsTupleScheme getScheme() {
-        return new rename_argsTupleScheme();
+    private static class renameBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public renameBatch_argsTupleScheme getScheme() {
+        return new renameBatch_argsTupleScheme();
       }
     }
 
-    private static class rename_argsTupleScheme extends TupleScheme<rename_args> {
+    private static class renameBatch_argsTupleScheme extends TupleScheme<renameBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetSrcPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetDstPath()) {
+        if (struct.isSetDstPaths()) {
           optionals.set(1);
         }
         if (struct.isSetOptions()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetSrcPaths()) {
+          {
+            oprot.writeI32(struct.srcPaths.size());
+            for (String _iter154 : struct.srcPaths)
+            {
+              oprot.writeString(_iter154);
+            }
+          }
         }
-        if (struct.isSetDstPath()) {
-          oprot.writeString(struct.dstPath);
+        if (struct.isSetDstPaths()) {
+          {
+            oprot.writeI32(struct.dstPaths.size());
+            for (String _iter155 : struct.dstPaths)
+            {
+              oprot.writeString(_iter155);
+            }
+          }
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -14112,16 +22290,34 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, rename_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list156 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.srcPaths = new ArrayList<String>(_list156.size);
+            String _elem157;
+            for (int _i158 = 0; _i158 < _list156.size; ++_i158)
+            {
+              _elem157 = iprot.readString();
+              struct.srcPaths.add(_elem157);
+            }
+          }
+          struct.setSrcPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.dstPath = iprot.readString();
-          struct.setDstPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list159 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.dstPaths = new ArrayList<String>(_list159.size);
+            String _elem160;
+            for (int _i161 = 0; _i161 < _list159.size; ++_i161)
+            {
+              _elem160 = iprot.readString();
+              struct.dstPaths.add(_elem160);
+            }
+          }
+          struct.setDstPathsIsSet(true);
         }
         if (incoming.get(2)) {
           struct.options = new RenameTOptions();
@@ -14133,19 +22329,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class rename_result implements org.apache.thrift.TBase<rename_result, rename_result._Fields>, java.io.Serializable, Cloneable, Comparable<rename_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("rename_result");
+  public static class renameBatch_result implements org.apache.thrift.TBase<renameBatch_result, renameBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new rename_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new rename_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new renameBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new renameBatch_resultTupleSchemeFactory());
     }
 
-    private RenameTResponse success; // required
+    private RenameBatchTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -14214,18 +22410,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameBatchTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(rename_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameBatch_result.class, metaDataMap);
     }
 
-    public rename_result() {
+    public renameBatch_result() {
     }
 
-    public rename_result(
-      RenameTResponse success,
+    public renameBatch_result(
+      RenameBatchTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -14236,17 +22432,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public rename_result(rename_result other) {
+    public renameBatch_result(renameBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new RenameTResponse(other.success);
+        this.success = new RenameBatchTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public rename_result deepCopy() {
-      return new rename_result(this);
+    public renameBatch_result deepCopy() {
+      return new renameBatch_result(this);
     }
 
     @Override
@@ -14255,11 +22451,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public RenameTResponse getSuccess() {
+    public RenameBatchTResponse getSuccess() {
       return this.success;
     }
 
-    public rename_result setSuccess(RenameTResponse success) {
+    public renameBatch_result setSuccess(RenameBatchTResponse success) {
       this.success = success;
       return this;
     }
@@ -14283,7 +22479,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public rename_result setE(alluxio.thrift.AlluxioTException e) {
+    public renameBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -14309,7 +22505,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((RenameTResponse)value);
+          setSuccess((RenameBatchTResponse)value);
         }
         break;
 
@@ -14355,12 +22551,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof rename_result)
-        return this.equals((rename_result)that);
+      if (that instanceof renameBatch_result)
+        return this.equals((renameBatch_result)that);
       return false;
     }
 
-    public boolean equals(rename_result that) {
+    public boolean equals(renameBatch_result that) {
       if (that == null)
         return false;
 
@@ -14403,7 +22599,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(rename_result other) {
+    public int compareTo(renameBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14447,7 +22643,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("rename_result(");
+      StringBuilder sb = new StringBuilder("renameBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -14493,15 +22689,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class rename_resultStandardSchemeFactory implements SchemeFactory {
-      public rename_resultStandardScheme getScheme() {
-        return new rename_resultStandardScheme();
+    private static class renameBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public renameBatch_resultStandardScheme getScheme() {
+        return new renameBatch_resultStandardScheme();
       }
     }
 
-    private static class rename_resultStandardScheme extends StandardScheme<rename_result> {
+    private static class renameBatch_resultStandardScheme extends StandardScheme<renameBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, rename_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14513,7 +22709,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RenameTResponse();
+                struct.success = new RenameBatchTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -14540,7 +22736,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, rename_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -14560,16 +22756,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class rename_resultTupleSchemeFactory implements SchemeFactory {
-      public rename_resultTupleScheme getScheme() {
-        return new rename_resultTupleScheme();
+    private static class renameBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public renameBatch_resultTupleScheme getScheme() {
+        return new renameBatch_resultTupleScheme();
       }
     }
 
-    private static class rename_resultTupleScheme extends TupleScheme<rename_result> {
+    private static class renameBatch_resultTupleScheme extends TupleScheme<renameBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -14588,11 +22784,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, rename_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new RenameTResponse();
+          struct.success = new RenameBatchTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -1254,13 +1254,13 @@ public class FileSystemMasterWorkerService {
             case 2: // PERSISTED_FILES
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list82 = iprot.readListBegin();
-                  struct.persistedFiles = new ArrayList<Long>(_list82.size);
-                  long _elem83;
-                  for (int _i84 = 0; _i84 < _list82.size; ++_i84)
+                  org.apache.thrift.protocol.TList _list162 = iprot.readListBegin();
+                  struct.persistedFiles = new ArrayList<Long>(_list162.size);
+                  long _elem163;
+                  for (int _i164 = 0; _i164 < _list162.size; ++_i164)
                   {
-                    _elem83 = iprot.readI64();
-                    struct.persistedFiles.add(_elem83);
+                    _elem163 = iprot.readI64();
+                    struct.persistedFiles.add(_elem163);
                   }
                   iprot.readListEnd();
                 }
@@ -1300,9 +1300,9 @@ public class FileSystemMasterWorkerService {
           oprot.writeFieldBegin(PERSISTED_FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.persistedFiles.size()));
-            for (long _iter85 : struct.persistedFiles)
+            for (long _iter165 : struct.persistedFiles)
             {
-              oprot.writeI64(_iter85);
+              oprot.writeI64(_iter165);
             }
             oprot.writeListEnd();
           }
@@ -1347,9 +1347,9 @@ public class FileSystemMasterWorkerService {
         if (struct.isSetPersistedFiles()) {
           {
             oprot.writeI32(struct.persistedFiles.size());
-            for (long _iter86 : struct.persistedFiles)
+            for (long _iter166 : struct.persistedFiles)
             {
-              oprot.writeI64(_iter86);
+              oprot.writeI64(_iter166);
             }
           }
         }
@@ -1368,13 +1368,13 @@ public class FileSystemMasterWorkerService {
         }
         if (incoming.get(1)) {
           {
-            org.apache.thrift.protocol.TList _list87 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            struct.persistedFiles = new ArrayList<Long>(_list87.size);
-            long _elem88;
-            for (int _i89 = 0; _i89 < _list87.size; ++_i89)
+            org.apache.thrift.protocol.TList _list167 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.persistedFiles = new ArrayList<Long>(_list167.size);
+            long _elem168;
+            for (int _i169 = 0; _i169 < _list167.size; ++_i169)
             {
-              _elem88 = iprot.readI64();
-              struct.persistedFiles.add(_elem88);
+              _elem168 = iprot.readI64();
+              struct.persistedFiles.add(_elem168);
             }
           }
           struct.setPersistedFilesIsSet(true);
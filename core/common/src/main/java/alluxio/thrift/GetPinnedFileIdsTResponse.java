@@ -348,13 +348,13 @@ public class GetPinnedFileIdsTResponse implements org.apache.thrift.TBase<GetPin
           case 1: // PINNED_FILE_IDS
             if (schemeField.type == org.apache.thrift.protocol.TType.SET) {
               {
-                org.apache.thrift.protocol.TSet _set74 = iprot.readSetBegin();
-                struct.pinnedFileIds = new HashSet<Long>(2*_set74.size);
-                long _elem75;
-                for (int _i76 = 0; _i76 < _set74.size; ++_i76)
+                org.apache.thrift.protocol.TSet _set114 = iprot.readSetBegin();
+                struct.pinnedFileIds = new HashSet<Long>(2*_set114.size);
+                long _elem115;
+                for (int _i116 = 0; _i116 < _set114.size; ++_i116)
                 {
-                  _elem75 = iprot.readI64();
-                  struct.pinnedFileIds.add(_elem75);
+                  _elem115 = iprot.readI64();
+                  struct.pinnedFileIds.add(_elem115);
                 }
                 iprot.readSetEnd();
               }
@@ -382,9 +382,9 @@ public class GetPinnedFileIdsTResponse implements org.apache.thrift.TBase<GetPin
         oprot.writeFieldBegin(PINNED_FILE_IDS_FIELD_DESC);
         {
           oprot.writeSetBegin(new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, struct.pinnedFileIds.size()));
-          for (long _iter77 : struct.pinnedFileIds)
+          for (long _iter117 : struct.pinnedFileIds)
           {
-            oprot.writeI64(_iter77);
+            oprot.writeI64(_iter117);
           }
           oprot.writeSetEnd();
         }
@@ -415,9 +415,9 @@ public class GetPinnedFileIdsTResponse implements org.apache.thrift.TBase<GetPin
       if (struct.isSetPinnedFileIds()) {
         {
           oprot.writeI32(struct.pinnedFileIds.size());
-          for (long _iter78 : struct.pinnedFileIds)
+          for (long _iter118 : struct.pinnedFileIds)
           {
-            oprot.writeI64(_iter78);
+            oprot.writeI64(_iter118);
           }
         }
       }
@@ -429,13 +429,13 @@ public class GetPinnedFileIdsTResponse implements org.apache.thrift.TBase<GetPin
       BitSet incoming = iprot.readBitSet(1);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TSet _set79 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.pinnedFileIds = new HashSet<Long>(2*_set79.size);
-          long _elem80;
-          for (int _i81 = 0; _i81 < _set79.size; ++_i81)
+          org.apache.thrift.protocol.TSet _set119 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.pinnedFileIds = new HashSet<Long>(2*_set119.size);
+          long _elem120;
+          for (int _i121 = 0; _i121 < _set119.size; ++_i121)
           {
-            _elem80 = iprot.readI64();
-            struct.pinnedFileIds.add(_elem80);
+            _elem120 = iprot.readI64();
+            struct.pinnedFileIds.add(_elem120);
           }
         }
         struct.setPinnedFileIdsIsSet(true);
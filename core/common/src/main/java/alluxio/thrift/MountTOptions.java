@@ -507,15 +507,15 @@ public class MountTOptions implements org.apache.thrift.TBase<MountTOptions, Mou
           case 2: // PROPERTIES
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map48 = iprot.readMapBegin();
-                struct.properties = new HashMap<String,String>(2*_map48.size);
-                String _key49;
-                String _val50;
-                for (int _i51 = 0; _i51 < _map48.size; ++_i51)
+                org.apache.thrift.protocol.TMap _map56 = iprot.readMapBegin();
+                struct.properties = new HashMap<String,String>(2*_map56.size);
+                String _key57;
+                String _val58;
+                for (int _i59 = 0; _i59 < _map56.size; ++_i59)
                 {
-                  _key49 = iprot.readString();
-                  _val50 = iprot.readString();
-                  struct.properties.put(_key49, _val50);
+                  _key57 = iprot.readString();
+                  _val58 = iprot.readString();
+                  struct.properties.put(_key57, _val58);
                 }
                 iprot.readMapEnd();
               }
@@ -557,10 +557,10 @@ public class MountTOptions implements org.apache.thrift.TBase<MountTOptions, Mou
           oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-            for (Map.Entry<String, String> _iter52 : struct.properties.entrySet())
+            for (Map.Entry<String, String> _iter60 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter52.getKey());
-              oprot.writeString(_iter52.getValue());
+              oprot.writeString(_iter60.getKey());
+              oprot.writeString(_iter60.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -606,10 +606,10 @@ public class MountTOptions implements org.apache.thrift.TBase<MountTOptions, Mou
       if (struct.isSetProperties()) {
         {
           oprot.writeI32(struct.properties.size());
-          for (Map.Entry<String, String> _iter53 : struct.properties.entrySet())
+          for (Map.Entry<String, String> _iter61 : struct.properties.entrySet())
           {
-            oprot.writeString(_iter53.getKey());
-            oprot.writeString(_iter53.getValue());
+            oprot.writeString(_iter61.getKey());
+            oprot.writeString(_iter61.getValue());
           }
         }
       }
@@ -628,15 +628,15 @@ public class MountTOptions implements org.apache.thrift.TBase<MountTOptions, Mou
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TMap _map54 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.properties = new HashMap<String,String>(2*_map54.size);
-          String _key55;
-          String _val56;
-          for (int _i57 = 0; _i57 < _map54.size; ++_i57)
+          org.apache.thrift.protocol.TMap _map62 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.properties = new HashMap<String,String>(2*_map62.size);
+          String _key63;
+          String _val64;
+          for (int _i65 = 0; _i65 < _map62.size; ++_i65)
           {
-            _key55 = iprot.readString();
-            _val56 = iprot.readString();
-            struct.properties.put(_key55, _val56);
+            _key63 = iprot.readString();
+            _val64 = iprot.readString();
+            struct.properties.put(_key63, _val64);
           }
         }
         struct.setPropertiesIsSet(true);
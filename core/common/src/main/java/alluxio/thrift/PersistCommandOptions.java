@@ -351,14 +351,14 @@ public class PersistCommandOptions implements org.apache.thrift.TBase<PersistCom
           case 1: // PERSIST_FILES
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
-                struct.persistFiles = new ArrayList<PersistFile>(_list58.size);
-                PersistFile _elem59;
-                for (int _i60 = 0; _i60 < _list58.size; ++_i60)
+                org.apache.thrift.protocol.TList _list66 = iprot.readListBegin();
+                struct.persistFiles = new ArrayList<PersistFile>(_list66.size);
+                PersistFile _elem67;
+                for (int _i68 = 0; _i68 < _list66.size; ++_i68)
                 {
-                  _elem59 = new PersistFile();
-                  _elem59.read(iprot);
-                  struct.persistFiles.add(_elem59);
+                  _elem67 = new PersistFile();
+                  _elem67.read(iprot);
+                  struct.persistFiles.add(_elem67);
                 }
                 iprot.readListEnd();
               }
@@ -386,9 +386,9 @@ public class PersistCommandOptions implements org.apache.thrift.TBase<PersistCom
         oprot.writeFieldBegin(PERSIST_FILES_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.persistFiles.size()));
-          for (PersistFile _iter61 : struct.persistFiles)
+          for (PersistFile _iter69 : struct.persistFiles)
           {
-            _iter61.write(oprot);
+            _iter69.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -419,9 +419,9 @@ public class PersistCommandOptions implements org.apache.thrift.TBase<PersistCom
       if (struct.isSetPersistFiles()) {
         {
           oprot.writeI32(struct.persistFiles.size());
-          for (PersistFile _iter62 : struct.persistFiles)
+          for (PersistFile _iter70 : struct.persistFiles)
           {
-            _iter62.write(oprot);
+            _iter70.write(oprot);
           }
         }
       }
@@ -433,14 +433,14 @@ public class PersistCommandOptions implements org.apache.thrift.TBase<PersistCom
       BitSet incoming = iprot.readBitSet(1);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.persistFiles = new ArrayList<PersistFile>(_list63.size);
-          PersistFile _elem64;
-          for (int _i65 = 0; _i65 < _list63.size; ++_i65)
+          org.apache.thrift.protocol.TList _list71 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.persistFiles = new ArrayList<PersistFile>(_list71.size);
+          PersistFile _elem72;
+          for (int _i73 = 0; _i73 < _list71.size; ++_i73)
           {
-            _elem64 = new PersistFile();
-            _elem64.read(iprot);
-            struct.persistFiles.add(_elem64);
+            _elem72 = new PersistFile();
+            _elem72.read(iprot);
+            struct.persistFiles.add(_elem72);
           }
         }
         struct.setPersistFilesIsSet(true);
@@ -12,6 +12,7 @@
 package alluxio.underfs;
 
 import alluxio.AlluxioURI;
+import alluxio.metrics.RpcTrace;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
 import alluxio.underfs.options.FileLocationOptions;
@@ -511,6 +512,7 @@ public class UnderFileSystemWithLogging implements UnderFileSystem {
    */
   private <T> T call(UfsCallable<T> callable) throws IOException {
     LOG.debug("Enter: {}", callable);
+    long startTimeNanos = System.nanoTime();
     try {
       T ret = callable.call();
       LOG.debug("Exit (OK): {}", callable);
@@ -518,6 +520,8 @@ public class UnderFileSystemWithLogging implements UnderFileSystem {
     } catch (IOException e) {
       LOG.debug("Exit (Error): {}, Error={}", callable, e.getMessage());
       throw e;
+    } finally {
+      RpcTrace.record(RpcTrace.Phase.UFS, startTimeNanos);
     }
   }
 }
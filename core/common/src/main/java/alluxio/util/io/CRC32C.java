@@ -0,0 +1,194 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Computes the CRC32C (Castagnoli) checksum of a stream of bytes, which is the checksum HDFS uses
+ * for its block data. The CRC of a concatenation can be computed from the CRCs of its parts with
+ * {@link #combine(long, long, long)}, without reading the data again.
+ */
+@NotThreadSafe
+public final class CRC32C implements Checksum {
+  /** The reversed Castagnoli polynomial. */
+  private static final int POLYNOMIAL = 0x82F63B78;
+  /** The lookup tables to process 8 bytes at a time ("slicing-by-8"). */
+  private static final int[][] TABLES = new int[8][256];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      int crc = i;
+      for (int j = 0; j < 8; j++) {
+        crc = (crc >>> 1) ^ ((crc & 1) == 0 ? 0 : POLYNOMIAL);
+      }
+      TABLES[0][i] = crc;
+    }
+    for (int i = 0; i < 256; i++) {
+      for (int k = 1; k < 8; k++) {
+        TABLES[k][i] = (TABLES[k - 1][i] >>> 8) ^ TABLES[0][TABLES[k - 1][i] & 0xff];
+      }
+    }
+  }
+
+  /** The complement of the current CRC. */
+  private int mCrc = 0xffffffff;
+
+  /**
+   * Creates a new instance of {@link CRC32C}.
+   */
+  public CRC32C() {}
+
+  @Override
+  public void update(int b) {
+    mCrc = (mCrc >>> 8) ^ TABLES[0][(mCrc ^ b) & 0xff];
+  }
+
+  @Override
+  public void update(byte[] b, int off, int len) {
+    int crc = mCrc;
+    int end = off + len;
+    for (; off + 8 <= end; off += 8) {
+      crc ^= (b[off] & 0xff) | (b[off + 1] & 0xff) << 8 | (b[off + 2] & 0xff) << 16
+          | (b[off + 3] & 0xff) << 24;
+      int high = (b[off + 4] & 0xff) | (b[off + 5] & 0xff) << 8 | (b[off + 6] & 0xff) << 16
+          | (b[off + 7] & 0xff) << 24;
+      crc = slice(crc, high);
+    }
+    for (; off < end; off++) {
+      crc = (crc >>> 8) ^ TABLES[0][(crc ^ b[off]) & 0xff];
+    }
+    mCrc = crc;
+  }
+
+  /**
+   * Updates the checksum with the remaining bytes of a buffer. The position of the buffer is
+   * advanced to its limit.
+   *
+   * @param buf the buffer
+   */
+  public void update(ByteBuffer buf) {
+    if (buf.hasArray()) {
+      update(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+      buf.position(buf.limit());
+      return;
+    }
+    ByteOrder order = buf.order();
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    int crc = mCrc;
+    while (buf.remaining() >= 8) {
+      long word = buf.getLong();
+      crc = slice(crc ^ (int) word, (int) (word >>> 32));
+    }
+    while (buf.hasRemaining()) {
+      crc = (crc >>> 8) ^ TABLES[0][(crc ^ buf.get()) & 0xff];
+    }
+    mCrc = crc;
+    buf.order(order);
+  }
+
+  @Override
+  public long getValue() {
+    return ~mCrc & 0xffffffffL;
+  }
+
+  @Override
+  public void reset() {
+    mCrc = 0xffffffff;
+  }
+
+  /**
+   * @param low the CRC xor'ed with the first 4 bytes of the next 8 bytes, little-endian
+   * @param high the last 4 bytes of the next 8 bytes, little-endian
+   * @return the CRC after the 8 bytes
+   */
+  private static int slice(int low, int high) {
+    return TABLES[7][low & 0xff] ^ TABLES[6][(low >>> 8) & 0xff]
+        ^ TABLES[5][(low >>> 16) & 0xff] ^ TABLES[4][low >>> 24]
+        ^ TABLES[3][high & 0xff] ^ TABLES[2][(high >>> 8) & 0xff]
+        ^ TABLES[1][(high >>> 16) & 0xff] ^ TABLES[0][high >>> 24];
+  }
+
+  /**
+   * Computes the CRC of the concatenation of two byte sequences from their CRCs. This takes
+   * O(log(length2)) time, as in zlib's crc32_combine.
+   *
+   * @param crc1 the CRC of the first sequence
+   * @param crc2 the CRC of the second sequence
+   * @param length2 the length of the second sequence
+   * @return the CRC of the concatenation
+   */
+  public static long combine(long crc1, long crc2, long length2) {
+    if (length2 <= 0) {
+      return crc1;
+    }
+    // The operator to apply one zero bit to a CRC, then the operators for two and four zero bits.
+    int[] odd = new int[32];
+    int[] even = new int[32];
+    odd[0] = POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < 32; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    square(even, odd);
+    square(odd, even);
+
+    // Apply length2 zero bytes to crc1, squaring the operator for each bit of the length.
+    int crc = (int) crc1;
+    do {
+      square(even, odd);
+      if ((length2 & 1) != 0) {
+        crc = times(even, crc);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      square(odd, even);
+      if ((length2 & 1) != 0) {
+        crc = times(odd, crc);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return (crc ^ (int) crc2) & 0xffffffffL;
+  }
+
+  /**
+   * @param matrix a 32x32 matrix over GF(2), one column per int
+   * @param vector a vector over GF(2)
+   * @return the product of the matrix and the vector
+   */
+  private static int times(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * @param square the matrix to set to the square of the other matrix
+   * @param matrix a 32x32 matrix over GF(2), one column per int
+   */
+  private static void square(int[] square, int[] matrix) {
+    for (int n = 0; n < 32; n++) {
+      square[n] = times(matrix, matrix[n]);
+    }
+  }
+}
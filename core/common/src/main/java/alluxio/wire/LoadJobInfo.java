@@ -0,0 +1,184 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The progress of a distributed load of the blocks under a path.
+ */
+@NotThreadSafe
+public final class LoadJobInfo implements Serializable {
+  private static final long serialVersionUID = -2351806378446370458L;
+
+  private long mId;
+  private String mPath = "";
+  private long mTotalBlocks;
+  private long mLoadedBlocks;
+  private long mFailedBlocks;
+  private boolean mCompleted;
+
+  /**
+   * Creates a new instance of {@link LoadJobInfo}.
+   */
+  public LoadJobInfo() {}
+
+  /**
+   * Creates a new instance of {@link LoadJobInfo} from a thrift representation.
+   *
+   * @param jobInfo the thrift representation of a load job information
+   */
+  protected LoadJobInfo(alluxio.thrift.LoadJobInfo jobInfo) {
+    mId = jobInfo.getId();
+    mPath = jobInfo.getPath();
+    mTotalBlocks = jobInfo.getTotalBlocks();
+    mLoadedBlocks = jobInfo.getLoadedBlocks();
+    mFailedBlocks = jobInfo.getFailedBlocks();
+    mCompleted = jobInfo.isCompleted();
+  }
+
+  /**
+   * @return the load job id
+   */
+  public long getId() {
+    return mId;
+  }
+
+  /**
+   * @return the path being loaded
+   */
+  public String getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the number of blocks which were not in Alluxio when the job was created
+   */
+  public long getTotalBlocks() {
+    return mTotalBlocks;
+  }
+
+  /**
+   * @return the number of blocks loaded so far
+   */
+  public long getLoadedBlocks() {
+    return mLoadedBlocks;
+  }
+
+  /**
+   * @return the number of blocks which could not be loaded
+   */
+  public long getFailedBlocks() {
+    return mFailedBlocks;
+  }
+
+  /**
+   * @return whether every block has either been loaded or failed
+   */
+  public boolean isCompleted() {
+    return mCompleted;
+  }
+
+  /**
+   * @param id the load job id to use
+   * @return the load job information
+   */
+  public LoadJobInfo setId(long id) {
+    mId = id;
+    return this;
+  }
+
+  /**
+   * @param path the path to use
+   * @return the load job information
+   */
+  public LoadJobInfo setPath(String path) {
+    Preconditions.checkNotNull(path);
+    mPath = path;
+    return this;
+  }
+
+  /**
+   * @param totalBlocks the number of blocks to load to use
+   * @return the load job information
+   */
+  public LoadJobInfo setTotalBlocks(long totalBlocks) {
+    mTotalBlocks = totalBlocks;
+    return this;
+  }
+
+  /**
+   * @param loadedBlocks the number of loaded blocks to use
+   * @return the load job information
+   */
+  public LoadJobInfo setLoadedBlocks(long loadedBlocks) {
+    mLoadedBlocks = loadedBlocks;
+    return this;
+  }
+
+  /**
+   * @param failedBlocks the number of failed blocks to use
+   * @return the load job information
+   */
+  public LoadJobInfo setFailedBlocks(long failedBlocks) {
+    mFailedBlocks = failedBlocks;
+    return this;
+  }
+
+  /**
+   * @param completed whether the job is completed
+   * @return the load job information
+   */
+  public LoadJobInfo setCompleted(boolean completed) {
+    mCompleted = completed;
+    return this;
+  }
+
+  /**
+   * @return thrift representation of the load job information
+   */
+  protected alluxio.thrift.LoadJobInfo toThrift() {
+    return new alluxio.thrift.LoadJobInfo(mId, mPath, mTotalBlocks, mLoadedBlocks, mFailedBlocks,
+        mCompleted);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LoadJobInfo)) {
+      return false;
+    }
+    LoadJobInfo that = (LoadJobInfo) o;
+    return mId == that.mId && mPath.equals(that.mPath) && mTotalBlocks == that.mTotalBlocks
+        && mLoadedBlocks == that.mLoadedBlocks && mFailedBlocks == that.mFailedBlocks
+        && mCompleted == that.mCompleted;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mId, mPath, mTotalBlocks, mLoadedBlocks, mFailedBlocks, mCompleted);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("id", mId).add("path", mPath)
+        .add("totalBlocks", mTotalBlocks).add("loadedBlocks", mLoadedBlocks)
+        .add("failedBlocks", mFailedBlocks).add("completed", mCompleted).toString();
+  }
+}
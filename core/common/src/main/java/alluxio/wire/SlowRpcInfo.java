@@ -0,0 +1,163 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The information about an RPC which took longer than the slow RPC threshold.
+ */
+@NotThreadSafe
+public final class SlowRpcInfo implements Serializable {
+  private static final long serialVersionUID = 4196183530938414867L;
+
+  private String mName = "";
+  private String mDescription = "";
+  private long mStartTimeMs;
+  private long mDurationMs;
+  private boolean mFailed;
+  private HashMap<String, Long> mPhaseDurationsMs = new HashMap<>();
+
+  /**
+   * Creates a new instance of {@link SlowRpcInfo}.
+   */
+  public SlowRpcInfo() {}
+
+  /**
+   * @return the name of the RPC method
+   */
+  public String getName() {
+    return mName;
+  }
+
+  /**
+   * @return the description of the RPC, including its arguments
+   */
+  public String getDescription() {
+    return mDescription;
+  }
+
+  /**
+   * @return the time in milliseconds when the RPC started
+   */
+  public long getStartTimeMs() {
+    return mStartTimeMs;
+  }
+
+  /**
+   * @return the duration of the RPC in milliseconds
+   */
+  public long getDurationMs() {
+    return mDurationMs;
+  }
+
+  /**
+   * @return whether the RPC failed
+   */
+  public boolean getFailed() {
+    return mFailed;
+  }
+
+  /**
+   * @return the time in milliseconds the RPC spent in inode locking, UFS calls and journal flush
+   */
+  public Map<String, Long> getPhaseDurationsMs() {
+    return mPhaseDurationsMs;
+  }
+
+  /**
+   * @param name the name of the RPC method to use
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setName(String name) {
+    mName = name;
+    return this;
+  }
+
+  /**
+   * @param description the description of the RPC to use
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setDescription(String description) {
+    mDescription = description;
+    return this;
+  }
+
+  /**
+   * @param startTimeMs the start time of the RPC to use
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setStartTimeMs(long startTimeMs) {
+    mStartTimeMs = startTimeMs;
+    return this;
+  }
+
+  /**
+   * @param durationMs the duration of the RPC to use
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setDurationMs(long durationMs) {
+    mDurationMs = durationMs;
+    return this;
+  }
+
+  /**
+   * @param failed whether the RPC failed
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setFailed(boolean failed) {
+    mFailed = failed;
+    return this;
+  }
+
+  /**
+   * @param phaseDurationsMs the time spent in each phase of the RPC to use
+   * @return the slow RPC information
+   */
+  public SlowRpcInfo setPhaseDurationsMs(Map<String, Long> phaseDurationsMs) {
+    mPhaseDurationsMs = new HashMap<>(phaseDurationsMs);
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SlowRpcInfo)) {
+      return false;
+    }
+    SlowRpcInfo that = (SlowRpcInfo) o;
+    return mName.equals(that.mName) && mDescription.equals(that.mDescription)
+        && mStartTimeMs == that.mStartTimeMs && mDurationMs == that.mDurationMs
+        && mFailed == that.mFailed && mPhaseDurationsMs.equals(that.mPhaseDurationsMs);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mName, mDescription, mStartTimeMs, mDurationMs, mFailed,
+        mPhaseDurationsMs);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("name", mName).add("description", mDescription)
+        .add("startTimeMs", mStartTimeMs).add("durationMs", mDurationMs).add("failed", mFailed)
+        .add("phaseDurationsMs", mPhaseDurationsMs).toString();
+  }
+}
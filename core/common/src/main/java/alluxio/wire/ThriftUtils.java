@@ -93,6 +93,16 @@ public final class ThriftUtils {
     return new LineageInfo(lineageInfo);
   }
 
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param jobInfo the thrift representation of a load job information
+   * @return wire representation of the load job information
+   */
+  public static LoadJobInfo fromThrift(alluxio.thrift.LoadJobInfo jobInfo) {
+    return new LoadJobInfo(jobInfo);
+  }
+
   /**
    * Converts a thrift type to a wire type.
    *
@@ -193,6 +203,16 @@ public final class ThriftUtils {
     return lineageInfo.toThrift();
   }
 
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param jobInfo the wire representation of a load job information
+   * @return thrift representation of the load job information
+   */
+  public static alluxio.thrift.LoadJobInfo toThrift(LoadJobInfo jobInfo) {
+    return jobInfo.toThrift();
+  }
+
   /**
    * Converts a wire type to a thrift type.
    *
@@ -0,0 +1,197 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.Constants;
+import alluxio.util.io.CRC32C;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The CRC32C checksums of the fixed-size chunks of a block. The checksums are computed as the
+ * block is written, and stored in a file next to the block file. The checksum of the whole block
+ * is composed from the checksums of its chunks, so it can be served without reading the block.
+ */
+@NotThreadSafe
+public final class BlockChecksum {
+  /** The suffix of the checksum file of a block, appended to the path of the block file. */
+  public static final String FILE_SUFFIX = ".crc";
+  /** The size of the chunks in bytes. */
+  public static final int CHUNK_SIZE = 64 * Constants.KB;
+
+  private final int mChunkSize;
+  /** The checksum of the last chunk while it is not full, or null if read from a file. */
+  private final CRC32C mChunkChecksum;
+  /** The checksum of the last chunk if it is not full and the checksums are read from a file. */
+  private long mPartialChunkChecksum;
+  /** The checksums of the full chunks. */
+  private int[] mChunkChecksums = new int[16];
+  private int mChunks;
+  private long mLength;
+
+  /**
+   * Creates a new instance of {@link BlockChecksum} for an empty block.
+   */
+  public BlockChecksum() {
+    this(CHUNK_SIZE, true);
+  }
+
+  /**
+   * Creates a new instance of {@link BlockChecksum} for an empty block.
+   *
+   * @param chunkSize the size of the chunks in bytes
+   * @param writable whether the checksums of appended data can be added
+   */
+  private BlockChecksum(int chunkSize, boolean writable) {
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize=%s", chunkSize);
+    mChunkSize = chunkSize;
+    mChunkChecksum = writable ? new CRC32C() : null;
+  }
+
+  /**
+   * Updates the checksums with data appended to the block.
+   *
+   * @param buf the appended data, whose position is not changed
+   */
+  public void update(ByteBuffer buf) {
+    Preconditions.checkState(mChunkChecksum != null, "The checksums are read from a file");
+    ByteBuffer chunk = buf.duplicate();
+    int limit = chunk.limit();
+    while (chunk.position() < limit) {
+      int length = (int) Math.min(limit - chunk.position(), mChunkSize - mLength % mChunkSize);
+      chunk.limit(chunk.position() + length);
+      mChunkChecksum.update(chunk);
+      chunk.limit(limit);
+      mLength += length;
+      if (mLength % mChunkSize == 0) {
+        addChunk((int) mChunkChecksum.getValue());
+        mChunkChecksum.reset();
+      }
+    }
+  }
+
+  /**
+   * @return the length of the block in bytes
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the CRC32C checksum of the whole block
+   */
+  public long getValue() {
+    long checksum = 0;
+    for (int i = 0; i < mChunks; i++) {
+      checksum = CRC32C.combine(checksum, mChunkChecksums[i] & 0xffffffffL, mChunkSize);
+    }
+    return CRC32C.combine(checksum, getPartialChunkChecksum(), mLength % mChunkSize);
+  }
+
+  /**
+   * Writes the checksums to a file.
+   *
+   * @param path the path of the checksum file
+   */
+  public void writeTo(String path) throws IOException {
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+      out.writeInt(mChunkSize);
+      out.writeLong(mLength);
+      for (int i = 0; i < mChunks; i++) {
+        out.writeInt(mChunkChecksums[i]);
+      }
+      if (mLength % mChunkSize != 0) {
+        out.writeInt((int) getPartialChunkChecksum());
+      }
+    }
+  }
+
+  /**
+   * Reads the checksums of a block from a file written by {@link #writeTo(String)}. The checksums
+   * of more data can not be added to the result.
+   *
+   * @param path the path of the checksum file
+   * @return the checksums
+   */
+  public static BlockChecksum readFrom(String path) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+      int chunkSize = in.readInt();
+      if (chunkSize <= 0) {
+        throw new IOException("Invalid chunk size " + chunkSize + " in checksum file " + path);
+      }
+      BlockChecksum checksum = new BlockChecksum(chunkSize, false);
+      checksum.mLength = in.readLong();
+      for (long i = 0; i < checksum.mLength / chunkSize; i++) {
+        checksum.addChunk(in.readInt());
+      }
+      if (checksum.mLength % chunkSize != 0) {
+        checksum.mPartialChunkChecksum = in.readInt() & 0xffffffffL;
+      }
+      return checksum;
+    }
+  }
+
+  /**
+   * Computes the checksums of a block by reading the block file.
+   *
+   * @param blockPath the path of the block file
+   * @return the checksums
+   */
+  public static BlockChecksum compute(String blockPath) throws IOException {
+    BlockChecksum checksum = new BlockChecksum();
+    ByteBuffer buf = ByteBuffer.allocate(Constants.MB);
+    try (RandomAccessFile file = new RandomAccessFile(blockPath, "r");
+        FileChannel channel = file.getChannel()) {
+      while (channel.read(buf) != -1) {
+        buf.flip();
+        checksum.update(buf);
+        buf.clear();
+      }
+    }
+    return checksum;
+  }
+
+  /**
+   * @param blockPath the path of a block file
+   * @return the path of the checksum file of the block
+   */
+  public static String getPath(String blockPath) {
+    return blockPath + FILE_SUFFIX;
+  }
+
+  private long getPartialChunkChecksum() {
+    return mChunkChecksum == null ? mPartialChunkChecksum : mChunkChecksum.getValue();
+  }
+
+  private void addChunk(int checksum) {
+    if (mChunks == mChunkChecksums.length) {
+      mChunkChecksums = Arrays.copyOf(mChunkChecksums, mChunks * 2);
+    }
+    mChunkChecksums[mChunks++] = checksum;
+  }
+}
@@ -23,6 +23,8 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.GatheringByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -35,6 +37,8 @@ public final class LocalFileBlockWriter implements BlockWriter {
   private final RandomAccessFile mLocalFile;
   private final FileChannel mLocalFileChannel;
   private final Closer mCloser = Closer.create();
+  /** The checksums of the appended data, or null if they are not computed. */
+  private final BlockChecksum mChecksum;
   private long mPosition;
   private boolean mClosed;
 
@@ -44,9 +48,21 @@ public final class LocalFileBlockWriter implements BlockWriter {
    * @param path file path of the block
    */
   public LocalFileBlockWriter(String path) throws IOException {
+    this(path, false);
+  }
+
+  /**
+   * Constructs a Block writer given the file path of the block.
+   *
+   * @param path file path of the block
+   * @param checksum whether to compute the checksums of the appended data, which are written to
+   *        the checksum file of the block when the writer is closed
+   */
+  public LocalFileBlockWriter(String path, boolean checksum) throws IOException {
     mFilePath = Preconditions.checkNotNull(path);
     mLocalFile = mCloser.register(new RandomAccessFile(mFilePath, "rw"));
     mLocalFileChannel = mCloser.register(mLocalFile.getChannel());
+    mChecksum = checksum ? new BlockChecksum() : null;
   }
 
   @Override
@@ -56,6 +72,9 @@ public final class LocalFileBlockWriter implements BlockWriter {
 
   @Override
   public long append(ByteBuffer inputBuf) throws IOException {
+    if (mChecksum != null) {
+      mChecksum.update(inputBuf);
+    }
     long bytesWritten = write(mLocalFileChannel.size(), inputBuf.duplicate());
     mPosition += bytesWritten;
     return bytesWritten;
@@ -63,6 +82,11 @@ public final class LocalFileBlockWriter implements BlockWriter {
 
   @Override
   public void transferFrom(ByteBuf buf) throws IOException {
+    if (mChecksum != null) {
+      for (ByteBuffer nioBuf : buf.nioBuffers()) {
+        mChecksum.update(nioBuf);
+      }
+    }
     mPosition += buf.readBytes(mLocalFileChannel, buf.readableBytes());
   }
 
@@ -78,7 +102,35 @@ public final class LocalFileBlockWriter implements BlockWriter {
     }
     mClosed = true;
 
-    mCloser.close();
+    try {
+      // The checksums are only valid if all the data of the block was appended by this writer.
+      if (mChecksum != null && mChecksum.getLength() == mLocalFileChannel.size()) {
+        mChecksum.writeTo(BlockChecksum.getPath(mFilePath));
+      }
+    } catch (Throwable t) {
+      throw mCloser.rethrow(t);
+    } finally {
+      mCloser.close();
+    }
+    mPosition = -1;
+  }
+
+  /**
+   * Closes the writer without writing the checksum file of the block, and deletes any checksum
+   * file left for the block. This should be used instead of {@link #close()} when the block is
+   * being cancelled, so that no orphan checksum file is left next to the removed block.
+   */
+  public void abort() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+
+    try {
+      mCloser.close();
+    } finally {
+      Files.deleteIfExists(Paths.get(BlockChecksum.getPath(mFilePath)));
+    }
     mPosition = -1;
   }
 
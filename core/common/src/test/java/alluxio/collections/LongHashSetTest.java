@@ -0,0 +1,77 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Unit tests for {@link LongHashSet}.
+ */
+public final class LongHashSetTest {
+
+  /**
+   * Tests the basic operations of the set.
+   */
+  @Test
+  public void basic() {
+    LongHashSet set = new LongHashSet(2);
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertTrue(set.add(0L));
+    Assert.assertTrue(set.add(Long.MIN_VALUE));
+    Assert.assertTrue(set.add(7L));
+    Assert.assertFalse(set.add(0L));
+    Assert.assertEquals(3, set.size());
+    Assert.assertTrue(set.contains(0L));
+    Assert.assertFalse(set.contains(1L));
+
+    Assert.assertTrue(set.remove(7L));
+    Assert.assertFalse(set.remove(7L));
+    long[] elements = set.toArray();
+    Arrays.sort(elements);
+    Assert.assertArrayEquals(new long[] {Long.MIN_VALUE, 0L}, elements);
+    Assert.assertEquals(new HashSet<>(Arrays.asList(Long.MIN_VALUE, 0L)),
+        new HashSet<>(set.toList()));
+
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.contains(0L));
+  }
+
+  /**
+   * Tests random operations against a {@link HashSet}.
+   */
+  @Test
+  public void randomOperations() {
+    Random random = new Random(42);
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<>();
+    for (int i = 0; i < 100000; i++) {
+      long element = random.nextInt(2000) - 1000L;
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(expected.remove(element), set.remove(element));
+      } else {
+        Assert.assertEquals(expected.add(element), set.add(element));
+      }
+      Assert.assertEquals(expected.size(), set.size());
+    }
+    for (long element = -1000; element < 1000; element++) {
+      Assert.assertEquals(expected.contains(element), set.contains(element));
+    }
+    Assert.assertEquals(expected, new HashSet<>(set.toList()));
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link LongLinkedHashSet}.
+ */
+public final class LongLinkedHashSetTest {
+
+  /**
+   * Tests that the elements are kept in the order they were last added.
+   */
+  @Test
+  public void accessOrder() {
+    LongLinkedHashSet set = new LongLinkedHashSet(2);
+    Assert.assertTrue(set.add(3L));
+    Assert.assertTrue(set.add(1L));
+    Assert.assertTrue(set.add(2L));
+    Assert.assertArrayEquals(new long[] {3L, 1L, 2L}, set.toArray());
+
+    Assert.assertFalse(set.add(3L));
+    Assert.assertArrayEquals(new long[] {1L, 2L, 3L}, set.toArray());
+    Assert.assertTrue(set.remove(2L));
+    Assert.assertFalse(set.remove(2L));
+    Assert.assertArrayEquals(new long[] {1L, 3L}, set.toArray());
+    Assert.assertTrue(set.contains(1L));
+    Assert.assertFalse(set.contains(2L));
+
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertTrue(set.add(2L));
+    Assert.assertArrayEquals(new long[] {2L}, set.toArray());
+  }
+
+  /**
+   * Tests random operations against an access-ordered {@link LinkedHashMap}.
+   */
+  @Test
+  public void randomOperations() {
+    Random random = new Random(42);
+    LongLinkedHashSet set = new LongLinkedHashSet();
+    Map<Long, Boolean> expected = new LinkedHashMap<>(16, 0.75f, true);
+    for (int i = 0; i < 100000; i++) {
+      long element = random.nextInt(2000) * 4096L;
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(expected.remove(element) != null, set.remove(element));
+      } else {
+        Assert.assertEquals(expected.put(element, true) == null, set.add(element));
+      }
+      Assert.assertEquals(expected.size(), set.size());
+      if (i % 1000 == 0) {
+        assertSameOrder(expected, set);
+      }
+    }
+    assertSameOrder(expected, set);
+  }
+
+  private static void assertSameOrder(Map<Long, Boolean> expected, LongLinkedHashSet set) {
+    List<Long> actual = new ArrayList<>();
+    for (long element : set.toArray()) {
+      actual.add(element);
+    }
+    Assert.assertEquals(new ArrayList<>(expected.keySet()), actual);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link LongObjectHashMap}.
+ */
+public final class LongObjectHashMapTest {
+
+  /**
+   * Tests the basic operations of the map, including keys which hash to the same slots.
+   */
+  @Test
+  public void basic() {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>(2);
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(map.put(0L, "zero"));
+    Assert.assertNull(map.put(-1L, "minus one"));
+    Assert.assertNull(map.put(Long.MAX_VALUE, "max"));
+    Assert.assertEquals("zero", map.put(0L, "0"));
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("0", map.get(0L));
+    Assert.assertTrue(map.containsKey(-1L));
+    Assert.assertNull(map.get(1L));
+
+    Assert.assertEquals("minus one", map.remove(-1L));
+    Assert.assertNull(map.remove(-1L));
+    Assert.assertFalse(map.containsKey(-1L));
+    Assert.assertEquals(2, map.size());
+    long[] keys = map.keys();
+    Arrays.sort(keys);
+    Assert.assertArrayEquals(new long[] {0L, Long.MAX_VALUE}, keys);
+
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(map.get(0L));
+    Assert.assertTrue(map.values().isEmpty());
+  }
+
+  /**
+   * Tests that null values are rejected.
+   */
+  @Test(expected = NullPointerException.class)
+  public void nullValue() {
+    new LongObjectHashMap<String>().put(1L, null);
+  }
+
+  /**
+   * Tests random operations against a {@link HashMap}, with a small key range so that keys are
+   * often overwritten and removed.
+   */
+  @Test
+  public void randomOperations() {
+    Random random = new Random(42);
+    LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+    Map<Long, Long> expected = new HashMap<>();
+    for (int i = 0; i < 100000; i++) {
+      long key = random.nextInt(2000) * 1024L;
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(expected.remove(key), map.remove(key));
+      } else {
+        Assert.assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+      }
+      Assert.assertEquals(expected.size(), map.size());
+    }
+    for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+      Assert.assertEquals(entry.getValue(), map.get(entry.getKey()));
+    }
+    long[] keys = map.keys();
+    List<Long> values = map.values();
+    Assert.assertEquals(expected.size(), keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      Assert.assertEquals(expected.get(keys[i]), values.get(i));
+    }
+    List<Long> expectedKeys = new ArrayList<>(expected.keySet());
+    for (long key : expectedKeys) {
+      Assert.assertEquals(expected.remove(key), map.remove(key));
+    }
+    Assert.assertTrue(map.isEmpty());
+  }
+}
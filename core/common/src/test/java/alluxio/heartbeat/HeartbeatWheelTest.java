@@ -0,0 +1,149 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.heartbeat;
+
+import alluxio.metrics.MetricsSystem;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link HeartbeatWheel}.
+ */
+public final class HeartbeatWheelTest {
+  private static final long INTERVAL_MS = 20;
+
+  private HeartbeatWheel mWheel;
+
+  @Before
+  public void before() {
+    mWheel = new HeartbeatWheel(1, 2, 0.1);
+  }
+
+  @After
+  public void after() {
+    mWheel.stop();
+  }
+
+  @Test
+  public void runPeriodically() throws Exception {
+    CountingExecutor executor = new CountingExecutor(5);
+    Future<?> heartbeat = mWheel.schedule("runPeriodically", "test.runPeriodically", executor,
+        INTERVAL_MS);
+    Assert.assertTrue(executor.mHeartbeats.await(10, TimeUnit.SECONDS));
+    Assert.assertTrue(heartbeat.cancel(true));
+    Assert.assertTrue(heartbeat.isDone());
+    Assert.assertEquals(1, executor.mClosed.get());
+    Assert.assertTrue(MetricsSystem.METRIC_REGISTRY.timer("test.runPeriodically.RunTime")
+        .getCount() >= 5);
+  }
+
+  @Test
+  public void cancelWaitsForRunningHeartbeat() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicInteger closed = new AtomicInteger();
+    Future<?> heartbeat = mWheel.schedule("cancel", "test.cancel", new HeartbeatExecutor() {
+      @Override
+      public void heartbeat() throws InterruptedException {
+        started.countDown();
+        Thread.sleep(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void close() {
+        closed.incrementAndGet();
+      }
+    }, INTERVAL_MS);
+    Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, closed.get());
+    Assert.assertTrue(heartbeat.cancel(true));
+    Assert.assertEquals(1, closed.get());
+    Assert.assertTrue(heartbeat.isCancelled());
+    Assert.assertFalse(heartbeat.cancel(true));
+  }
+
+  @Test
+  public void countOverruns() throws Exception {
+    final CountDownLatch heartbeats = new CountDownLatch(2);
+    Future<?> heartbeat = mWheel.schedule("overrun", "test.overrun", new HeartbeatExecutor() {
+      @Override
+      public void heartbeat() throws InterruptedException {
+        Thread.sleep(2 * INTERVAL_MS);
+        heartbeats.countDown();
+      }
+
+      @Override
+      public void close() {}
+    }, INTERVAL_MS);
+    Assert.assertTrue(heartbeats.await(10, TimeUnit.SECONDS));
+    heartbeat.cancel(true);
+    Assert.assertTrue(MetricsSystem.METRIC_REGISTRY.counter("test.overrun.Overruns")
+        .getCount() >= 1);
+  }
+
+  @Test
+  public void stopOnFailure() throws Exception {
+    final AtomicInteger heartbeats = new AtomicInteger();
+    final AtomicInteger closed = new AtomicInteger();
+    Future<?> heartbeat = mWheel.schedule("failure", "test.failure", new HeartbeatExecutor() {
+      @Override
+      public void heartbeat() {
+        heartbeats.incrementAndGet();
+        throw new IllegalStateException("failure");
+      }
+
+      @Override
+      public void close() {
+        closed.incrementAndGet();
+      }
+    }, INTERVAL_MS);
+    try {
+      heartbeat.get(10, TimeUnit.SECONDS);
+      Assert.fail("The failure of the heartbeat should be thrown");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    Thread.sleep(5 * INTERVAL_MS);
+    Assert.assertEquals(1, heartbeats.get());
+    Assert.assertEquals(1, closed.get());
+  }
+
+  /**
+   * A heartbeat executor counting down its heartbeats.
+   */
+  private static final class CountingExecutor implements HeartbeatExecutor {
+    private final CountDownLatch mHeartbeats;
+    private final AtomicInteger mClosed = new AtomicInteger();
+
+    CountingExecutor(int heartbeats) {
+      mHeartbeats = new CountDownLatch(heartbeats);
+    }
+
+    @Override
+    public void heartbeat() {
+      mHeartbeats.countDown();
+    }
+
+    @Override
+    public void close() {
+      mClosed.incrementAndGet();
+    }
+  }
+}
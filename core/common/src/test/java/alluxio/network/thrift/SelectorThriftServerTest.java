@@ -0,0 +1,192 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.security.authentication.PlainSaslTransportProvider;
+import alluxio.security.authentication.TransportProvider;
+import alluxio.thrift.AlluxioService;
+import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.GetServiceVersionTOptions;
+import alluxio.thrift.GetServiceVersionTResponse;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.network.NetworkAddressUtils;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Function;
+import org.apache.thrift.TException;
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TTransport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link SelectorThriftServer}.
+ */
+public final class SelectorThriftServerTest {
+  private static final String SERVICE_NAME = "SelectorThriftServerTest";
+  private static final String USER_PREFIX = "user";
+
+  private SelectorThriftServer mServer;
+  private InetSocketAddress mServerAddress;
+  private final List<TTransport> mClientTransports = new ArrayList<>();
+
+  @After
+  public void after() {
+    for (TTransport transport : mClientTransports) {
+      transport.close();
+    }
+    if (mServer != null) {
+      mServer.stop();
+    }
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that more connections than executor threads are served, and that the queue time of the
+   * requests is recorded.
+   */
+  @Test
+  public void moreConnectionsThanThreads() throws Exception {
+    Configuration.set(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL.getAuthName());
+    TransportProvider transportProvider = TransportProvider.Factory.create();
+    startServer(transportProvider, 2);
+    Timer queueTimer = MetricsSystem.METRIC_REGISTRY
+        .timer(MetricsSystem.getMasterMetricName("RpcQueueTime." + SERVICE_NAME));
+    long queueTimeCount = queueTimer.getCount();
+
+    List<AlluxioService.Client> clients = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      clients.add(createClient(transportProvider.getClientTransport(mServerAddress)));
+    }
+    for (int round = 0; round < 3; round++) {
+      for (AlluxioService.Client client : clients) {
+        Assert.assertEquals(-1L,
+            client.getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+      }
+    }
+    Assert.assertEquals(queueTimeCount + 150, queueTimer.getCount());
+  }
+
+  /**
+   * Tests that every request sees the user authenticated on its connection, even though the
+   * requests of a connection are served by different executor threads.
+   */
+  @Test
+  public void authenticatedUserPerConnection() throws Exception {
+    Configuration.set(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.SIMPLE.getAuthName());
+    TransportProvider transportProvider = TransportProvider.Factory.create();
+    startServer(transportProvider, 2);
+
+    List<AlluxioService.Client> clients = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      clients.add(createClient(((PlainSaslTransportProvider) transportProvider)
+          .getClientTransport(USER_PREFIX + i, "password", mServerAddress)));
+    }
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < clients.size(); i++) {
+        Assert.assertEquals(i,
+            clients.get(i).getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+      }
+    }
+  }
+
+  /**
+   * Tests that stopping the server closes the client connections.
+   */
+  @Test
+  public void stopClosesConnections() throws Exception {
+    Configuration.set(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL.getAuthName());
+    TransportProvider transportProvider = TransportProvider.Factory.create();
+    startServer(transportProvider, 1);
+
+    AlluxioService.Client client =
+        createClient(transportProvider.getClientTransport(mServerAddress));
+    client.getServiceVersion(new GetServiceVersionTOptions());
+    mServer.stop();
+    Assert.assertFalse(mServer.isServing());
+    try {
+      client.getServiceVersion(new GetServiceVersionTOptions());
+      Assert.fail("The connection should be closed when the server stops");
+    } catch (TException e) {
+      // expected
+    }
+  }
+
+  private void startServer(TransportProvider transportProvider, int threads) throws Exception {
+    String localhost = NetworkAddressUtils.getLocalHostName();
+    TNonblockingServerSocket serverSocket =
+        new TNonblockingServerSocket(new InetSocketAddress(localhost, 0));
+    mServerAddress = new InetSocketAddress(localhost, serverSocket.getPort());
+
+    TMultiplexedProcessor processor = new TMultiplexedProcessor();
+    processor.registerProcessor(SERVICE_NAME, new AlluxioService.Processor<>(new TestHandler()));
+    mServer = new SelectorThriftServer(new SelectorThriftServer.Args(serverSocket)
+        .executorThreads(threads).executorQueueSize(100).stopTimeoutSeconds(0)
+        .processor(processor)
+        .transportFactory(transportProvider.getServerTransportFactory(localhost))
+        .protocolFactory(new TBinaryProtocol.Factory(true, true)));
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        mServer.serve();
+      }
+    });
+    thread.setDaemon(true);
+    thread.start();
+    CommonUtils.waitFor("server to start", new Function<Void, Boolean>() {
+      @Override
+      public Boolean apply(Void input) {
+        return mServer.isServing();
+      }
+    }, WaitForOptions.defaults().setTimeoutMs(10000));
+  }
+
+  private AlluxioService.Client createClient(TTransport transport) throws Exception {
+    transport.open();
+    mClientTransports.add(transport);
+    return new AlluxioService.Client(
+        new TMultiplexedProtocol(new TBinaryProtocol(transport), SERVICE_NAME));
+  }
+
+  /**
+   * Returns the index of the authenticated user as the service version, or -1 if authentication
+   * is not enabled.
+   */
+  private static final class TestHandler implements AlluxioService.Iface {
+    @Override
+    public GetServiceVersionTResponse getServiceVersion(GetServiceVersionTOptions options)
+        throws AlluxioTException {
+      try {
+        String user = AuthenticatedClientUser.getClientUser();
+        return new GetServiceVersionTResponse(
+            Long.parseLong(user.substring(USER_PREFIX.length())));
+      } catch (Exception e) {
+        return new GetServiceVersionTResponse(-1L);
+      }
+    }
+  }
+}
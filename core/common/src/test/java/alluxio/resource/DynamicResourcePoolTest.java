@@ -22,10 +22,15 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class DynamicResourcePoolTest {
 
@@ -238,6 +243,63 @@ public final class DynamicResourcePoolTest {
     Assert.assertEquals(2, pool.acquire().mInteger.intValue());
   }
 
+  /**
+   * Tests that unhealthy idle resources are garbage collected even at the min capacity.
+   */
+  @Test
+  public void gcUnhealthy() throws Exception {
+    TestPool pool = new TestPool(DynamicResourcePool.Options.defaultOptions().setGcIntervalMs(10)
+        .setInitialDelayMs(1).setMinCapacity(1));
+    Resource resource = pool.acquire();
+    pool.release(resource);
+    resource.setInteger(Resource.INVALID_RESOURCE);
+
+    // Sleep 1 second to make sure the GC has run.
+    Thread.sleep(1000);
+
+    Assert.assertEquals(0, pool.size());
+  }
+
+  /**
+   * Tests that the capacity is never exceeded when many threads acquire and release resources.
+   */
+  @Test
+  public void concurrentAcquireRelease() throws Exception {
+    final int capacity = 4;
+    final TestPool pool =
+        new TestPool(DynamicResourcePool.Options.defaultOptions().setMaxCapacity(capacity));
+    final AtomicInteger inUse = new AtomicInteger();
+    final AtomicInteger maxInUse = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    List<Future<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          for (int j = 0; j < 1000; j++) {
+            Resource resource = pool.acquire(10, TimeUnit.SECONDS);
+            int current = inUse.incrementAndGet();
+            while (true) {
+              int max = maxInUse.get();
+              if (current <= max || maxInUse.compareAndSet(max, current)) {
+                break;
+              }
+            }
+            inUse.decrementAndGet();
+            pool.release(resource);
+          }
+          return null;
+        }
+      }));
+    }
+    for (Future<Void> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    Assert.assertTrue(maxInUse.get() <= capacity);
+    Assert.assertTrue(pool.size() <= capacity);
+  }
+
   @Test
   public void multiClients() throws Exception {
     TestPool pool = new TestPool(DynamicResourcePool.Options.defaultOptions().setMaxCapacity(1));
@@ -0,0 +1,98 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.io;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for the {@link CRC32C} class.
+ */
+public final class CRC32CTest {
+
+  /**
+   * Tests the checksums of known values.
+   */
+  @Test
+  public void knownValues() {
+    CRC32C crc = new CRC32C();
+    Assert.assertEquals(0, crc.getValue());
+
+    byte[] digits = "123456789".getBytes(StandardCharsets.US_ASCII);
+    crc.update(digits, 0, digits.length);
+    Assert.assertEquals(0xE3069283L, crc.getValue());
+
+    // Test vectors from RFC 3720.
+    crc.reset();
+    crc.update(new byte[32], 0, 32);
+    Assert.assertEquals(0x8A9136AAL, crc.getValue());
+    crc.reset();
+    for (int i = 0; i < 32; i++) {
+      crc.update(0xff);
+    }
+    Assert.assertEquals(0x62A8AB43L, crc.getValue());
+  }
+
+  /**
+   * Tests that updating with heap buffers, direct buffers and single bytes gives the same checksum.
+   */
+  @Test
+  public void updateWithBuffers() {
+    byte[] data = BufferUtils.getIncreasingByteArray(1001);
+    CRC32C expected = new CRC32C();
+    for (byte b : data) {
+      expected.update(b);
+    }
+
+    CRC32C crc = new CRC32C();
+    crc.update(data, 0, data.length);
+    Assert.assertEquals(expected.getValue(), crc.getValue());
+
+    crc.reset();
+    ByteBuffer heap = ByteBuffer.wrap(data, 3, 990);
+    crc.update(data, 0, 3);
+    crc.update(heap);
+    crc.update(data, 993, 8);
+    Assert.assertEquals(expected.getValue(), crc.getValue());
+    Assert.assertFalse(heap.hasRemaining());
+
+    crc.reset();
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+    direct.put(data);
+    direct.flip();
+    crc.update(direct);
+    Assert.assertEquals(expected.getValue(), crc.getValue());
+    Assert.assertFalse(direct.hasRemaining());
+  }
+
+  /**
+   * Tests combining the checksums of the parts of some data.
+   */
+  @Test
+  public void combine() {
+    byte[] data = BufferUtils.getIncreasingByteArray(10000);
+    CRC32C whole = new CRC32C();
+    whole.update(data, 0, data.length);
+
+    for (int split : new int[] {0, 1, 7, 4096, 9999, 10000}) {
+      CRC32C first = new CRC32C();
+      first.update(data, 0, split);
+      CRC32C second = new CRC32C();
+      second.update(data, split, data.length - split);
+      Assert.assertEquals(whole.getValue(),
+          CRC32C.combine(first.getValue(), second.getValue(), data.length - split));
+    }
+  }
+}
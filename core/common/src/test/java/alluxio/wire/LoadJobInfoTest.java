@@ -0,0 +1,62 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.util.CommonUtils;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public final class LoadJobInfoTest {
+
+  @Test
+  public void json() throws Exception {
+    LoadJobInfo jobInfo = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    LoadJobInfo other = mapper.readValue(mapper.writeValueAsBytes(jobInfo), LoadJobInfo.class);
+    checkEquality(jobInfo, other);
+  }
+
+  @Test
+  public void thrift() {
+    LoadJobInfo jobInfo = createRandom();
+    LoadJobInfo other = ThriftUtils.fromThrift(ThriftUtils.toThrift(jobInfo));
+    checkEquality(jobInfo, other);
+  }
+
+  public void checkEquality(LoadJobInfo a, LoadJobInfo b) {
+    Assert.assertEquals(a.getId(), b.getId());
+    Assert.assertEquals(a.getPath(), b.getPath());
+    Assert.assertEquals(a.getTotalBlocks(), b.getTotalBlocks());
+    Assert.assertEquals(a.getLoadedBlocks(), b.getLoadedBlocks());
+    Assert.assertEquals(a.getFailedBlocks(), b.getFailedBlocks());
+    Assert.assertEquals(a.isCompleted(), b.isCompleted());
+    Assert.assertEquals(a, b);
+  }
+
+  public static LoadJobInfo createRandom() {
+    LoadJobInfo result = new LoadJobInfo();
+    Random random = new Random();
+
+    result.setId(random.nextLong());
+    result.setPath(CommonUtils.randomAlphaNumString(random.nextInt(10)));
+    result.setTotalBlocks(random.nextLong());
+    result.setLoadedBlocks(random.nextLong());
+    result.setFailedBlocks(random.nextLong());
+    result.setCompleted(random.nextBoolean());
+
+    return result;
+  }
+}
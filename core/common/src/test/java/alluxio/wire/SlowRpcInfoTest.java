@@ -0,0 +1,61 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.util.CommonUtils;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class SlowRpcInfoTest {
+  @Test
+  public void json() throws Exception {
+    SlowRpcInfo slowRpcInfo = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    SlowRpcInfo other =
+        mapper.readValue(mapper.writeValueAsBytes(slowRpcInfo), SlowRpcInfo.class);
+    checkEquality(slowRpcInfo, other);
+  }
+
+  public void checkEquality(SlowRpcInfo a, SlowRpcInfo b) {
+    Assert.assertEquals(a.getName(), b.getName());
+    Assert.assertEquals(a.getDescription(), b.getDescription());
+    Assert.assertEquals(a.getStartTimeMs(), b.getStartTimeMs());
+    Assert.assertEquals(a.getDurationMs(), b.getDurationMs());
+    Assert.assertEquals(a.getFailed(), b.getFailed());
+    Assert.assertEquals(a.getPhaseDurationsMs(), b.getPhaseDurationsMs());
+    Assert.assertEquals(a, b);
+  }
+
+  public static SlowRpcInfo createRandom() {
+    Random random = new Random();
+    String name = CommonUtils.randomAlphaNumString(random.nextInt(10));
+    String description = CommonUtils.randomAlphaNumString(random.nextInt(10));
+    long startTimeMs = random.nextLong();
+    long durationMs = random.nextLong();
+    boolean failed = random.nextBoolean();
+    Map<String, Long> phaseDurationsMs = new HashMap<>();
+    for (int i = 0, n = random.nextInt(10) + 1; i < n; i++) {
+      phaseDurationsMs.put(CommonUtils.randomAlphaNumString(random.nextInt(5)),
+          random.nextLong());
+    }
+
+    return new SlowRpcInfo().setName(name).setDescription(description)
+        .setStartTimeMs(startTimeMs).setDurationMs(durationMs).setFailed(failed)
+        .setPhaseDurationsMs(phaseDurationsMs);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.CRC32C;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Tests for the {@link BlockChecksum} class.
+ */
+public final class BlockChecksumTest {
+  /** Two full chunks and a partial one. */
+  private static final int LENGTH = 2 * BlockChecksum.CHUNK_SIZE + 100;
+
+  /** Rule to create a new temporary folder during each test. */
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  /**
+   * Tests that the checksum of a block does not depend on how the data is appended.
+   */
+  @Test
+  public void update() {
+    byte[] data = BufferUtils.getIncreasingByteArray(LENGTH);
+    BlockChecksum checksum = new BlockChecksum();
+    Assert.assertEquals(0, checksum.getValue());
+    for (int off = 0; off < LENGTH; off += 1000) {
+      ByteBuffer buf = ByteBuffer.wrap(data, off, Math.min(1000, LENGTH - off));
+      checksum.update(buf);
+      // The position of the buffer is not changed.
+      Assert.assertEquals(off, buf.position());
+    }
+    Assert.assertEquals(LENGTH, checksum.getLength());
+    Assert.assertEquals(crc32c(data), checksum.getValue());
+  }
+
+  /**
+   * Tests writing the checksums to a file and reading them back.
+   */
+  @Test
+  public void writeAndRead() throws Exception {
+    for (int length : new int[] {0, BlockChecksum.CHUNK_SIZE, LENGTH}) {
+      byte[] data = BufferUtils.getIncreasingByteArray(length);
+      BlockChecksum checksum = new BlockChecksum();
+      checksum.update(ByteBuffer.wrap(data));
+      String path = new File(mFolder.getRoot(), length + BlockChecksum.FILE_SUFFIX).getPath();
+      checksum.writeTo(path);
+
+      BlockChecksum read = BlockChecksum.readFrom(path);
+      Assert.assertEquals(length, read.getLength());
+      Assert.assertEquals(crc32c(data), read.getValue());
+    }
+  }
+
+  /**
+   * Tests computing the checksums of a block file.
+   */
+  @Test
+  public void compute() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(LENGTH);
+    File file = mFolder.newFile();
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(data);
+    }
+    BlockChecksum checksum = BlockChecksum.compute(file.getPath());
+    Assert.assertEquals(LENGTH, checksum.getLength());
+    Assert.assertEquals(crc32c(data), checksum.getValue());
+  }
+
+  private static long crc32c(byte[] data) {
+    CRC32C crc = new CRC32C();
+    crc.update(data, 0, data.length);
+    return crc.getValue();
+  }
+}
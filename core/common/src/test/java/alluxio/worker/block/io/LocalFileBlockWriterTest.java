@@ -66,6 +66,50 @@ public final class LocalFileBlockWriterTest {
     Assert.assertEquals(TEST_BLOCK_SIZE, new File(mTestFilePath).length());
   }
 
+  /**
+   * Tests that a writer computing checksums writes them to the checksum file of the block when
+   * all the data was appended by the writer.
+   */
+  @Test
+  public void appendWithChecksum() throws Exception {
+    mWriter.close();
+    mWriter = new LocalFileBlockWriter(mTestFilePath, true);
+    ByteBuffer buf = BufferUtils.getIncreasingByteBuffer((int) TEST_BLOCK_SIZE);
+    mWriter.append(buf);
+    mWriter.append(buf);
+    mWriter.close();
+
+    BlockChecksum checksum = BlockChecksum.readFrom(BlockChecksum.getPath(mTestFilePath));
+    Assert.assertEquals(2 * TEST_BLOCK_SIZE, checksum.getLength());
+    Assert.assertEquals(BlockChecksum.compute(mTestFilePath).getValue(), checksum.getValue());
+
+    // A writer which did not write the whole block does not write the checksums.
+    new File(BlockChecksum.getPath(mTestFilePath)).delete();
+    mWriter = new LocalFileBlockWriter(mTestFilePath, true);
+    mWriter.append(buf);
+    mWriter.close();
+    Assert.assertFalse(new File(BlockChecksum.getPath(mTestFilePath)).exists());
+  }
+
+  /**
+   * Tests that an aborted writer does not write the checksum file of the block.
+   */
+  @Test
+  public void abortWithChecksum() throws Exception {
+    mWriter.close();
+    mWriter = new LocalFileBlockWriter(mTestFilePath, true);
+    ByteBuffer buf = BufferUtils.getIncreasingByteBuffer((int) TEST_BLOCK_SIZE);
+    mWriter.append(buf);
+    mWriter.abort();
+    Assert.assertFalse(new File(BlockChecksum.getPath(mTestFilePath)).exists());
+
+    // Closing after aborting is a no-op.
+    mWriter.close();
+    Assert.assertFalse(new File(BlockChecksum.getPath(mTestFilePath)).exists());
+    mThrown.expect(IOException.class);
+    mWriter.append(buf);
+  }
+
   /**
    * Test for the {@link LocalFileBlockWriter#append(ByteBuffer)} method.
    */
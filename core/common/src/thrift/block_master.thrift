@@ -69,12 +69,18 @@ service BlockMasterClientService extends common.AlluxioService {
   ) throws (1: exception.AlluxioTException e)
 }
 
-struct BlockHeartbeatTOptions {}
+struct BlockHeartbeatTOptions {
+  // The number of times each block was read on the worker since its last heartbeat.
+  1: optional map<i64, i64> blockReadCounts
+}
 struct BlockHeartbeatTResponse {
   1: common.Command command
 }
 
-struct CommitBlockTOptions {}
+struct CommitBlockTOptions {
+  // The CRC32C checksum of the block, unset if it is unknown.
+  1: optional i64 checksum
+}
 struct CommitBlockTResponse {}
 
 struct GetWorkerIdTOptions {}
@@ -28,6 +28,7 @@ enum CommandType {
   Free = 3,     // Ask the worker to free files.
   Delete = 4,   // Ask the worker to delete files.
   Persist = 5,  // Ask the worker to persist a file for lineage
+  Load = 6,     // Ask the worker to load blocks from the under storage
 }
 
 enum TTtlAction {
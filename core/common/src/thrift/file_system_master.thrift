@@ -33,6 +33,8 @@ struct CreateFileTOptions {
 }
 struct CreateFileTResponse {}
 
+struct CreateFilesBatchTResponse {}
+
 struct DeleteTOptions {
   1: optional bool recursive
   2: optional bool alluxioOnly
@@ -40,6 +42,8 @@ struct DeleteTOptions {
 }
 struct DeleteTResponse {}
 
+struct DeleteBatchTResponse {}
+
 struct FreeTOptions {
   1: optional bool recursive
   2: optional bool forced
@@ -52,6 +56,12 @@ enum LoadMetadataTType {
   Always = 2,  // Always load metadata.
 }
 
+struct GetFileChecksumTOptions {}
+struct GetFileChecksumTResponse {
+  // The CRC32C checksum of the file content, unset if the checksum is not available.
+  1: optional i64 checksum
+}
+
 struct GetStatusTOptions {
   1: optional LoadMetadataTType loadMetadataType
 }
@@ -59,6 +69,10 @@ struct GetStatusTResponse {
   1: FileInfo fileInfo
 }
 
+struct GetStatusBatchTResponse {
+  1: list<FileInfo> fileInfoList
+}
+
 struct GetNewBlockIdForFileTOptions {}
 struct GetNewBlockIdForFileTResponse {
   1: i64 id
@@ -68,11 +82,37 @@ struct ListStatusTOptions {
   // This is deprecated since 1.1.1 and will be removed in 2.0. Use loadMetadataType.
   1: optional bool loadDirectChildren
   2: optional LoadMetadataTType loadMetadataType
+  // Only the children whose names sort after this name are listed.
+  3: optional string startAfter
+  // The maximum number of children to list, 0 lists all of them.
+  4: optional i32 batchSize
 }
 struct ListStatusTResponse {
   1: list<FileInfo> fileInfoList
 }
 
+/**
+ * Information about a distributed load of the blocks under a path.
+ */
+struct LoadJobInfo {
+  1: i64 id
+  2: string path
+  3: i64 totalBlocks // the number of blocks to load when the job was created
+  4: i64 loadedBlocks
+  5: i64 failedBlocks // the blocks which failed on every attempt
+  6: bool completed
+}
+
+struct LoadTOptions {}
+struct LoadTResponse {
+  1: LoadJobInfo jobInfo
+}
+
+struct GetLoadJobInfoTOptions {}
+struct GetLoadJobInfoTResponse {
+  1: LoadJobInfo jobInfo
+}
+
 struct LoadMetadataTOptions {}
 struct LoadMetadataTResponse {
   1: i64 id
@@ -130,6 +170,7 @@ struct FileSystemCommand {
 
 union FileSystemCommandOptions {
   1: optional PersistCommandOptions persistOptions
+  2: optional LoadCommandOptions loadOptions
 }
 
 struct PersistCommandOptions {
@@ -141,9 +182,28 @@ struct PersistFile {
   2: list<i64> blockIds
 }
 
+struct LoadCommandOptions {
+  1: list<LoadBlock> loadBlocks
+}
+
+/**
+ * Describes a block which a worker should read from the under storage into its local storage, or
+ * from the worker at sourceAddress if it is set.
+ */
+struct LoadBlock {
+  1: i64 blockId
+  2: string ufsPath
+  3: i64 offsetInFile
+  4: i64 blockSize
+  5: i64 mountId
+  6: optional common.WorkerNetAddress sourceAddress
+}
+
 struct RenameTOptions {}
 struct RenameTResponse {}
 
+struct RenameBatchTResponse {}
+
 struct SetAttributeTOptions {
   1: optional bool pinned
   2: optional i64 ttl
@@ -208,6 +268,16 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Creates a batch of files in a single round trip. All files share the same options and the
+   * master commits the whole batch with a single journal flush.
+   */
+  CreateFilesBatchTResponse createFilesBatch(
+    /** the paths of the files */ 1: list<string> paths,
+    /** the options for creating the files */ 2: CreateFileTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Frees the given file or directory from Alluxio.
    */
@@ -219,6 +289,16 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the checksum of the given file, composed by the master from the checksums of its
+   * blocks without reading the file.
+   */
+  GetFileChecksumTResponse getFileChecksum(
+    /** the path of the file */ 1: string path,
+    /** the method options */ 2: GetFileChecksumTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Returns the status of the file or directory.
    */
@@ -228,6 +308,24 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the status of each of the given files or directories, in the order of the given paths.
+   */
+  GetStatusBatchTResponse getStatusBatch(
+    /** the paths of the files or directories */ 1: list<string> paths,
+    /** the method options */ 2: GetStatusTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
+  /**
+   * Returns the progress of a distributed load.
+   */
+  GetLoadJobInfoTResponse getLoadJobInfo(
+    /** the id of the load job */ 1: i64 id,
+    /** the method options */ 2: GetLoadJobInfoTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Generates a new block id for the given file.
    */
@@ -248,6 +346,17 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Schedules the workers to load the blocks of the files under the given path from the under
+   * storage. Blocks which are already in Alluxio are skipped, so a failed or interrupted load can
+   * be resumed by loading the same path again.
+   */
+  LoadTResponse load(
+    /** the path of the file or directory */ 1: string path,
+    /** the method options */ 2: LoadTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Loads metadata for the object identified by the given Alluxio path from UFS into Alluxio.
    *
@@ -283,6 +392,16 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Deletes a batch of files or directories in a single round trip. The master commits the whole
+   * batch with a single journal flush.
+   */
+  DeleteBatchTResponse deleteBatch(
+    /** the paths of the files or directories */ 1: list<string> paths,
+    /** the options for deleting the files */ 2: DeleteTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Renames a file or a directory.
    */
@@ -293,6 +412,18 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Renames a batch of files or directories in a single round trip. The i-th source path is
+   * renamed to the i-th destination path. The master commits the whole batch with a single journal
+   * flush.
+   */
+  RenameBatchTResponse renameBatch(
+    /** the source paths of the files or directories */ 1: list<string> srcPaths,
+    /** the destination paths of the files */ 2: list<string> dstPaths,
+    /** the method options */ 3: RenameTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Sets file or directory attributes.
    */
@@ -323,7 +454,11 @@ service FileSystemMasterClientService extends common.AlluxioService {
     throws (1: exception.AlluxioTException e)
 }
 
-struct FileSystemHeartbeatTOptions {}
+struct FileSystemHeartbeatTOptions {
+  1: optional list<i64> loadedBlocks // the blocks loaded since the last heartbeat
+  2: optional list<i64> failedBlocks // the blocks which failed to load since the last heartbeat
+  3: optional list<i64> loadingBlocks // the blocks being loaded
+}
 struct FileSystemHeartbeatTResponse {
   1: FileSystemCommand command
 }
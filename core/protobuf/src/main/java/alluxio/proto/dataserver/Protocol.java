@@ -207,13 +207,53 @@ public final class Protocol {
      * </pre>
      */
     alluxio.proto.dataserver.Protocol.OpenUfsBlockOptionsOrBuilder getOpenUfsBlockOptionsOrBuilder();
+
+    // optional int64 stream_id = 8;
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    long getStreamId();
+
+    // optional int32 credits = 9;
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client is ready to receive on a multiplexed stream. It is the
+     * initial window in the request opening the stream. A request with only the stream id and the
+     * credits set grants the server that many more packets.
+     * </pre>
+     */
+    boolean hasCredits();
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client is ready to receive on a multiplexed stream. It is the
+     * initial window in the request opening the stream. A request with only the stream id and the
+     * credits set grants the server that many more packets.
+     * </pre>
+     */
+    int getCredits();
   }
   /**
    * Protobuf type {@code alluxio.proto.dataserver.ReadRequest}
    *
    * <pre>
    * The read request.
-   * next available id: 8
+   * next available id: 10
    * </pre>
    */
   public static final class ReadRequest extends
@@ -307,6 +347,16 @@ public final class Protocol {
               promote_ = input.readBool();
               break;
             }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              streamId_ = input.readInt64();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              credits_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -501,6 +551,58 @@ public final class Protocol {
       return openUfsBlockOptions_;
     }
 
+    // optional int64 stream_id = 8;
+    public static final int STREAM_ID_FIELD_NUMBER = 8;
+    private long streamId_;
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    // optional int32 credits = 9;
+    public static final int CREDITS_FIELD_NUMBER = 9;
+    private int credits_;
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client is ready to receive on a multiplexed stream. It is the
+     * initial window in the request opening the stream. A request with only the stream id and the
+     * credits set grants the server that many more packets.
+     * </pre>
+     */
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client is ready to receive on a multiplexed stream. It is the
+     * initial window in the request opening the stream. A request with only the stream id and the
+     * credits set grants the server that many more packets.
+     * </pre>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
     private void initFields() {
       blockId_ = 0L;
       offset_ = 0L;
@@ -509,6 +611,8 @@ public final class Protocol {
       promote_ = false;
       packetSize_ = 0L;
       openUfsBlockOptions_ = alluxio.proto.dataserver.Protocol.OpenUfsBlockOptions.getDefaultInstance();
+      streamId_ = 0L;
+      credits_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -543,6 +647,12 @@ public final class Protocol {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeBool(7, promote_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt64(8, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt32(9, credits_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -580,6 +690,14 @@ public final class Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(7, promote_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, credits_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -663,7 +781,7 @@ public final class Protocol {
      *
      * <pre>
      * The read request.
-     * next available id: 8
+     * next available id: 10
      * </pre>
      */
     public static final class Builder extends
@@ -720,6 +838,10 @@ public final class Protocol {
           openUfsBlockOptionsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000040);
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        credits_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -780,6 +902,14 @@ public final class Protocol {
         } else {
           result.openUfsBlockOptions_ = openUfsBlockOptionsBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.credits_ = credits_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -817,6 +947,12 @@ public final class Protocol {
         if (other.hasOpenUfsBlockOptions()) {
           mergeOpenUfsBlockOptions(other.getOpenUfsBlockOptions());
         }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasCredits()) {
+          setCredits(other.getCredits());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1243,6 +1379,112 @@ public final class Protocol {
         return openUfsBlockOptionsBuilder_;
       }
 
+      // optional int64 stream_id = 8;
+      private long streamId_ ;
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000080;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 credits = 9;
+      private int credits_ ;
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client is ready to receive on a multiplexed stream. It is the
+       * initial window in the request opening the stream. A request with only the stream id and the
+       * credits set grants the server that many more packets.
+       * </pre>
+       */
+      public boolean hasCredits() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client is ready to receive on a multiplexed stream. It is the
+       * initial window in the request opening the stream. A request with only the stream id and the
+       * credits set grants the server that many more packets.
+       * </pre>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client is ready to receive on a multiplexed stream. It is the
+       * initial window in the request opening the stream. A request with only the stream id and the
+       * credits set grants the server that many more packets.
+       * </pre>
+       */
+      public Builder setCredits(int value) {
+        bitField0_ |= 0x00000100;
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client is ready to receive on a multiplexed stream. It is the
+       * initial window in the request opening the stream. A request with only the stream id and the
+       * credits set grants the server that many more packets.
+       * </pre>
+       */
+      public Builder clearCredits() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.ReadRequest)
     }
 
@@ -2544,13 +2786,51 @@ public final class Protocol {
      * </pre>
      */
     alluxio.proto.dataserver.Protocol.CreateUfsFileOptionsOrBuilder getCreateUfsFileOptionsOrBuilder();
+
+    // optional int64 stream_id = 8;
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    long getStreamId();
+
+    // optional int32 credits = 9;
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client can send on a multiplexed stream before they are
+     * acknowledged. Only the value in the first request of the stream is used.
+     * </pre>
+     */
+    boolean hasCredits();
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client can send on a multiplexed stream before they are
+     * acknowledged. Only the value in the first request of the stream is used.
+     * </pre>
+     */
+    int getCredits();
   }
   /**
    * Protobuf type {@code alluxio.proto.dataserver.WriteRequest}
    *
    * <pre>
    * The write request.
-   * next available id: 8
+   * next available id: 10
    * </pre>
    */
   public static final class WriteRequest extends
@@ -2650,6 +2930,16 @@ public final class Protocol {
               bitField0_ |= 0x00000040;
               break;
             }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              streamId_ = input.readInt64();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              credits_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2836,6 +3126,56 @@ public final class Protocol {
       return createUfsFileOptions_;
     }
 
+    // optional int64 stream_id = 8;
+    public static final int STREAM_ID_FIELD_NUMBER = 8;
+    private long streamId_;
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int64 stream_id = 8;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+     * </pre>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    // optional int32 credits = 9;
+    public static final int CREDITS_FIELD_NUMBER = 9;
+    private int credits_;
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client can send on a multiplexed stream before they are
+     * acknowledged. Only the value in the first request of the stream is used.
+     * </pre>
+     */
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int32 credits = 9;</code>
+     *
+     * <pre>
+     * The number of packets the client can send on a multiplexed stream before they are
+     * acknowledged. Only the value in the first request of the stream is used.
+     * </pre>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
     private void initFields() {
       type_ = alluxio.proto.dataserver.Protocol.RequestType.ALLUXIO_BLOCK;
       id_ = 0L;
@@ -2844,6 +3184,8 @@ public final class Protocol {
       eof_ = false;
       cancel_ = false;
       createUfsFileOptions_ = alluxio.proto.dataserver.Protocol.CreateUfsFileOptions.getDefaultInstance();
+      streamId_ = 0L;
+      credits_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2878,6 +3220,12 @@ public final class Protocol {
       if (((bitField0_ & 0x00000040) == 0x00000040)) {
         output.writeMessage(7, createUfsFileOptions_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt64(8, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt32(9, credits_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2915,6 +3263,14 @@ public final class Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(7, createUfsFileOptions_);
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, credits_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2998,7 +3354,7 @@ public final class Protocol {
      *
      * <pre>
      * The write request.
-     * next available id: 8
+     * next available id: 10
      * </pre>
      */
     public static final class Builder extends
@@ -3055,6 +3411,10 @@ public final class Protocol {
           createUfsFileOptionsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000040);
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        credits_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -3115,6 +3475,14 @@ public final class Protocol {
         } else {
           result.createUfsFileOptions_ = createUfsFileOptionsBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.credits_ = credits_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -3152,6 +3520,12 @@ public final class Protocol {
         if (other.hasCreateUfsFileOptions()) {
           mergeCreateUfsFileOptions(other.getCreateUfsFileOptions());
         }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasCredits()) {
+          setCredits(other.getCredits());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3565,6 +3939,108 @@ public final class Protocol {
         return createUfsFileOptionsBuilder_;
       }
 
+      // optional int64 stream_id = 8;
+      private long streamId_ ;
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000080;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 stream_id = 8;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed. All the messages of a stream carry its id.
+       * </pre>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 credits = 9;
+      private int credits_ ;
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client can send on a multiplexed stream before they are
+       * acknowledged. Only the value in the first request of the stream is used.
+       * </pre>
+       */
+      public boolean hasCredits() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client can send on a multiplexed stream before they are
+       * acknowledged. Only the value in the first request of the stream is used.
+       * </pre>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client can send on a multiplexed stream before they are
+       * acknowledged. Only the value in the first request of the stream is used.
+       * </pre>
+       */
+      public Builder setCredits(int value) {
+        bitField0_ |= 0x00000100;
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 credits = 9;</code>
+       *
+       * <pre>
+       * The number of packets the client can send on a multiplexed stream before they are
+       * acknowledged. Only the value in the first request of the stream is used.
+       * </pre>
+       */
+      public Builder clearCredits() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.WriteRequest)
     }
 
@@ -4558,22 +5034,58 @@ public final class Protocol {
      */
     com.google.protobuf.ByteString
         getMessageBytes();
-  }
-  /**
-   * Protobuf type {@code alluxio.proto.dataserver.Response}
-   *
-   * <pre>
-   * The response.
-   * next available id: 3
-   * </pre>
-   */
-  public static final class Response extends
-      com.google.protobuf.GeneratedMessage
-      implements ResponseOrBuilder {
-    // Use Response.newBuilder() to construct.
-    private Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
+
+    // optional int64 stream_id = 3;
+    /**
+     * <code>optional int64 stream_id = 3;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int64 stream_id = 3;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    long getStreamId();
+
+    // optional int32 credits = 4;
+    /**
+     * <code>optional int32 credits = 4;</code>
+     *
+     * <pre>
+     * If set, this response only acknowledges that many packets written to a multiplexed stream.
+     * </pre>
+     */
+    boolean hasCredits();
+    /**
+     * <code>optional int32 credits = 4;</code>
+     *
+     * <pre>
+     * If set, this response only acknowledges that many packets written to a multiplexed stream.
+     * </pre>
+     */
+    int getCredits();
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.dataserver.Response}
+   *
+   * <pre>
+   * The response.
+   * next available id: 5
+   * </pre>
+   */
+  public static final class Response extends
+      com.google.protobuf.GeneratedMessage
+      implements ResponseOrBuilder {
+    // Use Response.newBuilder() to construct.
+    private Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
     }
     private Response(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
@@ -4631,6 +5143,16 @@ public final class Protocol {
               message_ = input.readBytes();
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              streamId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              credits_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4730,9 +5252,59 @@ public final class Protocol {
       }
     }
 
+    // optional int64 stream_id = 3;
+    public static final int STREAM_ID_FIELD_NUMBER = 3;
+    private long streamId_;
+    /**
+     * <code>optional int64 stream_id = 3;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 stream_id = 3;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    // optional int32 credits = 4;
+    public static final int CREDITS_FIELD_NUMBER = 4;
+    private int credits_;
+    /**
+     * <code>optional int32 credits = 4;</code>
+     *
+     * <pre>
+     * If set, this response only acknowledges that many packets written to a multiplexed stream.
+     * </pre>
+     */
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 credits = 4;</code>
+     *
+     * <pre>
+     * If set, this response only acknowledges that many packets written to a multiplexed stream.
+     * </pre>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
     private void initFields() {
       status_ = alluxio.proto.status.Status.PStatus.OK;
       message_ = "";
+      streamId_ = 0L;
+      credits_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4752,6 +5324,12 @@ public final class Protocol {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, streamId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, credits_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -4769,6 +5347,14 @@ public final class Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, streamId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, credits_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -4852,7 +5438,7 @@ public final class Protocol {
      *
      * <pre>
      * The response.
-     * next available id: 3
+     * next available id: 5
      * </pre>
      */
     public static final class Builder extends
@@ -4894,6 +5480,10 @@ public final class Protocol {
         bitField0_ = (bitField0_ & ~0x00000001);
         message_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        credits_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -4930,6 +5520,14 @@ public final class Protocol {
           to_bitField0_ |= 0x00000002;
         }
         result.message_ = message_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.credits_ = credits_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -4954,6 +5552,12 @@ public final class Protocol {
           message_ = other.message_;
           onChanged();
         }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasCredits()) {
+          setCredits(other.getCredits());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -5091,6 +5695,104 @@ public final class Protocol {
         return this;
       }
 
+      // optional int64 stream_id = 3;
+      private long streamId_ ;
+      /**
+       * <code>optional int64 stream_id = 3;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 stream_id = 3;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int64 stream_id = 3;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000004;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 stream_id = 3;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 credits = 4;
+      private int credits_ ;
+      /**
+       * <code>optional int32 credits = 4;</code>
+       *
+       * <pre>
+       * If set, this response only acknowledges that many packets written to a multiplexed stream.
+       * </pre>
+       */
+      public boolean hasCredits() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int32 credits = 4;</code>
+       *
+       * <pre>
+       * If set, this response only acknowledges that many packets written to a multiplexed stream.
+       * </pre>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>optional int32 credits = 4;</code>
+       *
+       * <pre>
+       * If set, this response only acknowledges that many packets written to a multiplexed stream.
+       * </pre>
+       */
+      public Builder setCredits(int value) {
+        bitField0_ |= 0x00000008;
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 credits = 4;</code>
+       *
+       * <pre>
+       * If set, this response only acknowledges that many packets written to a multiplexed stream.
+       * </pre>
+       */
+      public Builder clearCredits() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.Response)
     }
 
@@ -5114,13 +5816,31 @@ public final class Protocol {
      * <code>optional .alluxio.proto.dataserver.ReadResponse.Type type = 1;</code>
      */
     alluxio.proto.dataserver.Protocol.ReadResponse.Type getType();
+
+    // optional int64 stream_id = 2;
+    /**
+     * <code>optional int64 stream_id = 2;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int64 stream_id = 2;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    long getStreamId();
   }
   /**
    * Protobuf type {@code alluxio.proto.dataserver.ReadResponse}
    *
    * <pre>
    * The read response.
-   * next available id: 2
+   * next available id: 3
    * </pre>
    */
   public static final class ReadResponse extends
@@ -5182,6 +5902,11 @@ public final class Protocol {
               }
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              streamId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -5321,8 +6046,33 @@ public final class Protocol {
       return type_;
     }
 
+    // optional int64 stream_id = 2;
+    public static final int STREAM_ID_FIELD_NUMBER = 2;
+    private long streamId_;
+    /**
+     * <code>optional int64 stream_id = 2;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 stream_id = 2;</code>
+     *
+     * <pre>
+     * The id of the stream if the channel is multiplexed.
+     * </pre>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
     private void initFields() {
       type_ = alluxio.proto.dataserver.Protocol.ReadResponse.Type.UFS_READ_HEARTBEAT;
+      streamId_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5339,6 +6089,9 @@ public final class Protocol {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeEnum(1, type_.getNumber());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, streamId_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5352,6 +6105,10 @@ public final class Protocol {
         size += com.google.protobuf.CodedOutputStream
           .computeEnumSize(1, type_.getNumber());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, streamId_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -5435,7 +6192,7 @@ public final class Protocol {
      *
      * <pre>
      * The read response.
-     * next available id: 2
+     * next available id: 3
      * </pre>
      */
     public static final class Builder extends
@@ -5475,6 +6232,8 @@ public final class Protocol {
         super.clear();
         type_ = alluxio.proto.dataserver.Protocol.ReadResponse.Type.UFS_READ_HEARTBEAT;
         bitField0_ = (bitField0_ & ~0x00000001);
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -5507,6 +6266,10 @@ public final class Protocol {
           to_bitField0_ |= 0x00000001;
         }
         result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.streamId_ = streamId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5526,6 +6289,9 @@ public final class Protocol {
         if (other.hasType()) {
           setType(other.getType());
         }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -5589,6 +6355,55 @@ public final class Protocol {
         return this;
       }
 
+      // optional int64 stream_id = 2;
+      private long streamId_ ;
+      /**
+       * <code>optional int64 stream_id = 2;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 stream_id = 2;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int64 stream_id = 2;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000002;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 stream_id = 2;</code>
+       *
+       * <pre>
+       * The id of the stream if the channel is multiplexed.
+       * </pre>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.ReadResponse)
     }
 
@@ -8928,29 +9743,2801 @@ public final class Protocol {
     // @@protoc_insertion_point(class_scope:alluxio.proto.dataserver.LocalBlockCompleteRequest)
   }
 
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_alluxio_proto_dataserver_ReadRequest_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_alluxio_proto_dataserver_ReadRequest_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_alluxio_proto_dataserver_WriteRequest_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_alluxio_proto_dataserver_WriteRequest_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_descriptor;
-  private static
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_fieldAccessorTable;
-  private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_alluxio_proto_dataserver_Response_descriptor;
-  private static
+  public interface LocalBlockLeaseRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated int64 block_ids = 1;
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    java.util.List<java.lang.Long> getBlockIdsList();
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    int getBlockIdsCount();
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    long getBlockIds(int index);
+
+    // optional int64 session_id = 2;
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    long getSessionId();
+
+    // optional int64 lease_ms = 3;
+    /**
+     * <code>optional int64 lease_ms = 3;</code>
+     */
+    boolean hasLeaseMs();
+    /**
+     * <code>optional int64 lease_ms = 3;</code>
+     */
+    long getLeaseMs();
+
+    // repeated int64 promote_block_ids = 4;
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getPromoteBlockIdsList();
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    int getPromoteBlockIdsCount();
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    long getPromoteBlockIds(int index);
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseRequest}
+   *
+   * <pre>
+   * Leases blocks for short-circuit reads through memory maps. A lease holds a read lock on the
+   * block until it expires, is released, or is revoked by the worker to remove or move the block.
+   * Leasing a block which is already leased by the session renews the lease.
+   * next available id: 5
+   * </pre>
+   */
+  public static final class LocalBlockLeaseRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements LocalBlockLeaseRequestOrBuilder {
+    // Use LocalBlockLeaseRequest.newBuilder() to construct.
+    private LocalBlockLeaseRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocalBlockLeaseRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocalBlockLeaseRequest defaultInstance;
+    public static LocalBlockLeaseRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocalBlockLeaseRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocalBlockLeaseRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                blockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              blockIds_.add(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                blockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              sessionId_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              leaseMs_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                promoteBlockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              promoteBlockIds_.add(input.readInt64());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                promoteBlockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                promoteBlockIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          promoteBlockIds_ = java.util.Collections.unmodifiableList(promoteBlockIds_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocalBlockLeaseRequest> PARSER =
+        new com.google.protobuf.AbstractParser<LocalBlockLeaseRequest>() {
+      public LocalBlockLeaseRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocalBlockLeaseRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocalBlockLeaseRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated int64 block_ids = 1;
+    public static final int BLOCK_IDS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> blockIds_;
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getBlockIdsList() {
+      return blockIds_;
+    }
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public int getBlockIdsCount() {
+      return blockIds_.size();
+    }
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public long getBlockIds(int index) {
+      return blockIds_.get(index);
+    }
+
+    // optional int64 session_id = 2;
+    public static final int SESSION_ID_FIELD_NUMBER = 2;
+    private long sessionId_;
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    public boolean hasSessionId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    public long getSessionId() {
+      return sessionId_;
+    }
+
+    // optional int64 lease_ms = 3;
+    public static final int LEASE_MS_FIELD_NUMBER = 3;
+    private long leaseMs_;
+    /**
+     * <code>optional int64 lease_ms = 3;</code>
+     */
+    public boolean hasLeaseMs() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 lease_ms = 3;</code>
+     */
+    public long getLeaseMs() {
+      return leaseMs_;
+    }
+
+    // repeated int64 promote_block_ids = 4;
+    public static final int PROMOTE_BLOCK_IDS_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Long> promoteBlockIds_;
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getPromoteBlockIdsList() {
+      return promoteBlockIds_;
+    }
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    public int getPromoteBlockIdsCount() {
+      return promoteBlockIds_.size();
+    }
+    /**
+     * <code>repeated int64 promote_block_ids = 4;</code>
+     *
+     * <pre>
+     * The blocks to promote to the top tier before leasing them.
+     * </pre>
+     */
+    public long getPromoteBlockIds(int index) {
+      return promoteBlockIds_.get(index);
+    }
+
+    private void initFields() {
+      blockIds_ = java.util.Collections.emptyList();
+      sessionId_ = 0L;
+      leaseMs_ = 0L;
+      promoteBlockIds_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < blockIds_.size(); i++) {
+        output.writeInt64(1, blockIds_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(2, sessionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(3, leaseMs_);
+      }
+      for (int i = 0; i < promoteBlockIds_.size(); i++) {
+        output.writeInt64(4, promoteBlockIds_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(blockIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getBlockIdsList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, sessionId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, leaseMs_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < promoteBlockIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(promoteBlockIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getPromoteBlockIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseRequest}
+     *
+     * <pre>
+     * Leases blocks for short-circuit reads through memory maps. A lease holds a read lock on the
+     * block until it expires, is released, or is revoked by the worker to remove or move the block.
+     * Leasing a block which is already leased by the session renews the lease.
+     * next available id: 5
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.Builder.class);
+      }
+
+      // Construct using alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        leaseMs_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        promoteBlockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest getDefaultInstanceForType() {
+        return alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.getDefaultInstance();
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest build() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest buildPartial() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest result = new alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.blockIds_ = blockIds_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionId_ = sessionId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.leaseMs_ = leaseMs_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          promoteBlockIds_ = java.util.Collections.unmodifiableList(promoteBlockIds_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.promoteBlockIds_ = promoteBlockIds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest) {
+          return mergeFrom((alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest other) {
+        if (other == alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest.getDefaultInstance()) return this;
+        if (!other.blockIds_.isEmpty()) {
+          if (blockIds_.isEmpty()) {
+            blockIds_ = other.blockIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureBlockIdsIsMutable();
+            blockIds_.addAll(other.blockIds_);
+          }
+          onChanged();
+        }
+        if (other.hasSessionId()) {
+          setSessionId(other.getSessionId());
+        }
+        if (other.hasLeaseMs()) {
+          setLeaseMs(other.getLeaseMs());
+        }
+        if (!other.promoteBlockIds_.isEmpty()) {
+          if (promoteBlockIds_.isEmpty()) {
+            promoteBlockIds_ = other.promoteBlockIds_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensurePromoteBlockIdsIsMutable();
+            promoteBlockIds_.addAll(other.promoteBlockIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.dataserver.Protocol.LocalBlockLeaseRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated int64 block_ids = 1;
+      private java.util.List<java.lang.Long> blockIds_ = java.util.Collections.emptyList();
+      private void ensureBlockIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = new java.util.ArrayList<java.lang.Long>(blockIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getBlockIdsList() {
+        return java.util.Collections.unmodifiableList(blockIds_);
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public int getBlockIdsCount() {
+        return blockIds_.size();
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public long getBlockIds(int index) {
+        return blockIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder setBlockIds(
+          int index, long value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder addBlockIds(long value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder addAllBlockIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureBlockIdsIsMutable();
+        super.addAll(values, blockIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder clearBlockIds() {
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // optional int64 session_id = 2;
+      private long sessionId_ ;
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public boolean hasSessionId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public long getSessionId() {
+        return sessionId_;
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public Builder setSessionId(long value) {
+        bitField0_ |= 0x00000002;
+        sessionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public Builder clearSessionId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sessionId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 lease_ms = 3;
+      private long leaseMs_ ;
+      /**
+       * <code>optional int64 lease_ms = 3;</code>
+       */
+      public boolean hasLeaseMs() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 lease_ms = 3;</code>
+       */
+      public long getLeaseMs() {
+        return leaseMs_;
+      }
+      /**
+       * <code>optional int64 lease_ms = 3;</code>
+       */
+      public Builder setLeaseMs(long value) {
+        bitField0_ |= 0x00000004;
+        leaseMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 lease_ms = 3;</code>
+       */
+      public Builder clearLeaseMs() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        leaseMs_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated int64 promote_block_ids = 4;
+      private java.util.List<java.lang.Long> promoteBlockIds_ = java.util.Collections.emptyList();
+      private void ensurePromoteBlockIdsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          promoteBlockIds_ = new java.util.ArrayList<java.lang.Long>(promoteBlockIds_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public java.util.List<java.lang.Long>
+          getPromoteBlockIdsList() {
+        return java.util.Collections.unmodifiableList(promoteBlockIds_);
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public int getPromoteBlockIdsCount() {
+        return promoteBlockIds_.size();
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public long getPromoteBlockIds(int index) {
+        return promoteBlockIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public Builder setPromoteBlockIds(
+          int index, long value) {
+        ensurePromoteBlockIdsIsMutable();
+        promoteBlockIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public Builder addPromoteBlockIds(long value) {
+        ensurePromoteBlockIdsIsMutable();
+        promoteBlockIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public Builder addAllPromoteBlockIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensurePromoteBlockIdsIsMutable();
+        super.addAll(values, promoteBlockIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 promote_block_ids = 4;</code>
+       *
+       * <pre>
+       * The blocks to promote to the top tier before leasing them.
+       * </pre>
+       */
+      public Builder clearPromoteBlockIds() {
+        promoteBlockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.LocalBlockLeaseRequest)
+    }
+
+    static {
+      defaultInstance = new LocalBlockLeaseRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.dataserver.LocalBlockLeaseRequest)
+  }
+
+  public interface LocalBlockLeaseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int64 block_id = 1;
+    /**
+     * <code>optional int64 block_id = 1;</code>
+     */
+    boolean hasBlockId();
+    /**
+     * <code>optional int64 block_id = 1;</code>
+     */
+    long getBlockId();
+
+    // optional string path = 2;
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    boolean hasPath();
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    java.lang.String getPath();
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLease}
+   *
+   * <pre>
+   * next available id: 3
+   * </pre>
+   */
+  public static final class LocalBlockLease extends
+      com.google.protobuf.GeneratedMessage
+      implements LocalBlockLeaseOrBuilder {
+    // Use LocalBlockLease.newBuilder() to construct.
+    private LocalBlockLease(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocalBlockLease(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocalBlockLease defaultInstance;
+    public static LocalBlockLease getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocalBlockLease getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocalBlockLease(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              blockId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              path_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLease_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.dataserver.Protocol.LocalBlockLease.class, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocalBlockLease> PARSER =
+        new com.google.protobuf.AbstractParser<LocalBlockLease>() {
+      public LocalBlockLease parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocalBlockLease(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocalBlockLease> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int64 block_id = 1;
+    public static final int BLOCK_ID_FIELD_NUMBER = 1;
+    private long blockId_;
+    /**
+     * <code>optional int64 block_id = 1;</code>
+     */
+    public boolean hasBlockId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 block_id = 1;</code>
+     */
+    public long getBlockId() {
+      return blockId_;
+    }
+
+    // optional string path = 2;
+    public static final int PATH_FIELD_NUMBER = 2;
+    private java.lang.Object path_;
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string path = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      blockId_ = 0L;
+      path_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getPathBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, blockId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getPathBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLease parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(alluxio.proto.dataserver.Protocol.LocalBlockLease prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLease}
+     *
+     * <pre>
+     * next available id: 3
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLease_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.dataserver.Protocol.LocalBlockLease.class, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder.class);
+      }
+
+      // Construct using alluxio.proto.dataserver.Protocol.LocalBlockLease.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        blockId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease getDefaultInstanceForType() {
+        return alluxio.proto.dataserver.Protocol.LocalBlockLease.getDefaultInstance();
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease build() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLease result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease buildPartial() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLease result = new alluxio.proto.dataserver.Protocol.LocalBlockLease(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.blockId_ = blockId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.path_ = path_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.dataserver.Protocol.LocalBlockLease) {
+          return mergeFrom((alluxio.proto.dataserver.Protocol.LocalBlockLease)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.dataserver.Protocol.LocalBlockLease other) {
+        if (other == alluxio.proto.dataserver.Protocol.LocalBlockLease.getDefaultInstance()) return this;
+        if (other.hasBlockId()) {
+          setBlockId(other.getBlockId());
+        }
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000002;
+          path_ = other.path_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.dataserver.Protocol.LocalBlockLease parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.dataserver.Protocol.LocalBlockLease) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int64 block_id = 1;
+      private long blockId_ ;
+      /**
+       * <code>optional int64 block_id = 1;</code>
+       */
+      public boolean hasBlockId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 block_id = 1;</code>
+       */
+      public long getBlockId() {
+        return blockId_;
+      }
+      /**
+       * <code>optional int64 block_id = 1;</code>
+       */
+      public Builder setBlockId(long value) {
+        bitField0_ |= 0x00000001;
+        blockId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 block_id = 1;</code>
+       */
+      public Builder clearBlockId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        blockId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional string path = 2;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.LocalBlockLease)
+    }
+
+    static {
+      defaultInstance = new LocalBlockLease(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.dataserver.LocalBlockLease)
+  }
+
+  public interface LocalBlockLeaseResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease> 
+        getLeasesList();
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    alluxio.proto.dataserver.Protocol.LocalBlockLease getLeases(int index);
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    int getLeasesCount();
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    java.util.List<? extends alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder> 
+        getLeasesOrBuilderList();
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder getLeasesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseResponse}
+   *
+   * <pre>
+   * next available id: 2
+   * </pre>
+   */
+  public static final class LocalBlockLeaseResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements LocalBlockLeaseResponseOrBuilder {
+    // Use LocalBlockLeaseResponse.newBuilder() to construct.
+    private LocalBlockLeaseResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocalBlockLeaseResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocalBlockLeaseResponse defaultInstance;
+    public static LocalBlockLeaseResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocalBlockLeaseResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocalBlockLeaseResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                leases_ = new java.util.ArrayList<alluxio.proto.dataserver.Protocol.LocalBlockLease>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              leases_.add(input.readMessage(alluxio.proto.dataserver.Protocol.LocalBlockLease.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          leases_ = java.util.Collections.unmodifiableList(leases_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocalBlockLeaseResponse> PARSER =
+        new com.google.protobuf.AbstractParser<LocalBlockLeaseResponse>() {
+      public LocalBlockLeaseResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocalBlockLeaseResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocalBlockLeaseResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;
+    public static final int LEASES_FIELD_NUMBER = 1;
+    private java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease> leases_;
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    public java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease> getLeasesList() {
+      return leases_;
+    }
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    public java.util.List<? extends alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder> 
+        getLeasesOrBuilderList() {
+      return leases_;
+    }
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    public int getLeasesCount() {
+      return leases_.size();
+    }
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    public alluxio.proto.dataserver.Protocol.LocalBlockLease getLeases(int index) {
+      return leases_.get(index);
+    }
+    /**
+     * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+     *
+     * <pre>
+     * The granted or renewed leases. The blocks which could not be leased are left out.
+     * </pre>
+     */
+    public alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder getLeasesOrBuilder(
+        int index) {
+      return leases_.get(index);
+    }
+
+    private void initFields() {
+      leases_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < leases_.size(); i++) {
+        output.writeMessage(1, leases_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < leases_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, leases_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseResponse}
+     *
+     * <pre>
+     * next available id: 2
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.Builder.class);
+      }
+
+      // Construct using alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getLeasesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (leasesBuilder_ == null) {
+          leases_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          leasesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse getDefaultInstanceForType() {
+        return alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.getDefaultInstance();
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse build() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse buildPartial() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse result = new alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (leasesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            leases_ = java.util.Collections.unmodifiableList(leases_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.leases_ = leases_;
+        } else {
+          result.leases_ = leasesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse) {
+          return mergeFrom((alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse other) {
+        if (other == alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse.getDefaultInstance()) return this;
+        if (leasesBuilder_ == null) {
+          if (!other.leases_.isEmpty()) {
+            if (leases_.isEmpty()) {
+              leases_ = other.leases_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureLeasesIsMutable();
+              leases_.addAll(other.leases_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.leases_.isEmpty()) {
+            if (leasesBuilder_.isEmpty()) {
+              leasesBuilder_.dispose();
+              leasesBuilder_ = null;
+              leases_ = other.leases_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              leasesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getLeasesFieldBuilder() : null;
+            } else {
+              leasesBuilder_.addAllMessages(other.leases_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.dataserver.Protocol.LocalBlockLeaseResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;
+      private java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease> leases_ =
+        java.util.Collections.emptyList();
+      private void ensureLeasesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          leases_ = new java.util.ArrayList<alluxio.proto.dataserver.Protocol.LocalBlockLease>(leases_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          alluxio.proto.dataserver.Protocol.LocalBlockLease, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder, alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder> leasesBuilder_;
+
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease> getLeasesList() {
+        if (leasesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(leases_);
+        } else {
+          return leasesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public int getLeasesCount() {
+        if (leasesBuilder_ == null) {
+          return leases_.size();
+        } else {
+          return leasesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease getLeases(int index) {
+        if (leasesBuilder_ == null) {
+          return leases_.get(index);
+        } else {
+          return leasesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder setLeases(
+          int index, alluxio.proto.dataserver.Protocol.LocalBlockLease value) {
+        if (leasesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLeasesIsMutable();
+          leases_.set(index, value);
+          onChanged();
+        } else {
+          leasesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder setLeases(
+          int index, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder builderForValue) {
+        if (leasesBuilder_ == null) {
+          ensureLeasesIsMutable();
+          leases_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          leasesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder addLeases(alluxio.proto.dataserver.Protocol.LocalBlockLease value) {
+        if (leasesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLeasesIsMutable();
+          leases_.add(value);
+          onChanged();
+        } else {
+          leasesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder addLeases(
+          int index, alluxio.proto.dataserver.Protocol.LocalBlockLease value) {
+        if (leasesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLeasesIsMutable();
+          leases_.add(index, value);
+          onChanged();
+        } else {
+          leasesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder addLeases(
+          alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder builderForValue) {
+        if (leasesBuilder_ == null) {
+          ensureLeasesIsMutable();
+          leases_.add(builderForValue.build());
+          onChanged();
+        } else {
+          leasesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder addLeases(
+          int index, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder builderForValue) {
+        if (leasesBuilder_ == null) {
+          ensureLeasesIsMutable();
+          leases_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          leasesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder addAllLeases(
+          java.lang.Iterable<? extends alluxio.proto.dataserver.Protocol.LocalBlockLease> values) {
+        if (leasesBuilder_ == null) {
+          ensureLeasesIsMutable();
+          super.addAll(values, leases_);
+          onChanged();
+        } else {
+          leasesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder clearLeases() {
+        if (leasesBuilder_ == null) {
+          leases_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          leasesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public Builder removeLeases(int index) {
+        if (leasesBuilder_ == null) {
+          ensureLeasesIsMutable();
+          leases_.remove(index);
+          onChanged();
+        } else {
+          leasesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder getLeasesBuilder(
+          int index) {
+        return getLeasesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder getLeasesOrBuilder(
+          int index) {
+        if (leasesBuilder_ == null) {
+          return leases_.get(index);  } else {
+          return leasesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public java.util.List<? extends alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder> 
+           getLeasesOrBuilderList() {
+        if (leasesBuilder_ != null) {
+          return leasesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(leases_);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder addLeasesBuilder() {
+        return getLeasesFieldBuilder().addBuilder(
+            alluxio.proto.dataserver.Protocol.LocalBlockLease.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder addLeasesBuilder(
+          int index) {
+        return getLeasesFieldBuilder().addBuilder(
+            index, alluxio.proto.dataserver.Protocol.LocalBlockLease.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.proto.dataserver.LocalBlockLease leases = 1;</code>
+       *
+       * <pre>
+       * The granted or renewed leases. The blocks which could not be leased are left out.
+       * </pre>
+       */
+      public java.util.List<alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder> 
+           getLeasesBuilderList() {
+        return getLeasesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          alluxio.proto.dataserver.Protocol.LocalBlockLease, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder, alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder> 
+          getLeasesFieldBuilder() {
+        if (leasesBuilder_ == null) {
+          leasesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              alluxio.proto.dataserver.Protocol.LocalBlockLease, alluxio.proto.dataserver.Protocol.LocalBlockLease.Builder, alluxio.proto.dataserver.Protocol.LocalBlockLeaseOrBuilder>(
+                  leases_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          leases_ = null;
+        }
+        return leasesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.LocalBlockLeaseResponse)
+    }
+
+    static {
+      defaultInstance = new LocalBlockLeaseResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.dataserver.LocalBlockLeaseResponse)
+  }
+
+  public interface LocalBlockLeaseReleaseRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated int64 block_ids = 1;
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    java.util.List<java.lang.Long> getBlockIdsList();
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    int getBlockIdsCount();
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    long getBlockIds(int index);
+
+    // optional int64 session_id = 2;
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    long getSessionId();
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseReleaseRequest}
+   *
+   * <pre>
+   * next available id: 3
+   * </pre>
+   */
+  public static final class LocalBlockLeaseReleaseRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements LocalBlockLeaseReleaseRequestOrBuilder {
+    // Use LocalBlockLeaseReleaseRequest.newBuilder() to construct.
+    private LocalBlockLeaseReleaseRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LocalBlockLeaseReleaseRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LocalBlockLeaseReleaseRequest defaultInstance;
+    public static LocalBlockLeaseReleaseRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LocalBlockLeaseReleaseRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LocalBlockLeaseReleaseRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                blockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              blockIds_.add(input.readInt64());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                blockIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockIds_.add(input.readInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              sessionId_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LocalBlockLeaseReleaseRequest> PARSER =
+        new com.google.protobuf.AbstractParser<LocalBlockLeaseReleaseRequest>() {
+      public LocalBlockLeaseReleaseRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LocalBlockLeaseReleaseRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LocalBlockLeaseReleaseRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated int64 block_ids = 1;
+    public static final int BLOCK_IDS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Long> blockIds_;
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public java.util.List<java.lang.Long>
+        getBlockIdsList() {
+      return blockIds_;
+    }
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public int getBlockIdsCount() {
+      return blockIds_.size();
+    }
+    /**
+     * <code>repeated int64 block_ids = 1;</code>
+     */
+    public long getBlockIds(int index) {
+      return blockIds_.get(index);
+    }
+
+    // optional int64 session_id = 2;
+    public static final int SESSION_ID_FIELD_NUMBER = 2;
+    private long sessionId_;
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    public boolean hasSessionId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 session_id = 2;</code>
+     */
+    public long getSessionId() {
+      return sessionId_;
+    }
+
+    private void initFields() {
+      blockIds_ = java.util.Collections.emptyList();
+      sessionId_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < blockIds_.size(); i++) {
+        output.writeInt64(1, blockIds_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(2, sessionId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(blockIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getBlockIdsList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, sessionId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code alluxio.proto.dataserver.LocalBlockLeaseReleaseRequest}
+     *
+     * <pre>
+     * next available id: 3
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.class, alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.Builder.class);
+      }
+
+      // Construct using alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.dataserver.Protocol.internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest getDefaultInstanceForType() {
+        return alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.getDefaultInstance();
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest build() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest buildPartial() {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest result = new alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.blockIds_ = blockIds_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionId_ = sessionId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest) {
+          return mergeFrom((alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest other) {
+        if (other == alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest.getDefaultInstance()) return this;
+        if (!other.blockIds_.isEmpty()) {
+          if (blockIds_.isEmpty()) {
+            blockIds_ = other.blockIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureBlockIdsIsMutable();
+            blockIds_.addAll(other.blockIds_);
+          }
+          onChanged();
+        }
+        if (other.hasSessionId()) {
+          setSessionId(other.getSessionId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.dataserver.Protocol.LocalBlockLeaseReleaseRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated int64 block_ids = 1;
+      private java.util.List<java.lang.Long> blockIds_ = java.util.Collections.emptyList();
+      private void ensureBlockIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          blockIds_ = new java.util.ArrayList<java.lang.Long>(blockIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public java.util.List<java.lang.Long>
+          getBlockIdsList() {
+        return java.util.Collections.unmodifiableList(blockIds_);
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public int getBlockIdsCount() {
+        return blockIds_.size();
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public long getBlockIds(int index) {
+        return blockIds_.get(index);
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder setBlockIds(
+          int index, long value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder addBlockIds(long value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder addAllBlockIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureBlockIdsIsMutable();
+        super.addAll(values, blockIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 block_ids = 1;</code>
+       */
+      public Builder clearBlockIds() {
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // optional int64 session_id = 2;
+      private long sessionId_ ;
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public boolean hasSessionId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public long getSessionId() {
+        return sessionId_;
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public Builder setSessionId(long value) {
+        bitField0_ |= 0x00000002;
+        sessionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 session_id = 2;</code>
+       */
+      public Builder clearSessionId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sessionId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.dataserver.LocalBlockLeaseReleaseRequest)
+    }
+
+    static {
+      defaultInstance = new LocalBlockLeaseReleaseRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.dataserver.LocalBlockLeaseReleaseRequest)
+  }
+
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_ReadRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_ReadRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_WriteRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_WriteRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_Response_descriptor;
+  private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_alluxio_proto_dataserver_Response_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
@@ -8993,6 +12580,26 @@ public final class Protocol {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_alluxio_proto_dataserver_LocalBlockCompleteRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_LocalBlockLease_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -9003,40 +12610,51 @@ public final class Protocol {
   static {
     java.lang.String[] descriptorData = {
       "\n\031dataserver/protocol.proto\022\030alluxio.pro" +
-      "to.dataserver\032\027dataserver/status.proto\"\304" +
+      "to.dataserver\032\027dataserver/status.proto\"\350" +
       "\001\n\013ReadRequest\022\020\n\010block_id\030\001 \001(\003\022\016\n\006offs" +
       "et\030\002 \001(\003\022\016\n\006length\030\003 \001(\003\022\016\n\006cancel\030\004 \001(\010" +
       "\022\017\n\007promote\030\007 \001(\010\022\023\n\013packet_size\030\005 \001(\003\022M" +
       "\n\026open_ufs_block_options\030\006 \001(\0132-.alluxio" +
-      ".proto.dataserver.OpenUfsBlockOptions\"\243\001" +
-      "\n\023OpenUfsBlockOptions\022\020\n\010ufs_path\030\001 \001(\t\022" +
-      "\026\n\016offset_in_file\030\002 \001(\003\022\022\n\nblock_size\030\003 " +
-      "\001(\003\022\035\n\025maxUfsReadConcurrency\030\004 \001(\005\022\017\n\007mo",
-      "untId\030\005 \001(\003\022\020\n\010no_cache\030\006 \001(\010\022\014\n\004user\030\007 " +
-      "\001(\t\"\333\001\n\014WriteRequest\0223\n\004type\030\001 \001(\0162%.all" +
-      "uxio.proto.dataserver.RequestType\022\n\n\002id\030" +
-      "\002 \001(\003\022\016\n\006offset\030\003 \001(\003\022\014\n\004tier\030\004 \001(\005\022\013\n\003e" +
-      "of\030\005 \001(\010\022\016\n\006cancel\030\006 \001(\010\022O\n\027create_ufs_f" +
-      "ile_options\030\007 \001(\0132..alluxio.proto.datase" +
-      "rver.CreateUfsFileOptions\"f\n\024CreateUfsFi" +
-      "leOptions\022\020\n\010ufs_path\030\001 \001(\t\022\r\n\005owner\030\002 \001" +
-      "(\t\022\r\n\005group\030\003 \001(\t\022\014\n\004mode\030\004 \001(\005\022\020\n\010mount" +
-      "_id\030\005 \001(\003\"J\n\010Response\022-\n\006status\030\001 \001(\0162\035.",
-      "alluxio.proto.status.PStatus\022\017\n\007message\030" +
-      "\002 \001(\t\"i\n\014ReadResponse\0229\n\004type\030\001 \001(\0162+.al" +
-      "luxio.proto.dataserver.ReadResponse.Type" +
-      "\"\036\n\004Type\022\026\n\022UFS_READ_HEARTBEAT\020\001\"\013\n\tHear" +
-      "tbeat\":\n\025LocalBlockOpenRequest\022\020\n\010block_" +
-      "id\030\001 \001(\003\022\017\n\007promote\030\002 \001(\010\"&\n\026LocalBlockO" +
-      "penResponse\022\014\n\004path\030\001 \001(\t\"*\n\026LocalBlockC" +
-      "loseRequest\022\020\n\010block_id\030\001 \001(\003\"o\n\027LocalBl" +
-      "ockCreateRequest\022\020\n\010block_id\030\001 \001(\003\022\014\n\004ti" +
-      "er\030\003 \001(\005\022\030\n\020space_to_reserve\030\004 \001(\003\022\032\n\022on",
-      "ly_reserve_space\030\005 \001(\010\"(\n\030LocalBlockCrea" +
-      "teResponse\022\014\n\004path\030\001 \001(\t\"=\n\031LocalBlockCo" +
-      "mpleteRequest\022\020\n\010block_id\030\001 \001(\003\022\016\n\006cance" +
-      "l\030\002 \001(\010*.\n\013RequestType\022\021\n\rALLUXIO_BLOCK\020" +
-      "\000\022\014\n\010UFS_FILE\020\001"
+      ".proto.dataserver.OpenUfsBlockOptions\022\021\n" +
+      "\tstream_id\030\010 \001(\003\022\017\n\007credits\030\t \001(\005\"\243\001\n\023Op" +
+      "enUfsBlockOptions\022\020\n\010ufs_path\030\001 \001(\t\022\026\n\016o" +
+      "ffset_in_file\030\002 \001(\003\022\022\n\nblock_size\030\003 \001(\003\022",
+      "\035\n\025maxUfsReadConcurrency\030\004 \001(\005\022\017\n\007mountI" +
+      "d\030\005 \001(\003\022\020\n\010no_cache\030\006 \001(\010\022\014\n\004user\030\007 \001(\t\"" +
+      "\377\001\n\014WriteRequest\0223\n\004type\030\001 \001(\0162%.alluxio" +
+      ".proto.dataserver.RequestType\022\n\n\002id\030\002 \001(" +
+      "\003\022\016\n\006offset\030\003 \001(\003\022\014\n\004tier\030\004 \001(\005\022\013\n\003eof\030\005" +
+      " \001(\010\022\016\n\006cancel\030\006 \001(\010\022O\n\027create_ufs_file_" +
+      "options\030\007 \001(\0132..alluxio.proto.dataserver" +
+      ".CreateUfsFileOptions\022\021\n\tstream_id\030\010 \001(\003" +
+      "\022\017\n\007credits\030\t \001(\005\"f\n\024CreateUfsFileOption" +
+      "s\022\020\n\010ufs_path\030\001 \001(\t\022\r\n\005owner\030\002 \001(\t\022\r\n\005gr",
+      "oup\030\003 \001(\t\022\014\n\004mode\030\004 \001(\005\022\020\n\010mount_id\030\005 \001(" +
+      "\003\"n\n\010Response\022-\n\006status\030\001 \001(\0162\035.alluxio." +
+      "proto.status.PStatus\022\017\n\007message\030\002 \001(\t\022\021\n" +
+      "\tstream_id\030\003 \001(\003\022\017\n\007credits\030\004 \001(\005\"|\n\014Rea" +
+      "dResponse\0229\n\004type\030\001 \001(\0162+.alluxio.proto." +
+      "dataserver.ReadResponse.Type\022\021\n\tstream_i" +
+      "d\030\002 \001(\003\"\036\n\004Type\022\026\n\022UFS_READ_HEARTBEAT\020\001\"" +
+      "\013\n\tHeartbeat\":\n\025LocalBlockOpenRequest\022\020\n" +
+      "\010block_id\030\001 \001(\003\022\017\n\007promote\030\002 \001(\010\"&\n\026Loca" +
+      "lBlockOpenResponse\022\014\n\004path\030\001 \001(\t\"*\n\026Loca",
+      "lBlockCloseRequest\022\020\n\010block_id\030\001 \001(\003\"o\n\027" +
+      "LocalBlockCreateRequest\022\020\n\010block_id\030\001 \001(" +
+      "\003\022\014\n\004tier\030\003 \001(\005\022\030\n\020space_to_reserve\030\004 \001(" +
+      "\003\022\032\n\022only_reserve_space\030\005 \001(\010\"(\n\030LocalBl" +
+      "ockCreateResponse\022\014\n\004path\030\001 \001(\t\"=\n\031Local" +
+      "BlockCompleteRequest\022\020\n\010block_id\030\001 \001(\003\022\016" +
+      "\n\006cancel\030\002 \001(\010\"l\n\026LocalBlockLeaseRequest" +
+      "\022\021\n\tblock_ids\030\001 \003(\003\022\022\n\nsession_id\030\002 \001(\003\022" +
+      "\020\n\010lease_ms\030\003 \001(\003\022\031\n\021promote_block_ids\030\004" +
+      " \003(\003\"1\n\017LocalBlockLease\022\020\n\010block_id\030\001 \001(",
+      "\003\022\014\n\004path\030\002 \001(\t\"T\n\027LocalBlockLeaseRespon" +
+      "se\0229\n\006leases\030\001 \003(\0132).alluxio.proto.datas" +
+      "erver.LocalBlockLease\"F\n\035LocalBlockLease" +
+      "ReleaseRequest\022\021\n\tblock_ids\030\001 \003(\003\022\022\n\nses" +
+      "sion_id\030\002 \001(\003*.\n\013RequestType\022\021\n\rALLUXIO_" +
+      "BLOCK\020\000\022\014\n\010UFS_FILE\020\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -9048,7 +12666,7 @@ public final class Protocol {
           internal_static_alluxio_proto_dataserver_ReadRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_dataserver_ReadRequest_descriptor,
-              new java.lang.String[] { "BlockId", "Offset", "Length", "Cancel", "Promote", "PacketSize", "OpenUfsBlockOptions", });
+              new java.lang.String[] { "BlockId", "Offset", "Length", "Cancel", "Promote", "PacketSize", "OpenUfsBlockOptions", "StreamId", "Credits", });
           internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_descriptor =
             getDescriptor().getMessageTypes().get(1);
           internal_static_alluxio_proto_dataserver_OpenUfsBlockOptions_fieldAccessorTable = new
@@ -9060,7 +12678,7 @@ public final class Protocol {
           internal_static_alluxio_proto_dataserver_WriteRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_dataserver_WriteRequest_descriptor,
-              new java.lang.String[] { "Type", "Id", "Offset", "Tier", "Eof", "Cancel", "CreateUfsFileOptions", });
+              new java.lang.String[] { "Type", "Id", "Offset", "Tier", "Eof", "Cancel", "CreateUfsFileOptions", "StreamId", "Credits", });
           internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_descriptor =
             getDescriptor().getMessageTypes().get(3);
           internal_static_alluxio_proto_dataserver_CreateUfsFileOptions_fieldAccessorTable = new
@@ -9072,13 +12690,13 @@ public final class Protocol {
           internal_static_alluxio_proto_dataserver_Response_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_dataserver_Response_descriptor,
-              new java.lang.String[] { "Status", "Message", });
+              new java.lang.String[] { "Status", "Message", "StreamId", "Credits", });
           internal_static_alluxio_proto_dataserver_ReadResponse_descriptor =
             getDescriptor().getMessageTypes().get(5);
           internal_static_alluxio_proto_dataserver_ReadResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_dataserver_ReadResponse_descriptor,
-              new java.lang.String[] { "Type", });
+              new java.lang.String[] { "Type", "StreamId", });
           internal_static_alluxio_proto_dataserver_Heartbeat_descriptor =
             getDescriptor().getMessageTypes().get(6);
           internal_static_alluxio_proto_dataserver_Heartbeat_fieldAccessorTable = new
@@ -9121,6 +12739,30 @@ public final class Protocol {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_dataserver_LocalBlockCompleteRequest_descriptor,
               new java.lang.String[] { "BlockId", "Cancel", });
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor =
+            getDescriptor().getMessageTypes().get(13);
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_alluxio_proto_dataserver_LocalBlockLeaseRequest_descriptor,
+              new java.lang.String[] { "BlockIds", "SessionId", "LeaseMs", "PromoteBlockIds", });
+          internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor =
+            getDescriptor().getMessageTypes().get(14);
+          internal_static_alluxio_proto_dataserver_LocalBlockLease_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_alluxio_proto_dataserver_LocalBlockLease_descriptor,
+              new java.lang.String[] { "BlockId", "Path", });
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor =
+            getDescriptor().getMessageTypes().get(15);
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_alluxio_proto_dataserver_LocalBlockLeaseResponse_descriptor,
+              new java.lang.String[] { "Leases", });
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor =
+            getDescriptor().getMessageTypes().get(16);
+          internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_alluxio_proto_dataserver_LocalBlockLeaseReleaseRequest_descriptor,
+              new java.lang.String[] { "BlockIds", "SessionId", });
           return null;
         }
       };
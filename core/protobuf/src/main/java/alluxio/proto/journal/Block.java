@@ -434,12 +434,30 @@ public final class Block {
      * <code>optional int64 length = 2;</code>
      */
     long getLength();
+
+    // optional int64 checksum = 3;
+    /**
+     * <code>optional int64 checksum = 3;</code>
+     *
+     * <pre>
+     * The CRC32C checksum of the block, unset if it is unknown.
+     * </pre>
+     */
+    boolean hasChecksum();
+    /**
+     * <code>optional int64 checksum = 3;</code>
+     *
+     * <pre>
+     * The CRC32C checksum of the block, unset if it is unknown.
+     * </pre>
+     */
+    long getChecksum();
   }
   /**
    * Protobuf type {@code alluxio.proto.journal.BlockInfoEntry}
    *
    * <pre>
-   * next available id: 3
+   * next available id: 4
    * </pre>
    */
   public static final class BlockInfoEntry extends
@@ -500,6 +518,11 @@ public final class Block {
               length_ = input.readInt64();
               break;
             }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              checksum_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -572,9 +595,34 @@ public final class Block {
       return length_;
     }
 
+    // optional int64 checksum = 3;
+    public static final int CHECKSUM_FIELD_NUMBER = 3;
+    private long checksum_;
+    /**
+     * <code>optional int64 checksum = 3;</code>
+     *
+     * <pre>
+     * The CRC32C checksum of the block, unset if it is unknown.
+     * </pre>
+     */
+    public boolean hasChecksum() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 checksum = 3;</code>
+     *
+     * <pre>
+     * The CRC32C checksum of the block, unset if it is unknown.
+     * </pre>
+     */
+    public long getChecksum() {
+      return checksum_;
+    }
+
     private void initFields() {
       blockId_ = 0L;
       length_ = 0L;
+      checksum_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -594,6 +642,9 @@ public final class Block {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeInt64(2, length_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, checksum_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -611,6 +662,10 @@ public final class Block {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(2, length_);
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, checksum_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -693,7 +748,7 @@ public final class Block {
      * Protobuf type {@code alluxio.proto.journal.BlockInfoEntry}
      *
      * <pre>
-     * next available id: 3
+     * next available id: 4
      * </pre>
      */
     public static final class Builder extends
@@ -735,6 +790,8 @@ public final class Block {
         bitField0_ = (bitField0_ & ~0x00000001);
         length_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
+        checksum_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -771,6 +828,10 @@ public final class Block {
           to_bitField0_ |= 0x00000002;
         }
         result.length_ = length_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.checksum_ = checksum_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -793,6 +854,9 @@ public final class Block {
         if (other.hasLength()) {
           setLength(other.getLength());
         }
+        if (other.hasChecksum()) {
+          setChecksum(other.getChecksum());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -886,6 +950,55 @@ public final class Block {
         return this;
       }
 
+      // optional int64 checksum = 3;
+      private long checksum_ ;
+      /**
+       * <code>optional int64 checksum = 3;</code>
+       *
+       * <pre>
+       * The CRC32C checksum of the block, unset if it is unknown.
+       * </pre>
+       */
+      public boolean hasChecksum() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 checksum = 3;</code>
+       *
+       * <pre>
+       * The CRC32C checksum of the block, unset if it is unknown.
+       * </pre>
+       */
+      public long getChecksum() {
+        return checksum_;
+      }
+      /**
+       * <code>optional int64 checksum = 3;</code>
+       *
+       * <pre>
+       * The CRC32C checksum of the block, unset if it is unknown.
+       * </pre>
+       */
+      public Builder setChecksum(long value) {
+        bitField0_ |= 0x00000004;
+        checksum_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 checksum = 3;</code>
+       *
+       * <pre>
+       * The CRC32C checksum of the block, unset if it is unknown.
+       * </pre>
+       */
+      public Builder clearChecksum() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        checksum_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.BlockInfoEntry)
     }
 
@@ -1327,9 +1440,10 @@ public final class Block {
     java.lang.String[] descriptorData = {
       "\n\023journal/block.proto\022\025alluxio.proto.jou" +
       "rnal\";\n\036BlockContainerIdGeneratorEntry\022\031" +
-      "\n\021next_container_id\030\001 \001(\003\"2\n\016BlockInfoEn" +
-      "try\022\020\n\010block_id\030\001 \001(\003\022\016\n\006length\030\002 \001(\003\"$\n" +
-      "\020DeleteBlockEntry\022\020\n\010block_id\030\001 \001(\003"
+      "\n\021next_container_id\030\001 \001(\003\"D\n\016BlockInfoEn" +
+      "try\022\020\n\010block_id\030\001 \001(\003\022\016\n\006length\030\002 \001(\003\022\020\n" +
+      "\010checksum\030\003 \001(\003\"$\n\020DeleteBlockEntry\022\020\n\010b" +
+      "lock_id\030\001 \001(\003"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -1347,7 +1461,7 @@ public final class Block {
           internal_static_alluxio_proto_journal_BlockInfoEntry_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_journal_BlockInfoEntry_descriptor,
-              new java.lang.String[] { "BlockId", "Length", });
+              new java.lang.String[] { "BlockId", "Length", "Checksum", });
           internal_static_alluxio_proto_journal_DeleteBlockEntry_descriptor =
             getDescriptor().getMessageTypes().get(2);
           internal_static_alluxio_proto_journal_DeleteBlockEntry_fieldAccessorTable = new
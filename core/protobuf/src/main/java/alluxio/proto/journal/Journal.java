@@ -357,6 +357,20 @@ public final class Journal {
      */
     alluxio.proto.journal.KeyValue.RenameStoreEntryOrBuilder getRenameStoreOrBuilder();
 
+    // optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    boolean hasReplaceStore();
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    alluxio.proto.journal.KeyValue.ReplaceStoreEntry getReplaceStore();
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder getReplaceStoreOrBuilder();
+
     // optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;
     /**
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
@@ -382,7 +396,7 @@ public final class Journal {
    * 2.6.0 and adding this depedency would conflict with the version of protobuf used by Hadoop 2.x
    * and Spark. We use protobuf version 2.5.0 instead, which is compatible with Hadoop and Spark.
    *
-   * next available id: 30
+   * next available id: 31
    * </pre>
    */
   public static final class JournalEntry extends
@@ -726,7 +740,7 @@ public final class Journal {
             }
             case 218: {
               alluxio.proto.journal.File.SetAttributeEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x02000000) == 0x02000000)) {
+              if (((bitField0_ & 0x04000000) == 0x04000000)) {
                 subBuilder = setAttribute_.toBuilder();
               }
               setAttribute_ = input.readMessage(alluxio.proto.journal.File.SetAttributeEntry.PARSER, extensionRegistry);
@@ -734,7 +748,7 @@ public final class Journal {
                 subBuilder.mergeFrom(setAttribute_);
                 setAttribute_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x02000000;
+              bitField0_ |= 0x04000000;
               break;
             }
             case 226: {
@@ -763,6 +777,19 @@ public final class Journal {
               bitField0_ |= 0x00000200;
               break;
             }
+            case 242: {
+              alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder subBuilder = null;
+              if (((bitField0_ & 0x02000000) == 0x02000000)) {
+                subBuilder = replaceStore_.toBuilder();
+              }
+              replaceStore_ = input.readMessage(alluxio.proto.journal.KeyValue.ReplaceStoreEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(replaceStore_);
+                replaceStore_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x02000000;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1347,6 +1374,28 @@ public final class Journal {
       return renameStore_;
     }
 
+    // optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;
+    public static final int REPLACE_STORE_FIELD_NUMBER = 30;
+    private alluxio.proto.journal.KeyValue.ReplaceStoreEntry replaceStore_;
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    public boolean hasReplaceStore() {
+      return ((bitField0_ & 0x02000000) == 0x02000000);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    public alluxio.proto.journal.KeyValue.ReplaceStoreEntry getReplaceStore() {
+      return replaceStore_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+     */
+    public alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder getReplaceStoreOrBuilder() {
+      return replaceStore_;
+    }
+
     // optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;
     public static final int SET_ATTRIBUTE_FIELD_NUMBER = 27;
     private alluxio.proto.journal.File.SetAttributeEntry setAttribute_;
@@ -1354,7 +1403,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
      */
     public boolean hasSetAttribute() {
-      return ((bitField0_ & 0x02000000) == 0x02000000);
+      return ((bitField0_ & 0x04000000) == 0x04000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
@@ -1395,6 +1444,7 @@ public final class Journal {
       reinitializeFile_ = alluxio.proto.journal.File.ReinitializeFileEntry.getDefaultInstance();
       rename_ = alluxio.proto.journal.File.RenameEntry.getDefaultInstance();
       renameStore_ = alluxio.proto.journal.KeyValue.RenameStoreEntry.getDefaultInstance();
+      replaceStore_ = alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance();
       setAttribute_ = alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
@@ -1478,7 +1528,7 @@ public final class Journal {
       if (((bitField0_ & 0x00100000) == 0x00100000)) {
         output.writeMessage(26, mergeStore_);
       }
-      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
         output.writeMessage(27, setAttribute_);
       }
       if (((bitField0_ & 0x01000000) == 0x01000000)) {
@@ -1487,6 +1537,9 @@ public final class Journal {
       if (((bitField0_ & 0x00000200) == 0x00000200)) {
         output.writeMessage(29, deleteBlock_);
       }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        output.writeMessage(30, replaceStore_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1588,7 +1641,7 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(26, mergeStore_);
       }
-      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(27, setAttribute_);
       }
@@ -1600,6 +1653,10 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(29, deleteBlock_);
       }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(30, replaceStore_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1689,7 +1746,7 @@ public final class Journal {
      * 2.6.0 and adding this depedency would conflict with the version of protobuf used by Hadoop 2.x
      * and Spark. We use protobuf version 2.5.0 instead, which is compatible with Hadoop and Spark.
      *
-     * next available id: 30
+     * next available id: 31
      * </pre>
      */
     public static final class Builder extends
@@ -1743,6 +1800,7 @@ public final class Journal {
           getReinitializeFileFieldBuilder();
           getRenameFieldBuilder();
           getRenameStoreFieldBuilder();
+          getReplaceStoreFieldBuilder();
           getSetAttributeFieldBuilder();
         }
       }
@@ -1898,12 +1956,18 @@ public final class Journal {
           renameStoreBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x01000000);
+        if (replaceStoreBuilder_ == null) {
+          replaceStore_ = alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance();
+        } else {
+          replaceStoreBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x02000000);
         if (setAttributeBuilder_ == null) {
           setAttribute_ = alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance();
         } else {
           setAttributeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x02000000);
+        bitField0_ = (bitField0_ & ~0x04000000);
         return this;
       }
 
@@ -2131,6 +2195,14 @@ public final class Journal {
         if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
           to_bitField0_ |= 0x02000000;
         }
+        if (replaceStoreBuilder_ == null) {
+          result.replaceStore_ = replaceStore_;
+        } else {
+          result.replaceStore_ = replaceStoreBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x04000000;
+        }
         if (setAttributeBuilder_ == null) {
           result.setAttribute_ = setAttribute_;
         } else {
@@ -2227,6 +2299,9 @@ public final class Journal {
         if (other.hasRenameStore()) {
           mergeRenameStore(other.getRenameStore());
         }
+        if (other.hasReplaceStore()) {
+          mergeReplaceStore(other.getReplaceStore());
+        }
         if (other.hasSetAttribute()) {
           mergeSetAttribute(other.getSetAttribute());
         }
@@ -5098,6 +5173,123 @@ public final class Journal {
         return renameStoreBuilder_;
       }
 
+      // optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;
+      private alluxio.proto.journal.KeyValue.ReplaceStoreEntry replaceStore_ = alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          alluxio.proto.journal.KeyValue.ReplaceStoreEntry, alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder, alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder> replaceStoreBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public boolean hasReplaceStore() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntry getReplaceStore() {
+        if (replaceStoreBuilder_ == null) {
+          return replaceStore_;
+        } else {
+          return replaceStoreBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public Builder setReplaceStore(alluxio.proto.journal.KeyValue.ReplaceStoreEntry value) {
+        if (replaceStoreBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          replaceStore_ = value;
+          onChanged();
+        } else {
+          replaceStoreBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public Builder setReplaceStore(
+          alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder builderForValue) {
+        if (replaceStoreBuilder_ == null) {
+          replaceStore_ = builderForValue.build();
+          onChanged();
+        } else {
+          replaceStoreBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public Builder mergeReplaceStore(alluxio.proto.journal.KeyValue.ReplaceStoreEntry value) {
+        if (replaceStoreBuilder_ == null) {
+          if (((bitField0_ & 0x02000000) == 0x02000000) &&
+              replaceStore_ != alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance()) {
+            replaceStore_ =
+              alluxio.proto.journal.KeyValue.ReplaceStoreEntry.newBuilder(replaceStore_).mergeFrom(value).buildPartial();
+          } else {
+            replaceStore_ = value;
+          }
+          onChanged();
+        } else {
+          replaceStoreBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public Builder clearReplaceStore() {
+        if (replaceStoreBuilder_ == null) {
+          replaceStore_ = alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance();
+          onChanged();
+        } else {
+          replaceStoreBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x02000000);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder getReplaceStoreBuilder() {
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return getReplaceStoreFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder getReplaceStoreOrBuilder() {
+        if (replaceStoreBuilder_ != null) {
+          return replaceStoreBuilder_.getMessageOrBuilder();
+        } else {
+          return replaceStore_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.ReplaceStoreEntry replace_store = 30;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          alluxio.proto.journal.KeyValue.ReplaceStoreEntry, alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder, alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder> 
+          getReplaceStoreFieldBuilder() {
+        if (replaceStoreBuilder_ == null) {
+          replaceStoreBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              alluxio.proto.journal.KeyValue.ReplaceStoreEntry, alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder, alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder>(
+                  replaceStore_,
+                  getParentForChildren(),
+                  isClean());
+          replaceStore_ = null;
+        }
+        return replaceStoreBuilder_;
+      }
+
       // optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;
       private alluxio.proto.journal.File.SetAttributeEntry setAttribute_ = alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
@@ -5106,7 +5298,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
        */
       public boolean hasSetAttribute() {
-        return ((bitField0_ & 0x02000000) == 0x02000000);
+        return ((bitField0_ & 0x04000000) == 0x04000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
@@ -5131,7 +5323,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x04000000;
         return this;
       }
       /**
@@ -5145,7 +5337,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x04000000;
         return this;
       }
       /**
@@ -5153,7 +5345,7 @@ public final class Journal {
        */
       public Builder mergeSetAttribute(alluxio.proto.journal.File.SetAttributeEntry value) {
         if (setAttributeBuilder_ == null) {
-          if (((bitField0_ & 0x02000000) == 0x02000000) &&
+          if (((bitField0_ & 0x04000000) == 0x04000000) &&
               setAttribute_ != alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance()) {
             setAttribute_ =
               alluxio.proto.journal.File.SetAttributeEntry.newBuilder(setAttribute_).mergeFrom(value).buildPartial();
@@ -5164,7 +5356,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x04000000;
         return this;
       }
       /**
@@ -5177,14 +5369,14 @@ public final class Journal {
         } else {
           setAttributeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x02000000);
+        bitField0_ = (bitField0_ & ~0x04000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
        */
       public alluxio.proto.journal.File.SetAttributeEntry.Builder getSetAttributeBuilder() {
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x04000000;
         onChanged();
         return getSetAttributeFieldBuilder().getBuilder();
       }
@@ -5243,7 +5435,7 @@ public final class Journal {
       "\n\025journal/journal.proto\022\025alluxio.proto.j" +
       "ournal\032\023journal/block.proto\032\022journal/fil" +
       "e.proto\032\027journal/key_value.proto\032\025journa" +
-      "l/lineage.proto\"\352\r\n\014JournalEntry\022\027\n\017sequ" +
+      "l/lineage.proto\"\253\016\n\014JournalEntry\022\027\n\017sequ" +
       "ence_number\030\001 \001(\003\022B\n\017add_mount_point\030\002 \001" +
       "(\0132).alluxio.proto.journal.AddMountPoint" +
       "Entry\022N\n\025async_persist_request\030\020 \001(\0132/.a" +
@@ -5286,9 +5478,10 @@ public final class Journal {
       "ileEntry\0222\n\006rename\030\023 \001(\0132\".alluxio.proto" +
       ".journal.RenameEntry\022=\n\014rename_store\030\034 \001" +
       "(\0132\'.alluxio.proto.journal.RenameStoreEn" +
-      "try\022?\n\rset_attribute\030\033 \001(\0132(.alluxio.pro" +
-      "to.journal.SetAttributeEntryB\027\n\025alluxio." +
-      "proto.journal"
+      "try\022?\n\rreplace_store\030\036 \001(\0132(.alluxio.pro" +
+      "to.journal.ReplaceStoreEntry\022?\n\rset_attr" +
+      "ibute\030\033 \001(\0132(.alluxio.proto.journal.SetA" +
+      "ttributeEntryB\027\n\025alluxio.proto.journal"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -5300,7 +5493,7 @@ public final class Journal {
           internal_static_alluxio_proto_journal_JournalEntry_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_journal_JournalEntry_descriptor,
-              new java.lang.String[] { "SequenceNumber", "AddMountPoint", "AsyncPersistRequest", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "CompletePartition", "CompleteStore", "CreateStore", "DeleteBlock", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "DeleteStore", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "MergeStore", "PersistDirectory", "ReinitializeFile", "Rename", "RenameStore", "SetAttribute", });
+              new java.lang.String[] { "SequenceNumber", "AddMountPoint", "AsyncPersistRequest", "BlockContainerIdGenerator", "BlockInfo", "CompleteFile", "CompletePartition", "CompleteStore", "CreateStore", "DeleteBlock", "DeleteFile", "DeleteLineage", "DeleteMountPoint", "DeleteStore", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "Lineage", "LineageIdGenerator", "MergeStore", "PersistDirectory", "ReinitializeFile", "Rename", "RenameStore", "ReplaceStore", "SetAttribute", });
           return null;
         }
       };
@@ -3164,6 +3164,491 @@ public final class KeyValue {
     // @@protoc_insertion_point(class_scope:alluxio.proto.journal.MergeStoreEntry)
   }
 
+  public interface ReplaceStoreEntryOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int64 from_store_id = 1;
+    /**
+     * <code>optional int64 from_store_id = 1;</code>
+     */
+    boolean hasFromStoreId();
+    /**
+     * <code>optional int64 from_store_id = 1;</code>
+     */
+    long getFromStoreId();
+
+    // optional int64 to_store_id = 2;
+    /**
+     * <code>optional int64 to_store_id = 2;</code>
+     */
+    boolean hasToStoreId();
+    /**
+     * <code>optional int64 to_store_id = 2;</code>
+     */
+    long getToStoreId();
+  }
+  /**
+   * Protobuf type {@code alluxio.proto.journal.ReplaceStoreEntry}
+   *
+   * <pre>
+   * next available id: 3
+   * </pre>
+   */
+  public static final class ReplaceStoreEntry extends
+      com.google.protobuf.GeneratedMessage
+      implements ReplaceStoreEntryOrBuilder {
+    // Use ReplaceStoreEntry.newBuilder() to construct.
+    private ReplaceStoreEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ReplaceStoreEntry(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ReplaceStoreEntry defaultInstance;
+    public static ReplaceStoreEntry getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ReplaceStoreEntry getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ReplaceStoreEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              fromStoreId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              toStoreId_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.KeyValue.internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.KeyValue.internal_static_alluxio_proto_journal_ReplaceStoreEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.KeyValue.ReplaceStoreEntry.class, alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ReplaceStoreEntry> PARSER =
+        new com.google.protobuf.AbstractParser<ReplaceStoreEntry>() {
+      public ReplaceStoreEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ReplaceStoreEntry(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ReplaceStoreEntry> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int64 from_store_id = 1;
+    public static final int FROM_STORE_ID_FIELD_NUMBER = 1;
+    private long fromStoreId_;
+    /**
+     * <code>optional int64 from_store_id = 1;</code>
+     */
+    public boolean hasFromStoreId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 from_store_id = 1;</code>
+     */
+    public long getFromStoreId() {
+      return fromStoreId_;
+    }
+
+    // optional int64 to_store_id = 2;
+    public static final int TO_STORE_ID_FIELD_NUMBER = 2;
+    private long toStoreId_;
+    /**
+     * <code>optional int64 to_store_id = 2;</code>
+     */
+    public boolean hasToStoreId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 to_store_id = 2;</code>
+     */
+    public long getToStoreId() {
+      return toStoreId_;
+    }
+
+    private void initFields() {
+      fromStoreId_ = 0L;
+      toStoreId_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, fromStoreId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, toStoreId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, fromStoreId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, toStoreId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static alluxio.proto.journal.KeyValue.ReplaceStoreEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(alluxio.proto.journal.KeyValue.ReplaceStoreEntry prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code alluxio.proto.journal.ReplaceStoreEntry}
+     *
+     * <pre>
+     * next available id: 3
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements alluxio.proto.journal.KeyValue.ReplaceStoreEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.KeyValue.internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.KeyValue.internal_static_alluxio_proto_journal_ReplaceStoreEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.KeyValue.ReplaceStoreEntry.class, alluxio.proto.journal.KeyValue.ReplaceStoreEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.KeyValue.ReplaceStoreEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        fromStoreId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        toStoreId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.KeyValue.internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntry build() {
+        alluxio.proto.journal.KeyValue.ReplaceStoreEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.KeyValue.ReplaceStoreEntry buildPartial() {
+        alluxio.proto.journal.KeyValue.ReplaceStoreEntry result = new alluxio.proto.journal.KeyValue.ReplaceStoreEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.fromStoreId_ = fromStoreId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.toStoreId_ = toStoreId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.KeyValue.ReplaceStoreEntry) {
+          return mergeFrom((alluxio.proto.journal.KeyValue.ReplaceStoreEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.KeyValue.ReplaceStoreEntry other) {
+        if (other == alluxio.proto.journal.KeyValue.ReplaceStoreEntry.getDefaultInstance()) return this;
+        if (other.hasFromStoreId()) {
+          setFromStoreId(other.getFromStoreId());
+        }
+        if (other.hasToStoreId()) {
+          setToStoreId(other.getToStoreId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.KeyValue.ReplaceStoreEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.KeyValue.ReplaceStoreEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int64 from_store_id = 1;
+      private long fromStoreId_ ;
+      /**
+       * <code>optional int64 from_store_id = 1;</code>
+       */
+      public boolean hasFromStoreId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 from_store_id = 1;</code>
+       */
+      public long getFromStoreId() {
+        return fromStoreId_;
+      }
+      /**
+       * <code>optional int64 from_store_id = 1;</code>
+       */
+      public Builder setFromStoreId(long value) {
+        bitField0_ |= 0x00000001;
+        fromStoreId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 from_store_id = 1;</code>
+       */
+      public Builder clearFromStoreId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fromStoreId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 to_store_id = 2;
+      private long toStoreId_ ;
+      /**
+       * <code>optional int64 to_store_id = 2;</code>
+       */
+      public boolean hasToStoreId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 to_store_id = 2;</code>
+       */
+      public long getToStoreId() {
+        return toStoreId_;
+      }
+      /**
+       * <code>optional int64 to_store_id = 2;</code>
+       */
+      public Builder setToStoreId(long value) {
+        bitField0_ |= 0x00000002;
+        toStoreId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 to_store_id = 2;</code>
+       */
+      public Builder clearToStoreId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        toStoreId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.ReplaceStoreEntry)
+    }
+
+    static {
+      defaultInstance = new ReplaceStoreEntry(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.ReplaceStoreEntry)
+  }
+
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_alluxio_proto_journal_CompletePartitionEntry_descriptor;
   private static
@@ -3194,6 +3679,11 @@ public final class KeyValue {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_alluxio_proto_journal_MergeStoreEntry_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_alluxio_proto_journal_ReplaceStoreEntry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -3213,7 +3703,8 @@ public final class KeyValue {
       "\001(\003\">\n\020RenameStoreEntry\022\024\n\014old_store_id\030" +
       "\001 \001(\003\022\024\n\014new_store_id\030\002 \001(\003\"=\n\017MergeStor" +
       "eEntry\022\025\n\rfrom_store_id\030\001 \001(\003\022\023\n\013to_stor",
-      "e_id\030\002 \001(\003"
+      "e_id\030\002 \001(\003\"?\n\021ReplaceStoreEntry\022\025\n\rfrom_" +
+      "store_id\030\001 \001(\003\022\023\n\013to_store_id\030\002 \001(\003"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -3256,6 +3747,12 @@ public final class KeyValue {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_alluxio_proto_journal_MergeStoreEntry_descriptor,
               new java.lang.String[] { "FromStoreId", "ToStoreId", });
+          internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_alluxio_proto_journal_ReplaceStoreEntry_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_alluxio_proto_journal_ReplaceStoreEntry_descriptor,
+              new java.lang.String[] { "FromStoreId", "ToStoreId", });
           return null;
         }
       };
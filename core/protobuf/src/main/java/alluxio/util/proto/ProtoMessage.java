@@ -107,6 +107,27 @@ public final class ProtoMessage {
     mMessage = request;
   }
 
+  /**
+   * @param request the local block lease request
+   */
+  public ProtoMessage(Protocol.LocalBlockLeaseRequest request) {
+    mMessage = request;
+  }
+
+  /**
+   * @param response the local block lease response
+   */
+  public ProtoMessage(Protocol.LocalBlockLeaseResponse response) {
+    mMessage = response;
+  }
+
+  /**
+   * @param request the local block lease release request
+   */
+  public ProtoMessage(Protocol.LocalBlockLeaseReleaseRequest request) {
+    mMessage = request;
+  }
+
   /**
    * @param heartbeat the heartbeat
    */
@@ -285,6 +306,51 @@ public final class ProtoMessage {
     return mMessage instanceof Protocol.LocalBlockCompleteRequest;
   }
 
+  /**
+   * @return the Protocol.LocalBlockLeaseRequest
+   */
+  public Protocol.LocalBlockLeaseRequest asLocalBlockLeaseRequest() {
+    Preconditions.checkState(mMessage instanceof Protocol.LocalBlockLeaseRequest);
+    return (Protocol.LocalBlockLeaseRequest) mMessage;
+  }
+
+  /**
+   * @return true if mMessage is of type {@link Protocol.LocalBlockLeaseRequest}
+   */
+  public boolean isLocalBlockLeaseRequest() {
+    return mMessage instanceof Protocol.LocalBlockLeaseRequest;
+  }
+
+  /**
+   * @return the Protocol.LocalBlockLeaseResponse
+   */
+  public Protocol.LocalBlockLeaseResponse asLocalBlockLeaseResponse() {
+    Preconditions.checkState(mMessage instanceof Protocol.LocalBlockLeaseResponse);
+    return (Protocol.LocalBlockLeaseResponse) mMessage;
+  }
+
+  /**
+   * @return true if mMessage is of type {@link Protocol.LocalBlockLeaseResponse}
+   */
+  public boolean isLocalBlockLeaseResponse() {
+    return mMessage instanceof Protocol.LocalBlockLeaseResponse;
+  }
+
+  /**
+   * @return the Protocol.LocalBlockLeaseReleaseRequest
+   */
+  public Protocol.LocalBlockLeaseReleaseRequest asLocalBlockLeaseReleaseRequest() {
+    Preconditions.checkState(mMessage instanceof Protocol.LocalBlockLeaseReleaseRequest);
+    return (Protocol.LocalBlockLeaseReleaseRequest) mMessage;
+  }
+
+  /**
+   * @return true if mMessage is of type {@link Protocol.LocalBlockLeaseReleaseRequest}
+   */
+  public boolean isLocalBlockLeaseReleaseRequest() {
+    return mMessage instanceof Protocol.LocalBlockLeaseReleaseRequest;
+  }
+
   /**
    * @return true if the message is of type {@link Protocol.Heartbeat}
    */
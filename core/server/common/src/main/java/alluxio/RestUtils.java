@@ -72,12 +72,16 @@ public final class RestUtils {
   }
 
   /**
-   * Creates a response using the given object.
+   * Creates a response using the given object. If the object is a {@link Response} already, it is
+   * returned as is, so that a callable can set the status and the headers of the response.
    *
    * @param object the object to respond with
    * @return the response
    */
   private static Response createResponse(Object object) {
+    if (object instanceof Response) {
+      return (Response) object;
+    }
     if (object instanceof Void) {
       return Response.ok().build();
     }
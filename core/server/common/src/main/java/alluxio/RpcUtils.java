@@ -14,6 +14,8 @@ package alluxio;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.InternalException;
+import alluxio.metrics.RpcProfiler;
+import alluxio.metrics.RpcTrace;
 import alluxio.thrift.AlluxioTException;
 
 import org.slf4j.Logger;
@@ -21,7 +23,8 @@ import org.slf4j.Logger;
 import java.io.IOException;
 
 /**
- * Utilities for handling RPC calls.
+ * Utilities for handling RPC calls. The latency of every call is recorded by
+ * {@link RpcProfiler}.
  */
 public final class RpcUtils {
   /**
@@ -34,14 +37,21 @@ public final class RpcUtils {
    * @throws AlluxioTException if the callable throws an exception
    */
   public static <T> T call(Logger logger, RpcCallable<T> callable) throws AlluxioTException {
+    RpcTrace trace = RpcTrace.start();
+    boolean failed = true;
     try {
-      return callable.call();
+      T ret = callable.call();
+      failed = false;
+      return ret;
     } catch (AlluxioException e) {
       logger.debug("{}, Error={}", callable, e.getMessage());
       throw AlluxioStatusException.fromAlluxioException(e).toThrift();
     } catch (RuntimeException e) {
       logger.error("{}", callable, e);
       throw new InternalException(e).toThrift();
+    } finally {
+      trace.stop();
+      RpcProfiler.record(callable, trace, failed);
     }
   }
 
@@ -56,8 +66,12 @@ public final class RpcUtils {
    */
   public static <T> T call(Logger logger, RpcCallableThrowsIOException<T> callable)
       throws AlluxioTException {
+    RpcTrace trace = RpcTrace.start();
+    boolean failed = true;
     try {
-      return callable.call();
+      T ret = callable.call();
+      failed = false;
+      return ret;
     } catch (AlluxioException e) {
       logger.debug("{}, Error={}", callable, e.getMessage());
       throw AlluxioStatusException.fromAlluxioException(e).toThrift();
@@ -68,6 +82,9 @@ public final class RpcUtils {
     } catch (RuntimeException e) {
       logger.error("{}", callable, e);
       throw new InternalException(e).toThrift();
+    } finally {
+      trace.stop();
+      RpcProfiler.record(callable, trace, failed);
     }
   }
 
@@ -178,13 +195,19 @@ public final class RpcUtils {
    */
   public static <T> T nettyRPCAndLog(Logger logger, NettyRPCCallable<T> callable) {
     logger.debug("Enter: {}", callable);
+    RpcTrace trace = RpcTrace.start();
+    boolean failed = true;
     try {
       T result = callable.call();
+      failed = false;
       logger.debug("Exit (OK): {}", callable);
       return result;
     } catch (Exception e) {
       logger.debug("Exit (Error): {}, Error={}", callable, e.getMessage());
       callable.exceptionCaught(e);
+    } finally {
+      trace.stop();
+      RpcProfiler.record(callable, trace, failed);
     }
     return null;
   }
@@ -18,6 +18,9 @@ import alluxio.Server;
 import alluxio.clock.Clock;
 import alluxio.exception.InvalidJournalEntryException;
 import alluxio.exception.PreconditionMessage;
+import alluxio.heartbeat.HeartbeatContext;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.heartbeat.HeartbeatWheel;
 import alluxio.master.journal.AsyncJournalWriter;
 import alluxio.master.journal.Journal;
 import alluxio.master.journal.JournalCheckpointThread;
@@ -26,9 +29,12 @@ import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalWriter;
 import alluxio.master.journal.options.JournalReaderOptions;
 import alluxio.master.journal.options.JournalWriterOptions;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcTrace;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.retry.RetryPolicy;
 import alluxio.retry.TimeoutRetry;
+import alluxio.underfs.UfsPriority;
 import alluxio.util.executor.ExecutorServiceFactory;
 
 import com.google.common.base.Preconditions;
@@ -36,10 +42,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -61,6 +70,8 @@ public abstract class AbstractMaster implements Master {
   private ExecutorServiceFactory mExecutorServiceFactory;
   /** The executor used for running maintenance threads for the master. */
   private ExecutorService mExecutorService;
+  /** The heartbeats started by {@link #startHeartbeat}, stopped when the master stops. */
+  private final List<Future<?>> mHeartbeats = new ArrayList<>();
   /** A handler to the journal for this master. */
   private Journal mJournal;
   /** true if this master is in primary mode, and not secondary mode. */
@@ -159,6 +170,11 @@ public abstract class AbstractMaster implements Master {
 
   @Override
   public void stop() throws IOException {
+    // Stop the heartbeats, waiting for the running ones.
+    for (Future<?> heartbeat : mHeartbeats) {
+      heartbeat.cancel(true);
+    }
+    mHeartbeats.clear();
     if (mIsPrimary) {
       LOG.info("{}: Stopping primary master.", getName());
       // Stop this primary master.
@@ -243,10 +259,12 @@ public abstract class AbstractMaster implements Master {
     }
     Preconditions.checkNotNull(mAsyncJournalWriter, PreconditionMessage.ASYNC_JOURNAL_WRITER_NULL);
 
+    long startTimeNanos = System.nanoTime();
     RetryPolicy retry = new TimeoutRetry(JOURNAL_FLUSH_RETRY_TIMEOUT_MS, Constants.SECOND_MS);
     while (retry.attemptRetry()) {
       try {
         mAsyncJournalWriter.flush(journalContext.getFlushCounter());
+        RpcTrace.record(RpcTrace.Phase.JOURNAL_FLUSH, startTimeNanos);
         return;
       } catch (IOException e) {
         LOG.warn("Journal flush failed. retrying...", e);
@@ -262,6 +280,24 @@ public abstract class AbstractMaster implements Master {
     System.exit(-1);
   }
 
+  /**
+   * Starts executing heartbeats periodically until the master stops. The heartbeats run on the
+   * shared {@link HeartbeatWheel} of the process, and their UFS operations have the
+   * {@link UfsPriority#BACKGROUND} priority.
+   *
+   * @param name the name of the heartbeats, one of the names in {@link HeartbeatContext}
+   * @param executor the heartbeat executor
+   * @param intervalMs the heartbeat interval
+   * @return a future to stop the heartbeats
+   */
+  protected Future<?> startHeartbeat(String name, HeartbeatExecutor executor, long intervalMs) {
+    Future<?> heartbeat = HeartbeatWheel.start(name,
+        MetricsSystem.getMasterMetricName("Heartbeat." + name.replace(" ", "")),
+        UfsPriority.background(executor), intervalMs, mExecutorService);
+    mHeartbeats.add(heartbeat);
+    return heartbeat;
+  }
+
   /**
    * @return the {@link ExecutorService} for this master
    */
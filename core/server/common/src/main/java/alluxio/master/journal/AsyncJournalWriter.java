@@ -100,6 +100,10 @@ public final class AsyncJournalWriter {
   /**
    * Flushes and waits until the specified counter is flushed to the journal. If the specified
    * counter is already flushed, this is essentially a no-op.
+   * <p>
+   * The entries are written to the journal writer by one thread at a time, but the journal writer
+   * is flushed after releasing the lock, so the next batch of entries can be written, and flushed
+   * as well if the journal writer supports concurrent flushes, while a flush is in flight.
    *
    * @param targetCounter the counter to flush
    */
@@ -107,6 +111,7 @@ public final class AsyncJournalWriter {
     if (targetCounter <= mFlushCounter.get()) {
       return;
     }
+    long writeCounter;
     // Using reentrant lock, since it seems to result in higher throughput than using 'synchronized'
     try (LockResource lr = new LockResource(mFlushLock)) {
       long startTime = System.nanoTime();
@@ -115,7 +120,7 @@ public final class AsyncJournalWriter {
         // The specified counter is already flushed, so just return.
         return;
       }
-      long writeCounter = mWriteCounter.get();
+      writeCounter = mWriteCounter.get();
       while (targetCounter > writeCounter) {
         for (;;) {
           // Get, but do not remove, the head entry.
@@ -138,8 +143,14 @@ public final class AsyncJournalWriter {
           }
         }
       }
-      mJournalWriter.flush();
-      mFlushCounter.set(writeCounter);
+    }
+    mJournalWriter.flush();
+    // All the entries written before the flush started are flushed, concurrent flushes may have
+    // flushed more.
+    long flushCounter = mFlushCounter.get();
+    while (flushCounter < writeCounter
+        && !mFlushCounter.compareAndSet(flushCounter, writeCounter)) {
+      flushCounter = mFlushCounter.get();
     }
   }
 }
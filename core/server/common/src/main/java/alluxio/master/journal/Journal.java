@@ -11,6 +11,9 @@
 
 package alluxio.master.journal;
 
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
 import alluxio.master.journal.options.JournalReaderOptions;
 import alluxio.master.journal.options.JournalWriterOptions;
 import alluxio.master.journal.ufs.UfsJournal;
@@ -45,7 +48,12 @@ public interface Journal {
 
     @Override
     public Journal create(String name) {
-      return new UfsJournal(URIUtils.appendPathOrDie(mBase, name));
+      URI location = URIUtils.appendPathOrDie(mBase, name);
+      if (name.equals(Constants.FILE_SYSTEM_MASTER_NAME)) {
+        return new UfsJournal(location,
+            Configuration.getInt(PropertyKey.MASTER_JOURNAL_FILE_SYSTEM_SHARDS));
+      }
+      return new UfsJournal(location);
     }
   }
 
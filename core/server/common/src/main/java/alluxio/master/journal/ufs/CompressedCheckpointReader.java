@@ -0,0 +1,355 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.ufs;
+
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.OpenOptions;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Reads the journal entries of a checkpoint written by {@link CompressedCheckpointWriter}. The
+ * blocks are read in order, and decompressed and parsed in parallel ahead of the entries returned.
+ */
+@NotThreadSafe
+final class CompressedCheckpointReader implements Closeable {
+  private final DataInputStream mInputStream;
+  private final int mMaxPendingBlocks;
+  /** The executor to decompress and parse the blocks. */
+  private final ExecutorService mExecutor;
+  /** The entries of the blocks being decompressed, in order. */
+  private final Queue<Future<List<JournalEntry>>> mPendingBlocks = new ArrayDeque<>();
+  /** The offset and compressed length of the blocks read. */
+  private final List<long[]> mBlocks = new ArrayList<>();
+
+  /** The remaining entries of the current block. */
+  private Iterator<JournalEntry> mEntries = Collections.emptyIterator();
+  /** The number of bytes read. */
+  private long mOffset;
+  /** The number of entries in the blocks read. */
+  private long mEntryCount;
+  /** Whether the end of the blocks has been reached. */
+  private boolean mEndOfBlocks;
+  private boolean mClosed;
+
+  /**
+   * Creates a new instance of {@link CompressedCheckpointReader}, and reads the magic bytes.
+   *
+   * @param stream the stream to read the checkpoint from
+   * @param threads the number of threads to decompress the blocks
+   */
+  CompressedCheckpointReader(InputStream stream, int threads) throws IOException {
+    Preconditions.checkArgument(threads > 0, "threads=%s", threads);
+    mInputStream = new DataInputStream(stream);
+    byte[] magic = new byte[CompressedCheckpointWriter.MAGIC.length];
+    readFully(magic);
+    if (!Arrays.equals(magic, CompressedCheckpointWriter.MAGIC)) {
+      throw new IOException("The checkpoint is not a compressed checkpoint");
+    }
+    mOffset = magic.length;
+    mMaxPendingBlocks = 2 * threads;
+    mExecutor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("CompressedCheckpointReader-%d", true));
+  }
+
+  /**
+   * @return the next journal entry, or null if the end of the checkpoint is reached
+   */
+  JournalEntry read() throws IOException {
+    Preconditions.checkState(!mClosed, "The checkpoint reader is closed");
+    while (!mEntries.hasNext()) {
+      readBlocks();
+      if (mPendingBlocks.isEmpty()) {
+        return null;
+      }
+      try {
+        mEntries = Uninterruptibles.getUninterruptibly(mPendingBlocks.poll()).iterator();
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to decompress a checkpoint block", e.getCause());
+      }
+    }
+    return mEntries.next();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    mExecutor.shutdownNow();
+    mInputStream.close();
+  }
+
+  /**
+   * Checks whether a stream starts with the magic bytes of a compressed checkpoint, without
+   * consuming them.
+   *
+   * @param stream the stream, which must support mark
+   * @return whether the stream is a compressed checkpoint
+   */
+  static boolean isCompressed(InputStream stream) throws IOException {
+    Preconditions.checkArgument(stream.markSupported(), "The stream does not support mark");
+    byte[] magic = new byte[CompressedCheckpointWriter.MAGIC.length];
+    stream.mark(magic.length);
+    try {
+      int read = 0;
+      while (read < magic.length) {
+        int n = stream.read(magic, read, magic.length - read);
+        if (n < 0) {
+          return false;
+        }
+        read += n;
+      }
+      return Arrays.equals(magic, CompressedCheckpointWriter.MAGIC);
+    } finally {
+      stream.reset();
+    }
+  }
+
+  /**
+   * Validates the structure of a compressed checkpoint from its trailer and index, without reading
+   * its blocks.
+   *
+   * @param ufs the under file system of the checkpoint
+   * @param path the path of the checkpoint
+   * @throws IOException if the checkpoint is incomplete or corrupted
+   */
+  static void validate(UnderFileSystem ufs, String path) throws IOException {
+    long length = ufs.getFileStatus(path).getContentLength();
+    // The header, the end of the blocks, an empty index and the trailer.
+    int minLength = CompressedCheckpointWriter.MAGIC.length + 4 + 4 + 8
+        + CompressedCheckpointWriter.TRAILER_LENGTH;
+    if (length < minLength) {
+      throw new IOException(String.format("The checkpoint %s is truncated at %d bytes", path,
+          length));
+    }
+    try (DataInputStream in = new DataInputStream(ufs.open(path))) {
+      byte[] magic = new byte[CompressedCheckpointWriter.MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, CompressedCheckpointWriter.MAGIC)) {
+        throw new IOException(String.format("The checkpoint %s has no header", path));
+      }
+    }
+    long indexOffset;
+    try (DataInputStream in = new DataInputStream(ufs.open(path,
+        OpenOptions.defaults().setOffset(length - CompressedCheckpointWriter.TRAILER_LENGTH)))) {
+      indexOffset = in.readLong();
+      byte[] magic = new byte[CompressedCheckpointWriter.MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, CompressedCheckpointWriter.MAGIC)) {
+        throw new IOException(String.format("The checkpoint %s has no trailer", path));
+      }
+    }
+    if (indexOffset < CompressedCheckpointWriter.MAGIC.length + 4
+        || indexOffset > length - CompressedCheckpointWriter.TRAILER_LENGTH) {
+      throw new IOException(String.format("The checkpoint %s has an invalid index offset %d",
+          path, indexOffset));
+    }
+    try (DataInputStream in =
+        new DataInputStream(ufs.open(path, OpenOptions.defaults().setOffset(indexOffset)))) {
+      int blockCount = in.readInt();
+      if (indexOffset + 4 + (long) blockCount * CompressedCheckpointWriter.INDEX_ENTRY_LENGTH + 8
+          + CompressedCheckpointWriter.TRAILER_LENGTH != length) {
+        throw new IOException(String.format("The index of the checkpoint %s has an invalid "
+            + "number of blocks %d", path, blockCount));
+      }
+      long offset = CompressedCheckpointWriter.MAGIC.length;
+      for (int i = 0; i < blockCount; i++) {
+        long blockOffset = in.readLong();
+        int blockLength = in.readInt();
+        in.readInt();
+        if (blockOffset != offset || blockLength < 0) {
+          throw new IOException(String.format("The index of the checkpoint %s has an invalid "
+              + "block at offset %d", path, blockOffset));
+        }
+        offset += CompressedCheckpointWriter.BLOCK_HEADER_LENGTH + blockLength;
+      }
+      if (offset + 4 != indexOffset) {
+        throw new IOException(String.format("The blocks of the checkpoint %s end at %d, but its "
+            + "index is at %d", path, offset, indexOffset));
+      }
+    }
+  }
+
+  /**
+   * Reads blocks and submits them to be decompressed, until enough blocks are pending or the end
+   * of the blocks is reached.
+   */
+  private void readBlocks() throws IOException {
+    while (!mEndOfBlocks && mPendingBlocks.size() < mMaxPendingBlocks) {
+      int compressedLength = readInt();
+      if (compressedLength == CompressedCheckpointWriter.END_OF_BLOCKS) {
+        mEndOfBlocks = true;
+        readIndex();
+        return;
+      }
+      final int length = readInt();
+      final int entries = readInt();
+      final int crc = readInt();
+      if (compressedLength < 0 || length < 0 || entries < 0) {
+        throw new IOException(String.format("Invalid checkpoint block header at offset %d",
+            mOffset));
+      }
+      final byte[] compressed = new byte[compressedLength];
+      readFully(compressed);
+      mBlocks.add(new long[] {mOffset, compressedLength});
+      mOffset += CompressedCheckpointWriter.BLOCK_HEADER_LENGTH + compressedLength;
+      mEntryCount += entries;
+      final long offset = mBlocks.get(mBlocks.size() - 1)[0];
+      mPendingBlocks.add(mExecutor.submit(new Callable<List<JournalEntry>>() {
+        @Override
+        public List<JournalEntry> call() throws IOException {
+          return decode(offset, compressed, length, entries, crc);
+        }
+      }));
+    }
+  }
+
+  /**
+   * Reads the index and the trailer, and checks them against the blocks read.
+   */
+  private void readIndex() throws IOException {
+    long indexOffset = mOffset + 4;
+    int blockCount = readInt();
+    if (blockCount != mBlocks.size()) {
+      throw new IOException(String.format("The checkpoint has %d blocks, but its index has %d",
+          mBlocks.size(), blockCount));
+    }
+    for (long[] block : mBlocks) {
+      long offset = mInputStream.readLong();
+      int length = readInt();
+      readInt();
+      if (offset != block[0] || length != block[1]) {
+        throw new IOException(String.format("The index of the checkpoint does not match the block "
+            + "at offset %d", block[0]));
+      }
+    }
+    long entryCount = mInputStream.readLong();
+    if (entryCount != mEntryCount) {
+      throw new IOException(String.format("The checkpoint has %d entries, but its index has %d",
+          mEntryCount, entryCount));
+    }
+    if (mInputStream.readLong() != indexOffset) {
+      throw new IOException("The trailer of the checkpoint does not match its index");
+    }
+    byte[] magic = new byte[CompressedCheckpointWriter.MAGIC.length];
+    readFully(magic);
+    if (!Arrays.equals(magic, CompressedCheckpointWriter.MAGIC)) {
+      throw new IOException("The checkpoint has no trailer");
+    }
+  }
+
+  private int readInt() throws IOException {
+    try {
+      return mInputStream.readInt();
+    } catch (EOFException e) {
+      throw new IOException(String.format("The checkpoint is truncated at offset %d", mOffset), e);
+    }
+  }
+
+  private void readFully(byte[] bytes) throws IOException {
+    try {
+      mInputStream.readFully(bytes);
+    } catch (EOFException e) {
+      throw new IOException(String.format("The checkpoint is truncated at offset %d", mOffset), e);
+    }
+  }
+
+  /**
+   * Decompresses and parses a block.
+   *
+   * @param offset the offset of the block, for error messages
+   * @param compressed the compressed bytes
+   * @param length the uncompressed length
+   * @param entries the number of entries
+   * @param crc the CRC32 of the compressed bytes
+   * @return the entries of the block
+   */
+  private static List<JournalEntry> decode(long offset, byte[] compressed, int length,
+      int entries, int crc) throws IOException {
+    CRC32 checksum = new CRC32();
+    checksum.update(compressed);
+    if ((int) checksum.getValue() != crc) {
+      throw new IOException(String.format("Checksum mismatch of the checkpoint block at offset %d",
+          offset));
+    }
+    byte[] bytes = new byte[length];
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      int read = 0;
+      while (read < length && !inflater.finished()) {
+        int n = inflater.inflate(bytes, read, length - read);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        read += n;
+      }
+      if (read == length && !inflater.finished()) {
+        // The end of the compressed data may not be consumed until more output is requested.
+        read += inflater.inflate(new byte[1]);
+      }
+      if (read != length || !inflater.finished()) {
+        throw new IOException(String.format("The checkpoint block at offset %d has an invalid "
+            + "length", offset));
+      }
+    } catch (DataFormatException e) {
+      throw new IOException(String.format("The checkpoint block at offset %d is corrupted",
+          offset), e);
+    } finally {
+      inflater.end();
+    }
+    List<JournalEntry> result = new ArrayList<>(entries);
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    for (int i = 0; i < entries; i++) {
+      JournalEntry entry = JournalEntry.parseDelimitedFrom(in);
+      if (entry == null) {
+        throw new IOException(String.format("The checkpoint block at offset %d has %d entries "
+            + "instead of %d", offset, i, entries));
+      }
+      result.add(entry);
+    }
+    if (in.available() != 0) {
+      throw new IOException(String.format("The checkpoint block at offset %d has more than %d "
+          + "entries", offset, entries));
+    }
+    return result;
+  }
+}
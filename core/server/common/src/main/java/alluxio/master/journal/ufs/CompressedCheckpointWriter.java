@@ -0,0 +1,250 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.ufs;
+
+import alluxio.Constants;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the journal entries of a checkpoint in the compressed checkpoint format. The entries are
+ * grouped into blocks which are compressed independently, so that the blocks are compressed in
+ * parallel when writing, and decompressed and parsed in parallel when reading.
+ *
+ * The format of a compressed checkpoint is:
+ * - {@link #MAGIC}
+ * - the blocks, each made of its compressed length, its uncompressed length, its number of
+ *   entries and the CRC32 of its compressed bytes as ints, followed by its compressed bytes. The
+ *   uncompressed bytes are the entries written with {@link JournalEntry#writeDelimitedTo}.
+ * - {@link #END_OF_BLOCKS} as an int
+ * - the index: the number of blocks as an int, the offset as a long and the compressed length and
+ *   the number of entries as ints of each block, and the total number of entries as a long
+ * - the trailer: the offset of the index as a long, and {@link #MAGIC}
+ */
+@NotThreadSafe
+final class CompressedCheckpointWriter implements Closeable {
+  /**
+   * The magic bytes at the start of a compressed checkpoint. A checkpoint of delimited entries
+   * can not start with a zero byte, since its first entry has a sequence number.
+   */
+  static final byte[] MAGIC = {0, 'A', 'L', 'X', 'C', 'K', 'P', '2'};
+  /** The compressed length which marks the end of the blocks. */
+  static final int END_OF_BLOCKS = -1;
+  /** The length in bytes of the header of a block. */
+  static final int BLOCK_HEADER_LENGTH = 16;
+  /** The length in bytes of the entry of a block in the index. */
+  static final int INDEX_ENTRY_LENGTH = 16;
+  /** The length in bytes of the trailer. */
+  static final int TRAILER_LENGTH = 8 + MAGIC.length;
+
+  private final DataOutputStream mOutputStream;
+  private final int mBlockSize;
+  private final int mMaxPendingBlocks;
+  /** The executor to compress the blocks. */
+  private final ExecutorService mExecutor;
+  /** The blocks being compressed, in order. */
+  private final Queue<Future<Block>> mPendingBlocks = new ArrayDeque<>();
+  /** The offset, compressed length and number of entries of the written blocks. */
+  private final List<long[]> mIndex = new ArrayList<>();
+  /** The entries of the block being filled. */
+  private final ByteArrayOutputStream mBuffer;
+
+  /** The number of entries in the block being filled. */
+  private int mBufferEntries;
+  /** The number of bytes written. */
+  private long mOffset;
+  /** The number of entries in the written blocks. */
+  private long mEntries;
+  private boolean mClosed;
+
+  /**
+   * A compressed block.
+   */
+  private static final class Block {
+    final byte[] mCompressed;
+    final int mLength;
+    final int mEntries;
+    final int mCrc;
+
+    Block(byte[] compressed, int length, int entries) {
+      mCompressed = compressed;
+      mLength = length;
+      mEntries = entries;
+      CRC32 crc = new CRC32();
+      crc.update(compressed);
+      mCrc = (int) crc.getValue();
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link CompressedCheckpointWriter}, and writes the magic bytes.
+   *
+   * @param stream the stream to write the checkpoint to
+   * @param blockSize the uncompressed size in bytes to fill a block up to
+   * @param threads the number of threads to compress the blocks
+   */
+  CompressedCheckpointWriter(OutputStream stream, int blockSize, int threads)
+      throws IOException {
+    Preconditions.checkArgument(blockSize > 0, "blockSize=%s", blockSize);
+    Preconditions.checkArgument(threads > 0, "threads=%s", threads);
+    mOutputStream = new DataOutputStream(stream);
+    mBlockSize = blockSize;
+    mMaxPendingBlocks = 2 * threads;
+    mExecutor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("CompressedCheckpointWriter-%d", true));
+    mBuffer = new ByteArrayOutputStream(blockSize + 64 * Constants.KB);
+    mOutputStream.write(MAGIC);
+    mOffset = MAGIC.length;
+  }
+
+  /**
+   * Writes a journal entry.
+   *
+   * @param entry the entry
+   */
+  void write(JournalEntry entry) throws IOException {
+    Preconditions.checkState(!mClosed, "The checkpoint writer is closed");
+    entry.writeDelimitedTo(mBuffer);
+    mBufferEntries++;
+    if (mBuffer.size() >= mBlockSize) {
+      submitBlock();
+    }
+  }
+
+  /**
+   * Writes the entries written so far to the stream, and flushes it.
+   */
+  void flush() throws IOException {
+    submitBlock();
+    while (!mPendingBlocks.isEmpty()) {
+      writeBlock(mPendingBlocks.poll());
+    }
+    mOutputStream.flush();
+  }
+
+  /**
+   * Writes the remaining entries, the index and the trailer, and closes the stream.
+   */
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    try {
+      flush();
+      mOutputStream.writeInt(END_OF_BLOCKS);
+      long indexOffset = mOffset + 4;
+      mOutputStream.writeInt(mIndex.size());
+      for (long[] block : mIndex) {
+        mOutputStream.writeLong(block[0]);
+        mOutputStream.writeInt((int) block[1]);
+        mOutputStream.writeInt((int) block[2]);
+      }
+      mOutputStream.writeLong(mEntries);
+      mOutputStream.writeLong(indexOffset);
+      mOutputStream.write(MAGIC);
+    } finally {
+      cancel();
+    }
+  }
+
+  /**
+   * Stops compressing and closes the stream, without completing the checkpoint.
+   */
+  void cancel() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    mExecutor.shutdownNow();
+    mOutputStream.close();
+  }
+
+  private void submitBlock() throws IOException {
+    if (mBufferEntries == 0) {
+      return;
+    }
+    final byte[] bytes = mBuffer.toByteArray();
+    final int entries = mBufferEntries;
+    mBuffer.reset();
+    mBufferEntries = 0;
+    mPendingBlocks.add(mExecutor.submit(new Callable<Block>() {
+      @Override
+      public Block call() {
+        return new Block(compress(bytes), bytes.length, entries);
+      }
+    }));
+    while (mPendingBlocks.size() > mMaxPendingBlocks) {
+      writeBlock(mPendingBlocks.poll());
+    }
+  }
+
+  private void writeBlock(Future<Block> future) throws IOException {
+    Block block;
+    try {
+      block = Uninterruptibles.getUninterruptibly(future);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to compress a checkpoint block", e.getCause());
+    }
+    mIndex.add(new long[] {mOffset, block.mCompressed.length, block.mEntries});
+    mOutputStream.writeInt(block.mCompressed.length);
+    mOutputStream.writeInt(block.mLength);
+    mOutputStream.writeInt(block.mEntries);
+    mOutputStream.writeInt(block.mCrc);
+    mOutputStream.write(block.mCompressed);
+    mOffset += BLOCK_HEADER_LENGTH + block.mCompressed.length;
+    mEntries += block.mEntries;
+  }
+
+  /**
+   * @param bytes the bytes to compress
+   * @return the compressed bytes
+   */
+  private static byte[] compress(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+      byte[] buffer = new byte[64 * Constants.KB];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        out.write(buffer, 0, length);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+}
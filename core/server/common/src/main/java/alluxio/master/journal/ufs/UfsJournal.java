@@ -25,6 +25,7 @@ import alluxio.underfs.options.DeleteOptions;
 import alluxio.util.URIUtils;
 import alluxio.util.UnderFileSystemUtils;
 
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,8 +48,12 @@ import javax.annotation.concurrent.ThreadSafe;
  *
  * Journal file structure:
  * journal_folder/version/logs/StartSequenceNumber-EndSequenceNumber
+ * journal_folder/version/logs/StartSequenceNumber-EndSequenceNumber-Shard (for sharded journals)
  * journal_folder/version/checkpoints/0-EndSequenceNumber
  * journal_folder/version/.tmp/random_id
+ *
+ * A sharded journal writes the log entries to several shard logs in parallel. Its readers merge
+ * the shard logs, so the number of shards can be changed when the master restarts.
  */
 @ThreadSafe
 public class UfsJournal implements Journal {
@@ -76,6 +81,8 @@ public class UfsJournal implements Journal {
   private final URI mLocation;
   /** The UFS where the journal is being written to. */
   private final UnderFileSystem mUfs;
+  /** The number of shard logs written in parallel, or 1 to write a single log. */
+  private final int mShards;
 
   /**
    * @return the ufs configuration to use for the journal operations
@@ -92,7 +99,18 @@ public class UfsJournal implements Journal {
    * @param location the location for this journal
    */
   public UfsJournal(URI location) {
-    this(location, UnderFileSystem.Factory.create(location.toString(), getJournalUfsConf()));
+    this(location, 1);
+  }
+
+  /**
+   * Creates a new instance of {@link UfsJournal}.
+   *
+   * @param location the location for this journal
+   * @param shards the number of shard logs written in parallel, or 1 to write a single log
+   */
+  public UfsJournal(URI location, int shards) {
+    this(location, UnderFileSystem.Factory.create(location.toString(), getJournalUfsConf()),
+        shards);
   }
 
   /**
@@ -102,8 +120,21 @@ public class UfsJournal implements Journal {
    * @param ufs the under file system
    */
   UfsJournal(URI location, UnderFileSystem ufs) {
+    this(location, ufs, 1);
+  }
+
+  /**
+   * Creates a new instance of {@link UfsJournal}.
+   *
+   * @param location the location for this journal
+   * @param ufs the under file system
+   * @param shards the number of shard logs written in parallel, or 1 to write a single log
+   */
+  UfsJournal(URI location, UnderFileSystem ufs, int shards) {
+    Preconditions.checkArgument(shards > 0, "shards=%s", shards);
     mLocation = URIUtils.appendPathOrDie(location, VERSION);
     mUfs = ufs;
+    mShards = shards;
 
     mLogDir = URIUtils.appendPathOrDie(mLocation, LOG_DIRNAME);
     mCheckpointDir = URIUtils.appendPathOrDie(mLocation, CHECKPOINT_DIRNAME);
@@ -123,6 +154,9 @@ public class UfsJournal implements Journal {
   @Override
   public JournalWriter getWriter(JournalWriterOptions options) throws IOException {
     if (options.isPrimary()) {
+      if (mShards > 1) {
+        return new UfsJournalShardedLogWriter(this, options, mShards);
+      }
       return new UfsJournalLogWriter(this, options);
     } else {
       return new UfsJournalCheckpointWriter(this, options);
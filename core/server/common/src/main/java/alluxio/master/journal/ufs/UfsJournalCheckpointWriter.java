@@ -11,6 +11,8 @@
 
 package alluxio.master.journal.ufs;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.exception.ExceptionMessage;
 import alluxio.master.journal.JournalWriter;
 import alluxio.master.journal.options.JournalWriterOptions;
@@ -34,6 +36,10 @@ import javax.annotation.concurrent.NotThreadSafe;
  * It first writes checkpoint to a temporary location. After it is done with writing the temporary
  * checkpoint, commit it by renaming the temporary checkpoint to the final location. If the same
  * checkpoint has already been created by another secondary master, the checkpoint is aborted.
+ *
+ * Unless {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED} is false, the checkpoint
+ * is written in the format of {@link CompressedCheckpointWriter}, and its structure is validated
+ * before it is committed.
  */
 @NotThreadSafe
 final class UfsJournalCheckpointWriter implements JournalWriter {
@@ -48,6 +54,8 @@ final class UfsJournalCheckpointWriter implements JournalWriter {
   private final URI mTmpCheckpointFileLocation;
   /** The output stream to the temporary checkpoint file. */
   private final OutputStream mTmpCheckpointStream;
+  /** The writer of the compressed checkpoint, or null if the checkpoint is not compressed. */
+  private final CompressedCheckpointWriter mCompressedWriter;
 
   /**
    * The sequence number for the next journal entry to be written to the checkpoint. Note that this
@@ -74,6 +82,18 @@ final class UfsJournalCheckpointWriter implements JournalWriter {
     mCheckpointFile = UfsJournalFile.createCheckpointFile(
         UfsJournalFile.encodeCheckpointFileLocation(mJournal, options.getNextSequenceNumber()),
         options.getNextSequenceNumber());
+    if (Configuration.getBoolean(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED)) {
+      try {
+        mCompressedWriter = new CompressedCheckpointWriter(mTmpCheckpointStream,
+            (int) Configuration.getBytes(PropertyKey.MASTER_JOURNAL_CHECKPOINT_BLOCK_SIZE_BYTES),
+            Configuration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_THREADS));
+      } catch (IOException e) {
+        mTmpCheckpointStream.close();
+        throw e;
+      }
+    } else {
+      mCompressedWriter = null;
+    }
   }
 
   @Override
@@ -81,18 +101,22 @@ final class UfsJournalCheckpointWriter implements JournalWriter {
     if (mClosed) {
       throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
     }
-    try {
-      entry.toBuilder().setSequenceNumber(mNextSequenceNumber).build()
-          .writeDelimitedTo(mTmpCheckpointStream);
-    } catch (IOException e) {
-      throw e;
+    entry = entry.toBuilder().setSequenceNumber(mNextSequenceNumber).build();
+    if (mCompressedWriter != null) {
+      mCompressedWriter.write(entry);
+    } else {
+      entry.writeDelimitedTo(mTmpCheckpointStream);
     }
     mNextSequenceNumber++;
   }
 
   @Override
   public void flush() throws IOException {
-    mTmpCheckpointStream.flush();
+    if (mCompressedWriter != null) {
+      mCompressedWriter.flush();
+    } else {
+      mTmpCheckpointStream.flush();
+    }
   }
 
   @Override
@@ -101,7 +125,20 @@ final class UfsJournalCheckpointWriter implements JournalWriter {
       return;
     }
     mClosed = true;
-    mTmpCheckpointStream.close();
+    if (mCompressedWriter != null) {
+      try {
+        mCompressedWriter.close();
+        CompressedCheckpointReader.validate(mUfs, mTmpCheckpointFileLocation.toString());
+      } catch (IOException e) {
+        LOG.warn("Failed to write checkpoint {}: {}", mTmpCheckpointFileLocation, e.getMessage());
+        if (mUfs.exists(mTmpCheckpointFileLocation.toString())) {
+          mUfs.deleteFile(mTmpCheckpointFileLocation.toString());
+        }
+        throw e;
+      }
+    } else {
+      mTmpCheckpointStream.close();
+    }
 
     // Delete the temporary checkpoint if there is a newer checkpoint committed.
     UfsJournalFile checkpoint = UfsJournalSnapshot.getSnapshot(mJournal).getLatestCheckpoint();
@@ -148,7 +185,11 @@ final class UfsJournalCheckpointWriter implements JournalWriter {
     }
     mClosed = true;
 
-    mTmpCheckpointStream.close();
+    if (mCompressedWriter != null) {
+      mCompressedWriter.cancel();
+    } else {
+      mTmpCheckpointStream.close();
+    }
     if (mUfs.exists(mTmpCheckpointFileLocation.toString())) {
       mUfs.deleteFile(mTmpCheckpointFileLocation.toString());
     }
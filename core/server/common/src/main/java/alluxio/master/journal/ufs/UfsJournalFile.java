@@ -32,12 +32,18 @@ import javax.annotation.concurrent.ThreadSafe;
  *    inclusive).
  * 4. Checkpoint file: [0]-[end SN] (the end SN is exclusive).
  *
+ * The log files of a sharded journal have the shard index appended, like
+ * [start SN]-[end SN]-[shard]. The log files of all the shards with the same start SN make up a
+ * segment, whose entries are merged by SN when read.
+ *
  * This data structure implements {@link Comparable} such that journal files can be sorted by the
  * end SNs.
  */
 @ThreadSafe
 final class UfsJournalFile implements Comparable<UfsJournalFile> {
   private static final Logger LOG = LoggerFactory.getLogger(UfsJournalFile.class);
+  /** The shard index of the files which are not logs of a sharded journal. */
+  static final int NO_SHARD = -1;
 
   /** The location of the file. */
   private final URI mLocation;
@@ -50,6 +56,8 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
    * checkpoint file here).
    */
   private final boolean mIsCheckpoint;
+  /** The shard index of a log file of a sharded journal, or {@link #NO_SHARD}. */
+  private final int mShard;
 
   /**
    * Creates a journal file.
@@ -58,12 +66,14 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
    * @param start the start sequence number (inclusive)
    * @param end the end sequence number (exclusive)
    * @param isCheckpoint whether this is a committed checkpoint file
+   * @param shard the shard index, or {@link #NO_SHARD}
    */
-  private UfsJournalFile(URI location, long start, long end, boolean isCheckpoint) {
+  private UfsJournalFile(URI location, long start, long end, boolean isCheckpoint, int shard) {
     mLocation = location;
     mStart = start;
     mEnd = end;
     mIsCheckpoint = isCheckpoint;
+    mShard = shard;
   }
 
   /**
@@ -74,7 +84,7 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
    * @return the file
    */
   static UfsJournalFile createCheckpointFile(URI location, long end) {
-    return new UfsJournalFile(location, 0, end, true);
+    return new UfsJournalFile(location, 0, end, true, NO_SHARD);
   }
 
   /**
@@ -86,7 +96,21 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
    * @return the file
    */
   static UfsJournalFile createLogFile(URI location, long start, long end) {
-    return new UfsJournalFile(location, start, end, false);
+    return new UfsJournalFile(location, start, end, false, NO_SHARD);
+  }
+
+  /**
+   * Creates a journal log file of a shard of a sharded journal.
+   *
+   * @param location the file location
+   * @param start the start sequence number (inclusive)
+   * @param end the end sequence number (exclusive)
+   * @param shard the shard index
+   * @return the file
+   */
+  static UfsJournalFile createShardLogFile(URI location, long start, long end, int shard) {
+    Preconditions.checkArgument(shard >= 0, "shard=%s", shard);
+    return new UfsJournalFile(location, start, end, false, shard);
   }
 
   /**
@@ -97,7 +121,7 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
    */
   static UfsJournalFile createTmpCheckpointFile(URI location) {
     return new UfsJournalFile(location, UfsJournal.UNKNOWN_SEQUENCE_NUMBER,
-        UfsJournal.UNKNOWN_SEQUENCE_NUMBER, false);
+        UfsJournal.UNKNOWN_SEQUENCE_NUMBER, false, NO_SHARD);
   }
 
   /**
@@ -127,6 +151,23 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
     return location;
   }
 
+  /**
+   * Encodes a log location under the log directory.
+   *
+   * @param journal the UFS journal instance
+   * @param start the start sequence number (inclusive)
+   * @param end the end sequence number (exclusive)
+   * @param shard the shard index, or {@link #NO_SHARD}
+   * @return the location
+   */
+  static URI encodeLogFileLocation(UfsJournal journal, long start, long end, int shard) {
+    if (shard == NO_SHARD) {
+      return encodeLogFileLocation(journal, start, end);
+    }
+    String filename = String.format("0x%x-0x%x-%d", start, end, shard);
+    return URIUtils.appendPathOrDie(journal.getLogDir(), filename);
+  }
+
   /**
    * Encodes a temporary location under the temporary directory.
    *
@@ -150,11 +191,18 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
       String[] parts = filename.split("-");
 
       // There can be temporary files in logs directory. Skip them.
-      if (parts.length != 2) {
+      if (parts.length != 2 && parts.length != 3) {
         return null;
       }
       long start = Long.decode(parts[0]);
       long end = Long.decode(parts[1]);
+      if (parts.length == 3) {
+        int shard = Integer.parseInt(parts[2]);
+        if (shard < 0) {
+          return null;
+        }
+        return UfsJournalFile.createShardLogFile(location, start, end, shard);
+      }
       return UfsJournalFile.createLogFile(location, start, end);
     } catch (IllegalStateException e) {
       LOG.error("Illegal journal file {}.", location);
@@ -235,6 +283,20 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
     return mIsCheckpoint;
   }
 
+  /**
+   * @return the shard index of a log file of a sharded journal, or {@link #NO_SHARD}
+   */
+  int getShard() {
+    return mShard;
+  }
+
+  /**
+   * @return whether this is a log file of a shard of a sharded journal
+   */
+  boolean isShardLog() {
+    return mShard != NO_SHARD;
+  }
+
   /**
    * @return whether it is a completed log
    */
@@ -261,7 +323,7 @@ final class UfsJournalFile implements Comparable<UfsJournalFile> {
   @Override
   public String toString() {
     return Objects.toStringHelper(this).add("location", mLocation).add("start", mStart)
-        .add("end", mEnd).add("isCheckpoint", mIsCheckpoint).toString();
+        .add("end", mEnd).add("isCheckpoint", mIsCheckpoint).add("shard", mShard).toString();
   }
 
   @Override
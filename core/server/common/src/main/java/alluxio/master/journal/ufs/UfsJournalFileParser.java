@@ -11,6 +11,8 @@
 
 package alluxio.master.journal.ufs;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.master.journal.JournalFileParser;
 import alluxio.proto.journal.Journal;
 import alluxio.underfs.UnderFileSystem;
@@ -20,6 +22,7 @@ import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,7 +31,8 @@ import java.net.URI;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * Implementation of {@link JournalFileParser} that parses a journal file.
+ * Implementation of {@link JournalFileParser} that parses a journal file. Compressed checkpoints
+ * are parsed with {@link CompressedCheckpointReader}.
  */
 @NotThreadSafe
 public final class UfsJournalFileParser implements JournalFileParser {
@@ -40,6 +44,8 @@ public final class UfsJournalFileParser implements JournalFileParser {
 
   /** The input stream to read from the journal file. */
   private InputStream mInputStream;
+  /** The reader of the journal file if it is a compressed checkpoint, or null. */
+  private CompressedCheckpointReader mCheckpointReader;
   /** The location of the journal file. */
   private URI mLocation;
 
@@ -55,13 +61,23 @@ public final class UfsJournalFileParser implements JournalFileParser {
 
   @Override
   public void close() throws IOException {
+    if (mCheckpointReader != null) {
+      mCheckpointReader.close();
+    }
     mInputStream.close();
   }
 
   @Override
   public Journal.JournalEntry next() throws IOException {
     if (mInputStream == null) {
-      mInputStream = mUfs.open(mLocation.toString());
+      mInputStream = new BufferedInputStream(mUfs.open(mLocation.toString()));
+      if (CompressedCheckpointReader.isCompressed(mInputStream)) {
+        mCheckpointReader = new CompressedCheckpointReader(mInputStream,
+            Configuration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_THREADS));
+      }
+    }
+    if (mCheckpointReader != null) {
+      return mCheckpointReader.read();
     }
 
     int firstByte = mInputStream.read();
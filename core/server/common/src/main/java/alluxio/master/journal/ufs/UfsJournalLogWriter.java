@@ -31,6 +31,8 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -40,6 +42,7 @@ import javax.annotation.concurrent.ThreadSafe;
  * the current log is large enough.
  *
  * When a new journal writer is created, it also marks the current log complete if there is one.
+ * The current logs of a sharded journal are marked complete right away.
  *
  * A journal garbage collector thread is created when the writer is created, and is stopped when
  * the writer is closed.
@@ -145,6 +148,14 @@ final class UfsJournalLogWriter implements JournalWriter {
     mNextSequenceNumber = options.getNextSequenceNumber();
     mMaxLogSize = Configuration.getBytes(PropertyKey.MASTER_JOURNAL_LOG_SIZE_BYTES_MAX);
 
+    List<UfsJournalFile> shardLogs = new ArrayList<>();
+    for (UfsJournalFile log : UfsJournalSnapshot.getIncompleteLogs(mJournal)) {
+      if (log.isShardLog()) {
+        shardLogs.add(log);
+      }
+    }
+    UfsJournalShardedLogWriter.completeLogs(mJournal, shardLogs, mNextSequenceNumber);
+
     mRotateLogForNextWrite = true;
     UfsJournalFile currentLog = UfsJournalSnapshot.getCurrentLog(mJournal);
     if (currentLog != null) {
@@ -11,6 +11,8 @@
 
 package alluxio.master.journal.ufs;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidJournalEntryException;
 import alluxio.master.journal.JournalReader;
@@ -20,14 +22,21 @@ import alluxio.underfs.UnderFileSystem;
 import alluxio.util.proto.ProtoUtils;
 
 import com.google.common.base.Preconditions;
+import com.google.common.io.Closer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -37,6 +46,13 @@ import javax.annotation.concurrent.NotThreadSafe;
  * read after a given sequence number. By default, it starts from 0 sequence number.
  * If this reader runs in a primary master, it reads the incomplete log.
  * If this reader runs in a secondary master, it does not read the incomplete log.
+ *
+ * The log files of the shards of a segment of a sharded journal are read together, merging their
+ * entries by sequence number. A secondary master only reads a segment after all its log files are
+ * complete.
+ *
+ * A checkpoint is read either as a sequence of delimited entries, or with
+ * {@link CompressedCheckpointReader} if it starts with the magic bytes of a compressed checkpoint.
  */
 @NotThreadSafe
 final class UfsJournalReader implements JournalReader {
@@ -54,8 +70,11 @@ final class UfsJournalReader implements JournalReader {
   private long mNextSequenceNumber;
   /** The input stream to read the journal entries. */
   private JournalInputStream mInputStream;
-  /** A queue of files to be processed including checkpoint and logs. */
-  private final Queue<UfsJournalFile> mFilesToProcess;
+  /**
+   * A queue of files to be processed including checkpoint and logs. The log files of the shards of
+   * a segment are processed together.
+   */
+  private final Queue<List<UfsJournalFile>> mFilesToProcess;
   /** Buffer used to read from the file. */
   private final byte[] mBuffer = new byte[1024];
 
@@ -63,17 +82,62 @@ final class UfsJournalReader implements JournalReader {
   private boolean mClosed;
 
   /**
-   * A simple wrapper that wraps the journal file and the input stream.
+   * A simple wrapper that wraps the journal file and the input stream, or the log files and the
+   * input streams of the shards of a segment.
    */
   private class JournalInputStream implements Closeable {
+    /** The file, or a log file spanning the segment when reading the logs of shards. */
     final UfsJournalFile mFile;
-    /** The input stream that reads from a file. */
+    /** The input stream that reads from a file, or null when reading the logs of shards. */
     final InputStream mStream;
+    /** The reader of a compressed checkpoint, or null if the file is not one. */
+    final CompressedCheckpointReader mCheckpointReader;
+    /** The input streams that read from the logs of the shards. */
+    final List<InputStream> mShardStreams = new ArrayList<>();
+    /** The next entry read from each shard log, or null if not read yet or at its end. */
+    final Journal.JournalEntry[] mShardHeads;
+    /** Whether the end of each shard log has been reached. */
+    final boolean[] mShardDone;
 
-    JournalInputStream(UfsJournalFile file) throws IOException {
-      mFile = file;
-      LOG.info("Reading journal file {}.", file.getLocation());
-      mStream = mUfs.open(file.getLocation().toString());
+    JournalInputStream(List<UfsJournalFile> files) throws IOException {
+      if (!files.get(0).isShardLog()) {
+        mFile = files.get(0);
+        LOG.info("Reading journal file {}.", mFile.getLocation());
+        InputStream stream = mUfs.open(mFile.getLocation().toString());
+        if (mFile.isCheckpoint()) {
+          stream = new BufferedInputStream(stream);
+        }
+        mStream = stream;
+        CompressedCheckpointReader checkpointReader = null;
+        try {
+          if (mFile.isCheckpoint() && CompressedCheckpointReader.isCompressed(stream)) {
+            checkpointReader = new CompressedCheckpointReader(stream,
+                Configuration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_THREADS));
+          }
+        } catch (IOException e) {
+          stream.close();
+          throw e;
+        }
+        mCheckpointReader = checkpointReader;
+        mShardHeads = new Journal.JournalEntry[0];
+        mShardDone = new boolean[0];
+        return;
+      }
+      mFile = UfsJournalFile.createLogFile(files.get(0).getLocation(), files.get(0).getStart(),
+          getEnd(files));
+      mStream = null;
+      mCheckpointReader = null;
+      mShardHeads = new Journal.JournalEntry[files.size()];
+      mShardDone = new boolean[files.size()];
+      try {
+        for (UfsJournalFile file : files) {
+          LOG.info("Reading journal file {}.", file.getLocation());
+          mShardStreams.add(mUfs.open(file.getLocation().toString()));
+        }
+      } catch (IOException e) {
+        close();
+        throw e;
+      }
     }
 
     /**
@@ -83,9 +147,53 @@ final class UfsJournalReader implements JournalReader {
       return mFile.getEnd() == mNextSequenceNumber;
     }
 
+    /**
+     * Reads the entry with the smallest sequence number among the next entries of the shards.
+     *
+     * @return the entry, or null if there is no more entry to read from an incomplete segment
+     */
+    Journal.JournalEntry readMerged() throws IOException, InvalidJournalEntryException {
+      int next = -1;
+      for (int i = 0; i < mShardHeads.length; i++) {
+        if (mShardHeads[i] == null && !mShardDone[i]) {
+          mShardHeads[i] = readEntry(mShardStreams.get(i));
+          mShardDone[i] = mShardHeads[i] == null;
+        }
+        if (mShardHeads[i] != null && (next == -1
+            || mShardHeads[i].getSequenceNumber() < mShardHeads[next].getSequenceNumber())) {
+          next = i;
+        }
+      }
+      if (next == -1) {
+        if (!mFile.isIncompleteLog()) {
+          throw new InvalidJournalEntryException(
+              ExceptionMessage.JOURNAL_ENTRY_TRUNCATED_UNEXPECTEDLY, mNextSequenceNumber);
+        }
+        return null;
+      }
+      if (mFile.isIncompleteLog() && mShardHeads[next].getSequenceNumber() > mNextSequenceNumber) {
+        // The entries after a missing entry of the current segment were never flushed together
+        // with it, so they were not acknowledged.
+        return null;
+      }
+      Journal.JournalEntry entry = mShardHeads[next];
+      mShardHeads[next] = null;
+      return entry;
+    }
+
     @Override
     public void close() throws IOException {
-      mStream.close();
+      Closer closer = Closer.create();
+      if (mCheckpointReader != null) {
+        closer.register(mCheckpointReader);
+      }
+      if (mStream != null) {
+        closer.register(mStream);
+      }
+      for (InputStream stream : mShardStreams) {
+        closer.register(stream);
+      }
+      closer.close();
     }
   }
 
@@ -156,9 +264,13 @@ final class UfsJournalReader implements JournalReader {
     if (mInputStream == null) {
       return null;
     }
+    if (mInputStream.mStream == null) {
+      return mInputStream.readMerged();
+    }
 
-    int firstByte = mInputStream.mStream.read();
-    if (firstByte == -1) {
+    Journal.JournalEntry entry = mInputStream.mCheckpointReader != null
+        ? mInputStream.mCheckpointReader.read() : readEntry(mInputStream.mStream);
+    if (entry == null) {
       // If this is the checkpoint file, we need to reset the sequence number to update the stream
       // because the sequence number in the checkpoint entries is not in the same space as the
       // sequence number in the edit logs.
@@ -173,10 +285,27 @@ final class UfsJournalReader implements JournalReader {
       }
       return null;
     }
+    return entry;
+  }
+
+  /**
+   * Reads a journal entry from a stream of the current file.
+   *
+   * @param stream the stream
+   * @return the journal entry, null if the end of the stream is reached, or if the entry is
+   *         truncated in an incomplete log
+   * @throws InvalidJournalEntryException if the entry is truncated in a completed file
+   */
+  private Journal.JournalEntry readEntry(InputStream stream)
+      throws IOException, InvalidJournalEntryException {
+    int firstByte = stream.read();
+    if (firstByte == -1) {
+      return null;
+    }
     // All journal entries start with their size in bytes written as a varint.
     int size;
     try {
-      size = ProtoUtils.readRawVarint32(firstByte, mInputStream.mStream);
+      size = ProtoUtils.readRawVarint32(firstByte, stream);
     } catch (IOException e) {
       LOG.warn("Journal entry was truncated in the size portion.");
       if (mInputStream.mFile.isIncompleteLog() && ProtoUtils.isTruncatedMessageException(e)) {
@@ -189,8 +318,7 @@ final class UfsJournalReader implements JournalReader {
     int totalBytesRead = 0;
     while (totalBytesRead < size) {
       // Bytes read in last read request.
-      int latestBytesRead =
-          mInputStream.mStream.read(buffer, totalBytesRead, size - totalBytesRead);
+      int latestBytesRead = stream.read(buffer, totalBytesRead, size - totalBytesRead);
       if (latestBytesRead < 0) {
         break;
       }
@@ -206,9 +334,7 @@ final class UfsJournalReader implements JournalReader {
       return null;
     }
 
-    Journal.JournalEntry entry =
-        Journal.JournalEntry.parseFrom(new ByteArrayInputStream(buffer, 0, size));
-    return entry;
+    return Journal.JournalEntry.parseFrom(new ByteArrayInputStream(buffer, 0, size));
   }
 
   /**
@@ -230,11 +356,12 @@ final class UfsJournalReader implements JournalReader {
         return;
       }
 
+      List<List<UfsJournalFile>> logs = groupSegments(snapshot.getLogs());
       int index = 0;
       if (!snapshot.getCheckpoints().isEmpty()) {
         UfsJournalFile checkpoint = snapshot.getLatestCheckpoint();
         if (mNextSequenceNumber < checkpoint.getEnd()) {
-          mFilesToProcess.add(checkpoint);
+          mFilesToProcess.add(Collections.singletonList(checkpoint));
           // Reset the sequence number to 0 because it is not supported to read from checkpoint with
           // an offset. This can only happen in the following scenario:
           // 1. Read checkpoint to SN1, then optionally read completed logs to SN2 (>= SN1).
@@ -242,20 +369,19 @@ final class UfsJournalReader implements JournalReader {
           // 3. Resume reading from SN2.
           mNextSequenceNumber = 0;
         }
-        for (; index < snapshot.getLogs().size(); index++) {
-          UfsJournalFile file = snapshot.getLogs().get(index);
-          if (file.getEnd() > checkpoint.getEnd()) {
+        for (; index < logs.size(); index++) {
+          if (getEnd(logs.get(index)) > checkpoint.getEnd()) {
             break;
           }
         }
         // index now points to the first log with mEnd > checkpoint.mEnd.
       }
-      for (; index < snapshot.getLogs().size(); index++) {
-        UfsJournalFile file = snapshot.getLogs().get(index);
-        if ((!mPrimary && file.isIncompleteLog()) || mNextSequenceNumber >= file.getEnd()) {
+      for (; index < logs.size(); index++) {
+        List<UfsJournalFile> files = logs.get(index);
+        if ((!mPrimary && isIncomplete(files)) || mNextSequenceNumber >= getEnd(files)) {
           continue;
         }
-        mFilesToProcess.add(snapshot.getLogs().get(index));
+        mFilesToProcess.add(files);
       }
     }
 
@@ -263,4 +389,54 @@ final class UfsJournalReader implements JournalReader {
       mInputStream = new JournalInputStream(mFilesToProcess.poll());
     }
   }
+
+  /**
+   * Groups the log files of the shards of each segment together, keeping the order of the logs.
+   *
+   * @param logs the logs sorted by the end sequence number
+   * @return the logs, each being a list of one log file or of the log files of a segment
+   */
+  private static List<List<UfsJournalFile>> groupSegments(List<UfsJournalFile> logs) {
+    List<List<UfsJournalFile>> groups = new ArrayList<>();
+    Map<Long, List<UfsJournalFile>> segments = new HashMap<>();
+    for (UfsJournalFile log : logs) {
+      if (!log.isShardLog()) {
+        groups.add(Collections.singletonList(log));
+        continue;
+      }
+      List<UfsJournalFile> segment = segments.get(log.getStart());
+      if (segment == null) {
+        segment = new ArrayList<>();
+        segments.put(log.getStart(), segment);
+        groups.add(segment);
+      }
+      segment.add(log);
+    }
+    return groups;
+  }
+
+  /**
+   * @param files a log file or the log files of a segment
+   * @return the end sequence number, which is known once any log file of a segment is complete
+   */
+  private static long getEnd(List<UfsJournalFile> files) {
+    long end = UfsJournal.UNKNOWN_SEQUENCE_NUMBER;
+    for (UfsJournalFile file : files) {
+      end = Math.min(end, file.getEnd());
+    }
+    return end;
+  }
+
+  /**
+   * @param files a log file or the log files of a segment
+   * @return whether any of the files is incomplete
+   */
+  private static boolean isIncomplete(List<UfsJournalFile> files) {
+    for (UfsJournalFile file : files) {
+      if (file.isIncompleteLog()) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,528 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.ufs;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.RuntimeConstants;
+import alluxio.exception.ExceptionMessage;
+import alluxio.master.journal.JournalWriter;
+import alluxio.master.journal.options.JournalWriterOptions;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.CreateOptions;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Closer;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Implementation of {@link JournalWriter} that writes journal edit log entries by the primary
+ * master to several shard logs, which are written and flushed in parallel.
+ *
+ * The entries get consecutive sequence numbers as usual, and are partitioned among the shards by
+ * the inode they are about, or by sequence number if they are not about an inode. The logs of all
+ * the shards are rotated together, so that the logs with the same start sequence number make up a
+ * segment of the journal, and the reader merges the entries of a segment by sequence number.
+ *
+ * Each shard is flushed on its own, so entries can be written while shards are being flushed, and
+ * the flushes of different shards overlap. A flush returns once every shard has flushed its
+ * entries written before the flush, so that all the entries up to its last sequence number are
+ * durable. The flushes of a shard run one at a time on its own thread, and concurrent flushes
+ * waiting for the flush in flight are committed as a group by the next one.
+ *
+ * The entries are kept until all the entries up to their sequence numbers are flushed. If a flush
+ * fails, the segment is completed at the first entry which was not flushed, and the entries are
+ * written again to the next segment.
+ *
+ * When a new journal writer is created, it also marks the current logs complete if there are any.
+ */
+@ThreadSafe
+final class UfsJournalShardedLogWriter implements JournalWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsJournalShardedLogWriter.class);
+
+  private final UfsJournal mJournal;
+  private final UnderFileSystem mUfs;
+  private final int mShards;
+
+  /** The maximum size in bytes of a log file. */
+  private final long mMaxLogSize;
+  /**
+   * The executor of each shard to write and flush its log, so that a shard is flushed by one
+   * thread at a time without holding up the others.
+   */
+  private final ExecutorService[] mExecutors;
+  /** The state of each shard. */
+  private final Shard[] mShardStates;
+  /**
+   * Guards the streams of the current segment. The shard flushes share its read lock, and the
+   * segment is rotated with its write lock.
+   */
+  private final ReentrantReadWriteLock mSegmentLock = new ReentrantReadWriteLock();
+
+  /** The next sequence number to use. */
+  @GuardedBy("this")
+  private long mNextSequenceNumber;
+  /** The sequence number of the first entry which is not flushed. */
+  @GuardedBy("this")
+  private long mFlushedSequenceNumber;
+  /** When mRotateSegmentForNextWrite is set, mSegment must be completed before the next write. */
+  @GuardedBy("this")
+  private boolean mRotateSegmentForNextWrite;
+  /** The output streams to the shard logs of the current segment. */
+  @GuardedBy("mSegmentLock")
+  private ShardOutputStream[] mSegment;
+  /** The garbage collector. */
+  private UfsJournalGarbageCollector mGarbageCollector;
+  /** Whether the journal log writer is closed. */
+  @GuardedBy("this")
+  private boolean mClosed;
+
+  /**
+   * A simple wrapper that wraps an output stream to the log of a shard.
+   */
+  private static final class ShardOutputStream {
+    final UfsJournalFile mLog;
+    final DataOutputStream mOutputStream;
+
+    ShardOutputStream(UfsJournalFile log, DataOutputStream stream) {
+      mLog = log;
+      mOutputStream = stream;
+    }
+  }
+
+  /**
+   * The entries of a shard which are not flushed yet, and how far its log is flushed. The fields
+   * are guarded by the journal writer.
+   */
+  private static final class Shard {
+    /** The entries of the shard from the first entry which is not flushed, in order. */
+    final List<JournalEntry> mEntries = new ArrayList<>();
+    /** The number of the entries written to the current segment. */
+    int mWrittenEntries;
+    /** All the entries of the shard before this sequence number are flushed. */
+    long mFlushedSequenceNumber;
+    /** Whether writing to the log of the shard in the current segment failed. */
+    boolean mFailed;
+
+    /**
+     * @param flushedSequenceNumber the sequence number of the first entry which is not flushed
+     */
+    Shard(long flushedSequenceNumber) {
+      mFlushedSequenceNumber = flushedSequenceNumber;
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link UfsJournalShardedLogWriter}.
+   *
+   * @param journal the handle to the journal
+   * @param options the options to create the journal log writer
+   * @param shards the number of shards
+   */
+  UfsJournalShardedLogWriter(UfsJournal journal, JournalWriterOptions options, int shards)
+      throws IOException {
+    Preconditions.checkArgument(shards > 0, "shards=%s", shards);
+    mJournal = Preconditions.checkNotNull(journal);
+    mUfs = mJournal.getUfs();
+    mShards = shards;
+    mNextSequenceNumber = options.getNextSequenceNumber();
+    mFlushedSequenceNumber = mNextSequenceNumber;
+    mMaxLogSize = Configuration.getBytes(PropertyKey.MASTER_JOURNAL_LOG_SIZE_BYTES_MAX);
+    mShardStates = new Shard[shards];
+    for (int i = 0; i < shards; i++) {
+      mShardStates[i] = new Shard(mNextSequenceNumber);
+    }
+
+    completeLogs(mJournal, UfsJournalSnapshot.getIncompleteLogs(mJournal), mNextSequenceNumber);
+    mRotateSegmentForNextWrite = true;
+    mExecutors = new ExecutorService[shards];
+    for (int i = 0; i < shards; i++) {
+      mExecutors[i] = Executors.newSingleThreadExecutor(
+          ThreadFactoryUtils.build("UfsJournalShardedLogWriter-" + i, true));
+    }
+    mGarbageCollector = new UfsJournalGarbageCollector(mJournal);
+  }
+
+  @Override
+  public synchronized void write(JournalEntry entry) throws IOException {
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.JOURNAL_WRITE_AFTER_CLOSE.getMessage());
+    }
+    JournalEntry numbered = entry.toBuilder().setSequenceNumber(mNextSequenceNumber).build();
+    mShardStates[getShard(numbered)].mEntries.add(numbered);
+    mNextSequenceNumber++;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+    }
+    flushInternal();
+  }
+
+  /**
+   * Flushes the entries written so far, without holding the journal writer while the shard logs
+   * are written and flushed.
+   */
+  private void flushInternal() throws IOException {
+    long target;
+    synchronized (this) {
+      if (mFlushedSequenceNumber == mNextSequenceNumber) {
+        // There is nothing to flush.
+        return;
+      }
+      target = mNextSequenceNumber;
+    }
+    maybeRotateSegment();
+
+    List<Future<Void>> futures = new ArrayList<>();
+    synchronized (this) {
+      for (int i = 0; i < mShards; i++) {
+        Shard shard = mShardStates[i];
+        if (shard.mFlushedSequenceNumber >= target) {
+          continue;
+        }
+        if (!shard.mFailed && shard.mWrittenEntries == shard.mEntries.size()) {
+          // All the entries of the shard are written, and they are flushed when written.
+          shard.mFlushedSequenceNumber = target;
+          continue;
+        }
+        futures.add(mExecutors[i].submit(new ShardFlusher(i, target)));
+      }
+    }
+    ExecutionException failure = null;
+    for (Future<Void> future : futures) {
+      try {
+        Uninterruptibles.getUninterruptibly(future);
+      } catch (ExecutionException e) {
+        failure = e;
+      }
+    }
+    if (failure != null) {
+      synchronized (this) {
+        mRotateSegmentForNextWrite = true;
+      }
+      if (failure.getCause() instanceof IOException) {
+        throw (IOException) failure.getCause();
+      }
+      throw new IOException(failure.getCause());
+    }
+
+    synchronized (this) {
+      updateFlushedSequenceNumber();
+      if (!mUfs.supportsFlush()) {
+        // Underfs is S3 or OSS, flush only writes a local temporary file, so the logs are
+        // completed to sync the journal entries.
+        mRotateSegmentForNextWrite = true;
+      }
+    }
+  }
+
+  /**
+   * Updates the sequence number of the first entry which is not flushed to the smallest one of the
+   * shards, and drops the entries before it.
+   */
+  @GuardedBy("this")
+  private void updateFlushedSequenceNumber() {
+    long flushed = mNextSequenceNumber;
+    for (Shard shard : mShardStates) {
+      flushed = Math.min(flushed, shard.mFlushedSequenceNumber);
+    }
+    mFlushedSequenceNumber = flushed;
+    for (Shard shard : mShardStates) {
+      int count = 0;
+      while (count < shard.mEntries.size()
+          && shard.mEntries.get(count).getSequenceNumber() < flushed) {
+        count++;
+      }
+      shard.mEntries.subList(0, count).clear();
+      shard.mWrittenEntries -= count;
+    }
+  }
+
+  /**
+   * Completes the current segment and creates the shard logs of a new one, starting at the first
+   * entry which is not flushed. It waits for the shard flushes in flight, and the entries are
+   * written again to the new segment by the next shard flushes. The implementation must be
+   * idempotent so that it can work when retrying during failures.
+   */
+  private void maybeRotateSegment() throws IOException {
+    synchronized (this) {
+      if (!mRotateSegmentForNextWrite) {
+        // Avoids waiting for the shard flushes in flight.
+        return;
+      }
+    }
+    mSegmentLock.writeLock().lock();
+    try {
+      long start;
+      synchronized (this) {
+        if (!mRotateSegmentForNextWrite) {
+          return;
+        }
+        updateFlushedSequenceNumber();
+        start = mFlushedSequenceNumber;
+      }
+      if (mSegment != null) {
+        completeSegment(start);
+      }
+
+      ShardOutputStream[] segment = new ShardOutputStream[mShards];
+      for (int i = 0; i < mShards; i++) {
+        UfsJournalFile log = UfsJournalFile.createShardLogFile(
+            UfsJournalFile.encodeLogFileLocation(mJournal, start,
+                UfsJournal.UNKNOWN_SEQUENCE_NUMBER, i),
+            start, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, i);
+        segment[i] = new ShardOutputStream(log, new DataOutputStream(mUfs.create(
+            log.getLocation().toString(),
+            CreateOptions.defaults().setEnsureAtomic(false).setCreateParent(true))));
+      }
+      mSegment = segment;
+      LOG.info("Created {} shard logs starting at sequence number {}.", mShards, start);
+      synchronized (this) {
+        for (Shard shard : mShardStates) {
+          shard.mWrittenEntries = 0;
+          shard.mFlushedSequenceNumber = start;
+          shard.mFailed = false;
+        }
+        mRotateSegmentForNextWrite = false;
+      }
+    } finally {
+      mSegmentLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Closes the shard logs of the current segment, and marks them complete up to the first entry
+   * which is not flushed.
+   *
+   * @param end the sequence number of the first entry which is not flushed
+   */
+  @GuardedBy("mSegmentLock")
+  private void completeSegment(long end) throws IOException {
+    Closer closer = Closer.create();
+    List<UfsJournalFile> logs = new ArrayList<>();
+    for (ShardOutputStream stream : mSegment) {
+      if (stream != null) {
+        closer.register(stream.mOutputStream);
+        logs.add(stream.mLog);
+      }
+    }
+    closer.close();
+    completeLogs(mJournal, logs, end);
+    mSegment = null;
+  }
+
+  /**
+   * Marks incomplete logs complete. The implementation must be idempotent as this can fail and be
+   * retried.
+   *
+   * @param journal the journal
+   * @param logs the incomplete logs, which start at the same sequence number
+   * @param end the end sequence number (exclusive) of the logs
+   */
+  static void completeLogs(UfsJournal journal, List<UfsJournalFile> logs, long end)
+      throws IOException {
+    UnderFileSystem ufs = journal.getUfs();
+    for (UfsJournalFile log : logs) {
+      String src = log.getLocation().toString();
+      if (!ufs.exists(src)) {
+        // The log was completed before a failure.
+        continue;
+      }
+      if (end == log.getStart()) {
+        // Delete the log if the segment contains nothing.
+        ufs.deleteFile(src);
+        continue;
+      }
+      LOG.info("Marking {} as complete with log entries within [{}, {}).", src, log.getStart(),
+          end);
+      String dst =
+          UfsJournalFile.encodeLogFileLocation(journal, log.getStart(), end, log.getShard())
+              .toString();
+      if (ufs.exists(dst)) {
+        LOG.warn("Deleting duplicate completed log {}.", dst);
+        ufs.deleteFile(dst);
+      }
+      ufs.renameFile(src, dst);
+    }
+  }
+
+  /**
+   * @param entry a journal entry
+   * @return the shard of the entry, by inode id, or by sequence number if it is not about an inode
+   */
+  private int getShard(JournalEntry entry) {
+    long key;
+    if (entry.hasInodeFile()) {
+      key = entry.getInodeFile().getId();
+    } else if (entry.hasInodeDirectory()) {
+      key = entry.getInodeDirectory().getId();
+    } else if (entry.hasCompleteFile()) {
+      key = entry.getCompleteFile().getId();
+    } else if (entry.hasDeleteFile()) {
+      key = entry.getDeleteFile().getId();
+    } else if (entry.hasRename()) {
+      key = entry.getRename().getId();
+    } else if (entry.hasSetAttribute()) {
+      key = entry.getSetAttribute().getId();
+    } else if (entry.hasPersistDirectory()) {
+      key = entry.getPersistDirectory().getId();
+    } else if (entry.hasInodeLastModificationTime()) {
+      key = entry.getInodeLastModificationTime().getId();
+    } else if (entry.hasAsyncPersistRequest()) {
+      key = entry.getAsyncPersistRequest().getFileId();
+    } else {
+      key = entry.getSequenceNumber();
+    }
+    return Hashing.consistentHash(key, mShards);
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+    }
+    Closer closer = Closer.create();
+    closer.register(new Closeable() {
+      @Override
+      public void close() throws IOException {
+        for (ExecutorService executor : mExecutors) {
+          executor.shutdownNow();
+        }
+      }
+    });
+    closer.register(mGarbageCollector);
+    closer.register(new Closeable() {
+      @Override
+      public void close() throws IOException {
+        try {
+          flushInternal();
+        } finally {
+          mSegmentLock.writeLock().lock();
+          try {
+            if (mSegment != null) {
+              long end;
+              synchronized (UfsJournalShardedLogWriter.this) {
+                updateFlushedSequenceNumber();
+                end = mFlushedSequenceNumber;
+              }
+              completeSegment(end);
+            }
+          } finally {
+            mSegmentLock.writeLock().unlock();
+          }
+        }
+      }
+    });
+    closer.close();
+  }
+
+  @Override
+  public synchronized void cancel() throws IOException {
+    throw new UnsupportedOperationException("UfsJournalShardedLogWriter#cancel is not supported.");
+  }
+
+  /**
+   * Writes the entries of a shard which are not written yet, and flushes its log, unless the
+   * entries up to the target sequence number have been flushed by a concurrent flush.
+   */
+  private final class ShardFlusher implements Callable<Void> {
+    private final int mShard;
+    private final long mTarget;
+
+    /**
+     * @param shard the shard index
+     * @param target the sequence number up to which the entries of the shard must be flushed
+     */
+    ShardFlusher(int shard, long target) {
+      mShard = shard;
+      mTarget = target;
+    }
+
+    @Override
+    public Void call() throws IOException {
+      Shard shard = mShardStates[mShard];
+      mSegmentLock.readLock().lock();
+      try {
+        List<JournalEntry> entries;
+        long flushed;
+        ShardOutputStream stream;
+        synchronized (UfsJournalShardedLogWriter.this) {
+          if (shard.mFlushedSequenceNumber >= mTarget) {
+            return null;
+          }
+          if (shard.mFailed) {
+            throw new IOException(ExceptionMessage.JOURNAL_FLUSH_FAILURE.getMessageWithUrl(
+                RuntimeConstants.ALLUXIO_DEBUG_DOCS_URL, mSegment[mShard].mLog,
+                "a previous write failed"));
+          }
+          entries = new ArrayList<>(
+              shard.mEntries.subList(shard.mWrittenEntries, shard.mEntries.size()));
+          flushed = mNextSequenceNumber;
+          stream = mSegment[mShard];
+        }
+        try {
+          for (JournalEntry entry : entries) {
+            entry.writeDelimitedTo(stream.mOutputStream);
+          }
+          stream.mOutputStream.flush();
+        } catch (IOException e) {
+          synchronized (UfsJournalShardedLogWriter.this) {
+            shard.mFailed = true;
+            mRotateSegmentForNextWrite = true;
+          }
+          throw new IOException(ExceptionMessage.JOURNAL_FLUSH_FAILURE.getMessageWithUrl(
+              RuntimeConstants.ALLUXIO_DEBUG_DOCS_URL, stream.mLog, e.getMessage()), e);
+        }
+        long size = stream.mOutputStream.size();
+        synchronized (UfsJournalShardedLogWriter.this) {
+          shard.mWrittenEntries += entries.size();
+          shard.mFlushedSequenceNumber = flushed;
+          if (size >= mMaxLogSize && !mRotateSegmentForNextWrite) {
+            LOG.info("Rotating shard logs. size: {} maxSize: {}", size, mMaxLogSize);
+            mRotateSegmentForNextWrite = true;
+          }
+        }
+        return null;
+      } finally {
+        mSegmentLock.readLock().unlock();
+      }
+    }
+  }
+}
@@ -144,6 +144,26 @@ final class UfsJournalSnapshot {
     return null;
   }
 
+  /**
+   * Gets the incomplete logs, which are the current log, or the current logs of the shards of a
+   * sharded journal.
+   *
+   * @return the incomplete logs
+   */
+  static List<UfsJournalFile> getIncompleteLogs(UfsJournal journal) throws IOException {
+    List<UfsJournalFile> logs = new ArrayList<>();
+    UfsStatus[] statuses = journal.getUfs().listStatus(journal.getLogDir().toString());
+    if (statuses != null) {
+      for (UfsStatus status : statuses) {
+        UfsJournalFile file = UfsJournalFile.decodeLogFile(journal, status.getName());
+        if (file != null && file.isIncompleteLog()) {
+          logs.add(file);
+        }
+      }
+    }
+    return logs;
+  }
+
   /**
    * Gets the first journal log sequence number that is not yet checkpointed.
    *
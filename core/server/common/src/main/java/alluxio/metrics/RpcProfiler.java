@@ -0,0 +1,323 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.wire.SlowRpcInfo;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Records the latency of every RPC served by the master and the workers.
+ *
+ * For each RPC method, a timer named "Rpc.{handler}.{method}" records the latency distribution
+ * of its calls, and the timers "Rpc.{handler}.{method}.{phase}" record the time spent in each
+ * {@link RpcTrace.Phase} by the calls which entered that phase.
+ *
+ * The RPCs which take longer than {@link PropertyKey#NETWORK_RPC_SLOW_LOG_THRESHOLD_MS} are kept
+ * in a bounded log of the most recent slow RPCs, which is exposed through the REST API and JMX.
+ */
+@ThreadSafe
+public final class RpcProfiler {
+  private static final Logger LOG = LoggerFactory.getLogger(RpcProfiler.class);
+
+  /** The prefix of the names of the RPC metrics. */
+  private static final String METRIC_PREFIX = "Rpc.";
+  /** The name of the MBean exposing the slow RPCs. */
+  private static final String MBEAN_NAME = "alluxio:type=RpcProfiler";
+
+  /** The metrics of the RPC methods, keyed by the class of the callable implementing them. */
+  private static final ConcurrentMap<Class<?>, MethodMetrics> CALLABLE_METRICS =
+      new ConcurrentHashMap<>();
+  /** The metrics of the RPC methods, keyed by instance and name. */
+  private static final ConcurrentMap<String, MethodMetrics> METRICS = new ConcurrentHashMap<>();
+  private static final SlowRpcLog SLOW_RPCS =
+      new SlowRpcLog(Configuration.getInt(PropertyKey.NETWORK_RPC_SLOW_LOG_SIZE));
+
+  private static volatile long sSlowThresholdNanos = TimeUnit.MILLISECONDS
+      .toNanos(Configuration.getMs(PropertyKey.NETWORK_RPC_SLOW_LOG_THRESHOLD_MS));
+
+  @GuardedBy("RpcProfiler.class")
+  private static boolean sMBeanRegistered;
+
+  /**
+   * Exposes the slow RPCs through JMX. This is a noop if they are already exposed.
+   */
+  public static synchronized void registerMBean() {
+    if (sMBeanRegistered) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(new SlowRpcLogBean(), new ObjectName(MBEAN_NAME));
+      sMBeanRegistered = true;
+    } catch (JMException e) {
+      LOG.warn("Failed to register {}: {}", MBEAN_NAME, e.getMessage());
+    }
+  }
+
+  /**
+   * Records a completed RPC, which was implemented by the given callable. The RPC method is named
+   * after the class and the method in which the callable class is declared.
+   *
+   * @param callable the callable implementing the RPC, its toString is used to describe slow RPCs
+   * @param trace the stopped trace of the RPC
+   * @param failed whether the RPC failed
+   */
+  public static void record(Object callable, RpcTrace trace, boolean failed) {
+    MethodMetrics metrics = getMetrics(callable.getClass());
+    long durationNanos = trace.getDurationNanos();
+    metrics.mLatency.update(durationNanos, TimeUnit.NANOSECONDS);
+    for (RpcTrace.Phase phase : RpcTrace.Phase.values()) {
+      long phaseNanos = trace.getPhaseNanos(phase);
+      if (phaseNanos > 0) {
+        metrics.getPhaseTimer(phase).update(phaseNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    if (durationNanos >= sSlowThresholdNanos) {
+      Map<String, Long> phaseDurationsMs = new HashMap<>();
+      for (RpcTrace.Phase phase : RpcTrace.Phase.values()) {
+        phaseDurationsMs.put(phase.getName(),
+            TimeUnit.NANOSECONDS.toMillis(trace.getPhaseNanos(phase)));
+      }
+      SLOW_RPCS.add(new SlowRpcInfo().setName(metrics.mName)
+          .setDescription(String.valueOf(callable)).setStartTimeMs(trace.getStartTimeMs())
+          .setDurationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos)).setFailed(failed)
+          .setPhaseDurationsMs(phaseDurationsMs));
+    }
+  }
+
+  /**
+   * Records a completed RPC which is not served by a single thread, such as a data transfer
+   * request served by the netty data server.
+   *
+   * @param instance the instance serving the RPC, {@link MetricsSystem#MASTER_INSTANCE} or
+   *        {@link MetricsSystem#WORKER_INSTANCE}
+   * @param name the name of the RPC method
+   * @param startTimeMs the time in milliseconds when the RPC started
+   * @param durationNanos the duration of the RPC in nanoseconds
+   * @param failed whether the RPC failed
+   * @param description the description of the RPC, its toString is only called for slow RPCs
+   */
+  public static void record(String instance, String name, long startTimeMs, long durationNanos,
+      boolean failed, Object description) {
+    MethodMetrics metrics = getMetrics(instance, name);
+    metrics.mLatency.update(durationNanos, TimeUnit.NANOSECONDS);
+    if (durationNanos >= sSlowThresholdNanos) {
+      SLOW_RPCS.add(new SlowRpcInfo().setName(name).setDescription(String.valueOf(description))
+          .setStartTimeMs(startTimeMs).setDurationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+          .setFailed(failed));
+    }
+  }
+
+  /**
+   * @return the most recent slow RPCs, oldest first
+   */
+  public static List<SlowRpcInfo> getSlowRpcs() {
+    return SLOW_RPCS.list();
+  }
+
+  /**
+   * Sets the slow RPC threshold and clears the slow RPC log.
+   *
+   * @param thresholdMs the threshold in milliseconds
+   */
+  @VisibleForTesting
+  public static void resetSlowRpcs(long thresholdMs) {
+    sSlowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    SLOW_RPCS.clear();
+  }
+
+  /**
+   * @param callableClass the class of a callable implementing an RPC
+   * @return the name of the RPC method, e.g. "FileSystemMasterClientServiceHandler.getStatus"
+   */
+  @VisibleForTesting
+  static String getName(Class<?> callableClass) {
+    Class<?> enclosingClass = callableClass.getEnclosingClass();
+    Method enclosingMethod = callableClass.getEnclosingMethod();
+    if (enclosingClass == null || enclosingMethod == null) {
+      return callableClass.getName();
+    }
+    return enclosingClass.getSimpleName() + "." + enclosingMethod.getName();
+  }
+
+  /**
+   * @param callableClass the class of a callable implementing an RPC
+   * @return the metrics of the RPC method
+   */
+  private static MethodMetrics getMetrics(Class<?> callableClass) {
+    MethodMetrics metrics = CALLABLE_METRICS.get(callableClass);
+    if (metrics == null) {
+      String instance = callableClass.getName().startsWith("alluxio.worker.")
+          ? MetricsSystem.WORKER_INSTANCE : MetricsSystem.MASTER_INSTANCE;
+      metrics = getMetrics(instance, getName(callableClass));
+      CALLABLE_METRICS.putIfAbsent(callableClass, metrics);
+    }
+    return metrics;
+  }
+
+  /**
+   * @param instance the instance serving the RPC
+   * @param name the name of an RPC method
+   * @return the metrics of the RPC method
+   */
+  private static MethodMetrics getMetrics(String instance, String name) {
+    String key = instance + "." + name;
+    MethodMetrics metrics = METRICS.get(key);
+    if (metrics == null) {
+      String metricName = instance.equals(MetricsSystem.WORKER_INSTANCE)
+          ? MetricsSystem.getWorkerMetricName(METRIC_PREFIX + name)
+          : MetricsSystem.getMasterMetricName(METRIC_PREFIX + name);
+      metrics = new MethodMetrics(name, metricName);
+      MethodMetrics existing = METRICS.putIfAbsent(key, metrics);
+      if (existing != null) {
+        metrics = existing;
+      }
+    }
+    return metrics;
+  }
+
+  /**
+   * The metrics of an RPC method.
+   */
+  private static final class MethodMetrics {
+    private final String mName;
+    private final String mMetricName;
+    private final Timer mLatency;
+    /** The phase timers, created when a call first enters the phase. */
+    private final AtomicReferenceArray<Timer> mPhaseTimers =
+        new AtomicReferenceArray<>(RpcTrace.Phase.values().length);
+
+    /**
+     * @param name the name of the RPC method
+     * @param metricName the name of the latency metric of the RPC method
+     */
+    MethodMetrics(String name, String metricName) {
+      mName = name;
+      mMetricName = metricName;
+      mLatency = MetricsSystem.METRIC_REGISTRY.timer(mMetricName);
+    }
+
+    /**
+     * @param phase the phase
+     * @return the timer of the phase
+     */
+    Timer getPhaseTimer(RpcTrace.Phase phase) {
+      Timer timer = mPhaseTimers.get(phase.ordinal());
+      if (timer == null) {
+        timer = MetricsSystem.METRIC_REGISTRY.timer(mMetricName + "." + phase.getName());
+        mPhaseTimers.set(phase.ordinal(), timer);
+      }
+      return timer;
+    }
+  }
+
+  /**
+   * A bounded log of the most recent slow RPCs.
+   */
+  private static final class SlowRpcLog {
+    @GuardedBy("this")
+    private final SlowRpcInfo[] mEntries;
+    /** The index of the next entry to write. */
+    @GuardedBy("this")
+    private int mNext;
+    @GuardedBy("this")
+    private int mSize;
+
+    /**
+     * @param capacity the maximum number of slow RPCs to keep
+     */
+    SlowRpcLog(int capacity) {
+      mEntries = new SlowRpcInfo[Math.max(capacity, 1)];
+    }
+
+    synchronized void add(SlowRpcInfo info) {
+      mEntries[mNext] = info;
+      mNext = (mNext + 1) % mEntries.length;
+      mSize = Math.min(mSize + 1, mEntries.length);
+    }
+
+    synchronized List<SlowRpcInfo> list() {
+      List<SlowRpcInfo> result = new ArrayList<>(mSize);
+      for (int i = mSize; i > 0; i--) {
+        result.add(mEntries[(mNext - i + mEntries.length) % mEntries.length]);
+      }
+      return result;
+    }
+
+    synchronized void clear() {
+      for (int i = 0; i < mEntries.length; i++) {
+        mEntries[i] = null;
+      }
+      mNext = 0;
+      mSize = 0;
+    }
+  }
+
+  /**
+   * The JMX interface exposing the slow RPCs.
+   */
+  public interface SlowRpcLogMXBean {
+    /**
+     * @return the most recent slow RPCs, oldest first
+     */
+    List<SlowRpcInfo> getSlowRpcs();
+
+    /**
+     * @return the slow RPC threshold in milliseconds
+     */
+    long getSlowRpcThresholdMs();
+  }
+
+  /**
+   * The implementation of {@link SlowRpcLogMXBean}.
+   */
+  private static final class SlowRpcLogBean implements SlowRpcLogMXBean {
+    /**
+     * Creates a new instance of {@link SlowRpcLogBean}.
+     */
+    SlowRpcLogBean() {}
+
+    @Override
+    public List<SlowRpcInfo> getSlowRpcs() {
+      return RpcProfiler.getSlowRpcs();
+    }
+
+    @Override
+    public long getSlowRpcThresholdMs() {
+      return TimeUnit.NANOSECONDS.toMillis(sSlowThresholdNanos);
+    }
+  }
+
+  private RpcProfiler() {} // prevent instantiation
+}
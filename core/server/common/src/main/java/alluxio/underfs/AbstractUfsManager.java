@@ -16,6 +16,7 @@ import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
+import alluxio.metrics.MetricsSystem;
 import alluxio.thrift.UfsInfo;
 import alluxio.util.IdUtils;
 
@@ -31,7 +32,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Basic implementation of {@link UfsManager}.
+ * Basic implementation of {@link UfsManager}. The operations on the UFS of each mount are governed
+ * by a {@link UfsGovernor} of the mount.
  */
 public abstract class AbstractUfsManager implements UfsManager {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractUfsManager.class);
@@ -142,11 +144,28 @@ public abstract class AbstractUfsManager implements UfsManager {
     mMountIdToUfsInfoMap.put(mountId, new UfsInfo(new Supplier<UnderFileSystem>() {
       @Override
       public UnderFileSystem get() {
-        return getOrAdd(ufsUri, ufsConf);
+        return wrap(new GovernedUnderFileSystem(getOrAdd(ufsUri, ufsConf), new UfsGovernor(
+            ufsConf, getMetricName("Ufs." + MetricsSystem.escape(ufsUri)))));
       }
     }, ufsUri));
   }
 
+  /**
+   * Wraps the UFS of a mount before it is used. The default implementation returns it as is.
+   *
+   * @param ufs the UFS of a mount
+   * @return the UFS to use for the mount
+   */
+  protected UnderFileSystem wrap(UnderFileSystem ufs) {
+    return ufs;
+  }
+
+  /**
+   * @param name the name of a metric of the UFS operations of this process
+   * @return the name of the metric in the metrics registry
+   */
+  protected abstract String getMetricName(String name);
+
   @Override
   public void removeMount(long mountId) {
     Preconditions.checkArgument(mountId != IdUtils.INVALID_MOUNT_ID, "mountId");
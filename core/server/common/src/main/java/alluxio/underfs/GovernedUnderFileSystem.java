@@ -0,0 +1,458 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.AlluxioURI;
+import alluxio.underfs.UfsGovernor.OperationType;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
+import alluxio.underfs.options.CreateOptions;
+import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.FileLocationOptions;
+import alluxio.underfs.options.ListOptions;
+import alluxio.underfs.options.MkdirsOptions;
+import alluxio.underfs.options.OpenOptions;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link UnderFileSystem} which runs the operations on another one within the budgets of a
+ * {@link UfsGovernor}. The under file system of a mount may be shared by other mounts, each
+ * wrapping it with its own governor.
+ * <p>
+ * Only the calls are governed: the streams returned by {@link #open} and {@link #create} are not
+ * counted against the concurrency of the mount while they are open.
+ */
+@ThreadSafe
+public final class GovernedUnderFileSystem implements UnderFileSystem {
+  private final UnderFileSystem mUfs;
+  private final UfsGovernor mGovernor;
+
+  /**
+   * Creates a new instance of {@link GovernedUnderFileSystem}.
+   *
+   * @param ufs the under file system to run the operations on
+   * @param governor the governor of the operations
+   */
+  public GovernedUnderFileSystem(UnderFileSystem ufs, UfsGovernor governor) {
+    mUfs = Preconditions.checkNotNull(ufs, "ufs");
+    mGovernor = Preconditions.checkNotNull(governor, "governor");
+  }
+
+  @Override
+  public void close() throws IOException {
+    mUfs.close();
+  }
+
+  @Override
+  public void connectFromMaster(String hostname) throws IOException {
+    mUfs.connectFromMaster(hostname);
+  }
+
+  @Override
+  public void connectFromWorker(String hostname) throws IOException {
+    mUfs.connectFromWorker(hostname);
+  }
+
+  @Override
+  public OutputStream create(final String path) throws IOException {
+    return mGovernor.call(OperationType.WRITE, new UfsCallable<OutputStream>() {
+      @Override
+      public OutputStream call() throws IOException {
+        return mUfs.create(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Create: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public OutputStream create(final String path, final CreateOptions options) throws IOException {
+    return mGovernor.call(OperationType.WRITE, new UfsCallable<OutputStream>() {
+      @Override
+      public OutputStream call() throws IOException {
+        return mUfs.create(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Create: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public boolean deleteDirectory(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.deleteDirectory(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("DeleteDirectory: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public boolean deleteDirectory(final String path, final DeleteOptions options)
+      throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.deleteDirectory(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("DeleteDirectory: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public boolean deleteFile(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.deleteFile(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("DeleteFile: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public boolean exists(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.exists(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Exists: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public long getBlockSizeByte(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Long>() {
+      @Override
+      public Long call() throws IOException {
+        return mUfs.getBlockSizeByte(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetBlockSizeByte: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public UfsDirectoryStatus getDirectoryStatus(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<UfsDirectoryStatus>() {
+      @Override
+      public UfsDirectoryStatus call() throws IOException {
+        return mUfs.getDirectoryStatus(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetDirectoryStatus: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public List<String> getFileLocations(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<List<String>>() {
+      @Override
+      public List<String> call() throws IOException {
+        return mUfs.getFileLocations(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetFileLocations: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public List<String> getFileLocations(final String path, final FileLocationOptions options)
+      throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<List<String>>() {
+      @Override
+      public List<String> call() throws IOException {
+        return mUfs.getFileLocations(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetFileLocations: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public UfsFileStatus getFileStatus(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<UfsFileStatus>() {
+      @Override
+      public UfsFileStatus call() throws IOException {
+        return mUfs.getFileStatus(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetFileStatus: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public long getSpace(final String path, final SpaceType type) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Long>() {
+      @Override
+      public Long call() throws IOException {
+        return mUfs.getSpace(path, type);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetSpace: path=%s, type=%s", path, type);
+      }
+    });
+  }
+
+  @Override
+  public String getUnderFSType() {
+    return mUfs.getUnderFSType();
+  }
+
+  @Override
+  public boolean isDirectory(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.isDirectory(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("IsDirectory: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public boolean isFile(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.isFile(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("IsFile: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public UfsStatus[] listStatus(final String path) throws IOException {
+    return mGovernor.call(OperationType.LIST, new UfsCallable<UfsStatus[]>() {
+      @Override
+      public UfsStatus[] call() throws IOException {
+        return mUfs.listStatus(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("ListStatus: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public UfsStatus[] listStatus(final String path, final ListOptions options) throws IOException {
+    return mGovernor.call(OperationType.LIST, new UfsCallable<UfsStatus[]>() {
+      @Override
+      public UfsStatus[] call() throws IOException {
+        return mUfs.listStatus(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("ListStatus: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public boolean mkdirs(final String path) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.mkdirs(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Mkdirs: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public boolean mkdirs(final String path, final MkdirsOptions options) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.mkdirs(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Mkdirs: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public InputStream open(final String path) throws IOException {
+    return mGovernor.call(OperationType.READ, new UfsCallable<InputStream>() {
+      @Override
+      public InputStream call() throws IOException {
+        return mUfs.open(path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Open: path=%s", path);
+      }
+    });
+  }
+
+  @Override
+  public InputStream open(final String path, final OpenOptions options) throws IOException {
+    return mGovernor.call(OperationType.READ, new UfsCallable<InputStream>() {
+      @Override
+      public InputStream call() throws IOException {
+        return mUfs.open(path, options);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Open: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public boolean renameDirectory(final String src, final String dst) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.renameDirectory(src, dst);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("RenameDirectory: src=%s, dst=%s", src, dst);
+      }
+    });
+  }
+
+  @Override
+  public boolean renameFile(final String src, final String dst) throws IOException {
+    return mGovernor.call(OperationType.METADATA, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.renameFile(src, dst);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("RenameFile: src=%s, dst=%s", src, dst);
+      }
+    });
+  }
+
+  @Override
+  public AlluxioURI resolveUri(AlluxioURI ufsBaseUri, String alluxioPath) {
+    return mUfs.resolveUri(ufsBaseUri, alluxioPath);
+  }
+
+  @Override
+  public void setMode(final String path, final short mode) throws IOException {
+    mGovernor.call(OperationType.METADATA, new UfsCallable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        mUfs.setMode(path, mode);
+        return null;
+      }
+
+      @Override
+      public String toString() {
+        return String.format("SetMode: path=%s, mode=%s", path, mode);
+      }
+    });
+  }
+
+  @Override
+  public void setOwner(final String path, final String owner, final String group)
+      throws IOException {
+    mGovernor.call(OperationType.METADATA, new UfsCallable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        mUfs.setOwner(path, owner, group);
+        return null;
+      }
+
+      @Override
+      public String toString() {
+        return String.format("SetOwner: path=%s, owner=%s, group=%s", path, owner, group);
+      }
+    });
+  }
+
+  @Override
+  public boolean supportsFlush() {
+    return mUfs.supportsFlush();
+  }
+
+  /**
+   * @return the governed under file system
+   */
+  public UnderFileSystem getUnderFileSystem() {
+    return mUfs;
+  }
+}
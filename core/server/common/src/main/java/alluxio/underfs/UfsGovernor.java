@@ -0,0 +1,292 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
+import alluxio.util.FormatUtils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Governs the operations on the under file system of a mount, so that metadata syncs, asynchronous
+ * persistence and cold reads can not flood an under storage with requests. Each kind of operations
+ * has its own budget:
+ * <ul>
+ *   <li>a limit of concurrent operations, of which background operations (see
+ *   {@link UfsPriority}) may only use a part;</li>
+ *   <li>a limit of operations per second;</li>
+ *   <li>an adaptive backoff which pauses the operations when the under storage throttles them,
+ *   doubling on each throttling and halving on each success.</li>
+ * </ul>
+ * The latency of the operations, and the time they wait for their budget, are reported by
+ * {@link MetricsSystem}.
+ */
+@ThreadSafe
+public final class UfsGovernor {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsGovernor.class);
+
+  /** Fragments of the messages of the errors of under storages throttling requests. */
+  private static final String[] THROTTLING_MESSAGES = {"SlowDown", "Slow Down", "Throttl",
+      "TooManyRequests", "Too Many Requests", "RequestLimitExceeded", "Rate exceeded",
+      "Status Code: 503", "503 Service Unavailable"};
+
+  /**
+   * The kinds of operations on an under file system.
+   */
+  public enum OperationType {
+    /** Opening files for reading. */
+    READ("Read", PropertyKey.UNDERFS_READ_CONCURRENCY, PropertyKey.UNDERFS_READ_RATE),
+    /** Creating files. */
+    WRITE("Write", PropertyKey.UNDERFS_WRITE_CONCURRENCY, PropertyKey.UNDERFS_WRITE_RATE),
+    /** Listing directories. */
+    LIST("List", PropertyKey.UNDERFS_LIST_CONCURRENCY, PropertyKey.UNDERFS_LIST_RATE),
+    /** Getting the status of, creating directories at, renaming and deleting paths. */
+    METADATA("Metadata", PropertyKey.UNDERFS_METADATA_CONCURRENCY,
+        PropertyKey.UNDERFS_METADATA_RATE),
+    ;
+
+    private final String mMetricName;
+    private final PropertyKey mConcurrencyKey;
+    private final PropertyKey mRateKey;
+
+    OperationType(String metricName, PropertyKey concurrencyKey, PropertyKey rateKey) {
+      mMetricName = metricName;
+      mConcurrencyKey = concurrencyKey;
+      mRateKey = rateKey;
+    }
+  }
+
+  private final Map<OperationType, Budget> mBudgets = new EnumMap<>(OperationType.class);
+  private final long mInitialBackoffMs;
+  private final long mMaxBackoffMs;
+
+  /**
+   * Creates a new instance of {@link UfsGovernor}. The budgets are read from the configuration of
+   * the mount, which falls back to the global configuration.
+   *
+   * @param ufsConf the configuration of the mount
+   * @param metricName the prefix of the names of the metrics of the mount
+   */
+  public UfsGovernor(UnderFileSystemConfiguration ufsConf, String metricName) {
+    mInitialBackoffMs = FormatUtils.parseTimeSize(
+        ufsConf.getValue(PropertyKey.UNDERFS_THROTTLE_BACKOFF_INITIAL_MS));
+    mMaxBackoffMs = FormatUtils.parseTimeSize(
+        ufsConf.getValue(PropertyKey.UNDERFS_THROTTLE_BACKOFF_MAX_MS));
+    Preconditions.checkArgument(mInitialBackoffMs > 0 && mInitialBackoffMs <= mMaxBackoffMs,
+        "Invalid throttle backoff %s..%s ms", mInitialBackoffMs, mMaxBackoffMs);
+    double backgroundRatio = Double.parseDouble(
+        ufsConf.getValue(PropertyKey.UNDERFS_BACKGROUND_CONCURRENCY_RATIO));
+    Preconditions.checkArgument(backgroundRatio >= 0 && backgroundRatio <= 1,
+        "Invalid background concurrency ratio %s", backgroundRatio);
+    for (OperationType type : OperationType.values()) {
+      mBudgets.put(type, new Budget(Integer.parseInt(ufsConf.getValue(type.mConcurrencyKey)),
+          backgroundRatio, Double.parseDouble(ufsConf.getValue(type.mRateKey)),
+          metricName + "." + type.mMetricName));
+    }
+  }
+
+  /**
+   * Runs an operation within its budget, waiting for the budget if needed.
+   *
+   * @param type the kind of the operation
+   * @param callable the operation
+   * @param <T> the type of the result
+   * @return the result of the operation
+   */
+  public <T> T call(OperationType type, UfsCallable<T> callable) throws IOException {
+    Budget budget = mBudgets.get(type);
+    UfsPriority priority = UfsPriority.get();
+    long startNanos = System.nanoTime();
+    try {
+      budget.acquire(priority);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          String.format("Interrupted while waiting for the budget of %s", callable));
+    }
+    long callNanos = System.nanoTime();
+    budget.mWait.update(callNanos - startNanos, TimeUnit.NANOSECONDS);
+    try {
+      T result = callable.call();
+      budget.onSuccess();
+      return result;
+    } catch (IOException | RuntimeException e) {
+      if (isThrottlingError(e)) {
+        budget.onThrottled(callable);
+      }
+      throw e;
+    } finally {
+      budget.release(priority);
+      budget.mLatency.update(System.nanoTime() - callNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * @param type a kind of operations
+   * @return the current backoff of the operations in milliseconds, or 0 if they are not throttled
+   */
+  long getBackoffMs(OperationType type) {
+    return mBudgets.get(type).getBackoffMs();
+  }
+
+  /**
+   * @param error an error of an operation on an under file system
+   * @return whether the error, or one of its causes, tells that the under storage is throttling
+   *         requests
+   */
+  static boolean isThrottlingError(Throwable error) {
+    for (Throwable t = error; t != null; t = t.getCause()) {
+      String message = t.getMessage();
+      if (message == null) {
+        continue;
+      }
+      for (String throttlingMessage : THROTTLING_MESSAGES) {
+        if (message.contains(throttlingMessage)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The budget of a kind of operations.
+   */
+  private final class Budget {
+    /** The permits of all the operations, or null if their concurrency is not limited. */
+    private final Semaphore mPermits;
+    /** The permits of the background operations, or null if the concurrency is not limited. */
+    private final Semaphore mBackgroundPermits;
+    /** The rate limiter of the operations, or null if their rate is not limited. */
+    private final RateLimiter mRateLimiter;
+    private final Timer mLatency;
+    private final Timer mWait;
+    private final Counter mThrottled;
+
+    /**
+     * The current backoff in milliseconds, or 0 if the operations are not throttled. It is only
+     * updated while holding the lock of the budget.
+     */
+    private volatile long mBackoffMs;
+    /** The time to resume the operations after a throttling, by {@link System#nanoTime()}. */
+    @GuardedBy("this")
+    private long mResumeNanos;
+
+    Budget(int concurrency, double backgroundRatio, double rate, String metricName) {
+      Preconditions.checkArgument(concurrency >= 0, "Invalid concurrency %s for %s", concurrency,
+          metricName);
+      Preconditions.checkArgument(rate >= 0, "Invalid rate %s for %s", rate, metricName);
+      if (concurrency > 0) {
+        mPermits = new Semaphore(concurrency, true);
+        // At least one background operation is let through, so that they can not starve.
+        mBackgroundPermits =
+            new Semaphore(Math.max(1, (int) (concurrency * backgroundRatio)), true);
+      } else {
+        mPermits = null;
+        mBackgroundPermits = null;
+      }
+      mRateLimiter = rate > 0 ? RateLimiter.create(rate) : null;
+      mLatency = MetricsSystem.METRIC_REGISTRY.timer(metricName + ".Latency");
+      mWait = MetricsSystem.METRIC_REGISTRY.timer(metricName + ".Wait");
+      mThrottled = MetricsSystem.METRIC_REGISTRY.counter(metricName + ".Throttled");
+    }
+
+    void acquire(UfsPriority priority) throws InterruptedException {
+      waitForBackoff();
+      if (mRateLimiter != null) {
+        mRateLimiter.acquire();
+      }
+      if (mPermits == null) {
+        return;
+      }
+      if (priority == UfsPriority.BACKGROUND) {
+        mBackgroundPermits.acquire();
+      }
+      try {
+        mPermits.acquire();
+      } catch (InterruptedException e) {
+        if (priority == UfsPriority.BACKGROUND) {
+          mBackgroundPermits.release();
+        }
+        throw e;
+      }
+    }
+
+    void release(UfsPriority priority) {
+      if (mPermits == null) {
+        return;
+      }
+      mPermits.release();
+      if (priority == UfsPriority.BACKGROUND) {
+        mBackgroundPermits.release();
+      }
+    }
+
+    private void waitForBackoff() throws InterruptedException {
+      while (mBackoffMs > 0) {
+        long remainingNanos;
+        synchronized (this) {
+          remainingNanos = mResumeNanos - System.nanoTime();
+        }
+        if (remainingNanos <= 0) {
+          return;
+        }
+        TimeUnit.NANOSECONDS.sleep(remainingNanos);
+      }
+    }
+
+    void onSuccess() {
+      if (mBackoffMs == 0) {
+        return;
+      }
+      synchronized (this) {
+        mBackoffMs /= 2;
+        if (mBackoffMs < mInitialBackoffMs) {
+          mBackoffMs = 0;
+        }
+      }
+    }
+
+    void onThrottled(Object operation) {
+      mThrottled.inc();
+      long backoffMs;
+      synchronized (this) {
+        backoffMs = mBackoffMs == 0 ? mInitialBackoffMs : Math.min(mMaxBackoffMs, mBackoffMs * 2);
+        mBackoffMs = backoffMs;
+        mResumeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+      }
+      LOG.warn("Under storage throttled {}, pausing the operations of the same kind for {} ms",
+          operation, backoffMs);
+    }
+
+    long getBackoffMs() {
+      return mBackoffMs;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.heartbeat.HeartbeatExecutor;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The priority of the under file system operations issued by the current thread. Background
+ * operations, like asynchronous persistence and the periodic checks of the masters and workers, may
+ * only use a part of the concurrency of each mount (see {@link UfsGovernor}), so that they can not
+ * crowd out the operations serving clients.
+ */
+@ThreadSafe
+public enum UfsPriority {
+  /** Operations on behalf of clients, the default. */
+  FOREGROUND,
+  /** Operations which no client waits for. */
+  BACKGROUND,
+  ;
+
+  /** The priority of the current thread, or null for the default. */
+  private static ThreadLocal<UfsPriority> sPriorityThreadLocal = new ThreadLocal<>();
+
+  /**
+   * @return the priority of the under file system operations of the current thread
+   */
+  public static UfsPriority get() {
+    UfsPriority priority = sPriorityThreadLocal.get();
+    return priority == null ? FOREGROUND : priority;
+  }
+
+  /**
+   * Sets the priority of the under file system operations of the current thread.
+   *
+   * @param priority the priority
+   * @return the previous priority, to be restored when done
+   */
+  public static UfsPriority set(UfsPriority priority) {
+    Preconditions.checkNotNull(priority, "priority");
+    UfsPriority previous = get();
+    if (priority == FOREGROUND) {
+      sPriorityThreadLocal.remove();
+    } else {
+      sPriorityThreadLocal.set(priority);
+    }
+    return previous;
+  }
+
+  /**
+   * @param executor a heartbeat executor
+   * @return a heartbeat executor running the heartbeats of the given one with the background
+   *         priority
+   */
+  public static HeartbeatExecutor background(final HeartbeatExecutor executor) {
+    return new HeartbeatExecutor() {
+      @Override
+      public void heartbeat() throws InterruptedException {
+        UfsPriority previous = set(BACKGROUND);
+        try {
+          executor.heartbeat();
+        } finally {
+          set(previous);
+        }
+      }
+
+      @Override
+      public void close() {
+        executor.close();
+      }
+    };
+  }
+}
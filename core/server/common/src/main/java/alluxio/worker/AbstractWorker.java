@@ -11,9 +11,18 @@
 
 package alluxio.worker;
 
+import alluxio.heartbeat.HeartbeatContext;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.heartbeat.HeartbeatWheel;
+import alluxio.metrics.MetricsSystem;
+import alluxio.underfs.UfsPriority;
+
 import com.google.common.base.Preconditions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -24,6 +33,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 public abstract class AbstractWorker implements Worker {
   /** The executor service for the master sync. */
   private final ExecutorService mExecutorService;
+  /** The heartbeats started by {@link #startHeartbeat}. */
+  private final List<Future<?>> mHeartbeats = new ArrayList<>();
 
   /**
    * @param executorService executor service to use internally
@@ -38,4 +49,34 @@ public abstract class AbstractWorker implements Worker {
   protected ExecutorService getExecutorService() {
     return mExecutorService;
   }
+
+  /**
+   * Starts executing heartbeats periodically until {@link #stopHeartbeats()} is called. The
+   * heartbeats run on the shared {@link HeartbeatWheel} of the process, and their UFS operations
+   * have the {@link UfsPriority#BACKGROUND} priority.
+   *
+   * @param name the name of the heartbeats, one of the names in {@link HeartbeatContext}
+   * @param executor the heartbeat executor
+   * @param intervalMs the heartbeat interval
+   * @return a future to stop the heartbeats
+   */
+  protected Future<?> startHeartbeat(String name, HeartbeatExecutor executor, long intervalMs) {
+    Future<?> heartbeat = HeartbeatWheel.start(name,
+        MetricsSystem.getWorkerMetricName("Heartbeat." + name.replace(" ", "")),
+        UfsPriority.background(executor), intervalMs, mExecutorService);
+    mHeartbeats.add(heartbeat);
+    return heartbeat;
+  }
+
+  /**
+   * Stops the heartbeats started by {@link #startHeartbeat}, waiting for the running ones. This
+   * should be called when the worker stops, before the resources used by the heartbeats are
+   * released.
+   */
+  protected void stopHeartbeats() {
+    for (Future<?> heartbeat : mHeartbeats) {
+      heartbeat.cancel(true);
+    }
+    mHeartbeats.clear();
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.wire.SlowRpcInfo;
+
+import com.codahale.metrics.Timer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Unit tests for {@link RpcProfiler}.
+ */
+public final class RpcProfilerTest {
+  @After
+  public void after() {
+    RpcProfiler.resetSlowRpcs(
+        Configuration.getMs(PropertyKey.NETWORK_RPC_SLOW_LOG_THRESHOLD_MS));
+  }
+
+  /**
+   * Tests that RPC methods are named after the method declaring their callable.
+   */
+  @Test
+  public void name() {
+    Assert.assertEquals("RpcProfilerTest.createCallable",
+        RpcProfiler.getName(createCallable().getClass()));
+    Assert.assertEquals(RpcProfilerTest.class.getName(),
+        RpcProfiler.getName(RpcProfilerTest.class));
+  }
+
+  /**
+   * Tests that the latency and the phases of an RPC are recorded.
+   */
+  @Test
+  public void recordLatencyAndPhases() {
+    Callable<Void> callable = createCallable();
+    String metricName =
+        MetricsSystem.getMasterMetricName("Rpc.RpcProfilerTest.createCallable");
+    long count = MetricsSystem.METRIC_REGISTRY.timer(metricName).getCount();
+    Timer ufsTimer = MetricsSystem.METRIC_REGISTRY.timer(metricName + ".Ufs");
+    long ufsCount = ufsTimer.getCount();
+
+    RpcTrace trace = RpcTrace.start();
+    RpcTrace.record(RpcTrace.Phase.UFS, System.nanoTime() - 1);
+    trace.stop();
+    RpcProfiler.record(callable, trace, false);
+
+    Assert.assertEquals(count + 1, MetricsSystem.METRIC_REGISTRY.timer(metricName).getCount());
+    Assert.assertEquals(ufsCount + 1, ufsTimer.getCount());
+    Assert.assertTrue(RpcProfiler.getSlowRpcs().isEmpty());
+  }
+
+  /**
+   * Tests that the RPCs over the threshold are logged, and that only the most recent ones are
+   * kept.
+   */
+  @Test
+  public void slowRpcs() {
+    RpcProfiler.resetSlowRpcs(0);
+    int size = Configuration.getInt(PropertyKey.NETWORK_RPC_SLOW_LOG_SIZE);
+    for (int i = 0; i < size + 10; i++) {
+      RpcProfiler.record(MetricsSystem.WORKER_INSTANCE, "RpcProfilerTest.slow", i, 0, false, i);
+    }
+
+    List<SlowRpcInfo> slowRpcs = RpcProfiler.getSlowRpcs();
+    Assert.assertEquals(size, slowRpcs.size());
+    for (int i = 0; i < size; i++) {
+      SlowRpcInfo info = slowRpcs.get(i);
+      Assert.assertEquals("RpcProfilerTest.slow", info.getName());
+      Assert.assertEquals(Integer.toString(i + 10), info.getDescription());
+      Assert.assertEquals(i + 10, info.getStartTimeMs());
+    }
+  }
+
+  /**
+   * Tests that the slow RPCs are exposed through JMX.
+   */
+  @Test
+  public void mbean() throws Exception {
+    RpcProfiler.registerMBean();
+    RpcProfiler.resetSlowRpcs(0);
+    RpcTrace trace = RpcTrace.start();
+    trace.stop();
+    RpcProfiler.record(createCallable(), trace, true);
+
+    Object slowRpcs = ManagementFactory.getPlatformMBeanServer()
+        .getAttribute(new ObjectName("alluxio:type=RpcProfiler"), "SlowRpcs");
+    CompositeData[] entries = (CompositeData[]) slowRpcs;
+    Assert.assertEquals(1, entries.length);
+    Assert.assertEquals("RpcProfilerTest.createCallable", entries[0].get("name"));
+    Assert.assertEquals(true, entries[0].get("failed"));
+  }
+
+  private static Callable<Void> createCallable() {
+    return new Callable<Void>() {
+      @Override
+      public Void call() {
+        return null;
+      }
+    };
+  }
+}
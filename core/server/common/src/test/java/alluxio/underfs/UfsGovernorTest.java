@@ -0,0 +1,181 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.PropertyKey;
+import alluxio.underfs.UfsGovernor.OperationType;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link UfsGovernor}.
+ */
+public final class UfsGovernorTest {
+  private final ExecutorService mExecutor = Executors.newCachedThreadPool();
+
+  @After
+  public void after() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void limitConcurrency() throws Exception {
+    UfsGovernor governor = createGovernor("limitConcurrency",
+        ImmutableMap.of(PropertyKey.UNDERFS_READ_CONCURRENCY.toString(), "2"));
+    BlockingCall call = new BlockingCall(2);
+    List<Future<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      futures.add(submit(governor, OperationType.READ, UfsPriority.FOREGROUND, call));
+    }
+    call.awaitRunning();
+    Thread.sleep(100);
+    Assert.assertEquals(2, call.mRunning.get());
+    // The budgets of the kinds of operations are separate.
+    BlockingCall list = new BlockingCall(1);
+    list.mRelease.release(1);
+    submit(governor, OperationType.LIST, UfsPriority.FOREGROUND, list).get(10, TimeUnit.SECONDS);
+    call.mRelease.release(3);
+    for (Future<Void> future : futures) {
+      future.get(10, TimeUnit.SECONDS);
+    }
+    Assert.assertEquals(3, call.mCalls.get());
+  }
+
+  @Test
+  public void keepConcurrencyForForeground() throws Exception {
+    UfsGovernor governor = createGovernor("keepConcurrencyForForeground",
+        ImmutableMap.of(PropertyKey.UNDERFS_METADATA_CONCURRENCY.toString(), "4",
+            PropertyKey.UNDERFS_BACKGROUND_CONCURRENCY_RATIO.toString(), "0.5"));
+    BlockingCall background = new BlockingCall(2);
+    for (int i = 0; i < 3; i++) {
+      submit(governor, OperationType.METADATA, UfsPriority.BACKGROUND, background);
+    }
+    background.awaitRunning();
+    Thread.sleep(100);
+    Assert.assertEquals(2, background.mRunning.get());
+
+    BlockingCall foreground = new BlockingCall(2);
+    foreground.mRelease.release(2);
+    submit(governor, OperationType.METADATA, UfsPriority.FOREGROUND, foreground)
+        .get(10, TimeUnit.SECONDS);
+    submit(governor, OperationType.METADATA, UfsPriority.FOREGROUND, foreground)
+        .get(10, TimeUnit.SECONDS);
+    background.mRelease.release(3);
+  }
+
+  @Test
+  public void backOffWhenThrottled() throws Exception {
+    UfsGovernor governor = createGovernor("backOffWhenThrottled",
+        ImmutableMap.of(PropertyKey.UNDERFS_THROTTLE_BACKOFF_INITIAL_MS.toString(), "10ms",
+            PropertyKey.UNDERFS_THROTTLE_BACKOFF_MAX_MS.toString(), "30ms"));
+    UfsCallable<Void> throttled = new UfsCallable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        throw new IOException("Status Code: 503, Error Code: SlowDown");
+      }
+    };
+    UfsCallable<Void> succeeded = new UfsCallable<Void>() {
+      @Override
+      public Void call() {
+        return null;
+      }
+    };
+    for (long expectedBackoffMs : new long[] {10, 20, 30, 30}) {
+      try {
+        governor.call(OperationType.WRITE, throttled);
+        Assert.fail("The throttling error should be thrown");
+      } catch (IOException e) {
+        // expected
+      }
+      Assert.assertEquals(expectedBackoffMs, governor.getBackoffMs(OperationType.WRITE));
+    }
+    Assert.assertEquals(0, governor.getBackoffMs(OperationType.READ));
+    long startMs = System.currentTimeMillis();
+    governor.call(OperationType.WRITE, succeeded);
+    Assert.assertTrue(System.currentTimeMillis() - startMs >= 20);
+    Assert.assertEquals(15, governor.getBackoffMs(OperationType.WRITE));
+    governor.call(OperationType.WRITE, succeeded);
+    Assert.assertEquals(0, governor.getBackoffMs(OperationType.WRITE));
+  }
+
+  @Test
+  public void detectThrottlingErrors() {
+    Assert.assertTrue(UfsGovernor.isThrottlingError(
+        new IOException(new RuntimeException("Please reduce your request rate. (SlowDown)"))));
+    Assert.assertTrue(UfsGovernor.isThrottlingError(new IOException("Rate exceeded")));
+    Assert.assertFalse(UfsGovernor.isThrottlingError(new IOException("Access Denied")));
+    Assert.assertFalse(UfsGovernor.isThrottlingError(new IOException()));
+  }
+
+  private static UfsGovernor createGovernor(String name, ImmutableMap<String, String> conf) {
+    return new UfsGovernor(UnderFileSystemConfiguration.defaults().setUserSpecifiedConf(conf),
+        "test." + name);
+  }
+
+  private Future<Void> submit(final UfsGovernor governor, final OperationType type,
+      final UfsPriority priority, final UfsCallable<Void> call) {
+    return mExecutor.submit(new Callable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        UfsPriority.set(priority);
+        return governor.call(type, call);
+      }
+    });
+  }
+
+  /**
+   * An operation which blocks until released.
+   */
+  private static final class BlockingCall implements UfsCallable<Void> {
+    private final AtomicInteger mRunning = new AtomicInteger();
+    private final AtomicInteger mCalls = new AtomicInteger();
+    private final Semaphore mRelease = new Semaphore(0);
+    private final CountDownLatch mStarted;
+
+    BlockingCall(int expectedRunning) {
+      mStarted = new CountDownLatch(expectedRunning);
+    }
+
+    @Override
+    public Void call() throws IOException {
+      mRunning.incrementAndGet();
+      mStarted.countDown();
+      try {
+        mRelease.acquireUninterruptibly();
+      } finally {
+        mRunning.decrementAndGet();
+        mCalls.incrementAndGet();
+      }
+      return null;
+    }
+
+    void awaitRunning() throws InterruptedException {
+      Assert.assertTrue(mStarted.await(10, TimeUnit.SECONDS));
+    }
+  }
+}
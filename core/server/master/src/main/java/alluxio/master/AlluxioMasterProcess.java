@@ -17,7 +17,10 @@ import alluxio.PropertyKey;
 import alluxio.RuntimeConstants;
 import alluxio.master.journal.Journal;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.metrics.sink.MetricsServlet;
+import alluxio.network.thrift.SelectorThriftServer;
+import alluxio.network.thrift.ThriftServerType;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.thrift.MetaMasterClientService;
 import alluxio.util.CommonUtils;
@@ -36,6 +39,7 @@ import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.server.TThreadPoolServer.Args;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
@@ -240,6 +244,7 @@ public class AlluxioMasterProcess implements MasterProcess {
    */
   protected void startServing(String startMessage, String stopMessage) {
     MetricsSystem.startSinks();
+    RpcProfiler.registerMBean();
     startServingWebServer();
     LOG.info("{} version {} binding to {} @ {} {}", this, RuntimeConstants.VERSION, mRpcBindAddress,
         mRpcConnectAddress, startMessage);
@@ -295,6 +300,28 @@ public class AlluxioMasterProcess implements MasterProcess {
       throw new RuntimeException(e);
     }
 
+    if (Configuration.getEnum(PropertyKey.MASTER_RPC_SERVER_TYPE, ThriftServerType.class)
+        == ThriftServerType.SELECTOR) {
+      mThriftServer = createSelectorServer(processor, transportFactory);
+    } else {
+      mThriftServer = createThreadPoolServer(processor, transportFactory);
+    }
+
+    // start thrift rpc server
+    mIsServing = true;
+    mStartTimeMs = System.currentTimeMillis();
+    mThriftServer.serve();
+  }
+
+  /**
+   * Creates a {@link TThreadPoolServer} serving each client connection with a dedicated thread.
+   *
+   * @param processor the multiplexed processor
+   * @param transportFactory the server transport factory
+   * @return the thrift server
+   */
+  private TServer createThreadPoolServer(TProcessor processor,
+      TTransportFactory transportFactory) {
     try {
       if (mTServerSocket != null) {
         mTServerSocket.close();
@@ -314,12 +341,38 @@ public class AlluxioMasterProcess implements MasterProcess {
     } else {
       args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
     }
-    mThriftServer = new TThreadPoolServer(args);
+    return new TThreadPoolServer(args);
+  }
 
-    // start thrift rpc server
-    mIsServing = true;
-    mStartTimeMs = System.currentTimeMillis();
-    mThriftServer.serve();
+  /**
+   * Creates a {@link SelectorThriftServer}, which watches idle client connections with a selector
+   * and serves requests with a bounded executor.
+   *
+   * @param processor the multiplexed processor
+   * @param transportFactory the server transport factory
+   * @return the thrift server
+   */
+  private TServer createSelectorServer(TProcessor processor, TTransportFactory transportFactory) {
+    TNonblockingServerSocket serverSocket;
+    try {
+      if (mTServerSocket != null) {
+        mTServerSocket.close();
+        mTServerSocket = null;
+      }
+      serverSocket = new TNonblockingServerSocket(mRpcBindAddress,
+          (int) Configuration.getMs(PropertyKey.MASTER_CONNECTION_TIMEOUT_MS));
+    } catch (TTransportException e) {
+      throw new RuntimeException(e);
+    }
+    SelectorThriftServer.Args args = new SelectorThriftServer.Args(serverSocket)
+        .executorThreads(Configuration.getInt(PropertyKey.MASTER_RPC_EXECUTOR_THREADS))
+        .executorQueueSize(Configuration.getInt(PropertyKey.MASTER_RPC_EXECUTOR_QUEUE_SIZE))
+        .stopTimeoutSeconds(Configuration.getBoolean(PropertyKey.TEST_MODE) ? 0
+            : Constants.THRIFT_STOP_TIMEOUT_SECONDS)
+        .metricsInstance(MetricsSystem.MASTER_INSTANCE).name("master-rpc")
+        .processor(processor).transportFactory(transportFactory)
+        .protocolFactory(new TBinaryProtocol.Factory(true, true));
+    return new SelectorThriftServer(args);
   }
 
   /**
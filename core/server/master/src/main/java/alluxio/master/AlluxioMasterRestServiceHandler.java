@@ -22,6 +22,7 @@ import alluxio.master.file.DefaultFileSystemMaster;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.StartupConsistencyCheck;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.util.LogUtils;
 import alluxio.web.MasterWebServer;
@@ -29,6 +30,7 @@ import alluxio.wire.AlluxioMasterInfo;
 import alluxio.wire.Capacity;
 import alluxio.wire.LogInfo;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.SlowRpcInfo;
 import alluxio.wire.WorkerInfo;
 
 import com.codahale.metrics.Counter;
@@ -67,6 +69,7 @@ public final class AlluxioMasterRestServiceHandler {
 
   // endpoints
   public static final String GET_INFO = "info";
+  public static final String GET_SLOW_RPCS = "slow_rpcs";
 
   // queries
   public static final String QUERY_RAW_CONFIGURATION = "raw_configuration";
@@ -153,6 +156,23 @@ public final class AlluxioMasterRestServiceHandler {
     });
   }
 
+  /**
+   * @summary get the most recent RPCs served by the master which took longer than the slow RPC
+   *    threshold, oldest first
+   * @return the response object
+   */
+  @GET
+  @Path(GET_SLOW_RPCS)
+  @ReturnType("java.util.List<alluxio.wire.SlowRpcInfo>")
+  public Response getSlowRpcs() {
+    return RestUtils.call(new RestUtils.RestCallable<List<SlowRpcInfo>>() {
+      @Override
+      public List<SlowRpcInfo> call() throws Exception {
+        return RpcProfiler.getSlowRpcs();
+      }
+    });
+  }
+
   /**
    * @summary get the configuration map, the keys are ordered alphabetically.
    * @return the response object
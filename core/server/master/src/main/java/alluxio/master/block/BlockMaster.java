@@ -11,6 +11,7 @@
 
 package alluxio.master.block;
 
+import alluxio.Constants;
 import alluxio.StorageTierAssoc;
 import alluxio.exception.BlockInfoException;
 import alluxio.exception.NoWorkerException;
@@ -75,11 +76,12 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    * @param tierAlias the alias of the storage tier where the worker is committing the block to
    * @param blockId the committing block id
    * @param length the length of the block
+   * @param checksum the CRC32C checksum of the block, or {@link Constants#UNKNOWN_CHECKSUM}
    * @throws NoWorkerException if the workerId is not active
    */
   // TODO(binfan): check the logic is correct or not when commitBlock is a retry
   void commitBlock(long workerId, long usedBytesOnTier, String tierAlias, long blockId, long
-      length) throws NoWorkerException;
+      length, long checksum) throws NoWorkerException;
 
   /**
    * Marks a block as committed, but without a worker location. This means the block is only in ufs.
@@ -89,6 +91,14 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    */
   void commitBlockInUFS(long blockId, long length);
 
+  /**
+   * @param blockId the block id to get the checksum for
+   * @return the CRC32C checksum of the block, or {@link Constants#UNKNOWN_CHECKSUM} if no worker
+   *         committed the block with a checksum
+   * @throws BlockInfoException if the block info is not found
+   */
+  long getBlockChecksum(long blockId) throws BlockInfoException;
+
   /**
    * @param blockId the block id to get information for
    * @return the {@link BlockInfo} for the given block id
@@ -105,6 +115,24 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    */
   List<BlockInfo> getBlockInfoList(List<Long> blockIds);
 
+  /**
+   * Gets the total length of the blocks of a container whose highest storage tier on any worker is
+   * the given tier. This is kept up to date as blocks are added to and removed from workers, so it
+   * does not look up the blocks of the container.
+   *
+   * @param containerId the id of the block container
+   * @param tierOrdinal the ordinal of the storage tier
+   * @return the total length of the blocks in bytes
+   */
+  long getCachedBytes(long containerId, int tierOrdinal);
+
+  /**
+   * @param tierOrdinal the ordinal of a storage tier
+   * @return the ids of the block containers with blocks whose highest storage tier on any worker is
+   *         the given tier
+   */
+  List<Long> getCachedContainerIds(int tierOrdinal);
+
   /**
    * @return the total bytes on each storage tier
    */
@@ -150,6 +178,33 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
   Command workerHeartbeat(long workerId, Map<String, Long> usedBytesOnTiers,
       List<Long> removedBlockIds, Map<String, List<Long>> addedBlocksOnTiers);
 
+  /**
+   * Records the reads of blocks on a worker since its last heartbeat.
+   *
+   * @param blockReadCounts a mapping from block id to the number of reads of the block
+   */
+  void reportBlockReads(Map<Long, Long> blockReadCounts);
+
+  /**
+   * @param blockId the id of a block
+   * @return the heat of the block, which is its number of reads decayed over time
+   */
+  double getBlockHeat(long blockId);
+
+  /**
+   * @param minHeat the minimum heat
+   * @return a mapping from block id to the heat of the blocks whose heat is at least the minimum
+   */
+  Map<Long, Double> getHotBlocks(double minHeat);
+
+  /**
+   * Removes a block from one worker, keeping its metadata and its copies on the other workers.
+   *
+   * @param blockId the id of the block
+   * @param workerId the id of the worker to remove the block from
+   */
+  void removeBlockFromWorker(long blockId, long workerId);
+
   /**
    * @return the block ids of lost blocks in Alluxio
    */
@@ -65,11 +65,14 @@ public final class BlockMasterWorkerServiceHandler implements BlockMasterWorkerS
   @Override
   public BlockHeartbeatTResponse blockHeartbeat(final long workerId,
       final Map<String, Long> usedBytesOnTiers, final List<Long> removedBlockIds,
-      final Map<String, List<Long>> addedBlocksOnTiers, BlockHeartbeatTOptions options)
+      final Map<String, List<Long>> addedBlocksOnTiers, final BlockHeartbeatTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcUtils.RpcCallable<BlockHeartbeatTResponse>() {
       @Override
       public BlockHeartbeatTResponse call() throws AlluxioException {
+        if (options.isSetBlockReadCounts()) {
+          mBlockMaster.reportBlockReads(options.getBlockReadCounts());
+        }
         return new BlockHeartbeatTResponse(mBlockMaster
             .workerHeartbeat(workerId, usedBytesOnTiers, removedBlockIds, addedBlocksOnTiers));
       }
@@ -78,12 +81,13 @@ public final class BlockMasterWorkerServiceHandler implements BlockMasterWorkerS
 
   @Override
   public CommitBlockTResponse commitBlock(final long workerId, final long usedBytesOnTier,
-      final String tierAlias, final long blockId, final long length, CommitBlockTOptions options)
-      throws AlluxioTException {
+      final String tierAlias, final long blockId, final long length,
+      final CommitBlockTOptions options) throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcUtils.RpcCallable<CommitBlockTResponse>() {
       @Override
       public CommitBlockTResponse call() throws AlluxioException {
-        mBlockMaster.commitBlock(workerId, usedBytesOnTier, tierAlias, blockId, length);
+        mBlockMaster.commitBlock(workerId, usedBytesOnTier, tierAlias, blockId, length,
+            options.isSetChecksum() ? options.getChecksum() : Constants.UNKNOWN_CHECKSUM);
         return new CommitBlockTResponse();
       }
     });
@@ -26,8 +26,9 @@ import alluxio.exception.ExceptionMessage;
 import alluxio.exception.NoWorkerException;
 import alluxio.heartbeat.HeartbeatContext;
 import alluxio.heartbeat.HeartbeatExecutor;
-import alluxio.heartbeat.HeartbeatThread;
 import alluxio.master.AbstractMaster;
+import alluxio.master.block.meta.BlockHeatTracker;
+import alluxio.master.block.meta.ContainerTierIndex;
 import alluxio.master.block.meta.MasterBlockInfo;
 import alluxio.master.block.meta.MasterBlockLocation;
 import alluxio.master.block.meta.MasterWorkerInfo;
@@ -133,6 +134,10 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
       new ConcurrentHashMapV8<>(8192, 0.90f, 64);
   /** Keeps track of blocks which are no longer in Alluxio storage. */
   private final ConcurrentHashSet<Long> mLostBlocks = new ConcurrentHashSet<>(64, 0.90f, 64);
+  /** The cached blocks of each block container by storage tier, updated with block locations. */
+  private final ContainerTierIndex mContainerTierIndex = new ContainerTierIndex();
+  /** The heat of the blocks read on the workers. This state is not journaled. */
+  private final BlockHeatTracker mBlockHeatTracker;
 
   /** This state must be journaled. */
   @GuardedBy("itself")
@@ -185,6 +190,8 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
   DefaultBlockMaster(JournalFactory journalFactory, Clock clock,
       ExecutorServiceFactory executorServiceFactory) {
     super(journalFactory.create(Constants.BLOCK_MASTER_NAME), clock, executorServiceFactory);
+    mBlockHeatTracker = new BlockHeatTracker(clock,
+        Configuration.getMs(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_HEAT_HALF_LIFE_MS));
     Metrics.registerGauges(this);
   }
 
@@ -208,6 +215,7 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
     if (entry.getSequenceNumber() == 0) {
       // This is the first journal entry, clear the master state.
       mBlocks.clear();
+      mContainerTierIndex.clear();
     }
     // TODO(gene): A better way to process entries besides a huge switch?
     if (entry.hasBlockContainerIdGenerator()) {
@@ -221,9 +229,16 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
         // Update the existing block info.
         MasterBlockInfo blockInfo = mBlocks.get(blockInfoEntry.getBlockId());
         blockInfo.updateLength(blockInfoEntry.getLength());
+        if (blockInfoEntry.hasChecksum()) {
+          blockInfo.updateChecksum(blockInfoEntry.getChecksum());
+        }
       } else {
-        mBlocks.put(blockInfoEntry.getBlockId(), new MasterBlockInfo(blockInfoEntry.getBlockId(),
-            blockInfoEntry.getLength()));
+        MasterBlockInfo blockInfo =
+            new MasterBlockInfo(blockInfoEntry.getBlockId(), blockInfoEntry.getLength());
+        if (blockInfoEntry.hasChecksum()) {
+          blockInfo.updateChecksum(blockInfoEntry.getChecksum());
+        }
+        mBlocks.put(blockInfoEntry.getBlockId(), blockInfo);
       }
     } else {
       throw new IOException(ExceptionMessage.UNEXPECTED_JOURNAL_ENTRY.getMessage(entry));
@@ -245,10 +260,7 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
           throw new NoSuchElementException();
         }
         MasterBlockInfo info = it.next();
-        BlockInfoEntry blockInfoEntry =
-            BlockInfoEntry.newBuilder().setBlockId(info.getBlockId())
-                .setLength(info.getLength()).build();
-        return JournalEntry.newBuilder().setBlockInfo(blockInfoEntry).build();
+        return JournalEntry.newBuilder().setBlockInfo(getBlockInfoEntry(info)).build();
       }
 
       @Override
@@ -266,9 +278,9 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
     super.start(isLeader);
     mGlobalStorageTierAssoc = new MasterStorageTierAssoc();
     if (isLeader) {
-      mLostWorkerDetectionService = getExecutorService().submit(new HeartbeatThread(
-          HeartbeatContext.MASTER_LOST_WORKER_DETECTION, new LostWorkerDetectionHeartbeatExecutor(),
-          (int) Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS)));
+      mLostWorkerDetectionService = startHeartbeat(HeartbeatContext.MASTER_LOST_WORKER_DETECTION,
+          new LostWorkerDetectionHeartbeatExecutor(),
+          Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS));
     }
   }
 
@@ -349,7 +361,11 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
             // Make sure blockId is removed from mLostBlocks when the block metadata is deleted.
             // Otherwise blockId in mLostBlock can be dangling index if the metadata is gone.
             mLostBlocks.remove(blockId);
+            mBlockHeatTracker.remove(blockId);
+            int tier = block.getHighestTier(mGlobalStorageTierAssoc);
             if (mBlocks.remove(blockId) != null) {
+              mContainerTierIndex.updateBlock(blockId, tier, block.getLength(),
+                  ContainerTierIndex.NOT_CACHED, block.getLength());
               JournalEntry entry = JournalEntry.newBuilder()
                   .setDeleteBlock(DeleteBlockEntry.newBuilder().setBlockId(blockId)).build();
               appendJournalEntry(entry, journalContext);
@@ -417,9 +433,9 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
   // TODO(binfan): check the logic is correct or not when commitBlock is a retry
   @Override
   public void commitBlock(long workerId, long usedBytesOnTier, String tierAlias, long blockId,
-      long length) throws NoWorkerException {
-    LOG.debug("Commit block from workerId: {}, usedBytesOnTier: {}, blockId: {}, length: {}",
-        workerId, usedBytesOnTier, blockId, length);
+      long length, long checksum) throws NoWorkerException {
+    LOG.debug("Commit block from workerId: {}, usedBytesOnTier: {}, blockId: {}, length: {}, "
+        + "checksum: {}", workerId, usedBytesOnTier, blockId, length, checksum);
 
     MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
     // TODO(peis): Check lost workers as well.
@@ -442,6 +458,8 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
 
           // Lock the block metadata.
           synchronized (block) {
+            int oldTier = block.getHighestTier(mGlobalStorageTierAssoc);
+            long oldLength = block.getLength();
             boolean writeJournal = false;
             if (newBlock) {
               if (mBlocks.putIfAbsent(blockId, block) != null) {
@@ -457,16 +475,20 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
               block.updateLength(length);
               writeJournal = true;
             }
+            if (block.updateChecksum(checksum)) {
+              // The block checksum was previously unknown.
+              writeJournal = true;
+            }
             if (writeJournal) {
-              BlockInfoEntry blockInfo =
-                  BlockInfoEntry.newBuilder().setBlockId(blockId).setLength(length).build();
-              appendJournalEntry(JournalEntry.newBuilder().setBlockInfo(blockInfo).build(),
+              appendJournalEntry(
+                  JournalEntry.newBuilder().setBlockInfo(getBlockInfoEntry(block)).build(),
                   journalContext);
             }
             // At this point, both the worker and the block metadata are locked.
 
             // Update the block metadata with the new worker location.
             block.addWorker(workerId, tierAlias);
+            updateContainerTierIndex(block, oldTier, oldLength);
             // This worker has this block, so it is no longer lost.
             mLostBlocks.remove(blockId);
 
@@ -506,6 +528,30 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
     }
   }
 
+  /**
+   * @param block the block metadata
+   * @return the journal entry of the block metadata
+   */
+  private static BlockInfoEntry getBlockInfoEntry(MasterBlockInfo block) {
+    BlockInfoEntry.Builder entry =
+        BlockInfoEntry.newBuilder().setBlockId(block.getBlockId()).setLength(block.getLength());
+    if (block.getChecksum() != Constants.UNKNOWN_CHECKSUM) {
+      entry.setChecksum(block.getChecksum());
+    }
+    return entry.build();
+  }
+
+  @Override
+  public long getBlockChecksum(long blockId) throws BlockInfoException {
+    MasterBlockInfo block = mBlocks.get(blockId);
+    if (block == null) {
+      throw new BlockInfoException(ExceptionMessage.BLOCK_META_NOT_FOUND, blockId);
+    }
+    synchronized (block) {
+      return block.getChecksum();
+    }
+  }
+
   @Override
   public BlockInfo getBlockInfo(long blockId) throws BlockInfoException {
     MasterBlockInfo block = mBlocks.get(blockId);
@@ -675,7 +721,9 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
       synchronized (block) {
         LOG.info("Block {} is removed on worker {}.", removedBlockId, workerInfo.getId());
         workerInfo.removeBlock(block.getBlockId());
+        int oldTier = block.getHighestTier(mGlobalStorageTierAssoc);
         block.removeWorker(workerInfo.getId());
+        updateContainerTierIndex(block, oldTier, block.getLength());
         if (block.getNumLocations() == 0) {
           mLostBlocks.add(removedBlockId);
         }
@@ -698,7 +746,9 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
         if (block != null) {
           synchronized (block) {
             workerInfo.addBlock(blockId);
+            int oldTier = block.getHighestTier(mGlobalStorageTierAssoc);
             block.addWorker(workerInfo.getId(), entry.getKey());
+            updateContainerTierIndex(block, oldTier, block.getLength());
             mLostBlocks.remove(blockId);
           }
         } else {
@@ -708,6 +758,63 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
     }
   }
 
+  /**
+   * Updates the index of the cached blocks of the block containers for a change of the locations
+   * or the length of a block.
+   *
+   * @param block the block metadata
+   * @param oldTier the ordinal of the highest tier of the block before the change
+   * @param oldLength the length of the block before the change
+   */
+  @GuardedBy("block")
+  private void updateContainerTierIndex(MasterBlockInfo block, int oldTier, long oldLength) {
+    if (mBlocks.get(block.getBlockId()) != block) {
+      // The block is deleted, and it was removed from the index then.
+      return;
+    }
+    mContainerTierIndex.updateBlock(block.getBlockId(), oldTier, oldLength,
+        block.getHighestTier(mGlobalStorageTierAssoc), block.getLength());
+  }
+
+  @Override
+  public long getCachedBytes(long containerId, int tierOrdinal) {
+    return mContainerTierIndex.getBytes(containerId, tierOrdinal);
+  }
+
+  @Override
+  public List<Long> getCachedContainerIds(int tierOrdinal) {
+    return mContainerTierIndex.getContainerIds(tierOrdinal);
+  }
+
+  @Override
+  public void reportBlockReads(Map<Long, Long> blockReadCounts) {
+    for (Map.Entry<Long, Long> entry : blockReadCounts.entrySet()) {
+      if (mBlocks.containsKey(entry.getKey())) {
+        mBlockHeatTracker.addReads(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  @Override
+  public double getBlockHeat(long blockId) {
+    return mBlockHeatTracker.getHeat(blockId);
+  }
+
+  @Override
+  public Map<Long, Double> getHotBlocks(double minHeat) {
+    return mBlockHeatTracker.getHotBlocks(minHeat);
+  }
+
+  @Override
+  public void removeBlockFromWorker(long blockId, long workerId) {
+    MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
+    if (worker != null) {
+      synchronized (worker) {
+        worker.updateToRemovedBlock(true, blockId);
+      }
+    }
+  }
+
   @Override
   public Set<Long> getLostBlocks() {
     return ImmutableSet.copyOf(mLostBlocks);
@@ -0,0 +1,157 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block.meta;
+
+import alluxio.clock.Clock;
+
+import com.google.common.base.Preconditions;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks how frequently each block is read on the workers. The heat of a block is the number of
+ * times it was read, where each read counts half as much after every half-life, so the heat of a
+ * block which is read at a steady rate converges to the rate times the half-life divided by ln(2).
+ * The blocks whose heat has decayed to almost nothing are no longer tracked.
+ */
+@ThreadSafe
+public final class BlockHeatTracker {
+  /** The heat below which a block is no longer tracked. */
+  private static final double MIN_HEAT = 0.5;
+
+  private final Clock mClock;
+  private final long mHalfLifeMs;
+  /** Map from block id to the heat of the block. */
+  private final Map<Long, Heat> mHeats = new HashMap<>();
+
+  /**
+   * Creates a new instance of {@link BlockHeatTracker}.
+   *
+   * @param clock the clock to use for decaying the heat
+   * @param halfLifeMs the time after which a read counts half as much, in milliseconds
+   */
+  public BlockHeatTracker(Clock clock, long halfLifeMs) {
+    Preconditions.checkArgument(halfLifeMs > 0, "halfLifeMs=%s", halfLifeMs);
+    mClock = Preconditions.checkNotNull(clock, "clock");
+    mHalfLifeMs = halfLifeMs;
+  }
+
+  /**
+   * Adds reads of a block.
+   *
+   * @param blockId the id of the block
+   * @param reads the number of reads
+   */
+  public synchronized void addReads(long blockId, long reads) {
+    if (reads <= 0) {
+      return;
+    }
+    long nowMs = mClock.millis();
+    Heat heat = mHeats.get(blockId);
+    if (heat == null) {
+      heat = new Heat(nowMs);
+      mHeats.put(blockId, heat);
+    }
+    heat.decay(nowMs, mHalfLifeMs);
+    heat.mValue += reads;
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return the current heat of the block, or 0 if it is not tracked
+   */
+  public synchronized double getHeat(long blockId) {
+    Heat heat = mHeats.get(blockId);
+    if (heat == null) {
+      return 0;
+    }
+    heat.decay(mClock.millis(), mHalfLifeMs);
+    return heat.mValue;
+  }
+
+  /**
+   * Returns the blocks whose current heat is at least the given heat. The blocks which are too
+   * cold to be tracked any longer are removed.
+   *
+   * @param minHeat the minimum heat
+   * @return a map from block id to the heat of the block
+   */
+  public synchronized Map<Long, Double> getHotBlocks(double minHeat) {
+    long nowMs = mClock.millis();
+    Map<Long, Double> hotBlocks = new HashMap<>();
+    Iterator<Map.Entry<Long, Heat>> it = mHeats.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, Heat> entry = it.next();
+      Heat heat = entry.getValue();
+      heat.decay(nowMs, mHalfLifeMs);
+      if (heat.mValue < MIN_HEAT) {
+        it.remove();
+      } else if (heat.mValue >= minHeat) {
+        hotBlocks.put(entry.getKey(), heat.mValue);
+      }
+    }
+    return hotBlocks;
+  }
+
+  /**
+   * @param blockId the id of the block to stop tracking
+   */
+  public synchronized void remove(long blockId) {
+    mHeats.remove(blockId);
+  }
+
+  /**
+   * @return the number of blocks tracked
+   */
+  public synchronized int size() {
+    return mHeats.size();
+  }
+
+  /**
+   * Stops tracking all the blocks.
+   */
+  public synchronized void clear() {
+    mHeats.clear();
+  }
+
+  /**
+   * The heat of a block as of the last time it was decayed.
+   */
+  private static final class Heat {
+    private double mValue;
+    private long mUpdateTimeMs;
+
+    /**
+     * @param nowMs the current time in milliseconds
+     */
+    Heat(long nowMs) {
+      mUpdateTimeMs = nowMs;
+    }
+
+    /**
+     * Decays the heat to the given time.
+     *
+     * @param nowMs the current time in milliseconds
+     * @param halfLifeMs the half-life in milliseconds
+     */
+    void decay(long nowMs, long halfLifeMs) {
+      if (nowMs > mUpdateTimeMs) {
+        mValue *= Math.pow(0.5, (double) (nowMs - mUpdateTimeMs) / halfLifeMs);
+        mUpdateTimeMs = nowMs;
+      }
+    }
+  }
+}
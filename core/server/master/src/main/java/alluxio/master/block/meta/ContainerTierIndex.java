@@ -0,0 +1,159 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block.meta;
+
+import alluxio.master.block.BlockId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An index of the blocks cached on workers by block container and storage tier. A block is
+ * counted in the highest tier that it is in on any worker. Since all the blocks of a file are in
+ * the container of the file, this tells how much of a file is cached in each tier without looking
+ * up its blocks, and which files have blocks in a tier without walking the namespace.
+ */
+@ThreadSafe
+public final class ContainerTierIndex {
+  /** The tier ordinal of a block which is not cached on any worker. */
+  public static final int NOT_CACHED = -1;
+
+  /** Maps from container id to the cached blocks of the container. */
+  private final Map<Long, CachedBlocks> mContainers = new HashMap<>();
+  /** The ids of the containers with blocks in each tier, by tier ordinal. */
+  private final List<Set<Long>> mContainersByTier = new ArrayList<>();
+
+  /**
+   * Creates a new instance of {@link ContainerTierIndex}.
+   */
+  public ContainerTierIndex() {}
+
+  /**
+   * Updates the index for a change of the highest tier or the length of a block.
+   *
+   * @param blockId the id of the block
+   * @param oldTier the ordinal of the previous highest tier of the block, or {@link #NOT_CACHED}
+   * @param oldLength the previous length of the block
+   * @param newTier the ordinal of the new highest tier of the block, or {@link #NOT_CACHED}
+   * @param newLength the new length of the block
+   */
+  public synchronized void updateBlock(long blockId, int oldTier, long oldLength, int newTier,
+      long newLength) {
+    if (oldTier == newTier && oldLength == newLength) {
+      return;
+    }
+    long containerId = BlockId.getContainerId(blockId);
+    if (oldTier != NOT_CACHED) {
+      update(containerId, oldTier, -1, -Math.max(oldLength, 0));
+    }
+    if (newTier != NOT_CACHED) {
+      update(containerId, newTier, 1, Math.max(newLength, 0));
+    }
+  }
+
+  /**
+   * @param containerId the id of a block container
+   * @param tier the ordinal of a storage tier
+   * @return the number of blocks of the container whose highest tier is the given tier
+   */
+  public synchronized long getBlockCount(long containerId, int tier) {
+    CachedBlocks blocks = mContainers.get(containerId);
+    return blocks == null || tier >= blocks.mCount.length ? 0 : blocks.mCount[tier];
+  }
+
+  /**
+   * @param containerId the id of a block container
+   * @param tier the ordinal of a storage tier
+   * @return the total length of the blocks of the container whose highest tier is the given tier
+   */
+  public synchronized long getBytes(long containerId, int tier) {
+    CachedBlocks blocks = mContainers.get(containerId);
+    return blocks == null || tier >= blocks.mBytes.length ? 0 : blocks.mBytes[tier];
+  }
+
+  /**
+   * @param tier the ordinal of a storage tier
+   * @return the ids of the containers with blocks whose highest tier is the given tier
+   */
+  public synchronized List<Long> getContainerIds(int tier) {
+    if (tier >= mContainersByTier.size()) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(mContainersByTier.get(tier));
+  }
+
+  /**
+   * Removes all the blocks from the index.
+   */
+  public synchronized void clear() {
+    mContainers.clear();
+    mContainersByTier.clear();
+  }
+
+  private void update(long containerId, int tier, long count, long bytes) {
+    CachedBlocks blocks = mContainers.get(containerId);
+    if (blocks == null) {
+      blocks = new CachedBlocks();
+      mContainers.put(containerId, blocks);
+    }
+    blocks.ensureTiers(tier + 1);
+    while (mContainersByTier.size() <= tier) {
+      mContainersByTier.add(new HashSet<Long>());
+    }
+    blocks.mCount[tier] += count;
+    blocks.mBytes[tier] += bytes;
+    if (blocks.mCount[tier] == 0) {
+      mContainersByTier.get(tier).remove(containerId);
+      if (blocks.isEmpty()) {
+        mContainers.remove(containerId);
+      }
+    } else {
+      mContainersByTier.get(tier).add(containerId);
+    }
+  }
+
+  /**
+   * The number and the total length of the cached blocks of a container in each tier.
+   */
+  private static final class CachedBlocks {
+    private long[] mCount = new long[0];
+    private long[] mBytes = new long[0];
+
+    /**
+     * Creates a new instance of {@link CachedBlocks}.
+     */
+    CachedBlocks() {}
+
+    void ensureTiers(int tiers) {
+      if (mCount.length < tiers) {
+        mCount = Arrays.copyOf(mCount, tiers);
+        mBytes = Arrays.copyOf(mBytes, tiers);
+      }
+    }
+
+    boolean isEmpty() {
+      for (long count : mCount) {
+        if (count != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -12,6 +12,7 @@
 package alluxio.master.block.meta;
 
 import alluxio.Constants;
+import alluxio.StorageTierAssoc;
 
 import com.google.common.base.Objects;
 import org.slf4j.Logger;
@@ -41,6 +42,11 @@ public final class MasterBlockInfo {
    * {@link Constants#UNKNOWN_SIZE}
    */
   private long mLength;
+  /**
+   * The CRC32C checksum of the block. This can be updated if it was previously unknown,
+   * {@link Constants#UNKNOWN_CHECKSUM}
+   */
+  private long mChecksum = Constants.UNKNOWN_CHECKSUM;
 
   /** Maps from the worker id to the tier alias the block is on. */
   private final Map<Long, String> mWorkerIdToAlias;
@@ -80,6 +86,34 @@ public final class MasterBlockInfo {
     }
   }
 
+  /**
+   * @return the CRC32C checksum of the block, or {@link Constants#UNKNOWN_CHECKSUM}
+   */
+  public long getChecksum() {
+    return mChecksum;
+  }
+
+  /**
+   * Updates the checksum, if and only if the checksum was previously unknown.
+   *
+   * @param checksum the updated checksum
+   * @return whether the checksum was updated
+   */
+  public boolean updateChecksum(long checksum) {
+    if (checksum == Constants.UNKNOWN_CHECKSUM) {
+      return false;
+    }
+    if (mChecksum == Constants.UNKNOWN_CHECKSUM) {
+      mChecksum = checksum;
+      return true;
+    }
+    if (mChecksum != checksum) {
+      LOG.warn("Block {} was committed with checksum {}, which differs from its checksum {}. "
+          + "One of the replicas may be corrupted.", mBlockId, checksum, mChecksum);
+    }
+    return false;
+  }
+
   /**
    * @return the block id
    */
@@ -146,8 +180,25 @@ public final class MasterBlockInfo {
     return false;
   }
 
+  /**
+   * @param tierAssoc the mapping from storage tier aliases to ordinals
+   * @return the ordinal of the highest tier that the block is in on any worker, or
+   *         {@link ContainerTierIndex#NOT_CACHED} if the block is on no worker
+   */
+  public int getHighestTier(StorageTierAssoc tierAssoc) {
+    int highestTier = ContainerTierIndex.NOT_CACHED;
+    for (String tierAlias : mWorkerIdToAlias.values()) {
+      int tier = tierAssoc.getOrdinal(tierAlias);
+      if (highestTier == ContainerTierIndex.NOT_CACHED || tier < highestTier) {
+        highestTier = tier;
+      }
+    }
+    return highestTier;
+  }
+
   @Override
   public String toString() {
-    return Objects.toStringHelper(this).add("blockId", mBlockId).add("length", mLength).toString();
+    return Objects.toStringHelper(this).add("blockId", mBlockId).add("length", mLength)
+        .add("checksum", mChecksum).toString();
   }
 }
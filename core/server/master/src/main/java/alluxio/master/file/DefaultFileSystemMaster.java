@@ -35,12 +35,13 @@ import alluxio.exception.status.FailedPreconditionException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
 import alluxio.heartbeat.HeartbeatContext;
-import alluxio.heartbeat.HeartbeatThread;
 import alluxio.master.AbstractMaster;
 import alluxio.master.ProtobufUtils;
 import alluxio.master.block.BlockId;
 import alluxio.master.block.BlockMaster;
 import alluxio.master.file.async.AsyncPersistHandler;
+import alluxio.master.file.load.HotBlockReplicator;
+import alluxio.master.file.load.LoadManager;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectory;
@@ -93,6 +94,8 @@ import alluxio.thrift.FileSystemCommand;
 import alluxio.thrift.FileSystemCommandOptions;
 import alluxio.thrift.FileSystemMasterClientService;
 import alluxio.thrift.FileSystemMasterWorkerService;
+import alluxio.thrift.LoadBlock;
+import alluxio.thrift.LoadCommandOptions;
 import alluxio.thrift.MountTOptions;
 import alluxio.thrift.PersistCommandOptions;
 import alluxio.thrift.PersistFile;
@@ -110,12 +113,13 @@ import alluxio.util.SecurityUtils;
 import alluxio.util.UnderFileSystemUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.executor.ExecutorServiceFactory;
+import alluxio.util.io.CRC32C;
 import alluxio.util.io.PathUtils;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.wire.BlockInfo;
-import alluxio.wire.BlockLocation;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.TtlAction;
@@ -136,7 +140,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -149,10 +156,12 @@ import java.util.Stack;
 import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -279,12 +288,21 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   /** The handler for async persistence. */
   private final AsyncPersistHandler mAsyncPersistHandler;
 
+  /** Schedules the distributed loads on the workers. */
+  private final LoadManager mLoadManager;
+
+  /** Replicates the blocks which are read frequently to more workers. */
+  private final HotBlockReplicator mHotBlockReplicator;
+
   /** The manager of all ufs. */
-  private final UfsManager mUfsManager;
+  private final MasterUfsManager mUfsManager;
 
   /** This caches absent paths in the UFS. */
   private final UfsAbsentPathCache mUfsAbsentPathCache;
 
+  /** The listeners notified of the state changes of files. */
+  private final List<FileEventListener> mFileEventListeners = new CopyOnWriteArrayList<>();
+
   /**
    * The service that checks for inode files with ttl set. We store it here so that it can be
    * accessed from tests.
@@ -298,6 +316,13 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   @SuppressFBWarnings("URF_UNREAD_FIELD")
   private Future<?> mLostFilesDetectionService;
 
+  /**
+   * The service that replicates hot blocks. We store it here so that it can be accessed from
+   * tests.
+   */
+  @SuppressFBWarnings("URF_UNREAD_FIELD")
+  private Future<?> mHotBlockReplicationService;
+
   private Future<List<AlluxioURI>> mStartupConsistencyCheck;
 
   /**
@@ -334,6 +359,14 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     mWhitelist = new PrefixList(Configuration.getList(PropertyKey.MASTER_WHITELIST, ","));
 
     mAsyncPersistHandler = AsyncPersistHandler.Factory.create(new FileSystemMasterView(this));
+    mLoadManager = new LoadManager(mBlockMaster);
+    mHotBlockReplicator = new HotBlockReplicator(mBlockMaster,
+        new HotBlockReplicator.BlockResolver() {
+          @Override
+          public LoadBlock getLoadBlock(long blockId) {
+            return DefaultFileSystemMaster.this.getLoadBlock(blockId);
+          }
+        });
     mPermissionChecker = new PermissionChecker(mInodeTree);
     mUfsAbsentPathCache = UfsAbsentPathCache.Factory.create(mMountTable);
 
@@ -493,14 +526,17 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     // getExecutorService() because the super.start initializes the executor service.
     super.start(isPrimary);
     if (isPrimary) {
-      mTtlCheckerService = getExecutorService().submit(
-          new HeartbeatThread(HeartbeatContext.MASTER_TTL_CHECK,
-              new InodeTtlChecker(this, mInodeTree, mTtlBuckets),
-              (int) Configuration.getMs(PropertyKey.MASTER_TTL_CHECKER_INTERVAL_MS)));
-      mLostFilesDetectionService = getExecutorService().submit(
-          new HeartbeatThread(HeartbeatContext.MASTER_LOST_FILES_DETECTION,
-              new LostFileDetector(this, mInodeTree),
-              (int) Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS)));
+      mTtlCheckerService = startHeartbeat(HeartbeatContext.MASTER_TTL_CHECK,
+          new InodeTtlChecker(this, mInodeTree, mTtlBuckets),
+          Configuration.getMs(PropertyKey.MASTER_TTL_CHECKER_INTERVAL_MS));
+      mLostFilesDetectionService = startHeartbeat(HeartbeatContext.MASTER_LOST_FILES_DETECTION,
+          new LostFileDetector(this, mInodeTree),
+          Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS));
+      if (Configuration.getBoolean(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_ENABLED)) {
+        mHotBlockReplicationService = startHeartbeat(HeartbeatContext.MASTER_HOT_BLOCK_REPLICATION,
+            mHotBlockReplicator,
+            Configuration.getMs(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_INTERVAL_MS));
+      }
       if (Configuration.getBoolean(PropertyKey.MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED)) {
         mStartupConsistencyCheck = getExecutorService().submit(new Callable<List<AlluxioURI>>() {
           @Override
@@ -674,15 +710,51 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   public FileInfo getFileInfo(AlluxioURI path, GetStatusOptions options)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException {
     Metrics.GET_FILE_INFO_OPS.inc();
+    try (JournalContext journalContext = createJournalContext()) {
+      return getFileInfoAndJournal(path, options, journalContext);
+    }
+  }
 
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.READ)) {
+  @Override
+  public List<FileInfo> getFileInfoBatch(List<AlluxioURI> paths, GetStatusOptions options)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException {
+    FileInfo[] fileInfos = new FileInfo[paths.size()];
+    try (JournalContext journalContext = createJournalContext()) {
+      for (int index : getBatchOrder(paths, false)) {
+        Metrics.GET_FILE_INFO_OPS.inc();
+        fileInfos[index] = getFileInfoAndJournal(paths.get(index), options, journalContext);
+      }
+    }
+    return Arrays.asList(fileInfos);
+  }
+
+  /**
+   * Returns the {@link FileInfo} for a given path, loading its metadata from the UFS if needed.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the path to get the {@link FileInfo} for
+   * @param options the {@link GetStatusOptions}
+   * @param journalContext the journal context
+   * @return the {@link FileInfo} for the given path
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if the file path is not valid
+   * @throws AccessControlException if permission checking fails
+   */
+  private FileInfo getFileInfoAndJournal(AlluxioURI path, GetStatusOptions options,
+      JournalContext journalContext)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException {
+    try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.READ)) {
       mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
       if (inodePath.fullPathExists()) {
         // The file already exists, so metadata does not need to be loaded.
         return getFileInfoInternal(inodePath);
       }
       checkLoadMetadataOptions(options.getLoadMetadataType(), inodePath.getUri());
+      if (options.getLoadMetadataType() == LoadMetadataType.Always) {
+        // Always loading the metadata asks for the current UFS state, not the cached one.
+        invalidateUfsStatus(path, true);
+      }
 
       loadMetadataIfNotExistAndJournal(inodePath,
           LoadMetadataOptions.defaults().setCreateAncestors(true), journalContext);
@@ -753,6 +825,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       } else {
         checkLoadMetadataOptions(listStatusOptions.getLoadMetadataType(), inodePath.getUri());
       }
+      if (listStatusOptions.getLoadMetadataType() == LoadMetadataType.Always) {
+        // Always loading the metadata asks for the current UFS state, not the cached one.
+        invalidateUfsStatus(path, true);
+      }
 
       loadMetadataIfNotExistAndJournal(inodePath, loadMetadataOptions, journalContext);
       ensureFullPathAndUpdateCache(inodePath);
@@ -762,7 +838,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       if (inode.isDirectory()) {
         TempInodePathForDescendant tempInodePath = new TempInodePathForDescendant(inodePath);
         mPermissionChecker.checkPermission(Mode.Bits.EXECUTE, inodePath);
-        for (Inode<?> child : ((InodeDirectory) inode).getChildren()) {
+        for (Inode<?> child : listChildren((InodeDirectory) inode, listStatusOptions)) {
           child.lockReadAndCheckParent(inode);
           try {
             // the path to child for getPath should already be locked.
@@ -772,7 +848,8 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
             child.unlockRead();
           }
         }
-      } else {
+      } else if (listStatusOptions.getStartAfter().isEmpty()) {
+        // Only the first page of a paged listing of a file contains the file.
         ret.add(getFileInfoInternal(inodePath));
       }
       Metrics.FILE_INFOS_GOT.inc();
@@ -780,6 +857,27 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     }
   }
 
+  /**
+   * Selects the children of a directory to list. When the listing is paged, the selected
+   * children are the first batch of children whose names sort after the start name, in name
+   * order. The directory keeps the names of its children sorted, so a page is found without
+   * scanning the other children, and only the selected children are locked and have their
+   * {@link FileInfo} generated.
+   *
+   * @param directory the directory to list
+   * @param options the list status options
+   * @return the children to list
+   */
+  private Collection<Inode<?>> listChildren(InodeDirectory directory,
+      ListStatusOptions options) {
+    String startAfter = options.getStartAfter();
+    int batchSize = options.getBatchSize();
+    if (startAfter.isEmpty() && batchSize <= 0) {
+      return directory.getChildren();
+    }
+    return directory.getChildrenAfter(startAfter, batchSize);
+  }
+
   /**
    * Checks the {@link LoadMetadataType} to determine whether or not to proceed in loading
    * metadata. This method assumes that the path does not exist in Alluxio namespace, and will
@@ -819,6 +917,31 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     }
   }
 
+  /**
+   * Returns the positions of the given paths in the order a batch operation should process them.
+   * Batches always visit their paths in sorted order, so concurrent batches acquire inode locks in
+   * a consistent order, and ancestors are visited before their descendants (or after them when
+   * reversed).
+   *
+   * @param paths the paths of the batch
+   * @param reverse whether to visit the paths in reverse sorted order
+   * @return the indices into the given paths, in the order they should be processed
+   */
+  private static List<Integer> getBatchOrder(final List<AlluxioURI> paths, boolean reverse) {
+    List<Integer> order = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      order.add(i);
+    }
+    Comparator<Integer> comparator = new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        return paths.get(a).compareTo(paths.get(b));
+      }
+    };
+    Collections.sort(order, reverse ? Collections.reverseOrder(comparator) : comparator);
+    return order;
+  }
+
   @Override
   public FileSystemMasterView getFileSystemMasterView() {
     return new FileSystemMasterView(this);
@@ -894,6 +1017,26 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       mPermissionChecker.checkPermission(Mode.Bits.WRITE, inodePath);
       // Even readonly mount points should be able to complete a file, for UFS reads in CACHE mode.
       completeFileAndJournal(inodePath, options, journalContext);
+      if (inodePath.getInode().isPersisted()) {
+        // The client wrote the file to the UFS.
+        invalidateUfsStatus(inodePath.getUri(), false);
+      }
+    }
+  }
+
+  /**
+   * Invalidates the cached answers of the metadata operations on the UFS path of a path, after a
+   * client or a worker changed it in the UFS, or when its current UFS state is asked for.
+   *
+   * @param path the Alluxio path
+   * @param recursive whether to invalidate the answers for the descendants of the path too
+   */
+  private void invalidateUfsStatus(AlluxioURI path, boolean recursive) {
+    try {
+      mUfsManager.getStatusCache()
+          .invalidate(mMountTable.resolve(path).getUri().toString(), recursive);
+    } catch (InvalidPathException e) {
+      LOG.warn("Failed to invalidate the cached UFS status of {}: {}", path, e.getMessage());
     }
   }
 
@@ -974,6 +1117,9 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     inode.setBlockIds(blockIds);
     inode.setLastModificationTimeMs(opTimeMs);
     inode.complete(length);
+    for (FileEventListener listener : mFileEventListeners) {
+      listener.onFileCompleted(inode.getId());
+    }
 
     if (inode.isPersisted()) {
       if (!replayed) {
@@ -1013,8 +1159,46 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
       BlockInfoException, IOException, FileDoesNotExistException {
     Metrics.CREATE_FILES_OPS.inc();
-    try (JournalContext journalContext = createJournalContext();
-        LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
+    try (JournalContext journalContext = createJournalContext()) {
+      return createFileAndJournal(path, options, journalContext);
+    }
+  }
+
+  @Override
+  public List<Long> createFilesBatch(List<AlluxioURI> paths, CreateFileOptions options)
+      throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
+      BlockInfoException, IOException, FileDoesNotExistException {
+    Long[] fileIds = new Long[paths.size()];
+    try (JournalContext journalContext = createJournalContext()) {
+      for (int index : getBatchOrder(paths, false)) {
+        Metrics.CREATE_FILES_OPS.inc();
+        fileIds[index] = createFileAndJournal(paths.get(index), options, journalContext);
+      }
+    }
+    return Arrays.asList(fileIds);
+  }
+
+  /**
+   * Creates a file (not a directory) for a given path, after checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the file to create
+   * @param options method options
+   * @param journalContext the journal context
+   * @return the id of the created file
+   * @throws AccessControlException if permission checking fails
+   * @throws FileAlreadyExistsException if the file already exists
+   * @throws BlockInfoException if an invalid block information in encountered
+   * @throws FileDoesNotExistException if the parent of the path does not exist and the recursive
+   *         option is false
+   * @throws InvalidPathException if an invalid path is encountered
+   */
+  private long createFileAndJournal(AlluxioURI path, CreateFileOptions options,
+      JournalContext journalContext)
+      throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
+      BlockInfoException, IOException, FileDoesNotExistException {
+    try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.WRITE)) {
       mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
       mMountTable.checkUnderWritableMountPoint(path);
       createFileAndJournal(inodePath, options, journalContext);
@@ -1167,13 +1351,53 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       AccessControlException {
     List<Inode<?>> deletedInodes;
     Metrics.DELETE_PATHS_OPS.inc();
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
+    try (JournalContext journalContext = createJournalContext()) {
+      deletedInodes = deleteAndJournal(path, options, journalContext);
+    }
+    deleteInodeBlocks(deletedInodes);
+  }
+
+  @Override
+  public void deleteBatch(List<AlluxioURI> paths, DeleteOptions options) throws IOException,
+      FileDoesNotExistException, DirectoryNotEmptyException, InvalidPathException,
+      AccessControlException {
+    List<Inode<?>> deletedInodes = new ArrayList<>();
+    try (JournalContext journalContext = createJournalContext()) {
+      // Visit descendants before their ancestors so that a non-recursive delete of a directory
+      // succeeds when its children are deleted earlier in the same batch.
+      for (int index : getBatchOrder(paths, true)) {
+        Metrics.DELETE_PATHS_OPS.inc();
+        deletedInodes.addAll(deleteAndJournal(paths.get(index), options, journalContext));
+      }
+    } finally {
+      // Blocks of the inodes deleted so far are removed even if a later path fails, since their
+      // deletion has already been journaled.
+      deleteInodeBlocks(deletedInodes);
+    }
+  }
+
+  /**
+   * Deletes a given path, after checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the path to delete
+   * @param options the method options
+   * @param journalContext the journal context
+   * @return a list of all deleted inodes
+   * @throws InvalidPathException if the path is invalid
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws DirectoryNotEmptyException if recursive is false and the file is a nonempty directory
+   * @throws AccessControlException if permission checking fails
+   */
+  private List<Inode<?>> deleteAndJournal(AlluxioURI path, DeleteOptions options,
+      JournalContext journalContext) throws IOException, FileDoesNotExistException,
+      DirectoryNotEmptyException, InvalidPathException, AccessControlException {
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE)) {
       mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, inodePath);
       mMountTable.checkUnderWritableMountPoint(path);
-      deletedInodes = deleteAndJournal(inodePath, options, journalContext);
+      return deleteAndJournal(inodePath, options, journalContext);
     }
-    deleteInodeBlocks(deletedInodes);
   }
 
   /**
@@ -1450,6 +1674,37 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     }
   }
 
+  @Override
+  public long getFileChecksum(AlluxioURI path)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException {
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ)) {
+      mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      InodeFile file = inodePath.getInodeFile();
+      if (!file.isCompleted()) {
+        return Constants.UNKNOWN_CHECKSUM;
+      }
+      // Every block but the last one is full, so the checksums are composed without the block
+      // lengths.
+      long checksum = 0;
+      long offset = 0;
+      for (long blockId : file.getBlockIds()) {
+        long blockChecksum;
+        try {
+          blockChecksum = mBlockMaster.getBlockChecksum(blockId);
+        } catch (BlockInfoException e) {
+          return Constants.UNKNOWN_CHECKSUM;
+        }
+        if (blockChecksum == Constants.UNKNOWN_CHECKSUM) {
+          return Constants.UNKNOWN_CHECKSUM;
+        }
+        long blockLength = Math.min(file.getBlockSizeBytes(), file.getLength() - offset);
+        checksum = CRC32C.combine(checksum, blockChecksum, blockLength);
+        offset += blockLength;
+      }
+      return offset == file.getLength() ? checksum : Constants.UNKNOWN_CHECKSUM;
+    }
+  }
+
   /**
    * @param inodePath the {@link LockedInodePath} to get the info for
    * @return a list of {@link FileBlockInfo} for all the blocks of the given inode
@@ -1522,53 +1777,27 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   @Override
   public List<AlluxioURI> getInMemoryFiles() {
     List<AlluxioURI> files = new ArrayList<>();
-    Inode root = mInodeTree.getRoot();
-    // Root has no parent, lock directly.
-    root.lockRead();
-    try {
-      getInMemoryFilesInternal(mInodeTree.getRoot(), new AlluxioURI(AlluxioURI.SEPARATOR), files);
-    } finally {
-      root.unlockRead();
-    }
-    return files;
-  }
-
-  /**
-   * Adds in memory files to the array list passed in. This method assumes the inode passed in is
-   * already read locked.
-   *
-   * @param inode the root of the subtree to search
-   * @param uri the uri of the parent of the inode
-   * @param files the list to accumulate the results in
-   */
-  private void getInMemoryFilesInternal(Inode<?> inode, AlluxioURI uri, List<AlluxioURI> files) {
-    AlluxioURI newUri = uri.join(inode.getName());
-    if (inode.isFile()) {
-      if (isFullyInMemory((InodeFile) inode)) {
-        files.add(newUri);
-      }
-    } else {
-      // This inode is a directory.
-      Set<Inode<?>> children = ((InodeDirectory) inode).getChildren();
-      for (Inode<?> child : children) {
-        try {
-          child.lockReadAndCheckParent(inode);
-        } catch (InvalidPathException e) {
-          // Inode is no longer part of this directory.
-          continue;
-        }
-        try {
-          getInMemoryFilesInternal(child, newUri, files);
-        } finally {
-          child.unlockRead();
+    // Only the files with blocks in the top tier are visited, and only their own paths are locked.
+    for (long containerId : mBlockMaster.getCachedContainerIds(0)) {
+      try (LockedInodePath inodePath = mInodeTree
+          .lockFullInodePath(IdUtils.createFileId(containerId), InodeTree.LockMode.READ)) {
+        Inode<?> inode = inodePath.getInode();
+        if (inode.isFile() && isFullyInMemory((InodeFile) inode)) {
+          files.add(inodePath.getUri());
         }
+      } catch (FileDoesNotExistException e) {
+        // The file is deleted, while its blocks are not removed from the workers yet.
+        continue;
       }
     }
+    return files;
   }
 
   /**
    * Gets the in-memory percentage of an Inode. For a file that has all blocks in memory, it returns
-   * 100; for a file that has no block in memory, it returns 0. Returns 0 for a directory.
+   * 100; for a file that has no block in memory, it returns 0. Returns 0 for a directory. The
+   * length of the blocks in memory is looked up in the index of the block master, so this does not
+   * look up the blocks of the file.
    *
    * @param inode the inode
    * @return the in memory percentage
@@ -1584,25 +1813,8 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       return 100;
     }
 
-    long inMemoryLength = 0;
-    for (BlockInfo info : mBlockMaster.getBlockInfoList(inodeFile.getBlockIds())) {
-      if (isInTopStorageTier(info)) {
-        inMemoryLength += info.getLength();
-      }
-    }
-    return (int) (inMemoryLength * 100 / length);
-  }
-
-  /**
-   * @return true if the given block is in the top storage level in some worker, false otherwise
-   */
-  private boolean isInTopStorageTier(BlockInfo blockInfo) {
-    for (BlockLocation location : blockInfo.getLocations()) {
-      if (mBlockMaster.getGlobalStorageTierAssoc().getOrdinal(location.getTierAlias()) == 0) {
-        return true;
-      }
-    }
-    return false;
+    long inMemoryLength = mBlockMaster.getCachedBytes(inodeFile.getBlockContainerId(), 0);
+    return (int) (Math.min(inMemoryLength, length) * 100 / length);
   }
 
   @Override
@@ -1687,13 +1899,48 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       throws FileAlreadyExistsException, FileDoesNotExistException, InvalidPathException,
       IOException, AccessControlException {
     Metrics.RENAME_PATH_OPS.inc();
+    try (JournalContext journalContext = createJournalContext()) {
+      renameAndJournal(srcPath, dstPath, options, journalContext);
+    }
+  }
+
+  @Override
+  public void renameBatch(List<AlluxioURI> srcPaths, List<AlluxioURI> dstPaths,
+      RenameOptions options) throws FileAlreadyExistsException, FileDoesNotExistException,
+      InvalidPathException, IOException, AccessControlException {
+    Preconditions.checkArgument(srcPaths.size() == dstPaths.size(),
+        "The number of source paths (%s) and destination paths (%s) must match", srcPaths.size(),
+        dstPaths.size());
+    try (JournalContext journalContext = createJournalContext()) {
+      for (int index : getBatchOrder(srcPaths, false)) {
+        Metrics.RENAME_PATH_OPS.inc();
+        renameAndJournal(srcPaths.get(index), dstPaths.get(index), options, journalContext);
+      }
+    }
+  }
+
+  /**
+   * Renames a file to a destination, after checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param srcPath the source path to rename
+   * @param dstPath the destination path to rename the file to
+   * @param options method options
+   * @param journalContext the journal context
+   * @throws FileDoesNotExistException if a non-existent file is encountered
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws AccessControlException if permission checking fails
+   * @throws FileAlreadyExistsException if the file already exists
+   */
+  private void renameAndJournal(AlluxioURI srcPath, AlluxioURI dstPath, RenameOptions options,
+      JournalContext journalContext) throws FileAlreadyExistsException, FileDoesNotExistException,
+      InvalidPathException, IOException, AccessControlException {
     // Require a WRITE lock on the source but only a READ lock on the destination. Since the
     // destination should not exist, we will only obtain a READ lock on the destination parent. The
     // modify operations on the parent inodes are thread safe so WRITE locks are not required.
-    try (JournalContext journalContext = createJournalContext();
-        InodePathPair inodePathPair = mInodeTree
-            .lockInodePathPair(srcPath, InodeTree.LockMode.WRITE, dstPath,
-                InodeTree.LockMode.READ)) {
+    try (InodePathPair inodePathPair = mInodeTree
+        .lockInodePathPair(srcPath, InodeTree.LockMode.WRITE, dstPath, InodeTree.LockMode.READ)) {
       LockedInodePath srcInodePath = inodePathPair.getFirst();
       LockedInodePath dstInodePath = inodePathPair.getSecond();
       mPermissionChecker.checkParentPermission(Mode.Bits.WRITE, srcInodePath);
@@ -2120,6 +2367,16 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     return new ArrayList<>(lostFiles);
   }
 
+  @Override
+  public void registerFileEventListener(FileEventListener listener) {
+    mFileEventListeners.add(listener);
+  }
+
+  @Override
+  public void unregisterFileEventListener(FileEventListener listener) {
+    mFileEventListeners.remove(listener);
+  }
+
   @Override
   public void reportLostFile(long fileId) throws FileDoesNotExistException {
     try (
@@ -2740,24 +2997,125 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   }
 
   @Override
-  public FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles)
+  public LoadJobInfo load(AlluxioURI path) throws FileDoesNotExistException,
+      InvalidPathException, AccessControlException, UnavailableException {
+    List<LoadBlock> blocks = new ArrayList<>();
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ)) {
+      mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      List<Inode<?>> inodes = new ArrayList<>();
+      inodes.add(inodePath.getInode());
+      try (InodeLockList lockList = mInodeTree.lockDescendants(inodePath,
+          InodeTree.LockMode.READ)) {
+        inodes.addAll(lockList.getInodes());
+        for (Inode<?> inode : inodes) {
+          if (inode.isFile()) {
+            addBlocksToLoad((InodeFile) inode, blocks);
+          }
+        }
+      }
+    }
+    return mLoadManager.load(path.getPath(), blocks);
+  }
+
+  /**
+   * Adds the blocks of a file which are not in Alluxio to the blocks to load. The file and its
+   * ancestors must be locked.
+   *
+   * @param file the file
+   * @param blocks the blocks to load
+   */
+  private void addBlocksToLoad(InodeFile file, List<LoadBlock> blocks)
+      throws FileDoesNotExistException, InvalidPathException {
+    if (!file.isPersisted() || !file.isCompleted() || file.getLength() == Constants.UNKNOWN_SIZE) {
+      return;
+    }
+    MountTable.Resolution resolution = null;
+    for (BlockInfo blockInfo : mBlockMaster.getBlockInfoList(file.getBlockIds())) {
+      if (!blockInfo.getLocations().isEmpty()) {
+        continue;
+      }
+      if (resolution == null) {
+        resolution = mMountTable.resolve(mInodeTree.getPath(file));
+      }
+      // The sequence number part of the block id is the block index.
+      long offset = file.getBlockSizeBytes() * BlockId.getSequenceNumber(blockInfo.getBlockId());
+      blocks.add(new LoadBlock(blockInfo.getBlockId(), resolution.getUri().toString(), offset,
+          blockInfo.getLength(), resolution.getMountId()));
+    }
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return the block to load from the under storage, or null if the block is not in a persisted
+   *         file
+   */
+  @Nullable
+  private LoadBlock getLoadBlock(long blockId) {
+    // the file id is the container id of the block id
+    long fileId = IdUtils.createFileId(BlockId.getContainerId(blockId));
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(fileId,
+        InodeTree.LockMode.READ)) {
+      Inode<?> inode = inodePath.getInode();
+      if (!inode.isFile()) {
+        return null;
+      }
+      InodeFile file = (InodeFile) inode;
+      if (!file.isPersisted() || !file.isCompleted() || file.getLength() == Constants.UNKNOWN_SIZE
+          || !file.getBlockIds().contains(blockId)) {
+        return null;
+      }
+      MountTable.Resolution resolution = mMountTable.resolve(inodePath.getUri());
+      // The sequence number part of the block id is the block index.
+      long offset = file.getBlockSizeBytes() * BlockId.getSequenceNumber(blockId);
+      return new LoadBlock(blockId, resolution.getUri().toString(), offset,
+          Math.min(file.getBlockSizeBytes(), file.getLength() - offset), resolution.getMountId());
+    } catch (FileDoesNotExistException | InvalidPathException e) {
+      // The file is deleted, while its blocks are not removed from the workers yet.
+      return null;
+    }
+  }
+
+  @Override
+  public LoadJobInfo getLoadJobInfo(long id) throws NotFoundException {
+    return mLoadManager.getLoadJobInfo(id);
+  }
+
+  @Override
+  public FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles,
+      List<Long> loadedBlocks, List<Long> failedBlocks, @Nullable List<Long> loadingBlocks)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException,
       IOException {
     for (long fileId : persistedFiles) {
       try {
         // Permission checking for each file is performed inside setAttribute
-        setAttribute(getPath(fileId), SetAttributeOptions.defaults().setPersisted(true));
+        AlluxioURI path = getPath(fileId);
+        // The worker wrote the file to the UFS.
+        invalidateUfsStatus(path, false);
+        setAttribute(path, SetAttributeOptions.defaults().setPersisted(true));
       } catch (FileDoesNotExistException | AccessControlException | InvalidPathException e) {
         LOG.error("Failed to set file {} as persisted, because {}", fileId, e);
       }
     }
 
+    mLoadManager.reportBlocks(workerId, loadedBlocks, failedBlocks, loadingBlocks);
+    mHotBlockReplicator.reportBlocks(workerId, loadedBlocks, failedBlocks);
+
     // get the files for the given worker to persist
     List<PersistFile> filesToPersist = mAsyncPersistHandler.pollFilesToPersist(workerId);
     if (!filesToPersist.isEmpty()) {
       LOG.debug("Sent files {} to worker {} to persist", filesToPersist, workerId);
     }
     FileSystemCommandOptions options = new FileSystemCommandOptions();
+    if (filesToPersist.isEmpty()) {
+      // get the blocks for the given worker to load, persistence takes precedence
+      List<LoadBlock> blocksToLoad = mLoadManager.pollBlocksToLoad(workerId);
+      blocksToLoad.addAll(mHotBlockReplicator.pollBlocksToReplicate(workerId));
+      if (!blocksToLoad.isEmpty()) {
+        LOG.debug("Sent {} blocks to worker {} to load", blocksToLoad.size(), workerId);
+        options.setLoadOptions(new LoadCommandOptions(blocksToLoad));
+        return new FileSystemCommand(CommandType.Load, options);
+      }
+    }
     options.setPersistOptions(new PersistCommandOptions(filesToPersist));
     return new FileSystemCommand(CommandType.Persist, options);
   }
@@ -2804,6 +3162,9 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
         persistedInodes = propagatePersistedInternal(inodePath, false);
         file.setLastModificationTimeMs(opTimeMs);
         Metrics.FILES_PERSISTED.inc();
+        for (FileEventListener listener : mFileEventListeners) {
+          listener.onFilePersisted(file.getId());
+        }
       }
     }
     boolean ownerGroupChanged = (options.getOwner() != null) || (options.getGroup() != null);
@@ -0,0 +1,38 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+/**
+ * A listener interface for receiving the state changes of files in {@link FileSystemMaster}. All
+ * the callback methods are triggered only after the change has been applied, including when it is
+ * replayed from the journal.
+ * <p>
+ * The callbacks are called while the file is locked, and may be called concurrently. Thus
+ * listener implementations need to ensure thread-safety, return quickly, and not call back into
+ * the file system master.
+ */
+public interface FileEventListener {
+
+  /**
+   * Actions when a file is completed.
+   *
+   * @param fileId the id of the completed file
+   */
+  void onFileCompleted(long fileId);
+
+  /**
+   * Actions when a file is persisted.
+   *
+   * @param fileId the id of the persisted file
+   */
+  void onFilePersisted(long fileId);
+}
@@ -12,6 +12,7 @@
 package alluxio.master.file;
 
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.exception.AccessControlException;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.BlockInfoException;
@@ -22,6 +23,8 @@ import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidFileSizeException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.UnexpectedAlluxioException;
+import alluxio.exception.status.NotFoundException;
+import alluxio.exception.status.UnavailableException;
 import alluxio.master.Master;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.file.meta.PersistenceState;
@@ -41,6 +44,7 @@ import alluxio.thrift.FileSystemCommand;
 import alluxio.thrift.UfsInfo;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.TtlAction;
 import alluxio.wire.WorkerInfo;
@@ -50,6 +54,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 /**
  * The interface of file system master.
  */
@@ -99,6 +105,22 @@ public interface FileSystemMaster extends Master {
   FileInfo getFileInfo(AlluxioURI path, GetStatusOptions options)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException;
 
+  /**
+   * Returns the {@link FileInfo} for each of the given paths. Any metadata loaded from the UFS is
+   * written to the journal with a single flush for the whole batch.
+   * <p>
+   * This operation requires users to have READ permission on each path.
+   *
+   * @param paths the paths to get the {@link FileInfo} for
+   * @param options the {@link GetStatusOptions}
+   * @return the {@link FileInfo} for each path, in the order of the given paths
+   * @throws FileDoesNotExistException if any of the files does not exist
+   * @throws InvalidPathException if any of the file paths is not valid
+   * @throws AccessControlException if permission checking fails
+   */
+  List<FileInfo> getFileInfoBatch(List<AlluxioURI> paths, GetStatusOptions options)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException;
+
   /**
    * Returns the persistence state for a file id. This method is used by the lineage master.
    *
@@ -182,6 +204,27 @@ public interface FileSystemMaster extends Master {
       throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
       BlockInfoException, IOException, FileDoesNotExistException;
 
+  /**
+   * Creates a batch of files (not directories) with the same options. The whole batch is written
+   * to the journal with a single flush. The batch is not atomic: if creating one of the files
+   * fails, the files created before it remain.
+   * <p>
+   * This operation requires WRITE permission on the parent of each path.
+   *
+   * @param paths the files to create
+   * @param options method options
+   * @return the ids of the created files, in the order of the given paths
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws FileAlreadyExistsException if one of the files already exists
+   * @throws BlockInfoException if an invalid block information is encountered
+   * @throws AccessControlException if permission checking fails
+   * @throws FileDoesNotExistException if the parent of a path does not exist and the recursive
+   *         option is false
+   */
+  List<Long> createFilesBatch(List<AlluxioURI> paths, CreateFileOptions options)
+      throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
+      BlockInfoException, IOException, FileDoesNotExistException;
+
   /**
    * Reinitializes the blocks of an existing open file.
    *
@@ -243,6 +286,24 @@ public interface FileSystemMaster extends Master {
       throws IOException, FileDoesNotExistException, DirectoryNotEmptyException,
       InvalidPathException, AccessControlException;
 
+  /**
+   * Deletes a batch of paths with the same options. The whole batch is written to the journal
+   * with a single flush. The batch is not atomic: if deleting one of the paths fails, the paths
+   * deleted before it remain deleted.
+   * <p>
+   * This operation requires user to have WRITE permission on the parent of each path.
+   *
+   * @param paths the paths to delete
+   * @param options method options
+   * @throws DirectoryNotEmptyException if recursive is false and a path is a nonempty directory
+   * @throws FileDoesNotExistException if one of the files does not exist
+   * @throws AccessControlException if permission checking fails
+   * @throws InvalidPathException if a path is invalid
+   */
+  void deleteBatch(List<AlluxioURI> paths, DeleteOptions options)
+      throws IOException, FileDoesNotExistException, DirectoryNotEmptyException,
+      InvalidPathException, AccessControlException;
+
   /**
    * Gets the {@link FileBlockInfo} for all blocks of a file. If path is a directory, an exception
    * is thrown.
@@ -258,6 +319,24 @@ public interface FileSystemMaster extends Master {
   List<FileBlockInfo> getFileBlockInfoList(AlluxioURI path)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException;
 
+  /**
+   * Gets the CRC32C checksum of the content of a file, composed from the checksums of its blocks
+   * which the workers computed when they committed the blocks. The checksum is the same as the
+   * checksum of the whole content, so it does not depend on the block size, and it can be compared
+   * with the COMPOSITE-CRC checksums of HDFS files. If path is a directory, an exception is thrown.
+   * <p>
+   * This operation requires the client user to have READ permission on the the path.
+   *
+   * @param path the path to get the checksum for
+   * @return the checksum, or {@link Constants#UNKNOWN_CHECKSUM} if the file is not complete or one
+   *         of its blocks was never committed to Alluxio with a checksum
+   * @throws FileDoesNotExistException if the file does not exist or path is a directory
+   * @throws InvalidPathException if the path of the given file is invalid
+   * @throws AccessControlException if permission checking fails
+   */
+  long getFileChecksum(AlluxioURI path)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException;
+
   /**
    * @return absolute paths of all in memory files
    */
@@ -299,6 +378,26 @@ public interface FileSystemMaster extends Master {
       throws FileAlreadyExistsException, FileDoesNotExistException, InvalidPathException,
       IOException, AccessControlException;
 
+  /**
+   * Renames a batch of files, the i-th source path to the i-th destination path. The whole batch
+   * is written to the journal with a single flush. The batch is not atomic: if renaming one of the
+   * paths fails, the paths renamed before it remain renamed.
+   * <p>
+   * This operation requires users to have WRITE permission on the parent of each src path, and
+   * WRITE permission on the parent of each dst path.
+   *
+   * @param srcPaths the source paths to rename
+   * @param dstPaths the destination paths to rename the files to
+   * @param options method options
+   * @throws FileDoesNotExistException if a non-existent file is encountered
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws AccessControlException if permission checking fails
+   * @throws FileAlreadyExistsException if one of the destinations already exists
+   */
+  void renameBatch(List<AlluxioURI> srcPaths, List<AlluxioURI> dstPaths, RenameOptions options)
+      throws FileAlreadyExistsException, FileDoesNotExistException, InvalidPathException,
+      IOException, AccessControlException;
+
   /**
    * Frees or evicts all of the blocks of the file from alluxio storage. If the given file is a
    * directory, and the 'recursive' flag is enabled, all descendant files will also be freed.
@@ -367,6 +466,21 @@ public interface FileSystemMaster extends Master {
   // TODO(binfan): Add permission checking for internal APIs
   void reportLostFile(long fileId) throws FileDoesNotExistException;
 
+  /**
+   * Registers a new {@link FileEventListener} to be notified of the state changes of files.
+   *
+   * @param listener the listener to register
+   */
+  // Currently used by Lineage Master
+  void registerFileEventListener(FileEventListener listener);
+
+  /**
+   * Unregisters a {@link FileEventListener}, so that it is no longer notified.
+   *
+   * @param listener the listener to unregister
+   */
+  void unregisterFileEventListener(FileEventListener listener);
+
   /**
    * Loads metadata for the object identified by the given path from UFS into Alluxio.
    * <p>
@@ -460,18 +574,47 @@ public interface FileSystemMaster extends Master {
   void scheduleAsyncPersistence(AlluxioURI path) throws AlluxioException;
 
   /**
-   * Instructs a worker to persist the files.
+   * Schedules the workers to load the blocks of the files under the given path which are not in
+   * Alluxio from the under storage. If a load of the path is in progress, its progress is returned
+   * instead.
+   * <p>
+   * Needs READ permission on the path.
+   *
+   * @param path the path of the file or directory to load
+   * @return the information about the load job
+   * @throws FileDoesNotExistException if the path does not exist
+   * @throws InvalidPathException if the path is invalid
+   * @throws AccessControlException if permission checking fails
+   * @throws UnavailableException if there is no worker to load the blocks
+   */
+  LoadJobInfo load(AlluxioURI path) throws FileDoesNotExistException, InvalidPathException,
+      AccessControlException, UnavailableException;
+
+  /**
+   * @param id the id of a load job
+   * @return the information about the load job
+   * @throws NotFoundException if the load job does not exist
+   */
+  LoadJobInfo getLoadJobInfo(long id) throws NotFoundException;
+
+  /**
+   * Instructs a worker to persist files or to load blocks.
    * <p>
    * Needs WRITE permission on the list of files.
    *
    * @param workerId the id of the worker that heartbeats
    * @param persistedFiles the files that persisted on the worker
-   * @return the command for persisting the blocks of a file
+   * @param loadedBlocks the blocks the worker loaded since its last heartbeat
+   * @param failedBlocks the blocks the worker failed to load since its last heartbeat
+   * @param loadingBlocks the blocks the worker is loading, or null if the worker did not report
+   *        them
+   * @return the command for persisting the blocks of a file or for loading blocks
    * @throws FileDoesNotExistException if the file does not exist
    * @throws InvalidPathException if the file path corresponding to the file id is invalid
    * @throws AccessControlException if permission checking fails
    */
-  FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles)
+  FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles,
+      List<Long> loadedBlocks, List<Long> failedBlocks, @Nullable List<Long> loadingBlocks)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException,
       IOException;
 
@@ -38,24 +38,34 @@ import alluxio.thrift.CreateDirectoryTOptions;
 import alluxio.thrift.CreateDirectoryTResponse;
 import alluxio.thrift.CreateFileTOptions;
 import alluxio.thrift.CreateFileTResponse;
+import alluxio.thrift.CreateFilesBatchTResponse;
+import alluxio.thrift.DeleteBatchTResponse;
 import alluxio.thrift.DeleteTOptions;
 import alluxio.thrift.DeleteTResponse;
 import alluxio.thrift.FileInfo;
 import alluxio.thrift.FileSystemMasterClientService;
 import alluxio.thrift.FreeTOptions;
 import alluxio.thrift.FreeTResponse;
+import alluxio.thrift.GetFileChecksumTOptions;
+import alluxio.thrift.GetFileChecksumTResponse;
+import alluxio.thrift.GetLoadJobInfoTOptions;
+import alluxio.thrift.GetLoadJobInfoTResponse;
 import alluxio.thrift.GetNewBlockIdForFileTOptions;
 import alluxio.thrift.GetNewBlockIdForFileTResponse;
 import alluxio.thrift.GetServiceVersionTOptions;
 import alluxio.thrift.GetServiceVersionTResponse;
+import alluxio.thrift.GetStatusBatchTResponse;
 import alluxio.thrift.GetStatusTOptions;
 import alluxio.thrift.GetStatusTResponse;
 import alluxio.thrift.ListStatusTOptions;
 import alluxio.thrift.ListStatusTResponse;
+import alluxio.thrift.LoadTOptions;
+import alluxio.thrift.LoadTResponse;
 import alluxio.thrift.LoadMetadataTOptions;
 import alluxio.thrift.LoadMetadataTResponse;
 import alluxio.thrift.MountTOptions;
 import alluxio.thrift.MountTResponse;
+import alluxio.thrift.RenameBatchTResponse;
 import alluxio.thrift.RenameTOptions;
 import alluxio.thrift.RenameTResponse;
 import alluxio.thrift.ScheduleAsyncPersistenceTOptions;
@@ -175,6 +185,23 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public CreateFilesBatchTResponse createFilesBatch(final List<String> paths,
+      final CreateFileTOptions options) throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallableThrowsIOException<CreateFilesBatchTResponse>() {
+      @Override
+      public CreateFilesBatchTResponse call() throws AlluxioException, IOException {
+        mFileSystemMaster.createFilesBatch(toAlluxioURIs(paths), new CreateFileOptions(options));
+        return new CreateFilesBatchTResponse();
+      }
+
+      @Override
+      public String toString() {
+        return String.format("CreateFilesBatch: paths=%s, options=%s", paths, options);
+      }
+    });
+  }
+
   @Override
   public FreeTResponse free(final String path, final boolean recursive, final FreeTOptions options)
       throws AlluxioTException {
@@ -200,6 +227,39 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public GetFileChecksumTResponse getFileChecksum(final String path,
+      final GetFileChecksumTOptions options) throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallable<GetFileChecksumTResponse>() {
+      @Override
+      public GetFileChecksumTResponse call() throws AlluxioException {
+        GetFileChecksumTResponse response = new GetFileChecksumTResponse();
+        long checksum = mFileSystemMaster.getFileChecksum(new AlluxioURI(path));
+        if (checksum != Constants.UNKNOWN_CHECKSUM) {
+          response.setChecksum(checksum);
+        }
+        return response;
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetFileChecksum: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
+  @Override
+  public GetLoadJobInfoTResponse getLoadJobInfo(final long id,
+      final GetLoadJobInfoTOptions options) throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetLoadJobInfoTResponse>() {
+      @Override
+      public GetLoadJobInfoTResponse call() throws AlluxioException, IOException {
+        return new GetLoadJobInfoTResponse(
+            ThriftUtils.toThrift(mFileSystemMaster.getLoadJobInfo(id)));
+      }
+    });
+  }
+
   @Override
   public GetNewBlockIdForFileTResponse getNewBlockIdForFile(final String path,
       final GetNewBlockIdForFileTOptions options) throws AlluxioTException {
@@ -234,6 +294,27 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public GetStatusBatchTResponse getStatusBatch(final List<String> paths,
+      final GetStatusTOptions options) throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallable<GetStatusBatchTResponse>() {
+      @Override
+      public GetStatusBatchTResponse call() throws AlluxioException {
+        List<FileInfo> result = new ArrayList<>(paths.size());
+        for (alluxio.wire.FileInfo fileInfo : mFileSystemMaster
+            .getFileInfoBatch(toAlluxioURIs(paths), new GetStatusOptions(options))) {
+          result.add(ThriftUtils.toThrift(fileInfo));
+        }
+        return new GetStatusBatchTResponse(result);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetStatusBatch: paths=%s, options=%s", paths, options);
+      }
+    });
+  }
+
   @Override
   public ListStatusTResponse listStatus(final String path, final ListStatusTOptions options)
       throws AlluxioTException {
@@ -255,6 +336,23 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public LoadTResponse load(final String path, final LoadTOptions options)
+      throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallableThrowsIOException<LoadTResponse>() {
+      @Override
+      public LoadTResponse call() throws AlluxioException, IOException {
+        return new LoadTResponse(
+            ThriftUtils.toThrift(mFileSystemMaster.load(new AlluxioURI(path))));
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Load: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -324,6 +422,23 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public DeleteBatchTResponse deleteBatch(final List<String> paths, final DeleteTOptions options)
+      throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallableThrowsIOException<DeleteBatchTResponse>() {
+      @Override
+      public DeleteBatchTResponse call() throws AlluxioException, IOException {
+        mFileSystemMaster.deleteBatch(toAlluxioURIs(paths), new DeleteOptions(options));
+        return new DeleteBatchTResponse();
+      }
+
+      @Override
+      public String toString() {
+        return String.format("DeleteBatch: paths=%s, options=%s", paths, options);
+      }
+    });
+  }
+
   @Override
   public RenameTResponse rename(final String srcPath, final String dstPath,
       final RenameTOptions options) throws AlluxioTException {
@@ -343,6 +458,25 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public RenameBatchTResponse renameBatch(final List<String> srcPaths,
+      final List<String> dstPaths, final RenameTOptions options) throws AlluxioTException {
+    return RpcUtils.callAndLog(LOG, new RpcCallableThrowsIOException<RenameBatchTResponse>() {
+      @Override
+      public RenameBatchTResponse call() throws AlluxioException, IOException {
+        mFileSystemMaster.renameBatch(toAlluxioURIs(srcPaths), toAlluxioURIs(dstPaths),
+            RenameOptions.defaults());
+        return new RenameBatchTResponse();
+      }
+
+      @Override
+      public String toString() {
+        return String.format("RenameBatch: srcPaths=%s, dstPaths=%s, options=%s", srcPaths,
+            dstPaths, options);
+      }
+    });
+  }
+
   @Override
   public ScheduleAsyncPersistenceTResponse scheduleAsyncPersistence(final String path,
       final ScheduleAsyncPersistenceTOptions options) throws AlluxioTException {
@@ -393,4 +527,16 @@ public final class FileSystemMasterClientServiceHandler implements
       }
     });
   }
+
+  /**
+   * @param paths the paths to convert
+   * @return the given paths as {@link AlluxioURI}s
+   */
+  private static List<AlluxioURI> toAlluxioURIs(List<String> paths) {
+    List<AlluxioURI> uris = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      uris.add(new AlluxioURI(path));
+    }
+    return uris;
+  }
 }
@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -65,14 +66,20 @@ public final class FileSystemMasterWorkerServiceHandler
 
   @Override
   public FileSystemHeartbeatTResponse fileSystemHeartbeat(final long workerId,
-      final List<Long> persistedFiles, FileSystemHeartbeatTOptions options)
+      final List<Long> persistedFiles, final FileSystemHeartbeatTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG,
         new RpcUtils.RpcCallableThrowsIOException<FileSystemHeartbeatTResponse>() {
           @Override
           public FileSystemHeartbeatTResponse call() throws AlluxioException, IOException {
-            return new FileSystemHeartbeatTResponse(
-                mFileSystemMaster.workerHeartbeat(workerId, persistedFiles));
+            List<Long> loadedBlocks = options.isSetLoadedBlocks() ? options.getLoadedBlocks()
+                : Collections.<Long>emptyList();
+            List<Long> failedBlocks = options.isSetFailedBlocks() ? options.getFailedBlocks()
+                : Collections.<Long>emptyList();
+            List<Long> loadingBlocks =
+                options.isSetLoadingBlocks() ? options.getLoadingBlocks() : null;
+            return new FileSystemHeartbeatTResponse(mFileSystemMaster.workerHeartbeat(workerId,
+                persistedFiles, loadedBlocks, failedBlocks, loadingBlocks));
           }
         }
     );
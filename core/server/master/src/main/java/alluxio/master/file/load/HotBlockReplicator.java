@@ -0,0 +1,443 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.load;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.clock.Clock;
+import alluxio.clock.SystemClock;
+import alluxio.exception.BlockInfoException;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.util.IdUtils;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.BlockLocation;
+import alluxio.wire.ThriftUtils;
+import alluxio.wire.WorkerInfo;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Replicates the blocks which are read frequently to more workers, and removes the replicas once
+ * the blocks cool down. The heat of the blocks is tracked by the block master from the reads the
+ * workers report in their heartbeats.
+ *
+ * A block gets one replica for each multiple of
+ * {@link PropertyKey#MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD} in its heat, on top of its first
+ * copy, up to {@link PropertyKey#MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS} copies. The replicas
+ * are placed on the workers with the most free space, which copy them from the workers holding the
+ * block, and load them from the under storage like the blocks of a distributed load if that fails.
+ * A replica which is not loaded within {@link PropertyKey#MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS} of
+ * being sent to its worker is forgotten, so that it can be placed again. A replica added here is
+ * removed when the heat of its block drops below half of the heat which asked for it, so that a
+ * block whose heat hovers around the threshold is not replicated and removed over and over. The
+ * copies which were not added here are never removed.
+ *
+ * The replicas are not journaled. After a master failover, the replicas added by the previous
+ * primary master are kept until they are evicted by the workers.
+ */
+@ThreadSafe
+public final class HotBlockReplicator implements HeartbeatExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(HotBlockReplicator.class);
+
+  private final BlockMaster mBlockMaster;
+  private final BlockResolver mBlockResolver;
+  private final Clock mClock;
+  private final double mHeatThreshold;
+  private final int mMaxReplicas;
+  private final long mLoadTimeoutMs;
+
+  /** Map from worker id to the replicas which have not been sent to the worker yet. */
+  private final Map<Long, Deque<LoadBlock>> mWaiting = new HashMap<>();
+  /**
+   * Map from block id to the workers which are loading a replica of the block, with the time in
+   * milliseconds by which each of them must have loaded it.
+   */
+  private final Map<Long, Map<Long, Long>> mLoading = new HashMap<>();
+  /** Map from block id to the workers which have loaded a replica of the block. */
+  private final Map<Long, Set<Long>> mReplicas = new HashMap<>();
+
+  /**
+   * Finds where to load the blocks from.
+   */
+  public interface BlockResolver {
+    /**
+     * @param blockId the id of a block
+     * @return the block to load, or null if the block can not be loaded from the under storage
+     */
+    @Nullable
+    LoadBlock getLoadBlock(long blockId);
+  }
+
+  /**
+   * Creates a new instance of {@link HotBlockReplicator}.
+   *
+   * @param blockMaster the block master, used to find the hot blocks and the live workers
+   * @param blockResolver finds where to load the replicas from
+   */
+  public HotBlockReplicator(BlockMaster blockMaster, BlockResolver blockResolver) {
+    this(blockMaster, blockResolver, new SystemClock());
+  }
+
+  /**
+   * Creates a new instance of {@link HotBlockReplicator}.
+   *
+   * @param blockMaster the block master, used to find the hot blocks and the live workers
+   * @param blockResolver finds where to load the replicas from
+   * @param clock the clock to expire the replicas which are not loaded in time
+   */
+  HotBlockReplicator(BlockMaster blockMaster, BlockResolver blockResolver, Clock clock) {
+    mBlockMaster = Preconditions.checkNotNull(blockMaster, "blockMaster");
+    mBlockResolver = Preconditions.checkNotNull(blockResolver, "blockResolver");
+    mClock = Preconditions.checkNotNull(clock, "clock");
+    mHeatThreshold =
+        Math.max(Configuration.getDouble(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD),
+            1);
+    mMaxReplicas = Configuration.getInt(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS);
+    mLoadTimeoutMs = Configuration.getMs(PropertyKey.MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS);
+  }
+
+  @Override
+  public synchronized void heartbeat() {
+    List<WorkerInfo> workers = mBlockMaster.getWorkerInfoList();
+    removeLostWorkers(workers);
+    expireLoadingReplicas();
+    removeColdReplicas(workers.size());
+    addHotReplicas(workers);
+  }
+
+  /**
+   * Returns the replicas for a worker to load.
+   *
+   * @param workerId the id of the worker
+   * @return the blocks for the worker to load
+   */
+  public synchronized List<LoadBlock> pollBlocksToReplicate(long workerId) {
+    Deque<LoadBlock> waiting = mWaiting.remove(workerId);
+    if (waiting == null) {
+      return new ArrayList<>();
+    }
+    // The worker has the time to load the replicas from now on.
+    long deadlineMs = mClock.millis() + mLoadTimeoutMs;
+    for (LoadBlock block : waiting) {
+      Map<Long, Long> loading = mLoading.get(block.getBlockId());
+      if (loading != null && loading.containsKey(workerId)) {
+        loading.put(workerId, deadlineMs);
+      }
+    }
+    return new ArrayList<>(waiting);
+  }
+
+  /**
+   * Records the replicas which a worker has loaded or failed to load.
+   *
+   * @param workerId the id of the worker
+   * @param loadedBlocks the blocks loaded by the worker since its last heartbeat
+   * @param failedBlocks the blocks the worker failed to load since its last heartbeat
+   */
+  public synchronized void reportBlocks(long workerId, List<Long> loadedBlocks,
+      List<Long> failedBlocks) {
+    if (mLoading.isEmpty()) {
+      return;
+    }
+    for (long blockId : loadedBlocks) {
+      if (removeLoading(blockId, workerId)) {
+        addWorker(mReplicas, blockId, workerId);
+      }
+    }
+    for (long blockId : failedBlocks) {
+      if (removeLoading(blockId, workerId)) {
+        LOG.warn("Worker {} failed to load a replica of hot block {}", workerId, blockId);
+      }
+    }
+  }
+
+  /**
+   * @return the number of blocks with replicas added for their heat
+   */
+  public synchronized int getReplicatedBlockCount() {
+    return mReplicas.size();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to clean up
+  }
+
+  /**
+   * Forgets the replicas of the workers which are no longer alive.
+   *
+   * @param workers the live workers
+   */
+  private void removeLostWorkers(List<WorkerInfo> workers) {
+    Set<Long> liveWorkers = new HashSet<>();
+    for (WorkerInfo worker : workers) {
+      liveWorkers.add(worker.getId());
+    }
+    mWaiting.keySet().retainAll(liveWorkers);
+    Iterator<Map<Long, Long>> it = mLoading.values().iterator();
+    while (it.hasNext()) {
+      Map<Long, Long> loading = it.next();
+      loading.keySet().retainAll(liveWorkers);
+      if (loading.isEmpty()) {
+        it.remove();
+      }
+    }
+    retainWorkers(mReplicas, liveWorkers);
+  }
+
+  /**
+   * Forgets the replicas which were not loaded in time, so that they can be placed again, and
+   * drops their loads if they have not been sent to their workers yet.
+   */
+  private void expireLoadingReplicas() {
+    long now = mClock.millis();
+    Iterator<Map.Entry<Long, Map<Long, Long>>> it = mLoading.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, Map<Long, Long>> entry = it.next();
+      long blockId = entry.getKey();
+      Iterator<Map.Entry<Long, Long>> workerIt = entry.getValue().entrySet().iterator();
+      while (workerIt.hasNext()) {
+        Map.Entry<Long, Long> worker = workerIt.next();
+        if (worker.getValue() > now) {
+          continue;
+        }
+        LOG.warn("Worker {} did not load a replica of hot block {} in time", worker.getKey(),
+            blockId);
+        Deque<LoadBlock> waiting = mWaiting.get(worker.getKey());
+        if (waiting != null) {
+          Iterator<LoadBlock> waitingIt = waiting.iterator();
+          while (waitingIt.hasNext()) {
+            if (waitingIt.next().getBlockId() == blockId) {
+              waitingIt.remove();
+            }
+          }
+          if (waiting.isEmpty()) {
+            mWaiting.remove(worker.getKey());
+          }
+        }
+        workerIt.remove();
+      }
+      if (entry.getValue().isEmpty()) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes the replicas of the blocks which are no longer hot enough to need them.
+   *
+   * @param workerCount the number of live workers
+   */
+  private void removeColdReplicas(int workerCount) {
+    Iterator<Map.Entry<Long, Set<Long>>> it = mReplicas.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, Set<Long>> entry = it.next();
+      long blockId = entry.getKey();
+      Set<Long> replicas = entry.getValue();
+      Set<Long> locations = getLocations(blockId);
+      // Forget the replicas which were evicted, or whose block was deleted.
+      replicas.retainAll(locations);
+      // The heat is doubled for hysteresis: a replica is kept until the heat is half of the heat
+      // which would add it.
+      int keep = getDesiredReplicas(2 * mBlockMaster.getBlockHeat(blockId), workerCount);
+      Iterator<Long> replicaIt = replicas.iterator();
+      while (locations.size() > keep && replicaIt.hasNext()) {
+        long workerId = replicaIt.next();
+        LOG.debug("Removing the replica of cold block {} from worker {}", blockId, workerId);
+        mBlockMaster.removeBlockFromWorker(blockId, workerId);
+        locations.remove(workerId);
+        replicaIt.remove();
+      }
+      if (replicas.isEmpty()) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Adds replicas of the blocks which are hot enough to need more.
+   *
+   * @param workers the live workers
+   */
+  private void addHotReplicas(List<WorkerInfo> workers) {
+    if (workers.size() < 2) {
+      return;
+    }
+    // The deadline is reset when the replicas are sent to their workers.
+    long deadlineMs = mClock.millis() + mLoadTimeoutMs;
+    Map<Long, Long> freeBytes = new HashMap<>();
+    for (WorkerInfo worker : workers) {
+      freeBytes.put(worker.getId(), worker.getCapacityBytes() - worker.getUsedBytes());
+    }
+    for (Map.Entry<Long, Double> entry : mBlockMaster.getHotBlocks(mHeatThreshold).entrySet()) {
+      long blockId = entry.getKey();
+      List<BlockLocation> locations = getBlockLocations(blockId);
+      if (locations.isEmpty()) {
+        // The block is not in Alluxio, so it is not read from the workers any more.
+        continue;
+      }
+      Set<Long> holders = new HashSet<>();
+      for (BlockLocation location : locations) {
+        holders.add(location.getWorkerId());
+      }
+      Map<Long, Long> loading = mLoading.get(blockId);
+      if (loading != null) {
+        holders.addAll(loading.keySet());
+      }
+      int desired = getDesiredReplicas(entry.getValue(), workers.size());
+      if (holders.size() >= desired) {
+        continue;
+      }
+      LoadBlock block = mBlockResolver.getLoadBlock(blockId);
+      if (block == null) {
+        continue;
+      }
+      int added = 0;
+      while (holders.size() < desired) {
+        long workerId = getWorkerWithMostFreeBytes(freeBytes, holders, block.getBlockSize());
+        if (workerId == IdUtils.INVALID_WORKER_ID) {
+          break;
+        }
+        // The replicas are copied from the workers holding the block in turn.
+        BlockLocation source = locations.get(added++ % locations.size());
+        LOG.debug("Replicating hot block {} with heat {} from worker {} to worker {}", blockId,
+            entry.getValue(), source.getWorkerId(), workerId);
+        Deque<LoadBlock> waiting = mWaiting.get(workerId);
+        if (waiting == null) {
+          waiting = new ArrayDeque<>();
+          mWaiting.put(workerId, waiting);
+        }
+        waiting.add(new LoadBlock(block)
+            .setSourceAddress(ThriftUtils.toThrift(source.getWorkerAddress())));
+        addLoading(blockId, workerId, deadlineMs);
+        freeBytes.put(workerId, freeBytes.get(workerId) - block.getBlockSize());
+        holders.add(workerId);
+      }
+    }
+  }
+
+  /**
+   * @param heat the heat of a block
+   * @param workerCount the number of live workers
+   * @return the number of workers the block should be on
+   */
+  private int getDesiredReplicas(double heat, int workerCount) {
+    long replicas = 1 + (long) (heat / mHeatThreshold);
+    if (mMaxReplicas > 0) {
+      replicas = Math.min(replicas, mMaxReplicas);
+    }
+    return (int) Math.max(Math.min(replicas, workerCount), 1);
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return the ids of the workers with the block, empty if the block does not exist
+   */
+  private Set<Long> getLocations(long blockId) {
+    Set<Long> locations = new HashSet<>();
+    for (BlockLocation location : getBlockLocations(blockId)) {
+      locations.add(location.getWorkerId());
+    }
+    return locations;
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return the locations of the block, empty if the block does not exist
+   */
+  private List<BlockLocation> getBlockLocations(long blockId) {
+    try {
+      BlockInfo blockInfo = mBlockMaster.getBlockInfo(blockId);
+      return blockInfo.getLocations();
+    } catch (BlockInfoException e) {
+      // The block is deleted.
+      return new ArrayList<>();
+    }
+  }
+
+  /**
+   * @param freeBytes a map from worker id to the free bytes of the worker
+   * @param excluded the ids of the workers to exclude
+   * @param blockSize the size of the block to place
+   * @return the id of the worker with the most free bytes which has room for the block, or
+   *         {@link IdUtils#INVALID_WORKER_ID} if there is none
+   */
+  private static long getWorkerWithMostFreeBytes(Map<Long, Long> freeBytes, Set<Long> excluded,
+      long blockSize) {
+    long bestWorkerId = IdUtils.INVALID_WORKER_ID;
+    long bestFreeBytes = blockSize - 1;
+    for (Map.Entry<Long, Long> entry : freeBytes.entrySet()) {
+      if (!excluded.contains(entry.getKey()) && entry.getValue() > bestFreeBytes) {
+        bestWorkerId = entry.getKey();
+        bestFreeBytes = entry.getValue();
+      }
+    }
+    return bestWorkerId;
+  }
+
+  private static void retainWorkers(Map<Long, Set<Long>> blocks, Set<Long> workerIds) {
+    Iterator<Set<Long>> it = blocks.values().iterator();
+    while (it.hasNext()) {
+      Set<Long> workers = it.next();
+      workers.retainAll(workerIds);
+      if (workers.isEmpty()) {
+        it.remove();
+      }
+    }
+  }
+
+  private static void addWorker(Map<Long, Set<Long>> blocks, long blockId, long workerId) {
+    Set<Long> workers = blocks.get(blockId);
+    if (workers == null) {
+      workers = new HashSet<>();
+      blocks.put(blockId, workers);
+    }
+    workers.add(workerId);
+  }
+
+  private void addLoading(long blockId, long workerId, long deadlineMs) {
+    Map<Long, Long> workers = mLoading.get(blockId);
+    if (workers == null) {
+      workers = new HashMap<>();
+      mLoading.put(blockId, workers);
+    }
+    workers.put(workerId, deadlineMs);
+  }
+
+  private boolean removeLoading(long blockId, long workerId) {
+    Map<Long, Long> workers = mLoading.get(blockId);
+    if (workers == null || workers.remove(workerId) == null) {
+      return false;
+    }
+    if (workers.isEmpty()) {
+      mLoading.remove(blockId);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,502 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.load;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.clock.Clock;
+import alluxio.clock.SystemClock;
+import alluxio.exception.status.NotFoundException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.util.IdUtils;
+import alluxio.wire.LoadJobInfo;
+import alluxio.wire.WorkerInfo;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Schedules distributed loads, which read the blocks under a path from the under storage into the
+ * workers.
+ *
+ * Each block to load is assigned to the live worker with the most free space, after deducting the
+ * blocks already assigned to it. The blocks of a worker are handed out when it heartbeats, with
+ * at most {@link PropertyKey#MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER} blocks being loaded by a
+ * worker at the same time. A block which fails to load, whose worker is lost, or which is not
+ * loaded within {@link PropertyKey#MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS} of being handed out, is
+ * assigned to another worker, until it has been tried on
+ * {@link PropertyKey#MASTER_FILE_LOAD_MAX_ATTEMPTS} workers. The workers report the blocks they
+ * are still loading in their heartbeats, and a block handed out to a worker which does not report
+ * it, because the heartbeat response was lost or the worker restarted, is handed out again.
+ *
+ * The load jobs are not journaled. A load interrupted by a master failover is resumed by loading
+ * the same path again, as the blocks which are already in Alluxio are not loaded again.
+ */
+@ThreadSafe
+public final class LoadManager {
+  private static final Logger LOG = LoggerFactory.getLogger(LoadManager.class);
+
+  /** The maximum number of completed jobs to keep the progress of. */
+  private static final int MAX_COMPLETED_JOBS = 1000;
+
+  /** The deadline of a block which has not been handed out to its worker. */
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+  private final BlockMaster mBlockMaster;
+  private final Clock mClock;
+  private final int mMaxBlocksPerWorker;
+  private final int mMaxAttempts;
+  private final long mBlockTimeoutMs;
+
+  private long mNextJobId = 1;
+  /** Map from job id to the jobs which are in progress or recently completed. */
+  private final Map<Long, LoadJob> mJobs = new HashMap<>();
+  /** Map from path to the job loading it, for the jobs in progress. */
+  private final Map<String, LoadJob> mActiveJobs = new HashMap<>();
+  /** The ids of the completed jobs, oldest first. */
+  private final Deque<Long> mCompletedJobIds = new ArrayDeque<>();
+  /** Map from block id to the blocks which are waiting to be loaded or being loaded. */
+  private final Map<Long, PendingBlock> mBlocks = new HashMap<>();
+  /** Map from worker id to the blocks assigned to the worker. */
+  private final Map<Long, WorkerBlocks> mWorkers = new HashMap<>();
+
+  /**
+   * Creates a new instance of {@link LoadManager}.
+   *
+   * @param blockMaster the block master, used to find the live workers
+   */
+  public LoadManager(BlockMaster blockMaster) {
+    this(blockMaster, new SystemClock());
+  }
+
+  /**
+   * Creates a new instance of {@link LoadManager}.
+   *
+   * @param blockMaster the block master, used to find the live workers
+   * @param clock the clock used for the deadlines of the blocks
+   */
+  LoadManager(BlockMaster blockMaster, Clock clock) {
+    mBlockMaster = Preconditions.checkNotNull(blockMaster, "blockMaster");
+    mClock = Preconditions.checkNotNull(clock, "clock");
+    mMaxBlocksPerWorker =
+        Math.max(Configuration.getInt(PropertyKey.MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER), 1);
+    mMaxAttempts = Math.max(Configuration.getInt(PropertyKey.MASTER_FILE_LOAD_MAX_ATTEMPTS), 1);
+    mBlockTimeoutMs = Configuration.getMs(PropertyKey.MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS);
+  }
+
+  /**
+   * Starts loading the given blocks. If a load of the same path is in progress, its progress is
+   * returned instead.
+   *
+   * @param path the path being loaded
+   * @param blocks the blocks under the path which are not in Alluxio
+   * @return the information about the load job
+   * @throws UnavailableException if there is no live worker to load the blocks
+   */
+  public synchronized LoadJobInfo load(String path, List<LoadBlock> blocks)
+      throws UnavailableException {
+    LoadJob job = mActiveJobs.get(path);
+    if (job != null) {
+      return job.toLoadJobInfo();
+    }
+    List<WorkerInfo> workers = mBlockMaster.getWorkerInfoList();
+    if (!blocks.isEmpty() && workers.isEmpty()) {
+      throw new UnavailableException("No worker is available to load " + path);
+    }
+    job = new LoadJob(mNextJobId++, path, blocks.size());
+    mJobs.put(job.mId, job);
+    if (blocks.isEmpty()) {
+      complete(job);
+      return job.toLoadJobInfo();
+    }
+    mActiveJobs.put(path, job);
+
+    PriorityQueue<WorkerSpace> spaces = new PriorityQueue<>();
+    for (WorkerInfo worker : workers) {
+      spaces.add(new WorkerSpace(worker.getId(), getFreeBytes(worker)));
+    }
+    for (LoadBlock block : blocks) {
+      PendingBlock pending = mBlocks.get(block.getBlockId());
+      if (pending != null) {
+        // The block is already being loaded by another job.
+        pending.mJobs.add(job);
+        continue;
+      }
+      pending = new PendingBlock(block);
+      pending.mJobs.add(job);
+      mBlocks.put(block.getBlockId(), pending);
+      WorkerSpace space = spaces.poll();
+      assign(pending, space.mWorkerId);
+      space.mFreeBytes -= block.getBlockSize();
+      spaces.add(space);
+    }
+    LOG.info("Scheduled {} blocks to load for {} on {} workers", blocks.size(), path,
+        workers.size());
+    return job.toLoadJobInfo();
+  }
+
+  /**
+   * @param id the id of a load job
+   * @return the information about the load job
+   * @throws NotFoundException if the job does not exist or was completed a long time ago
+   */
+  public synchronized LoadJobInfo getLoadJobInfo(long id) throws NotFoundException {
+    LoadJob job = mJobs.get(id);
+    if (job == null) {
+      throw new NotFoundException("Load job " + id + " does not exist");
+    }
+    return job.toLoadJobInfo();
+  }
+
+  /**
+   * Records the blocks which a worker has loaded or failed to load. The blocks handed out to the
+   * worker which it neither reported nor is loading are handed out again.
+   *
+   * @param workerId the id of the worker
+   * @param loadedBlocks the blocks loaded by the worker since its last heartbeat
+   * @param failedBlocks the blocks the worker failed to load since its last heartbeat
+   * @param loadingBlocks the blocks the worker is loading, or null if the worker did not report
+   *        them
+   */
+  public synchronized void reportBlocks(long workerId, List<Long> loadedBlocks,
+      List<Long> failedBlocks, @Nullable List<Long> loadingBlocks) {
+    for (long blockId : loadedBlocks) {
+      PendingBlock block = mBlocks.get(blockId);
+      if (block != null && block.mWorkerId == workerId) {
+        unassign(block);
+        finish(block, true);
+      }
+    }
+    for (long blockId : failedBlocks) {
+      PendingBlock block = mBlocks.get(blockId);
+      if (block != null && block.mWorkerId == workerId) {
+        LOG.warn("Worker {} failed to load block {}", workerId, blockId);
+        reassign(block);
+      }
+    }
+    if (loadingBlocks != null) {
+      requeueUnreportedBlocks(workerId, loadingBlocks);
+    }
+  }
+
+  /**
+   * Returns the next blocks for a worker to load. The blocks of the workers which are no longer
+   * alive, and the blocks which were not loaded in time, are assigned to other workers first.
+   *
+   * @param workerId the id of the worker
+   * @return the blocks for the worker to load
+   */
+  public synchronized List<LoadBlock> pollBlocksToLoad(long workerId) {
+    if (mBlocks.isEmpty()) {
+      return new ArrayList<>();
+    }
+    reassignLostWorkers();
+    reassignExpiredBlocks();
+    List<LoadBlock> blocksToLoad = new ArrayList<>();
+    WorkerBlocks worker = mWorkers.get(workerId);
+    if (worker == null) {
+      return blocksToLoad;
+    }
+    while (worker.mLoading.size() < mMaxBlocksPerWorker && !worker.mWaiting.isEmpty()) {
+      PendingBlock block = worker.mWaiting.poll();
+      if (block.mDeadlineMs == NO_DEADLINE) {
+        // A block handed out again to the same worker keeps its deadline.
+        block.mDeadlineMs = mClock.millis() + mBlockTimeoutMs;
+      }
+      worker.mLoading.add(block);
+      blocksToLoad.add(block.mBlock);
+    }
+    return blocksToLoad;
+  }
+
+  /**
+   * Hands out again the blocks which were handed out to a worker, but which the worker did not
+   * report, because it did not receive them or lost them when it restarted.
+   *
+   * @param workerId the id of the worker
+   * @param loadingBlocks the blocks the worker is loading
+   */
+  private void requeueUnreportedBlocks(long workerId, List<Long> loadingBlocks) {
+    WorkerBlocks worker = mWorkers.get(workerId);
+    if (worker == null || worker.mLoading.isEmpty()) {
+      return;
+    }
+    Set<Long> loading = new HashSet<>(loadingBlocks);
+    Iterator<PendingBlock> it = worker.mLoading.iterator();
+    while (it.hasNext()) {
+      PendingBlock block = it.next();
+      if (!loading.contains(block.mBlock.getBlockId())) {
+        LOG.warn("Worker {} is not loading block {}, handing it out again", workerId,
+            block.mBlock.getBlockId());
+        it.remove();
+        worker.mWaiting.addFirst(block);
+      }
+    }
+  }
+
+  /**
+   * Assigns the blocks which were not loaded before their deadline to other workers.
+   */
+  private void reassignExpiredBlocks() {
+    long now = mClock.millis();
+    List<PendingBlock> expiredBlocks = new ArrayList<>();
+    for (WorkerBlocks worker : mWorkers.values()) {
+      for (PendingBlock block : worker.mLoading) {
+        if (block.mDeadlineMs <= now) {
+          expiredBlocks.add(block);
+        }
+      }
+    }
+    for (PendingBlock block : expiredBlocks) {
+      LOG.warn("Worker {} did not load block {} within {}ms", block.mWorkerId,
+          block.mBlock.getBlockId(), mBlockTimeoutMs);
+      reassign(block);
+    }
+  }
+
+  /**
+   * Assigns the blocks of the workers which are no longer alive to other workers.
+   */
+  private void reassignLostWorkers() {
+    Set<Long> liveWorkers = new HashSet<>();
+    for (WorkerInfo worker : mBlockMaster.getWorkerInfoList()) {
+      liveWorkers.add(worker.getId());
+    }
+    List<PendingBlock> lostBlocks = new ArrayList<>();
+    Iterator<Map.Entry<Long, WorkerBlocks>> it = mWorkers.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, WorkerBlocks> entry = it.next();
+      if (!liveWorkers.contains(entry.getKey())) {
+        LOG.warn("Reassigning the blocks to load of lost worker {}", entry.getKey());
+        lostBlocks.addAll(entry.getValue().mWaiting);
+        lostBlocks.addAll(entry.getValue().mLoading);
+        it.remove();
+      }
+    }
+    for (PendingBlock block : lostBlocks) {
+      block.mWorkerId = IdUtils.INVALID_WORKER_ID;
+      reassign(block);
+    }
+  }
+
+  /**
+   * Assigns a block which could not be loaded by its worker to a worker it has not been tried on,
+   * or gives up on the block if it has been tried on enough workers.
+   *
+   * @param block the block
+   */
+  private void reassign(PendingBlock block) {
+    if (block.mWorkerId != IdUtils.INVALID_WORKER_ID) {
+      unassign(block);
+    }
+    if (block.mTriedWorkers.size() < mMaxAttempts) {
+      long bestWorkerId = IdUtils.INVALID_WORKER_ID;
+      long bestFreeBytes = Long.MIN_VALUE;
+      for (WorkerInfo worker : mBlockMaster.getWorkerInfoList()) {
+        if (block.mTriedWorkers.contains(worker.getId())) {
+          continue;
+        }
+        long freeBytes = getFreeBytes(worker);
+        if (freeBytes > bestFreeBytes) {
+          bestWorkerId = worker.getId();
+          bestFreeBytes = freeBytes;
+        }
+      }
+      if (bestWorkerId != IdUtils.INVALID_WORKER_ID) {
+        assign(block, bestWorkerId);
+        return;
+      }
+    }
+    LOG.error("Failed to load block {} of {} on workers {}", block.mBlock.getBlockId(),
+        block.mBlock.getUfsPath(), block.mTriedWorkers);
+    finish(block, false);
+  }
+
+  /**
+   * @param block the block
+   * @param workerId the id of the worker to load the block
+   */
+  private void assign(PendingBlock block, long workerId) {
+    WorkerBlocks worker = mWorkers.get(workerId);
+    if (worker == null) {
+      worker = new WorkerBlocks();
+      mWorkers.put(workerId, worker);
+    }
+    worker.mWaiting.add(block);
+    worker.mAssignedBytes += block.mBlock.getBlockSize();
+    block.mWorkerId = workerId;
+    block.mDeadlineMs = NO_DEADLINE;
+    block.mTriedWorkers.add(workerId);
+  }
+
+  /**
+   * @param block the block to remove from the blocks of its worker
+   */
+  private void unassign(PendingBlock block) {
+    WorkerBlocks worker = mWorkers.get(block.mWorkerId);
+    if (worker != null && (worker.mLoading.remove(block) || worker.mWaiting.remove(block))) {
+      worker.mAssignedBytes -= block.mBlock.getBlockSize();
+    }
+    block.mWorkerId = IdUtils.INVALID_WORKER_ID;
+  }
+
+  /**
+   * Records that a block is no longer being loaded and updates the progress of its jobs.
+   *
+   * @param block the block
+   * @param loaded whether the block was loaded
+   */
+  private void finish(PendingBlock block, boolean loaded) {
+    mBlocks.remove(block.mBlock.getBlockId());
+    for (LoadJob job : block.mJobs) {
+      if (loaded) {
+        job.mLoadedBlocks++;
+      } else {
+        job.mFailedBlocks++;
+      }
+      if (job.mLoadedBlocks + job.mFailedBlocks == job.mTotalBlocks) {
+        mActiveJobs.remove(job.mPath);
+        complete(job);
+      }
+    }
+  }
+
+  /**
+   * @param job the job which has completed
+   */
+  private void complete(LoadJob job) {
+    LOG.info("Completed loading {}: {} blocks loaded, {} blocks failed", job.mPath,
+        job.mLoadedBlocks, job.mFailedBlocks);
+    mCompletedJobIds.add(job.mId);
+    while (mCompletedJobIds.size() > MAX_COMPLETED_JOBS) {
+      mJobs.remove(mCompletedJobIds.poll());
+    }
+  }
+
+  /**
+   * @param worker a worker
+   * @return the free bytes of the worker, minus the bytes of the blocks assigned to it
+   */
+  private long getFreeBytes(WorkerInfo worker) {
+    long freeBytes = worker.getCapacityBytes() - worker.getUsedBytes();
+    WorkerBlocks blocks = mWorkers.get(worker.getId());
+    if (blocks != null) {
+      freeBytes -= blocks.mAssignedBytes;
+    }
+    return freeBytes;
+  }
+
+  /**
+   * The progress of the load of a path.
+   */
+  private static final class LoadJob {
+    private final long mId;
+    private final String mPath;
+    private final long mTotalBlocks;
+    private long mLoadedBlocks;
+    private long mFailedBlocks;
+
+    /**
+     * @param id the job id
+     * @param path the path being loaded
+     * @param totalBlocks the number of blocks to load
+     */
+    LoadJob(long id, String path, long totalBlocks) {
+      mId = id;
+      mPath = path;
+      mTotalBlocks = totalBlocks;
+    }
+
+    LoadJobInfo toLoadJobInfo() {
+      return new LoadJobInfo().setId(mId).setPath(mPath).setTotalBlocks(mTotalBlocks)
+          .setLoadedBlocks(mLoadedBlocks).setFailedBlocks(mFailedBlocks)
+          .setCompleted(mLoadedBlocks + mFailedBlocks == mTotalBlocks);
+    }
+  }
+
+  /**
+   * A block which is waiting to be loaded or being loaded.
+   */
+  private static final class PendingBlock {
+    private final LoadBlock mBlock;
+    /** The jobs which are loading the block. */
+    private final List<LoadJob> mJobs = new ArrayList<>(1);
+    /** The workers the block has been assigned to, including the current one. */
+    private final Set<Long> mTriedWorkers = new HashSet<>();
+    private long mWorkerId = IdUtils.INVALID_WORKER_ID;
+    /** The time by which the current worker has to load the block. */
+    private long mDeadlineMs = NO_DEADLINE;
+
+    /**
+     * @param block the block to load
+     */
+    PendingBlock(LoadBlock block) {
+      mBlock = block;
+    }
+  }
+
+  /**
+   * The blocks assigned to a worker.
+   */
+  private static final class WorkerBlocks {
+    /** The blocks which have not been sent to the worker yet. */
+    private final Deque<PendingBlock> mWaiting = new ArrayDeque<>();
+    /** The blocks which the worker is loading. */
+    private final Collection<PendingBlock> mLoading = new HashSet<>();
+    private long mAssignedBytes;
+
+    /**
+     * Creates a new instance of {@link WorkerBlocks}.
+     */
+    WorkerBlocks() {}
+  }
+
+  /**
+   * The free space of a worker, ordered from the most free space to the least.
+   */
+  private static final class WorkerSpace implements Comparable<WorkerSpace> {
+    private final long mWorkerId;
+    private long mFreeBytes;
+
+    /**
+     * @param workerId the worker id
+     * @param freeBytes the free bytes of the worker
+     */
+    WorkerSpace(long workerId, long freeBytes) {
+      mWorkerId = workerId;
+      mFreeBytes = freeBytes;
+    }
+
+    @Override
+    public int compareTo(WorkerSpace o) {
+      return Long.compare(o.mFreeBytes, mFreeBytes);
+    }
+  }
+}
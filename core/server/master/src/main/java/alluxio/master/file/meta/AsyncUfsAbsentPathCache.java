@@ -16,6 +16,7 @@ import alluxio.Configuration;
 import alluxio.PropertyKey;
 import alluxio.exception.InvalidPathException;
 import alluxio.master.file.meta.options.MountInfo;
+import alluxio.underfs.CachingUnderFileSystem;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.io.PathUtils;
@@ -162,7 +163,8 @@ public final class AsyncUfsAbsentPathCache implements UfsAbsentPathCache {
           return false;
         }
 
-        UnderFileSystem ufs = resolution.getUfs();
+        // The cached UFS status may be older than the entry being checked.
+        UnderFileSystem ufs = CachingUnderFileSystem.uncached(resolution.getUfs());
         if (ufs.exists(resolution.getUri().toString())) {
           // This ufs path exists. Remove the cache entry.
           mCache.invalidate(alluxioUri.getPath());
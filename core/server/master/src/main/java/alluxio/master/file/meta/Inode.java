@@ -15,6 +15,7 @@ import alluxio.Constants;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidPathException;
 import alluxio.master.journal.JournalEntryRepresentable;
+import alluxio.metrics.RpcTrace;
 import alluxio.wire.FileInfo;
 import alluxio.wire.TtlAction;
 
@@ -340,7 +341,10 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * inode by id and not path or parent.
    */
   public void lockRead() {
+    // No tryLock() fast path: it barges past queued writers and would starve them.
+    long startTimeNanos = System.nanoTime();
     mLock.readLock().lock();
+    RpcTrace.record(RpcTrace.Phase.INODE_LOCK, startTimeNanos);
   }
 
   /**
@@ -390,7 +394,9 @@ public abstract class Inode<T> implements JournalEntryRepresentable {
    * inode by id and not path or parent.
    */
   public void lockWrite() {
+    long startTimeNanos = System.nanoTime();
     mLock.writeLock().lock();
+    RpcTrace.record(RpcTrace.Phase.INODE_LOCK, startTimeNanos);
   }
 
   /**
@@ -11,9 +11,6 @@
 
 package alluxio.master.file.meta;
 
-import alluxio.collections.FieldIndex;
-import alluxio.collections.IndexDefinition;
-import alluxio.collections.UniqueFieldIndex;
 import alluxio.exception.InvalidPathException;
 import alluxio.master.ProtobufUtils;
 import alluxio.master.file.options.CreateDirectoryOptions;
@@ -23,8 +20,12 @@ import alluxio.wire.FileInfo;
 
 import com.google.common.collect.ImmutableSet;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -34,15 +35,12 @@ import javax.annotation.concurrent.NotThreadSafe;
  */
 @NotThreadSafe
 public final class InodeDirectory extends Inode<InodeDirectory> {
-  private static final IndexDefinition<Inode<?>> NAME_INDEX = new IndexDefinition<Inode<?>>(true) {
-    @Override
-    public Object getFieldValue(Inode<?> o) {
-      return o.getName();
-    }
-  };
-
-  /** Use UniqueFieldIndex directly for name index rather than using IndexedSet. */
-  private final FieldIndex<Inode<?>> mChildren = new UniqueFieldIndex<>(NAME_INDEX);
+  /**
+   * The children by name. The names are sorted for listing the children in pages, and a single map
+   * keeps a page consistent with the lookups by name while children are added or removed.
+   */
+  private final ConcurrentNavigableMap<String, Inode<?>> mChildren =
+      new ConcurrentSkipListMap<>();
 
   private boolean mMountPoint;
 
@@ -71,7 +69,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if inode was added successfully, false otherwise
    */
   public boolean addChild(Inode<?> child) {
-    return mChildren.add(child);
+    return mChildren.putIfAbsent(child.getName(), child) == null;
   }
 
   /**
@@ -79,7 +77,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return the inode with the given name, or null if there is no child with that name
    */
   public Inode<?> getChild(String name) {
-    return mChildren.getFirst(name);
+    return mChildren.get(name);
   }
 
   /**
@@ -91,12 +89,12 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
   public Inode<?> getChildReadLock(String name, InodeLockList lockList) throws
       InvalidPathException {
     while (true) {
-      Inode child = mChildren.getFirst(name);
+      Inode child = mChildren.get(name);
       if (child == null) {
         return null;
       }
       lockList.lockReadAndCheckParent(child, this);
-      if (mChildren.getFirst(name) != child) {
+      if (mChildren.get(name) != child) {
         // The locked child has changed, so unlock and try again.
         lockList.unlockLast();
         continue;
@@ -114,12 +112,12 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
   public Inode<?> getChildWriteLock(String name, InodeLockList lockList) throws
       InvalidPathException {
     while (true) {
-      Inode child = mChildren.getFirst(name);
+      Inode child = mChildren.get(name);
       if (child == null) {
         return null;
       }
       lockList.lockWriteAndCheckParent(child, this);
-      if (mChildren.getFirst(name) != child) {
+      if (mChildren.get(name) != child) {
         // The locked child has changed, so unlock and try again.
         lockList.unlockLast();
         continue;
@@ -132,7 +130,26 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return an unmodifiable set of the children inodes
    */
   public Set<Inode<?>> getChildren() {
-    return ImmutableSet.copyOf(mChildren.iterator());
+    return ImmutableSet.copyOf(mChildren.values());
+  }
+
+  /**
+   * Returns the children whose names sort after the given name, in name order. The children are
+   * kept sorted by name, so this costs only as much as the number of children returned.
+   *
+   * @param startAfter the name to start after, or the empty string to start from the first child
+   * @param limit the maximum number of children to return, or a non-positive number for no limit
+   * @return the children after the given name
+   */
+  public List<Inode<?>> getChildrenAfter(String startAfter, int limit) {
+    List<Inode<?>> children = new ArrayList<>();
+    for (Inode<?> child : mChildren.tailMap(startAfter, false).values()) {
+      if (limit > 0 && children.size() >= limit) {
+        break;
+      }
+      children.add(child);
+    }
+    return children;
   }
 
   /**
@@ -140,7 +157,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    */
   public Set<Long> getChildrenIds() {
     Set<Long> ret = new HashSet<>(mChildren.size());
-    for (Inode<?> child : mChildren) {
+    for (Inode<?> child : mChildren.values()) {
       ret.add(child.getId());
     }
     return ret;
@@ -174,7 +191,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if the inode was removed, false otherwise
    */
   public boolean removeChild(Inode<?> child) {
-    return mChildren.remove(child);
+    return mChildren.remove(child.getName(), child);
   }
 
   /**
@@ -184,8 +201,7 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
    * @return true if the inode was removed, false otherwise
    */
   public boolean removeChild(String name) {
-    Inode<?> child = mChildren.getFirst(name);
-    return mChildren.remove(child);
+    return mChildren.remove(name) != null;
   }
 
   /**
@@ -239,7 +255,8 @@ public final class InodeDirectory extends Inode<InodeDirectory> {
 
   @Override
   public String toString() {
-    return toStringHelper().add("mountPoint", mMountPoint).add("children", mChildren).toString();
+    return toStringHelper().add("mountPoint", mMountPoint).add("children", mChildren.values())
+        .toString();
   }
 
   /**
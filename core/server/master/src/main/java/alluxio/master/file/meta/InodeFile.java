@@ -107,6 +107,13 @@ public final class InodeFile extends Inode<InodeFile> {
     return new ArrayList<>(mBlocks);
   }
 
+  /**
+   * @return the id of the block container of the file
+   */
+  public long getBlockContainerId() {
+    return mBlockContainerId;
+  }
+
   /**
    * @return the block size in bytes
    */
@@ -24,6 +24,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class ListStatusOptions {
   private LoadMetadataType mLoadMetadataType;
+  private String mStartAfter;
+  private int mBatchSize;
 
   /**
    * @return the default {@link ListStatusOptions}
@@ -34,6 +36,8 @@ public final class ListStatusOptions {
 
   private ListStatusOptions() {
     mLoadMetadataType = LoadMetadataType.Once;
+    mStartAfter = "";
+    mBatchSize = 0;
   }
 
   /**
@@ -48,6 +52,8 @@ public final class ListStatusOptions {
     } else if (!options.isLoadDirectChildren()) {
       mLoadMetadataType = LoadMetadataType.Never;
     }
+    mStartAfter = options.isSetStartAfter() ? options.getStartAfter() : "";
+    mBatchSize = options.isSetBatchSize() ? options.getBatchSize() : 0;
   }
 
   /**
@@ -69,6 +75,42 @@ public final class ListStatusOptions {
     return this;
   }
 
+  /**
+   * @return the name after which the children are listed, the empty string lists the children
+   *         from the first one
+   */
+  public String getStartAfter() {
+    return mStartAfter;
+  }
+
+  /**
+   * @return the maximum number of children to list, 0 lists all of them
+   */
+  public int getBatchSize() {
+    return mBatchSize;
+  }
+
+  /**
+   * Sets the name after which the children are listed. Together with
+   * {@link #setBatchSize(int)}, this lists a large directory in pages of children sorted by name.
+   *
+   * @param startAfter the name after which the children are listed
+   * @return the updated options
+   */
+  public ListStatusOptions setStartAfter(String startAfter) {
+    mStartAfter = startAfter;
+    return this;
+  }
+
+  /**
+   * @param batchSize the maximum number of children to list, 0 lists all of them
+   * @return the updated options
+   */
+  public ListStatusOptions setBatchSize(int batchSize) {
+    mBatchSize = batchSize;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -78,18 +120,22 @@ public final class ListStatusOptions {
       return false;
     }
     ListStatusOptions that = (ListStatusOptions) o;
-    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType);
+    return Objects.equal(mLoadMetadataType, that.mLoadMetadataType)
+        && Objects.equal(mStartAfter, that.mStartAfter)
+        && mBatchSize == that.mBatchSize;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mLoadMetadataType);
+    return Objects.hashCode(mLoadMetadataType, mStartAfter, mBatchSize);
   }
 
   @Override
   public String toString() {
     return Objects.toStringHelper(this)
         .add("loadMetadataType", mLoadMetadataType.toString())
+        .add("startAfter", mStartAfter)
+        .add("batchSize", mBatchSize)
         .toString();
   }
 }
@@ -27,12 +27,12 @@ import alluxio.exception.InvalidPathException;
 import alluxio.exception.LineageDeletionException;
 import alluxio.exception.LineageDoesNotExistException;
 import alluxio.heartbeat.HeartbeatContext;
-import alluxio.heartbeat.HeartbeatThread;
 import alluxio.job.CommandLineJob;
 import alluxio.job.Job;
 import alluxio.master.AbstractMaster;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.options.CreateFileOptions;
+import alluxio.master.journal.JournalContext;
 import alluxio.master.journal.JournalFactory;
 import alluxio.master.lineage.checkpoint.CheckpointPlan;
 import alluxio.master.lineage.checkpoint.CheckpointSchedulingExecutor;
@@ -67,13 +67,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * The default lineage master stores the lineage metadata in Alluxio, and it contains the components
  * that manage all lineage-related activities.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class DefaultLineageMaster extends AbstractMaster implements LineageMaster {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultLineageMaster.class);
   private static final Set<Class<? extends Server>> DEPS =
@@ -82,6 +82,11 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   private final FileSystemMaster mFileSystemMaster;
   private LineageStore mLineageStore;
   private final LineageIdGenerator mLineageIdGenerator;
+  /**
+   * Lock to change the lineage store and journal the change atomically, so that the changes are
+   * journaled in the order they are applied. The lineage store can be read without it.
+   */
+  private final Object mJournalLock = new Object();
 
   /**
    * Creates a new instance of {@link DefaultLineageMaster}.
@@ -149,18 +154,18 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   public void start(Boolean isLeader) throws IOException {
     super.start(isLeader);
     if (isLeader) {
-      getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING,
+      startHeartbeat(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING,
           new CheckpointSchedulingExecutor(this, mFileSystemMaster),
-          (int) Configuration.getMs(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS)));
-      getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_FILE_RECOMPUTATION,
+          Configuration.getMs(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS));
+      startHeartbeat(HeartbeatContext.MASTER_FILE_RECOMPUTATION,
           new RecomputeExecutor(new RecomputePlanner(mLineageStore, mFileSystemMaster),
               mFileSystemMaster),
-          (int) Configuration.getMs(PropertyKey.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS)));
+          Configuration.getMs(PropertyKey.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS));
     }
   }
 
   @Override
-  public synchronized Iterator<JournalEntry> getJournalEntryIterator() {
+  public Iterator<JournalEntry> getJournalEntryIterator() {
     return Iterators.concat(mLineageStore.getJournalEntryIterator(),
         CommonUtils.singleElementIterator(mLineageIdGenerator.toJournalEntry()));
   }
@@ -171,7 +176,7 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   }
 
   @Override
-  public synchronized long createLineage(List<AlluxioURI> inputFiles, List<AlluxioURI> outputFiles,
+  public long createLineage(List<AlluxioURI> inputFiles, List<AlluxioURI> outputFiles,
       Job job) throws InvalidPathException, FileAlreadyExistsException, BlockInfoException,
       IOException, AccessControlException, FileDoesNotExistException {
     List<Long> inputAlluxioFiles = new ArrayList<>();
@@ -198,22 +203,29 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
 
     LOG.info("Create lineage of input:{}, output:{}, job:{}", inputAlluxioFiles, outputAlluxioFiles,
         job);
-    long lineageId = mLineageStore.createLineage(inputAlluxioFiles, outputAlluxioFiles, job);
-
-    writeJournalEntry(mLineageIdGenerator.toJournalEntry());
-    writeJournalEntry(mLineageStore.getLineage(lineageId).toJournalEntry());
-    flushJournal();
+    long lineageId;
+    try (JournalContext journalContext = createJournalContext()) {
+      synchronized (mJournalLock) {
+        lineageId = mLineageStore.createLineage(inputAlluxioFiles, outputAlluxioFiles, job);
+        appendJournalEntry(mLineageIdGenerator.toJournalEntry(), journalContext);
+        appendJournalEntry(mLineageStore.getLineage(lineageId).toJournalEntry(), journalContext);
+      }
+    }
     return lineageId;
   }
 
   @Override
-  public synchronized boolean deleteLineage(long lineageId, boolean cascade)
+  public boolean deleteLineage(long lineageId, boolean cascade)
       throws LineageDoesNotExistException, LineageDeletionException {
-    deleteLineageInternal(lineageId, cascade);
-    DeleteLineageEntry deleteLineage =
-        DeleteLineageEntry.newBuilder().setLineageId(lineageId).setCascade(cascade).build();
-    writeJournalEntry(JournalEntry.newBuilder().setDeleteLineage(deleteLineage).build());
-    flushJournal();
+    try (JournalContext journalContext = createJournalContext()) {
+      synchronized (mJournalLock) {
+        deleteLineageInternal(lineageId, cascade);
+        DeleteLineageEntry deleteLineage =
+            DeleteLineageEntry.newBuilder().setLineageId(lineageId).setCascade(cascade).build();
+        appendJournalEntry(JournalEntry.newBuilder().setDeleteLineage(deleteLineage).build(),
+            journalContext);
+      }
+    }
     return true;
   }
 
@@ -243,7 +255,7 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   }
 
   @Override
-  public synchronized long reinitializeFile(String path, long blockSizeBytes, long ttl,
+  public long reinitializeFile(String path, long blockSizeBytes, long ttl,
       TtlAction ttlAction) throws InvalidPathException, LineageDoesNotExistException,
       AccessControlException, FileDoesNotExistException {
     long fileId = mFileSystemMaster.getFileId(new AlluxioURI(path));
@@ -263,21 +275,26 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   }
 
   @Override
-  public synchronized List<LineageInfo> getLineageInfoList()
+  public List<LineageInfo> getLineageInfoList()
       throws LineageDoesNotExistException, FileDoesNotExistException {
     List<LineageInfo> lineages = new ArrayList<>();
 
     for (Lineage lineage : mLineageStore.getAllInTopologicalOrder()) {
       LineageInfo info = new LineageInfo();
       List<Long> parents = new ArrayList<>();
-      for (Lineage parent : mLineageStore.getParents(lineage)) {
-        parents.add(parent.getId());
-      }
-      info.setParents(parents);
       List<Long> children = new ArrayList<>();
-      for (Lineage child : mLineageStore.getChildren(lineage)) {
-        children.add(child.getId());
+      try {
+        for (Lineage parent : mLineageStore.getParents(lineage)) {
+          parents.add(parent.getId());
+        }
+        for (Lineage child : mLineageStore.getChildren(lineage)) {
+          children.add(child.getId());
+        }
+      } catch (LineageDoesNotExistException e) {
+        // The lineage was deleted after the list of lineages was taken.
+        continue;
       }
+      info.setParents(parents);
       info.setChildren(children);
       info.setId(lineage.getId());
       List<String> inputFiles = new ArrayList<>();
@@ -299,9 +316,13 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   }
 
   @Override
-  public synchronized void scheduleCheckpoint(CheckpointPlan plan) {
+  public void scheduleCheckpoint(CheckpointPlan plan) {
     for (long lineageId : plan.getLineagesToCheckpoint()) {
       Lineage lineage = mLineageStore.getLineage(lineageId);
+      if (lineage == null) {
+        // The lineage was deleted after the plan was generated.
+        continue;
+      }
       // schedule the lineage file for persistence
       for (long file : lineage.getOutputFiles()) {
         try {
@@ -314,7 +335,7 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   }
 
   @Override
-  public synchronized void reportLostFile(String path)
+  public void reportLostFile(String path)
       throws FileDoesNotExistException, AccessControlException, InvalidPathException {
     long fileId = mFileSystemMaster.getFileId(new AlluxioURI(path));
     mFileSystemMaster.reportLostFile(fileId);
@@ -13,6 +13,8 @@ package alluxio.master.lineage.checkpoint;
 
 import alluxio.exception.AccessControlException;
 import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.LineageDoesNotExistException;
+import alluxio.master.file.FileEventListener;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.lineage.meta.Lineage;
 import alluxio.master.lineage.meta.LineageStateUtils;
@@ -23,17 +25,36 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This class tries to checkpoint the latest created lineage that is ready for persistence. This
  * class serves as an example to implement a planner.
+ * <p>
+ * The lineages whose output files are all completed but not all persisted are kept as candidates.
+ * They are found by scanning the lineage store once, when the first plan is generated. After that,
+ * only the lineages of the files reported by {@link FileEventListener} events are checked again,
+ * so the cost of a plan is proportional to the changes rather than to the size of the store.
  */
 @ThreadSafe
-public final class CheckpointLatestPlanner implements CheckpointPlanner {
+public final class CheckpointLatestPlanner implements CheckpointPlanner, FileEventListener {
   private static final Logger LOG = LoggerFactory.getLogger(CheckpointLatestPlanner.class);
 
+  /** The ids of the files whose state changed since the last plan. */
+  private final Queue<Long> mChangedFiles = new ConcurrentLinkedQueue<>();
+  /** The candidate lineages for checkpointing, by lineage id. */
+  @GuardedBy("this")
+  private final TreeMap<Long, Lineage> mCandidates = new TreeMap<>();
+  /** Whether the candidates have been found by scanning the lineage store. */
+  @GuardedBy("this")
+  private boolean mInitialized;
+
   /**
    * Creates a new instance of {@link CheckpointLatestPlanner}, which does not use the lineage store
    * view.
@@ -45,29 +66,83 @@ public final class CheckpointLatestPlanner implements CheckpointPlanner {
       FileSystemMasterView fileSystemMasterView) {}
 
   @Override
-  public CheckpointPlan generatePlan(LineageStoreView store,
+  public void onFileCompleted(long fileId) {
+    mChangedFiles.add(fileId);
+  }
+
+  @Override
+  public void onFilePersisted(long fileId) {
+    mChangedFiles.add(fileId);
+  }
+
+  @Override
+  public synchronized CheckpointPlan generatePlan(LineageStoreView store,
       FileSystemMasterView fileSystemMasterView) {
-    Lineage toCheckpoint = null;
-    long latestCreated = 0;
-    for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
+    if (!mInitialized) {
+      // The changes so far are covered by the scan, and the later ones are checked afterwards.
+      mChangedFiles.clear();
+      for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
+        updateCandidate(lineage, fileSystemMasterView);
+      }
+      mInitialized = true;
+    }
+    Long fileId;
+    while ((fileId = mChangedFiles.poll()) != null) {
+      if (!store.hasOutputFile(fileId)) {
+        continue;
+      }
+      try {
+        updateCandidate(store.getLineageOfOutputFile(fileId), fileSystemMasterView);
+      } catch (LineageDoesNotExistException e) {
+        // The lineage was deleted concurrently.
+        continue;
+      }
+    }
+
+    // Lineage ids increase with creation, so the latest created candidates are checked first.
+    Iterator<Lineage> iterator = mCandidates.descendingMap().values().iterator();
+    while (iterator.hasNext()) {
+      Lineage lineage = iterator.next();
       try {
-        if (!LineageStateUtils.isCompleted(lineage, fileSystemMasterView)
-            || LineageStateUtils.isPersisted(lineage, fileSystemMasterView)
-            || LineageStateUtils.needRecompute(lineage, fileSystemMasterView)
+        if (store.getLineage(lineage.getId()) != lineage
+            || !LineageStateUtils.isCompleted(lineage, fileSystemMasterView)
+            || LineageStateUtils.isPersisted(lineage, fileSystemMasterView)) {
+          // The lineage was deleted, or its files were reinitialized or persisted.
+          iterator.remove();
+          continue;
+        }
+        if (LineageStateUtils.needRecompute(lineage, fileSystemMasterView)
             || LineageStateUtils.isInCheckpointing(lineage, fileSystemMasterView)) {
           continue;
         }
       } catch (FileDoesNotExistException | AccessControlException e) {
         LOG.error("The lineage file does not exist", e);
+        iterator.remove();
         continue;
       }
-      if (lineage.getCreationTime() > latestCreated) {
-        latestCreated = lineage.getCreationTime();
-        toCheckpoint = lineage;
-      }
+      return new CheckpointPlan(Lists.newArrayList(lineage.getId()));
     }
+    return new CheckpointPlan(new ArrayList<Long>());
+  }
 
-    return toCheckpoint == null ? new CheckpointPlan(new ArrayList<Long>())
-        : new CheckpointPlan(Lists.newArrayList(toCheckpoint.getId()));
+  /**
+   * Adds a lineage to the candidates if all its output files are completed but not all
+   * persisted, or removes it from the candidates otherwise.
+   *
+   * @param lineage the lineage
+   * @param fileSystemMasterView a view of the file system master
+   */
+  @GuardedBy("this")
+  private void updateCandidate(Lineage lineage, FileSystemMasterView fileSystemMasterView) {
+    try {
+      if (LineageStateUtils.isCompleted(lineage, fileSystemMasterView)
+          && !LineageStateUtils.isPersisted(lineage, fileSystemMasterView)) {
+        mCandidates.put(lineage.getId(), lineage);
+        return;
+      }
+    } catch (FileDoesNotExistException | AccessControlException e) {
+      LOG.error("The lineage file does not exist", e);
+    }
+    mCandidates.remove(lineage.getId());
   }
 }
@@ -12,6 +12,7 @@
 package alluxio.master.lineage.checkpoint;
 
 import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.master.file.FileEventListener;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.lineage.LineageMaster;
 
@@ -43,6 +44,9 @@ public final class CheckpointSchedulingExecutor implements HeartbeatExecutor {
     mPlanner =
         CheckpointPlanner.Factory.create(mLineageMaster.getLineageStoreView(),
             mFileSystemMaster.getFileSystemMasterView());
+    if (mPlanner instanceof FileEventListener) {
+      mFileSystemMaster.registerFileEventListener((FileEventListener) mPlanner);
+    }
   }
 
   @Override
@@ -57,6 +61,8 @@ public final class CheckpointSchedulingExecutor implements HeartbeatExecutor {
 
   @Override
   public void close() {
-    // Nothing to clean up
+    if (mPlanner instanceof FileEventListener) {
+      mFileSystemMaster.unregisterFileEventListener((FileEventListener) mPlanner);
+    }
   }
 }
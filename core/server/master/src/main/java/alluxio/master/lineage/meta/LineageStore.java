@@ -20,22 +20,38 @@ import alluxio.proto.journal.Journal;
 import alluxio.proto.journal.Lineage.LineageEntry;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A store of lineages. This class is thread-safe.
- *
- * TODO(yupeng): relax locking
+ * A store of lineages. This class is thread-safe. The lineages can be read concurrently, while
+ * they are added and deleted exclusively.
  */
 @ThreadSafe
 public final class LineageStore implements JournalEntryIterable {
+  /**
+   * Orders lineages by id. Since the parents of a lineage exist when it is created, and lineage
+   * ids are increasing, this is a topological order.
+   */
+  private static final Comparator<Lineage> ID_COMPARATOR = new Comparator<Lineage>() {
+    @Override
+    public int compare(Lineage o1, Lineage o2) {
+      return Long.compare(o1.getId(), o2.getId());
+    }
+  };
+
+  private final Lock mReadLock;
+  private final Lock mWriteLock;
   private final LineageIdGenerator mLineageIdGenerator;
   private final DirectedAcyclicGraph<Lineage> mLineageDAG;
 
@@ -50,6 +66,9 @@ public final class LineageStore implements JournalEntryIterable {
    * @param lineageIdGenerator the lineage id generator
    */
   public LineageStore(LineageIdGenerator lineageIdGenerator) {
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    mReadLock = lock.readLock();
+    mWriteLock = lock.writeLock();
     mLineageIdGenerator = lineageIdGenerator;
     mLineageDAG = new DirectedAcyclicGraph<>();
     mOutputFileIndex = new HashMap<>();
@@ -61,9 +80,14 @@ public final class LineageStore implements JournalEntryIterable {
    *
    * @param entry the journal entry
    */
-  public synchronized void addLineageFromJournal(LineageEntry entry) {
+  public void addLineageFromJournal(LineageEntry entry) {
     Lineage lineage = Lineage.fromJournalEntry(entry);
-    createLineageInternal(lineage);
+    mWriteLock.lock();
+    try {
+      createLineageInternal(lineage);
+    } finally {
+      mWriteLock.unlock();
+    }
   }
 
   /**
@@ -74,12 +98,18 @@ public final class LineageStore implements JournalEntryIterable {
    * @param job the job
    * @return the id of the created lineage
    */
-  public synchronized long createLineage(List<Long> inputFiles,
+  public long createLineage(List<Long> inputFiles,
       List<Long> outputFiles, Job job) {
-    long lineageId = mLineageIdGenerator.generateId();
-    Lineage lineage = new Lineage(lineageId, inputFiles, outputFiles, job);
-    createLineageInternal(lineage);
-    return lineageId;
+    mWriteLock.lock();
+    try {
+      // The id is generated under the lock, so that lineages are added in the order of their ids.
+      long lineageId = mLineageIdGenerator.generateId();
+      Lineage lineage = new Lineage(lineageId, inputFiles, outputFiles, job);
+      createLineageInternal(lineage);
+      return lineageId;
+    } finally {
+      mWriteLock.unlock();
+    }
   }
 
   private void createLineageInternal(Lineage lineage) {
@@ -104,14 +134,23 @@ public final class LineageStore implements JournalEntryIterable {
    * @param lineageId the lineage id
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized void deleteLineage(long lineageId) throws LineageDoesNotExistException {
+  public void deleteLineage(long lineageId) throws LineageDoesNotExistException {
+    mWriteLock.lock();
+    try {
+      deleteLineageInternal(lineageId);
+    } finally {
+      mWriteLock.unlock();
+    }
+  }
+
+  private void deleteLineageInternal(long lineageId) throws LineageDoesNotExistException {
     LineageDoesNotExistException.check(mIdIndex.containsKey(lineageId),
         ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineageId);
 
     Lineage toDelete = mIdIndex.get(lineageId);
     // delete children first
     for (Lineage childLineage : mLineageDAG.getChildren(toDelete)) {
-      deleteLineage(childLineage.getId());
+      deleteLineageInternal(childLineage.getId());
     }
 
     // delete the given node
@@ -128,8 +167,13 @@ public final class LineageStore implements JournalEntryIterable {
    * @param lineageId the lineage id
    * @return the lineage
    */
-  public synchronized Lineage getLineage(long lineageId) {
-    return mIdIndex.get(lineageId);
+  public Lineage getLineage(long lineageId) {
+    mReadLock.lock();
+    try {
+      return mIdIndex.get(lineageId);
+    } finally {
+      mReadLock.unlock();
+    }
   }
 
   /**
@@ -139,12 +183,17 @@ public final class LineageStore implements JournalEntryIterable {
    * @return the lineage's children
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized List<Lineage> getChildren(Lineage lineage)
+  public List<Lineage> getChildren(Lineage lineage)
       throws LineageDoesNotExistException {
-    LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
-        ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
+    mReadLock.lock();
+    try {
+      LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
+          ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
 
-    return mLineageDAG.getChildren(lineage);
+      return mLineageDAG.getChildren(lineage);
+    } finally {
+      mReadLock.unlock();
+    }
   }
 
   /**
@@ -154,9 +203,15 @@ public final class LineageStore implements JournalEntryIterable {
    * @return the lineage containing the output file
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized Lineage getLineageOfOutputFile(long fileId)
+  public Lineage getLineageOfOutputFile(long fileId)
       throws LineageDoesNotExistException {
-    Lineage lineage = mOutputFileIndex.get(fileId);
+    Lineage lineage;
+    mReadLock.lock();
+    try {
+      lineage = mOutputFileIndex.get(fileId);
+    } finally {
+      mReadLock.unlock();
+    }
     LineageDoesNotExistException.check(lineage != null, ExceptionMessage.LINEAGE_DOES_NOT_EXIST,
         fileId);
     return lineage;
@@ -169,36 +224,57 @@ public final class LineageStore implements JournalEntryIterable {
    * @return the lineage's parents
    * @throws LineageDoesNotExistException if the lineage does not exist
    */
-  public synchronized List<Lineage> getParents(Lineage lineage)
+  public List<Lineage> getParents(Lineage lineage)
       throws LineageDoesNotExistException {
-    LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
-        ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
+    mReadLock.lock();
+    try {
+      LineageDoesNotExistException.check(mIdIndex.containsKey(lineage.getId()),
+          ExceptionMessage.LINEAGE_DOES_NOT_EXIST, lineage.getId());
 
-    return mLineageDAG.getParents(lineage);
+      return mLineageDAG.getParents(lineage);
+    } finally {
+      mReadLock.unlock();
+    }
   }
 
   /**
    * @return the list of all root lineages
    */
-  public synchronized List<Lineage> getRootLineages() {
-    return mLineageDAG.getRoots();
+  public List<Lineage> getRootLineages() {
+    mReadLock.lock();
+    try {
+      return mLineageDAG.getRoots();
+    } finally {
+      mReadLock.unlock();
+    }
   }
 
   /**
-   * Sorts a given set of lineages topologically.
+   * Sorts a given set of lineages topologically. This takes time proportional to the number of the
+   * given lineages, rather than to the size of the store.
    *
    * @param lineages lineages to sort
    * @return the lineages after sort
    */
-  public synchronized List<Lineage> sortLineageTopologically(Set<Lineage> lineages) {
-    return mLineageDAG.sortTopologically(lineages);
+  public List<Lineage> sortLineageTopologically(Set<Lineage> lineages) {
+    List<Lineage> result = new ArrayList<>(lineages);
+    Collections.sort(result, ID_COMPARATOR);
+    return result;
   }
 
   /**
    * @return all the lineages in topological order
    */
-  public synchronized List<Lineage> getAllInTopologicalOrder() {
-    return mLineageDAG.getAllInTopologicalOrder();
+  public List<Lineage> getAllInTopologicalOrder() {
+    List<Lineage> result;
+    mReadLock.lock();
+    try {
+      result = new ArrayList<>(mIdIndex.values());
+    } finally {
+      mReadLock.unlock();
+    }
+    Collections.sort(result, ID_COMPARATOR);
+    return result;
   }
 
   /**
@@ -208,9 +284,9 @@ public final class LineageStore implements JournalEntryIterable {
    * @return the iterator
    */
   @Override
-  public synchronized Iterator<Journal.JournalEntry> getJournalEntryIterator() {
+  public Iterator<Journal.JournalEntry> getJournalEntryIterator() {
     // Write the lineages out in a topological order
-    final Iterator<Lineage> it = mLineageDAG.getAllInTopologicalOrder().iterator();
+    final Iterator<Lineage> it = getAllInTopologicalOrder().iterator();
     return new Iterator<Journal.JournalEntry>() {
       @Override
       public boolean hasNext() {
@@ -239,7 +315,12 @@ public final class LineageStore implements JournalEntryIterable {
    * @return true if there's a lineage in the store that has the output file of the given id, false
    *         otherwise
    */
-  public synchronized boolean hasOutputFile(long fileId) {
-    return mOutputFileIndex.containsKey(fileId);
+  public boolean hasOutputFile(long fileId) {
+    mReadLock.lock();
+    try {
+      return mOutputFileIndex.containsKey(fileId);
+    } finally {
+      mReadLock.unlock();
+    }
   }
 }
@@ -55,6 +55,32 @@ public final class LineageStoreView {
     return mLineageStore.getChildren(lineage);
   }
 
+  /**
+   * @param lineageId the lineage id
+   * @return the lineage, or null if it does not exist
+   */
+  public Lineage getLineage(long lineageId) {
+    return mLineageStore.getLineage(lineageId);
+  }
+
+  /**
+   * @param fileId the file id
+   * @return true if there's a lineage in the store that has the output file of the given id, false
+   *         otherwise
+   */
+  public boolean hasOutputFile(long fileId) {
+    return mLineageStore.hasOutputFile(fileId);
+  }
+
+  /**
+   * @param fileId the file id
+   * @return the lineage that has the output file of the given id
+   * @throws LineageDoesNotExistException if the lineage does not exist
+   */
+  public Lineage getLineageOfOutputFile(long fileId) throws LineageDoesNotExistException {
+    return mLineageStore.getLineageOfOutputFile(fileId);
+  }
+
   /**
    * @return all the lineages in topological order
    */
@@ -0,0 +1,352 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.AlluxioURI;
+import alluxio.underfs.UfsStatusCache.Operation;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
+import alluxio.underfs.options.CreateOptions;
+import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.FileLocationOptions;
+import alluxio.underfs.options.ListOptions;
+import alluxio.underfs.options.MkdirsOptions;
+import alluxio.underfs.options.OpenOptions;
+
+import com.google.common.base.Preconditions;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An {@link UnderFileSystem} which answers the metadata operations on another one from a
+ * {@link UfsStatusCache}, and invalidates the cached answers of the paths it changes.
+ */
+@ThreadSafe
+public final class CachingUnderFileSystem implements UnderFileSystem {
+  private final UnderFileSystem mUfs;
+  private final UfsStatusCache mCache;
+
+  /**
+   * Creates a new instance of {@link CachingUnderFileSystem}.
+   *
+   * @param ufs the under file system to run the operations on
+   * @param cache the cache of the answers of the metadata operations
+   */
+  public CachingUnderFileSystem(UnderFileSystem ufs, UfsStatusCache cache) {
+    mUfs = Preconditions.checkNotNull(ufs, "ufs");
+    mCache = Preconditions.checkNotNull(cache, "cache");
+  }
+
+  @Override
+  public void close() throws IOException {
+    mUfs.close();
+  }
+
+  @Override
+  public void connectFromMaster(String hostname) throws IOException {
+    mUfs.connectFromMaster(hostname);
+  }
+
+  @Override
+  public void connectFromWorker(String hostname) throws IOException {
+    mUfs.connectFromWorker(hostname);
+  }
+
+  @Override
+  public OutputStream create(String path) throws IOException {
+    try {
+      return invalidateOnClose(path, mUfs.create(path));
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public OutputStream create(String path, CreateOptions options) throws IOException {
+    try {
+      return invalidateOnClose(path, mUfs.create(path, options));
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  /**
+   * @param path the path of a file being created
+   * @param stream the stream writing the file
+   * @return a stream which invalidates the cached answers of the path when closed, since the file
+   *         may only appear then
+   */
+  private OutputStream invalidateOnClose(final String path, OutputStream stream) {
+    return new FilterOutputStream(stream) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          mCache.invalidate(path, false);
+        }
+      }
+    };
+  }
+
+  @Override
+  public boolean deleteDirectory(String path) throws IOException {
+    try {
+      return mUfs.deleteDirectory(path);
+    } finally {
+      mCache.invalidate(path, true);
+    }
+  }
+
+  @Override
+  public boolean deleteDirectory(String path, DeleteOptions options) throws IOException {
+    try {
+      return mUfs.deleteDirectory(path, options);
+    } finally {
+      mCache.invalidate(path, true);
+    }
+  }
+
+  @Override
+  public boolean deleteFile(String path) throws IOException {
+    try {
+      return mUfs.deleteFile(path);
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public boolean exists(final String path) throws IOException {
+    return mCache.get(path, Operation.EXISTS, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.exists(path);
+      }
+    });
+  }
+
+  @Override
+  public long getBlockSizeByte(final String path) throws IOException {
+    return mCache.get(path, Operation.BLOCK_SIZE, new UfsCallable<Long>() {
+      @Override
+      public Long call() throws IOException {
+        return mUfs.getBlockSizeByte(path);
+      }
+    });
+  }
+
+  @Override
+  public UfsDirectoryStatus getDirectoryStatus(final String path) throws IOException {
+    UfsDirectoryStatus status =
+        mCache.get(path, Operation.DIRECTORY_STATUS, new UfsCallable<UfsDirectoryStatus>() {
+          @Override
+          public UfsDirectoryStatus call() throws IOException {
+            return mUfs.getDirectoryStatus(path);
+          }
+        });
+    return status == null ? null : status.copy();
+  }
+
+  @Override
+  public List<String> getFileLocations(String path) throws IOException {
+    return mUfs.getFileLocations(path);
+  }
+
+  @Override
+  public List<String> getFileLocations(String path, FileLocationOptions options)
+      throws IOException {
+    return mUfs.getFileLocations(path, options);
+  }
+
+  @Override
+  public UfsFileStatus getFileStatus(final String path) throws IOException {
+    UfsFileStatus status =
+        mCache.get(path, Operation.FILE_STATUS, new UfsCallable<UfsFileStatus>() {
+          @Override
+          public UfsFileStatus call() throws IOException {
+            return mUfs.getFileStatus(path);
+          }
+        });
+    return status == null ? null : status.copy();
+  }
+
+  @Override
+  public long getSpace(String path, SpaceType type) throws IOException {
+    return mUfs.getSpace(path, type);
+  }
+
+  @Override
+  public String getUnderFSType() {
+    return mUfs.getUnderFSType();
+  }
+
+  @Override
+  public boolean isDirectory(final String path) throws IOException {
+    return mCache.get(path, Operation.IS_DIRECTORY, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.isDirectory(path);
+      }
+    });
+  }
+
+  @Override
+  public boolean isFile(final String path) throws IOException {
+    return mCache.get(path, Operation.IS_FILE, new UfsCallable<Boolean>() {
+      @Override
+      public Boolean call() throws IOException {
+        return mUfs.isFile(path);
+      }
+    });
+  }
+
+  @Override
+  public UfsStatus[] listStatus(final String path) throws IOException {
+    return copy(mCache.get(path, Operation.LIST, new UfsCallable<UfsStatus[]>() {
+      @Override
+      public UfsStatus[] call() throws IOException {
+        return mUfs.listStatus(path);
+      }
+    }));
+  }
+
+  @Override
+  public UfsStatus[] listStatus(final String path, final ListOptions options)
+      throws IOException {
+    return copy(mCache.get(path,
+        options.isRecursive() ? Operation.LIST_RECURSIVE : Operation.LIST,
+        new UfsCallable<UfsStatus[]>() {
+          @Override
+          public UfsStatus[] call() throws IOException {
+            return mUfs.listStatus(path, options);
+          }
+        }));
+  }
+
+  /**
+   * @param children cached statuses, or null
+   * @return copies of the statuses, which the caller may modify
+   */
+  private static UfsStatus[] copy(UfsStatus[] children) {
+    if (children == null) {
+      return null;
+    }
+    UfsStatus[] copy = new UfsStatus[children.length];
+    for (int i = 0; i < children.length; i++) {
+      copy[i] = children[i].copy();
+    }
+    return copy;
+  }
+
+  @Override
+  public boolean mkdirs(String path) throws IOException {
+    try {
+      return mUfs.mkdirs(path);
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public boolean mkdirs(String path, MkdirsOptions options) throws IOException {
+    try {
+      return mUfs.mkdirs(path, options);
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public InputStream open(String path) throws IOException {
+    return mUfs.open(path);
+  }
+
+  @Override
+  public InputStream open(String path, OpenOptions options) throws IOException {
+    return mUfs.open(path, options);
+  }
+
+  @Override
+  public boolean renameDirectory(String src, String dst) throws IOException {
+    try {
+      return mUfs.renameDirectory(src, dst);
+    } finally {
+      mCache.invalidate(src, true);
+      mCache.invalidate(dst, true);
+    }
+  }
+
+  @Override
+  public boolean renameFile(String src, String dst) throws IOException {
+    try {
+      return mUfs.renameFile(src, dst);
+    } finally {
+      mCache.invalidate(src, false);
+      mCache.invalidate(dst, false);
+    }
+  }
+
+  @Override
+  public AlluxioURI resolveUri(AlluxioURI ufsBaseUri, String alluxioPath) {
+    return mUfs.resolveUri(ufsBaseUri, alluxioPath);
+  }
+
+  @Override
+  public void setMode(String path, short mode) throws IOException {
+    try {
+      mUfs.setMode(path, mode);
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public void setOwner(String path, String owner, String group) throws IOException {
+    try {
+      mUfs.setOwner(path, owner, group);
+    } finally {
+      mCache.invalidate(path, false);
+    }
+  }
+
+  @Override
+  public boolean supportsFlush() {
+    return mUfs.supportsFlush();
+  }
+
+  /**
+   * @return the under file system the operations are run on
+   */
+  public UnderFileSystem getUnderFileSystem() {
+    return mUfs;
+  }
+
+  /**
+   * @param ufs an under file system
+   * @return the under file system whose operations are not cached
+   */
+  public static UnderFileSystem uncached(UnderFileSystem ufs) {
+    return ufs instanceof CachingUnderFileSystem
+        ? ((CachingUnderFileSystem) ufs).getUnderFileSystem() : ufs;
+  }
+}
@@ -11,17 +11,62 @@
 
 package alluxio.underfs;
 
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.exception.status.NotFoundException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.metrics.MetricsSystem;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A class manages the UFS used by different services.
+ * A class manages the UFS used by different services. The answers of the metadata operations on
+ * the UFS of the mounts are cached by a {@link UfsStatusCache}.
  */
 @ThreadSafe
 public final class MasterUfsManager extends AbstractUfsManager {
+  private final UfsStatusCache mStatusCache;
 
   /**
    * Constructs the instance of {@link MasterUfsManager}.
    */
-  public MasterUfsManager() {}
+  public MasterUfsManager() {
+    mStatusCache = new UfsStatusCache(
+        Configuration.getMs(PropertyKey.MASTER_UFS_STATUS_CACHE_TTL_MS),
+        Configuration.getLong(PropertyKey.MASTER_UFS_STATUS_CACHE_CAPACITY));
+  }
+
+  @Override
+  public void addMount(long mountId, AlluxioURI ufsUri, UnderFileSystemConfiguration ufsConf) {
+    mStatusCache.invalidate(ufsUri.toString(), true);
+    super.addMount(mountId, ufsUri, ufsConf);
+  }
+
+  @Override
+  public void removeMount(long mountId) {
+    try {
+      mStatusCache.invalidate(get(mountId).getUfsMountPointUri().toString(), true);
+    } catch (NotFoundException | UnavailableException e) {
+      // The mount is not known, nothing is cached for it.
+    }
+    super.removeMount(mountId);
+  }
+
+  /**
+   * @return the cache of the answers of the metadata operations on the UFS of the mounts
+   */
+  public UfsStatusCache getStatusCache() {
+    return mStatusCache;
+  }
+
+  @Override
+  protected UnderFileSystem wrap(UnderFileSystem ufs) {
+    return new CachingUnderFileSystem(ufs, mStatusCache);
+  }
 
+  @Override
+  protected String getMetricName(String name) {
+    return MetricsSystem.getMasterMetricName(name);
+  }
 }
@@ -0,0 +1,327 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.AlluxioURI;
+import alluxio.metrics.MetricsSystem;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache of the answers of the metadata operations of under file systems, shared by the mounts of
+ * the master. Loading the metadata of a directory, checking whether it is in sync, the startup
+ * consistency check and the absent path cache ask the UFS about overlapping paths, so caching the
+ * answers for a short time saves many remote calls.
+ * <ul>
+ *   <li>The entries expire after a configurable time, and the number of entries is bounded, a
+ *   listing counting as one entry per child.</li>
+ *   <li>A listing of a directory also answers the metadata operations on its children.</li>
+ *   <li>Concurrent identical requests are sent to the UFS only once.</li>
+ *   <li>The entries of a path, its ancestors, and optionally its descendants are invalidated when
+ *   Alluxio changes the path in the UFS. An answer loaded while an invalidation happened is not
+ *   kept, since it may predate the change.</li>
+ * </ul>
+ * The paths are full UFS paths, with trailing separators ignored.
+ */
+@ThreadSafe
+public final class UfsStatusCache {
+  private static final Counter HITS = MetricsSystem.masterCounter("UfsStatusCacheHits");
+  private static final Counter MISSES = MetricsSystem.masterCounter("UfsStatusCacheMisses");
+
+  /**
+   * The metadata operations whose answers are cached.
+   */
+  enum Operation {
+    EXISTS,
+    IS_FILE,
+    IS_DIRECTORY,
+    FILE_STATUS,
+    DIRECTORY_STATUS,
+    BLOCK_SIZE,
+    LIST,
+    LIST_RECURSIVE,
+  }
+
+  /** Whether the cache is enabled. */
+  private final boolean mEnabled;
+  /** The cached answers, absent for null answers. */
+  private final Cache<Key, Optional<Object>> mCache;
+  /**
+   * The write lock is held to invalidate entries, and the read lock to check that no invalidation
+   * happened while loading an answer and to add the entries derived from it.
+   */
+  private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+  /** The number of invalidations, guarded by the write lock. */
+  private volatile long mInvalidations;
+
+  /**
+   * Creates a new instance of {@link UfsStatusCache}.
+   *
+   * @param ttlMs how long the answers are kept, or 0 to disable the cache
+   * @param capacity the maximum number of entries
+   */
+  public UfsStatusCache(long ttlMs, long capacity) {
+    Preconditions.checkArgument(ttlMs >= 0, "ttlMs=%s", ttlMs);
+    Preconditions.checkArgument(capacity > 0, "capacity=%s", capacity);
+    mEnabled = ttlMs > 0;
+    mCache = CacheBuilder.newBuilder().expireAfterWrite(Math.max(ttlMs, 1), TimeUnit.MILLISECONDS)
+        .maximumWeight(capacity).weigher(new Weigher<Key, Optional<Object>>() {
+          @Override
+          public int weigh(Key key, Optional<Object> value) {
+            if (value.isPresent() && value.get() instanceof UfsStatus[]) {
+              return ((UfsStatus[]) value.get()).length + 1;
+            }
+            return 1;
+          }
+        }).build();
+  }
+
+  /**
+   * Gets the answer of a metadata operation, from the cache or by calling the UFS.
+   *
+   * @param path the UFS path
+   * @param operation the operation
+   * @param callable the call to the UFS, whose answer is not modified by the caller
+   * @param <T> the type of the answer
+   * @return the answer, which must not be modified
+   */
+  @SuppressWarnings("unchecked")
+  <T> T get(String path, Operation operation, final UfsCallable<T> callable) throws IOException {
+    if (!mEnabled) {
+      return callable.call();
+    }
+    final String normalizedPath = normalize(path);
+    Key key = new Key(normalizedPath, operation);
+    Optional<Object> value = mCache.getIfPresent(key);
+    if (value != null) {
+      HITS.inc();
+      return (T) value.orNull();
+    }
+    long invalidations = mInvalidations;
+    try {
+      value = mCache.get(key, new Callable<Optional<Object>>() {
+        @Override
+        public Optional<Object> call() throws IOException {
+          MISSES.inc();
+          return Optional.<Object>fromNullable(callable.call());
+        }
+      });
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+    mLock.readLock().lock();
+    try {
+      if (mInvalidations != invalidations) {
+        mCache.invalidate(key);
+      } else {
+        addDerivedEntries(normalizedPath, operation, value.orNull());
+      }
+    } finally {
+      mLock.readLock().unlock();
+    }
+    return (T) value.orNull();
+  }
+
+  /**
+   * Invalidates the entries of a path and its ancestors, after Alluxio changed the path in the UFS.
+   *
+   * @param path the UFS path
+   * @param recursive whether to invalidate the entries of the descendants of the path too
+   */
+  public void invalidate(String path, boolean recursive) {
+    if (!mEnabled) {
+      return;
+    }
+    String normalizedPath = normalize(path);
+    mLock.writeLock().lock();
+    try {
+      mInvalidations++;
+      for (String p = normalizedPath; p != null; p = getParent(p)) {
+        for (Operation operation : Operation.values()) {
+          mCache.invalidate(new Key(p, operation));
+        }
+      }
+      if (recursive) {
+        String prefix = normalizedPath.endsWith(AlluxioURI.SEPARATOR) ? normalizedPath
+            : normalizedPath + AlluxioURI.SEPARATOR;
+        Iterator<Key> it = mCache.asMap().keySet().iterator();
+        while (it.hasNext()) {
+          if (it.next().mPath.startsWith(prefix)) {
+            it.remove();
+          }
+        }
+      }
+    } finally {
+      mLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Invalidates all the entries.
+   */
+  public void invalidateAll() {
+    mLock.writeLock().lock();
+    try {
+      mInvalidations++;
+      mCache.invalidateAll();
+    } finally {
+      mLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the number of entries
+   */
+  long size() {
+    return mCache.size();
+  }
+
+  /**
+   * Adds the answers implied by the answer of an operation, replacing older ones.
+   */
+  private void addDerivedEntries(String path, Operation operation, Object value) {
+    switch (operation) {
+      case EXISTS:
+        if (Boolean.FALSE.equals(value)) {
+          put(path, Operation.IS_FILE, false);
+          put(path, Operation.IS_DIRECTORY, false);
+        }
+        break;
+      case IS_FILE:
+      case IS_DIRECTORY:
+        if (Boolean.TRUE.equals(value)) {
+          put(path, Operation.EXISTS, true);
+          put(path,
+              operation == Operation.IS_FILE ? Operation.IS_DIRECTORY : Operation.IS_FILE, false);
+        }
+        break;
+      case FILE_STATUS:
+      case DIRECTORY_STATUS:
+        if (value != null) {
+          addStatus(path, (UfsStatus) value);
+        }
+        break;
+      case LIST:
+      case LIST_RECURSIVE:
+        if (value != null) {
+          put(path, Operation.EXISTS, true);
+          put(path, Operation.IS_DIRECTORY, true);
+          put(path, Operation.IS_FILE, false);
+          String prefix = path.endsWith(AlluxioURI.SEPARATOR) ? path
+              : path + AlluxioURI.SEPARATOR;
+          for (UfsStatus child : (UfsStatus[]) value) {
+            addStatus(normalize(prefix + child.getName()), child);
+          }
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void addStatus(String path, UfsStatus status) {
+    put(path, Operation.EXISTS, true);
+    put(path, Operation.IS_FILE, status.isFile());
+    put(path, Operation.IS_DIRECTORY, status.isDirectory());
+    if (status instanceof UfsFileStatus) {
+      put(path, Operation.FILE_STATUS, status);
+    } else if (status instanceof UfsDirectoryStatus) {
+      put(path, Operation.DIRECTORY_STATUS, status);
+    }
+  }
+
+  private void put(String path, Operation operation, Object value) {
+    mCache.put(new Key(path, operation), Optional.of(value));
+  }
+
+  /**
+   * @param path a UFS path
+   * @return the path without trailing separators, unless it is a root
+   */
+  static String normalize(String path) {
+    int end = path.length();
+    while (end > 1 && path.charAt(end - 1) == '/' && path.charAt(end - 2) != '/') {
+      end--;
+    }
+    return path.substring(0, end);
+  }
+
+  /**
+   * @param path a normalized UFS path
+   * @return the parent of the path, or null if it is a root
+   */
+  static String getParent(String path) {
+    int index = path.lastIndexOf('/');
+    if (index < 0 || index == path.length() - 1) {
+      return null;
+    }
+    if (index == 0 || path.charAt(index - 1) == '/') {
+      // The parent is a root, like "/" or "file:///".
+      return path.substring(0, index + 1);
+    }
+    return path.substring(0, index);
+  }
+
+  /**
+   * The key of an answer of an operation on a path.
+   */
+  private static final class Key {
+    private final String mPath;
+    private final Operation mOperation;
+
+    Key(String path, Operation operation) {
+      mPath = path;
+      mOperation = operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return mPath.equals(that.mPath) && mOperation == that.mOperation;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mPath, mOperation);
+    }
+  }
+}
@@ -184,7 +184,7 @@ public class BlockMasterTest {
     long blockId = 1L;
     mBlockMaster.workerRegister(worker1, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
         ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
-    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, 20L);
+    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, 20L, Constants.UNKNOWN_CHECKSUM);
 
     // Remove the block
     mBlockMaster.removeBlocks(Arrays.asList(1L), /*delete=*/false);
@@ -219,7 +219,7 @@ public class BlockMasterTest {
     mBlockMaster.workerRegister(worker, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
         ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
     long blockId = 1L;
-    mBlockMaster.commitBlock(worker, 50L, "MEM", blockId, 20L);
+    mBlockMaster.commitBlock(worker, 50L, "MEM", blockId, 20L, Constants.UNKNOWN_CHECKSUM);
 
     // Indicate that blockId is removed on the worker.
     mBlockMaster.workerHeartbeat(worker, ImmutableMap.of("MEM", 0L), ImmutableList.of(blockId),
@@ -239,7 +239,7 @@ public class BlockMasterTest {
 
     // Commit blockId to worker1.
     long blockId = 1L;
-    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, 20L);
+    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, 20L, Constants.UNKNOWN_CHECKSUM);
 
     // Send a heartbeat from worker2 saying that it's added blockId.
     List<Long> addedBlocks = ImmutableList.of(blockId);
@@ -250,6 +250,46 @@ public class BlockMasterTest {
     assertEquals(2, mBlockMaster.getBlockInfo(blockId).getLocations().size());
   }
 
+  @Test
+  public void getCachedBytes() throws Exception {
+    // Create two workers.
+    long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.workerRegister(worker1, Arrays.asList("MEM", "SSD"),
+        ImmutableMap.of("MEM", 100L, "SSD", 100L), ImmutableMap.of("MEM", 0L, "SSD", 0L),
+        NO_BLOCKS_ON_TIERS);
+    long worker2 = mBlockMaster.getWorkerId(NET_ADDRESS_2);
+    mBlockMaster.workerRegister(worker2, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
+
+    // Commit two blocks of a container to worker1, one in each tier.
+    long containerId = 1L;
+    long blockId1 = BlockId.createBlockId(containerId, 0);
+    long blockId2 = BlockId.createBlockId(containerId, 1);
+    mBlockMaster.commitBlock(worker1, 20L, "MEM", blockId1, 20L, Constants.UNKNOWN_CHECKSUM);
+    mBlockMaster.commitBlock(worker1, 30L, "SSD", blockId2, 30L, Constants.UNKNOWN_CHECKSUM);
+    assertEquals(20L, mBlockMaster.getCachedBytes(containerId, 0));
+    assertEquals(30L, mBlockMaster.getCachedBytes(containerId, 1));
+    assertEquals(ImmutableList.of(containerId), mBlockMaster.getCachedContainerIds(0));
+    assertEquals(ImmutableList.of(containerId), mBlockMaster.getCachedContainerIds(1));
+
+    // A block is counted in the highest tier it is in on any worker.
+    mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 30L), NO_BLOCKS,
+        ImmutableMap.<String, List<Long>>of("MEM", ImmutableList.of(blockId2)));
+    assertEquals(50L, mBlockMaster.getCachedBytes(containerId, 0));
+    assertEquals(0L, mBlockMaster.getCachedBytes(containerId, 1));
+    assertTrue(mBlockMaster.getCachedContainerIds(1).isEmpty());
+
+    // Removed blocks are not counted.
+    mBlockMaster.workerHeartbeat(worker1, ImmutableMap.of("MEM", 0L, "SSD", 30L),
+        ImmutableList.of(blockId1), NO_BLOCKS_ON_TIERS);
+    assertEquals(30L, mBlockMaster.getCachedBytes(containerId, 0));
+
+    // Deleted blocks are not counted, even before the workers remove them.
+    mBlockMaster.removeBlocks(ImmutableList.of(blockId2), true);
+    assertEquals(0L, mBlockMaster.getCachedBytes(containerId, 0));
+    assertTrue(mBlockMaster.getCachedContainerIds(0).isEmpty());
+  }
+
   @Test
   public void unknownWorkerHeartbeatTriggersRegisterRequest() {
     Command heartBeat = mBlockMaster.workerHeartbeat(0, null, null, null);
@@ -270,7 +310,7 @@ public class BlockMasterTest {
     long blockLength = 20L;
     mBlockMaster.workerRegister(worker1, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
         ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
-    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, blockLength);
+    mBlockMaster.commitBlock(worker1, 50L, "MEM", blockId, blockLength, Constants.UNKNOWN_CHECKSUM);
 
     BlockLocation blockLocation = new BlockLocation()
         .setTierAlias("MEM")
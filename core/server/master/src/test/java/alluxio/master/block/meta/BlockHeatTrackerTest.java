@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.Constants;
+import alluxio.clock.ManualClock;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BlockHeatTracker}.
+ */
+public final class BlockHeatTrackerTest {
+  private static final long HALF_LIFE_MS = Constants.MINUTE_MS;
+  private static final double DELTA = 1e-6;
+
+  private ManualClock mClock;
+  private BlockHeatTracker mTracker;
+
+  @Before
+  public void before() {
+    mClock = new ManualClock();
+    mTracker = new BlockHeatTracker(mClock, HALF_LIFE_MS);
+  }
+
+  @Test
+  public void addReads() {
+    mTracker.addReads(1L, 10);
+    mTracker.addReads(1L, 5);
+    mTracker.addReads(2L, 0);
+    assertEquals(15, mTracker.getHeat(1L), DELTA);
+    assertEquals(0, mTracker.getHeat(2L), DELTA);
+    assertEquals(1, mTracker.size());
+  }
+
+  @Test
+  public void decay() {
+    mTracker.addReads(1L, 100);
+    mClock.addTimeMs(HALF_LIFE_MS);
+    assertEquals(50, mTracker.getHeat(1L), DELTA);
+    mTracker.addReads(1L, 50);
+    mClock.addTimeMs(2 * HALF_LIFE_MS);
+    assertEquals(25, mTracker.getHeat(1L), DELTA);
+  }
+
+  @Test
+  public void hotBlocks() {
+    mTracker.addReads(1L, 100);
+    mTracker.addReads(2L, 10);
+    mTracker.addReads(3L, 1);
+    assertEquals(ImmutableSet.of(1L), mTracker.getHotBlocks(50).keySet());
+    assertEquals(ImmutableSet.of(1L, 2L, 3L), mTracker.getHotBlocks(0).keySet());
+
+    // the cold blocks are no longer tracked
+    mClock.addTimeMs(5 * HALF_LIFE_MS);
+    assertEquals(ImmutableSet.of(1L), mTracker.getHotBlocks(0).keySet());
+    assertEquals(1, mTracker.size());
+  }
+
+  @Test
+  public void remove() {
+    mTracker.addReads(1L, 100);
+    mTracker.remove(1L);
+    assertEquals(0, mTracker.getHeat(1L), DELTA);
+    assertTrue(mTracker.getHotBlocks(0).isEmpty());
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.Constants;
+import alluxio.master.block.BlockId;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ContainerTierIndex}.
+ */
+public final class ContainerTierIndexTest {
+  private static final long CONTAINER_ID = 1L;
+  private static final long BLOCK_ID_1 = BlockId.createBlockId(CONTAINER_ID, 0);
+  private static final long BLOCK_ID_2 = BlockId.createBlockId(CONTAINER_ID, 1);
+
+  private ContainerTierIndex mIndex;
+
+  @Before
+  public void before() {
+    mIndex = new ContainerTierIndex();
+  }
+
+  @Test
+  public void addBlocks() {
+    mIndex.updateBlock(BLOCK_ID_1, ContainerTierIndex.NOT_CACHED, 10, 0, 10);
+    mIndex.updateBlock(BLOCK_ID_2, ContainerTierIndex.NOT_CACHED, 20, 0, 20);
+    assertEquals(2, mIndex.getBlockCount(CONTAINER_ID, 0));
+    assertEquals(30, mIndex.getBytes(CONTAINER_ID, 0));
+    assertEquals(0, mIndex.getBytes(CONTAINER_ID, 1));
+    assertEquals(0, mIndex.getBytes(2L, 0));
+    assertEquals(ImmutableSet.of(CONTAINER_ID), ImmutableSet.copyOf(mIndex.getContainerIds(0)));
+    assertTrue(mIndex.getContainerIds(1).isEmpty());
+  }
+
+  @Test
+  public void moveBlock() {
+    mIndex.updateBlock(BLOCK_ID_1, ContainerTierIndex.NOT_CACHED, 10, 0, 10);
+    mIndex.updateBlock(BLOCK_ID_1, 0, 10, 2, 10);
+    assertEquals(0, mIndex.getBlockCount(CONTAINER_ID, 0));
+    assertEquals(10, mIndex.getBytes(CONTAINER_ID, 2));
+    assertTrue(mIndex.getContainerIds(0).isEmpty());
+    assertEquals(ImmutableSet.of(CONTAINER_ID), ImmutableSet.copyOf(mIndex.getContainerIds(2)));
+  }
+
+  @Test
+  public void removeBlocks() {
+    mIndex.updateBlock(BLOCK_ID_1, ContainerTierIndex.NOT_CACHED, 10, 0, 10);
+    mIndex.updateBlock(BLOCK_ID_2, ContainerTierIndex.NOT_CACHED, 20, 0, 20);
+    mIndex.updateBlock(BLOCK_ID_1, 0, 10, ContainerTierIndex.NOT_CACHED, 10);
+    assertEquals(20, mIndex.getBytes(CONTAINER_ID, 0));
+    mIndex.updateBlock(BLOCK_ID_2, 0, 20, ContainerTierIndex.NOT_CACHED, 20);
+    assertEquals(0, mIndex.getBytes(CONTAINER_ID, 0));
+    assertTrue(mIndex.getContainerIds(0).isEmpty());
+  }
+
+  @Test
+  public void updateUnknownLength() {
+    mIndex.updateBlock(BLOCK_ID_1, ContainerTierIndex.NOT_CACHED, Constants.UNKNOWN_SIZE, 0,
+        Constants.UNKNOWN_SIZE);
+    assertEquals(1, mIndex.getBlockCount(CONTAINER_ID, 0));
+    assertEquals(0, mIndex.getBytes(CONTAINER_ID, 0));
+    mIndex.updateBlock(BLOCK_ID_1, 0, Constants.UNKNOWN_SIZE, 0, 10);
+    assertEquals(10, mIndex.getBytes(CONTAINER_ID, 0));
+  }
+}
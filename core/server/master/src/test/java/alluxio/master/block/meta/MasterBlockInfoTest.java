@@ -16,11 +16,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import alluxio.Constants;
+import alluxio.MasterStorageTierAssoc;
+import alluxio.StorageTierAssoc;
 
 import com.google.common.collect.ImmutableSet;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -87,6 +90,15 @@ public final class MasterBlockInfoTest {
     assertFalse(mInfo.isInTier("MEM"));
   }
 
+  @Test
+  public void getHighestTier() {
+    StorageTierAssoc tierAssoc = new MasterStorageTierAssoc(Arrays.asList("MEM", "SSD", "HDD"));
+    assertEquals(ContainerTierIndex.NOT_CACHED, mInfo.getHighestTier(tierAssoc));
+    mInfo.addWorker(1, "HDD");
+    mInfo.addWorker(2, "SSD");
+    assertEquals(1, mInfo.getHighestTier(tierAssoc));
+  }
+
   @Test
   public void getLength() {
     assertEquals(Constants.KB, mInfo.getLength());
@@ -51,13 +51,17 @@ import alluxio.security.GroupMappingServiceTestUtils;
 import alluxio.thrift.Command;
 import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.thrift.LoadBlock;
 import alluxio.thrift.UfsInfo;
 import alluxio.util.IdUtils;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.CRC32C;
 import alluxio.util.io.FileUtils;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadJobInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.TtlAction;
 import alluxio.wire.WorkerNetAddress;
@@ -866,6 +870,46 @@ public final class FileSystemMasterTest {
     }
   }
 
+  /**
+   * Tests that a paged listing returns the children in name order, one batch at a time, with
+   * their block information.
+   */
+  @Test
+  public void listStatusInBatches() throws Exception {
+    final int files = 10;
+    // Create the files out of order.
+    for (int i = files - 1; i >= 0; i--) {
+      createFileWithSingleBlock(NESTED_URI.join("file" + String.format("%05d", i)));
+    }
+
+    List<String> names = new ArrayList<>();
+    String startAfter = "";
+    while (true) {
+      List<FileInfo> infos = mFileSystemMaster.listStatus(NESTED_URI, ListStatusOptions.defaults()
+          .setLoadMetadataType(LoadMetadataType.Never).setStartAfter(startAfter).setBatchSize(3));
+      for (FileInfo info : infos) {
+        Assert.assertEquals(1, info.getFileBlockInfos().size());
+        names.add(info.getName());
+      }
+      if (infos.size() < 3) {
+        break;
+      }
+      startAfter = infos.get(infos.size() - 1).getName();
+    }
+    Assert.assertEquals(files, names.size());
+    for (int i = 0; i < files; i++) {
+      Assert.assertEquals("file" + String.format("%05d", i), names.get(i));
+    }
+
+    // A paged listing of a file contains the file only in its first page.
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    ListStatusOptions options = ListStatusOptions.defaults()
+        .setLoadMetadataType(LoadMetadataType.Never).setBatchSize(1);
+    Assert.assertEquals(1, mFileSystemMaster.listStatus(NESTED_FILE_URI, options).size());
+    Assert.assertTrue(mFileSystemMaster
+        .listStatus(NESTED_FILE_URI, options.setStartAfter(NESTED_FILE_URI.getName())).isEmpty());
+  }
+
   @Test
   public void getFileBlockInfoList() throws Exception {
     createFileWithSingleBlock(ROOT_FILE_URI);
@@ -1331,6 +1375,39 @@ public final class FileSystemMasterTest {
         mFileSystemMaster.getFileInfo(NESTED_FILE_URI, GET_STATUS_OPTIONS).getMode());
   }
 
+  /**
+   * Tests that the checksum of a file is composed from the checksums of its blocks, and that the
+   * block checksums survive a restart.
+   */
+  @Test
+  public void getFileChecksum() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(Constants.KB + 100);
+    mFileSystemMaster.createFile(NESTED_FILE_URI, mNestedFileOptions);
+    long blockId = mFileSystemMaster.getNewBlockIdForFile(NESTED_FILE_URI);
+    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "MEM", blockId, Constants.KB,
+        crc32c(data, 0, Constants.KB));
+    blockId = mFileSystemMaster.getNewBlockIdForFile(NESTED_FILE_URI);
+    mBlockMaster.commitBlock(mWorkerId1, Constants.KB + 100, "MEM", blockId, 100,
+        crc32c(data, Constants.KB, 100));
+    // The checksum of an incomplete file is not available.
+    Assert.assertEquals(Constants.UNKNOWN_CHECKSUM,
+        mFileSystemMaster.getFileChecksum(NESTED_FILE_URI));
+    mFileSystemMaster.completeFile(NESTED_FILE_URI, CompleteFileOptions.defaults());
+    Assert.assertEquals(crc32c(data, 0, data.length),
+        mFileSystemMaster.getFileChecksum(NESTED_FILE_URI));
+
+    // Simulate restart.
+    stopServices();
+    startServices();
+    Assert.assertEquals(crc32c(data, 0, data.length),
+        mFileSystemMaster.getFileChecksum(NESTED_FILE_URI));
+
+    // The checksum of a file with a block committed without a checksum is not available.
+    createFileWithSingleBlock(ROOT_FILE_URI);
+    Assert.assertEquals(Constants.UNKNOWN_CHECKSUM,
+        mFileSystemMaster.getFileChecksum(ROOT_FILE_URI));
+  }
+
   /**
    * Tests that a file is fully written to memory.
    */
@@ -1340,10 +1417,12 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.createFile(NESTED_FILE_URI, mNestedFileOptions);
     // add in-memory block
     long blockId = mFileSystemMaster.getNewBlockIdForFile(NESTED_FILE_URI);
-    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "MEM", blockId, Constants.KB);
+    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "MEM", blockId, Constants.KB,
+        Constants.UNKNOWN_CHECKSUM);
     // add SSD block
     blockId = mFileSystemMaster.getNewBlockIdForFile(NESTED_FILE_URI);
-    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "SSD", blockId, Constants.KB);
+    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "SSD", blockId, Constants.KB,
+        Constants.UNKNOWN_CHECKSUM);
     mFileSystemMaster.completeFile(NESTED_FILE_URI, CompleteFileOptions.defaults());
 
     // Create 2 files in memory.
@@ -1353,6 +1432,21 @@ public final class FileSystemMasterTest {
     Assert.assertEquals(2, mFileSystemMaster.getInMemoryFiles().size());
     Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().contains(ROOT_FILE_URI));
     Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().contains(nestedMemUri));
+    Assert.assertEquals(50,
+        mFileSystemMaster.getFileInfo(NESTED_FILE_URI, GET_STATUS_OPTIONS).getInMemoryPercentage());
+
+    // A file is no longer in memory once its blocks are removed from the workers.
+    long memBlockId = mFileSystemMaster.getFileInfo(nestedMemUri, GET_STATUS_OPTIONS)
+        .getBlockIds().get(0);
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", (long) Constants.KB),
+        ImmutableList.of(memBlockId), ImmutableMap.<String, List<Long>>of());
+    Assert.assertEquals(ImmutableList.of(ROOT_FILE_URI), mFileSystemMaster.getInMemoryFiles());
+    Assert.assertEquals(0,
+        mFileSystemMaster.getFileInfo(nestedMemUri, GET_STATUS_OPTIONS).getInMemoryPercentage());
+
+    // A deleted file is not in memory, even before its blocks are removed from the workers.
+    mFileSystemMaster.delete(ROOT_FILE_URI, DeleteOptions.defaults());
+    Assert.assertTrue(mFileSystemMaster.getInMemoryFiles().isEmpty());
   }
 
   /**
@@ -1442,6 +1536,85 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.rename(NESTED_URI, NESTED_FILE_URI, RenameOptions.defaults());
   }
 
+  /**
+   * Tests the batch methods of {@link FileSystemMaster} for creating, getting the status of,
+   * renaming and deleting files.
+   */
+  @Test
+  public void batchOperations() throws Exception {
+    List<AlluxioURI> files = ImmutableList.of(new AlluxioURI("/nested/b"),
+        new AlluxioURI("/nested/a"), new AlluxioURI("/nested/c"));
+    List<Long> fileIds = mFileSystemMaster.createFilesBatch(files, mNestedFileOptions);
+
+    List<FileInfo> fileInfos = mFileSystemMaster.getFileInfoBatch(files, GET_STATUS_OPTIONS);
+    Assert.assertEquals(files.size(), fileInfos.size());
+    for (int i = 0; i < files.size(); i++) {
+      Assert.assertEquals(files.get(i).getPath(), fileInfos.get(i).getPath());
+      Assert.assertEquals((long) fileIds.get(i), fileInfos.get(i).getFileId());
+    }
+
+    List<AlluxioURI> renamed = ImmutableList.of(new AlluxioURI("/nested/y"),
+        new AlluxioURI("/nested/x"), new AlluxioURI("/nested/z"));
+    mFileSystemMaster.renameBatch(files, renamed, RenameOptions.defaults());
+    for (int i = 0; i < files.size(); i++) {
+      Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(files.get(i)));
+      Assert.assertEquals((long) fileIds.get(i), mFileSystemMaster.getFileId(renamed.get(i)));
+    }
+
+    // The parent directory is deleted non-recursively after its children in the same batch.
+    List<AlluxioURI> deleted = ImmutableList.<AlluxioURI>builder()
+        .add(new AlluxioURI("/nested")).addAll(renamed).build();
+    mFileSystemMaster.deleteBatch(deleted, DeleteOptions.defaults().setRecursive(false));
+    for (AlluxioURI uri : deleted) {
+      Assert.assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(uri));
+    }
+  }
+
+  /**
+   * Tests that {@link FileSystemMaster#getFileInfoBatch} fails if one of the paths does not
+   * exist.
+   */
+  @Test
+  public void getFileInfoBatchNonexistent() throws Exception {
+    mFileSystemMaster.createFile(NESTED_FILE_URI, mNestedFileOptions);
+
+    mThrown.expect(FileDoesNotExistException.class);
+    mFileSystemMaster.getFileInfoBatch(ImmutableList.of(NESTED_FILE_URI, TEST_URI),
+        GetStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Never));
+  }
+
+  /**
+   * Tests that the registered {@link FileEventListener}s are notified of completed and persisted
+   * files.
+   */
+  @Test
+  public void fileEventListener() throws Exception {
+    final List<Long> completedFiles = new ArrayList<>();
+    final List<Long> persistedFiles = new ArrayList<>();
+    FileEventListener listener = new FileEventListener() {
+      @Override
+      public void onFileCompleted(long fileId) {
+        completedFiles.add(fileId);
+      }
+
+      @Override
+      public void onFilePersisted(long fileId) {
+        persistedFiles.add(fileId);
+      }
+    };
+    mFileSystemMaster.registerFileEventListener(listener);
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    long fileId = mFileSystemMaster.getFileId(NESTED_FILE_URI);
+    Assert.assertEquals(Arrays.asList(fileId), completedFiles);
+    mFileSystemMaster.setAttribute(NESTED_FILE_URI,
+        SetAttributeOptions.defaults().setPersisted(true));
+    Assert.assertEquals(Arrays.asList(fileId), persistedFiles);
+
+    mFileSystemMaster.unregisterFileEventListener(listener);
+    createFileWithSingleBlock(ROOT_FILE_URI);
+    Assert.assertEquals(1, completedFiles.size());
+  }
+
   /**
    * Tests {@link FileSystemMaster#free} on persisted file.
    */
@@ -1748,7 +1921,7 @@ public final class FileSystemMasterTest {
   }
 
   /**
-   * Tests the {@link FileSystemMaster#workerHeartbeat(long, List)} method.
+   * Tests the {@link FileSystemMaster#workerHeartbeat(long, List, List, List, List)} method.
    */
   @Test
   public void workerHeartbeat() throws Exception {
@@ -1758,7 +1931,8 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.scheduleAsyncPersistence(ROOT_FILE_URI);
 
     FileSystemCommand command =
-        mFileSystemMaster.workerHeartbeat(mWorkerId1, Lists.newArrayList(fileId));
+        mFileSystemMaster.workerHeartbeat(mWorkerId1, Lists.newArrayList(fileId),
+            new ArrayList<Long>(), new ArrayList<Long>(), new ArrayList<Long>());
     Assert.assertEquals(CommandType.Persist, command.getCommandType());
     Assert.assertEquals(1,
         command.getCommandOptions().getPersistOptions().getPersistFiles().size());
@@ -1768,6 +1942,54 @@ public final class FileSystemMasterTest {
         .getPersistFiles().get(0).getBlockIds().get(0));
   }
 
+  /**
+   * Tests that {@link FileSystemMaster#load(AlluxioURI)} spreads the blocks which are not in
+   * Alluxio over the workers, and tracks the progress reported in the worker heartbeats.
+   */
+  @Test
+  public void load() throws Exception {
+    AlluxioURI ufsMount = new AlluxioURI(mTestFolder.newFolder().getAbsolutePath());
+    Files.write(Paths.get(ufsMount.join("file1").getPath()), new byte[10]);
+    Files.write(Paths.get(ufsMount.join("file2").getPath()), new byte[20]);
+    mFileSystemMaster.createDirectory(new AlluxioURI("/mnt/"), CreateDirectoryOptions.defaults());
+    AlluxioURI uri = new AlluxioURI("/mnt/local");
+    mFileSystemMaster.mount(uri, ufsMount, MountOptions.defaults());
+    mFileSystemMaster.listStatus(uri,
+        ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Always));
+
+    LoadJobInfo jobInfo = mFileSystemMaster.load(uri);
+    Assert.assertEquals(2, jobInfo.getTotalBlocks());
+    Assert.assertFalse(jobInfo.isCompleted());
+    // loading the same path again returns the job in progress
+    Assert.assertEquals(jobInfo.getId(), mFileSystemMaster.load(uri).getId());
+
+    for (long workerId : new long[] {mWorkerId1, mWorkerId2}) {
+      FileSystemCommand command = mFileSystemMaster.workerHeartbeat(workerId,
+          new ArrayList<Long>(), new ArrayList<Long>(), new ArrayList<Long>(),
+          new ArrayList<Long>());
+      Assert.assertEquals(CommandType.Load, command.getCommandType());
+      List<LoadBlock> blocks = command.getCommandOptions().getLoadOptions().getLoadBlocks();
+      // the blocks are spread over the workers, which have the same free space
+      Assert.assertEquals(1, blocks.size());
+      LoadBlock block = blocks.get(0);
+      Assert.assertEquals(0, block.getOffsetInFile());
+      Assert.assertTrue(block.getUfsPath().startsWith(ufsMount.getPath()));
+      mBlockMaster.commitBlock(workerId, Constants.KB, "MEM", block.getBlockId(),
+          block.getBlockSize(), Constants.UNKNOWN_CHECKSUM);
+      mFileSystemMaster.workerHeartbeat(workerId, new ArrayList<Long>(),
+          Lists.newArrayList(block.getBlockId()), new ArrayList<Long>(), new ArrayList<Long>());
+    }
+    jobInfo = mFileSystemMaster.getLoadJobInfo(jobInfo.getId());
+    Assert.assertEquals(2, jobInfo.getLoadedBlocks());
+    Assert.assertEquals(0, jobInfo.getFailedBlocks());
+    Assert.assertTrue(jobInfo.isCompleted());
+
+    // the blocks which are already in Alluxio are not loaded again
+    jobInfo = mFileSystemMaster.load(uri);
+    Assert.assertEquals(0, jobInfo.getTotalBlocks());
+    Assert.assertTrue(jobInfo.isCompleted());
+  }
+
   /**
    * Tests that lost files can successfully be detected.
    */
@@ -1865,12 +2087,19 @@ public final class FileSystemMasterTest {
   private long createFileWithSingleBlock(AlluxioURI uri) throws Exception {
     mFileSystemMaster.createFile(uri, mNestedFileOptions);
     long blockId = mFileSystemMaster.getNewBlockIdForFile(uri);
-    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "MEM", blockId, Constants.KB);
+    mBlockMaster.commitBlock(mWorkerId1, Constants.KB, "MEM", blockId, Constants.KB,
+        Constants.UNKNOWN_CHECKSUM);
     CompleteFileOptions options = CompleteFileOptions.defaults().setUfsLength(Constants.KB);
     mFileSystemMaster.completeFile(uri, options);
     return blockId;
   }
 
+  private static long crc32c(byte[] data, int offset, int length) {
+    CRC32C crc = new CRC32C();
+    crc.update(data, offset, length);
+    return crc.getValue();
+  }
+
   private void startServices() throws Exception {
     mRegistry = new MasterRegistry();
     mJournalFactory = new Journal.Factory(new URI(mJournalFolder));
@@ -0,0 +1,243 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.load;
+
+import alluxio.Configuration;
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.clock.ManualClock;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.BlockLocation;
+import alluxio.wire.ThriftUtils;
+import alluxio.wire.WorkerInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link HotBlockReplicator}.
+ */
+public final class HotBlockReplicatorTest {
+  private static final long BLOCK_ID = 1L;
+  private static final long BLOCK_SIZE = 100;
+  private static final double THRESHOLD = 100;
+  private static final long LOAD_TIMEOUT_MS = 1000;
+
+  private BlockMaster mBlockMaster;
+  private ManualClock mClock;
+  private LoadBlock mLoadBlock;
+  private HotBlockReplicator mReplicator;
+
+  @Rule
+  public ConfigurationRule mConfigurationRule = new ConfigurationRule(ImmutableMap.of(
+      PropertyKey.MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD, Double.toString(THRESHOLD),
+      PropertyKey.MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS, "3",
+      PropertyKey.MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS, Long.toString(LOAD_TIMEOUT_MS)));
+
+  @Before
+  public void before() {
+    mBlockMaster = Mockito.mock(BlockMaster.class);
+    mClock = new ManualClock();
+    mLoadBlock = new LoadBlock(BLOCK_ID, "/ufs/file", 0, BLOCK_SIZE, 1);
+    mReplicator = new HotBlockReplicator(mBlockMaster, new HotBlockReplicator.BlockResolver() {
+      @Override
+      public LoadBlock getLoadBlock(long blockId) {
+        return mLoadBlock;
+      }
+    }, mClock);
+  }
+
+  /**
+   * Tests that a hot block is replicated to the workers with the most free space, with one more
+   * replica for each multiple of the threshold in its heat.
+   */
+  @Test
+  public void replicateToWorkersWithMostFreeSpace() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 500), createWorker(3, 2000));
+    setBlock(1.5 * THRESHOLD, 1);
+    mReplicator.heartbeat();
+    Assert.assertTrue(mReplicator.pollBlocksToReplicate(2).isEmpty());
+    Assert.assertEquals(Arrays.asList(replicaFrom(1)), mReplicator.pollBlocksToReplicate(3));
+    // the replica being loaded is counted
+    mReplicator.heartbeat();
+    Assert.assertTrue(mReplicator.pollBlocksToReplicate(3).isEmpty());
+
+    setBlock(2.5 * THRESHOLD, 1);
+    mReplicator.heartbeat();
+    Assert.assertEquals(Arrays.asList(replicaFrom(1)), mReplicator.pollBlocksToReplicate(2));
+  }
+
+  /**
+   * Tests that the replicas are copied from the workers holding the block in turn.
+   */
+  @Test
+  public void copyFromHolders() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 1000), createWorker(3, 2000),
+        createWorker(4, 3000));
+    Configuration.set(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_MAX_REPLICAS, "4");
+    mReplicator = new HotBlockReplicator(mBlockMaster, new HotBlockReplicator.BlockResolver() {
+      @Override
+      public LoadBlock getLoadBlock(long blockId) {
+        return mLoadBlock;
+      }
+    }, mClock);
+    setBlock(10 * THRESHOLD, 1, 2);
+    mReplicator.heartbeat();
+    Assert.assertEquals(Arrays.asList(replicaFrom(1)), mReplicator.pollBlocksToReplicate(4));
+    Assert.assertEquals(Arrays.asList(replicaFrom(2)), mReplicator.pollBlocksToReplicate(3));
+  }
+
+  /**
+   * Tests that a replica which is not loaded in time is placed again, and that its load is
+   * dropped if it has not been sent to its worker.
+   */
+  @Test
+  public void expireLoadingReplicas() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 2000), createWorker(3, 500));
+    setBlock(THRESHOLD, 1);
+    mReplicator.heartbeat();
+    // The deadline starts when the replica is sent to the worker.
+    mClock.addTimeMs(LOAD_TIMEOUT_MS - 1);
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+    mClock.addTimeMs(LOAD_TIMEOUT_MS - 1);
+    mReplicator.heartbeat();
+    Assert.assertTrue(mReplicator.pollBlocksToReplicate(2).isEmpty());
+    mClock.addTimeMs(1);
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+
+    // A replica which is not sent in time is not sent any more.
+    mClock.addTimeMs(LOAD_TIMEOUT_MS);
+    mReplicator.heartbeat();
+    mClock.addTimeMs(LOAD_TIMEOUT_MS);
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+  }
+
+  /**
+   * Tests that a block is not replicated to more workers than allowed.
+   */
+  @Test
+  public void maxReplicas() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 1000), createWorker(3, 1000),
+        createWorker(4, 1000));
+    setBlock(100 * THRESHOLD, 1);
+    mReplicator.heartbeat();
+    int replicas = 0;
+    for (long workerId = 1; workerId <= 4; workerId++) {
+      replicas += mReplicator.pollBlocksToReplicate(workerId).size();
+    }
+    Assert.assertEquals(2, replicas);
+  }
+
+  /**
+   * Tests that a block which can not be loaded from the under storage is not replicated.
+   */
+  @Test
+  public void unresolvedBlock() throws Exception {
+    mLoadBlock = null;
+    setWorkers(createWorker(1, 1000), createWorker(2, 1000));
+    setBlock(10 * THRESHOLD, 1);
+    mReplicator.heartbeat();
+    Assert.assertTrue(mReplicator.pollBlocksToReplicate(2).isEmpty());
+  }
+
+  /**
+   * Tests that a replica is removed once the heat of its block drops below half of the heat which
+   * added it, and that the original copy is kept.
+   */
+  @Test
+  public void removeColdReplicas() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 500));
+    setBlock(THRESHOLD, 1);
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+    mReplicator.reportBlocks(2, Arrays.asList(BLOCK_ID), new ArrayList<Long>());
+    Assert.assertEquals(1, mReplicator.getReplicatedBlockCount());
+
+    setBlock(0.6 * THRESHOLD, 1, 2);
+    mReplicator.heartbeat();
+    Mockito.verify(mBlockMaster, Mockito.never())
+        .removeBlockFromWorker(Mockito.anyLong(), Mockito.anyLong());
+
+    setBlock(0.4 * THRESHOLD, 1, 2);
+    mReplicator.heartbeat();
+    Mockito.verify(mBlockMaster).removeBlockFromWorker(BLOCK_ID, 2);
+    Mockito.verify(mBlockMaster, Mockito.never()).removeBlockFromWorker(BLOCK_ID, 1);
+    Assert.assertEquals(0, mReplicator.getReplicatedBlockCount());
+  }
+
+  /**
+   * Tests that a replica which failed to load, or whose worker is lost, is placed again.
+   */
+  @Test
+  public void replaceFailedReplicas() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 2000), createWorker(3, 500));
+    setBlock(THRESHOLD, 1);
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+    mReplicator.reportBlocks(2, new ArrayList<Long>(), Arrays.asList(BLOCK_ID));
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(2).size());
+
+    setWorkers(createWorker(1, 1000), createWorker(3, 500));
+    mReplicator.heartbeat();
+    Assert.assertEquals(1, mReplicator.pollBlocksToReplicate(3).size());
+    Assert.assertEquals(0, mReplicator.getReplicatedBlockCount());
+  }
+
+  private void setWorkers(WorkerInfo... workers) {
+    Mockito.when(mBlockMaster.getWorkerInfoList()).thenReturn(Arrays.asList(workers));
+  }
+
+  private void setBlock(double heat, long... workerIds) throws Exception {
+    List<BlockLocation> locations = new ArrayList<>();
+    for (long workerId : workerIds) {
+      locations.add(new BlockLocation().setWorkerId(workerId)
+          .setWorkerAddress(createAddress(workerId)));
+    }
+    Mockito.when(mBlockMaster.getBlockInfo(BLOCK_ID)).thenReturn(
+        new BlockInfo().setBlockId(BLOCK_ID).setLength(BLOCK_SIZE).setLocations(locations));
+    Mockito.when(mBlockMaster.getBlockHeat(BLOCK_ID)).thenReturn(heat);
+    Mockito.when(mBlockMaster.getHotBlocks(THRESHOLD)).thenReturn(
+        heat >= THRESHOLD ? ImmutableMap.of(BLOCK_ID, heat) : ImmutableMap.<Long, Double>of());
+  }
+
+  /**
+   * @param workerId the id of the worker holding the block
+   * @return the block to load, copied from the given worker
+   */
+  private LoadBlock replicaFrom(long workerId) {
+    return new LoadBlock(mLoadBlock)
+        .setSourceAddress(ThriftUtils.toThrift(createAddress(workerId)));
+  }
+
+  private static WorkerNetAddress createAddress(long workerId) {
+    return new WorkerNetAddress().setHost("worker" + workerId).setRpcPort(29998)
+        .setDataPort(29999).setWebPort(30000);
+  }
+
+  private static WorkerInfo createWorker(long id, long freeBytes) {
+    return new WorkerInfo().setId(id).setCapacityBytes(freeBytes + 100).setUsedBytes(100);
+  }
+}
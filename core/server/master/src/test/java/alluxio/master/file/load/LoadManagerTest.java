@@ -0,0 +1,229 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.load;
+
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.clock.ManualClock;
+import alluxio.exception.status.UnavailableException;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.wire.LoadJobInfo;
+import alluxio.wire.WorkerInfo;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Unit tests for {@link LoadManager}.
+ */
+public final class LoadManagerTest {
+  private static final long BLOCK_SIZE = 100;
+
+  private static final long BLOCK_TIMEOUT_MS = 60000;
+
+  private BlockMaster mBlockMaster;
+  private ManualClock mClock;
+  private LoadManager mLoadManager;
+
+  @Rule
+  public ConfigurationRule mConfigurationRule = new ConfigurationRule(ImmutableMap.of(
+      PropertyKey.MASTER_FILE_LOAD_MAX_BLOCKS_PER_WORKER, "2",
+      PropertyKey.MASTER_FILE_LOAD_MAX_ATTEMPTS, "2",
+      PropertyKey.MASTER_FILE_LOAD_BLOCK_TIMEOUT_MS, Long.toString(BLOCK_TIMEOUT_MS)));
+
+  @Before
+  public void before() {
+    mBlockMaster = Mockito.mock(BlockMaster.class);
+    mClock = new ManualClock();
+    mLoadManager = new LoadManager(mBlockMaster, mClock);
+  }
+
+  /**
+   * Tests that the blocks are assigned to the workers with the most free space, and that a worker
+   * is not given more blocks than the limit.
+   */
+  @Test
+  public void loadOnWorkersWithMostFreeSpace() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 750));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(6));
+    Assert.assertEquals(6, jobInfo.getTotalBlocks());
+
+    // worker 1 gets the first 3 blocks, then the workers take turns
+    Assert.assertEquals(2, mLoadManager.pollBlocksToLoad(1).size());
+    Assert.assertEquals(2, mLoadManager.pollBlocksToLoad(2).size());
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(2).isEmpty());
+    // worker 1 is loading as many blocks as it is allowed to
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(1).isEmpty());
+  }
+
+  /**
+   * Tests the progress of a job as the blocks are loaded.
+   */
+  @Test
+  public void progress() throws Exception {
+    setWorkers(createWorker(1, 1000));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(3));
+    List<Long> loaded = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    mLoadManager.reportBlocks(1, loaded, new ArrayList<Long>(), new ArrayList<Long>());
+    jobInfo = mLoadManager.getLoadJobInfo(jobInfo.getId());
+    Assert.assertEquals(2, jobInfo.getLoadedBlocks());
+    Assert.assertFalse(jobInfo.isCompleted());
+
+    loaded = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    Assert.assertEquals(1, loaded.size());
+    mLoadManager.reportBlocks(1, loaded, new ArrayList<Long>(), new ArrayList<Long>());
+    jobInfo = mLoadManager.getLoadJobInfo(jobInfo.getId());
+    Assert.assertEquals(3, jobInfo.getLoadedBlocks());
+    Assert.assertTrue(jobInfo.isCompleted());
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(1).isEmpty());
+    // a completed job is not returned when loading the same path again
+    Assert.assertNotEquals(jobInfo.getId(), mLoadManager.load("/a", createBlocks(1)).getId());
+  }
+
+  /**
+   * Tests that a block which failed to load is retried on another worker, until it has been tried
+   * on as many workers as allowed.
+   */
+  @Test
+  public void retryFailedBlocks() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 500), createWorker(3, 500));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(1));
+    List<Long> failed = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    mLoadManager.reportBlocks(1, new ArrayList<Long>(), failed, new ArrayList<Long>());
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(1).isEmpty());
+
+    List<LoadBlock> retried = mLoadManager.pollBlocksToLoad(2);
+    retried.addAll(mLoadManager.pollBlocksToLoad(3));
+    Assert.assertEquals(failed, getBlockIds(retried));
+    mLoadManager.reportBlocks(2, new ArrayList<Long>(), failed, new ArrayList<Long>());
+    mLoadManager.reportBlocks(3, new ArrayList<Long>(), failed, new ArrayList<Long>());
+
+    jobInfo = mLoadManager.getLoadJobInfo(jobInfo.getId());
+    Assert.assertEquals(1, jobInfo.getFailedBlocks());
+    Assert.assertTrue(jobInfo.isCompleted());
+  }
+
+  /**
+   * Tests that the blocks of a lost worker are assigned to the other workers.
+   */
+  @Test
+  public void reassignBlocksOfLostWorkers() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 100));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(2));
+    List<Long> blocks = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    Assert.assertEquals(2, blocks.size());
+
+    setWorkers(createWorker(2, 100));
+    Assert.assertEquals(new HashSet<>(blocks),
+        new HashSet<>(getBlockIds(mLoadManager.pollBlocksToLoad(2))));
+    // reports from the lost worker are ignored
+    mLoadManager.reportBlocks(1, blocks, new ArrayList<Long>(), new ArrayList<Long>());
+    Assert.assertEquals(0, mLoadManager.getLoadJobInfo(jobInfo.getId()).getLoadedBlocks());
+    mLoadManager.reportBlocks(2, blocks, new ArrayList<Long>(), new ArrayList<Long>());
+    Assert.assertTrue(mLoadManager.getLoadJobInfo(jobInfo.getId()).isCompleted());
+  }
+
+  /**
+   * Tests that a block which is not loaded before its deadline is assigned to another worker.
+   */
+  @Test
+  public void reassignExpiredBlocks() throws Exception {
+    setWorkers(createWorker(1, 1000), createWorker(2, 500));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(1));
+    List<Long> blocks = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    Assert.assertEquals(1, blocks.size());
+    mClock.addTimeMs(BLOCK_TIMEOUT_MS - 1);
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(2).isEmpty());
+
+    // the worker still reports the block as being loaded, which does not extend the deadline
+    mLoadManager.reportBlocks(1, new ArrayList<Long>(), new ArrayList<Long>(), blocks);
+    mClock.addTimeMs(1);
+    Assert.assertEquals(blocks, getBlockIds(mLoadManager.pollBlocksToLoad(2)));
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(1).isEmpty());
+    mLoadManager.reportBlocks(2, blocks, new ArrayList<Long>(), new ArrayList<Long>());
+    Assert.assertEquals(1, mLoadManager.getLoadJobInfo(jobInfo.getId()).getLoadedBlocks());
+  }
+
+  /**
+   * Tests that the blocks handed out to a worker which it does not report as being loaded, as when
+   * the heartbeat response was lost or the worker restarted, are handed out again.
+   */
+  @Test
+  public void requeueUnreportedBlocks() throws Exception {
+    setWorkers(createWorker(1, 1000));
+    LoadJobInfo jobInfo = mLoadManager.load("/a", createBlocks(3));
+    List<Long> blocks = getBlockIds(mLoadManager.pollBlocksToLoad(1));
+    Assert.assertEquals(2, blocks.size());
+
+    // the worker only received the first block
+    mLoadManager.reportBlocks(1, new ArrayList<Long>(), new ArrayList<Long>(),
+        blocks.subList(0, 1));
+    Assert.assertEquals(blocks.subList(1, 2), getBlockIds(mLoadManager.pollBlocksToLoad(1)));
+    // a report without the blocks being loaded keeps them
+    mLoadManager.reportBlocks(1, new ArrayList<Long>(), new ArrayList<Long>(), null);
+    Assert.assertTrue(mLoadManager.pollBlocksToLoad(1).isEmpty());
+
+    mLoadManager.reportBlocks(1, blocks, new ArrayList<Long>(), new ArrayList<Long>());
+    Assert.assertEquals(1, mLoadManager.pollBlocksToLoad(1).size());
+    Assert.assertEquals(2, mLoadManager.getLoadJobInfo(jobInfo.getId()).getLoadedBlocks());
+  }
+
+  /**
+   * Tests that a job cannot be created when there is no worker.
+   */
+  @Test
+  public void noWorkers() throws Exception {
+    setWorkers();
+    try {
+      mLoadManager.load("/a", createBlocks(1));
+      Assert.fail("Loading without a worker should fail");
+    } catch (UnavailableException e) {
+      // expected
+    }
+    Assert.assertTrue(mLoadManager.load("/a", createBlocks(0)).isCompleted());
+  }
+
+  private void setWorkers(WorkerInfo... workers) {
+    Mockito.when(mBlockMaster.getWorkerInfoList()).thenReturn(Arrays.asList(workers));
+  }
+
+  private static WorkerInfo createWorker(long id, long freeBytes) {
+    return new WorkerInfo().setId(id).setCapacityBytes(freeBytes + 100).setUsedBytes(100);
+  }
+
+  private static List<LoadBlock> createBlocks(int count) {
+    List<LoadBlock> blocks = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      blocks.add(new LoadBlock(i, "/ufs/file", i * BLOCK_SIZE, BLOCK_SIZE, 1));
+    }
+    return blocks;
+  }
+
+  private static List<Long> getBlockIds(List<LoadBlock> blocks) {
+    List<Long> blockIds = Lists.newArrayList();
+    for (LoadBlock block : blocks) {
+      blockIds.add(block.getBlockId());
+    }
+    return blockIds;
+  }
+}
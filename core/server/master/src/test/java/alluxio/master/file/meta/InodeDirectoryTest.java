@@ -22,6 +22,10 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Unit tests for {@link InodeDirectory}.
  */
@@ -61,6 +65,26 @@ public final class InodeDirectoryTest extends AbstractInodeTest {
     Assert.assertFalse(inodeDirectory.getChildrenIds().contains(createInodeFileId(1)));
   }
 
+  /**
+   * Tests the {@link InodeDirectory#getChildrenAfter(String, int)} method returns the children in
+   * name order, and no longer returns removed children.
+   */
+  @Test
+  public void getChildrenAfter() {
+    InodeDirectory inodeDirectory = createInodeDirectory();
+    for (long id = 5; id >= 1; id--) {
+      inodeDirectory.addChild(createInodeFile(id));
+    }
+    inodeDirectory.removeChild("testFile3");
+    List<Long> ids = new ArrayList<>();
+    for (Inode<?> child : inodeDirectory.getChildrenAfter("testFile1", 2)) {
+      ids.add(child.getId());
+    }
+    Assert.assertEquals(Arrays.asList(createInodeFileId(2), createInodeFileId(4)), ids);
+    Assert.assertEquals(4, inodeDirectory.getChildrenAfter("", 0).size());
+    Assert.assertTrue(inodeDirectory.getChildrenAfter("testFile5", 0).isEmpty());
+  }
+
   /**
    * Tests the {@link InodeDirectory#equals(Object)} method.
    */
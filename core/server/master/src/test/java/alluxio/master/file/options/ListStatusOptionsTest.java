@@ -27,6 +27,8 @@ public class ListStatusOptionsTest {
   public void defaults() {
     ListStatusOptions options = ListStatusOptions.defaults();
     Assert.assertEquals(LoadMetadataType.Once, options.getLoadMetadataType());
+    Assert.assertEquals("", options.getStartAfter());
+    Assert.assertEquals(0, options.getBatchSize());
   }
 
   @Test
@@ -35,14 +37,22 @@ public class ListStatusOptionsTest {
     Assert.assertEquals(LoadMetadataType.Once, options.getLoadMetadataType());
     options.setLoadMetadataType(LoadMetadataType.Always);
     Assert.assertEquals(LoadMetadataType.Always, options.getLoadMetadataType());
+    options.setStartAfter("name");
+    Assert.assertEquals("name", options.getStartAfter());
+    options.setBatchSize(100);
+    Assert.assertEquals(100, options.getBatchSize());
   }
 
   @Test
   public void fromThrift() {
     ListStatusTOptions listStatusTOptions = new ListStatusTOptions();
     listStatusTOptions.setLoadMetadataType(LoadMetadataTType.Always);
+    listStatusTOptions.setStartAfter("name");
+    listStatusTOptions.setBatchSize(100);
     ListStatusOptions options = new ListStatusOptions(listStatusTOptions);
     Assert.assertEquals(LoadMetadataType.Always, options.getLoadMetadataType());
+    Assert.assertEquals("name", options.getStartAfter());
+    Assert.assertEquals(100, options.getBatchSize());
   }
 
   @Test
@@ -84,8 +84,45 @@ public final class CheckpointLatestPlannerTest {
 
     // complete file 2 and it's ready for checkpoint
     fileInfo2.setCompleted(true);
+    mPlanner.onFileCompleted(fileId2);
     plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
         new FileSystemMasterView(mFileSystemMaster));
     Assert.assertEquals((Long) l2, plan.getLineagesToCheckpoint().get(0));
+
+    // persist file 2, and the earlier lineage is checkpointed again
+    Mockito.when(mFileSystemMaster.getPersistenceState(fileId2))
+        .thenReturn(PersistenceState.PERSISTED);
+    mPlanner.onFilePersisted(fileId2);
+    plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertEquals((Long) l1, plan.getLineagesToCheckpoint().get(0));
+  }
+
+  /**
+   * Tests that the lineages created after the first plan are planned once their files complete.
+   */
+  @Test
+  public void scheduleNewLineage() throws Exception {
+    CheckpointPlan plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertTrue(plan.isEmpty());
+
+    long fileId = 1L;
+    long l1 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(fileId), mJob);
+    Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+        .thenReturn(PersistenceState.NOT_PERSISTED);
+    FileInfo fileInfo = new FileInfo();
+    fileInfo.setCompleted(true);
+    Mockito.when(mFileSystemMaster.getFileInfo(fileId)).thenReturn(fileInfo);
+    mPlanner.onFileCompleted(fileId);
+    plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertEquals((Long) l1, plan.getLineagesToCheckpoint().get(0));
+
+    // a deleted lineage is no longer planned
+    mLineageStore.deleteLineage(l1);
+    plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertTrue(plan.isEmpty());
   }
 }
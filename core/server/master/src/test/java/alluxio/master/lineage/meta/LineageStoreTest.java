@@ -19,6 +19,7 @@ import alluxio.job.JobConf;
 import alluxio.proto.journal.Journal;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,6 +29,7 @@ import org.junit.rules.ExpectedException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Unit tests for {@link LineageStore}.
@@ -64,6 +66,24 @@ public final class LineageStoreTest {
     Assert.assertEquals(1, mLineageStore.getRootLineages().size());
   }
 
+  /**
+   * Tests the {@link LineageStore#sortLineageTopologically(Set)} method.
+   */
+  @Test
+  public void sortLineageTopologically() {
+    long l1 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    long l2 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(2L), mJob);
+    long l3 =
+        mLineageStore.createLineage(Lists.newArrayList(1L, 2L), Lists.newArrayList(3L), mJob);
+    Lineage lineage1 = mLineageStore.getLineage(l1);
+    Lineage lineage2 = mLineageStore.getLineage(l2);
+    Lineage lineage3 = mLineageStore.getLineage(l3);
+    Assert.assertEquals(Lists.newArrayList(lineage1, lineage3),
+        mLineageStore.sortLineageTopologically(Sets.newHashSet(lineage3, lineage1)));
+    Assert.assertEquals(Lists.newArrayList(lineage1, lineage2, lineage3),
+        mLineageStore.sortLineageTopologically(Sets.newHashSet(lineage2, lineage3, lineage1)));
+  }
+
   /**
    * Tests the {@link LineageStore#deleteLineage(long)} method.
    */
@@ -0,0 +1,182 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link CachingUnderFileSystem} and {@link UfsStatusCache}.
+ */
+public final class CachingUnderFileSystemTest {
+  private static final String DIR = "hdfs://host:9000/dir";
+  private static final String FILE = DIR + "/file";
+
+  private UnderFileSystem mUfs;
+  private UfsStatusCache mCache;
+  private CachingUnderFileSystem mCachingUfs;
+
+  @Before
+  public void before() throws Exception {
+    mUfs = Mockito.mock(UnderFileSystem.class);
+    mCache = new UfsStatusCache(60000, 1000);
+    mCachingUfs = new CachingUnderFileSystem(mUfs, mCache);
+    when(mUfs.getFileStatus(FILE)).thenReturn(fileStatus("file", 10));
+    when(mUfs.listStatus(DIR)).thenReturn(new UfsStatus[] {fileStatus("file", 10)});
+  }
+
+  @Test
+  public void cacheHit() throws Exception {
+    assertEquals(10, mCachingUfs.getFileStatus(FILE).getContentLength());
+    assertEquals(10, mCachingUfs.getFileStatus(FILE + "/").getContentLength());
+    assertTrue(mCachingUfs.isFile(FILE));
+    assertTrue(mCachingUfs.exists(FILE));
+    verify(mUfs, times(1)).getFileStatus(FILE);
+    verify(mUfs, times(0)).isFile(FILE);
+    verify(mUfs, times(0)).exists(FILE);
+  }
+
+  @Test
+  public void nullAnswer() throws Exception {
+    assertNull(mCachingUfs.listStatus(FILE));
+    assertNull(mCachingUfs.listStatus(FILE));
+    verify(mUfs, times(1)).listStatus(FILE);
+  }
+
+  @Test
+  public void childStatusesFromListing() throws Exception {
+    assertEquals(1, mCachingUfs.listStatus(DIR).length);
+    assertTrue(mCachingUfs.isDirectory(DIR));
+    assertTrue(mCachingUfs.exists(FILE));
+    assertFalse(mCachingUfs.isDirectory(FILE));
+    assertEquals(10, mCachingUfs.getFileStatus(FILE).getContentLength());
+    verify(mUfs, times(0)).isDirectory(DIR);
+    verify(mUfs, times(0)).exists(FILE);
+    verify(mUfs, times(0)).getFileStatus(FILE);
+  }
+
+  @Test
+  public void answersAreCopied() throws Exception {
+    mCachingUfs.listStatus(DIR)[0] = null;
+    assertEquals("file", mCachingUfs.listStatus(DIR)[0].getName());
+  }
+
+  @Test
+  public void invalidateOnWrite() throws Exception {
+    mCachingUfs.listStatus(DIR);
+    mCachingUfs.getFileStatus(FILE);
+    mCachingUfs.deleteFile(FILE);
+    mCachingUfs.listStatus(DIR);
+    mCachingUfs.getFileStatus(FILE);
+    verify(mUfs, times(2)).listStatus(DIR);
+    // The status of the file is served from the listings.
+    verify(mUfs, times(0)).getFileStatus(FILE);
+  }
+
+  @Test
+  public void invalidateRecursively() throws Exception {
+    mCachingUfs.getFileStatus(FILE);
+    mCache.invalidate(FILE, false);
+    mCachingUfs.getFileStatus(FILE);
+    mCache.invalidate(DIR, false);
+    mCachingUfs.getFileStatus(FILE);
+    mCachingUfs.renameDirectory(DIR, DIR + "2");
+    mCachingUfs.getFileStatus(FILE);
+    verify(mUfs, times(3)).getFileStatus(FILE);
+  }
+
+  @Test
+  public void disabled() throws Exception {
+    mCachingUfs = new CachingUnderFileSystem(mUfs, new UfsStatusCache(0, 1000));
+    mCachingUfs.getFileStatus(FILE);
+    mCachingUfs.getFileStatus(FILE);
+    verify(mUfs, times(2)).getFileStatus(FILE);
+  }
+
+  @Test
+  public void capacity() throws Exception {
+    mCache = new UfsStatusCache(60000, 10);
+    mCachingUfs = new CachingUnderFileSystem(mUfs, mCache);
+    for (int i = 0; i < 100; i++) {
+      mCachingUfs.exists(DIR + "/" + i);
+    }
+    assertTrue(mCache.size() <= 10);
+  }
+
+  @Test
+  public void singleFlight() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    when(mUfs.exists(DIR)).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        loading.countDown();
+        release.await();
+        return true;
+      }
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(new Callable<Boolean>() {
+          @Override
+          public Boolean call() throws Exception {
+            return mCachingUfs.exists(DIR);
+          }
+        }));
+      }
+      loading.await();
+      release.countDown();
+      for (Future<Boolean> future : futures) {
+        assertTrue(future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(mUfs, times(1)).exists(DIR);
+  }
+
+  @Test
+  public void normalizeAndGetParent() {
+    assertEquals("/a", UfsStatusCache.normalize("/a/"));
+    assertEquals("/", UfsStatusCache.normalize("/"));
+    assertEquals("file:///", UfsStatusCache.normalize("file:///"));
+    assertEquals("/a", UfsStatusCache.getParent("/a/b"));
+    assertEquals("/", UfsStatusCache.getParent("/a"));
+    assertNull(UfsStatusCache.getParent("/"));
+    assertEquals("file:///", UfsStatusCache.getParent("file:///a"));
+  }
+
+  private static UfsFileStatus fileStatus(String name, long length) {
+    return new UfsFileStatus(name, length, 0, "owner", "group", (short) 0644);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A byte range of a file requested by the HTTP {@code Range} header. Only a single range in bytes
+ * is supported, in any of the {@code first-last}, {@code first-} and {@code -suffixLength} forms.
+ */
+@ThreadSafe
+final class ByteRange {
+  private static final String BYTES_UNIT = "bytes=";
+
+  /** The offset of the first byte of the range. */
+  private final long mFirst;
+  /** The offset of the last byte of the range, or {@code mFirst - 1} if it is unsatisfiable. */
+  private final long mLast;
+  private final long mFileLength;
+
+  /**
+   * Creates a new instance of {@link ByteRange}.
+   *
+   * @param first the offset of the first byte of the range
+   * @param last the offset of the last byte of the range
+   * @param fileLength the length of the file
+   */
+  private ByteRange(long first, long last, long fileLength) {
+    mFirst = first;
+    mLast = last;
+    mFileLength = fileLength;
+  }
+
+  /**
+   * Parses the value of a {@code Range} header. Following RFC 7233, a header which is not valid or
+   * which has more than one range is ignored, and the last byte of a range is capped to the end of
+   * the file.
+   *
+   * @param header the value of the header, or null if there is no such header
+   * @param fileLength the length of the file
+   * @return the requested range, or null if the whole file should be sent
+   */
+  @Nullable
+  static ByteRange parse(@Nullable String header, long fileLength) {
+    Preconditions.checkArgument(fileLength >= 0, "fileLength=%s", fileLength);
+    if (header == null || !header.startsWith(BYTES_UNIT)) {
+      return null;
+    }
+    String spec = header.substring(BYTES_UNIT.length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0 || spec.indexOf(',') >= 0) {
+      return null;
+    }
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+      if (first.isEmpty()) {
+        long suffixLength = Long.parseLong(last);
+        if (suffixLength < 0) {
+          return null;
+        }
+        long start = Math.max(0, fileLength - suffixLength);
+        return new ByteRange(start, fileLength - 1, fileLength);
+      }
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+      if (start < 0 || end < start) {
+        return null;
+      }
+      if (start >= fileLength) {
+        return new ByteRange(start, start - 1, fileLength);
+      }
+      return new ByteRange(start, Math.min(end, fileLength - 1), fileLength);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the offset of the first byte of the range
+   */
+  long getFirst() {
+    return mFirst;
+  }
+
+  /**
+   * @return the number of bytes in the range
+   */
+  long getLength() {
+    return mLast - mFirst + 1;
+  }
+
+  /**
+   * @return whether the range overlaps with the file
+   */
+  boolean isSatisfiable() {
+    return getLength() > 0;
+  }
+
+  /**
+   * @return the value of the {@code Content-Range} header of the response to the range
+   */
+  String getContentRange() {
+    if (!isSatisfiable()) {
+      return String.format("bytes */%d", mFileLength);
+    }
+    return String.format("bytes %d-%d/%d", mFirst, mLast, mFileLength);
+  }
+}
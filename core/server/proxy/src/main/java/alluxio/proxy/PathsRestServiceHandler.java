@@ -30,11 +30,17 @@ import alluxio.client.file.options.OpenFileOptions;
 import alluxio.client.file.options.RenameOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.client.file.options.UnmountOptions;
+import alluxio.exception.status.NotFoundException;
+import alluxio.util.IdUtils;
+import alluxio.util.io.PathUtils;
 import alluxio.web.ProxyWebServer;
 
 import com.google.common.base.Preconditions;
 import com.qmino.miredot.annotations.ReturnType;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -61,8 +67,11 @@ public final class PathsRestServiceHandler {
 
   public static final String PATH_PARAM = "{path:.*}/";
 
+  public static final String ABORT_MULTIPART_UPLOAD = "abort-multipart-upload";
+  public static final String COMPLETE_MULTIPART_UPLOAD = "complete-multipart-upload";
   public static final String CREATE_DIRECTORY = "create-directory";
   public static final String CREATE_FILE = "create-file";
+  public static final String CREATE_MULTIPART_UPLOAD = "create-multipart-upload";
   public static final String DELETE = "delete";
   public static final String EXISTS = "exists";
   public static final String FREE = "free";
@@ -73,6 +82,10 @@ public final class PathsRestServiceHandler {
   public static final String RENAME = "rename";
   public static final String SET_ATTRIBUTE = "set-attribute";
   public static final String UNMOUNT = "unmount";
+  public static final String UPLOAD_PART = "upload-part";
+
+  /** The prefix of the names of the files of the parts of a multipart upload. */
+  private static final String PART_FILE_PREFIX = "part-";
 
   private final FileSystem mFileSystem;
   private final StreamCache mStreamCache;
@@ -89,6 +102,73 @@ public final class PathsRestServiceHandler {
         (StreamCache) context.getAttribute(ProxyWebServer.STREAM_CACHE_SERVLET_RESOURCE_KEY);
   }
 
+  /**
+   * @summary aborts a multipart upload, deleting the parts uploaded so far
+   * @param path the Alluxio path
+   * @param uploadId the id of the upload
+   * @return the response object
+   */
+  @POST
+  @Path(PATH_PARAM + ABORT_MULTIPART_UPLOAD)
+  @ReturnType("java.lang.Void")
+  public Response abortMultipartUpload(@PathParam("path") final String path,
+      @QueryParam("uploadId") final Long uploadId) {
+    return RestUtils.call(new RestUtils.RestCallable<Void>() {
+      @Override
+      public Void call() throws Exception {
+        Preconditions.checkNotNull(uploadId, "required 'uploadId' parameter is missing");
+        mFileSystem.delete(getUploadDirectory(path, uploadId),
+            DeleteOptions.defaults().setRecursive(true));
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Completes a multipart upload by writing the uploaded parts to the file in the order of their
+   * part numbers, and deleting the parts.
+   *
+   * @summary completes a multipart upload
+   * @param path the Alluxio path
+   * @param uploadId the id of the upload
+   * @param options method options for creating the file
+   * @return the response object
+   */
+  @POST
+  @Path(PATH_PARAM + COMPLETE_MULTIPART_UPLOAD)
+  @ReturnType("java.lang.Long")
+  @Consumes(MediaType.APPLICATION_JSON)
+  public Response completeMultipartUpload(@PathParam("path") final String path,
+      @QueryParam("uploadId") final Long uploadId, final CreateFileOptions options) {
+    return RestUtils.call(new RestUtils.RestCallable<Long>() {
+      @Override
+      public Long call() throws Exception {
+        Preconditions.checkNotNull(uploadId, "required 'uploadId' parameter is missing");
+        AlluxioURI uploadDir = getUploadDirectory(path, uploadId);
+        List<Integer> partNumbers = new ArrayList<>();
+        for (URIStatus status : mFileSystem.listStatus(uploadDir)) {
+          String name = status.getName();
+          if (name.startsWith(PART_FILE_PREFIX)) {
+            partNumbers.add(Integer.parseInt(name.substring(PART_FILE_PREFIX.length())));
+          }
+        }
+        Collections.sort(partNumbers);
+        long length = 0;
+        byte[] buffer = StreamUtils.createBuffer();
+        try (FileOutStream os = mFileSystem.createFile(new AlluxioURI(path),
+            options == null ? CreateFileOptions.defaults() : options)) {
+          for (int partNumber : partNumbers) {
+            try (FileInStream is = mFileSystem.openFile(getPartFile(uploadDir, partNumber))) {
+              length += StreamUtils.copy(is, os, buffer);
+            }
+          }
+        }
+        mFileSystem.delete(uploadDir, DeleteOptions.defaults().setRecursive(true));
+        return length;
+      }
+    });
+  }
+
   /**
    * @summary creates a directory
    * @param path the Alluxio path
@@ -140,6 +220,30 @@ public final class PathsRestServiceHandler {
     });
   }
 
+  /**
+   * Starts a multipart upload of a file. The parts are uploaded as separate files, so they can be
+   * uploaded concurrently, through any proxy. The parts are kept in a temporary directory next to
+   * the file until the upload is completed or aborted.
+   *
+   * @summary creates a multipart upload
+   * @param path the Alluxio path
+   * @return the response object
+   */
+  @POST
+  @Path(PATH_PARAM + CREATE_MULTIPART_UPLOAD)
+  @ReturnType("java.lang.Long")
+  public Response createMultipartUpload(@PathParam("path") final String path) {
+    return RestUtils.call(new RestUtils.RestCallable<Long>() {
+      @Override
+      public Long call() throws Exception {
+        long uploadId = IdUtils.getRandomNonNegativeLong();
+        mFileSystem.createDirectory(getUploadDirectory(path, uploadId),
+            CreateDirectoryOptions.defaults().setRecursive(true));
+        return uploadId;
+      }
+    });
+  }
+
   /**
    * @summary deletes a path
    * @param path the Alluxio path
@@ -376,4 +480,62 @@ public final class PathsRestServiceHandler {
       }
     });
   }
+
+  /**
+   * Uploads a part of a multipart upload. A part which is uploaded again replaces the previous
+   * upload of the part.
+   *
+   * @summary uploads a part of a multipart upload
+   * @param path the Alluxio path
+   * @param uploadId the id of the upload
+   * @param partNumber the number of the part, which orders the part in the file
+   * @param is the input stream
+   * @return the response object
+   */
+  @POST
+  @Path(PATH_PARAM + UPLOAD_PART)
+  @ReturnType("java.lang.Long")
+  @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+  public Response uploadPart(@PathParam("path") final String path,
+      @QueryParam("uploadId") final Long uploadId,
+      @QueryParam("partNumber") final Integer partNumber, final InputStream is) {
+    return RestUtils.call(new RestUtils.RestCallable<Long>() {
+      @Override
+      public Long call() throws Exception {
+        Preconditions.checkNotNull(uploadId, "required 'uploadId' parameter is missing");
+        Preconditions.checkNotNull(partNumber, "required 'partNumber' parameter is missing");
+        Preconditions.checkArgument(partNumber >= 0, "invalid part number %s", partNumber);
+        AlluxioURI uploadDir = getUploadDirectory(path, uploadId);
+        if (!mFileSystem.exists(uploadDir)) {
+          throw new NotFoundException(String.format("multipart upload %d of %s does not exist",
+              uploadId, path));
+        }
+        AlluxioURI partFile = getPartFile(uploadDir, partNumber);
+        if (mFileSystem.exists(partFile)) {
+          mFileSystem.delete(partFile);
+        }
+        try (FileOutStream os = mFileSystem.createFile(partFile)) {
+          return StreamUtils.copy(is, os, StreamUtils.createBuffer());
+        }
+      }
+    });
+  }
+
+  /**
+   * @param path the Alluxio path of the uploaded file
+   * @param uploadId the id of the upload
+   * @return the temporary directory of the parts of the upload
+   */
+  private static AlluxioURI getUploadDirectory(String path, long uploadId) {
+    return new AlluxioURI(PathUtils.temporaryFileName(uploadId, path));
+  }
+
+  /**
+   * @param uploadDir the temporary directory of the parts of an upload
+   * @param partNumber the number of a part
+   * @return the file of the part
+   */
+  private static AlluxioURI getPartFile(AlluxioURI uploadDir, int partNumber) {
+    return new AlluxioURI(PathUtils.concatPath(uploadDir, PART_FILE_PREFIX + partNumber));
+  }
 }
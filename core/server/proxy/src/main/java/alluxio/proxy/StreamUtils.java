@@ -0,0 +1,57 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Utilities for moving data between HTTP requests and responses and Alluxio streams. The data is
+ * copied in chunks of {@link PropertyKey#PROXY_STREAM_BUFFER_BYTES}, so that a block stream can
+ * send and receive whole packets and the servlet output is flushed rarely.
+ */
+@ThreadSafe
+final class StreamUtils {
+
+  /**
+   * @return a new buffer for copying data
+   */
+  static byte[] createBuffer() {
+    return new byte[(int) Configuration.getBytes(PropertyKey.PROXY_STREAM_BUFFER_BYTES)];
+  }
+
+  /**
+   * Copies all the data of an input stream to an output stream. Neither stream is closed.
+   *
+   * @param in the input stream
+   * @param out the output stream
+   * @param buffer the buffer to copy the data through
+   * @return the number of bytes copied
+   */
+  static long copy(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+    long total = 0;
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+      total += read;
+    }
+    return total;
+  }
+
+  private StreamUtils() {} // prevent instantiation
+}
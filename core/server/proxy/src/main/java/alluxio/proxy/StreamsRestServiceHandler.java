@@ -17,21 +17,25 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
 import alluxio.web.ProxyWebServer;
 
-import com.google.common.io.ByteStreams;
 import com.qmino.miredot.annotations.ReturnType;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.servlet.ServletContext;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * This class is a REST handler for stream resources.
@@ -49,6 +53,10 @@ public final class StreamsRestServiceHandler {
   public static final String READ = "read";
   public static final String WRITE = "write";
 
+  public static final String ACCEPT_RANGES_HEADER = "Accept-Ranges";
+  public static final String CONTENT_RANGE_HEADER = "Content-Range";
+  public static final String RANGE_HEADER = "Range";
+
   private final StreamCache mStreamCache;
 
   /**
@@ -84,24 +92,48 @@ public final class StreamsRestServiceHandler {
   }
 
   /**
+   * Reads from a stream. Without a range, the rest of the stream is read from its current position.
+   * With a single byte range in the {@code Range} header, the range of the file is read without
+   * moving the position of the stream, and the response has the 206 (Partial Content) status.
+   * The stream is not closed after the read, so that more ranges can be read from it.
+   *
    * @summary reads from a stream
    * @param id the stream id
+   * @param range the optional HTTP byte range to read
    * @return the response object
    */
   @POST
   @Path(ID_PARAM + READ)
   @ReturnType("java.io.InputStream")
   @Produces(MediaType.APPLICATION_OCTET_STREAM)
-  public Response read(@PathParam("id") final Integer id) {
-    // TODO(jiri): Support reading a file range.
-    return RestUtils.call(new RestUtils.RestCallable<InputStream>() {
+  public Response read(@PathParam("id") final Integer id,
+      @HeaderParam(RANGE_HEADER) final String range) {
+    return RestUtils.call(new RestUtils.RestCallable<Response>() {
       @Override
-      public InputStream call() throws Exception {
+      public Response call() throws Exception {
         FileInStream is = mStreamCache.getInStream(id);
-        if (is != null) {
-          return is;
+        if (is == null) {
+          throw new IllegalArgumentException("stream does not exist");
         }
-        throw new IllegalArgumentException("stream does not exist");
+        ByteRange byteRange = ByteRange.parse(range, is.getLength());
+        if (byteRange == null) {
+          long length;
+          synchronized (is) {
+            length = is.remaining();
+          }
+          return Response.ok(new SequentialOutput(is))
+              .header(ACCEPT_RANGES_HEADER, "bytes")
+              .header(HttpHeaders.CONTENT_LENGTH, length).build();
+        }
+        if (!byteRange.isSatisfiable()) {
+          return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+              .header(CONTENT_RANGE_HEADER, byteRange.getContentRange()).build();
+        }
+        return Response.status(Response.Status.PARTIAL_CONTENT)
+            .entity(new PositionedOutput(is, byteRange.getFirst(), byteRange.getLength()))
+            .header(ACCEPT_RANGES_HEADER, "bytes")
+            .header(CONTENT_RANGE_HEADER, byteRange.getContentRange())
+            .header(HttpHeaders.CONTENT_LENGTH, byteRange.getLength()).build();
       }
     });
   }
@@ -122,10 +154,85 @@ public final class StreamsRestServiceHandler {
       public Long call() throws Exception {
         FileOutStream os = mStreamCache.getOutStream(id);
         if (os != null) {
-          return ByteStreams.copy(is, os);
+          return StreamUtils.copy(is, os, StreamUtils.createBuffer());
         }
         throw new IllegalArgumentException("stream does not exist");
       }
     });
   }
+
+  /**
+   * Writes the rest of a stream from its current position to a response.
+   */
+  private static final class SequentialOutput implements StreamingOutput {
+    private final FileInStream mInStream;
+
+    /**
+     * Creates a new instance of {@link SequentialOutput}.
+     *
+     * @param inStream the stream to read
+     */
+    SequentialOutput(FileInStream inStream) {
+      mInStream = inStream;
+    }
+
+    @Override
+    public void write(OutputStream out) throws IOException {
+      byte[] buffer = StreamUtils.createBuffer();
+      while (true) {
+        int read;
+        synchronized (mInStream) {
+          read = mInStream.read(buffer);
+        }
+        if (read == -1) {
+          return;
+        }
+        out.write(buffer, 0, read);
+      }
+    }
+  }
+
+  /**
+   * Writes a range of a file to a response with positioned reads, which do not move the position
+   * of the stream. Ranges of the same stream may be read by concurrent requests, so each positioned
+   * read holds the lock of the stream, but the response is written without it.
+   */
+  private static final class PositionedOutput implements StreamingOutput {
+    private final FileInStream mInStream;
+    private final long mOffset;
+    private final long mLength;
+
+    /**
+     * Creates a new instance of {@link PositionedOutput}.
+     *
+     * @param inStream the stream to read
+     * @param offset the offset of the range in the file
+     * @param length the length of the range
+     */
+    PositionedOutput(FileInStream inStream, long offset, long length) {
+      mInStream = inStream;
+      mOffset = offset;
+      mLength = length;
+    }
+
+    @Override
+    public void write(OutputStream out) throws IOException {
+      byte[] buffer = StreamUtils.createBuffer();
+      long pos = mOffset;
+      long end = mOffset + mLength;
+      while (pos < end) {
+        int read;
+        synchronized (mInStream) {
+          read = mInStream.positionedRead(pos, buffer, 0, (int) Math.min(buffer.length, end - pos));
+        }
+        if (read == -1) {
+          throw new IOException(String.format(
+              "Unexpected end of file at position %d while reading %d bytes from position %d",
+              pos, mLength, mOffset));
+        }
+        out.write(buffer, 0, read);
+        pos += read;
+      }
+    }
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ByteRange}.
+ */
+public final class ByteRangeTest {
+  private static final long FILE_LENGTH = 100;
+
+  @Test
+  public void firstAndLast() {
+    ByteRange range = ByteRange.parse("bytes=10-19", FILE_LENGTH);
+    assertEquals(10, range.getFirst());
+    assertEquals(10, range.getLength());
+    assertEquals("bytes 10-19/100", range.getContentRange());
+  }
+
+  @Test
+  public void openEnded() {
+    ByteRange range = ByteRange.parse("bytes=90-", FILE_LENGTH);
+    assertEquals(90, range.getFirst());
+    assertEquals(10, range.getLength());
+  }
+
+  @Test
+  public void lastCappedToEndOfFile() {
+    ByteRange range = ByteRange.parse("bytes=90-1000", FILE_LENGTH);
+    assertEquals(10, range.getLength());
+    assertEquals("bytes 90-99/100", range.getContentRange());
+  }
+
+  @Test
+  public void suffix() {
+    ByteRange range = ByteRange.parse("bytes=-30", FILE_LENGTH);
+    assertEquals(70, range.getFirst());
+    assertEquals(30, range.getLength());
+    range = ByteRange.parse("bytes=-1000", FILE_LENGTH);
+    assertEquals(0, range.getFirst());
+    assertEquals(FILE_LENGTH, range.getLength());
+  }
+
+  @Test
+  public void unsatisfiable() {
+    ByteRange range = ByteRange.parse("bytes=100-", FILE_LENGTH);
+    assertFalse(range.isSatisfiable());
+    assertEquals("bytes */100", range.getContentRange());
+    assertFalse(ByteRange.parse("bytes=-0", FILE_LENGTH).isSatisfiable());
+    assertFalse(ByteRange.parse("bytes=0-", 0).isSatisfiable());
+  }
+
+  @Test
+  public void ignored() {
+    assertNull(ByteRange.parse(null, FILE_LENGTH));
+    assertNull(ByteRange.parse("items=0-1", FILE_LENGTH));
+    assertNull(ByteRange.parse("bytes=0-1,5-6", FILE_LENGTH));
+    assertNull(ByteRange.parse("bytes=5-1", FILE_LENGTH));
+    assertNull(ByteRange.parse("bytes=a-b", FILE_LENGTH));
+    assertNull(ByteRange.parse("bytes=10", FILE_LENGTH));
+  }
+}
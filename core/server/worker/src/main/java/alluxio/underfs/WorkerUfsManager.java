@@ -14,6 +14,7 @@ package alluxio.underfs;
 import alluxio.AlluxioURI;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
+import alluxio.metrics.MetricsSystem;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.worker.file.FileSystemMasterClient;
 
@@ -79,4 +80,9 @@ public final class WorkerUfsManager extends AbstractUfsManager {
     }
     return ufsInfo;
   }
+
+  @Override
+  protected String getMetricName(String name) {
+    return MetricsSystem.getWorkerMetricName(name);
+  }
 }
@@ -17,8 +17,11 @@ import alluxio.PropertyKey;
 import alluxio.RuntimeConstants;
 import alluxio.ServiceUtils;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.metrics.sink.MetricsServlet;
 import alluxio.network.ChannelType;
+import alluxio.network.thrift.SelectorThriftServer;
+import alluxio.network.thrift.ThriftServerType;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.WorkerUfsManager;
@@ -37,7 +40,9 @@ import io.netty.channel.unix.DomainSocketAddress;
 import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
@@ -81,10 +86,10 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
   /** The transport provider to create thrift server transport. */
   private TransportProvider mTransportProvider;
 
-  /** Thread pool for thrift. */
-  private TThreadPoolServer mThriftServer;
+  /** The thrift server. */
+  private TServer mThriftServer;
 
-  /** Server socket for thrift. */
+  /** Server socket for thrift, null if the thrift server listens on a non-blocking socket. */
   private TServerSocket mThriftServerSocket;
 
   /** The address for the rpc server. */
@@ -208,6 +213,7 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
 
     // Start serving metrics system, this will not block
     MetricsSystem.startSinks();
+    RpcProfiler.registerMBean();
 
     // Start each worker. This must be done before starting the web or RPC servers.
     // Requirement: NetAddress set in WorkerContext, so block worker can initialize BlockMasterSync
@@ -251,7 +257,9 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
       mDomainSocketDataServer = null;
     }
     mThriftServer.stop();
-    mThriftServerSocket.close();
+    if (mThriftServerSocket != null) {
+      mThriftServerSocket.close();
+    }
     mUfsManager.close();
     try {
       mWebServer.stop();
@@ -273,7 +281,7 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
    *
    * @return a thrift server
    */
-  private TThreadPoolServer createThriftServer() {
+  private TServer createThriftServer() {
     int minWorkerThreads = Configuration.getInt(PropertyKey.WORKER_BLOCK_THREADS_MIN);
     int maxWorkerThreads = Configuration.getInt(PropertyKey.WORKER_BLOCK_THREADS_MAX);
     TMultiplexedProcessor processor = new TMultiplexedProcessor();
@@ -290,6 +298,10 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
     } catch (IOException e) {
       throw Throwables.propagate(e);
     }
+    if (Configuration.getEnum(PropertyKey.WORKER_RPC_SERVER_TYPE, ThriftServerType.class)
+        == ThriftServerType.SELECTOR) {
+      return createSelectorServer(processor, tTransportFactory);
+    }
     TThreadPoolServer.Args args = new TThreadPoolServer.Args(mThriftServerSocket)
         .minWorkerThreads(minWorkerThreads).maxWorkerThreads(maxWorkerThreads).processor(processor)
         .transportFactory(tTransportFactory)
@@ -302,6 +314,35 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
     return new TThreadPoolServer(args);
   }
 
+  /**
+   * Helper method to create a {@link SelectorThriftServer}, which watches idle client connections
+   * with a selector and serves requests with a bounded executor. It listens on a non-blocking
+   * socket bound to the address of the blocking server socket, which is closed.
+   *
+   * @param processor the multiplexed processor
+   * @param transportFactory the server transport factory
+   * @return a thrift server
+   */
+  private TServer createSelectorServer(TProcessor processor, TTransportFactory transportFactory) {
+    TNonblockingServerSocket serverSocket;
+    try {
+      mThriftServerSocket.close();
+      mThriftServerSocket = null;
+      serverSocket = new TNonblockingServerSocket(mRpcAddress);
+    } catch (TTransportException e) {
+      throw Throwables.propagate(e);
+    }
+    SelectorThriftServer.Args args = new SelectorThriftServer.Args(serverSocket)
+        .executorThreads(Configuration.getInt(PropertyKey.WORKER_RPC_EXECUTOR_THREADS))
+        .executorQueueSize(Configuration.getInt(PropertyKey.WORKER_RPC_EXECUTOR_QUEUE_SIZE))
+        .stopTimeoutSeconds(Configuration.getBoolean(PropertyKey.TEST_MODE) ? 0
+            : Constants.THRIFT_STOP_TIMEOUT_SECONDS)
+        .metricsInstance(MetricsSystem.WORKER_INSTANCE).name("worker-rpc")
+        .processor(processor).transportFactory(transportFactory)
+        .protocolFactory(new TBinaryProtocol.Factory(true, true));
+    return new SelectorThriftServer(args);
+  }
+
   /**
    * Helper method to create a {@link org.apache.thrift.transport.TServerSocket} for the RPC server.
    *
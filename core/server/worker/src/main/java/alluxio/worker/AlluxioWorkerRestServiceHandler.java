@@ -17,11 +17,13 @@ import alluxio.RestUtils;
 import alluxio.RuntimeConstants;
 import alluxio.WorkerStorageTierAssoc;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.util.LogUtils;
 import alluxio.web.WorkerWebServer;
 import alluxio.wire.AlluxioWorkerInfo;
 import alluxio.wire.Capacity;
 import alluxio.wire.LogInfo;
+import alluxio.wire.SlowRpcInfo;
 import alluxio.worker.block.BlockStoreMeta;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.DefaultBlockWorker;
@@ -60,6 +62,7 @@ public final class AlluxioWorkerRestServiceHandler {
 
   // endpoints
   public static final String GET_INFO = "info";
+  public static final String GET_SLOW_RPCS = "slow_rpcs";
 
   // queries
   public static final String QUERY_RAW_CONFIGURATION = "raw_configuration";
@@ -129,6 +132,23 @@ public final class AlluxioWorkerRestServiceHandler {
     });
   }
 
+  /**
+   * @summary get the most recent RPCs served by the worker which took longer than the slow RPC
+   *    threshold, oldest first
+   * @return the response object
+   */
+  @GET
+  @Path(GET_SLOW_RPCS)
+  @ReturnType("java.util.List<alluxio.wire.SlowRpcInfo>")
+  public Response getSlowRpcs() {
+    return RestUtils.call(new RestUtils.RestCallable<List<SlowRpcInfo>>() {
+      @Override
+      public List<SlowRpcInfo> call() throws Exception {
+        return RpcProfiler.getSlowRpcs();
+      }
+    });
+  }
+
   /**
    * @summary get the configuration map, the keys are ordered alphabetically.
    * @return the response object
@@ -26,6 +26,8 @@ public final class BlockHeartbeatReport {
   private final Map<String, List<Long>> mAddedBlocks;
   /** List of block ids removed in the last heartbeat period. */
   private final List<Long> mRemovedBlocks;
+  /** Map of block ids read in the last heartbeat period to the number of reads. */
+  private final Map<Long, Long> mBlockReadCounts;
 
   /**
    * Creates a new instance of {@link BlockHeartbeatReport}.
@@ -34,8 +36,21 @@ public final class BlockHeartbeatReport {
    * @param removedBlocks remove blocks
    */
   public BlockHeartbeatReport(Map<String, List<Long>> addedBlocks, List<Long> removedBlocks) {
+    this(addedBlocks, removedBlocks, Collections.<Long, Long>emptyMap());
+  }
+
+  /**
+   * Creates a new instance of {@link BlockHeartbeatReport}.
+   *
+   * @param addedBlocks added blocks
+   * @param removedBlocks remove blocks
+   * @param blockReadCounts the number of reads of each block read
+   */
+  public BlockHeartbeatReport(Map<String, List<Long>> addedBlocks, List<Long> removedBlocks,
+      Map<Long, Long> blockReadCounts) {
     mAddedBlocks = addedBlocks;
     mRemovedBlocks = removedBlocks;
+    mBlockReadCounts = blockReadCounts;
   }
 
   /**
@@ -55,4 +70,14 @@ public final class BlockHeartbeatReport {
   public List<Long> getRemovedBlocks() {
     return Collections.unmodifiableList(mRemovedBlocks);
   }
+
+  /**
+   * Gets the number of reads of each block read from this worker in the heartbeat this report
+   * represents.
+   *
+   * @return a map from block id to the number of reads
+   */
+  public Map<Long, Long> getBlockReadCounts() {
+    return Collections.unmodifiableMap(mBlockReadCounts);
+  }
 }
@@ -11,14 +11,13 @@
 
 package alluxio.worker.block;
 
-import com.google.common.collect.Lists;
+import alluxio.collections.LongHashSet;
+import alluxio.collections.LongObjectHashMap;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -32,19 +31,23 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   /** Lock for operations on the removed and added block collections. */
   private final Object mLock;
 
-  /** List of blocks that were removed in the last heartbeat period. */
-  private final List<Long> mRemovedBlocks;
+  /** Set of blocks that were removed in the last heartbeat period. */
+  private final LongHashSet mRemovedBlocks;
 
-  /** Map of storage tier alias to a list of blocks that were added in the last heartbeat period. */
-  private final Map<String, List<Long>> mAddedBlocks;
+  /** Map of blocks that were added in the last heartbeat period to their storage tier alias. */
+  private final LongObjectHashMap<String> mAddedBlocks;
+
+  /** Map of blocks that were read in the last heartbeat period to the number of reads. */
+  private final LongObjectHashMap<Long> mBlockReadCounts;
 
   /**
    * Creates a new instance of {@link BlockHeartbeatReporter}.
    */
   public BlockHeartbeatReporter() {
     mLock = new Object();
-    mRemovedBlocks = new ArrayList<>(100);
-    mAddedBlocks = new HashMap<>(20);
+    mRemovedBlocks = new LongHashSet(100);
+    mAddedBlocks = new LongObjectHashMap<>(100);
+    mBlockReadCounts = new LongObjectHashMap<>(100);
   }
 
   /**
@@ -56,12 +59,34 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   public BlockHeartbeatReport generateReport() {
     synchronized (mLock) {
       // Copy added and removed blocks
-      Map<String, List<Long>> addedBlocks = new HashMap<>(mAddedBlocks);
-      List<Long> removedBlocks = new ArrayList<>(mRemovedBlocks);
-      // Clear added and removed blocks
+      Map<String, List<Long>> addedBlocks = new HashMap<>();
+      for (long blockId : mAddedBlocks.keys()) {
+        String tierAlias = mAddedBlocks.get(blockId);
+        List<Long> tierBlocks = addedBlocks.get(tierAlias);
+        if (tierBlocks == null) {
+          tierBlocks = new ArrayList<>();
+          addedBlocks.put(tierAlias, tierBlocks);
+        }
+        tierBlocks.add(blockId);
+      }
+      List<Long> removedBlocks = mRemovedBlocks.toList();
+      Map<Long, Long> blockReadCounts = new HashMap<>();
+      for (long blockId : mBlockReadCounts.keys()) {
+        blockReadCounts.put(blockId, mBlockReadCounts.get(blockId));
+      }
+      // Clear added and removed blocks and the read counts
       mAddedBlocks.clear();
       mRemovedBlocks.clear();
-      return new BlockHeartbeatReport(addedBlocks, removedBlocks);
+      mBlockReadCounts.clear();
+      return new BlockHeartbeatReport(addedBlocks, removedBlocks, blockReadCounts);
+    }
+  }
+
+  @Override
+  public void onAccessBlock(long sessionId, long blockId) {
+    synchronized (mLock) {
+      Long count = mBlockReadCounts.get(blockId);
+      mBlockReadCounts.put(blockId, count == null ? 1L : count + 1);
     }
   }
 
@@ -69,11 +94,9 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   public void onMoveBlockByClient(long sessionId, long blockId, BlockStoreLocation oldLocation,
       BlockStoreLocation newLocation) {
     synchronized (mLock) {
-      // Remove the block from our list of added blocks in this heartbeat, if it was added, to
-      // prevent adding the block twice.
-      removeBlockFromAddedBlocks(blockId);
-      // Add the block back with the new tier
-      addBlockToAddedBlocks(blockId, newLocation.tierAlias());
+      // Add the block with the new tier, replacing the tier it was added to in this heartbeat if
+      // any, to prevent adding the block twice.
+      mAddedBlocks.put(blockId, newLocation.tierAlias());
     }
   }
 
@@ -81,11 +104,10 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   public void onRemoveBlockByClient(long sessionId, long blockId) {
     synchronized (mLock) {
       // Remove the block from list of added blocks, in case it was added in this heartbeat period.
-      removeBlockFromAddedBlocks(blockId);
-      // Add to the list of removed blocks in this heartbeat period.
-      if (!mRemovedBlocks.contains(blockId)) {
-        mRemovedBlocks.add(blockId);
-      }
+      mAddedBlocks.remove(blockId);
+      // Add to the set of removed blocks in this heartbeat period.
+      mRemovedBlocks.add(blockId);
+      mBlockReadCounts.remove(blockId);
     }
   }
 
@@ -93,11 +115,10 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   public void onRemoveBlockByWorker(long sessionId, long blockId) {
     synchronized (mLock) {
       // Remove the block from list of added blocks, in case it was added in this heartbeat period.
-      removeBlockFromAddedBlocks(blockId);
-      // Add to the list of removed blocks in this heartbeat period.
-      if (!mRemovedBlocks.contains(blockId)) {
-        mRemovedBlocks.add(blockId);
-      }
+      mAddedBlocks.remove(blockId);
+      // Add to the set of removed blocks in this heartbeat period.
+      mRemovedBlocks.add(blockId);
+      mBlockReadCounts.remove(blockId);
     }
   }
 
@@ -105,46 +126,9 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   public void onMoveBlockByWorker(long sessionId, long blockId, BlockStoreLocation oldLocation,
       BlockStoreLocation newLocation) {
     synchronized (mLock) {
-      // Remove the block from our list of added blocks in this heartbeat, if it was added, to
-      // prevent adding the block twice.
-      removeBlockFromAddedBlocks(blockId);
-      // Add the block back with the new storagedir.
-      addBlockToAddedBlocks(blockId, newLocation.tierAlias());
-    }
-  }
-
-  /**
-   * Adds a block to the list of added blocks in this heartbeat period.
-   *
-   * @param blockId the id of the block to add
-   * @param tierAlias alias of the storage tier containing the block
-   */
-  private void addBlockToAddedBlocks(long blockId, String tierAlias) {
-    if (mAddedBlocks.containsKey(tierAlias)) {
-      mAddedBlocks.get(tierAlias).add(blockId);
-    } else {
-      mAddedBlocks.put(tierAlias, Lists.newArrayList(blockId));
-    }
-  }
-
-  /**
-   * Removes the block from the added blocks map, if it exists.
-   *
-   * @param blockId the block to remove
-   */
-  private void removeBlockFromAddedBlocks(long blockId) {
-    Iterator<Entry<String, List<Long>>> iterator = mAddedBlocks.entrySet().iterator();
-    while (iterator.hasNext()) {
-      Entry<String, List<Long>> entry = iterator.next();
-      List<Long> blockList = entry.getValue();
-      if (blockList.contains(blockId)) {
-        blockList.remove(blockId);
-        if (blockList.isEmpty()) {
-          iterator.remove();
-        }
-        // exit the loop when already find and remove block id from mAddedBlocks
-        break;
-      }
+      // Add the block with the new tier, replacing the tier it was added to in this heartbeat if
+      // any, to prevent adding the block twice.
+      mAddedBlocks.put(blockId, newLocation.tierAlias());
     }
   }
 }
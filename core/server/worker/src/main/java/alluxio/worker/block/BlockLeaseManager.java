@@ -0,0 +1,282 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.collections.LongObjectHashMap;
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.exception.ExceptionMessage;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Manages block leases. A lease is a block read lock held on behalf of a session until a deadline,
+ * so that clients which memory-map block files do not need to lock and unlock each block with a
+ * round trip. A lease is renewed by leasing the block again before the deadline, and it is
+ * released when the deadline passes, when the session releases it, or when the worker revokes it
+ * to remove or move the block.
+ *
+ * Revoking a lease does not harm a client which has already mapped the block file: the mapping
+ * stays valid after the file is removed or renamed, and the block content never changes.
+ */
+@ThreadSafe
+public final class BlockLeaseManager {
+  private final BlockLockManager mLockManager;
+
+  /** A map from session id to the leases of the session, by block id. */
+  @GuardedBy("this")
+  private final LongObjectHashMap<LongObjectHashMap<Lease>> mSessionLeases =
+      new LongObjectHashMap<>();
+
+  /** A map from block id to the leases of the block. */
+  @GuardedBy("this")
+  private final LongObjectHashMap<List<Lease>> mBlockLeases = new LongObjectHashMap<>();
+
+  /** A map from block id to the number of ongoing revocations, during which it cannot be leased. */
+  @GuardedBy("this")
+  private final LongObjectHashMap<Integer> mRevocations = new LongObjectHashMap<>();
+
+  /**
+   * Creates a new instance of {@link BlockLeaseManager}.
+   *
+   * @param lockManager the lock manager to lock the leased blocks with
+   */
+  public BlockLeaseManager(BlockLockManager lockManager) {
+    mLockManager = Preconditions.checkNotNull(lockManager, "lockManager");
+  }
+
+  /**
+   * Leases a block for a session, or renews the lease if the session already has one. This may
+   * block while the block is write locked.
+   *
+   * @param sessionId the session id
+   * @param blockId the block id
+   * @param expiryMs the time in milliseconds when the lease expires
+   * @return the id of the read lock held by the lease
+   * @throws BlockDoesNotExistException if the block is being removed or moved
+   */
+  public long lease(long sessionId, long blockId, long expiryMs)
+      throws BlockDoesNotExistException {
+    synchronized (this) {
+      checkNotRevoking(blockId);
+      Lease lease = getLease(sessionId, blockId);
+      if (lease != null) {
+        lease.mExpiryMs = Math.max(lease.mExpiryMs, expiryMs);
+        return lease.mLockId;
+      }
+    }
+    // Lock outside the monitor since this waits for writers of the block.
+    long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.READ);
+    synchronized (this) {
+      Lease lease = getLease(sessionId, blockId);
+      if (lease == null && !mRevocations.containsKey(blockId)) {
+        addLease(new Lease(sessionId, blockId, lockId, expiryMs));
+        return lockId;
+      }
+    }
+    // The block started being revoked, or the session leased it concurrently.
+    mLockManager.unlockBlockNoException(lockId);
+    return lease(sessionId, blockId, expiryMs);
+  }
+
+  /**
+   * Releases the lease of a session on a block, if any.
+   *
+   * @param sessionId the session id
+   * @param blockId the block id
+   */
+  public void release(long sessionId, long blockId) {
+    Lease lease;
+    synchronized (this) {
+      lease = getLease(sessionId, blockId);
+      if (lease == null) {
+        return;
+      }
+      removeLease(lease);
+    }
+    mLockManager.unlockBlockNoException(lease.mLockId);
+  }
+
+  /**
+   * Releases all the leases of a session.
+   *
+   * @param sessionId the session id
+   */
+  public void releaseSession(long sessionId) {
+    List<Lease> leases;
+    synchronized (this) {
+      LongObjectHashMap<Lease> sessionLeases = mSessionLeases.get(sessionId);
+      if (sessionLeases == null) {
+        return;
+      }
+      leases = sessionLeases.values();
+      for (Lease lease : leases) {
+        removeLease(lease);
+      }
+    }
+    unlock(leases);
+  }
+
+  /**
+   * Releases the leases which expired before the given time.
+   *
+   * @param nowMs the current time in milliseconds
+   * @return the number of expired leases
+   */
+  public int expire(long nowMs) {
+    List<Lease> expired = new ArrayList<>();
+    synchronized (this) {
+      for (List<Lease> leases : mBlockLeases.values()) {
+        for (Lease lease : leases) {
+          if (lease.mExpiryMs <= nowMs) {
+            expired.add(lease);
+          }
+        }
+      }
+      for (Lease lease : expired) {
+        removeLease(lease);
+      }
+    }
+    unlock(expired);
+    return expired.size();
+  }
+
+  /**
+   * Revokes all the leases of a block, and prevents the block from being leased until
+   * {@link #endRevocation(long)} is called. This must be called before write locking a leased
+   * block, since the lease holders would otherwise keep the block read locked until they stop
+   * renewing their leases.
+   *
+   * @param blockId the block id
+   */
+  public void revoke(long blockId) {
+    List<Lease> leases;
+    synchronized (this) {
+      Integer revocations = mRevocations.get(blockId);
+      mRevocations.put(blockId, revocations == null ? 1 : revocations + 1);
+      leases = mBlockLeases.get(blockId);
+      if (leases == null) {
+        return;
+      }
+      leases = new ArrayList<>(leases);
+      for (Lease lease : leases) {
+        removeLease(lease);
+      }
+    }
+    unlock(leases);
+  }
+
+  /**
+   * Allows a block to be leased again after it was revoked by {@link #revoke(long)}.
+   *
+   * @param blockId the block id
+   */
+  public synchronized void endRevocation(long blockId) {
+    Integer revocations = mRevocations.get(blockId);
+    Preconditions.checkState(revocations != null, "Block %s is not being revoked", blockId);
+    if (revocations == 1) {
+      mRevocations.remove(blockId);
+    } else {
+      mRevocations.put(blockId, revocations - 1);
+    }
+  }
+
+  /**
+   * @param blockId the block id
+   * @return whether the block is locked by leases only, so that it can be evicted after its leases
+   *         are revoked
+   */
+  public synchronized boolean isLockedByLeasesOnly(long blockId) {
+    List<Lease> leases = mBlockLeases.get(blockId);
+    return leases != null && leases.size() == mLockManager.getLockCount(blockId);
+  }
+
+  @GuardedBy("this")
+  private void checkNotRevoking(long blockId) throws BlockDoesNotExistException {
+    if (mRevocations.containsKey(blockId)) {
+      throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_LEASE_REVOKED, blockId);
+    }
+  }
+
+  @GuardedBy("this")
+  private Lease getLease(long sessionId, long blockId) {
+    LongObjectHashMap<Lease> sessionLeases = mSessionLeases.get(sessionId);
+    return sessionLeases == null ? null : sessionLeases.get(blockId);
+  }
+
+  @GuardedBy("this")
+  private void addLease(Lease lease) {
+    LongObjectHashMap<Lease> sessionLeases = mSessionLeases.get(lease.mSessionId);
+    if (sessionLeases == null) {
+      sessionLeases = new LongObjectHashMap<>();
+      mSessionLeases.put(lease.mSessionId, sessionLeases);
+    }
+    sessionLeases.put(lease.mBlockId, lease);
+    List<Lease> blockLeases = mBlockLeases.get(lease.mBlockId);
+    if (blockLeases == null) {
+      blockLeases = new ArrayList<>(1);
+      mBlockLeases.put(lease.mBlockId, blockLeases);
+    }
+    blockLeases.add(lease);
+  }
+
+  @GuardedBy("this")
+  private void removeLease(Lease lease) {
+    LongObjectHashMap<Lease> sessionLeases = mSessionLeases.get(lease.mSessionId);
+    sessionLeases.remove(lease.mBlockId);
+    if (sessionLeases.isEmpty()) {
+      mSessionLeases.remove(lease.mSessionId);
+    }
+    List<Lease> blockLeases = mBlockLeases.get(lease.mBlockId);
+    blockLeases.remove(lease);
+    if (blockLeases.isEmpty()) {
+      mBlockLeases.remove(lease.mBlockId);
+    }
+  }
+
+  private void unlock(List<Lease> leases) {
+    for (Lease lease : leases) {
+      mLockManager.unlockBlockNoException(lease.mLockId);
+    }
+  }
+
+  /**
+   * A lease of a session on a block.
+   */
+  private static final class Lease {
+    private final long mSessionId;
+    private final long mBlockId;
+    private final long mLockId;
+    /** Guarded by the lease manager. */
+    private long mExpiryMs;
+
+    /**
+     * Creates a new instance of {@link Lease}.
+     *
+     * @param sessionId the session id
+     * @param blockId the block id
+     * @param lockId the id of the read lock held by the lease
+     * @param expiryMs the time in milliseconds when the lease expires
+     */
+    private Lease(long sessionId, long blockId, long lockId, long expiryMs) {
+      mSessionId = sessionId;
+      mBlockId = blockId;
+      mLockId = lockId;
+      mExpiryMs = expiryMs;
+    }
+  }
+}
@@ -13,20 +13,20 @@ package alluxio.worker.block;
 
 import alluxio.Configuration;
 import alluxio.PropertyKey;
+import alluxio.collections.LongHashSet;
+import alluxio.collections.LongObjectHashMap;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
 import alluxio.resource.ResourcePool;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.Sets;
 import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -65,15 +65,25 @@ public final class BlockLockManager {
 
   /** A map from block id to the read write lock used to guard that block. */
   @GuardedBy("mSharedMapsLock")
-  private final Map<Long, ClientRWLock> mLocks = new HashMap<>();
+  private final LongObjectHashMap<ClientRWLock> mLocks = new LongObjectHashMap<>();
 
   /** A map from a session id to all the locks hold by this session. */
   @GuardedBy("mSharedMapsLock")
-  private final Map<Long, Set<Long>> mSessionIdToLockIdsMap = new HashMap<>();
+  private final LongObjectHashMap<LongHashSet> mSessionIdToLockIdsMap = new LongObjectHashMap<>();
 
   /** A map from a lock id to the lock record of it. */
   @GuardedBy("mSharedMapsLock")
-  private final Map<Long, LockRecord> mLockIdToRecordMap = new HashMap<>();
+  private final LongObjectHashMap<LockRecord> mLockIdToRecordMap = new LongObjectHashMap<>();
+
+  /**
+   * A map from a locked block id to the number of lock records of it. It is updated along with
+   * {@link #mLockIdToRecordMap}, and can be read without holding {@link #mSharedMapsLock}.
+   */
+  private final ConcurrentMap<Long, Integer> mLockedBlockCounts = new ConcurrentHashMapV8<>();
+
+  /** A live read-only view of the locked blocks. */
+  private final Set<Long> mLockedBlocks =
+      Collections.unmodifiableSet(mLockedBlockCounts.keySet());
 
   /**
    * To guard access to the maps maintained by this class.
@@ -115,13 +125,13 @@ public final class BlockLockManager {
     try {
       long lockId = LOCK_ID_GEN.getAndIncrement();
       synchronized (mSharedMapsLock) {
-        mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
-        Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+        addLockRecord(lockId, new LockRecord(sessionId, blockId, lock));
+        LongHashSet sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
         if (sessionLockIds == null) {
-          mSessionIdToLockIdsMap.put(sessionId, Sets.newHashSet(lockId));
-        } else {
-          sessionLockIds.add(lockId);
+          sessionLockIds = new LongHashSet();
+          mSessionIdToLockIdsMap.put(sessionId, sessionLockIds);
         }
+        sessionLockIds.add(lockId);
       }
       return lockId;
     } catch (RuntimeException e) {
@@ -138,11 +148,11 @@ public final class BlockLockManager {
    */
   private boolean sessionHoldsLock(long sessionId, long blockId) {
     synchronized (mSharedMapsLock) {
-      Set<Long> sessionLocks = mSessionIdToLockIdsMap.get(sessionId);
+      LongHashSet sessionLocks = mSessionIdToLockIdsMap.get(sessionId);
       if (sessionLocks == null) {
         return false;
       }
-      for (Long lockId : sessionLocks) {
+      for (long lockId : sessionLocks.toArray()) {
         LockRecord lockRecord = mLockIdToRecordMap.get(lockId);
         if (lockRecord.getBlockId() == blockId) {
           return true;
@@ -210,8 +220,8 @@ public final class BlockLockManager {
       }
       long sessionId = record.getSessionId();
       lock = record.getLock();
-      mLockIdToRecordMap.remove(lockId);
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+      removeLockRecord(lockId, record);
+      LongHashSet sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
       sessionLockIds.remove(lockId);
       if (sessionLockIds.isEmpty()) {
         mSessionIdToLockIdsMap.remove(sessionId);
@@ -244,18 +254,18 @@ public final class BlockLockManager {
   // TODO(bin): Temporary, remove me later.
   public boolean unlockBlock(long sessionId, long blockId) {
     synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+      LongHashSet sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
       if (sessionLockIds == null) {
         return false;
       }
-      for (long lockId : sessionLockIds) {
+      for (long lockId : sessionLockIds.toArray()) {
         LockRecord record = mLockIdToRecordMap.get(lockId);
         if (record == null) {
           // TODO(peis): Should this be a check failure?
           return false;
         }
         if (blockId == record.getBlockId()) {
-          mLockIdToRecordMap.remove(lockId);
+          removeLockRecord(lockId, record);
           sessionLockIds.remove(lockId);
           if (sessionLockIds.isEmpty()) {
             mSessionIdToLockIdsMap.remove(sessionId);
@@ -305,11 +315,11 @@ public final class BlockLockManager {
    */
   public void cleanupSession(long sessionId) {
     synchronized (mSharedMapsLock) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+      LongHashSet sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
       if (sessionLockIds == null) {
         return;
       }
-      for (long lockId : sessionLockIds) {
+      for (long lockId : sessionLockIds.toArray()) {
         LockRecord record = mLockIdToRecordMap.get(lockId);
         if (record == null) {
           LOG.error(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
@@ -317,7 +327,7 @@ public final class BlockLockManager {
         }
         Lock lock = record.getLock();
         unlock(lock, record.getBlockId());
-        mLockIdToRecordMap.remove(lockId);
+        removeLockRecord(lockId, record);
       }
       mSessionIdToLockIdsMap.remove(sessionId);
     }
@@ -329,12 +339,56 @@ public final class BlockLockManager {
    * @return a set of locked blocks
    */
   public Set<Long> getLockedBlocks() {
-    synchronized (mSharedMapsLock) {
-      Set<Long> set = new HashSet<>();
-      for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
-        set.add(lockRecord.getBlockId());
-      }
-      return set;
+    return new HashSet<>(mLockedBlocks);
+  }
+
+  /**
+   * Gets a live read-only view of the currently locked blocks. Unlike {@link #getLockedBlocks()},
+   * this does not copy the locked blocks, so it is cheap to get no matter how many blocks are
+   * locked, and the view reflects later locks and unlocks.
+   *
+   * @return a live view of the locked blocks
+   */
+  public Set<Long> getLockedBlocksView() {
+    return mLockedBlocks;
+  }
+
+  /**
+   * @param blockId the block id
+   * @return the number of locks currently held on the block
+   */
+  public int getLockCount(long blockId) {
+    Integer count = mLockedBlockCounts.get(blockId);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Adds a lock record and counts its block as locked.
+   *
+   * @param lockId the lock id
+   * @param record the lock record
+   */
+  @GuardedBy("mSharedMapsLock")
+  private void addLockRecord(long lockId, LockRecord record) {
+    mLockIdToRecordMap.put(lockId, record);
+    Integer count = mLockedBlockCounts.get(record.getBlockId());
+    mLockedBlockCounts.put(record.getBlockId(), count == null ? 1 : count + 1);
+  }
+
+  /**
+   * Removes a lock record, and the block from the locked blocks if it has no other lock record.
+   *
+   * @param lockId the lock id
+   * @param record the lock record of the lock id
+   */
+  @GuardedBy("mSharedMapsLock")
+  private void removeLockRecord(long lockId, LockRecord record) {
+    mLockIdToRecordMap.remove(lockId);
+    Integer count = mLockedBlockCounts.get(record.getBlockId());
+    if (count == null || count <= 1) {
+      mLockedBlockCounts.remove(record.getBlockId());
+    } else {
+      mLockedBlockCounts.put(record.getBlockId(), count - 1);
     }
   }
 
@@ -386,10 +440,23 @@ public final class BlockLockManager {
         blockLockReferenceCounts.get(record.getBlockId()).incrementAndGet();
       }
 
+      // Check that the locked block counts match the lock record counts.
+      if (blockLockReferenceCounts.size() != mLockedBlockCounts.size()) {
+        throw new IllegalStateException("There are lock records for "
+            + blockLockReferenceCounts.size() + " blocks, but " + mLockedBlockCounts.size()
+            + " blocks are counted as locked");
+      }
+      for (Entry<Long, Integer> entry : mLockedBlockCounts.entrySet()) {
+        AtomicInteger recordCount = blockLockReferenceCounts.get(entry.getKey());
+        if (recordCount == null || recordCount.get() != entry.getValue()) {
+          throw new IllegalStateException("Block " + entry.getKey() + " is counted as locked "
+              + entry.getValue() + " times, but there are " + recordCount + " lock records");
+        }
+      }
+
       // Check that the reference count for each block lock matches the lock record counts.
-      for (Entry<Long, ClientRWLock> entry : mLocks.entrySet()) {
-        long blockId = entry.getKey();
-        ClientRWLock lock = entry.getValue();
+      for (long blockId : mLocks.keys()) {
+        ClientRWLock lock = mLocks.get(blockId);
         Integer recordCount = blockLockReferenceCounts.get(blockId).get();
         Integer referenceCount = lock.getReferenceCount();
         if (!Objects.equal(recordCount, referenceCount)) {
@@ -400,12 +467,12 @@ public final class BlockLockManager {
 
       // Check that if a lock id is mapped to by a session id, the lock record for that lock id
       // contains that session id.
-      for (Entry<Long, Set<Long>> entry : mSessionIdToLockIdsMap.entrySet()) {
-        for (Long lockId : entry.getValue()) {
+      for (long sessionId : mSessionIdToLockIdsMap.keys()) {
+        for (long lockId : mSessionIdToLockIdsMap.get(sessionId).toArray()) {
           LockRecord record = mLockIdToRecordMap.get(lockId);
-          if (record.getSessionId() != entry.getKey()) {
+          if (record.getSessionId() != sessionId) {
             throw new IllegalStateException("The session id map contains lock id " + lockId
-                + "under session id " + entry.getKey() + ", but the record for that lock id ("
+                + "under session id " + sessionId + ", but the record for that lock id ("
                 + record + ")" + " doesn't contain that session id");
           }
         }
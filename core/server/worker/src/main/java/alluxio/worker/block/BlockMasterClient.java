@@ -79,14 +79,19 @@ public final class BlockMasterClient extends AbstractMasterClient {
    * @param tierAlias the alias of the tier the block is being committed to
    * @param blockId the block id being committed
    * @param length the length of the block being committed
+   * @param checksum the CRC32C checksum of the block, or {@link Constants#UNKNOWN_CHECKSUM}
    */
   public synchronized void commitBlock(final long workerId, final long usedBytesOnTier,
-      final String tierAlias, final long blockId, final long length) throws IOException {
+      final String tierAlias, final long blockId, final long length, final long checksum)
+      throws IOException {
+    final CommitBlockTOptions options = new CommitBlockTOptions();
+    if (checksum != Constants.UNKNOWN_CHECKSUM) {
+      options.setChecksum(checksum);
+    }
     retryRPC(new RpcCallable<Void>() {
       @Override
       public Void call() throws TException {
-        mClient.commitBlock(workerId, usedBytesOnTier, tierAlias, blockId, length,
-            new CommitBlockTOptions());
+        mClient.commitBlock(workerId, usedBytesOnTier, tierAlias, blockId, length, options);
         return null;
       }
     });
@@ -115,16 +120,22 @@ public final class BlockMasterClient extends AbstractMasterClient {
    * @param usedBytesOnTiers a mapping from storage tier alias to used bytes
    * @param removedBlocks a list of block removed from this worker
    * @param addedBlocks a mapping from storage tier alias to added blocks
+   * @param blockReadCounts a mapping from block id to the number of reads of the block
    * @return an optional command for the worker to execute
    */
   public synchronized Command heartbeat(final long workerId,
       final Map<String, Long> usedBytesOnTiers, final List<Long> removedBlocks,
-      final Map<String, List<Long>> addedBlocks) throws IOException {
+      final Map<String, List<Long>> addedBlocks, final Map<Long, Long> blockReadCounts)
+      throws IOException {
+    final BlockHeartbeatTOptions options = new BlockHeartbeatTOptions();
+    if (!blockReadCounts.isEmpty()) {
+      options.setBlockReadCounts(blockReadCounts);
+    }
     return retryRPC(new RpcCallable<Command>() {
       @Override
       public Command call() throws TException {
         return mClient.blockHeartbeat(workerId, usedBytesOnTiers, removedBlocks, addedBlocks,
-            new BlockHeartbeatTOptions()).getCommand();
+            options).getCommand();
       }
     });
   }
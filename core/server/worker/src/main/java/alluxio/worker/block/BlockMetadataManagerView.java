@@ -24,7 +24,6 @@ import com.google.common.base.Preconditions;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,10 +52,10 @@ public class BlockMetadataManagerView {
   private List<StorageTierView> mTierViews = new ArrayList<>();
 
   /** A list of pinned inodes. */
-  private final Set<Long> mPinnedInodes = new HashSet<>();
+  private final Set<Long> mPinnedInodes;
 
   /** Indices of locks that are being used. */
-  private final Set<Long> mInUseBlocks = new HashSet<>();
+  private final Set<Long> mInUseBlocks;
 
   /** A map from tier alias to {@link StorageTierView}. */
   private Map<String, StorageTierView> mAliasToTierViews = new HashMap<>();
@@ -65,17 +64,19 @@ public class BlockMetadataManagerView {
    * Creates a new instance of {@link BlockMetadataManagerView}. Now we always create a new view
    * before freespace.
    *
+   * The given sets are not copied, so creating a view does not depend on the number of pinned
+   * inodes and locked blocks. Callers pass either immutable snapshots, or thread-safe live views
+   * such as {@link BlockLockManager#getLockedBlocksView()}.
+   *
    * @param manager which the view should be constructed from
    * @param pinnedInodes a set of pinned inodes
    * @param lockedBlocks a set of locked blocks
    */
-  // TODO(qifan): Incrementally update the view.
   public BlockMetadataManagerView(BlockMetadataManager manager, Set<Long> pinnedInodes,
       Set<Long> lockedBlocks) {
     mMetadataManager = Preconditions.checkNotNull(manager, "manager");
-    mPinnedInodes.addAll(Preconditions.checkNotNull(pinnedInodes, "pinnedInodes"));
-    Preconditions.checkNotNull(lockedBlocks, "lockedBlocks");
-    mInUseBlocks.addAll(lockedBlocks);
+    mPinnedInodes = Preconditions.checkNotNull(pinnedInodes, "pinnedInodes");
+    mInUseBlocks = Preconditions.checkNotNull(lockedBlocks, "lockedBlocks");
 
     // iteratively create all StorageTierViews and StorageDirViews
     for (StorageTier tier : manager.getTiers()) {
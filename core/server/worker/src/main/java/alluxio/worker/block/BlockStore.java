@@ -70,6 +70,33 @@ interface BlockStore extends SessionCleanable {
    */
   boolean unlockBlock(long sessionId, long blockId);
 
+  /**
+   * Leases an existing block for a session until the given time, or renews the lease if the
+   * session already has one. A lease holds a read lock on the block like
+   * {@link #lockBlock(long, long)}, but the lock is released when the lease expires, and the lease
+   * is revoked when the block store needs to remove or move the block.
+   *
+   * @param sessionId the id of the session to lease the block for
+   * @param blockId the id of the block to lease
+   * @param expiryMs the time in milliseconds when the lease expires
+   * @return the id of the lock held by the lease
+   * @throws BlockDoesNotExistException if the block does not exist or is being removed or moved
+   */
+  long leaseBlock(long sessionId, long blockId, long expiryMs) throws BlockDoesNotExistException;
+
+  /**
+   * Releases the lease of a session on a block, if any.
+   *
+   * @param sessionId the id of the session
+   * @param blockId the id of the block
+   */
+  void releaseBlockLease(long sessionId, long blockId);
+
+  /**
+   * Releases the block leases which have expired.
+   */
+  void expireBlockLeases();
+
   /**
    * Creates the metadata of a new block and assigns a temporary path (e.g., a subdir of the final
    * location named after session id) to store its data. The location can be a location with
@@ -23,6 +23,7 @@ import alluxio.worker.Worker;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.block.meta.StorageDir;
 
 import java.io.IOException;
 import java.util.Set;
@@ -186,6 +187,16 @@ public interface BlockWorker extends Worker, SessionCleanable {
    */
   BlockMeta getVolatileBlockMeta(long blockId) throws BlockDoesNotExistException;
 
+  /**
+   * Gets the storage directory of a temporary or committed block. This method does not require a
+   * lock id so the block is possible to be moved or removed after it returns.
+   *
+   * @param sessionId the id of the session writing the block if it is temporary
+   * @param blockId the block id
+   * @return the storage directory of the block, or null if the block is not in Alluxio storage
+   */
+  StorageDir getVolatileBlockDir(long sessionId, long blockId);
+
   /**
    * Gets the metadata of a specific block from local storage.
    * <p>
@@ -337,6 +348,34 @@ public interface BlockWorker extends Worker, SessionCleanable {
   // TODO(calvin): Remove when lock and reads are separate operations.
   boolean unlockBlock(long sessionId, long blockId);
 
+  /**
+   * Leases a block for a session until the given time, or renews the lease if the session already
+   * has one. The lease holds a read lock on the block until it expires or is released, or until
+   * the worker revokes it to remove or move the block.
+   *
+   * @param sessionId the session id
+   * @param blockId the block id
+   * @param expiryMs the time in milliseconds when the lease expires
+   * @return the id of the lock held by the lease
+   * @throws BlockDoesNotExistException if the block does not exist or is being removed or moved
+   */
+  long leaseBlock(long sessionId, long blockId, long expiryMs) throws BlockDoesNotExistException;
+
+  /**
+   * Releases the lease of a session on a block, if any.
+   *
+   * @param sessionId the session id
+   * @param blockId the block id
+   */
+  void releaseBlockLease(long sessionId, long blockId);
+
+  /**
+   * Registers a {@link BlockStoreEventListener} to the block store of this worker.
+   *
+   * @param listener the listener to the events of the block store
+   */
+  void registerBlockStoreEventListener(BlockStoreEventListener listener);
+
   /**
    * Handles the heartbeat from a client.
    *
@@ -23,7 +23,7 @@ import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
 import alluxio.exception.WorkerOutOfSpaceException;
 import alluxio.heartbeat.HeartbeatContext;
-import alluxio.heartbeat.HeartbeatThread;
+import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.metrics.MetricsSystem;
 import alluxio.proto.dataserver.Protocol;
 import alluxio.thrift.BlockWorkerClientService;
@@ -39,6 +39,7 @@ import alluxio.worker.SessionCleaner;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.block.meta.StorageDir;
 import alluxio.worker.block.meta.TempBlockMeta;
 import alluxio.worker.file.FileSystemMasterClient;
 
@@ -141,7 +142,7 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
       FileSystemMasterClient fileSystemMasterClient, Sessions sessions, BlockStore blockStore,
       UfsManager ufsManager) {
     super(Executors
-        .newFixedThreadPool(4, ThreadFactoryUtils.build("block-worker-heartbeat-%d", true)));
+        .newFixedThreadPool(5, ThreadFactoryUtils.build("block-worker-heartbeat-%d", true)));
     mBlockMasterClientPool = blockMasterClientPool;
     mBlockMasterClient = mBlockMasterClientPool.acquire();
     mFileSystemMasterClient = fileSystemMasterClient;
@@ -218,19 +219,27 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
 
     // Setup space reserver
     if (Configuration.getBoolean(PropertyKey.WORKER_TIERED_STORE_RESERVER_ENABLED)) {
-      getExecutorService().submit(
-          new HeartbeatThread(HeartbeatContext.WORKER_SPACE_RESERVER, new SpaceReserver(this),
-              (int) Configuration.getMs(PropertyKey.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS)));
+      startHeartbeat(HeartbeatContext.WORKER_SPACE_RESERVER, new SpaceReserver(this),
+          Configuration.getMs(PropertyKey.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS));
     }
 
-    getExecutorService()
-        .submit(new HeartbeatThread(HeartbeatContext.WORKER_BLOCK_SYNC, mBlockMasterSync,
-            (int) Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS)));
+    startHeartbeat(HeartbeatContext.WORKER_BLOCK_SYNC, mBlockMasterSync,
+        Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS));
 
     // Start the pinlist syncer to perform the periodical fetching
-    getExecutorService()
-        .submit(new HeartbeatThread(HeartbeatContext.WORKER_PIN_LIST_SYNC, mPinListSync,
-            (int) Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS)));
+    startHeartbeat(HeartbeatContext.WORKER_PIN_LIST_SYNC, mPinListSync,
+        Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS));
+
+    // Start the block lease expiry checker to release the leases clients stopped renewing
+    startHeartbeat(HeartbeatContext.WORKER_BLOCK_LEASE_EXPIRY, new HeartbeatExecutor() {
+      @Override
+      public void heartbeat() {
+        mBlockStore.expireBlockLeases();
+      }
+
+      @Override
+      public void close() {}
+    }, Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS));
 
     // Start the session cleanup checker to perform the periodical checking
     getExecutorService().submit(mSessionCleaner);
@@ -246,6 +255,7 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
     // 2. Shutdown the executors.
     // 3. Shutdown the clients. This needs to happen after the executors is shutdown because
     //    runnables running in the executors might be using the clients.
+    stopHeartbeats();
     mSessionCleaner.stop();
     // The executor shutdown needs to be done in a loop with retry because the interrupt
     // signal can sometimes be ignored.
@@ -304,7 +314,7 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
       BlockStoreMeta storeMeta = mBlockStore.getBlockStoreMeta();
       Long bytesUsedOnTier = storeMeta.getUsedBytesOnTiers().get(loc.tierAlias());
       blockMasterClient.commitBlock(mWorkerId.get(), bytesUsedOnTier, loc.tierAlias(), blockId,
-          length);
+          length, meta.getChecksum());
     } catch (Exception e) {
       throw new IOException(ExceptionMessage.FAILED_COMMIT_BLOCK_TO_MASTER.getMessage(blockId), e);
     } finally {
@@ -371,6 +381,19 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
     return mBlockStore.getVolatileBlockMeta(blockId);
   }
 
+  @Override
+  public StorageDir getVolatileBlockDir(long sessionId, long blockId) {
+    TempBlockMeta tempBlockMeta = mBlockStore.getTempBlockMeta(sessionId, blockId);
+    if (tempBlockMeta != null) {
+      return tempBlockMeta.getParentDir();
+    }
+    try {
+      return mBlockStore.getVolatileBlockMeta(blockId).getParentDir();
+    } catch (BlockDoesNotExistException e) {
+      return null;
+    }
+  }
+
   @Override
   public BlockMeta getBlockMeta(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException {
@@ -454,6 +477,22 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
     return mBlockStore.unlockBlock(sessionId, blockId);
   }
 
+  @Override
+  public long leaseBlock(long sessionId, long blockId, long expiryMs)
+      throws BlockDoesNotExistException {
+    return mBlockStore.leaseBlock(sessionId, blockId, expiryMs);
+  }
+
+  @Override
+  public void releaseBlockLease(long sessionId, long blockId) {
+    mBlockStore.releaseBlockLease(sessionId, blockId);
+  }
+
+  @Override
+  public void registerBlockStoreEventListener(BlockStoreEventListener listener) {
+    mBlockStore.registerBlockStoreEventListener(listener);
+  }
+
   @Override
   public void sessionHeartbeat(long sessionId) {
     mSessions.sessionHeartbeat(sessionId);
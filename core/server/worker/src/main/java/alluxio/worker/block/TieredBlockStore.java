@@ -27,6 +27,7 @@ import alluxio.worker.block.allocator.Allocator;
 import alluxio.worker.block.evictor.BlockTransferInfo;
 import alluxio.worker.block.evictor.EvictionPlan;
 import alluxio.worker.block.evictor.Evictor;
+import alluxio.worker.block.io.BlockChecksum;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.io.LocalFileBlockReader;
@@ -36,10 +37,14 @@ import alluxio.worker.block.meta.StorageDirView;
 import alluxio.worker.block.meta.TempBlockMeta;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -90,13 +95,16 @@ public final class TieredBlockStore implements BlockStore {
 
   private final BlockMetadataManager mMetaManager;
   private final BlockLockManager mLockManager;
+  private final BlockLeaseManager mLeaseManager;
+  /** A live view of the locked blocks, leaving out the blocks which are only locked by leases. */
+  private final Set<Long> mBlocksLockedNotOnlyByLeases;
   private final Allocator mAllocator;
   private final Evictor mEvictor;
 
   private final List<BlockStoreEventListener> mBlockStoreEventListeners = new ArrayList<>();
 
-  /** A set of pinned inodes fetched from the master. */
-  private final Set<Long> mPinnedInodes = new HashSet<>();
+  /** An immutable set of pinned inodes fetched from the master, replaced on every update. */
+  private volatile Set<Long> mPinnedInodes = ImmutableSet.of();
 
   /** Lock to guard metadata operations. */
   private final ReentrantReadWriteLock mMetadataLock = new ReentrantReadWriteLock();
@@ -116,6 +124,14 @@ public final class TieredBlockStore implements BlockStore {
   public TieredBlockStore() {
     mMetaManager = BlockMetadataManager.createBlockMetadataManager();
     mLockManager = new BlockLockManager();
+    mLeaseManager = new BlockLeaseManager(mLockManager);
+    mBlocksLockedNotOnlyByLeases =
+        Sets.filter(mLockManager.getLockedBlocksView(), new Predicate<Long>() {
+          @Override
+          public boolean apply(Long blockId) {
+            return !mLeaseManager.isLockedByLeasesOnly(blockId);
+          }
+        });
 
     BlockMetadataManagerView initManagerView = new BlockMetadataManagerView(mMetaManager,
         Collections.<Long>emptySet(), Collections.<Long>emptySet());
@@ -174,6 +190,35 @@ public final class TieredBlockStore implements BlockStore {
     return mLockManager.unlockBlock(sessionId, blockId);
   }
 
+  @Override
+  public long leaseBlock(long sessionId, long blockId, long expiryMs)
+      throws BlockDoesNotExistException {
+    long lockId = mLeaseManager.lease(sessionId, blockId, expiryMs);
+    boolean hasBlock;
+    try (LockResource r = new LockResource(mMetadataReadLock)) {
+      hasBlock = mMetaManager.hasBlockMeta(blockId);
+    }
+    if (hasBlock) {
+      return lockId;
+    }
+
+    mLeaseManager.release(sessionId, blockId);
+    throw new BlockDoesNotExistException(ExceptionMessage.NO_BLOCK_ID_FOUND, blockId);
+  }
+
+  @Override
+  public void releaseBlockLease(long sessionId, long blockId) {
+    mLeaseManager.release(sessionId, blockId);
+  }
+
+  @Override
+  public void expireBlockLeases() {
+    int expired = mLeaseManager.expire(System.currentTimeMillis());
+    if (expired > 0) {
+      LOG.debug("Released {} expired block leases.", expired);
+    }
+  }
+
   @Override
   public BlockWriter getBlockWriter(long sessionId, long blockId)
       throws BlockDoesNotExistException, BlockAlreadyExistsException, InvalidWorkerStateException,
@@ -184,7 +229,7 @@ public final class TieredBlockStore implements BlockStore {
     try (LockResource r = new LockResource(mMetadataReadLock)) {
       checkTempBlockOwnedBySession(sessionId, blockId);
       TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
-      return new LocalFileBlockWriter(tempBlockMeta.getPath());
+      return new LocalFileBlockWriter(tempBlockMeta.getPath(), true);
     }
   }
 
@@ -358,7 +403,8 @@ public final class TieredBlockStore implements BlockStore {
 
   @Override
   public void cleanupSession(long sessionId) {
-    // Release all locks the session is holding.
+    // Release all leases and locks the session is holding.
+    mLeaseManager.releaseSession(sessionId);
     mLockManager.cleanupSession(sessionId);
 
     // Collect a list of temp blocks the given session owns and abort all of them with best effort
@@ -472,6 +518,7 @@ public final class TieredBlockStore implements BlockStore {
     // The metadata lock is released during heavy IO. The temp block is private to one session, so
     // we do not lock it.
     Files.delete(Paths.get(path));
+    Files.deleteIfExists(Paths.get(BlockChecksum.getPath(path)));
 
     try (LockResource r = new LockResource(mMetadataWriteLock)) {
       mMetaManager.abortTempBlockMeta(tempBlockMeta);
@@ -512,6 +559,7 @@ public final class TieredBlockStore implements BlockStore {
 
       // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
       FileUtils.move(srcPath, dstPath);
+      commitBlockChecksum(srcPath, dstPath);
 
       try (LockResource r = new LockResource(mMetadataWriteLock)) {
         mMetaManager.commitTempBlockMeta(tempBlockMeta);
@@ -613,7 +661,11 @@ public final class TieredBlockStore implements BlockStore {
       throws WorkerOutOfSpaceException, IOException {
     EvictionPlan plan;
     try (LockResource r = new LockResource(mMetadataReadLock)) {
-      plan = mEvictor.freeSpaceWithView(availableBytes, location, getUpdatedView());
+      plan = mEvictor.freeSpaceWithView(availableBytes, location, getUpdatedView(false));
+      if (plan == null) {
+        // Leased blocks are only evicted as a last resort, since their leases have to be revoked.
+        plan = mEvictor.freeSpaceWithView(availableBytes, location, getUpdatedView(true));
+      }
       // Absent plan means failed to evict enough space.
       if (plan == null) {
         throw new WorkerOutOfSpaceException(ExceptionMessage.NO_EVICTION_PLAN_TO_FREE_SPACE);
@@ -691,10 +743,37 @@ public final class TieredBlockStore implements BlockStore {
    * @return {@link BlockMetadataManagerView}, an updated view with most recent information
    */
   private BlockMetadataManagerView getUpdatedView() {
-    // TODO(calvin): Update the view object instead of creating new one every time.
-    synchronized (mPinnedInodes) {
-      return new BlockMetadataManagerView(mMetaManager, mPinnedInodes,
-          mLockManager.getLockedBlocks());
+    return getUpdatedView(false);
+  }
+
+  /**
+   * Gets the most updated view with most recent information on pinned inodes, and currently locked
+   * blocks.
+   *
+   * @param evictLeasedBlocks whether the blocks which are only locked by leases are evictable
+   * @return {@link BlockMetadataManagerView}, an updated view with most recent information
+   */
+  private BlockMetadataManagerView getUpdatedView(boolean evictLeasedBlocks) {
+    // The pinned inodes are an immutable snapshot replaced on every update, and the locked blocks
+    // are a live view maintained by the lock manager, so neither is copied here.
+    return new BlockMetadataManagerView(mMetaManager, mPinnedInodes, evictLeasedBlocks
+        ? mBlocksLockedNotOnlyByLeases : mLockManager.getLockedBlocksView());
+  }
+
+  /**
+   * Write locks a block to remove or move it. The leases of the block are revoked first, since
+   * the lease holders would otherwise keep the block read locked as long as they renew them.
+   *
+   * @param sessionId the session id
+   * @param blockId the block id
+   * @return the lock id
+   */
+  private long lockBlockForUpdate(long sessionId, long blockId) {
+    mLeaseManager.revoke(blockId);
+    try {
+      return mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
+    } finally {
+      mLeaseManager.endRevocation(blockId);
     }
   }
 
@@ -715,7 +794,7 @@ public final class TieredBlockStore implements BlockStore {
       BlockStoreLocation oldLocation, BlockStoreLocation newLocation)
           throws BlockDoesNotExistException, BlockAlreadyExistsException,
           InvalidWorkerStateException, IOException {
-    long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
+    long lockId = lockBlockForUpdate(sessionId, blockId);
     try {
       long blockSize;
       String srcFilePath;
@@ -759,6 +838,10 @@ public final class TieredBlockStore implements BlockStore {
 
       // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
       FileUtils.move(srcFilePath, dstFilePath);
+      String srcChecksumPath = BlockChecksum.getPath(srcFilePath);
+      if (Files.exists(Paths.get(srcChecksumPath))) {
+        FileUtils.move(srcChecksumPath, BlockChecksum.getPath(dstFilePath));
+      }
 
       try (LockResource r = new LockResource(mMetadataWriteLock)) {
         // If this metadata update fails, we panic for now.
@@ -788,7 +871,7 @@ public final class TieredBlockStore implements BlockStore {
    */
   private void removeBlockInternal(long sessionId, long blockId, BlockStoreLocation location)
       throws InvalidWorkerStateException, BlockDoesNotExistException, IOException {
-    long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.WRITE);
+    long lockId = lockBlockForUpdate(sessionId, blockId);
     try {
       String filePath;
       BlockMeta blockMeta;
@@ -806,6 +889,7 @@ public final class TieredBlockStore implements BlockStore {
       }
       // Heavy IO is guarded by block lock but not metadata lock. This may throw IOException.
       Files.delete(Paths.get(filePath));
+      Files.deleteIfExists(Paths.get(BlockChecksum.getPath(filePath)));
 
       try (LockResource r = new LockResource(mMetadataWriteLock)) {
         mMetaManager.removeBlockMeta(blockMeta);
@@ -817,6 +901,38 @@ public final class TieredBlockStore implements BlockStore {
     }
   }
 
+  /**
+   * Commits the checksum file of a block whose file was just moved to its committed path. The
+   * checksums computed by the writer of the block, which is either a block store writer or a
+   * short-circuit client, are used if they cover the whole block. Otherwise the block is committed
+   * without a checksum file rather than reading the block to compute it, which would delay the
+   * commit.
+   *
+   * @param tempPath the temp path of the block
+   * @param commitPath the committed path of the block
+   */
+  private static void commitBlockChecksum(String tempPath, String commitPath) {
+    String tempChecksumPath = BlockChecksum.getPath(tempPath);
+    String checksumPath = BlockChecksum.getPath(commitPath);
+    try {
+      if (Files.exists(Paths.get(tempChecksumPath))) {
+        if (BlockChecksum.readFrom(tempChecksumPath).getLength() == new File(commitPath).length()) {
+          FileUtils.move(tempChecksumPath, checksumPath);
+          return;
+        }
+        Files.delete(Paths.get(tempChecksumPath));
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to commit the checksum of block {}: {}", commitPath, e.getMessage());
+      try {
+        Files.deleteIfExists(Paths.get(tempChecksumPath));
+        Files.deleteIfExists(Paths.get(checksumPath));
+      } catch (IOException e2) {
+        LOG.warn("Failed to delete the checksum of block {}: {}", commitPath, e2.getMessage());
+      }
+    }
+  }
+
   /**
    * Creates a file to represent a block denoted by the given block path. This file will be owned
    * by the Alluxio worker but have 777 permissions so processes under users different from the
@@ -840,10 +956,7 @@ public final class TieredBlockStore implements BlockStore {
    */
   @Override
   public void updatePinnedInodes(Set<Long> inodes) {
-    synchronized (mPinnedInodes) {
-      mPinnedInodes.clear();
-      mPinnedInodes.addAll(Preconditions.checkNotNull(inodes));
-    }
+    mPinnedInodes = ImmutableSet.copyOf(Preconditions.checkNotNull(inodes));
   }
 
   /**
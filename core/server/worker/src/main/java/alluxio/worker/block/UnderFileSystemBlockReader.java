@@ -318,7 +318,7 @@ public final class UnderFileSystemBlockReader implements BlockReader {
         String blockPath = mLocalBlockStore
             .createBlock(mBlockMeta.getSessionId(), mBlockMeta.getBlockId(), loc,
                 mInitialBlockSize).getPath();
-        mBlockWriter = new LocalFileBlockWriter(blockPath);
+        mBlockWriter = new LocalFileBlockWriter(blockPath, true);
       }
     } catch (IOException | BlockAlreadyExistsException | WorkerOutOfSpaceException e) {
       // This can happen when there are concurrent UFS readers who are all trying to cache to block.
@@ -13,6 +13,7 @@ package alluxio.worker.block.evictor;
 
 import alluxio.Configuration;
 import alluxio.PropertyKey;
+import alluxio.collections.LongObjectHashMap;
 import alluxio.collections.Pair;
 import alluxio.worker.block.BlockMetadataManagerView;
 import alluxio.worker.block.BlockStoreLocation;
@@ -21,18 +22,13 @@ import alluxio.worker.block.meta.BlockMeta;
 import alluxio.worker.block.meta.StorageDirView;
 import alluxio.worker.block.meta.StorageTierView;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Iterators;
-import io.netty.util.internal.chmv8.ConcurrentHashMapV8;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -51,10 +47,11 @@ import javax.annotation.Nullable;
  */
 @NotThreadSafe
 public final class LRFUEvictor extends AbstractEvictor {
-  /** Map from block id to the last updated logic time count. */
-  private final Map<Long, Long> mBlockIdToLastUpdateTime = new ConcurrentHashMapV8<>();
-  // Map from block id to the CRF value of the block
-  private final Map<Long, Double> mBlockIdToCRFValue = new ConcurrentHashMapV8<>();
+  /**
+   * Map from block id to the CRF value and the last updated logic time count of the block. All
+   * accesses are synchronized on the map itself.
+   */
+  private final LongObjectHashMap<BlockCRF> mBlockIdToCRF = new LongObjectHashMap<>();
   /** In the range of [0, 1]. Closer to 0, LRFU closer to LFU. Closer to 1, LRFU closer to LRU. */
   private final double mStepFactor;
   /** The attenuation factor is in the range of [2, INF]. */
@@ -83,8 +80,7 @@ public final class LRFUEvictor extends AbstractEvictor {
     for (StorageTierView tier : mManagerView.getTierViews()) {
       for (StorageDirView dir : tier.getDirViews()) {
         for (BlockMeta block : dir.getEvictableBlocks()) {
-          mBlockIdToLastUpdateTime.put(block.getBlockId(), 0L);
-          mBlockIdToCRFValue.put(block.getBlockId(), 0.0);
+          mBlockIdToCRF.put(block.getBlockId(), new BlockCRF(block.getBlockId(), 0.0, 0L));
         }
       }
     }
@@ -105,7 +101,7 @@ public final class LRFUEvictor extends AbstractEvictor {
   @Override
   public EvictionPlan freeSpaceWithView(long bytesToBeAvailable, BlockStoreLocation location,
       BlockMetadataManagerView view) {
-    synchronized (mBlockIdToLastUpdateTime) {
+    synchronized (mBlockIdToCRF) {
       updateCRFValue();
       mManagerView = view;
 
@@ -125,13 +121,12 @@ public final class LRFUEvictor extends AbstractEvictor {
 
   @Override
   protected Iterator<Long> getBlockIterator() {
-    return Iterators.transform(getSortedCRF().iterator(),
-        new Function<Map.Entry<Long, Double>, Long>() {
-          @Override
-          public Long apply(Entry<Long, Double> input) {
-            return input.getKey();
-          }
-        });
+    List<BlockCRF> sortedCRF = getSortedCRF();
+    List<Long> blockIds = new ArrayList<>(sortedCRF.size());
+    for (BlockCRF crf : sortedCRF) {
+      blockIds.add(crf.mBlockId);
+    }
+    return blockIds.iterator();
   }
 
   /**
@@ -139,12 +134,12 @@ public final class LRFUEvictor extends AbstractEvictor {
    *
    * @return the sorted CRF of all blocks
    */
-  private List<Map.Entry<Long, Double>> getSortedCRF() {
-    List<Map.Entry<Long, Double>> sortedCRF = new ArrayList<>(mBlockIdToCRFValue.entrySet());
-    Collections.sort(sortedCRF, new Comparator<Map.Entry<Long, Double>>() {
+  private List<BlockCRF> getSortedCRF() {
+    List<BlockCRF> sortedCRF = mBlockIdToCRF.values();
+    Collections.sort(sortedCRF, new Comparator<BlockCRF>() {
       @Override
-      public int compare(Entry<Long, Double> o1, Entry<Long, Double> o2) {
-        return Double.compare(o1.getValue(), o2.getValue());
+      public int compare(BlockCRF o1, BlockCRF o2) {
+        return Double.compare(o1.mCRFValue, o2.mCRFValue);
       }
     });
     return sortedCRF;
@@ -172,8 +167,9 @@ public final class LRFUEvictor extends AbstractEvictor {
 
   @Override
   protected void onRemoveBlockFromIterator(long blockId) {
-    mBlockIdToLastUpdateTime.remove(blockId);
-    mBlockIdToCRFValue.remove(blockId);
+    synchronized (mBlockIdToCRF) {
+      mBlockIdToCRF.remove(blockId);
+    }
   }
 
   /**
@@ -182,57 +178,71 @@ public final class LRFUEvictor extends AbstractEvictor {
    * time, other blocks who are not accessed recently will only be updated until
    * {@link #freeSpaceWithView(long, BlockStoreLocation, BlockMetadataManagerView)} is called
    * because blocks need to be sorted in the increasing order of CRF. When this function is called,
-   * {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} need to be locked in case
-   * of the changing of values.
+   * {@link #mBlockIdToCRF} needs to be locked in case of the changing of values.
    */
   private void updateCRFValue() {
     long currentLogicTime = mLogicTimeCount.get();
-    for (Entry<Long, Double> entry : mBlockIdToCRFValue.entrySet()) {
-      long blockId = entry.getKey();
-      double crfValue = entry.getValue();
-      mBlockIdToCRFValue.put(blockId, crfValue
-          * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId)));
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
+    for (BlockCRF crf : mBlockIdToCRF.values()) {
+      crf.mCRFValue *= calculateAccessWeight(currentLogicTime - crf.mLastUpdateTime);
+      crf.mLastUpdateTime = currentLogicTime;
     }
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * accessed or committed. Only CRF of the accessed or committed block will be updated, CRF
-   * of other blocks will be lazily updated (only when {@link #updateCRFValue()} is called).
+   * Updates {@link #mBlockIdToCRF} when block is accessed or committed. Only CRF of the accessed
+   * or committed block will be updated, CRF of other blocks will be lazily updated (only when
+   * {@link #updateCRFValue()} is called).
    * If the block is updated at the first time, CRF of the block will be set to 1.0, otherwise
    * the CRF of the block will be set to {1.0 + old CRF * F(current time - last update time)}.
    *
    * @param blockId id of the block to be accessed or committed
    */
   private void updateOnAccessAndCommit(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
+    synchronized (mBlockIdToCRF) {
       long currentLogicTime = mLogicTimeCount.incrementAndGet();
       // update CRF value
       // CRF(currentLogicTime)=CRF(lastUpdateTime)*F(currentLogicTime-lastUpdateTime)+F(0)
-      if (mBlockIdToCRFValue.containsKey(blockId)) {
-        mBlockIdToCRFValue.put(blockId, mBlockIdToCRFValue.get(blockId)
-            * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId))
-            + 1.0);
+      BlockCRF crf = mBlockIdToCRF.get(blockId);
+      if (crf != null) {
+        crf.mCRFValue = crf.mCRFValue
+            * calculateAccessWeight(currentLogicTime - crf.mLastUpdateTime) + 1.0;
+        // update currentLogicTime to lastUpdateTime
+        crf.mLastUpdateTime = currentLogicTime;
       } else {
-        mBlockIdToCRFValue.put(blockId, 1.0);
+        mBlockIdToCRF.put(blockId, new BlockCRF(blockId, 1.0, currentLogicTime));
       }
-      // update currentLogicTime to lastUpdateTime
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
     }
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * removed.
+   * Updates {@link #mBlockIdToCRF} when block is removed.
    *
    * @param blockId id of the block to be removed
    */
   private void updateOnRemoveBlock(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
+    synchronized (mBlockIdToCRF) {
       mLogicTimeCount.incrementAndGet();
-      mBlockIdToCRFValue.remove(blockId);
-      mBlockIdToLastUpdateTime.remove(blockId);
+      mBlockIdToCRF.remove(blockId);
+    }
+  }
+
+  /**
+   * The CRF value of a block, and the logic time it was last updated at.
+   */
+  private static final class BlockCRF {
+    private final long mBlockId;
+    private double mCRFValue;
+    private long mLastUpdateTime;
+
+    /**
+     * @param blockId the block id
+     * @param crfValue the CRF value
+     * @param lastUpdateTime the logic time of the CRF value
+     */
+    BlockCRF(long blockId, double crfValue, long lastUpdateTime) {
+      mBlockId = blockId;
+      mCRFValue = crfValue;
+      mLastUpdateTime = lastUpdateTime;
     }
   }
 }
@@ -11,6 +11,7 @@
 
 package alluxio.worker.block.evictor;
 
+import alluxio.collections.LongLinkedHashSet;
 import alluxio.worker.block.BlockMetadataManagerView;
 import alluxio.worker.block.BlockStoreLocation;
 import alluxio.worker.block.allocator.Allocator;
@@ -19,11 +20,8 @@ import alluxio.worker.block.meta.StorageDirView;
 import alluxio.worker.block.meta.StorageTierView;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -33,19 +31,14 @@ import javax.annotation.concurrent.NotThreadSafe;
  */
 @NotThreadSafe
 public class LRUEvictor extends AbstractEvictor {
-  private static final int LINKED_HASH_MAP_INIT_CAPACITY = 200;
-  private static final float LINKED_HASH_MAP_INIT_LOAD_FACTOR = 0.75f;
-  private static final boolean LINKED_HASH_MAP_ACCESS_ORDERED = true;
-  private static final boolean UNUSED_MAP_VALUE = true;
+  private static final int LRU_CACHE_INIT_CAPACITY = 200;
 
   /**
-   * Access-ordered {@link java.util.LinkedHashMap} from blockId to {@link #UNUSED_MAP_VALUE}(just a
-   * placeholder to occupy the value), acts as a LRU double linked list where most recently accessed
-   * element is put at the tail while least recently accessed element is put at the head.
+   * Access-ordered set of block ids, acts as a LRU double linked list where most recently accessed
+   * element is put at the tail while least recently accessed element is put at the head. All
+   * accesses are synchronized on the set itself.
    */
-  protected Map<Long, Boolean> mLRUCache =
-      Collections.synchronizedMap(new LinkedHashMap<Long, Boolean>(LINKED_HASH_MAP_INIT_CAPACITY,
-          LINKED_HASH_MAP_INIT_LOAD_FACTOR, LINKED_HASH_MAP_ACCESS_ORDERED));
+  protected final LongLinkedHashSet mLRUCache = new LongLinkedHashSet(LRU_CACHE_INIT_CAPACITY);
 
   /**
    * Creates a new instance of {@link LRUEvictor}.
@@ -60,7 +53,7 @@ public class LRUEvictor extends AbstractEvictor {
     for (StorageTierView tierView : mManagerView.getTierViews()) {
       for (StorageDirView dirView : tierView.getDirViews()) {
         for (BlockMeta blockMeta : dirView.getEvictableBlocks()) { // all blocks with initial view
-          mLRUCache.put(blockMeta.getBlockId(), UNUSED_MAP_VALUE);
+          touch(blockMeta.getBlockId());
         }
       }
     }
@@ -68,33 +61,62 @@ public class LRUEvictor extends AbstractEvictor {
 
   @Override
   protected Iterator<Long> getBlockIterator() {
-    List<Long> blocks = new ArrayList<>(mLRUCache.keySet());
+    long[] blockIds;
+    synchronized (mLRUCache) {
+      blockIds = mLRUCache.toArray();
+    }
+    List<Long> blocks = new ArrayList<>(blockIds.length);
+    for (long blockId : blockIds) {
+      blocks.add(blockId);
+    }
     return blocks.iterator();
   }
 
   @Override
   public void onAccessBlock(long sessionId, long blockId) {
-    mLRUCache.put(blockId, UNUSED_MAP_VALUE);
+    touch(blockId);
   }
 
   @Override
   public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
     // Since the temp block has been committed, update Evictor about the new added blocks
-    mLRUCache.put(blockId, UNUSED_MAP_VALUE);
+    touch(blockId);
   }
 
   @Override
   public void onRemoveBlockByClient(long sessionId, long blockId) {
-    mLRUCache.remove(blockId);
+    remove(blockId);
   }
 
   @Override
   public void onRemoveBlockByWorker(long sessionId, long blockId) {
-    mLRUCache.remove(blockId);
+    remove(blockId);
   }
 
   @Override
   protected void onRemoveBlockFromIterator(long blockId) {
-    mLRUCache.remove(blockId);
+    remove(blockId);
+  }
+
+  /**
+   * Marks a block as the most recently used one.
+   *
+   * @param blockId the id of the block
+   */
+  private void touch(long blockId) {
+    synchronized (mLRUCache) {
+      mLRUCache.add(blockId);
+    }
+  }
+
+  /**
+   * Removes a block from the LRU list.
+   *
+   * @param blockId the id of the block
+   */
+  private void remove(long blockId) {
+    synchronized (mLRUCache) {
+      mLRUCache.remove(blockId);
+    }
   }
 }
@@ -11,7 +11,11 @@
 
 package alluxio.worker.block.meta;
 
+import alluxio.Constants;
+import alluxio.worker.block.io.BlockChecksum;
+
 import java.io.File;
+import java.io.IOException;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -54,4 +58,19 @@ public final class BlockMeta extends AbstractBlockMeta {
   public String getPath() {
     return commitPath(mDir, mBlockId);
   }
+
+  /**
+   * Reads the CRC32C checksum of the block from its checksum file.
+   *
+   * @return the checksum of the block, or {@link Constants#UNKNOWN_CHECKSUM} if the block has no
+   *         valid checksum file
+   */
+  public long getChecksum() {
+    try {
+      BlockChecksum checksum = BlockChecksum.readFrom(BlockChecksum.getPath(getPath()));
+      return checksum.getLength() == mBlockSize ? checksum.getValue() : Constants.UNKNOWN_CHECKSUM;
+    } catch (IOException e) {
+      return Constants.UNKNOWN_CHECKSUM;
+    }
+  }
 }
@@ -11,6 +11,8 @@
 
 package alluxio.worker.block.meta;
 
+import alluxio.collections.LongHashSet;
+import alluxio.collections.LongObjectHashMap;
 import alluxio.exception.BlockAlreadyExistsException;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
@@ -18,9 +20,9 @@ import alluxio.exception.InvalidWorkerStateException;
 import alluxio.exception.WorkerOutOfSpaceException;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.io.BlockChecksum;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,10 +30,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -46,11 +45,11 @@ public final class StorageDir {
 
   private final long mCapacityBytes;
   /** A map from block id to block metadata. */
-  private Map<Long, BlockMeta> mBlockIdToBlockMap;
+  private LongObjectHashMap<BlockMeta> mBlockIdToBlockMap;
   /** A map from block id to temp block metadata. */
-  private Map<Long, TempBlockMeta> mBlockIdToTempBlockMap;
+  private LongObjectHashMap<TempBlockMeta> mBlockIdToTempBlockMap;
   /** A map from session id to the set of temp blocks created by this session. */
-  private Map<Long, Set<Long>> mSessionIdToTempBlockIdsMap;
+  private LongObjectHashMap<LongHashSet> mSessionIdToTempBlockIdsMap;
   private AtomicLong mAvailableBytes;
   private AtomicLong mCommittedBytes;
   private String mDirPath;
@@ -64,9 +63,9 @@ public final class StorageDir {
     mAvailableBytes = new AtomicLong(capacityBytes);
     mCommittedBytes = new AtomicLong(0);
     mDirPath = dirPath;
-    mBlockIdToBlockMap = new HashMap<>(200);
-    mBlockIdToTempBlockMap = new HashMap<>(200);
-    mSessionIdToTempBlockIdsMap = new HashMap<>(200);
+    mBlockIdToBlockMap = new LongObjectHashMap<>(200);
+    mBlockIdToTempBlockMap = new LongObjectHashMap<>(200);
+    mSessionIdToTempBlockIdsMap = new LongObjectHashMap<>(200);
   }
 
   /**
@@ -97,7 +96,7 @@ public final class StorageDir {
    *
    * Only paths satisfying the contract defined in
    * {@link AbstractBlockMeta#commitPath(StorageDir, long)} are legal, should be in format like
-   * {dir}/{blockId}. other paths will be deleted.
+   * {dir}/{blockId}, or be the checksum files of such blocks. other paths will be deleted.
    *
    * @throws BlockAlreadyExistsException when metadata of existing committed blocks already exists
    * @throws WorkerOutOfSpaceException when metadata can not be added due to limited left space
@@ -121,6 +120,12 @@ public final class StorageDir {
         } catch (IOException e) {
           LOG.error("can not delete directory {}", path.getAbsolutePath(), e);
         }
+      } else if (path.getName().endsWith(BlockChecksum.FILE_SUFFIX)) {
+        String blockPath = path.getPath().substring(0,
+            path.getPath().length() - BlockChecksum.FILE_SUFFIX.length());
+        if (!new File(blockPath).isFile() && !path.delete()) {
+          LOG.error("can not delete checksum file {} without block", path.getAbsolutePath());
+        }
       } else {
         try {
           long blockId = Long.parseLong(path.getName());
@@ -199,7 +204,12 @@ public final class StorageDir {
    * @return a list of block ids
    */
   public List<Long> getBlockIds() {
-    return new ArrayList<>(mBlockIdToBlockMap.keySet());
+    long[] blockIds = mBlockIdToBlockMap.keys();
+    List<Long> result = new ArrayList<>(blockIds.length);
+    for (long blockId : blockIds) {
+      result.add(blockId);
+    }
+    return result;
   }
 
   /**
@@ -208,7 +218,7 @@ public final class StorageDir {
    * @return a list of blocks
    */
   public List<BlockMeta> getBlocks() {
-    return new ArrayList<>(mBlockIdToBlockMap.values());
+    return mBlockIdToBlockMap.values();
   }
 
   /**
@@ -305,12 +315,12 @@ public final class StorageDir {
     }
 
     mBlockIdToTempBlockMap.put(blockId, tempBlockMeta);
-    Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+    LongHashSet sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
     if (sessionTempBlocks == null) {
-      mSessionIdToTempBlockIdsMap.put(sessionId, Sets.newHashSet(blockId));
-    } else {
-      sessionTempBlocks.add(blockId);
+      sessionTempBlocks = new LongHashSet();
+      mSessionIdToTempBlockIdsMap.put(sessionId, sessionTempBlocks);
     }
+    sessionTempBlocks.add(blockId);
     reserveSpace(blockSize, false);
   }
 
@@ -344,7 +354,7 @@ public final class StorageDir {
     if (deletedTempBlockMeta == null) {
       throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_META_NOT_FOUND, blockId);
     }
-    Set<Long> sessionBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+    LongHashSet sessionBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
     if (sessionBlocks == null || !sessionBlocks.contains(blockId)) {
       throw new BlockDoesNotExistException(ExceptionMessage.BLOCK_NOT_FOUND_FOR_SESSION, blockId,
           mTier.getTierAlias(), sessionId);
@@ -382,12 +392,12 @@ public final class StorageDir {
    *        nonexistent blocks will be ignored
    */
   public void cleanupSessionTempBlocks(long sessionId, List<Long> tempBlockIds) {
-    Set<Long> sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
+    LongHashSet sessionTempBlocks = mSessionIdToTempBlockIdsMap.get(sessionId);
     // The session's temporary blocks have already been removed.
     if (sessionTempBlocks == null) {
       return;
     }
-    for (Long tempBlockId : tempBlockIds) {
+    for (long tempBlockId : tempBlockIds) {
       if (!mBlockIdToTempBlockMap.containsKey(tempBlockId)) {
         // This temp block does not exist in this dir, this is expected for some blocks since the
         // input list is across all dirs
@@ -418,13 +428,13 @@ public final class StorageDir {
    * @return A list of temporary blocks the session is associated with in this {@link StorageDir}
    */
   public List<TempBlockMeta> getSessionTempBlocks(long sessionId) {
-    Set<Long> sessionTempBlockIds = mSessionIdToTempBlockIdsMap.get(sessionId);
+    LongHashSet sessionTempBlockIds = mSessionIdToTempBlockIdsMap.get(sessionId);
 
     if (sessionTempBlockIds == null || sessionTempBlockIds.isEmpty()) {
       return Collections.emptyList();
     }
     List<TempBlockMeta> sessionTempBlocks = new ArrayList<>();
-    for (long blockId : sessionTempBlockIds) {
+    for (long blockId : sessionTempBlockIds.toArray()) {
       sessionTempBlocks.add(mBlockIdToTempBlockMap.get(blockId));
     }
     return sessionTempBlocks;
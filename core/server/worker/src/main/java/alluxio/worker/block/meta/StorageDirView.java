@@ -11,15 +11,14 @@
 
 package alluxio.worker.block.meta;
 
+import alluxio.collections.LongHashSet;
 import alluxio.worker.block.BlockMetadataManagerView;
 import alluxio.worker.block.BlockStoreLocation;
 
 import com.google.common.base.Preconditions;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -39,8 +38,8 @@ public final class StorageDirView {
 
   // The below data structures are used by the evictor to mark blocks to move in/out during
   // generating an eviction plan.
-  private final Set<Long> mBlocksToMoveIn = new HashSet<>();
-  private final Set<Long> mBlocksToMoveOut = new HashSet<>();
+  private final LongHashSet mBlocksToMoveIn = new LongHashSet();
+  private final LongHashSet mBlocksToMoveOut = new LongHashSet();
   private long mBlocksToMoveInSize = 0L;
   private long mBlocksToMoveOutSize = 0L;
 
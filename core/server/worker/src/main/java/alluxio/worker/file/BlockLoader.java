@@ -0,0 +1,276 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.file;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.WorkerStorageTierAssoc;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.proto.dataserver.Protocol;
+import alluxio.thrift.LoadBlock;
+import alluxio.util.IdUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.wire.ThriftUtils;
+import alluxio.wire.WorkerNetAddress;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockWriter;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Loads the blocks of distributed loads from the under storage into the local block store, with
+ * at most {@link PropertyKey#WORKER_FILE_LOAD_POOL_SIZE} blocks being loaded at the same time. A
+ * block with a source worker, such as a replica of a hot block, is copied from that worker first,
+ * and loaded from the under storage if the copy fails.
+ * The blocks which are loaded or fail to load are reported to the master in the next heartbeat,
+ * along with the blocks still being loaded.
+ */
+@ThreadSafe
+public final class BlockLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(BlockLoader.class);
+
+  /** The size of the buffer used to read a block from the under storage. */
+  private static final int BUFFER_SIZE = 4 * Constants.MB;
+
+  private final BlockWorker mBlockWorker;
+  private final ExecutorService mLoadBlockService;
+  /** An object storing the mapping of tier aliases to ordinals. */
+  private final WorkerStorageTierAssoc mStorageTierAssoc = new WorkerStorageTierAssoc();
+
+  private final Object mLock = new Object();
+  /** The blocks being loaded. */
+  @GuardedBy("mLock")
+  private final Set<Long> mLoadingBlocks = new HashSet<>();
+  /** The blocks loaded, but not reported to the master yet. */
+  @GuardedBy("mLock")
+  private final Set<Long> mLoadedBlocks = new HashSet<>();
+  /** The blocks which failed to load, but not reported to the master yet. */
+  @GuardedBy("mLock")
+  private final Set<Long> mFailedBlocks = new HashSet<>();
+
+  /**
+   * Creates a new instance of {@link BlockLoader}.
+   *
+   * @param blockWorker the block worker
+   */
+  public BlockLoader(BlockWorker blockWorker) {
+    mBlockWorker = Preconditions.checkNotNull(blockWorker, "blockWorker");
+    mLoadBlockService = Executors.newFixedThreadPool(
+        Configuration.getInt(PropertyKey.WORKER_FILE_LOAD_POOL_SIZE),
+        ThreadFactoryUtils.build("load-block-service-%d", true));
+  }
+
+  /**
+   * Starts loading the given blocks. The blocks which are already being loaded are ignored.
+   *
+   * @param blocks the blocks to load
+   */
+  public void load(List<LoadBlock> blocks) {
+    for (LoadBlock block : blocks) {
+      synchronized (mLock) {
+        if (!mLoadingBlocks.add(block.getBlockId())) {
+          continue;
+        }
+      }
+      mLoadBlockService.execute(new BlockLoadTask(block));
+    }
+  }
+
+  /**
+   * @return the blocks being loaded
+   */
+  public List<Long> getLoadingBlocks() {
+    synchronized (mLock) {
+      return ImmutableList.copyOf(mLoadingBlocks);
+    }
+  }
+
+  /**
+   * @return the blocks loaded since they were last cleared
+   */
+  public List<Long> getLoadedBlocks() {
+    synchronized (mLock) {
+      return ImmutableList.copyOf(mLoadedBlocks);
+    }
+  }
+
+  /**
+   * @return the blocks which failed to load since they were last cleared
+   */
+  public List<Long> getFailedBlocks() {
+    synchronized (mLock) {
+      return ImmutableList.copyOf(mFailedBlocks);
+    }
+  }
+
+  /**
+   * Clears the blocks which have been reported to the master.
+   *
+   * @param loadedBlocks the loaded blocks to clear
+   * @param failedBlocks the failed blocks to clear
+   */
+  public void clearReportedBlocks(List<Long> loadedBlocks, List<Long> failedBlocks) {
+    synchronized (mLock) {
+      mLoadedBlocks.removeAll(loadedBlocks);
+      mFailedBlocks.removeAll(failedBlocks);
+    }
+  }
+
+  /**
+   * Stops loading blocks.
+   */
+  public void close() {
+    mLoadBlockService.shutdownNow();
+  }
+
+  /**
+   * Copies a block from its source worker if it has one, or reads it from the under storage,
+   * which caches it in the local block store.
+   *
+   * @param block the block to load
+   * @return whether the block is in the local block store
+   */
+  private boolean loadBlock(LoadBlock block) throws Exception {
+    long blockId = block.getBlockId();
+    if (mBlockWorker.hasBlockMeta(blockId)) {
+      return true;
+    }
+    if (block.isSetSourceAddress()) {
+      WorkerNetAddress source = ThriftUtils.fromThrift(block.getSourceAddress());
+      try {
+        copyBlock(block, source);
+        return true;
+      } catch (Exception e) {
+        LOG.info("Failed to copy block {} from worker {}, loading it from {}: {}", blockId,
+            source, block.getUfsPath(), e.getMessage());
+      }
+    }
+    long sessionId = IdUtils.createSessionId();
+    Protocol.OpenUfsBlockOptions options = Protocol.OpenUfsBlockOptions.newBuilder()
+        .setUfsPath(block.getUfsPath()).setOffsetInFile(block.getOffsetInFile())
+        .setBlockSize(block.getBlockSize()).setMountId(block.getMountId())
+        .setMaxUfsReadConcurrency(Integer.MAX_VALUE).setNoCache(false).build();
+    try {
+      if (!mBlockWorker.openUfsBlock(sessionId, blockId, options)) {
+        return false;
+      }
+      try {
+        BlockReader reader = mBlockWorker.readUfsBlock(sessionId, blockId, 0);
+        ByteBuf buf = Unpooled.buffer((int) Math.min(BUFFER_SIZE, block.getBlockSize()));
+        try {
+          // The block is cached while it is read sequentially to the end.
+          do {
+            buf.clear();
+          } while (reader.transferTo(buf) != -1);
+        } finally {
+          buf.release();
+        }
+      } finally {
+        mBlockWorker.closeUfsBlock(sessionId, blockId);
+      }
+    } finally {
+      mBlockWorker.cleanupSession(sessionId);
+    }
+    // The block is not cached if another session is caching it, or the worker is out of space.
+    return mBlockWorker.hasBlockMeta(blockId);
+  }
+
+  /**
+   * Copies a block from another worker into the local block store.
+   *
+   * @param block the block to copy
+   * @param source the address of the worker to copy the block from
+   */
+  private void copyBlock(LoadBlock block, WorkerNetAddress source) throws Exception {
+    long blockId = block.getBlockId();
+    long sessionId = IdUtils.createSessionId();
+    try {
+      mBlockWorker.createBlockRemote(sessionId, blockId, mStorageTierAssoc.getAlias(0),
+          block.getBlockSize());
+      boolean committed = false;
+      try {
+        try (BlockInStream in = BlockInStream.create(FileSystemContext.INSTANCE, blockId,
+            block.getBlockSize(), source, null, InStreamOptions.defaults());
+            BlockWriter writer = mBlockWorker.getTempBlockWriterRemote(sessionId, blockId)) {
+          byte[] buf = new byte[(int) Math.max(Math.min(BUFFER_SIZE, block.getBlockSize()), 1)];
+          int read;
+          while ((read = in.read(buf)) != -1) {
+            writer.append(ByteBuffer.wrap(buf, 0, read));
+          }
+        }
+        mBlockWorker.commitBlock(sessionId, blockId);
+        committed = true;
+      } finally {
+        if (!committed) {
+          mBlockWorker.abortBlock(sessionId, blockId);
+        }
+      }
+    } finally {
+      mBlockWorker.cleanupSession(sessionId);
+    }
+  }
+
+  /**
+   * Loads a block and records the result.
+   */
+  private final class BlockLoadTask implements Runnable {
+    private final LoadBlock mBlock;
+
+    /**
+     * @param block the block to load
+     */
+    BlockLoadTask(LoadBlock block) {
+      mBlock = block;
+    }
+
+    @Override
+    public void run() {
+      boolean loaded = false;
+      try {
+        loaded = loadBlock(mBlock);
+        if (!loaded) {
+          LOG.warn("Block {} of {} was not cached", mBlock.getBlockId(), mBlock.getUfsPath());
+        }
+      } catch (Exception e) {
+        LOG.warn("Failed to load block {} of {}: {}", mBlock.getBlockId(), mBlock.getUfsPath(),
+            e.getMessage());
+      }
+      synchronized (mLock) {
+        mLoadingBlocks.remove(mBlock.getBlockId());
+        if (loaded) {
+          mLoadedBlocks.add(mBlock.getBlockId());
+        } else {
+          mFailedBlocks.add(mBlock.getBlockId());
+        }
+      }
+    }
+  }
+}
@@ -16,7 +16,6 @@ import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.Server;
 import alluxio.heartbeat.HeartbeatContext;
-import alluxio.heartbeat.HeartbeatThread;
 import alluxio.thrift.FileSystemWorkerClientService;
 import alluxio.underfs.UfsManager;
 import alluxio.util.CommonUtils;
@@ -61,6 +60,9 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
   /** This worker's worker ID. May be updated by another thread if worker re-registration occurs. */
   private final AtomicReference<Long> mWorkerId;
 
+  /** Logic for loading blocks from the under storage. */
+  private final BlockLoader mBlockLoader;
+
   /** The service that persists files. */
   private Future<?> mFilePersistenceService;
   /** Handler to the ufs manager. */
@@ -80,6 +82,7 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
     mFileDataManager = new FileDataManager(Preconditions.checkNotNull(blockWorker, "blockWorker"),
         RateLimiter.create(Configuration.getBytes(PropertyKey.WORKER_FILE_PERSIST_RATE_LIMIT)),
         mUfsManager);
+    mBlockLoader = new BlockLoader(blockWorker);
 
     // Setup AbstractMasterClient
     mFileSystemMasterWorkerClient = new FileSystemMasterClient(
@@ -108,18 +111,15 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
 
   @Override
   public void start(WorkerNetAddress address) {
-    mFilePersistenceService = getExecutorService().submit(
-        new HeartbeatThread(HeartbeatContext.WORKER_FILESYSTEM_MASTER_SYNC,
-            new FileWorkerMasterSyncExecutor(mFileDataManager, mFileSystemMasterWorkerClient,
-                mWorkerId),
-            (int) Configuration.getMs(PropertyKey.WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS)));
+    mFilePersistenceService = startHeartbeat(HeartbeatContext.WORKER_FILESYSTEM_MASTER_SYNC,
+        new FileWorkerMasterSyncExecutor(mFileDataManager, mBlockLoader,
+            mFileSystemMasterWorkerClient, mWorkerId),
+        Configuration.getMs(PropertyKey.WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS));
   }
 
   @Override
   public void stop() {
-    if (mFilePersistenceService != null) {
-      mFilePersistenceService.cancel(true);
-    }
+    stopHeartbeats();
     // The executor shutdown needs to be done in a loop with retry because the interrupt
     // signal can sometimes be ignored.
     CommonUtils.waitFor("file system worker executor shutdown", new Function<Void, Boolean>() {
@@ -16,7 +16,9 @@ import alluxio.PropertyKey;
 import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.thrift.FileSystemHeartbeatTOptions;
 import alluxio.thrift.PersistFile;
+import alluxio.underfs.UfsPriority;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.worker.block.BlockMasterSync;
 
@@ -37,7 +39,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * {@link FileSystemMasterClient}.
  *
  * When running, this class pulls from the master to check which file to persist for async
- * persistence.
+ * persistence, and which blocks to load for distributed loads.
  *
  * If the task fails to heartbeat to the master, it will destroy its old master client and recreate
  * it before retrying.
@@ -54,6 +56,8 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
   private final FileSystemMasterClient mMasterClient;
   /** The thread pool to persist file. */
   private final ExecutorService mPersistFileService;
+  /** Logic for loading blocks from the under storage. */
+  private final BlockLoader mBlockLoader;
   /** This worker's id. May be updated by other threads if worker re-registration occurs. */
   private final AtomicReference<Long> mWorkerId;
 
@@ -61,12 +65,14 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
    * Creates a new instance of {@link FileWorkerMasterSyncExecutor}.
    *
    * @param fileDataManager a {@link FileDataManager} handle
+   * @param blockLoader a {@link BlockLoader} handle
    * @param masterClient a {@link FileSystemMasterClient}
    * @param workerId a reference to the id for this worker
    */
-  public FileWorkerMasterSyncExecutor(FileDataManager fileDataManager,
+  public FileWorkerMasterSyncExecutor(FileDataManager fileDataManager, BlockLoader blockLoader,
       FileSystemMasterClient masterClient, AtomicReference<Long> workerId) {
     mFileDataManager = Preconditions.checkNotNull(fileDataManager, "fileDataManager");
+    mBlockLoader = Preconditions.checkNotNull(blockLoader, "blockLoader");
     mMasterClient = Preconditions.checkNotNull(masterClient, "masterClient");
     mWorkerId = Preconditions.checkNotNull(workerId, "workerId");
     mPersistFileService = Executors.newFixedThreadPool(
@@ -81,22 +87,34 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
       LOG.info("files {} persisted", persistedFiles);
     }
 
+    // The blocks being loaded are listed first, so that a block which finishes in the meantime is
+    // in one of the lists. The master reassigns the blocks it sent which are in none of them.
+    List<Long> loadingBlocks = mBlockLoader.getLoadingBlocks();
+    List<Long> loadedBlocks = mBlockLoader.getLoadedBlocks();
+    List<Long> failedBlocks = mBlockLoader.getFailedBlocks();
+
     FileSystemCommand command;
     try {
-      command = mMasterClient.heartbeat(mWorkerId.get(), persistedFiles);
+      command = mMasterClient.heartbeat(mWorkerId.get(), persistedFiles,
+          new FileSystemHeartbeatTOptions().setLoadedBlocks(loadedBlocks)
+              .setFailedBlocks(failedBlocks).setLoadingBlocks(loadingBlocks));
     } catch (Exception e) {
       LOG.error("Failed to heartbeat to master", e);
       return;
     }
 
-    // removes the persisted files that are confirmed
+    // removes the persisted files and loaded blocks that are confirmed
     mFileDataManager.clearPersistedFiles(persistedFiles);
+    mBlockLoader.clearReportedBlocks(loadedBlocks, failedBlocks);
 
     if (command == null) {
       LOG.error("The command sent from master is null");
       return;
+    } else if (command.getCommandType() == CommandType.Load) {
+      mBlockLoader.load(command.getCommandOptions().getLoadOptions().getLoadBlocks());
+      return;
     } else if (command.getCommandType() != CommandType.Persist) {
-      LOG.error("The command sent from master should be PERSIST type, but was {}",
+      LOG.error("The command sent from master should be PERSIST or LOAD type, but was {}",
           command.getCommandType());
       return;
     }
@@ -112,6 +130,7 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
   @Override
   public void close() {
     mPersistFileService.shutdown();
+    mBlockLoader.close();
   }
 
   /**
@@ -137,6 +156,16 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
 
     @Override
     public void run() {
+      // No client waits for the asynchronous persistence.
+      UfsPriority previous = UfsPriority.set(UfsPriority.BACKGROUND);
+      try {
+        persist();
+      } finally {
+        UfsPriority.set(previous);
+      }
+    }
+
+    private void persist() {
       if (mFileDataManager.needPersistence(mFileId)) {
         // lock all the blocks of the file to prevent eviction
         try {
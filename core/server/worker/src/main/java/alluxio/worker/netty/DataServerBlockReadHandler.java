@@ -34,6 +34,7 @@ import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.UnderFileSystemBlockReader;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.LocalFileBlockReader;
+import alluxio.worker.block.meta.StorageDir;
 
 import com.codahale.metrics.Counter;
 import io.netty.buffer.ByteBuf;
@@ -43,6 +44,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -57,6 +59,8 @@ final class DataServerBlockReadHandler extends DataServerReadHandler {
   private static final long UFS_BLOCK_OPEN_TIMEOUT_MS = Configuration.getMs(
       PropertyKey.WORKER_UFS_BLOCK_OPEN_TIMEOUT_MS);
 
+  /** The scheduler of the reads of blocks in Alluxio storage. */
+  private final DiskIoScheduler mDiskIoScheduler;
   /** The Block Worker. */
   private final BlockWorker mWorker;
   /** The transfer type used by the data server. */
@@ -123,12 +127,15 @@ final class DataServerBlockReadHandler extends DataServerReadHandler {
    * Creates an instance of {@link DataServerReadHandler}.
    *
    * @param executorService the executor service to run {@link PacketReader}s
+   * @param diskIoScheduler the scheduler of the reads of blocks in Alluxio storage
    * @param blockWorker the block worker
    * @param fileTransferType the file transfer type
    */
-  public DataServerBlockReadHandler(ExecutorService executorService, BlockWorker blockWorker,
+  public DataServerBlockReadHandler(ExecutorService executorService,
+      DiskIoScheduler diskIoScheduler, BlockWorker blockWorker,
       FileTransferType fileTransferType) {
     super(executorService);
+    mDiskIoScheduler = diskIoScheduler;
     mWorker = blockWorker;
     mTransferType = fileTransferType;
   }
@@ -138,6 +145,18 @@ final class DataServerBlockReadHandler extends DataServerReadHandler {
     mRequest = new BlockReadRequestInternal(request);
   }
 
+  @Override
+  protected Executor getPacketReaderExecutor() {
+    BlockReadRequestInternal request = (BlockReadRequestInternal) mRequest;
+    StorageDir dir = null;
+    // Reads from the UFS stay on the shared executor, even if the block is being cached.
+    if (!(request.mBlockReader instanceof UnderFileSystemBlockReader)) {
+      dir = mWorker.getVolatileBlockDir(request.mSessionId, request.mId);
+    }
+    return mDiskIoScheduler.getExecutor(dir, DiskIoScheduler.IoType.READ,
+        super.getPacketReaderExecutor());
+  }
+
   @Override
   protected DataBuffer getDataBuffer(Channel channel, long offset, int len) throws Exception {
     openBlock(channel);
@@ -229,7 +248,7 @@ final class DataServerBlockReadHandler extends DataServerReadHandler {
               .build());
       // Sends an empty buffer to the client to make sure that the client does not timeout when
       // the server is waiting for the UFS block access.
-      channel.writeAndFlush(new RPCProtoMessage(heartbeat));
+      channel.writeAndFlush(new RPCProtoMessage(heartbeat).withStreamId(mStreamId));
     } while (retryPolicy.attemptRetry());
     throw new UnavailableException(ExceptionMessage.UFS_BLOCK_ACCESS_TOKEN_UNAVAILABLE
         .getMessage(request.mId, request.mOpenUfsBlockOptions.getUfsPath()));
@@ -21,6 +21,7 @@ import alluxio.proto.dataserver.Protocol;
 import alluxio.util.CommonUtils;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.io.BlockWriter;
+import alluxio.worker.block.meta.StorageDir;
 
 import com.codahale.metrics.Counter;
 import com.google.common.base.Preconditions;
@@ -28,7 +29,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 
 import java.io.IOException;
-import java.nio.channels.GatheringByteChannel;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -42,6 +43,8 @@ public final class DataServerBlockWriteHandler extends DataServerWriteHandler {
   private static final long FILE_BUFFER_SIZE = Configuration.getBytes(
       PropertyKey.WORKER_FILE_BUFFER_SIZE);
 
+  /** The scheduler of the writes of blocks in Alluxio storage. */
+  private final DiskIoScheduler mDiskIoScheduler;
   /** The Block Worker which handles blocks stored in the Alluxio storage of the worker. */
   private final BlockWorker mWorker;
   /** An object storing the mapping of tier aliases to ordinals. */
@@ -94,10 +97,13 @@ public final class DataServerBlockWriteHandler extends DataServerWriteHandler {
    * Creates an instance of {@link DataServerBlockWriteHandler}.
    *
    * @param executorService the executor service to run {@link PacketWriter}s
+   * @param diskIoScheduler the scheduler of the writes of blocks in Alluxio storage
    * @param blockWorker the block worker
    */
-  DataServerBlockWriteHandler(ExecutorService executorService, BlockWorker blockWorker) {
+  DataServerBlockWriteHandler(ExecutorService executorService, DiskIoScheduler diskIoScheduler,
+      BlockWorker blockWorker) {
     super(executorService);
+    mDiskIoScheduler = diskIoScheduler;
     mWorker = blockWorker;
   }
 
@@ -123,6 +129,15 @@ public final class DataServerBlockWriteHandler extends DataServerWriteHandler {
     }
   }
 
+  @Override
+  protected Executor getPacketWriterExecutor() {
+    WriteRequestInternal request = mRequest;
+    StorageDir dir =
+        request == null ? null : mWorker.getVolatileBlockDir(request.mSessionId, request.mId);
+    return mDiskIoScheduler.getExecutor(dir, DiskIoScheduler.IoType.WRITE,
+        super.getPacketWriterExecutor());
+  }
+
   @Override
   protected void writeBuf(Channel channel, ByteBuf buf, long pos) throws Exception {
     if (mBytesReserved < pos) {
@@ -136,9 +151,9 @@ public final class DataServerBlockWriteHandler extends DataServerWriteHandler {
       request.mBlockWriter = mWorker.getTempBlockWriterRemote(request.mSessionId, request.mId);
       request.mCounter = MetricsSystem.workerCounter("BytesWrittenAlluxio");
     }
-    GatheringByteChannel outputChannel = request.mBlockWriter.getChannel();
-    int sz = buf.readableBytes();
-    Preconditions.checkState(buf.readBytes(outputChannel, sz) == sz);
+    // Transfer through the writer rather than its channel so that it computes the checksums.
+    request.mBlockWriter.transferFrom(buf);
+    Preconditions.checkState(!buf.isReadable());
   }
 
   @Override
@@ -0,0 +1,179 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.network.protocol.RPCProtoMessage;
+import alluxio.proto.dataserver.Protocol;
+import alluxio.underfs.UfsManager;
+import alluxio.util.proto.ProtoMessage;
+import alluxio.worker.block.BlockWorker;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Demultiplexes the read and write requests of the streams multiplexed on a channel. Each stream
+ * is served by its own {@link DataServerReadHandler} or {@link DataServerWriteHandler}, which is
+ * created when the first request of the stream is received and dropped once the last response of
+ * the stream is sent. The messages without a stream id are passed on to the next handlers, so
+ * channels which are not multiplexed are served as before.
+ */
+@ThreadSafe
+final class DataServerDemuxHandler extends ChannelDuplexHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(DataServerDemuxHandler.class);
+
+  private final BlockWorker mBlockWorker;
+  private final UfsManager mUfsManager;
+  private final FileTransferType mFileTransferType;
+
+  /** Maps from stream id to the handler of the stream. */
+  private final Map<Long, ChannelHandler> mStreams = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an instance of {@link DataServerDemuxHandler}.
+   *
+   * @param blockWorker the block worker
+   * @param ufsManager the UFS manager
+   * @param fileTransferType the file transfer type
+   */
+  DataServerDemuxHandler(BlockWorker blockWorker, UfsManager ufsManager,
+      FileTransferType fileTransferType) {
+    mBlockWorker = blockWorker;
+    mUfsManager = ufsManager;
+    mFileTransferType = fileTransferType;
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object object) throws Exception {
+    if (!(object instanceof RPCProtoMessage)
+        || ((RPCProtoMessage) object).getStreamId() == RPCProtoMessage.NO_STREAM) {
+      ctx.fireChannelRead(object);
+      return;
+    }
+    RPCProtoMessage msg = (RPCProtoMessage) object;
+    long streamId = msg.getStreamId();
+    ChannelHandler handler = mStreams.get(streamId);
+    if (handler == null) {
+      handler = createHandler(msg);
+      if (handler == null) {
+        // This happens when a cancel or credits are sent after the stream has completed.
+        LOG.debug("Dropping message {} of unknown stream {}.", msg, streamId);
+        release(msg);
+        return;
+      }
+      mStreams.put(streamId, handler);
+    }
+    if (handler instanceof DataServerReadHandler
+        && ((DataServerReadHandler) handler).acceptMessage(msg)) {
+      ((DataServerReadHandler) handler).channelRead(ctx, msg);
+    } else if (handler instanceof DataServerWriteHandler
+        && ((DataServerWriteHandler) handler).acceptMessage(msg)) {
+      ((DataServerWriteHandler) handler).channelRead(ctx, msg);
+    } else {
+      LOG.warn("Dropping message {} which does not match stream {}.", msg, streamId);
+      release(msg);
+    }
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
+      throws Exception {
+    if (msg instanceof RPCProtoMessage && isLastResponse((RPCProtoMessage) msg)) {
+      mStreams.remove(((RPCProtoMessage) msg).getStreamId());
+    }
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    if (!mStreams.isEmpty()) {
+      // The channel can not be trusted anymore, closing it aborts all the streams.
+      LOG.error("Exception caught on a channel with {} streams, closing it.", mStreams.size(),
+          cause);
+      ctx.close();
+    }
+    ctx.fireExceptionCaught(cause);
+  }
+
+  @Override
+  public void channelUnregistered(ChannelHandlerContext ctx) {
+    for (ChannelHandler handler : mStreams.values()) {
+      if (handler instanceof DataServerReadHandler) {
+        ((DataServerReadHandler) handler).channelClosed(ctx.channel());
+      } else {
+        ((DataServerWriteHandler) handler).channelClosed(ctx.channel());
+      }
+    }
+    mStreams.clear();
+    ctx.fireChannelUnregistered();
+  }
+
+  /**
+   * Creates the handler of a stream for the first request of the stream.
+   *
+   * @param msg the request
+   * @return the handler, or null if the request does not start a stream
+   */
+  private ChannelHandler createHandler(RPCProtoMessage msg) {
+    ProtoMessage message = msg.getMessage();
+    if (message.isReadRequest()) {
+      Protocol.ReadRequest request = message.asReadRequest();
+      if (request.getCancel() || DataServerReadHandler.isCreditGrant(request)) {
+        return null;
+      }
+      return new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR,
+          NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker, mFileTransferType);
+    }
+    if (message.isWriteRequest() && message.asWriteRequest().getOffset() == 0) {
+      DataServerWriteHandler handler = new DataServerBlockWriteHandler(
+          NettyExecutors.BLOCK_WRITER_EXECUTOR, NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker);
+      if (handler.acceptMessage(msg)) {
+        return handler;
+      }
+      handler = new DataServerUfsFileWriteHandler(NettyExecutors.FILE_WRITER_EXECUTOR, mUfsManager);
+      if (handler.acceptMessage(msg)) {
+        return handler;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param msg a message sent on the channel
+   * @return true if the message is the last response of a stream
+   */
+  private static boolean isLastResponse(RPCProtoMessage msg) {
+    ProtoMessage message = msg.getMessage();
+    return message.isResponse() && message.asResponse().getStreamId() != RPCProtoMessage.NO_STREAM
+        && !message.asResponse().hasCredits() && !msg.hasPayload();
+  }
+
+  /**
+   * Releases the data of a dropped message.
+   *
+   * @param msg the message
+   */
+  private static void release(RPCProtoMessage msg) {
+    if (msg.getPayloadDataBuffer() != null) {
+      msg.getPayloadDataBuffer().release();
+    }
+  }
+}
@@ -16,6 +16,9 @@ import alluxio.PropertyKey;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.InternalException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCProtoMessage;
 import alluxio.network.protocol.databuffer.DataBuffer;
@@ -23,6 +26,7 @@ import alluxio.proto.dataserver.Protocol;
 import alluxio.resource.LockResource;
 import alluxio.util.IdUtils;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -34,7 +38,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -49,6 +55,9 @@ import javax.annotation.concurrent.NotThreadSafe;
  * 2. The {@link PacketReader} pauses if there are too many packets in flight, and resumes if there
  *    is room available.
  * 3. The channel is closed if there is any exception during the packet read/write.
+ * 4. On a multiplexed channel, the handler serves a single stream and tags its responses with the
+ *    stream id. The packet reader also pauses when the client has run out of credits, and resumes
+ *    when the client grants more. An error only fails the stream, the channel is kept open.
  *
  * Threading model:
  * Only two threads are involved at a given point of time: netty I/O thread, packet reader thread.
@@ -87,6 +96,9 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
   /** The next pos to write to the channel. */
   @GuardedBy("mLock")
   private long mPosToWrite;
+  /** The number of packets the client of a multiplexed stream is still ready to receive. */
+  @GuardedBy("mLock")
+  private long mCredits;
 
   /**
    * mEof, mCancel and mError are the notifications processed by the packet reader thread. They can
@@ -142,12 +154,19 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
    */
   protected volatile ReadRequestInternal mRequest;
 
+  /** The id of the stream of the request, {@link RPCProtoMessage#NO_STREAM} if not multiplexed. */
+  protected volatile long mStreamId = RPCProtoMessage.NO_STREAM;
+
   abstract class ReadRequestInternal implements Closeable {
     final long mId;
     final long mStart;
     final long mEnd;
     final long mPacketSize;
     final long mSessionId;
+    /** The time in milliseconds when the request was received. */
+    final long mStartTimeMs;
+    /** The {@link System#nanoTime()} when the request was received. */
+    final long mStartTimeNanos;
 
     ReadRequestInternal(long id, long start, long end, long packetSize) {
       mId = id;
@@ -155,6 +174,14 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
       mEnd = end;
       mPacketSize = packetSize;
       mSessionId = IdUtils.createSessionId();
+      mStartTimeMs = System.currentTimeMillis();
+      mStartTimeNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+      return Objects.toStringHelper(this).add("id", mId).add("start", mStart).add("end", mEnd)
+          .add("packetSize", mPacketSize).add("sessionId", mSessionId).toString();
     }
   }
 
@@ -169,12 +196,20 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
 
   @Override
   public void channelUnregistered(ChannelHandlerContext ctx) {
-    // The channel is closed so the client cannot receive this message.
-    setError(ctx.channel(),
-        new Error(new InternalException("Channel has been unregistered"), false));
+    channelClosed(ctx.channel());
     ctx.fireChannelUnregistered();
   }
 
+  /**
+   * Aborts the request because the channel is closed.
+   *
+   * @param channel the channel
+   */
+  void channelClosed(Channel channel) {
+    // The channel is closed so the client cannot receive this message.
+    setError(channel, new Error(new InternalException("Channel has been unregistered"), false));
+  }
+
   @Override
   public void channelRead(ChannelHandlerContext ctx, Object object) throws Exception {
     if (!acceptMessage(object)) {
@@ -186,8 +221,13 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
       setCancel(ctx.channel());
       return;
     }
+    if (isCreditGrant(msg)) {
+      addCredits(ctx.channel(), msg.getCredits());
+      return;
+    }
 
     reset();
+    mStreamId = msg.getStreamId();
     try {
       validateReadRequest(msg);
     } catch (InvalidArgumentException e) {
@@ -199,9 +239,10 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
     try (LockResource lr = new LockResource(mLock)) {
       mPosToQueue = mRequest.mStart;
       mPosToWrite = mRequest.mStart;
+      mCredits = mStreamId != RPCProtoMessage.NO_STREAM && msg.hasCredits() ? msg.getCredits()
+          : Long.MAX_VALUE;
 
-      mPacketReaderExecutor.submit(new PacketReader(ctx.channel()));
-      mPacketReaderActive = true;
+      startPacketReader(ctx.channel());
     }
   }
 
@@ -216,7 +257,59 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
    */
   @GuardedBy("mLock")
   private boolean tooManyPendingPackets() {
-    return mPosToQueue - mPosToWrite >= MAX_PACKETS_IN_FLIGHT * mRequest.mPacketSize;
+    return mPosToQueue - mPosToWrite >= MAX_PACKETS_IN_FLIGHT * mRequest.mPacketSize
+        || mCredits <= 0;
+  }
+
+  /**
+   * @return true if we should restart the packet reader
+   */
+  @GuardedBy("mLock")
+  private boolean shouldRestartPacketReader() {
+    return !mPacketReaderActive && !tooManyPendingPackets() && mPosToQueue < mRequest.mEnd
+        && mError == null && !mCancel && !mEof;
+  }
+
+  /**
+   * @param request a read request
+   * @return true if the request only grants credits to a multiplexed stream
+   */
+  static boolean isCreditGrant(Protocol.ReadRequest request) {
+    return request.hasCredits() && !request.hasLength() && !request.getCancel();
+  }
+
+  /**
+   * Adds the credits granted by the client of a multiplexed stream.
+   *
+   * @param channel the channel
+   * @param credits the number of packets granted
+   */
+  private void addCredits(Channel channel, int credits) {
+    try (LockResource lr = new LockResource(mLock)) {
+      if (mRequest == null) {
+        return;
+      }
+      mCredits += credits;
+      if (shouldRestartPacketReader()) {
+        startPacketReader(channel);
+      }
+    }
+  }
+
+  /**
+   * Starts a {@link PacketReader} to read more packets of the request, or fails the request if the
+   * reader can not be scheduled.
+   *
+   * @param channel the channel
+   */
+  @GuardedBy("mLock")
+  private void startPacketReader(Channel channel) {
+    try {
+      getPacketReaderExecutor().execute(new PacketReader(channel));
+      mPacketReaderActive = true;
+    } catch (RejectedExecutionException e) {
+      setError(channel, new Error(new ResourceExhaustedException(e.getMessage(), e), true));
+    }
   }
 
   /**
@@ -294,6 +387,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
       Preconditions.checkState(mPacketReaderActive == false);
       mPosToQueue = 0;
       mPosToWrite = 0;
+      mCredits = 0;
       mEof = false;
       mCancel = false;
       mError = null;
@@ -316,6 +410,16 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
     return message.getType() == RPCMessage.Type.RPC_READ_REQUEST;
   }
 
+  /**
+   * Gets the executor to read the packets of the current request on. Replies which end the
+   * request run on the executor service of the handler instead, so that they are never rejected.
+   *
+   * @return the executor
+   */
+  protected Executor getPacketReaderExecutor() {
+    return mPacketReaderExecutor;
+  }
+
   /**
    * Initializes the handler for the given block read request.
    *
@@ -370,20 +474,10 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
         mPosToWrite = mPosToWriteUncommitted;
 
         if (shouldRestartPacketReader()) {
-          mPacketReaderExecutor.submit(new PacketReader(future.channel()));
-          mPacketReaderActive = true;
+          startPacketReader(future.channel());
         }
       }
     }
-
-    /**
-     * @return true if we should restart the packet reader
-     */
-    @GuardedBy("mLock")
-    private boolean shouldRestartPacketReader() {
-      return !mPacketReaderActive && !tooManyPendingPackets() && mPosToQueue < mRequest.mEnd
-          && mError == null && !mCancel && !mEof;
-    }
   }
 
   /**
@@ -446,6 +540,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
         if (packet != null) {
           try (LockResource lr = new LockResource(mLock)) {
             mPosToQueue += packet.getLength();
+            mCredits--;
           }
         }
         if (packet == null || packet.getLength() < packetSize
@@ -456,7 +551,8 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
         }
 
         if (packet != null) {
-          RPCProtoMessage response = RPCProtoMessage.createOkResponse(packet);
+          RPCProtoMessage response =
+              RPCProtoMessage.createOkResponse(packet).withStreamId(mStreamId);
           mChannel.writeAndFlush(response).addListener(new WriteListener(start + packetSize));
         }
       }
@@ -466,6 +562,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
           // mRequest is null if an exception is thrown when initializing mRequest.
           if (mRequest != null) {
             mRequest.close();
+            recordRequest(mRequest, true);
           }
         } catch (IOException e) {
           LOG.error("Failed to close the request.", e);
@@ -477,6 +574,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
         try {
           Preconditions.checkNotNull(mRequest);
           mRequest.close();
+          recordRequest(mRequest, false);
         } catch (IOException e) {
           setError(mChannel, new Error(AlluxioStatusException.fromIOException(e), true));
         }
@@ -489,11 +587,25 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
     }
 
     /**
-     * Writes an error read response to the channel and closes the channel after that.
+     * Records the latency of a completed read request.
+     *
+     * @param request the read request
+     * @param failed whether the request failed
+     */
+    private void recordRequest(ReadRequestInternal request, boolean failed) {
+      RpcProfiler.record(MetricsSystem.WORKER_INSTANCE,
+          DataServerReadHandler.this.getClass().getSimpleName() + ".read", request.mStartTimeMs,
+          System.nanoTime() - request.mStartTimeNanos, failed, request);
+    }
+
+    /**
+     * Writes an error read response to the channel and closes the channel after that unless it is
+     * multiplexed.
      */
     private void replyError(AlluxioStatusException e) {
-      mChannel.writeAndFlush(RPCProtoMessage.createResponse(e))
-          .addListener(ChannelFutureListener.CLOSE);
+      mChannel.writeAndFlush(RPCProtoMessage.createResponse(e).withStreamId(mStreamId))
+          .addListener(mStreamId == RPCProtoMessage.NO_STREAM ? ChannelFutureListener.CLOSE
+              : ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
     /**
@@ -502,7 +614,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
     private void replyEof() {
       Preconditions.checkState(!mDone);
       mDone = true;
-      mChannel.writeAndFlush(RPCProtoMessage.createOkResponse(null))
+      mChannel.writeAndFlush(RPCProtoMessage.createOkResponse(null).withStreamId(mStreamId))
           .addListeners(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
@@ -512,7 +624,7 @@ abstract class DataServerReadHandler extends ChannelInboundHandlerAdapter {
     private void replyCancel() {
       Preconditions.checkState(!mDone);
       mDone = true;
-      mChannel.writeAndFlush(RPCProtoMessage.createCancelResponse())
+      mChannel.writeAndFlush(RPCProtoMessage.createCancelResponse().withStreamId(mStreamId))
           .addListeners(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
   }
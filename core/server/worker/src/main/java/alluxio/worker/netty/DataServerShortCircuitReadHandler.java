@@ -75,6 +75,10 @@ class DataServerShortCircuitReadHandler extends ChannelInboundHandlerAdapter {
       handleBlockOpenRequest(ctx, message.asLocalBlockOpenRequest());
     } else if (message.isLocalBlockCloseRequest()) {
       handleBlockCloseRequest(ctx, message.asLocalBlockCloseRequest());
+    } else if (message.isLocalBlockLeaseRequest()) {
+      handleBlockLeaseRequest(ctx, message.asLocalBlockLeaseRequest());
+    } else if (message.isLocalBlockLeaseReleaseRequest()) {
+      handleBlockLeaseReleaseRequest(ctx, message.asLocalBlockLeaseReleaseRequest());
     } else {
       ctx.fireChannelRead(msg);
     }
@@ -208,4 +212,108 @@ class DataServerShortCircuitReadHandler extends ChannelInboundHandlerAdapter {
       }
     });
   }
+
+  /**
+   * Handles {@link Protocol.LocalBlockLeaseRequest}. The blocks are leased for the session of the
+   * request rather than for the channel, so that the leases outlive the channels a client gets
+   * from its channel pool. No exceptions should be thrown.
+   *
+   * @param ctx the channel handler context
+   * @param request the local block lease request
+   */
+  private void handleBlockLeaseRequest(final ChannelHandlerContext ctx,
+      final Protocol.LocalBlockLeaseRequest request) {
+    mRpcExecutor.submit(new Runnable() {
+      @Override
+      public void run() {
+        RpcUtils.nettyRPCAndLog(LOG, new RpcUtils.NettyRPCCallable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            long sessionId = request.getSessionId();
+            long expiryMs = System.currentTimeMillis() + request.getLeaseMs();
+            String topTierAlias = mStorageTierAssoc.getAlias(0);
+            for (long blockId : request.getPromoteBlockIdsList()) {
+              try {
+                // Blocks in the top tier are not moved, so that their leases are not revoked.
+                if (!mWorker.getVolatileBlockMeta(blockId).getBlockLocation().tierAlias()
+                    .equals(topTierAlias)) {
+                  mWorker.moveBlock(sessionId, blockId, topTierAlias);
+                }
+              } catch (BlockDoesNotExistException e) {
+                LOG.debug("Block {} to promote does not exist in Alluxio: {}", blockId,
+                    e.getMessage());
+              } catch (Exception e) {
+                LOG.warn("Failed to promote block {}: {}", blockId, e.getMessage());
+              }
+            }
+            Protocol.LocalBlockLeaseResponse.Builder response =
+                Protocol.LocalBlockLeaseResponse.newBuilder();
+            for (long blockId : request.getBlockIdsList()) {
+              try {
+                long lockId = mWorker.leaseBlock(sessionId, blockId, expiryMs);
+                mWorker.accessBlock(sessionId, blockId);
+                response.addLeases(Protocol.LocalBlockLease.newBuilder().setBlockId(blockId)
+                    .setPath(mWorker.readBlock(sessionId, blockId, lockId)));
+              } catch (BlockDoesNotExistException | InvalidWorkerStateException e) {
+                // The block was removed, or its lease was revoked in the meantime.
+                LOG.debug("Failed to lease block {}: {}", blockId, e.getMessage());
+                mWorker.releaseBlockLease(sessionId, blockId);
+              }
+            }
+            ctx.writeAndFlush(new RPCProtoMessage(new ProtoMessage(response.build())));
+            return null;
+          }
+
+          @Override
+          public void exceptionCaught(Throwable e) {
+            ctx.writeAndFlush(
+                RPCProtoMessage.createResponse(AlluxioStatusException.fromThrowable(e)));
+          }
+
+          @Override
+          public String toString() {
+            return String.format("Session %d: lease blocks: %s", request.getSessionId(),
+                request.toString());
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Handles {@link Protocol.LocalBlockLeaseReleaseRequest}. No exceptions should be thrown.
+   *
+   * @param ctx the channel handler context
+   * @param request the local block lease release request
+   */
+  private void handleBlockLeaseReleaseRequest(final ChannelHandlerContext ctx,
+      final Protocol.LocalBlockLeaseReleaseRequest request) {
+    mRpcExecutor.submit(new Runnable() {
+      @Override
+      public void run() {
+        RpcUtils.nettyRPCAndLog(LOG, new RpcUtils.NettyRPCCallable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            for (long blockId : request.getBlockIdsList()) {
+              mWorker.releaseBlockLease(request.getSessionId(), blockId);
+            }
+            ctx.writeAndFlush(RPCProtoMessage.createOkResponse(null));
+            return null;
+          }
+
+          @Override
+          public void exceptionCaught(Throwable e) {
+            ctx.writeAndFlush(
+                RPCProtoMessage.createResponse(AlluxioStatusException.fromThrowable(e)));
+          }
+
+          @Override
+          public String toString() {
+            return String.format("Session %d: release block leases: %s", request.getSessionId(),
+                request.toString());
+          }
+        });
+      }
+    });
+  }
 }
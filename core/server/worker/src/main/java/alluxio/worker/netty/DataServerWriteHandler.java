@@ -16,6 +16,9 @@ import alluxio.PropertyKey;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.InternalException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.RpcProfiler;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCProtoMessage;
 import alluxio.network.protocol.databuffer.DataBuffer;
@@ -24,6 +27,7 @@ import alluxio.resource.LockResource;
 import alluxio.util.IdUtils;
 import alluxio.util.network.NettyUtils;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import io.netty.buffer.ByteBuf;
@@ -38,7 +42,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -56,6 +62,10 @@ import javax.annotation.concurrent.NotThreadSafe;
  *    resumed when the buffer becomes non-empty.
  * 3. An EOF or CANCEL message signifies the completion of this request.
  * 4. When an error occurs, the channel is closed.
+ * 5. On a multiplexed channel, the handler serves a single stream and tags its responses with the
+ *    stream id. Instead of turning off the auto read of the channel shared with other streams, the
+ *    packets written are acknowledged so that the client keeps a bounded number of packets in
+ *    flight. An error only fails the stream, the channel is kept open.
  *
  * Threading model:
  * Only two threads are involved at a given point of time: netty I/O thread, packet writer thread.
@@ -140,10 +150,16 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
     final long mId;
     /** The session id associated with all temporary resources of this request. */
     final long mSessionId;
+    /** The time in milliseconds when the request was received. */
+    final long mStartTimeMs;
+    /** The {@link System#nanoTime()} when the request was received. */
+    final long mStartTimeNanos;
 
     WriteRequestInternal(long id) {
       mId = id;
       mSessionId = IdUtils.createSessionId();
+      mStartTimeMs = System.currentTimeMillis();
+      mStartTimeNanos = System.nanoTime();
     }
 
     /**
@@ -162,12 +178,23 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
      * Cleans up the state.
      */
     abstract void cleanup() throws IOException;
+
+    @Override
+    public String toString() {
+      return Objects.toStringHelper(this).add("id", mId).add("sessionId", mSessionId).toString();
+    }
   }
 
   /**
    * The next pos to queue to the buffer. This is only updated and used by the netty I/O thread.
    */
   private long mPosToQueue;
+  /** The id of the stream of the request, {@link RPCProtoMessage#NO_STREAM} if not multiplexed. */
+  private volatile long mStreamId = RPCProtoMessage.NO_STREAM;
+  /** The number of packets written to acknowledge at once on a multiplexed stream. */
+  private volatile int mAckThreshold = 1;
+  /** The number of packets written but not acknowledged yet, only used by the packet writer. */
+  private int mPacketsNotAcked;
   /**
    * The next pos to write to the block worker. This is only updated by the packet writer
    * thread. The netty I/O reads this only for sanity check during initialization.
@@ -194,6 +221,8 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
     Protocol.WriteRequest writeRequest = msg.getMessage().asWriteRequest();
     // Only initialize (open the readers) if this is the first packet in the block/file.
     if (writeRequest.getOffset() == 0) {
+      mStreamId = writeRequest.getStreamId();
+      mAckThreshold = Math.max(1, writeRequest.getCredits() / 2);
       initializeRequest(msg);
     }
 
@@ -229,11 +258,18 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
         mPosToQueue += buf.readableBytes();
       }
       if (!mPacketWriterActive) {
+        try {
+          getPacketWriterExecutor().execute(new PacketWriter(ctx.channel()));
+        } catch (RejectedExecutionException e) {
+          release(buf);
+          pushAbortPacket(ctx.channel(),
+              new Error(new ResourceExhaustedException(e.getMessage(), e), true));
+          return;
+        }
         mPacketWriterActive = true;
-        mPacketWriterExecutor.submit(new PacketWriter(ctx.channel()));
       }
       mPackets.offer(buf);
-      if (tooManyPacketsInFlight()) {
+      if (tooManyPacketsInFlight() && mStreamId == RPCProtoMessage.NO_STREAM) {
         NettyUtils.disableAutoRead(ctx.channel());
       }
     }
@@ -247,10 +283,19 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
 
   @Override
   public void channelUnregistered(ChannelHandlerContext ctx) {
-    pushAbortPacket(ctx.channel(), new Error(new InternalException("channel unregistered"), false));
+    channelClosed(ctx.channel());
     ctx.fireChannelUnregistered();
   }
 
+  /**
+   * Aborts the request because the channel is closed.
+   *
+   * @param channel the channel
+   */
+  void channelClosed(Channel channel) {
+    pushAbortPacket(channel, new Error(new InternalException("channel unregistered"), false));
+  }
+
   /**
    * @return true if there are too many packets in flight
    */
@@ -329,7 +374,7 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
             release(buf);
             continue;
           }
-          if (!tooManyPacketsInFlight()) {
+          if (!tooManyPacketsInFlight() && mStreamId == RPCProtoMessage.NO_STREAM) {
             NettyUtils.enableAutoRead(mChannel);
           }
         }
@@ -339,6 +384,7 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
           mPosToWrite += readableBytes;
           writeBuf(mChannel, buf, mPosToWrite);
           incrementMetrics(readableBytes);
+          acknowledgePacket();
         } catch (Exception e) {
           LOG.warn("Failed to write packet {}", e.getMessage());
           Throwables.propagateIfPossible(e);
@@ -379,6 +425,7 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
     private void complete() throws IOException {
       if (mRequest != null) {
         mRequest.close(mChannel);
+        recordRequest(mRequest, false);
         mRequest = null;
       }
       mPosToWrite = 0;
@@ -390,6 +437,7 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
     private void cancel() throws IOException {
       if (mRequest != null) {
         mRequest.cancel();
+        recordRequest(mRequest, false);
         mRequest = null;
       }
       mPosToWrite = 0;
@@ -402,17 +450,42 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
     private void cleanup() throws IOException {
       if (mRequest != null) {
         mRequest.cleanup();
+        recordRequest(mRequest, true);
         mRequest = null;
       }
       mPosToWrite = 0;
     }
 
+    /**
+     * Records the latency of a completed write request.
+     *
+     * @param request the write request
+     * @param failed whether the request failed
+     */
+    private void recordRequest(WriteRequestInternal request, boolean failed) {
+      RpcProfiler.record(MetricsSystem.WORKER_INSTANCE,
+          DataServerWriteHandler.this.getClass().getSimpleName() + ".write", request.mStartTimeMs,
+          System.nanoTime() - request.mStartTimeNanos, failed, request);
+    }
+
+    /**
+     * Acknowledges the packets written to a multiplexed stream once there are enough of them.
+     */
+    private void acknowledgePacket() {
+      if (mStreamId == RPCProtoMessage.NO_STREAM || ++mPacketsNotAcked < mAckThreshold) {
+        return;
+      }
+      mChannel.writeAndFlush(RPCProtoMessage.createCreditResponse(mStreamId, mPacketsNotAcked))
+          .addListeners(ChannelFutureListener.CLOSE_ON_FAILURE);
+      mPacketsNotAcked = 0;
+    }
+
     /**
      * Writes a response to signify the success of the write request.
      */
     private void replySuccess() {
       NettyUtils.enableAutoRead(mChannel);
-      mChannel.writeAndFlush(RPCProtoMessage.createOkResponse(null))
+      mChannel.writeAndFlush(RPCProtoMessage.createOkResponse(null).withStreamId(mStreamId))
           .addListeners(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
@@ -421,12 +494,13 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
      */
     private void replyCancel() {
       NettyUtils.enableAutoRead(mChannel);
-      mChannel.writeAndFlush(RPCProtoMessage.createCancelResponse())
+      mChannel.writeAndFlush(RPCProtoMessage.createCancelResponse().withStreamId(mStreamId))
           .addListeners(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
     /**
-     * Writes an error response to the channel and closes the channel after that.
+     * Writes an error response to the channel and closes the channel after that unless it is
+     * multiplexed.
      */
     private void replyError() {
       Error error;
@@ -435,12 +509,23 @@ abstract class DataServerWriteHandler extends ChannelInboundHandlerAdapter {
       }
 
       if (error.mNotifyClient) {
-        mChannel.writeAndFlush(RPCProtoMessage.createResponse(error.mCause))
-            .addListener(ChannelFutureListener.CLOSE);
+        mChannel.writeAndFlush(RPCProtoMessage.createResponse(error.mCause).withStreamId(mStreamId))
+            .addListener(mStreamId == RPCProtoMessage.NO_STREAM ? ChannelFutureListener.CLOSE
+                : ChannelFutureListener.CLOSE_ON_FAILURE);
       }
     }
   }
 
+  /**
+   * Gets the executor to write the packets of the current request on. Aborts run on the executor
+   * service of the handler instead, so that they are never rejected.
+   *
+   * @return the executor
+   */
+  protected Executor getPacketWriterExecutor() {
+    return mPacketWriterExecutor;
+  }
+
   /**
    * Pushes {@link DataServerWriteHandler#ABORT} to the buffer if there has been no error so far.
    *
@@ -0,0 +1,254 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.Constants;
+import alluxio.metrics.MetricsSystem;
+import alluxio.resource.LockResource;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.worker.block.meta.StorageDir;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Schedules the block reads and writes of the data server on executors dedicated to the storage
+ * directories of the blocks. Each directory has a bounded number of threads and a bounded queue,
+ * and its threads take the queued reads and writes in turn. Thus a saturated directory, e.g. on a
+ * slow disk, does not delay the I/O of the other directories, and a burst of one type of I/O on a
+ * directory does not starve the other type.
+ */
+@ThreadSafe
+final class DiskIoScheduler {
+  private static final Logger LOG = LoggerFactory.getLogger(DiskIoScheduler.class);
+  private static final long THREAD_STOP_MS = Constants.SECOND_MS * 10;
+
+  /** The types of I/O which are scheduled fairly on a directory. */
+  enum IoType {
+    READ,
+    WRITE
+  }
+
+  private final int mThreadsMax;
+  private final int mQueueSize;
+  /** Maps from the path of a storage directory to the executor of the directory. */
+  private final ConcurrentHashMap<String, DiskExecutor> mExecutors = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance of {@link DiskIoScheduler}.
+   *
+   * @param threadsMax the maximum number of threads of each directory, 0 to disable scheduling
+   * @param queueSize the maximum number of I/O requests waiting for a thread of a directory
+   */
+  DiskIoScheduler(int threadsMax, int queueSize) {
+    Preconditions.checkArgument(threadsMax >= 0, "threadsMax=%s", threadsMax);
+    Preconditions.checkArgument(queueSize > 0, "queueSize=%s", queueSize);
+    mThreadsMax = threadsMax;
+    mQueueSize = queueSize;
+  }
+
+  /**
+   * Gets the executor to run an I/O request on a storage directory on. The returned executor
+   * throws {@link RejectedExecutionException} if the queue of the directory is full.
+   *
+   * @param dir the storage directory, or null if the I/O is not on Alluxio storage
+   * @param type the type of the I/O
+   * @param sharedExecutor the executor to return if the I/O is not scheduled by directory
+   * @return the executor
+   */
+  Executor getExecutor(StorageDir dir, IoType type, Executor sharedExecutor) {
+    if (dir == null || mThreadsMax == 0) {
+      return sharedExecutor;
+    }
+    DiskExecutor executor = mExecutors.get(dir.getDirPath());
+    if (executor == null) {
+      DiskExecutor newExecutor =
+          new DiskExecutor(dir.getParentTier().getTierAlias() + "." + dir.getDirIndex());
+      executor = mExecutors.putIfAbsent(dir.getDirPath(), newExecutor);
+      if (executor == null) {
+        executor = newExecutor;
+        executor.registerMetrics();
+      }
+    }
+    return executor.mLanes.get(type.ordinal());
+  }
+
+  /**
+   * The executor of a storage directory. Its threads are started on demand up to the maximum, and
+   * stop after being idle for a while.
+   */
+  private final class DiskExecutor {
+    private final String mName;
+    private final ThreadFactory mThreadFactory;
+    /** The executors to submit each type of I/O to, by the ordinal of the type. */
+    private final List<Executor> mLanes = new ArrayList<>();
+    private final ReentrantLock mLock = new ReentrantLock();
+    private final Condition mNotEmpty = mLock.newCondition();
+    /** The time from submitting an I/O request to its completion. */
+    private final Timer mLatency;
+
+    /** The queued I/O requests of each type, by the ordinal of the type. */
+    @GuardedBy("mLock")
+    private final List<Queue<Task>> mQueues = new ArrayList<>();
+    @GuardedBy("mLock")
+    private int mQueued;
+    /** The ordinal of the type of I/O to take first when a thread is free. */
+    @GuardedBy("mLock")
+    private int mNextType;
+    @GuardedBy("mLock")
+    private int mThreads;
+    @GuardedBy("mLock")
+    private int mIdleThreads;
+
+    /**
+     * Creates a new instance of {@link DiskExecutor}.
+     *
+     * @param name the name of the directory, used in the names of the threads and metrics
+     */
+    DiskExecutor(String name) {
+      mName = name;
+      mThreadFactory = ThreadFactoryUtils.build("DiskIoExecutor-" + name + "-%d", true);
+      mLatency = MetricsSystem.workerTimer("DiskIoLatency." + name);
+      for (final IoType type : IoType.values()) {
+        mQueues.add(new ArrayDeque<Task>());
+        mLanes.add(new Executor() {
+          @Override
+          public void execute(Runnable runnable) {
+            submit(type, runnable);
+          }
+        });
+      }
+    }
+
+    void registerMetrics() {
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getWorkerMetricName("DiskQueueDepth." + mName), new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              try (LockResource r = new LockResource(mLock)) {
+                return mQueued;
+              }
+            }
+          });
+    }
+
+    private void submit(IoType type, Runnable runnable) {
+      try (LockResource r = new LockResource(mLock)) {
+        if (mQueued >= mQueueSize) {
+          throw new RejectedExecutionException(String.format(
+              "The I/O queue of storage directory %s is full with %d requests.", mName, mQueued));
+        }
+        mQueues.get(type.ordinal()).add(new Task(runnable));
+        mQueued++;
+        if (mIdleThreads > 0) {
+          mNotEmpty.signal();
+        }
+        if (mQueued > mIdleThreads && mThreads < mThreadsMax) {
+          mThreadFactory.newThread(new Runnable() {
+            @Override
+            public void run() {
+              runWorker();
+            }
+          }).start();
+          mThreads++;
+        }
+      }
+    }
+
+    private void runWorker() {
+      while (true) {
+        Task task = takeTask();
+        if (task == null) {
+          return;
+        }
+        try {
+          task.mRunnable.run();
+        } catch (Throwable e) {
+          LOG.error("Failed to run I/O on storage directory {}.", mName, e);
+        }
+        mLatency.update(System.nanoTime() - task.mSubmitTimeNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    /**
+     * Takes the next I/O request, waiting if there is none.
+     *
+     * @return the request, or null if the thread has been idle for too long or is interrupted,
+     *         and should stop
+     */
+    private Task takeTask() {
+      try (LockResource r = new LockResource(mLock)) {
+        while (true) {
+          for (int i = 0; i < mQueues.size(); i++) {
+            int type = (mNextType + i) % mQueues.size();
+            Task task = mQueues.get(type).poll();
+            if (task != null) {
+              mNextType = (type + 1) % mQueues.size();
+              mQueued--;
+              return task;
+            }
+          }
+          boolean signaled;
+          mIdleThreads++;
+          try {
+            signaled = mNotEmpty.await(THREAD_STOP_MS, TimeUnit.MILLISECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            mThreads--;
+            return null;
+          } finally {
+            mIdleThreads--;
+          }
+          if (!signaled && mQueued == 0) {
+            mThreads--;
+            return null;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * An I/O request queued on a storage directory.
+   */
+  private static final class Task {
+    private final Runnable mRunnable;
+    private final long mSubmitTimeNanos = System.nanoTime();
+
+    /**
+     * Creates a new instance of {@link Task}.
+     *
+     * @param runnable the I/O to run
+     */
+    Task(Runnable runnable) {
+      mRunnable = runnable;
+    }
+  }
+}
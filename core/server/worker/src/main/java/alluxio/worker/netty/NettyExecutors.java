@@ -49,6 +49,10 @@ final class NettyExecutors {
           THREAD_STOP_MS, TimeUnit.MILLISECONDS, new SynchronousQueue<Runnable>(),
           ThreadFactoryUtils.build("FilePacketWriterExecutor-%d", true));
 
+  public static final DiskIoScheduler DISK_IO_SCHEDULER = new DiskIoScheduler(
+      Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_DISK_THREADS_MAX),
+      Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_DISK_QUEUE_SIZE));
+
   public static final ExecutorService RPC_EXECUTOR =
       new ThreadPoolExecutor(THREADS_MIN,
           Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_RPC_THREADS_MAX),
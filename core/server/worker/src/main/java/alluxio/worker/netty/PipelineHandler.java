@@ -62,12 +62,19 @@ final class PipelineHandler extends ChannelInitializer<Channel> {
     pipeline.addLast("idleReadHandler", new IdleReadHandler());
     pipeline.addLast("heartbeatHandler", new DataServerHeartbeatHandler());
 
+    // Stream Demultiplexer
+    pipeline.addLast("dataServerDemuxHandler",
+        new DataServerDemuxHandler(mWorkerProcess.getWorker(BlockWorker.class),
+            mWorkerProcess.getUfsManager(), mFileTransferType));
+
     // Block Handlers
     pipeline.addLast("dataServerBlockReadHandler",
         new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR,
-            mWorkerProcess.getWorker(BlockWorker.class), mFileTransferType));
-    pipeline.addLast("dataServerBlockWriteHandler", new DataServerBlockWriteHandler(
-        NettyExecutors.BLOCK_WRITER_EXECUTOR, mWorkerProcess.getWorker(BlockWorker.class)));
+            NettyExecutors.DISK_IO_SCHEDULER, mWorkerProcess.getWorker(BlockWorker.class),
+            mFileTransferType));
+    pipeline.addLast("dataServerBlockWriteHandler",
+        new DataServerBlockWriteHandler(NettyExecutors.BLOCK_WRITER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mWorkerProcess.getWorker(BlockWorker.class)));
     pipeline.addLast("dataServerShortCircuitReadHandler",
         new DataServerShortCircuitReadHandler(NettyExecutors.RPC_EXECUTOR,
             mWorkerProcess.getWorker(BlockWorker.class)));
@@ -150,4 +150,25 @@ public final class BlockHeartbeatReporterTest {
     Assert.assertEquals(1, removedBlocks.size());
     Assert.assertTrue(removedBlocks.contains(block1));
   }
+
+  /**
+   * Tests the {@link BlockHeartbeatReporter#generateReport()} method to correctly count the reads
+   * of blocks, and to not report the reads of removed blocks.
+   */
+  @Test
+  public void generateReportReads() {
+    Long block1 = 1L;
+    Long block2 = 2L;
+    mReporter.onAccessBlock(SESSION_ID, block1);
+    mReporter.onAccessBlock(SESSION_ID, block1);
+    mReporter.onAccessBlock(SESSION_ID, block2);
+    removeBlock(block2);
+
+    Map<Long, Long> readCounts = mReporter.generateReport().getBlockReadCounts();
+    Assert.assertEquals(1, readCounts.size());
+    Assert.assertEquals(Long.valueOf(2), readCounts.get(block1));
+
+    // The reads are counted again in the next period
+    Assert.assertTrue(mReporter.generateReport().getBlockReadCounts().isEmpty());
+  }
 }
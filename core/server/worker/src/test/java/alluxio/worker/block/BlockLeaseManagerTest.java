@@ -0,0 +1,144 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.exception.ExceptionMessage;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Unit tests for {@link BlockLeaseManager}.
+ */
+public final class BlockLeaseManagerTest {
+  private static final long SESSION_ID1 = 2;
+  private static final long SESSION_ID2 = 3;
+  private static final long BLOCK_ID1 = 9;
+  private static final long BLOCK_ID2 = 10;
+
+  private BlockLockManager mLockManager;
+  private BlockLeaseManager mLeaseManager;
+
+  /** The exception expected to be thrown. */
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  /**
+   * Sets up all dependencies before a test runs.
+   */
+  @Before
+  public void before() {
+    mLockManager = new BlockLockManager();
+    mLeaseManager = new BlockLeaseManager(mLockManager);
+  }
+
+  /**
+   * Validates the lock manager after a test runs.
+   */
+  @After
+  public void after() {
+    mLockManager.validate();
+  }
+
+  /**
+   * Tests that a lease holds a read lock, and that renewing it does not take another lock.
+   */
+  @Test
+  public void leaseAndRenew() throws Exception {
+    long lockId = mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, 100);
+    mLockManager.validateLock(SESSION_ID1, BLOCK_ID1, lockId);
+    Assert.assertEquals(lockId, mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, 200));
+    Assert.assertEquals(1, mLockManager.getLockCount(BLOCK_ID1));
+
+    // The renewal extended the lease.
+    Assert.assertEquals(0, mLeaseManager.expire(150));
+    Assert.assertEquals(1, mLeaseManager.expire(200));
+    Assert.assertEquals(0, mLockManager.getLockCount(BLOCK_ID1));
+  }
+
+  /**
+   * Tests releasing a lease and all the leases of a session.
+   */
+  @Test
+  public void release() throws Exception {
+    mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+    mLeaseManager.lease(SESSION_ID1, BLOCK_ID2, Long.MAX_VALUE);
+    mLeaseManager.lease(SESSION_ID2, BLOCK_ID1, Long.MAX_VALUE);
+    Assert.assertEquals(2, mLockManager.getLockCount(BLOCK_ID1));
+
+    mLeaseManager.release(SESSION_ID2, BLOCK_ID1);
+    Assert.assertEquals(1, mLockManager.getLockCount(BLOCK_ID1));
+    // Releasing a missing lease does nothing.
+    mLeaseManager.release(SESSION_ID2, BLOCK_ID1);
+
+    mLeaseManager.releaseSession(SESSION_ID1);
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+  }
+
+  /**
+   * Tests that revoking a block releases all its leases, and prevents it from being leased until
+   * the revocation ends.
+   */
+  @Test
+  public void revoke() throws Exception {
+    mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+    mLeaseManager.lease(SESSION_ID2, BLOCK_ID1, Long.MAX_VALUE);
+    mLeaseManager.lease(SESSION_ID2, BLOCK_ID2, Long.MAX_VALUE);
+
+    mLeaseManager.revoke(BLOCK_ID1);
+    Assert.assertEquals(0, mLockManager.getLockCount(BLOCK_ID1));
+    Assert.assertEquals(1, mLockManager.getLockCount(BLOCK_ID2));
+    try {
+      mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+      Assert.fail("A block being revoked should not be leased");
+    } catch (BlockDoesNotExistException e) {
+      Assert.assertEquals(ExceptionMessage.BLOCK_LEASE_REVOKED.getMessage(BLOCK_ID1),
+          e.getMessage());
+    }
+
+    mLeaseManager.endRevocation(BLOCK_ID1);
+    mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+    Assert.assertEquals(1, mLockManager.getLockCount(BLOCK_ID1));
+    mLeaseManager.releaseSession(SESSION_ID1);
+    mLeaseManager.releaseSession(SESSION_ID2);
+  }
+
+  /**
+   * Tests that a block is only locked by leases when it has no other lock.
+   */
+  @Test
+  public void isLockedByLeasesOnly() throws Exception {
+    Assert.assertFalse(mLeaseManager.isLockedByLeasesOnly(BLOCK_ID1));
+    mLeaseManager.lease(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+    Assert.assertTrue(mLeaseManager.isLockedByLeasesOnly(BLOCK_ID1));
+
+    long lockId = mLockManager.lockBlock(SESSION_ID2, BLOCK_ID1, BlockLockType.READ);
+    Assert.assertFalse(mLeaseManager.isLockedByLeasesOnly(BLOCK_ID1));
+    mLockManager.unlockBlock(lockId);
+    Assert.assertTrue(mLeaseManager.isLockedByLeasesOnly(BLOCK_ID1));
+    mLeaseManager.releaseSession(SESSION_ID1);
+  }
+
+  /**
+   * Tests that ending a revocation which did not start fails.
+   */
+  @Test
+  public void endRevocationWithoutRevoke() {
+    mThrown.expect(IllegalStateException.class);
+    mLeaseManager.endRevocation(BLOCK_ID1);
+  }
+}
@@ -20,6 +20,7 @@ import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.Sets;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -35,6 +36,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CyclicBarrier;
 
 /**
@@ -82,6 +84,30 @@ public final class BlockLockManagerTest {
     Assert.assertNotEquals(lockId1, lockId2);
   }
 
+  /**
+   * Tests that {@link BlockLockManager#getLockedBlocksView()} reflects later locks and unlocks, and
+   * that a block stays locked until all of its locks are released.
+   */
+  @Test
+  public void lockedBlocksView() throws Exception {
+    Set<Long> lockedBlocks = mLockManager.getLockedBlocksView();
+    Assert.assertTrue(lockedBlocks.isEmpty());
+    long lockId1 = mLockManager.lockBlock(TEST_SESSION_ID, TEST_BLOCK_ID, BlockLockType.READ);
+    long lockId2 = mLockManager.lockBlock(TEST_SESSION_ID + 1, TEST_BLOCK_ID, BlockLockType.READ);
+    mLockManager.lockBlock(TEST_SESSION_ID, TEST_BLOCK_ID + 1, BlockLockType.WRITE);
+    Assert.assertEquals(Sets.newHashSet(TEST_BLOCK_ID, TEST_BLOCK_ID + 1), lockedBlocks);
+    mLockManager.validate();
+
+    mLockManager.unlockBlock(lockId1);
+    Assert.assertTrue(lockedBlocks.contains(TEST_BLOCK_ID));
+    mLockManager.unlockBlock(lockId2);
+    Assert.assertFalse(lockedBlocks.contains(TEST_BLOCK_ID));
+    mLockManager.cleanupSession(TEST_SESSION_ID);
+    Assert.assertTrue(lockedBlocks.isEmpty());
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    mLockManager.validate();
+  }
+
   /**
    * Tests that an exception is thrown when trying to unlock a block via
    * {@link BlockLockManager#unlockBlockNoException(long)} which is not locked.
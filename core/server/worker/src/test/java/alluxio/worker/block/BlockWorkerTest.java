@@ -12,6 +12,7 @@
 package alluxio.worker.block;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -24,6 +25,7 @@ import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.Sessions;
 import alluxio.exception.BlockAlreadyExistsException;
+import alluxio.exception.BlockDoesNotExistException;
 import alluxio.proto.dataserver.Protocol;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.UnderFileSystem;
@@ -176,6 +178,7 @@ public class BlockWorkerTest {
     long lockId = mRandom.nextLong();
     long sessionId = mRandom.nextLong();
     long usedBytes = mRandom.nextLong();
+    long checksum = mRandom.nextInt() & 0xffffffffL;
     String tierAlias = "MEM";
     HashMap<String, Long> usedBytesOnTiers = new HashMap<>();
     usedBytesOnTiers.put(tierAlias, usedBytes);
@@ -191,11 +194,12 @@ public class BlockWorkerTest {
     when(blockMeta.getBlockLocation()).thenReturn(blockStoreLocation);
     when(blockStoreLocation.tierAlias()).thenReturn(tierAlias);
     when(blockMeta.getBlockSize()).thenReturn(length);
+    when(blockMeta.getChecksum()).thenReturn(checksum);
     when(blockStoreMeta.getUsedBytesOnTiers()).thenReturn(usedBytesOnTiers);
 
     mBlockWorker.commitBlock(sessionId, blockId);
     verify(mBlockMasterClient).commitBlock(anyLong(), eq(usedBytes), eq(tierAlias), eq(blockId),
-        eq(length));
+        eq(length), eq(checksum));
     verify(mBlockStore).unlockBlock(lockId);
   }
 
@@ -351,6 +355,24 @@ public class BlockWorkerTest {
     verify(mBlockStore).getVolatileBlockMeta(blockId);
   }
 
+  /**
+   * Tests the {@link BlockWorker#getVolatileBlockDir(long, long)} method.
+   */
+  @Test
+  public void getVolatileBlockDir() throws Exception {
+    long blockId = mRandom.nextLong();
+    long sessionId = mRandom.nextLong();
+    StorageDir storageDir = Mockito.mock(StorageDir.class);
+    when(mBlockStore.getTempBlockMeta(sessionId, blockId))
+        .thenReturn(new TempBlockMeta(sessionId, blockId, 0, storageDir));
+    assertEquals(storageDir, mBlockWorker.getVolatileBlockDir(sessionId, blockId));
+
+    when(mBlockStore.getTempBlockMeta(sessionId, blockId)).thenReturn(null);
+    when(mBlockStore.getVolatileBlockMeta(blockId))
+        .thenThrow(new BlockDoesNotExistException("no block"));
+    assertNull(mBlockWorker.getVolatileBlockDir(sessionId, blockId));
+  }
+
   /**
    * Tests the {@link BlockWorker#getBlockMeta(long, long, long)} method.
    */
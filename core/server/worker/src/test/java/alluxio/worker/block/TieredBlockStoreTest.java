@@ -11,13 +11,18 @@
 
 package alluxio.worker.block;
 
+import alluxio.Constants;
 import alluxio.exception.BlockAlreadyExistsException;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
 import alluxio.exception.WorkerOutOfSpaceException;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.CRC32C;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.evictor.Evictor;
+import alluxio.worker.block.io.BlockChecksum;
+import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.meta.BlockMeta;
 import alluxio.worker.block.meta.StorageDir;
 import alluxio.worker.block.meta.TempBlockMeta;
@@ -32,6 +37,7 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 
 /**
  * Unit tests for {@link TieredBlockStore}.
@@ -167,6 +173,45 @@ public final class TieredBlockStoreTest {
     Assert.assertFalse(
         FileUtils.exists(TempBlockMeta.tempPath(mTestDir1, SESSION_ID1, TEMP_BLOCK_ID)));
     Assert.assertTrue(FileUtils.exists(TempBlockMeta.commitPath(mTestDir1, TEMP_BLOCK_ID)));
+    // The block was written without checksums, so it has none rather than reading it on commit.
+    BlockMeta blockMeta = mBlockStore.getVolatileBlockMeta(TEMP_BLOCK_ID);
+    Assert.assertFalse(FileUtils.exists(BlockChecksum.getPath(blockMeta.getPath())));
+    Assert.assertEquals(Constants.UNKNOWN_CHECKSUM, blockMeta.getChecksum());
+  }
+
+  /**
+   * Tests that the checksum file of a block written by a block store writer is committed, moved
+   * and removed with the block.
+   */
+  @Test
+  public void blockChecksum() throws Exception {
+    mBlockStore.createBlock(SESSION_ID1, TEMP_BLOCK_ID, mTestDir1.toBlockStoreLocation(),
+        BLOCK_SIZE);
+    ByteBuffer data = BufferUtils.getIncreasingByteBuffer((int) BLOCK_SIZE);
+    try (BlockWriter writer = mBlockStore.getBlockWriter(SESSION_ID1, TEMP_BLOCK_ID)) {
+      writer.append(data);
+    }
+    String tempPath = TempBlockMeta.tempPath(mTestDir1, SESSION_ID1, TEMP_BLOCK_ID);
+    Assert.assertTrue(FileUtils.exists(BlockChecksum.getPath(tempPath)));
+    CRC32C crc = new CRC32C();
+    crc.update(data);
+
+    mBlockStore.commitBlock(SESSION_ID1, TEMP_BLOCK_ID);
+    Assert.assertFalse(FileUtils.exists(BlockChecksum.getPath(tempPath)));
+    Assert.assertTrue(FileUtils.exists(
+        BlockChecksum.getPath(BlockMeta.commitPath(mTestDir1, TEMP_BLOCK_ID))));
+    Assert.assertEquals(crc.getValue(),
+        mBlockStore.getVolatileBlockMeta(TEMP_BLOCK_ID).getChecksum());
+
+    mBlockStore.moveBlock(SESSION_ID1, TEMP_BLOCK_ID, mTestDir2.toBlockStoreLocation());
+    Assert.assertFalse(FileUtils.exists(
+        BlockChecksum.getPath(BlockMeta.commitPath(mTestDir1, TEMP_BLOCK_ID))));
+    Assert.assertEquals(crc.getValue(),
+        mBlockStore.getVolatileBlockMeta(TEMP_BLOCK_ID).getChecksum());
+
+    mBlockStore.removeBlock(SESSION_ID1, TEMP_BLOCK_ID);
+    Assert.assertFalse(FileUtils.exists(
+        BlockChecksum.getPath(BlockMeta.commitPath(mTestDir2, TEMP_BLOCK_ID))));
   }
 
   /**
@@ -419,6 +464,64 @@ public final class TieredBlockStoreTest {
     Assert.assertEquals(mTestDir1.getCapacityBytes(), mTestDir1.getAvailableBytes());
   }
 
+  /**
+   * Tests that a leased block is evicted after its lease is revoked when no other block can be
+   * evicted, and that it cannot be leased anymore.
+   */
+  @Test
+  public void freeSpaceWithBlockLeased() throws Exception {
+    TieredBlockStoreTestUtils.cache(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mEvictor);
+    mBlockStore.leaseBlock(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+
+    mBlockStore.freeSpace(SESSION_ID2, mTestDir1.getCapacityBytes(),
+        mTestDir1.toBlockStoreLocation());
+    Assert.assertEquals(mTestDir1.getCapacityBytes(), mTestDir1.getAvailableBytes());
+    Assert.assertFalse(mLockManager.getLockedBlocks().contains(BLOCK_ID1));
+  }
+
+  /**
+   * Tests that removing a leased block revokes its lease instead of waiting for it to expire.
+   */
+  @Test
+  public void removeBlockWithBlockLeased() throws Exception {
+    TieredBlockStoreTestUtils.cache(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mEvictor);
+    mBlockStore.leaseBlock(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+    // Renewing the lease does not take another lock.
+    mBlockStore.leaseBlock(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+
+    mBlockStore.removeBlock(SESSION_ID2, BLOCK_ID1);
+    Assert.assertFalse(mBlockStore.hasBlockMeta(BLOCK_ID1));
+    Assert.assertFalse(mLockManager.getLockedBlocks().contains(BLOCK_ID1));
+    mLockManager.validate();
+
+    mThrown.expect(BlockDoesNotExistException.class);
+    mThrown.expectMessage(ExceptionMessage.NO_BLOCK_ID_FOUND.getMessage(BLOCK_ID1));
+    mBlockStore.leaseBlock(SESSION_ID1, BLOCK_ID1, Long.MAX_VALUE);
+  }
+
+  /**
+   * Tests that expired leases and the leases of cleaned up sessions are released.
+   */
+  @Test
+  public void expireAndCleanupBlockLeases() throws Exception {
+    TieredBlockStoreTestUtils.cache(SESSION_ID1, BLOCK_ID1, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mEvictor);
+    TieredBlockStoreTestUtils.cache(SESSION_ID1, BLOCK_ID2, BLOCK_SIZE, mTestDir1, mMetaManager,
+        mEvictor);
+    mBlockStore.leaseBlock(SESSION_ID1, BLOCK_ID1, 0);
+    mBlockStore.leaseBlock(SESSION_ID2, BLOCK_ID2, Long.MAX_VALUE);
+
+    mBlockStore.expireBlockLeases();
+    Assert.assertFalse(mLockManager.getLockedBlocks().contains(BLOCK_ID1));
+    Assert.assertTrue(mLockManager.getLockedBlocks().contains(BLOCK_ID2));
+
+    mBlockStore.cleanupSession(SESSION_ID2);
+    Assert.assertTrue(mLockManager.getLockedBlocks().isEmpty());
+    mLockManager.validate();
+  }
+
   /**
    * Tests that an exception is thrown when trying to get a writer for the block that does not
    * exist.
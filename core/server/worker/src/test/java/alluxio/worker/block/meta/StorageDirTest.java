@@ -19,6 +19,7 @@ import alluxio.exception.WorkerOutOfSpaceException;
 import alluxio.util.io.BufferUtils;
 import alluxio.worker.block.BlockStoreLocation;
 import alluxio.worker.block.TieredBlockStoreTestUtils;
+import alluxio.worker.block.io.BlockChecksum;
 
 import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
@@ -172,6 +173,24 @@ public final class StorageDirTest {
     assertStorageDirEmpty(testDir, mDir, TEST_DIR_CAPACITY);
   }
 
+  /**
+   * Tests that the checksum files of blocks are kept, and that the checksum files without blocks
+   * are deleted.
+   */
+  @Test
+  public void initializeMetaKeepBlockChecksums() throws Exception {
+    File testDir = mFolder.newFolder();
+
+    newBlockFile(testDir, String.valueOf(TEST_BLOCK_ID), 1);
+    newBlockFile(testDir, TEST_BLOCK_ID + BlockChecksum.FILE_SUFFIX, 1);
+    newBlockFile(testDir, TEST_TEMP_BLOCK_ID + BlockChecksum.FILE_SUFFIX, 1);
+
+    mDir = newStorageDir(testDir);
+    Assert.assertEquals(Sets.newHashSet(TEST_BLOCK_ID), Sets.newHashSet(mDir.getBlockIds()));
+    Assert.assertTrue(new File(testDir, TEST_BLOCK_ID + BlockChecksum.FILE_SUFFIX).exists());
+    Assert.assertFalse(new File(testDir, TEST_TEMP_BLOCK_ID + BlockChecksum.FILE_SUFFIX).exists());
+  }
+
   /**
    * Tests that the metadata of the files and directory is empty when creating an inappropriate
    * directory.
@@ -12,7 +12,12 @@
 package alluxio.worker.file;
 
 import alluxio.exception.status.UnavailableException;
+import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.thrift.FileSystemCommandOptions;
+import alluxio.thrift.FileSystemHeartbeatTOptions;
+import alluxio.thrift.LoadBlock;
+import alluxio.thrift.LoadCommandOptions;
 
 import com.google.common.collect.Lists;
 import org.junit.Before;
@@ -29,18 +34,20 @@ import java.util.concurrent.atomic.AtomicReference;
  * Tests {@link FileWorkerMasterSyncExecutor}.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({FileDataManager.class, FileSystemMasterClient.class})
+@PrepareForTest({BlockLoader.class, FileDataManager.class, FileSystemMasterClient.class})
 public final class FileWorkerMasterSyncExecutorTest {
   private FileDataManager mFileDataManager;
+  private BlockLoader mBlockLoader;
   private FileSystemMasterClient mFileSystemMasterClient;
   private FileWorkerMasterSyncExecutor mFileWorkerMasterSyncExecutor;
 
   @Before
   public void before() {
     mFileDataManager = Mockito.mock(FileDataManager.class);
+    mBlockLoader = Mockito.mock(BlockLoader.class);
     mFileSystemMasterClient = Mockito.mock(FileSystemMasterClient.class);
     mFileWorkerMasterSyncExecutor = new FileWorkerMasterSyncExecutor(mFileDataManager,
-        mFileSystemMasterClient, new AtomicReference<>(10L));
+        mBlockLoader, mFileSystemMasterClient, new AtomicReference<>(10L));
   }
 
   /**
@@ -52,7 +59,8 @@ public final class FileWorkerMasterSyncExecutorTest {
     List<Long> persistedFiles = Lists.newArrayList(1L);
     Mockito.when(mFileDataManager.getPersistedFiles()).thenReturn(persistedFiles);
     // first time fails, second time passes
-    Mockito.when(mFileSystemMasterClient.heartbeat(Mockito.anyLong(), Mockito.eq(persistedFiles)))
+    Mockito.when(mFileSystemMasterClient.heartbeat(Mockito.anyLong(), Mockito.eq(persistedFiles),
+        Mockito.any(FileSystemHeartbeatTOptions.class)))
         .thenThrow(new UnavailableException("failure"));
     mFileWorkerMasterSyncExecutor.heartbeat();
     Mockito.verify(mFileDataManager, Mockito.never()).clearPersistedFiles(persistedFiles);
@@ -67,9 +75,36 @@ public final class FileWorkerMasterSyncExecutorTest {
     List<Long> persistedFiles = Lists.newArrayList(1L);
     Mockito.when(mFileDataManager.getPersistedFiles()).thenReturn(persistedFiles);
     // first time fails, second time passes
-    Mockito.when(mFileSystemMasterClient.heartbeat(Mockito.anyLong(), Mockito.eq(persistedFiles)))
+    Mockito.when(mFileSystemMasterClient.heartbeat(Mockito.anyLong(), Mockito.eq(persistedFiles),
+        Mockito.any(FileSystemHeartbeatTOptions.class)))
         .thenReturn(new FileSystemCommand());
     mFileWorkerMasterSyncExecutor.heartbeat();
     Mockito.verify(mFileDataManager).clearPersistedFiles(persistedFiles);
   }
+
+  /**
+   * Verifies that the blocks loaded since the last heartbeat are reported and cleared along with
+   * the blocks being loaded, and that the blocks to load sent by the master are passed to the
+   * {@link BlockLoader}.
+   */
+  @Test
+  public void heartbeatLoad() throws Exception {
+    List<Long> loadedBlocks = Lists.newArrayList(1L);
+    List<Long> failedBlocks = Lists.newArrayList(2L);
+    List<Long> loadingBlocks = Lists.newArrayList(4L);
+    Mockito.when(mBlockLoader.getLoadingBlocks()).thenReturn(loadingBlocks);
+    Mockito.when(mBlockLoader.getLoadedBlocks()).thenReturn(loadedBlocks);
+    Mockito.when(mBlockLoader.getFailedBlocks()).thenReturn(failedBlocks);
+    List<LoadBlock> blocksToLoad = Lists.newArrayList(new LoadBlock(3L, "/file", 0, 10, 1));
+    FileSystemCommandOptions options = new FileSystemCommandOptions();
+    options.setLoadOptions(new LoadCommandOptions(blocksToLoad));
+    Mockito.when(mFileSystemMasterClient.heartbeat(Mockito.anyLong(),
+        Mockito.anyListOf(Long.class), Mockito.eq(new FileSystemHeartbeatTOptions()
+            .setLoadedBlocks(loadedBlocks).setFailedBlocks(failedBlocks)
+            .setLoadingBlocks(loadingBlocks))))
+        .thenReturn(new FileSystemCommand(CommandType.Load, options));
+    mFileWorkerMasterSyncExecutor.heartbeat();
+    Mockito.verify(mBlockLoader).clearReportedBlocks(loadedBlocks, failedBlocks);
+    Mockito.verify(mBlockLoader).load(blocksToLoad);
+  }
 }
@@ -170,6 +170,42 @@ public final class CodecTest {
             .isReadResponse()));
   }
 
+  @Test
+  public void localBlockLeaseRequest() throws Exception {
+    mChannel.writeOutbound(new RPCProtoMessage(
+        new ProtoMessage(Protocol.LocalBlockLeaseRequest.getDefaultInstance())));
+    Object object = waitForOneResponse(mChannel);
+    mChannel.writeInbound(object);
+    Object request = waitForOneRequest(mChannel);
+    Assert.assertTrue(
+        request instanceof RPCProtoMessage && (((RPCProtoMessage) request).getMessage()
+            .isLocalBlockLeaseRequest()));
+  }
+
+  @Test
+  public void localBlockLeaseResponse() throws Exception {
+    mChannel.writeOutbound(new RPCProtoMessage(
+        new ProtoMessage(Protocol.LocalBlockLeaseResponse.getDefaultInstance())));
+    Object object = waitForOneResponse(mChannel);
+    mChannel.writeInbound(object);
+    Object request = waitForOneRequest(mChannel);
+    Assert.assertTrue(
+        request instanceof RPCProtoMessage && (((RPCProtoMessage) request).getMessage()
+            .isLocalBlockLeaseResponse()));
+  }
+
+  @Test
+  public void localBlockLeaseReleaseRequest() throws Exception {
+    mChannel.writeOutbound(new RPCProtoMessage(
+        new ProtoMessage(Protocol.LocalBlockLeaseReleaseRequest.getDefaultInstance())));
+    Object object = waitForOneResponse(mChannel);
+    mChannel.writeInbound(object);
+    Object request = waitForOneRequest(mChannel);
+    Assert.assertTrue(
+        request instanceof RPCProtoMessage && (((RPCProtoMessage) request).getMessage()
+            .isLocalBlockLeaseReleaseRequest()));
+  }
+
   /**
    * Waits for one response.
    *
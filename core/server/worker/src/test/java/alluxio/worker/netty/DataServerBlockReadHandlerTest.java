@@ -41,10 +41,12 @@ public final class DataServerBlockReadHandlerTest extends DataServerReadHandlerT
     mBlockWorker = Mockito.mock(BlockWorker.class);
     Mockito.doNothing().when(mBlockWorker).accessBlock(Mockito.anyLong(), Mockito.anyLong());
     mChannel = new EmbeddedChannel(
-        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR, mBlockWorker,
+        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker,
             FileTransferType.MAPPED));
     mChannelNoException = new EmbeddedNoExceptionChannel(
-        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR, mBlockWorker,
+        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker,
             FileTransferType.MAPPED));
   }
 
@@ -54,7 +56,8 @@ public final class DataServerBlockReadHandlerTest extends DataServerReadHandlerT
   @Test
   public void transferType() throws Exception {
     mChannel = new EmbeddedChannel(
-        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR, mBlockWorker,
+        new DataServerBlockReadHandler(NettyExecutors.BLOCK_READER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker,
             FileTransferType.TRANSFER));
 
     long fileSize = PACKET_SIZE * 2;
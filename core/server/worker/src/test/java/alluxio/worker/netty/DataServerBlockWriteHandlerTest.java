@@ -59,9 +59,11 @@ public final class DataServerBlockWriteHandlerTest extends DataServerWriteHandle
     mChecksum = 0;
 
     mChannel = new EmbeddedChannel(
-        new DataServerBlockWriteHandler(NettyExecutors.BLOCK_WRITER_EXECUTOR, mBlockWorker));
+        new DataServerBlockWriteHandler(NettyExecutors.BLOCK_WRITER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker));
     mChannelNoException = new EmbeddedNoExceptionChannel(
-        new DataServerBlockWriteHandler(NettyExecutors.BLOCK_WRITER_EXECUTOR, mBlockWorker));
+        new DataServerBlockWriteHandler(NettyExecutors.BLOCK_WRITER_EXECUTOR,
+            NettyExecutors.DISK_IO_SCHEDULER, mBlockWorker));
   }
 
   /**
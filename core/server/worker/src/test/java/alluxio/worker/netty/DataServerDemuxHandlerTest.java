@@ -0,0 +1,210 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.network.protocol.RPCProtoMessage;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.proto.dataserver.Protocol;
+import alluxio.proto.status.Status.PStatus;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.proto.ProtoMessage;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.LocalFileBlockReader;
+
+import com.google.common.base.Function;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+/**
+ * Unit tests for {@link DataServerDemuxHandler}.
+ */
+public final class DataServerDemuxHandlerTest {
+  private static final long PACKET_SIZE =
+      Configuration.getBytes(PropertyKey.USER_NETWORK_NETTY_READER_PACKET_SIZE_BYTES);
+  private static final int PACKETS = 5;
+
+  private BlockWorker mBlockWorker;
+  private EmbeddedChannel mChannel;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  @Before
+  public void before() throws Exception {
+    final File file = mTestFolder.newFile();
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(new byte[(int) (PACKET_SIZE * PACKETS)]);
+    }
+    mBlockWorker = Mockito.mock(BlockWorker.class);
+    Mockito
+        .when(mBlockWorker.readBlockRemote(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong()))
+        .thenAnswer(new Answer<BlockReader>() {
+          @Override
+          public BlockReader answer(InvocationOnMock invocation) throws Throwable {
+            return new LocalFileBlockReader(file.getPath());
+          }
+        });
+    mChannel = new EmbeddedChannel(
+        new DataServerDemuxHandler(mBlockWorker, null, FileTransferType.MAPPED));
+  }
+
+  @After
+  public void after() {
+    mChannel.close();
+  }
+
+  /**
+   * Tests that the responses of concurrent read streams carry the ids of their streams.
+   */
+  @Test
+  public void concurrentReadStreams() throws Exception {
+    // Each stream gets one credit at a time, so that only one of them sends on the channel at once.
+    mChannel.writeInbound(buildReadRequest(1, 1));
+    checkPacket(1);
+    mChannel.writeInbound(buildReadRequest(2, 1));
+    checkPacket(2);
+    for (int i = 1; i < PACKETS; i++) {
+      for (long streamId = 1; streamId <= 2; streamId++) {
+        mChannel.writeInbound(buildCreditGrant(streamId, 1));
+        checkPacket(streamId);
+        if (i == PACKETS - 1) {
+          checkEof(streamId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that the server only sends as many packets as the client has granted credits for.
+   */
+  @Test
+  public void credits() throws Exception {
+    mChannel.writeInbound(buildReadRequest(1, 2));
+    checkPacket(1);
+    checkPacket(1);
+    CommonUtils.sleepMs(100);
+    Assert.assertNull(mChannel.readOutbound());
+
+    mChannel.writeInbound(buildCreditGrant(1, PACKETS));
+    for (int i = 2; i < PACKETS; i++) {
+      checkPacket(1);
+    }
+    checkEof(1);
+  }
+
+  /**
+   * Tests that a cancel of a stream which has completed is dropped.
+   */
+  @Test
+  public void cancelCompletedStream() throws Exception {
+    Protocol.ReadRequest cancel = Protocol.ReadRequest.newBuilder().setBlockId(1L).setStreamId(1)
+        .setCancel(true).build();
+    mChannel.writeInbound(new RPCProtoMessage(new ProtoMessage(cancel)));
+    CommonUtils.sleepMs(100);
+    Assert.assertNull(mChannel.readOutbound());
+    Assert.assertTrue(mChannel.isOpen());
+  }
+
+  /**
+   * Tests that the requests without a stream id are passed on to the next handlers.
+   */
+  @Test
+  public void requestWithoutStream() throws Exception {
+    Protocol.ReadRequest request = Protocol.ReadRequest.newBuilder().setBlockId(1L).setOffset(0)
+        .setLength(PACKET_SIZE).setPacketSize(PACKET_SIZE).build();
+    RPCProtoMessage message = new RPCProtoMessage(new ProtoMessage(request));
+    mChannel.writeInbound(message);
+    Assert.assertSame(message, mChannel.readInbound());
+  }
+
+  /**
+   * Builds a read request of a multiplexed stream for the whole block.
+   *
+   * @param streamId the id of the stream
+   * @param credits the initial credits of the stream
+   * @return the request
+   */
+  private RPCProtoMessage buildReadRequest(long streamId, int credits) {
+    Protocol.ReadRequest request = Protocol.ReadRequest.newBuilder().setBlockId(1L).setOffset(0)
+        .setLength(PACKET_SIZE * PACKETS).setPacketSize(PACKET_SIZE).setStreamId(streamId)
+        .setCredits(credits).build();
+    return new RPCProtoMessage(new ProtoMessage(request));
+  }
+
+  /**
+   * Builds a request granting credits to a multiplexed stream.
+   *
+   * @param streamId the id of the stream
+   * @param credits the number of packets granted
+   * @return the request
+   */
+  private RPCProtoMessage buildCreditGrant(long streamId, int credits) {
+    Protocol.ReadRequest request =
+        Protocol.ReadRequest.newBuilder().setStreamId(streamId).setCredits(credits).build();
+    return new RPCProtoMessage(new ProtoMessage(request));
+  }
+
+  /**
+   * Checks that the next response is a full packet of a stream.
+   *
+   * @param streamId the id of the stream
+   */
+  private void checkPacket(long streamId) {
+    RPCProtoMessage response = waitForOneResponse();
+    Assert.assertEquals(streamId, response.getStreamId());
+    DataBuffer buffer = response.getPayloadDataBuffer();
+    Assert.assertNotNull(buffer);
+    Assert.assertEquals(PACKET_SIZE, buffer.getLength());
+    buffer.release();
+  }
+
+  /**
+   * Checks that the next response is the successful end of a stream.
+   *
+   * @param streamId the id of the stream
+   */
+  private void checkEof(long streamId) {
+    RPCProtoMessage response = waitForOneResponse();
+    Assert.assertEquals(streamId, response.getStreamId());
+    Assert.assertEquals(PStatus.OK, response.getMessage().asResponse().getStatus());
+    Assert.assertNull(response.getPayloadDataBuffer());
+  }
+
+  /**
+   * @return the next response sent on the channel
+   */
+  private RPCProtoMessage waitForOneResponse() {
+    return (RPCProtoMessage) CommonUtils.waitForResult("response from the channel",
+        new Function<Void, Object>() {
+          @Override
+          public Object apply(Void v) {
+            return mChannel.readOutbound();
+          }
+        }, WaitForOptions.defaults().setTimeoutMs(Constants.MINUTE_MS));
+  }
+}
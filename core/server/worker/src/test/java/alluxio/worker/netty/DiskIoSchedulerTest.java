@@ -0,0 +1,168 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.netty;
+
+import alluxio.worker.block.BlockMetadataManager;
+import alluxio.worker.block.TieredBlockStoreTestUtils;
+import alluxio.worker.block.meta.StorageDir;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link DiskIoScheduler}.
+ */
+public final class DiskIoSchedulerTest {
+  private static final long TIMEOUT_MS = 10000;
+
+  @Rule
+  public TemporaryFolder mTestFolder = new TemporaryFolder();
+
+  private StorageDir mDir1;
+  private StorageDir mDir2;
+  /** The I/O which have been run, in order. */
+  private final List<String> mRun = Collections.synchronizedList(new ArrayList<String>());
+
+  @Before
+  public void before() throws Exception {
+    BlockMetadataManager metaManager = TieredBlockStoreTestUtils
+        .defaultMetadataManager(mTestFolder.newFolder().getAbsolutePath());
+    mDir1 = metaManager.getTier("MEM").getDir(0);
+    mDir2 = metaManager.getTier("MEM").getDir(1);
+  }
+
+  /**
+   * Tests that the I/O on unknown directories, or when scheduling is disabled, runs on the shared
+   * executor.
+   */
+  @Test
+  public void sharedExecutor() {
+    Executor shared = NettyExecutors.BLOCK_READER_EXECUTOR;
+    Assert.assertSame(shared, new DiskIoScheduler(1, 1)
+        .getExecutor(null, DiskIoScheduler.IoType.READ, shared));
+    Assert.assertSame(shared, new DiskIoScheduler(0, 1)
+        .getExecutor(mDir1, DiskIoScheduler.IoType.READ, shared));
+  }
+
+  /**
+   * Tests that a blocked directory does not delay the I/O on other directories.
+   */
+  @Test
+  public void isolateDirectories() throws Exception {
+    DiskIoScheduler scheduler = new DiskIoScheduler(1, 16);
+    CountDownLatch release = block(scheduler.getExecutor(mDir1, DiskIoScheduler.IoType.READ,
+        null));
+    try {
+      CountDownLatch done = new CountDownLatch(1);
+      scheduler.getExecutor(mDir2, DiskIoScheduler.IoType.READ, null).execute(countDown(done));
+      Assert.assertTrue(done.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  /**
+   * Tests that the threads of a directory take reads and writes in turn.
+   */
+  @Test
+  public void fairScheduling() throws Exception {
+    DiskIoScheduler scheduler = new DiskIoScheduler(1, 16);
+    Executor reads = scheduler.getExecutor(mDir1, DiskIoScheduler.IoType.READ, null);
+    Executor writes = scheduler.getExecutor(mDir1, DiskIoScheduler.IoType.WRITE, null);
+    CountDownLatch release = block(writes);
+    writes.execute(record("write1"));
+    writes.execute(record("write2"));
+    writes.execute(record("write3"));
+    reads.execute(record("read1"));
+    CountDownLatch done = new CountDownLatch(1);
+    writes.execute(countDown(done));
+    release.countDown();
+    Assert.assertTrue(done.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    Assert.assertEquals(Arrays.asList("read1", "write1", "write2", "write3"), mRun);
+  }
+
+  /**
+   * Tests that the I/O is rejected when the queue of a directory is full.
+   */
+  @Test
+  public void queueFull() throws Exception {
+    DiskIoScheduler scheduler = new DiskIoScheduler(1, 2);
+    Executor reads = scheduler.getExecutor(mDir1, DiskIoScheduler.IoType.READ, null);
+    CountDownLatch release = block(reads);
+    try {
+      reads.execute(record("read1"));
+      reads.execute(record("read2"));
+      try {
+        reads.execute(record("read3"));
+        Assert.fail("The I/O should be rejected when the queue is full.");
+      } catch (RejectedExecutionException e) {
+        // expected
+      }
+    } finally {
+      release.countDown();
+    }
+  }
+
+  /**
+   * Occupies the only thread of a directory until the returned latch is released.
+   *
+   * @param executor the executor of the directory
+   * @return the latch to release the thread
+   */
+  private CountDownLatch block(Executor executor) throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    Assert.assertTrue(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    return release;
+  }
+
+  private Runnable record(final String name) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        mRun.add(name);
+      }
+    };
+  }
+
+  private static Runnable countDown(final CountDownLatch latch) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    };
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli;
+
+import alluxio.RuntimeConstants;
+import alluxio.collections.LongHashSet;
+import alluxio.collections.LongLinkedHashSet;
+import alluxio.collections.LongObjectHashMap;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Benchmark that measures the heap used per block by the long-keyed collections which hold the
+ * worker block metadata, compared to the boxed {@link java.util} collections they replace. Each
+ * collection is filled with random block ids, and the heap growth is divided by the number of
+ * blocks. The values of the maps are shared, so only the overhead of the collections is measured.
+ */
+@ThreadSafe
+public final class LongCollectionsBenchmark {
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("blocks", true, "The number of blocks to add to each collection.");
+
+  private static final Object VALUE = new Object();
+
+  private static boolean sHelp;
+  private static int sBlocks;
+
+  private LongCollectionsBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format("java -cp %s %s -blocks <blocks>",
+        RuntimeConstants.ALLUXIO_JAR, LongCollectionsBenchmark.class.getCanonicalName()),
+        "measure the heap used per block by block metadata collections", OPTIONS, "", true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sBlocks = Integer.parseInt(cmd.getOptionValue("blocks", "5000000"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments, see {@link #usage()}
+   */
+  public static void main(String[] args) {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    long[] blockIds = new long[sBlocks];
+    Random random = new Random();
+    for (int i = 0; i < blockIds.length; i++) {
+      blockIds[i] = random.nextLong();
+    }
+
+    long before = usedHeap();
+    Map<Long, Object> hashMap = new HashMap<>();
+    for (long blockId : blockIds) {
+      hashMap.put(blockId, VALUE);
+    }
+    report("HashMap<Long, Object>", before, hashMap.size());
+    hashMap = null;
+
+    before = usedHeap();
+    LongObjectHashMap<Object> longObjectHashMap = new LongObjectHashMap<>();
+    for (long blockId : blockIds) {
+      longObjectHashMap.put(blockId, VALUE);
+    }
+    report("LongObjectHashMap<Object>", before, longObjectHashMap.size());
+    longObjectHashMap = null;
+
+    before = usedHeap();
+    Set<Long> hashSet = new HashSet<>();
+    for (long blockId : blockIds) {
+      hashSet.add(blockId);
+    }
+    report("HashSet<Long>", before, hashSet.size());
+    hashSet = null;
+
+    before = usedHeap();
+    LongHashSet longHashSet = new LongHashSet();
+    for (long blockId : blockIds) {
+      longHashSet.add(blockId);
+    }
+    report("LongHashSet", before, longHashSet.size());
+    longHashSet = null;
+
+    before = usedHeap();
+    Map<Long, Boolean> linkedHashMap = new LinkedHashMap<>(16, 0.75f, true);
+    for (long blockId : blockIds) {
+      linkedHashMap.put(blockId, true);
+    }
+    report("LinkedHashMap<Long, Boolean>", before, linkedHashMap.size());
+    linkedHashMap = null;
+
+    before = usedHeap();
+    LongLinkedHashSet longLinkedHashSet = new LongLinkedHashSet();
+    for (long blockId : blockIds) {
+      longLinkedHashSet.add(blockId);
+    }
+    report("LongLinkedHashSet", before, longLinkedHashSet.size());
+  }
+
+  /**
+   * Prints the heap used per block by a collection.
+   *
+   * @param name the name of the collection
+   * @param before the used heap before the collection was created
+   * @param size the number of blocks in the collection
+   */
+  private static void report(String name, long before, int size) {
+    double bytesPerBlock = (usedHeap() - before) * 1.0 / size;
+    System.out.printf("%-30s %8.1f bytes per block%n", name, bytesPerBlock);
+  }
+
+  /**
+   * @return the used heap after garbage collection
+   */
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli;
+
+import alluxio.Constants;
+import alluxio.RuntimeConstants;
+import alluxio.util.CommonUtils;
+import alluxio.util.FormatUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Load benchmark of the data path of the HTTP proxy. Each iteration uploads a file as a multipart
+ * upload whose parts are uploaded concurrently, and then reads the file back with concurrent range
+ * reads, each reader using its own stream. The aggregated throughput of both phases is reported.
+ */
+@ThreadSafe
+public final class ProxyBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(ProxyBenchmark.class);
+
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("host", true, "The hostname of the proxy.")
+          .addOption("port", true, "The web port of the proxy.")
+          .addOption("path", true, "The Alluxio path of the file to upload and read.")
+          .addOption("fileSize", true, "The file size (e.g. 1GB).")
+          .addOption("partSize", true, "The size of each uploaded part and read range (e.g. 64MB).")
+          .addOption("iterations", true, "The number of iterations to run.")
+          .addOption("concurrency", true, "The number of concurrent requests.");
+
+  private static boolean sHelp;
+  private static String sHost;
+  private static int sPort;
+  private static String sPath;
+  private static long sFileSize;
+  private static long sPartSize;
+  private static int sIterations;
+  private static int sConcurrency;
+
+  private ProxyBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp %s %s -host <host> -port <port> -path <path> -fileSize <fileSize> "
+            + "-partSize <partSize> -iterations <iterations> -concurrency <concurrency>",
+        RuntimeConstants.ALLUXIO_JAR, ProxyBenchmark.class.getCanonicalName()),
+        "run a load benchmark of multipart uploads and range reads through the proxy",
+        OPTIONS, "", true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sHost = cmd.getOptionValue("host", "localhost");
+    sPort = Integer.parseInt(cmd.getOptionValue("port", "39999"));
+    sPath = cmd.getOptionValue("path", "/default_proxy_benchmark");
+    sFileSize = FormatUtils.parseSpaceSize(cmd.getOptionValue("fileSize", "1GB"));
+    sPartSize = FormatUtils.parseSpaceSize(cmd.getOptionValue("partSize", "64MB"));
+    sIterations = Integer.parseInt(cmd.getOptionValue("iterations", "1"));
+    sConcurrency = Integer.parseInt(cmd.getOptionValue("concurrency", "4"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments, see {@link #usage()}
+   * @throws Exception if error occurs during tests
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+    Preconditions.checkArgument(sPartSize > 0 && sPartSize <= Integer.MAX_VALUE,
+        "invalid part size %s", sPartSize);
+
+    CommonUtils.warmUpLoop();
+
+    int parts = (int) ((sFileSize + sPartSize - 1) / sPartSize);
+    ExecutorService executorService = Executors.newFixedThreadPool(sConcurrency);
+    try {
+      for (int i = 0; i < sIterations; ++i) {
+        long startTime = System.nanoTime();
+        upload(executorService, parts);
+        report("Upload", i, System.nanoTime() - startTime);
+
+        startTime = System.nanoTime();
+        read(executorService, parts);
+        report("Range read", i, System.nanoTime() - startTime);
+
+        post("paths" + sPath + "/delete", "", null, null);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Uploads the file as a multipart upload.
+   *
+   * @param executorService the executor to upload the parts with
+   * @param parts the number of parts
+   */
+  private static void upload(ExecutorService executorService, int parts) throws Exception {
+    final String uploadId =
+        new String(post("paths" + sPath + "/create-multipart-upload", "", null, null),
+            StandardCharsets.UTF_8).trim();
+    final byte[] data = new byte[(int) Math.min(sPartSize, sFileSize)];
+    Arrays.fill(data, (byte) 'a');
+    List<Future<byte[]>> futures = new ArrayList<>();
+    for (int part = 0; part < parts; part++) {
+      final int partNumber = part;
+      final int length = (int) Math.min(sPartSize, sFileSize - part * sPartSize);
+      futures.add(executorService.submit(new Callable<byte[]>() {
+        @Override
+        public byte[] call() throws Exception {
+          return post("paths" + sPath + "/upload-part",
+              "uploadId=" + uploadId + "&partNumber=" + partNumber, null,
+              Arrays.copyOf(data, length));
+        }
+      }));
+    }
+    waitFor(futures);
+    post("paths" + sPath + "/complete-multipart-upload", "uploadId=" + uploadId, null, null);
+  }
+
+  /**
+   * Reads the file with range reads, one range per part. Each range is read from a separate
+   * stream, so that the reads of a stream are not serialized.
+   *
+   * @param executorService the executor to read the ranges with
+   * @param parts the number of parts
+   */
+  private static void read(ExecutorService executorService, int parts) throws Exception {
+    List<Future<byte[]>> futures = new ArrayList<>();
+    for (int part = 0; part < parts; part++) {
+      final long first = part * sPartSize;
+      final long last = Math.min(first + sPartSize, sFileSize) - 1;
+      futures.add(executorService.submit(new Callable<byte[]>() {
+        @Override
+        public byte[] call() throws Exception {
+          String id = new String(post("paths" + sPath + "/open-file", "", null, null),
+              StandardCharsets.UTF_8).trim();
+          try {
+            post("streams/" + id + "/read", "", "bytes=" + first + "-" + last, null);
+          } finally {
+            post("streams/" + id + "/close", "", null, null);
+          }
+          return null;
+        }
+      }));
+    }
+    waitFor(futures);
+  }
+
+  /**
+   * Sends a POST request to the proxy, and reads the response.
+   *
+   * @param endpoint the endpoint to call
+   * @param query the query string
+   * @param range the value of the {@code Range} header, or null
+   * @param data the data to send, or null
+   * @return the body of the response, or null for a range read whose data is discarded
+   */
+  private static byte[] post(String endpoint, String query, String range, byte[] data)
+      throws IOException {
+    URL url = new URL(String.format("http://%s:%d%s/%s?%s", sHost, sPort,
+        Constants.REST_API_PREFIX, endpoint, query));
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    connection.setRequestMethod("POST");
+    if (range != null) {
+      connection.setRequestProperty("Range", range);
+    }
+    if (data != null) {
+      connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(data.length);
+      connection.setRequestProperty("Content-Type", "application/octet-stream");
+      try (OutputStream os = connection.getOutputStream()) {
+        os.write(data);
+      }
+    }
+    int status = connection.getResponseCode();
+    if (status != HttpURLConnection.HTTP_OK && status != HttpURLConnection.HTTP_PARTIAL) {
+      throw new IOException(String.format("Request to %s failed with status code %d", url, status));
+    }
+    try (InputStream is = connection.getInputStream()) {
+      if (range == null) {
+        return ByteStreams.toByteArray(is);
+      }
+      byte[] buffer = new byte[Constants.MB];
+      while (is.read(buffer) != -1) {
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Waits for the requests to finish.
+   *
+   * @param futures the futures of the requests
+   */
+  private static void waitFor(List<Future<byte[]>> futures) throws Exception {
+    for (Future<byte[]> future : futures) {
+      try {
+        future.get();
+      } catch (Exception e) {
+        LOG.error("Request failed.", e);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Prints the throughput of a phase of an iteration.
+   *
+   * @param phase the name of the phase
+   * @param iteration the iteration
+   * @param nanos the duration of the phase in nanoseconds
+   */
+  private static void report(String phase, int iteration, long nanos) {
+    double time = nanos * 1.0 / Constants.SECOND_NANO;
+    System.out.printf("%s iteration: %d; Duration: %f seconds; Aggregated throughput: %f MB/second."
+        + "%n", phase, iteration, time, sFileSize * 1.0 / time / Constants.MB);
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli;
+
+import alluxio.Constants;
+import alluxio.RuntimeConstants;
+import alluxio.resource.DynamicResourcePool;
+import alluxio.resource.Pool;
+import alluxio.resource.ResourcePool;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Benchmark that measures the throughput of acquiring and releasing resources from the client
+ * resource pools under many threads, as block streams do with the Netty channel pool and clients
+ * do with the master client pools. Each thread acquires a resource, holds it for a given time and
+ * releases it, in a loop.
+ */
+@ThreadSafe
+public final class ResourcePoolBenchmark {
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("threads", true, "The number of threads acquiring resources.")
+          .addOption("capacity", true, "The max capacity of the pools.")
+          .addOption("operations", true, "The number of acquires per thread.")
+          .addOption("holdNanos", true, "The time to hold each resource in nanoseconds.");
+
+  private static final ScheduledExecutorService GC_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+      ThreadFactoryUtils.build("ResourcePoolBenchmarkGc-%d", true));
+
+  private static boolean sHelp;
+  private static int sThreads;
+  private static int sCapacity;
+  private static int sOperations;
+  private static long sHoldNanos;
+
+  private ResourcePoolBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp %s %s -threads <threads> -capacity <capacity> -operations <operations> "
+            + "-holdNanos <holdNanos>",
+        RuntimeConstants.ALLUXIO_JAR, ResourcePoolBenchmark.class.getCanonicalName()),
+        "measure the throughput of the client resource pools under many threads", OPTIONS, "",
+        true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sThreads = Integer.parseInt(cmd.getOptionValue("threads", "256"));
+    sCapacity = Integer.parseInt(cmd.getOptionValue("capacity", "64"));
+    sOperations = Integer.parseInt(cmd.getOptionValue("operations", "100000"));
+    sHoldNanos = Long.parseLong(cmd.getOptionValue("holdNanos", "0"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments, see {@link #usage()}
+   * @throws Exception if error occurs during tests
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    // Run each pool twice, and report the second run, after the JIT has warmed up.
+    for (int i = 0; i < 2; i++) {
+      boolean report = i == 1;
+      run("DynamicResourcePool", new BenchmarkDynamicResourcePool(sCapacity), report);
+      run("ResourcePool", new BenchmarkResourcePool(sCapacity), report);
+    }
+  }
+
+  /**
+   * Runs the benchmark on a pool.
+   *
+   * @param name the name of the pool
+   * @param pool the pool
+   * @param report whether to print the result
+   */
+  private static void run(String name, final Pool<Object> pool, boolean report)
+      throws Exception {
+    final CyclicBarrier barrier = new CyclicBarrier(sThreads + 1);
+    final AtomicLong failures = new AtomicLong();
+    ExecutorService executorService = Executors.newFixedThreadPool(sThreads);
+    for (int i = 0; i < sThreads; i++) {
+      executorService.submit(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            barrier.await();
+            for (int j = 0; j < sOperations; j++) {
+              Object resource = pool.acquire(1, TimeUnit.MINUTES);
+              if (sHoldNanos > 0) {
+                long end = System.nanoTime() + sHoldNanos;
+                while (System.nanoTime() < end) {
+                }
+              }
+              pool.release(resource);
+            }
+          } catch (Exception e) {
+            failures.incrementAndGet();
+          }
+        }
+      });
+    }
+    barrier.await();
+    long startTime = System.nanoTime();
+    executorService.shutdown();
+    Preconditions.checkState(executorService.awaitTermination(1, TimeUnit.HOURS));
+    long duration = System.nanoTime() - startTime;
+    pool.close();
+    Preconditions.checkState(failures.get() == 0, "%s acquires failed", failures.get());
+    if (report) {
+      double seconds = duration * 1.0 / Constants.SECOND_NANO;
+      System.out.printf("%-20s %d threads: %.0f acquires per second%n", name, sThreads,
+          (double) sThreads * sOperations / seconds);
+    }
+  }
+
+  /**
+   * A {@link DynamicResourcePool} of plain objects which are never collected.
+   */
+  private static final class BenchmarkDynamicResourcePool extends DynamicResourcePool<Object> {
+    /**
+     * Creates a new instance of {@link BenchmarkDynamicResourcePool}.
+     *
+     * @param capacity the max capacity
+     */
+    BenchmarkDynamicResourcePool(int capacity) {
+      super(Options.defaultOptions().setMaxCapacity(capacity).setGcExecutor(GC_EXECUTOR));
+    }
+
+    @Override
+    protected boolean shouldGc(ResourceInternal<Object> resourceInternal) {
+      return false;
+    }
+
+    @Override
+    protected boolean isHealthy(Object resource) {
+      return true;
+    }
+
+    @Override
+    protected void closeResource(Object resource) {}
+
+    @Override
+    protected void closeResourceSync(Object resource) {}
+
+    @Override
+    protected Object createNewResource() {
+      return new Object();
+    }
+  }
+
+  /**
+   * A {@link ResourcePool} of plain objects.
+   */
+  private static final class BenchmarkResourcePool extends ResourcePool<Object> {
+    /**
+     * Creates a new instance of {@link BenchmarkResourcePool}.
+     *
+     * @param capacity the max capacity
+     */
+    BenchmarkResourcePool(int capacity) {
+      super(capacity);
+    }
+
+    @Override
+    public void close() throws IOException {
+      mResources.clear();
+    }
+
+    @Override
+    protected Object createNewResource() {
+      return new Object();
+    }
+  }
+}
@@ -130,4 +130,11 @@ final class BaseKeyValuePartitionReader implements KeyValuePartitionReader {
   public int size() throws IOException, AlluxioException {
     return mClient.getSize(mBlockId);
   }
+
+  @Override
+  public List<KeyValuePair> scan(ByteBuffer startKey, ByteBuffer endKey, int maxPairs)
+      throws IOException, AlluxioException {
+    Preconditions.checkState(!mClosed, "Can not query a reader closed");
+    return mClient.scan(mBlockId, startKey, endKey, maxPairs);
+  }
 }
@@ -30,8 +30,9 @@ import javax.annotation.concurrent.NotThreadSafe;
  * A partition file consists of:
  * <ul>
  *   <li>A payload buffer which is an array of (key,value) pairs;</li>
- *   <li>A index which is a hash table maps each key to the offset in bytes into the payload
- *   buffer;</li>
+ *   <li>A index which maps each key to the offset in bytes into the payload buffer, either a hash
+ *   table or a sparse index of the keys in order, see
+ *   {@link PropertyKey#KEY_VALUE_PARTITION_INDEX_TYPE};</li>
  *   <li>A 4-bytes pointer in the end indicating the offset of the index.</li>
  * </ul>
  *
@@ -63,7 +64,7 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
     // TODO(binfan): write a header in the file
 
     mPayloadWriter = new BasePayloadWriter(mFileOutStream);
-    mIndex = LinearProbingIndex.createEmptyIndex();
+    mIndex = createIndex();
     mClosed = false;
     mCanceled = false;
     mMaxSizeBytes = Configuration.getBytes(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX);
@@ -125,6 +126,15 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
     return mFileOutStream.getBytesWritten() + mIndex.byteCount() + Integer.SIZE / Byte.SIZE;
   }
 
+  private static Index createIndex() {
+    switch (Configuration.getEnum(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.class)) {
+      case SORTED:
+        return SortedIndex.createEmptyIndex();
+      default:
+        return LinearProbingIndex.createEmptyIndex();
+    }
+  }
+
   private void build() throws IOException {
     Preconditions.checkState(!mClosed);
     mFileOutStream.flush();
@@ -12,6 +12,8 @@
 package alluxio.client.keyvalue;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.client.file.FileSystemContext;
 import alluxio.exception.AlluxioException;
 import alluxio.thrift.PartitionInfo;
@@ -24,6 +26,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -40,6 +45,10 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
 
   /** A list of partitions of the store. */
   private final List<PartitionInfo> mPartitions;
+  /** The partitions of the store in the order of their first keys. */
+  private final List<PartitionInfo> mSortedPartitions;
+  /** Whether the key ranges of some partitions overlap, e.g. after stores are merged. */
+  private final boolean mOverlapping;
 
   /**
    * Constructs a {@link BaseKeyValueStoreReader} instance.
@@ -52,6 +61,23 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
     mMasterClient = new KeyValueMasterClient(mMasterAddress);
     mPartitions = mMasterClient.getPartitionInfo(uri);
     mMasterClient.close();
+    mSortedPartitions = new ArrayList<>(mPartitions);
+    Collections.sort(mSortedPartitions, new Comparator<PartitionInfo>() {
+      @Override
+      public int compare(PartitionInfo a, PartitionInfo b) {
+        return a.bufferForKeyStart().compareTo(b.bufferForKeyStart());
+      }
+    });
+    boolean overlapping = false;
+    for (int i = 1; i < mSortedPartitions.size(); i++) {
+      // NOTE: keyStart and keyLimit are both inclusive
+      if (mSortedPartitions.get(i).bufferForKeyStart()
+          .compareTo(mSortedPartitions.get(i - 1).bufferForKeyLimit()) <= 0) {
+        overlapping = true;
+        break;
+      }
+    }
+    mOverlapping = overlapping;
   }
 
   @Override
@@ -70,11 +96,28 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
   @Override
   public ByteBuffer get(ByteBuffer key) throws IOException, AlluxioException {
     Preconditions.checkNotNull(key);
+    if (mOverlapping) {
+      // The key may be in any of the partitions whose key ranges include it, and the first of them
+      // which has the key is used.
+      for (PartitionInfo partition : mPartitions) {
+        if (key.compareTo(partition.bufferForKeyStart()) >= 0
+            && key.compareTo(partition.bufferForKeyLimit()) <= 0) {
+          try (KeyValuePartitionReader reader =
+              KeyValuePartitionReader.Factory.create(partition.getBlockId())) {
+            ByteBuffer value = reader.get(key);
+            if (value != null) {
+              return value;
+            }
+          }
+        }
+      }
+      return null;
+    }
     int left = 0;
-    int right = mPartitions.size();
+    int right = mSortedPartitions.size();
     while (left < right) {
       int middle = (right + left) / 2;
-      PartitionInfo partition = mPartitions.get(middle);
+      PartitionInfo partition = mSortedPartitions.get(middle);
       // NOTE: keyStart and keyLimit are both inclusive
       if (key.compareTo(partition.bufferForKeyStart()) < 0) {
         right = middle;
@@ -96,6 +139,49 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
     return new KeyValueStoreIterator(mPartitions);
   }
 
+  @Override
+  public KeyValueIterator scan(ByteBuffer startKey, ByteBuffer endKey)
+      throws IOException, AlluxioException {
+    int batchSize = Configuration.getInt(PropertyKey.KEY_VALUE_SCAN_BATCH_SIZE);
+    List<PartitionInfo> partitions = new ArrayList<>();
+    // Overlapping partitions are merged in their order in the store, so that the first of them
+    // with a key is used, as by get.
+    for (PartitionInfo partition : mOverlapping ? mPartitions : mSortedPartitions) {
+      // NOTE: keyStart and keyLimit are both inclusive
+      if ((startKey == null || partition.bufferForKeyLimit().compareTo(startKey) >= 0)
+          && (endKey == null || partition.bufferForKeyStart().compareTo(endKey) < 0)) {
+        partitions.add(partition);
+      }
+    }
+    if (!mOverlapping) {
+      return new KeyValueStoreScanIterator(partitions, startKey, endKey, batchSize);
+    }
+    List<KeyValueIterator> iterators = new ArrayList<>(partitions.size());
+    for (PartitionInfo partition : partitions) {
+      iterators.add(new KeyValueStoreScanIterator(Collections.singletonList(partition), startKey,
+          endKey, batchSize));
+    }
+    return new MergingKeyValueIterator(iterators);
+  }
+
+  @Override
+  public KeyValueIterator prefixScan(ByteBuffer prefix) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(prefix);
+    // The keys with the prefix are less than the prefix with its last byte which is not the
+    // largest byte incremented, and the bytes after it removed.
+    ByteBuffer endKey = null;
+    for (int i = prefix.limit() - 1; i >= prefix.position(); i--) {
+      if (prefix.get(i) != Byte.MAX_VALUE) {
+        endKey = ByteBuffer.allocate(i + 1 - prefix.position());
+        endKey.put((ByteBuffer) prefix.duplicate().limit(i));
+        endKey.put((byte) (prefix.get(i) + 1));
+        endKey.flip();
+        break;
+      }
+    }
+    return scan(prefix.hasRemaining() ? prefix : null, endKey);
+  }
+
   @Override
   public int size() throws IOException, AlluxioException {
     int totalSize = 0;
@@ -28,7 +28,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -39,10 +41,17 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 class BaseKeyValueStoreWriter implements KeyValueStoreWriter {
   private static final Logger LOG = LoggerFactory.getLogger(BaseKeyValueStoreWriter.class);
+  private static final String DEFAULT_PARTITION_PREFIX = "part";
 
   private final FileSystem mFileSystem = FileSystem.Factory.get();
   private final KeyValueMasterClient mMasterClient;
   private final AlluxioURI mStoreUri;
+  /** The prefix of the names of the partition files. */
+  private final String mPartitionPrefix;
+  /** Whether the store is created by this writer, and completed when it is closed. */
+  private final boolean mOwnsStore;
+  /** The partitions completed by this writer, in the order they were written. */
+  private final List<PartitionInfo> mPartitions = new ArrayList<>();
 
   private long mPartitionIndex;
   private KeyValuePartitionWriter mWriter = null;
@@ -64,11 +73,29 @@ class BaseKeyValueStoreWriter implements KeyValueStoreWriter {
    * @param uri URI of the store
    */
   BaseKeyValueStoreWriter(AlluxioURI uri) throws IOException {
+    this(uri, DEFAULT_PARTITION_PREFIX, true);
+  }
+
+  /**
+   * Constructs a {@link BaseKeyValueStoreWriter}. Several writers with different partition
+   * prefixes can add partitions to an incomplete store which none of them creates, e.g. to build
+   * the partitions of the store concurrently.
+   *
+   * @param uri URI of the store
+   * @param partitionPrefix the prefix of the names of the partition files
+   * @param createStore whether to create the store, and complete it when the writer is closed
+   */
+  BaseKeyValueStoreWriter(AlluxioURI uri, String partitionPrefix, boolean createStore)
+      throws IOException {
     LOG.info("Create KeyValueStoreWriter for {}", uri);
     mMasterClient = new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress());
 
     mStoreUri = Preconditions.checkNotNull(uri);
-    mMasterClient.createStore(mStoreUri);
+    mPartitionPrefix = Preconditions.checkNotNull(partitionPrefix);
+    mOwnsStore = createStore;
+    if (mOwnsStore) {
+      mMasterClient.createStore(mStoreUri);
+    }
     mPartitionIndex = 0;
     mClosed = false;
   }
@@ -80,11 +107,15 @@ class BaseKeyValueStoreWriter implements KeyValueStoreWriter {
     }
     try {
       if (mCanceled) {
-        mWriter.cancel();
+        if (mWriter != null) {
+          mWriter.cancel();
+        }
         // TODO(binfan): cancel all other written partitions
       } else {
         completePartition();
-        mMasterClient.completeStore(mStoreUri);
+        if (mOwnsStore) {
+          mMasterClient.completeStore(mStoreUri);
+        }
       }
     } catch (Exception e) {
       throw new IOException(e);
@@ -162,11 +193,19 @@ class BaseKeyValueStoreWriter implements KeyValueStoreWriter {
     put(keyArray, valueArray);
   }
 
+  /**
+   * @return the partitions completed by this writer, in the order they were written
+   */
+  List<PartitionInfo> getPartitions() {
+    return Collections.unmodifiableList(mPartitions);
+  }
+
   /**
    * @return {@link AlluxioURI} to the current partition file
    */
   private AlluxioURI getPartitionName() {
-    return new AlluxioURI(String.format("%s/part-%05d", mStoreUri, mPartitionIndex));
+    return new AlluxioURI(
+        String.format("%s/%s-%05d", mStoreUri, mPartitionPrefix, mPartitionIndex));
   }
 
   /**
@@ -185,8 +224,9 @@ class BaseKeyValueStoreWriter implements KeyValueStoreWriter {
     } catch (UnavailableException e) {
       throw new IOException(e);
     } catch (AlluxioStatusException e) {
-      e.toAlluxioException();
+      throw e.toAlluxioException();
     }
+    mPartitions.add(info);
     mPartitionIndex++;
   }
 }
@@ -21,10 +21,16 @@ import alluxio.exception.PreconditionMessage;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
+import alluxio.thrift.PartitionInfo;
+import alluxio.util.IdUtils;
+import alluxio.util.io.PathUtils;
 
 import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -36,6 +42,8 @@ import javax.annotation.concurrent.ThreadSafe;
 @PublicApi
 @ThreadSafe
 public final class BaseKeyValueSystem implements KeyValueSystem {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseKeyValueSystem.class);
+
   private final KeyValueMasterClient mMasterClient =
       new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress());
 
@@ -68,6 +76,18 @@ public final class BaseKeyValueSystem implements KeyValueSystem {
     }
   }
 
+  @Override
+  public KeyValueStoreWriter bulkLoadStore(AlluxioURI uri) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(uri, PreconditionMessage.URI_KEY_VALUE_STORE_NULL);
+    try {
+      return new BulkLoadKeyValueStoreWriter(uri);
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    }
+  }
+
   @Override
   public void deleteStore(AlluxioURI uri)
       throws IOException, InvalidPathException, FileDoesNotExistException, AlluxioException {
@@ -105,4 +125,49 @@ public final class BaseKeyValueSystem implements KeyValueSystem {
       throw e.toAlluxioException();
     }
   }
+
+  @Override
+  public void compactStore(AlluxioURI uri) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(uri, PreconditionMessage.URI_KEY_VALUE_STORE_NULL);
+    AlluxioURI tempUri = new AlluxioURI(
+        PathUtils.temporaryFileName(IdUtils.getRandomNonNegativeLong(), uri.toString()));
+    try {
+      List<PartitionInfo> partitions = mMasterClient.getPartitionInfo(uri);
+      mMasterClient.createStore(tempUri, uri);
+      boolean replaced = false;
+      try {
+        KeyValueStoreCompactor.compact(partitions, tempUri);
+        mMasterClient.completeStore(tempUri);
+        mMasterClient.replaceStore(tempUri, uri);
+        replaced = true;
+      } finally {
+        if (!replaced) {
+          deleteTemporaryStore(tempUri);
+        }
+      }
+    } catch (UnavailableException e) {
+      throw new IOException(e);
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    }
+  }
+
+  /**
+   * Deletes a temporary store after a failure, logging any error.
+   *
+   * @param uri {@link AlluxioURI} to the store
+   */
+  private void deleteTemporaryStore(AlluxioURI uri) {
+    try {
+      mMasterClient.completeStore(uri);
+    } catch (IOException e) {
+      // The store may have been completed already.
+      LOG.debug("Failed to complete store {}", uri, e);
+    }
+    try {
+      mMasterClient.deleteStore(uri);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete temporary store {}: {}", uri, e.getMessage());
+    }
+  }
 }
@@ -54,4 +54,11 @@ final class BasePayloadReader implements PayloadReader {
     return BufferUtils.sliceByteBuffer(mBuf, valueFrom, valueLength);
   }
 
+  @Override
+  public int getNextPosition(int pos) {
+    final int keyLength = ByteIOUtils.readInt(mBuf, pos);
+    final int valueLength = ByteIOUtils.readInt(mBuf, pos + Constants.BYTES_IN_INTEGER);
+    return pos + KEY_DATA_OFFSET + keyLength + valueLength;
+  }
+
 }
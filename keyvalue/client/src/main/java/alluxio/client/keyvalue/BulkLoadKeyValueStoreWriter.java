@@ -0,0 +1,257 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.client.file.FileSystemContext;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.PreconditionMessage;
+import alluxio.thrift.PartitionInfo;
+import alluxio.util.IdUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.PathUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * {@link KeyValueStoreWriter} to create an Alluxio key-value store from key-value pairs put in any
+ * order.
+ * <p>
+ * The pairs are buffered, and each time the buffer is full its pairs are sorted and written as the
+ * partitions of a sorted run, in the background and concurrently with the following pairs. The
+ * runs are partitions of a temporary store, which are merged into the non-overlapping partitions of
+ * the store by the workers with {@link KeyValueStoreCompactor} when the writer is closed. When a
+ * key is put several times, the value put last is kept.
+ */
+@NotThreadSafe
+final class BulkLoadKeyValueStoreWriter implements KeyValueStoreWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(BulkLoadKeyValueStoreWriter.class);
+
+  private final KeyValueMasterClient mMasterClient;
+  private final AlluxioURI mStoreUri;
+  /** The temporary store of the sorted runs. */
+  private final AlluxioURI mRunStoreUri;
+  private final long mBufferSizeBytes;
+  private final int mMaxPendingRuns;
+  private final ExecutorService mExecutor;
+  /** The runs being written, in the order they were started. */
+  private final LinkedList<Future<List<PartitionInfo>>> mPendingRuns = new LinkedList<>();
+  /** The partitions of each written run, in the order the runs were started. */
+  private final List<List<PartitionInfo>> mWrittenRuns = new ArrayList<>();
+
+  /** The pairs which have not been written. */
+  private List<KeyValuePair> mBuffer = new ArrayList<>();
+  private long mBufferedBytes;
+  private int mRunIndex;
+  /** Whether this writer is closed. */
+  private boolean mClosed;
+  /** Whether this writer is canceled. */
+  private boolean mCanceled;
+
+  /**
+   * Constructs a {@link BulkLoadKeyValueStoreWriter}. This constructor will create a new key-value
+   * store at the given {@link AlluxioURI}.
+   *
+   * @param uri URI of the store
+   */
+  BulkLoadKeyValueStoreWriter(AlluxioURI uri) throws IOException {
+    LOG.info("Create BulkLoadKeyValueStoreWriter for {}", uri);
+    mMasterClient = new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress());
+    mStoreUri = Preconditions.checkNotNull(uri);
+    mRunStoreUri = new AlluxioURI(
+        PathUtils.temporaryFileName(IdUtils.getRandomNonNegativeLong(), uri.toString()));
+    mBufferSizeBytes = Configuration.getBytes(PropertyKey.KEY_VALUE_BULK_LOAD_BUFFER_SIZE_BYTES);
+    mMaxPendingRuns = Configuration.getInt(PropertyKey.KEY_VALUE_BULK_LOAD_THREADS);
+    Preconditions.checkArgument(mMaxPendingRuns > 0, "%s must be positive",
+        PropertyKey.KEY_VALUE_BULK_LOAD_THREADS);
+    mMasterClient.createStore(mRunStoreUri);
+    mMasterClient.createStore(mStoreUri, mRunStoreUri);
+    mExecutor = Executors.newFixedThreadPool(mMaxPendingRuns,
+        ThreadFactoryUtils.build("keyvalue-bulk-load-%d", true));
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(key, PreconditionMessage.ERR_PUT_NULL_KEY);
+    Preconditions.checkNotNull(value, PreconditionMessage.ERR_PUT_NULL_VALUE);
+    Preconditions.checkArgument(key.length > 0, PreconditionMessage.ERR_PUT_EMPTY_KEY);
+    Preconditions.checkArgument(value.length > 0, PreconditionMessage.ERR_PUT_EMPTY_VALUE);
+    Preconditions.checkState(!mClosed, "The writer is closed");
+    // Copies the key and value since they are kept after this method returns.
+    mBuffer.add(new KeyValuePair(Arrays.copyOf(key, key.length),
+        Arrays.copyOf(value, value.length)));
+    mBufferedBytes += key.length + value.length;
+    if (mBufferedBytes >= mBufferSizeBytes) {
+      writeRun();
+    }
+  }
+
+  @Override
+  public void put(ByteBuffer key, ByteBuffer value) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(key, PreconditionMessage.ERR_PUT_NULL_KEY);
+    Preconditions.checkNotNull(value, PreconditionMessage.ERR_PUT_NULL_VALUE);
+    put(BufferUtils.newByteArrayFromByteBuffer(key), BufferUtils.newByteArrayFromByteBuffer(value));
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    try {
+      if (mCanceled) {
+        // Lets the runs being written finish before deleting their store.
+        while (!mPendingRuns.isEmpty()) {
+          try {
+            waitForRun(mPendingRuns.removeFirst());
+          } catch (IOException | AlluxioException | RuntimeException e) {
+            LOG.debug("Failed to write a run of canceled store {}", mStoreUri, e);
+          }
+        }
+        abandonStore(mRunStoreUri);
+        abandonStore(mStoreUri);
+        return;
+      }
+      try {
+        writeRun();
+        while (!mPendingRuns.isEmpty()) {
+          waitForRun(mPendingRuns.removeFirst());
+        }
+        mMasterClient.completeStore(mRunStoreUri);
+        // The compactor keeps the value of a duplicate key in the first partition, so the
+        // partitions of the newest run go first for the last put to win as within a run.
+        List<PartitionInfo> partitions = new ArrayList<>();
+        for (List<PartitionInfo> run : Lists.reverse(mWrittenRuns)) {
+          partitions.addAll(run);
+        }
+        KeyValueStoreCompactor.compact(partitions, mStoreUri);
+        mMasterClient.completeStore(mStoreUri);
+        mMasterClient.deleteStore(mRunStoreUri);
+      } catch (IOException | AlluxioException | RuntimeException e) {
+        abandonStore(mRunStoreUri);
+        abandonStore(mStoreUri);
+        Throwables.propagateIfInstanceOf(e, IOException.class);
+        throw new IOException(e);
+      }
+    } finally {
+      mExecutor.shutdownNow();
+      mMasterClient.close();
+    }
+  }
+
+  @Override
+  public void cancel() throws IOException {
+    mCanceled = true;
+    close();
+  }
+
+  /**
+   * Sorts the buffered pairs and writes them as a run in the background. Waits for the oldest run
+   * first if too many runs are being written.
+   */
+  private void writeRun() throws IOException, AlluxioException {
+    if (mBuffer.isEmpty()) {
+      return;
+    }
+    if (mPendingRuns.size() >= mMaxPendingRuns) {
+      waitForRun(mPendingRuns.removeFirst());
+    }
+    final List<KeyValuePair> pairs = mBuffer;
+    final String partitionPrefix = String.format("run-%05d", mRunIndex++);
+    mBuffer = new ArrayList<>();
+    mBufferedBytes = 0;
+    mPendingRuns.add(mExecutor.submit(new Callable<List<PartitionInfo>>() {
+      @Override
+      public List<PartitionInfo> call() throws Exception {
+        // The sort is stable, so the last of the pairs with the same key was put last.
+        Collections.sort(pairs);
+        BaseKeyValueStoreWriter writer =
+            new BaseKeyValueStoreWriter(mRunStoreUri, partitionPrefix, false);
+        try {
+          for (int i = 0; i < pairs.size(); i++) {
+            KeyValuePair pair = pairs.get(i);
+            if (i + 1 < pairs.size() && pair.compareTo(pairs.get(i + 1)) == 0) {
+              continue;
+            }
+            writer.put(pair.getKey(), pair.getValue());
+          }
+        } catch (Exception e) {
+          writer.cancel();
+          throw e;
+        }
+        writer.close();
+        return writer.getPartitions();
+      }
+    }));
+  }
+
+  /**
+   * Waits for a run to be written and records its partitions. The runs must be waited for in the
+   * order they were started.
+   *
+   * @param run the run being written
+   */
+  private void waitForRun(Future<List<PartitionInfo>> run) throws IOException, AlluxioException {
+    try {
+      mWrittenRuns.add(run.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.propagateIfInstanceOf(e.getCause(), AlluxioException.class);
+      throw Throwables.propagate(e.getCause());
+    }
+  }
+
+  /**
+   * Deletes an incomplete store after a failure, logging any error.
+   *
+   * @param uri URI of the store
+   */
+  private void abandonStore(AlluxioURI uri) {
+    try {
+      mMasterClient.completeStore(uri);
+    } catch (IOException e) {
+      // The store may have been completed already.
+      LOG.debug("Failed to complete store {}", uri, e);
+    }
+    try {
+      mMasterClient.deleteStore(uri);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete store {}: {}", uri, e.getMessage());
+    }
+  }
+}
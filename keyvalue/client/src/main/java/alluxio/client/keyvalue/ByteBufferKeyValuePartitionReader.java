@@ -21,7 +21,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -39,6 +43,12 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
   private PayloadReader mPayloadReader;
   private ByteBuffer mBuf;
   private int mBufferLength;
+  /**
+   * The positions of the key-value pairs in the payload in the order of their keys, built by the
+   * first scan of a partition without a {@link SortedIndex} and reused by the later scans. A
+   * cached reader may be scanned concurrently, in which case it may be built more than once.
+   */
+  private volatile int[] mSortedPositions;
   /** Whether this writer is closed. */
   private boolean mClosed;
 
@@ -59,6 +69,9 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
     int indexOffset = ByteIOUtils.readInt(mBuf, mBufferLength - 4);
     ByteBuffer indexBytes =
         BufferUtils.sliceByteBuffer(mBuf, indexOffset, mBufferLength - 4 - indexOffset);
+    if (SortedIndex.isSortedIndex(indexBytes)) {
+      return SortedIndex.loadFromByteArray(indexBytes);
+    }
     return LinearProbingIndex.loadFromByteArray(indexBytes);
   }
 
@@ -123,6 +136,84 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
     return mIndex.keyCount();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned keys and values are views of the underlying byte buffer. If the partition does
+   * not have a {@link SortedIndex}, the first scan sorts the positions of all its key-value pairs
+   * once, and each scan then binary searches them for the start key, so scanning the partition in
+   * batches does not visit all its keys for every batch.
+   */
+  @Override
+  public List<KeyValuePair> scan(ByteBuffer startKey, ByteBuffer endKey, int maxPairs)
+      throws IOException {
+    Preconditions.checkState(!mClosed);
+    Preconditions.checkArgument(maxPairs > 0, "maxPairs=%s", maxPairs);
+    List<KeyValuePair> pairs = new ArrayList<>();
+    if (mIndex instanceof SortedIndex) {
+      Iterator<KeyValuePair> iterator =
+          ((SortedIndex) mIndex).iterator(startKey, mPayloadReader);
+      while (pairs.size() < maxPairs && iterator.hasNext()) {
+        KeyValuePair pair = iterator.next();
+        if (endKey != null && pair.getKey().compareTo(endKey) >= 0) {
+          break;
+        }
+        pairs.add(pair);
+      }
+      return pairs;
+    }
+
+    int[] positions = getSortedPositions();
+    // Binary search for the first key which is not less than the start key.
+    int low = 0;
+    int high = positions.length;
+    while (startKey != null && low < high) {
+      int middle = (low + high) >>> 1;
+      if (mPayloadReader.getKey(positions[middle]).compareTo(startKey) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    for (int i = low; i < positions.length && pairs.size() < maxPairs; i++) {
+      ByteBuffer key = mPayloadReader.getKey(positions[i]);
+      if (endKey != null && key.compareTo(endKey) >= 0) {
+        break;
+      }
+      pairs.add(new KeyValuePair(key, mPayloadReader.getValue(positions[i])));
+    }
+    return pairs;
+  }
+
+  /**
+   * @return the positions of the key-value pairs in the payload in the order of their keys
+   */
+  private int[] getSortedPositions() {
+    int[] positions = mSortedPositions;
+    if (positions != null) {
+      return positions;
+    }
+    // The pairs are stored one after another from the beginning of the payload.
+    Integer[] unsorted = new Integer[mIndex.keyCount()];
+    int position = 0;
+    for (int i = 0; i < unsorted.length; i++) {
+      unsorted[i] = position;
+      position = mPayloadReader.getNextPosition(position);
+    }
+    Arrays.sort(unsorted, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer left, Integer right) {
+        return mPayloadReader.getKey(left).compareTo(mPayloadReader.getKey(right));
+      }
+    });
+    positions = new int[unsorted.length];
+    for (int i = 0; i < unsorted.length; i++) {
+      positions[i] = unsorted[i];
+    }
+    mSortedPositions = positions;
+    return positions;
+  }
+
   /**
    * @return the {@link Index} reconstructed from the byte buffer
    */
@@ -0,0 +1,23 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+/**
+ * The types of the index of a key-value partition.
+ */
+public enum IndexType {
+  /** A hash table, see {@link LinearProbingIndex}. */
+  LINEAR_PROBING,
+  /** A sparse index of the keys in order, see {@link SortedIndex}. */
+  SORTED,
+  ;
+}
@@ -15,6 +15,7 @@ import alluxio.AbstractMasterClient;
 import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.thrift.AlluxioService;
+import alluxio.thrift.CheckCompactionTOptions;
 import alluxio.thrift.CompletePartitionTOptions;
 import alluxio.thrift.CompleteStoreTOptions;
 import alluxio.thrift.CreateStoreTOptions;
@@ -24,6 +25,7 @@ import alluxio.thrift.KeyValueMasterClientService;
 import alluxio.thrift.MergeStoreTOptions;
 import alluxio.thrift.PartitionInfo;
 import alluxio.thrift.RenameStoreTOptions;
+import alluxio.thrift.ReplaceStoreTOptions;
 
 import org.apache.thrift.TException;
 
@@ -70,6 +72,25 @@ public final class KeyValueMasterClient extends AbstractMasterClient {
     mClient = new KeyValueMasterClientService.Client(mProtocol);
   }
 
+  /**
+   * Checks that an incomplete key-value store was created by the given user to compact another
+   * store into, and that the given blocks are partitions of the compacted store.
+   *
+   * @param path URI of the key-value store
+   * @param user the user compacting into the store
+   * @param blockIds the ids of the blocks of the partitions to compact
+   */
+  public synchronized void checkCompaction(final AlluxioURI path, final String user,
+      final List<Long> blockIds) throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.checkCompaction(path.getPath(), user, blockIds, new CheckCompactionTOptions());
+        return null;
+      }
+    });
+  }
+
   /**
    * Marks a partition complete and adds it to an incomplete key-value store.
    *
@@ -117,6 +138,25 @@ public final class KeyValueMasterClient extends AbstractMasterClient {
     });
   }
 
+  /**
+   * Creates a new key-value store, into which the workers compact the partitions of another store
+   * on behalf of this client.
+   *
+   * @param path URI of the key-value store
+   * @param compactedPath URI of the key-value store to compact into the new store
+   */
+  synchronized void createStore(final AlluxioURI path, final AlluxioURI compactedPath)
+      throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.createStore(path.getPath(),
+            new CreateStoreTOptions().setCompactedPath(compactedPath.getPath()));
+        return null;
+      }
+    });
+  }
+
   /**
    * Gets a list of partitions of a given key-value store.
    *
@@ -181,4 +221,21 @@ public final class KeyValueMasterClient extends AbstractMasterClient {
       }
     });
   }
+
+  /**
+   * Atomically replaces the partitions of a completed key-value store with the partitions of
+   * another completed key-value store, which is removed.
+   *
+   * @param fromPath URI of the store whose partitions replace the others
+   * @param toPath URI of the store to be replaced
+   */
+  void replaceStore(final AlluxioURI fromPath, final AlluxioURI toPath) throws IOException {
+    retryRPC(new RpcCallable<Void>() {
+      @Override
+      public Void call() throws TException {
+        mClient.replaceStore(fromPath.getPath(), toPath.getPath(), new ReplaceStoreTOptions());
+        return null;
+      }
+    });
+  }
 }
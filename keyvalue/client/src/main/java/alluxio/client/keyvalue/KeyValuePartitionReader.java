@@ -88,4 +88,17 @@ public interface KeyValuePartitionReader extends Closeable, KeyValueIterable {
    * @return the number of key-value pairs in the partition
    */
   int size() throws IOException, AlluxioException;
+
+  /**
+   * Gets a batch of the key-value pairs in a range of keys in the partition, in the order of
+   * {@link ByteBuffer#compareTo(ByteBuffer)} on the keys. Fewer pairs than requested are returned
+   * only if there are no more pairs in the range.
+   *
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @param maxPairs the maximum number of key-value pairs to get
+   * @return the key-value pairs in the range
+   */
+  List<KeyValuePair> scan(ByteBuffer startKey, ByteBuffer endKey, int maxPairs)
+      throws IOException, AlluxioException;
 }
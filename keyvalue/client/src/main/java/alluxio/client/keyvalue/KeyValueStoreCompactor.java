@@ -0,0 +1,217 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.ExceptionMessage;
+import alluxio.thrift.PartitionInfo;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Rewrites the partitions of a key-value store, which may overlap after stores are merged, into
+ * non-overlapping partitions of another store.
+ * <p>
+ * The client splits the keys of the partitions into ranges holding about the same number of
+ * keys, and each range is merged by a worker with {@link #mergePartitions}, concurrently for
+ * different ranges.
+ */
+@ThreadSafe
+public final class KeyValueStoreCompactor {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyValueStoreCompactor.class);
+
+  /** Orders partitions by their first keys. */
+  private static final Comparator<PartitionInfo> KEY_START_COMPARATOR =
+      new Comparator<PartitionInfo>() {
+        @Override
+        public int compare(PartitionInfo a, PartitionInfo b) {
+          return a.bufferForKeyStart().compareTo(b.bufferForKeyStart());
+        }
+      };
+
+  private KeyValueStoreCompactor() {} // prevent instantiation
+
+  /**
+   * Merges the key-value pairs in a range of keys of the given partitions into new partitions of
+   * an incomplete store, in key order. When a key is in several of the partitions, the value in
+   * the first of them is kept.
+   *
+   * @param partitions the partitions to merge, which may overlap
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @param storeUri the URI of the incomplete store to add the new partitions to
+   * @param partitionPrefix the prefix of the names of the new partitions
+   * @return the number of key-value pairs in the new partitions
+   */
+  public static int mergePartitions(List<PartitionInfo> partitions, ByteBuffer startKey,
+      ByteBuffer endKey, AlluxioURI storeUri, String partitionPrefix)
+      throws IOException, AlluxioException {
+    int batchSize = Configuration.getInt(PropertyKey.KEY_VALUE_SCAN_BATCH_SIZE);
+    List<KeyValueIterator> iterators = new ArrayList<>(partitions.size());
+    for (PartitionInfo partition : partitions) {
+      iterators.add(new KeyValueStoreScanIterator(Collections.singletonList(partition), startKey,
+          endKey, batchSize));
+    }
+    KeyValueIterator pairs = new MergingKeyValueIterator(iterators);
+    BaseKeyValueStoreWriter writer =
+        new BaseKeyValueStoreWriter(storeUri, partitionPrefix, false);
+    int keyCount = 0;
+    try {
+      while (pairs.hasNext()) {
+        KeyValuePair pair = pairs.next();
+        writer.put(pair.getKey(), pair.getValue());
+        keyCount++;
+      }
+    } catch (IOException | AlluxioException | RuntimeException e) {
+      writer.cancel();
+      throw e;
+    }
+    writer.close();
+    return keyCount;
+  }
+
+  /**
+   * Rewrites the given partitions into non-overlapping partitions of an incomplete store. The
+   * key ranges are merged by the workers, at most {@link PropertyKey#KEY_VALUE_BULK_LOAD_THREADS}
+   * at a time.
+   *
+   * @param partitions the partitions to rewrite, which may overlap
+   * @param storeUri the URI of the incomplete store to add the new partitions to, which was
+   *        created with {@link KeyValueMasterClient#createStore(AlluxioURI, AlluxioURI)} to compact
+   *        the store of the partitions into, as the workers only write to such a store
+   */
+  static void compact(List<PartitionInfo> partitions, final AlluxioURI storeUri)
+      throws IOException, AlluxioException {
+    if (partitions.isEmpty()) {
+      return;
+    }
+    List<PartitionInfo> sortedPartitions = new ArrayList<>(partitions);
+    Collections.sort(sortedPartitions, KEY_START_COMPARATOR);
+
+    AlluxioBlockStore blockStore = AlluxioBlockStore.create();
+    final List<BlockWorkerInfo> workers = blockStore.getWorkerInfoList();
+    if (workers.isEmpty()) {
+      throw new IOException(ExceptionMessage.NO_WORKER_AVAILABLE.getMessage());
+    }
+    long totalBytes = 0;
+    for (PartitionInfo partition : partitions) {
+      totalBytes += blockStore.getInfo(partition.getBlockId()).getLength();
+    }
+    // Each range is merged by a single RPC, so a range should not be much larger than a
+    // partition, while there should be a range for each worker to merge.
+    long partitionSize = Configuration.getBytes(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX);
+    long numRanges = Math.max(workers.size(), (totalBytes + partitionSize - 1) / partitionSize);
+    List<ByteBuffer> splitKeys =
+        getSplitKeys(sortedPartitions, (int) Math.min(numRanges, partitions.size()));
+    LOG.info("Compact {} partitions ({} bytes) into {} in {} ranges", partitions.size(),
+        totalBytes, storeUri, splitKeys.size() + 1);
+
+    int numThreads = Math.min(Configuration.getInt(PropertyKey.KEY_VALUE_BULK_LOAD_THREADS),
+        splitKeys.size() + 1);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads,
+        ThreadFactoryUtils.build("keyvalue-compact-%d", true));
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i <= splitKeys.size(); i++) {
+        final ByteBuffer startKey = i == 0 ? null : splitKeys.get(i - 1);
+        final ByteBuffer endKey = i == splitKeys.size() ? null : splitKeys.get(i);
+        final List<PartitionInfo> rangePartitions = new ArrayList<>();
+        // Keeps the order of the given partitions, which decides the value of duplicate keys.
+        for (PartitionInfo partition : partitions) {
+          // NOTE: keyStart and keyLimit are both inclusive
+          if ((startKey == null || partition.bufferForKeyLimit().compareTo(startKey) >= 0)
+              && (endKey == null || partition.bufferForKeyStart().compareTo(endKey) < 0)) {
+            rangePartitions.add(partition);
+          }
+        }
+        final BlockWorkerInfo worker = workers.get(i % workers.size());
+        final String partitionPrefix = String.format("part-%05d", i);
+        futures.add(executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws Exception {
+            try (KeyValueWorkerClient client = new KeyValueWorkerClient(worker.getNetAddress())) {
+              return client.compact(rangePartitions, startKey, endKey, storeUri, partitionPrefix);
+            }
+          }
+        }));
+      }
+      for (Future<Integer> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.propagateIfInstanceOf(e.getCause(), AlluxioException.class);
+      throw Throwables.propagate(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Chooses the keys which split the keys of the given partitions into ranges holding about the
+   * same number of keys. The split keys are first keys of the partitions, so that a range does not
+   * start in the middle of a partition unless partitions overlap.
+   *
+   * @param partitions the partitions, in the order of their first keys
+   * @param numRanges the maximum number of ranges
+   * @return the split keys in increasing order, fewer than the given number of ranges; the ranges
+   *         are the keys before the first split key, the keys between each two successive split
+   *         keys and the keys from the last split key
+   */
+  static List<ByteBuffer> getSplitKeys(List<PartitionInfo> partitions, int numRanges) {
+    Preconditions.checkArgument(numRanges > 0, "numRanges=%s", numRanges);
+    long totalKeys = 0;
+    for (PartitionInfo partition : partitions) {
+      totalKeys += partition.getKeyCount();
+    }
+    List<ByteBuffer> splitKeys = new ArrayList<>();
+    long keysBefore = 0;
+    for (int i = 0; i < partitions.size() && splitKeys.size() < numRanges - 1; i++) {
+      ByteBuffer keyStart = partitions.get(i).bufferForKeyStart();
+      ByteBuffer lastKey = splitKeys.isEmpty() ? partitions.get(0).bufferForKeyStart()
+          : splitKeys.get(splitKeys.size() - 1);
+      // Splits before this partition once the keys before it fill the next range.
+      if (keysBefore * numRanges >= totalKeys * (splitKeys.size() + 1)
+          && keyStart.compareTo(lastKey) > 0) {
+        splitKeys.add(keyStart);
+      }
+      keysBefore += partitions.get(i).getKeyCount();
+    }
+    return splitKeys;
+  }
+}
@@ -45,4 +45,28 @@ public interface KeyValueStoreReader extends Closeable, KeyValueIterable {
    * @return the number of key-value pairs in the store
    */
   int size() throws IOException, AlluxioException;
+
+  /**
+   * Gets an iterator over the key-value pairs whose keys are in a range, in the order of
+   * {@link ByteBuffer#compareTo(ByteBuffer)} on the keys. Only the partitions whose key ranges
+   * overlap the range are read, and the pairs are fetched in batches of
+   * {@link alluxio.PropertyKey#KEY_VALUE_SCAN_BATCH_SIZE}. Partitions written with the
+   * {@link IndexType#SORTED} index only read the pairs in the range, other partitions are fully
+   * scanned for each batch.
+   *
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @return an iterator over the key-value pairs in the range
+   */
+  KeyValueIterator scan(ByteBuffer startKey, ByteBuffer endKey)
+      throws IOException, AlluxioException;
+
+  /**
+   * Gets an iterator over the key-value pairs whose keys start with a prefix, in the order of
+   * {@link ByteBuffer#compareTo(ByteBuffer)} on the keys. See {@link #scan}.
+   *
+   * @param prefix the prefix of the keys, cannot be null
+   * @return an iterator over the key-value pairs whose keys start with the prefix
+   */
+  KeyValueIterator prefixScan(ByteBuffer prefix) throws IOException, AlluxioException;
 }
@@ -0,0 +1,121 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.exception.AlluxioException;
+import alluxio.thrift.PartitionInfo;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * {@link KeyValueIterator} to iterate over the key-value pairs in a range of keys of a key-value
+ * store, in key order. The pairs are fetched from the workers in batches, one partition after
+ * another.
+ */
+@NotThreadSafe
+final class KeyValueStoreScanIterator implements KeyValueIterator {
+  /** The partitions whose key ranges overlap the range, in key order. */
+  private final List<PartitionInfo> mPartitions;
+  /** The first key of the range, or null to start from the first key. */
+  private final ByteBuffer mStartKey;
+  /** The key after the range, or null to end at the last key. */
+  private final ByteBuffer mEndKey;
+  /** The maximum number of key-value pairs in a batch. */
+  private final int mBatchSize;
+  /** Index of the partition being visited. */
+  private int mPartitionIndex = -1;
+  /** Reader of the partition being visited, or null if the partition has been fully read. */
+  private KeyValuePartitionReader mReader;
+  /** The first key of the next batch of the partition being visited. */
+  private ByteBuffer mNextKey;
+  /** The current batch. */
+  private Iterator<KeyValuePair> mBatch = Collections.emptyIterator();
+
+  /**
+   * @param partitions the partitions whose key ranges overlap the range, in key order
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @param batchSize the maximum number of key-value pairs to fetch at a time
+   */
+  KeyValueStoreScanIterator(List<PartitionInfo> partitions, ByteBuffer startKey,
+      ByteBuffer endKey, int batchSize) throws IOException, AlluxioException {
+    Preconditions.checkArgument(batchSize > 0, "batchSize=%s", batchSize);
+    mPartitions = Preconditions.checkNotNull(partitions);
+    mStartKey = startKey;
+    mEndKey = endKey;
+    mBatchSize = batchSize;
+    fetch();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return mBatch.hasNext();
+  }
+
+  @Override
+  public KeyValuePair next() throws IOException, AlluxioException {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    KeyValuePair ret = mBatch.next();
+    fetch();
+    return ret;
+  }
+
+  /**
+   * Fetches the next batch if the current one has been iterated, moving on to the next partition
+   * when the partition being visited has no more pairs in the range.
+   */
+  private void fetch() throws IOException, AlluxioException {
+    while (!mBatch.hasNext()) {
+      if (mReader == null) {
+        mPartitionIndex++;
+        if (mPartitionIndex >= mPartitions.size()) {
+          return;
+        }
+        long blockId = mPartitions.get(mPartitionIndex).getBlockId();
+        mReader = KeyValuePartitionReader.Factory.create(blockId);
+        mNextKey = mStartKey;
+      }
+      List<KeyValuePair> batch = mReader.scan(mNextKey, mEndKey, mBatchSize);
+      if (batch.size() < mBatchSize) {
+        mReader.close();
+        mReader = null;
+      } else {
+        mNextKey = successor(batch.get(batch.size() - 1).getKey());
+      }
+      mBatch = batch.iterator();
+    }
+  }
+
+  /**
+   * @param key a key
+   * @return the smallest key greater than the given key
+   */
+  private static ByteBuffer successor(ByteBuffer key) {
+    // ByteBuffer#compareTo compares bytes as signed values, so the smallest byte is MIN_VALUE.
+    ByteBuffer next = ByteBuffer.allocate(key.remaining() + 1);
+    next.put(key.duplicate());
+    next.put(Byte.MIN_VALUE);
+    next.flip();
+    return next;
+  }
+}
@@ -60,6 +60,18 @@ public interface KeyValueSystem {
    */
   KeyValueStoreWriter createStore(AlluxioURI uri) throws IOException, AlluxioException;
 
+  /**
+   * Gets a writer to create a new key-value store from key-value pairs put in any order. The
+   * pairs are sorted in runs as they are put, and the runs are merged into the partitions of the
+   * store by the workers when the writer is closed.
+   *
+   * If the same key is put more than once, whose value will be retrieved is undetermined.
+   *
+   * @param uri {@link AlluxioURI} to the store
+   * @return {@link KeyValueStoreWriter} instance
+   */
+  KeyValueStoreWriter bulkLoadStore(AlluxioURI uri) throws IOException, AlluxioException;
+
   /**
    * Rename a completed key-value store.
    *
@@ -88,4 +100,13 @@ public interface KeyValueSystem {
    * @param toUri the {@link AlluxioURI} to the store to be merged to
    */
   void mergeStore(AlluxioURI fromUri, AlluxioURI toUri) throws IOException, AlluxioException;
+
+  /**
+   * Rewrites a completed key-value store into non-overlapping partitions of about the maximum
+   * partition size, e.g. after other stores are merged into it. The partitions are rewritten by
+   * the workers into a temporary store, which then atomically replaces the store.
+   *
+   * @param uri the {@link AlluxioURI} to the store
+   */
+  void compactStore(AlluxioURI uri) throws IOException, AlluxioException;
 }
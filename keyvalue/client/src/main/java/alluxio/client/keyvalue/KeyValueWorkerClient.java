@@ -12,14 +12,19 @@
 package alluxio.client.keyvalue;
 
 import alluxio.AbstractClient;
+import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.exception.AlluxioException;
 import alluxio.thrift.AlluxioService;
 import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.CompactTOptions;
 import alluxio.thrift.GetNextKeysTOptions;
 import alluxio.thrift.GetSizeTOptions;
 import alluxio.thrift.GetTOptions;
 import alluxio.thrift.KeyValueWorkerClientService;
+import alluxio.thrift.PartitionInfo;
+import alluxio.thrift.ScanTOptions;
+import alluxio.thrift.ScanTResponse;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.wire.WorkerNetAddress;
 
@@ -27,6 +32,7 @@ import org.apache.thrift.TException;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -39,6 +45,9 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public final class KeyValueWorkerClient extends AbstractClient {
+  /** Keys are never empty, so an empty key stands for no bound of a range. */
+  private static final ByteBuffer EMPTY_KEY = ByteBuffer.allocate(0);
+
   private KeyValueWorkerClientService.Client mClient = null;
 
   /**
@@ -108,6 +117,58 @@ public final class KeyValueWorkerClient extends AbstractClient {
     });
   }
 
+  /**
+   * Gets a batch of the key-value pairs in a range of keys in the partition, in key order.
+   * Fewer pairs than requested are returned only if there are no more pairs in the range.
+   *
+   * @param blockId the id of the partition
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @param numPairs maximum number of key-value pairs to fetch
+   * @return the key-value pairs
+   */
+  public synchronized List<KeyValuePair> scan(final long blockId, final ByteBuffer startKey,
+      final ByteBuffer endKey, final int numPairs) throws IOException, AlluxioException {
+    return retryRPC(new RpcCallable<List<KeyValuePair>>() {
+      @Override
+      public List<KeyValuePair> call() throws AlluxioTException, TException {
+        ScanTResponse response = mClient.scan(blockId,
+            startKey == null ? EMPTY_KEY : startKey, endKey == null ? EMPTY_KEY : endKey,
+            numPairs, new ScanTOptions());
+        List<KeyValuePair> pairs = new ArrayList<>(response.getKeysSize());
+        for (int i = 0; i < response.getKeysSize(); i++) {
+          pairs.add(new KeyValuePair(response.getKeys().get(i), response.getValues().get(i)));
+        }
+        return pairs;
+      }
+    });
+  }
+
+  /**
+   * Merges the key-value pairs in a range of keys of the given partitions into new
+   * non-overlapping partitions of an incomplete store. When a key is in several of the
+   * partitions, the value in the first of them is kept.
+   *
+   * @param partitions the partitions to merge, which may overlap
+   * @param startKey the first key of the range, or null to start from the first key
+   * @param endKey the key after the range, or null to end at the last key
+   * @param storeUri the URI of the incomplete store to add the new partitions to
+   * @param partitionPrefix the prefix of the names of the new partitions
+   * @return the number of key-value pairs in the new partitions
+   */
+  public synchronized int compact(final List<PartitionInfo> partitions, final ByteBuffer startKey,
+      final ByteBuffer endKey, final AlluxioURI storeUri, final String partitionPrefix)
+      throws IOException, AlluxioException {
+    return retryRPC(new RpcCallable<Integer>() {
+      @Override
+      public Integer call() throws AlluxioTException, TException {
+        return mClient.compact(partitions, startKey == null ? EMPTY_KEY : startKey,
+            endKey == null ? EMPTY_KEY : endKey, storeUri.toString(), partitionPrefix,
+            new CompactTOptions()).getKeyCount();
+      }
+    });
+  }
+
   /**
    * @param blockId the id of the partition
    * @return the number of key-value pairs in the partition
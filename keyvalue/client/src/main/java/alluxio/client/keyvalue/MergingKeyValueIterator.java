@@ -0,0 +1,94 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.exception.AlluxioException;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * {@link KeyValueIterator} to merge the key-value pairs of several iterators, which each iterate
+ * in key order, into a single iteration in key order. When a key is in several of the iterators,
+ * only the pair of the first of them is kept.
+ */
+@NotThreadSafe
+final class MergingKeyValueIterator implements KeyValueIterator {
+  /** The next pair of each iterator which has not been fully iterated. */
+  private final PriorityQueue<Head> mHeads;
+
+  /**
+   * @param iterators the iterators to merge, each iterating in key order
+   */
+  MergingKeyValueIterator(List<? extends KeyValueIterator> iterators)
+      throws IOException, AlluxioException {
+    Preconditions.checkNotNull(iterators);
+    mHeads = new PriorityQueue<>(Math.max(1, iterators.size()), new Comparator<Head>() {
+      @Override
+      public int compare(Head a, Head b) {
+        int result = a.mPair.compareTo(b.mPair);
+        return result != 0 ? result : Integer.compare(a.mIndex, b.mIndex);
+      }
+    });
+    for (int i = 0; i < iterators.size(); i++) {
+      advance(iterators.get(i), i);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !mHeads.isEmpty();
+  }
+
+  @Override
+  public KeyValuePair next() throws IOException, AlluxioException {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Head head = mHeads.poll();
+    advance(head.mIterator, head.mIndex);
+    // Skips the pairs of the later iterators with the same key.
+    while (!mHeads.isEmpty() && mHeads.peek().mPair.compareTo(head.mPair) == 0) {
+      Head duplicate = mHeads.poll();
+      advance(duplicate.mIterator, duplicate.mIndex);
+    }
+    return head.mPair;
+  }
+
+  private void advance(KeyValueIterator iterator, int index) throws IOException, AlluxioException {
+    if (iterator.hasNext()) {
+      mHeads.add(new Head(iterator.next(), iterator, index));
+    }
+  }
+
+  /**
+   * The next pair of an iterator, ordered by key and then by the index of the iterator.
+   */
+  private static final class Head {
+    private final KeyValuePair mPair;
+    private final KeyValueIterator mIterator;
+    private final int mIndex;
+
+    Head(KeyValuePair pair, KeyValueIterator iterator, int index) {
+      mPair = pair;
+      mIterator = iterator;
+      mIndex = index;
+    }
+  }
+}
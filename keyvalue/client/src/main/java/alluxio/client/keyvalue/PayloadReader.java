@@ -33,4 +33,12 @@ public interface PayloadReader {
    * @return value in {@code ByteBuffer}
    */
   ByteBuffer getValue(int pos);
+
+  /**
+   * Gets the position of the key-value pair stored right after the one at the given position.
+   *
+   * @param pos position in the payload storage in bytes
+   * @return position of the next key-value pair in bytes
+   */
+  int getNextPosition(int pos);
 }
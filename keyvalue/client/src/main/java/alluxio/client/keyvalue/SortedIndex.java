@@ -0,0 +1,291 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.Constants;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.ByteIOUtils;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Sparse index of a partition whose key-value pairs are stored in the order of their keys. It
+ * only stores the offset of the first key-value pair of each block of a fixed number of pairs in
+ * the payload. A key is looked up by a binary search over the first keys of the blocks followed by
+ * a scan of one block, and a range of keys is read by scanning the payload from the block of the
+ * first key in the range.
+ * <p>
+ * The overall byte array of the index looks like:
+ * | magic (int) | key count (int) | keys per block (int) | offset of each block (int) ... |
+ *
+ * The magic number is negative, which tells a sorted index from a {@link LinearProbingIndex}
+ * starting with its key count.
+ * <p>
+ * Keys are ordered by {@link ByteBuffer#compareTo(ByteBuffer)}, the same as the key ranges of the
+ * partitions of a store, and must be put in increasing order.
+ */
+@NotThreadSafe
+public final class SortedIndex implements Index {
+  /** The first int of the bytes of a sorted index. */
+  public static final int MAGIC = 0xA11050D1;
+  /** The default number of key-value pairs in each block. */
+  public static final int DEFAULT_KEYS_PER_BLOCK = 16;
+
+  private static final int HEADER_SIZE_BYTES = 3 * Constants.BYTES_IN_INTEGER;
+
+  private final int mKeysPerBlock;
+  /** The offsets of the blocks in the payload, as ints. */
+  private ByteBuffer mBlockOffsets;
+  private int mNumBlocks;
+  private int mKeyCount;
+  /** The last key put, or null if no key has been put. */
+  private ByteBuffer mLastKey;
+
+  /**
+   * @return an instance of sorted index, with no key added
+   */
+  public static SortedIndex createEmptyIndex() {
+    return createEmptyIndex(DEFAULT_KEYS_PER_BLOCK);
+  }
+
+  /**
+   * @param keysPerBlock the number of key-value pairs in each block
+   * @return an instance of sorted index, with no key added
+   */
+  public static SortedIndex createEmptyIndex(int keysPerBlock) {
+    Preconditions.checkArgument(keysPerBlock > 0, "keysPerBlock=%s", keysPerBlock);
+    return new SortedIndex(ByteBuffer.allocate(64 * Constants.BYTES_IN_INTEGER), keysPerBlock, 0);
+  }
+
+  /**
+   * Creates an instance of sorted index by loading its content from a buffer. The
+   * {@link ByteBuffer#position} must be at the beginning of index.
+   *
+   * @param buffer input buffer storing the index
+   * @return an instance of sorted index
+   */
+  public static SortedIndex loadFromByteArray(ByteBuffer buffer) {
+    int magic = buffer.getInt();
+    Preconditions.checkArgument(magic == MAGIC, "Invalid sorted index magic %s", magic);
+    int keyCount = buffer.getInt();
+    int keysPerBlock = buffer.getInt();
+    return new SortedIndex(BufferUtils.sliceByteBuffer(buffer, buffer.position()), keysPerBlock,
+        keyCount);
+  }
+
+  /**
+   * @param buffer a buffer storing an index, whose position is at the beginning of the index
+   * @return whether the index is a sorted index
+   */
+  public static boolean isSortedIndex(ByteBuffer buffer) {
+    return buffer.remaining() >= Constants.BYTES_IN_INTEGER
+        && ByteIOUtils.readInt(buffer, buffer.position()) == MAGIC;
+  }
+
+  private SortedIndex(ByteBuffer blockOffsets, int keysPerBlock, int keyCount) {
+    mBlockOffsets = blockOffsets;
+    mKeysPerBlock = keysPerBlock;
+    mKeyCount = keyCount;
+    mNumBlocks = (keyCount + keysPerBlock - 1) / keysPerBlock;
+  }
+
+  @Override
+  public int byteCount() {
+    return HEADER_SIZE_BYTES + mNumBlocks * Constants.BYTES_IN_INTEGER;
+  }
+
+  @Override
+  public int keyCount() {
+    return mKeyCount;
+  }
+
+  @Override
+  public boolean put(byte[] key, byte[] value, PayloadWriter writer) throws IOException {
+    ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+    Preconditions.checkArgument(mLastKey == null || keyBuffer.compareTo(mLastKey) > 0,
+        "Keys of a sorted partition must be put in increasing order");
+    int offset = writer.insert(key, value);
+    if (mKeyCount % mKeysPerBlock == 0) {
+      addBlock(offset);
+    }
+    mKeyCount++;
+    mLastKey = keyBuffer;
+    return true;
+  }
+
+  @Override
+  public ByteBuffer get(ByteBuffer key, PayloadReader reader) {
+    Cursor cursor = seek(key, reader);
+    if (cursor.hasNext() && key.equals(reader.getKey(cursor.mPosition))) {
+      return reader.getValue(cursor.mPosition);
+    }
+    return null;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    ByteBuffer buf = ByteBuffer.allocate(byteCount());
+    buf.putInt(MAGIC);
+    buf.putInt(mKeyCount);
+    buf.putInt(mKeysPerBlock);
+    for (int i = 0; i < mNumBlocks; i++) {
+      buf.putInt(getBlockOffset(i));
+    }
+    return buf.array();
+  }
+
+  @Override
+  public ByteBuffer nextKey(ByteBuffer currentKey, PayloadReader reader) {
+    Cursor cursor = currentKey == null ? new Cursor(0) : seek(currentKey, reader);
+    if (cursor.hasNext() && currentKey != null
+        && currentKey.equals(reader.getKey(cursor.mPosition))) {
+      cursor.advance(reader);
+    }
+    return cursor.hasNext() ? reader.getKey(cursor.mPosition) : null;
+  }
+
+  @Override
+  public Iterator<ByteBuffer> keyIterator(final PayloadReader reader) {
+    final Cursor cursor = new Cursor(0);
+    return new Iterator<ByteBuffer>() {
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
+
+      @Override
+      public ByteBuffer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        ByteBuffer key = reader.getKey(cursor.mPosition);
+        cursor.advance(reader);
+        return key;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Gets an iterator over the key-value pairs in key order, starting from the first pair whose key
+   * is not less than the given key.
+   *
+   * @param startKey the key to start from, or null to start from the first key
+   * @param reader reader to access key-value payload
+   * @return an iterator of key-value pairs, the iterator does not support remove
+   */
+  public Iterator<KeyValuePair> iterator(ByteBuffer startKey, final PayloadReader reader) {
+    final Cursor cursor = startKey == null ? new Cursor(0) : seek(startKey, reader);
+    return new Iterator<KeyValuePair>() {
+      @Override
+      public boolean hasNext() {
+        return cursor.hasNext();
+      }
+
+      @Override
+      public KeyValuePair next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        KeyValuePair pair = new KeyValuePair(reader.getKey(cursor.mPosition),
+            reader.getValue(cursor.mPosition));
+        cursor.advance(reader);
+        return pair;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * @param key the key
+   * @param reader the reader to be used to get keys from payload
+   * @return a cursor at the first key-value pair whose key is not less than the given key
+   */
+  private Cursor seek(ByteBuffer key, PayloadReader reader) {
+    // Binary search for the first block whose first key is greater than the key, the key can only
+    // be in the block before it.
+    int low = 0;
+    int high = mNumBlocks;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (reader.getKey(getBlockOffset(middle)).compareTo(key) > 0) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    Cursor cursor = new Cursor(Math.max(low - 1, 0));
+    while (cursor.hasNext() && reader.getKey(cursor.mPosition).compareTo(key) < 0) {
+      cursor.advance(reader);
+    }
+    return cursor;
+  }
+
+  private int getBlockOffset(int block) {
+    return ByteIOUtils.readInt(mBlockOffsets, block * Constants.BYTES_IN_INTEGER);
+  }
+
+  private void addBlock(int offset) {
+    int pos = mNumBlocks * Constants.BYTES_IN_INTEGER;
+    if (pos + Constants.BYTES_IN_INTEGER > mBlockOffsets.capacity()) {
+      ByteBuffer blockOffsets = ByteBuffer.allocate(mBlockOffsets.capacity() * 2);
+      blockOffsets.put(mBlockOffsets.array(), 0, pos);
+      mBlockOffsets = blockOffsets;
+    }
+    ByteIOUtils.writeInt(mBlockOffsets, pos, offset);
+    mNumBlocks++;
+  }
+
+  /**
+   * A position in the key-value pairs of the partition.
+   */
+  private final class Cursor {
+    /** The ordinal of the key-value pair in the partition. */
+    private int mOrdinal;
+    /** The position of the key-value pair in the payload. */
+    private int mPosition;
+
+    /**
+     * Creates a cursor at the first key-value pair of a block.
+     *
+     * @param block the block
+     */
+    Cursor(int block) {
+      mOrdinal = block * mKeysPerBlock;
+      mPosition = mNumBlocks == 0 ? 0 : getBlockOffset(block);
+    }
+
+    boolean hasNext() {
+      return mOrdinal < mKeyCount;
+    }
+
+    void advance(PayloadReader reader) {
+      mPosition = reader.getNextPosition(mPosition);
+      mOrdinal++;
+    }
+  }
+}
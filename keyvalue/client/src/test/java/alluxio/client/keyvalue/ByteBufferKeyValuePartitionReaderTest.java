@@ -11,6 +11,9 @@
 
 package alluxio.client.keyvalue;
 
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
 import alluxio.client.ByteArrayOutStream;
 
 import org.junit.Assert;
@@ -21,6 +24,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Unit tests of {@link ByteBufferKeyValuePartitionReader}.
@@ -83,4 +87,73 @@ public final class ByteBufferKeyValuePartitionReaderTest {
     mThrown.expect(IllegalStateException.class);
     mReader.get(KEY1);
   }
+
+  /**
+   * Tests {@link ByteBufferKeyValuePartitionReader#scan} on a partition with a
+   * {@link LinearProbingIndex}.
+   */
+  @Test
+  public void scanLinearProbing() throws Exception {
+    checkScan(IndexType.LINEAR_PROBING);
+  }
+
+  /**
+   * Tests {@link ByteBufferKeyValuePartitionReader#scan} on a partition with a
+   * {@link SortedIndex}.
+   */
+  @Test
+  public void scanSorted() throws Exception {
+    checkScan(IndexType.SORTED);
+  }
+
+  private void checkScan(IndexType indexType) throws Exception {
+    int numKeys = 100;
+    ByteArrayOutStream outStream = new ByteArrayOutStream();
+    Configuration.set(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, indexType.name());
+    try {
+      BaseKeyValuePartitionWriter writer = new BaseKeyValuePartitionWriter(outStream);
+      for (int i = 0; i < numKeys; i++) {
+        writer.put(scanKey(i), String.valueOf(i).getBytes());
+      }
+      writer.close();
+    } finally {
+      ConfigurationTestUtils.resetConfiguration();
+    }
+    ByteBufferKeyValuePartitionReader reader =
+        new ByteBufferKeyValuePartitionReader(ByteBuffer.wrap(outStream.toByteArray()));
+
+    assertScan(reader.scan(null, null, numKeys + 1), 0, numKeys);
+    assertScan(reader.scan(null, null, 10), 0, 10);
+    assertScan(reader.scan(ByteBuffer.wrap(scanKey(42)), null, 10), 42, 52);
+    assertScan(reader.scan(ByteBuffer.wrap(scanKey(42)), ByteBuffer.wrap(scanKey(45)), 10),
+        42, 45);
+    assertScan(reader.scan(ByteBuffer.wrap("a".getBytes()), ByteBuffer.wrap("b".getBytes()), 10),
+        0, 0);
+
+    // Scans the partition in batches, each starting right after the last key of the previous one.
+    ByteBuffer startKey = null;
+    int scanned = 0;
+    while (scanned < numKeys) {
+      List<KeyValuePair> batch = reader.scan(startKey, null, 7);
+      assertScan(batch, scanned, Math.min(scanned + 7, numKeys));
+      scanned += batch.size();
+      ByteBuffer lastKey = batch.get(batch.size() - 1).getKey();
+      startKey = ByteBuffer.allocate(lastKey.remaining() + 1);
+      startKey.put(lastKey.duplicate()).put((byte) 0).flip();
+    }
+    Assert.assertTrue(reader.scan(startKey, null, 7).isEmpty());
+  }
+
+  private static byte[] scanKey(int i) {
+    return String.format("key%03d", i).getBytes();
+  }
+
+  private static void assertScan(List<KeyValuePair> pairs, int start, int end) {
+    Assert.assertEquals(end - start, pairs.size());
+    for (int i = start; i < end; i++) {
+      KeyValuePair pair = pairs.get(i - start);
+      Assert.assertEquals(ByteBuffer.wrap(scanKey(i)), pair.getKey());
+      Assert.assertEquals(ByteBuffer.wrap(String.valueOf(i).getBytes()), pair.getValue());
+    }
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.thrift.PartitionInfo;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link KeyValueStoreCompactor}.
+ */
+public final class KeyValueStoreCompactorTest {
+
+  private static ByteBuffer key(String key) {
+    return ByteBuffer.wrap(key.getBytes());
+  }
+
+  private static PartitionInfo partition(String keyStart, String keyLimit, int keyCount) {
+    return new PartitionInfo(key(keyStart), key(keyLimit), 0, keyCount);
+  }
+
+  /**
+   * Tests that the split keys balance the number of keys of non-overlapping partitions.
+   */
+  @Test
+  public void splitNonOverlapping() {
+    List<PartitionInfo> partitions = new ArrayList<>();
+    for (char c = 'a'; c <= 'h'; c++) {
+      partitions.add(partition(c + "0", c + "9", 10));
+    }
+    Assert.assertEquals(Arrays.asList(key("c0"), key("e0"), key("g0")),
+        KeyValueStoreCompactor.getSplitKeys(partitions, 4));
+    Assert.assertEquals(Arrays.asList(key("e0")),
+        KeyValueStoreCompactor.getSplitKeys(partitions, 2));
+    Assert.assertTrue(KeyValueStoreCompactor.getSplitKeys(partitions, 1).isEmpty());
+  }
+
+  /**
+   * Tests that there are no more ranges than partitions, and that ranges are not split at the
+   * first key.
+   */
+  @Test
+  public void splitFewPartitions() {
+    List<PartitionInfo> partitions =
+        Arrays.asList(partition("a", "m", 10), partition("n", "z", 10));
+    Assert.assertEquals(Arrays.asList(key("n")),
+        KeyValueStoreCompactor.getSplitKeys(partitions, 8));
+    Assert.assertTrue(KeyValueStoreCompactor
+        .getSplitKeys(Arrays.asList(partition("a", "z", 10)), 8).isEmpty());
+    Assert.assertTrue(
+        KeyValueStoreCompactor.getSplitKeys(new ArrayList<PartitionInfo>(), 8).isEmpty());
+  }
+
+  /**
+   * Tests the split keys of overlapping partitions, e.g. of merged stores, including partitions
+   * with the same first key.
+   */
+  @Test
+  public void splitOverlapping() {
+    List<PartitionInfo> partitions = Arrays.asList(partition("a", "k", 10),
+        partition("a", "f", 10), partition("c", "p", 10), partition("h", "z", 10));
+    List<ByteBuffer> splitKeys = KeyValueStoreCompactor.getSplitKeys(partitions, 2);
+    Assert.assertEquals(Arrays.asList(key("c")), splitKeys);
+    splitKeys = KeyValueStoreCompactor.getSplitKeys(partitions, 4);
+    Assert.assertEquals(Arrays.asList(key("c"), key("h")), splitKeys);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.exception.AlluxioException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Unit tests for {@link MergingKeyValueIterator}.
+ */
+public final class MergingKeyValueIteratorTest {
+
+  /**
+   * @param pairs the keys and values, alternately
+   * @return an iterator of the key-value pairs
+   */
+  private static KeyValueIterator iterator(String... pairs) {
+    List<KeyValuePair> list = new ArrayList<>();
+    for (int i = 0; i < pairs.length; i += 2) {
+      list.add(new KeyValuePair(pairs[i].getBytes(), pairs[i + 1].getBytes()));
+    }
+    final Iterator<KeyValuePair> iterator = list.iterator();
+    return new KeyValueIterator() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public KeyValuePair next() throws IOException, AlluxioException {
+        return iterator.next();
+      }
+    };
+  }
+
+  private static List<String> toList(KeyValueIterator iterator) throws Exception {
+    List<String> pairs = new ArrayList<>();
+    while (iterator.hasNext()) {
+      KeyValuePair pair = iterator.next();
+      pairs.add(new String(pair.getKey().array()) + "=" + new String(pair.getValue().array()));
+    }
+    return pairs;
+  }
+
+  /**
+   * Tests that the pairs of the iterators are merged in key order.
+   */
+  @Test
+  public void merge() throws Exception {
+    KeyValueIterator merged = new MergingKeyValueIterator(Arrays.asList(iterator("a", "1", "d", "4",
+        "e", "5"), iterator(), iterator("b", "2", "c", "3", "f", "6")));
+    Assert.assertEquals(Arrays.asList("a=1", "b=2", "c=3", "d=4", "e=5", "f=6"), toList(merged));
+  }
+
+  /**
+   * Tests that only the pair of the first iterator is kept for a key in several iterators.
+   */
+  @Test
+  public void duplicateKeys() throws Exception {
+    KeyValueIterator merged = new MergingKeyValueIterator(Arrays.asList(
+        iterator("b", "first", "c", "first"), iterator("a", "second", "b", "second"),
+        iterator("b", "third", "c", "third")));
+    Assert.assertEquals(Arrays.asList("a=second", "b=first", "c=first"), toList(merged));
+  }
+
+  /**
+   * Tests merging no iterators.
+   */
+  @Test
+  public void empty() throws Exception {
+    Assert.assertFalse(
+        new MergingKeyValueIterator(new ArrayList<KeyValueIterator>()).hasNext());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.client.ByteArrayOutStream;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * Unit tests of {@link SortedIndex}.
+ */
+public final class SortedIndexTest {
+  private static final int KEYS_PER_BLOCK = 4;
+  private static final int TEST_KEYS = 50;
+
+  private ByteArrayOutStream mOutStream;
+  private BasePayloadWriter mPayloadWriter;
+
+  @Rule
+  public final ExpectedException mThrown = ExpectedException.none();
+
+  @Before
+  public void before() {
+    mOutStream = new ByteArrayOutStream();
+    mPayloadWriter = new BasePayloadWriter(mOutStream);
+  }
+
+  private static byte[] key(int i) {
+    return String.format("test-key:%04d", i).getBytes();
+  }
+
+  private static byte[] value(int i) {
+    return String.format("test-val:%d", i).getBytes();
+  }
+
+  /**
+   * @return an index of {@link #TEST_KEYS} keys, loaded from the bytes of the written index
+   */
+  private SortedIndex createIndex() throws Exception {
+    SortedIndex index = SortedIndex.createEmptyIndex(KEYS_PER_BLOCK);
+    for (int i = 0; i < TEST_KEYS; i++) {
+      Assert.assertTrue(index.put(key(i), value(i), mPayloadWriter));
+      Assert.assertEquals(i + 1, index.keyCount());
+    }
+    mPayloadWriter.close();
+    return SortedIndex.loadFromByteArray(ByteBuffer.wrap(index.getBytes()));
+  }
+
+  private PayloadReader createPayloadReader() {
+    return new BasePayloadReader(ByteBuffer.wrap(mOutStream.toByteArray()));
+  }
+
+  /**
+   * Tests {@link SortedIndex#get} to return correct values for inserted keys, and null for keys
+   * not inserted.
+   */
+  @Test
+  public void get() throws Exception {
+    SortedIndex index = createIndex();
+    PayloadReader reader = createPayloadReader();
+    for (int i = 0; i < TEST_KEYS; i++) {
+      Assert.assertEquals(ByteBuffer.wrap(value(i)), index.get(ByteBuffer.wrap(key(i)), reader));
+    }
+    Assert.assertNull(index.get(ByteBuffer.wrap("a".getBytes()), reader));
+    Assert.assertNull(index.get(ByteBuffer.wrap("test-key:0010a".getBytes()), reader));
+    Assert.assertNull(index.get(ByteBuffer.wrap("z".getBytes()), reader));
+  }
+
+  /**
+   * Tests {@link SortedIndex#get} on an empty index.
+   */
+  @Test
+  public void getEmpty() throws Exception {
+    SortedIndex index = SortedIndex.createEmptyIndex();
+    Assert.assertNull(index.get(ByteBuffer.wrap(key(0)), new BasePayloadReader(
+        ByteBuffer.allocate(1))));
+    Assert.assertNull(index.nextKey(null, createPayloadReader()));
+  }
+
+  /**
+   * Tests that {@link SortedIndex#put} rejects keys not in increasing order.
+   */
+  @Test
+  public void putOutOfOrder() throws Exception {
+    SortedIndex index = SortedIndex.createEmptyIndex();
+    index.put(key(1), value(1), mPayloadWriter);
+    mThrown.expect(IllegalArgumentException.class);
+    index.put(key(0), value(0), mPayloadWriter);
+  }
+
+  /**
+   * Tests that the key count and the byte count are recovered after loading the index, and that
+   * the index is told from a {@link LinearProbingIndex}.
+   */
+  @Test
+  public void loadFromByteArray() throws Exception {
+    SortedIndex index = SortedIndex.createEmptyIndex(KEYS_PER_BLOCK);
+    for (int i = 0; i < TEST_KEYS; i++) {
+      index.put(key(i), value(i), mPayloadWriter);
+    }
+    byte[] bytes = index.getBytes();
+    Assert.assertEquals(index.byteCount(), bytes.length);
+    Assert.assertTrue(SortedIndex.isSortedIndex(ByteBuffer.wrap(bytes)));
+    Assert.assertFalse(SortedIndex.isSortedIndex(
+        ByteBuffer.wrap(LinearProbingIndex.createEmptyIndex().getBytes())));
+
+    SortedIndex loaded = SortedIndex.loadFromByteArray(ByteBuffer.wrap(bytes));
+    Assert.assertEquals(TEST_KEYS, loaded.keyCount());
+    Assert.assertEquals(index.byteCount(), loaded.byteCount());
+  }
+
+  /**
+   * Tests that {@link SortedIndex#nextKey} and {@link SortedIndex#keyIterator} visit the keys in
+   * order.
+   */
+  @Test
+  public void keysInOrder() throws Exception {
+    SortedIndex index = createIndex();
+    PayloadReader reader = createPayloadReader();
+    Iterator<ByteBuffer> keyIterator = index.keyIterator(reader);
+    ByteBuffer key = null;
+    for (int i = 0; i < TEST_KEYS; i++) {
+      key = index.nextKey(key, reader);
+      Assert.assertArrayEquals(key(i), BufferUtils.newByteArrayFromByteBuffer(key));
+      Assert.assertEquals(key, keyIterator.next());
+    }
+    Assert.assertNull(index.nextKey(key, reader));
+    Assert.assertFalse(keyIterator.hasNext());
+  }
+
+  /**
+   * Tests that {@link SortedIndex#iterator} starts from the first key not less than the given key.
+   */
+  @Test
+  public void iterator() throws Exception {
+    SortedIndex index = createIndex();
+    PayloadReader reader = createPayloadReader();
+    // Starts from an existing key, a key between two keys, and keys before and after all keys.
+    assertIterator(index.iterator(ByteBuffer.wrap(key(13)), reader), 13);
+    assertIterator(index.iterator(ByteBuffer.wrap("test-key:0007a".getBytes()), reader), 8);
+    assertIterator(index.iterator(ByteBuffer.wrap("a".getBytes()), reader), 0);
+    assertIterator(index.iterator(null, reader), 0);
+    assertIterator(index.iterator(ByteBuffer.wrap("z".getBytes()), reader), TEST_KEYS);
+  }
+
+  private void assertIterator(Iterator<KeyValuePair> iterator, int first) {
+    for (int i = first; i < TEST_KEYS; i++) {
+      KeyValuePair pair = iterator.next();
+      Assert.assertEquals(ByteBuffer.wrap(key(i)), pair.getKey());
+      Assert.assertEquals(ByteBuffer.wrap(value(i)), pair.getValue());
+    }
+    Assert.assertFalse(iterator.hasNext());
+  }
+}
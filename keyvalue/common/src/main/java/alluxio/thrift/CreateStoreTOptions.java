@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreTOptions, CreateStoreTOptions._Fields>, java.io.Serializable, Cloneable, Comparable<CreateStoreTOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("CreateStoreTOptions");
 
+  private static final org.apache.thrift.protocol.TField COMPACTED_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("compactedPath", org.apache.thrift.protocol.TType.STRING, (short)1);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,10 +46,11 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
     schemes.put(TupleScheme.class, new CreateStoreTOptionsTupleSchemeFactory());
   }
 
+  private String compactedPath; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+    COMPACTED_PATH((short)1, "compactedPath");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -63,6 +65,8 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
      */
     public static _Fields findByThriftId(int fieldId) {
       switch(fieldId) {
+        case 1: // COMPACTED_PATH
+          return COMPACTED_PATH;
         default:
           return null;
       }
@@ -101,9 +105,14 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
       return _fieldName;
     }
   }
+
+  // isset id assignments
+  private static final _Fields optionals[] = {_Fields.COMPACTED_PATH};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.COMPACTED_PATH, new org.apache.thrift.meta_data.FieldMetaData("compactedPath", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(CreateStoreTOptions.class, metaDataMap);
   }
@@ -115,6 +124,9 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
    * Performs a deep copy on <i>other</i>.
    */
   public CreateStoreTOptions(CreateStoreTOptions other) {
+    if (other.isSetCompactedPath()) {
+      this.compactedPath = other.compactedPath;
+    }
   }
 
   public CreateStoreTOptions deepCopy() {
@@ -123,15 +135,51 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
 
   @Override
   public void clear() {
+    this.compactedPath = null;
+  }
+
+  public String getCompactedPath() {
+    return this.compactedPath;
+  }
+
+  public CreateStoreTOptions setCompactedPath(String compactedPath) {
+    this.compactedPath = compactedPath;
+    return this;
+  }
+
+  public void unsetCompactedPath() {
+    this.compactedPath = null;
+  }
+
+  /** Returns true if field compactedPath is set (has been assigned a value) and false otherwise */
+  public boolean isSetCompactedPath() {
+    return this.compactedPath != null;
+  }
+
+  public void setCompactedPathIsSet(boolean value) {
+    if (!value) {
+      this.compactedPath = null;
+    }
   }
 
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
+    case COMPACTED_PATH:
+      if (value == null) {
+        unsetCompactedPath();
+      } else {
+        setCompactedPath((String)value);
+      }
+      break;
+
     }
   }
 
   public Object getFieldValue(_Fields field) {
     switch (field) {
+    case COMPACTED_PATH:
+      return getCompactedPath();
+
     }
     throw new IllegalStateException();
   }
@@ -143,6 +191,8 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
     }
 
     switch (field) {
+    case COMPACTED_PATH:
+      return isSetCompactedPath();
     }
     throw new IllegalStateException();
   }
@@ -160,6 +210,15 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
     if (that == null)
       return false;
 
+    boolean this_present_compactedPath = true && this.isSetCompactedPath();
+    boolean that_present_compactedPath = true && that.isSetCompactedPath();
+    if (this_present_compactedPath || that_present_compactedPath) {
+      if (!(this_present_compactedPath && that_present_compactedPath))
+        return false;
+      if (!this.compactedPath.equals(that.compactedPath))
+        return false;
+    }
+
     return true;
   }
 
@@ -167,6 +226,11 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
   public int hashCode() {
     List<Object> list = new ArrayList<Object>();
 
+    boolean present_compactedPath = true && (isSetCompactedPath());
+    list.add(present_compactedPath);
+    if (present_compactedPath)
+      list.add(compactedPath);
+
     return list.hashCode();
   }
 
@@ -178,6 +242,16 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
 
     int lastComparison = 0;
 
+    lastComparison = Boolean.valueOf(isSetCompactedPath()).compareTo(other.isSetCompactedPath());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetCompactedPath()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.compactedPath, other.compactedPath);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -198,6 +272,15 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
     StringBuilder sb = new StringBuilder("CreateStoreTOptions(");
     boolean first = true;
 
+    if (isSetCompactedPath()) {
+      sb.append("compactedPath:");
+      if (this.compactedPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.compactedPath);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -241,6 +324,14 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
           break;
         }
         switch (schemeField.id) {
+          case 1: // COMPACTED_PATH
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.compactedPath = iprot.readString();
+              struct.setCompactedPathIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -256,6 +347,13 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
       struct.validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.compactedPath != null) {
+        if (struct.isSetCompactedPath()) {
+          oprot.writeFieldBegin(COMPACTED_PATH_FIELD_DESC);
+          oprot.writeString(struct.compactedPath);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -273,11 +371,24 @@ public class CreateStoreTOptions implements org.apache.thrift.TBase<CreateStoreT
     @Override
     public void write(org.apache.thrift.protocol.TProtocol prot, CreateStoreTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetCompactedPath()) {
+        optionals.set(0);
+      }
+      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetCompactedPath()) {
+        oprot.writeString(struct.compactedPath);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, CreateStoreTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(1);
+      if (incoming.get(0)) {
+        struct.compactedPath = iprot.readString();
+        struct.setCompactedPathIsSet(true);
+      }
     }
   }
 
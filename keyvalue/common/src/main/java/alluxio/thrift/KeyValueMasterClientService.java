@@ -42,6 +42,20 @@ public class KeyValueMasterClientService {
    */
   public interface Iface extends alluxio.thrift.AlluxioService.Iface {
 
+    /**
+     * Checks that an incomplete store was created by the given user to compact another store into,
+     * and that the given blocks are partitions of the compacted store.
+     * 
+     * @param path the path of the store
+     * 
+     * @param user the user compacting into the store
+     * 
+     * @param blockIds the ids of the blocks of the partitions to compact
+     * 
+     * @param options the method options
+     */
+    public CheckCompactionTResponse checkCompaction(String path, String user, List<Long> blockIds, CheckCompactionTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Marks a partition complete and adds it to the store.
      * 
@@ -111,10 +125,24 @@ public class KeyValueMasterClientService {
      */
     public RenameStoreTResponse renameStore(String oldPath, String newPath, RenameStoreTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Atomically replaces the partitions of a completed key-value store with the partitions of
+     * another completed key-value store, which is removed.
+     * 
+     * @param fromPath the path of the store whose partitions replace the others
+     * 
+     * @param toPath the path of the store to be replaced
+     * 
+     * @param options the method options
+     */
+    public ReplaceStoreTResponse replaceStore(String fromPath, String toPath, ReplaceStoreTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface extends alluxio.thrift.AlluxioService .AsyncIface {
 
+    public void checkCompaction(String path, String user, List<Long> blockIds, CheckCompactionTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void completePartition(String path, PartitionInfo info, CompletePartitionTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void completeStore(String path, CompleteStoreTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -129,6 +157,8 @@ public class KeyValueMasterClientService {
 
     public void renameStore(String oldPath, String newPath, RenameStoreTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void replaceStore(String fromPath, String toPath, ReplaceStoreTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends alluxio.thrift.AlluxioService.Client implements Iface {
@@ -151,6 +181,35 @@ public class KeyValueMasterClientService {
       super(iprot, oprot);
     }
 
+    public CheckCompactionTResponse checkCompaction(String path, String user, List<Long> blockIds, CheckCompactionTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_checkCompaction(path, user, blockIds, options);
+      return recv_checkCompaction();
+    }
+
+    public void send_checkCompaction(String path, String user, List<Long> blockIds, CheckCompactionTOptions options) throws org.apache.thrift.TException
+    {
+      checkCompaction_args args = new checkCompaction_args();
+      args.setPath(path);
+      args.setUser(user);
+      args.setBlockIds(blockIds);
+      args.setOptions(options);
+      sendBase("checkCompaction", args);
+    }
+
+    public CheckCompactionTResponse recv_checkCompaction() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      checkCompaction_result result = new checkCompaction_result();
+      receiveBase(result, "checkCompaction");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "checkCompaction failed: unknown result");
+    }
+
     public CompletePartitionTResponse completePartition(String path, PartitionInfo info, CompletePartitionTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_completePartition(path, info, options);
@@ -343,6 +402,34 @@ public class KeyValueMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "renameStore failed: unknown result");
     }
 
+    public ReplaceStoreTResponse replaceStore(String fromPath, String toPath, ReplaceStoreTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_replaceStore(fromPath, toPath, options);
+      return recv_replaceStore();
+    }
+
+    public void send_replaceStore(String fromPath, String toPath, ReplaceStoreTOptions options) throws org.apache.thrift.TException
+    {
+      replaceStore_args args = new replaceStore_args();
+      args.setFromPath(fromPath);
+      args.setToPath(toPath);
+      args.setOptions(options);
+      sendBase("replaceStore", args);
+    }
+
+    public ReplaceStoreTResponse recv_replaceStore() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      replaceStore_result result = new replaceStore_result();
+      receiveBase(result, "replaceStore");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "replaceStore failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends alluxio.thrift.AlluxioService.AsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -361,6 +448,47 @@ public class KeyValueMasterClientService {
       super(protocolFactory, clientManager, transport);
     }
 
+    public void checkCompaction(String path, String user, List<Long> blockIds, CheckCompactionTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      checkCompaction_call method_call = new checkCompaction_call(path, user, blockIds, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class checkCompaction_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private String user;
+      private List<Long> blockIds;
+      private CheckCompactionTOptions options;
+      public checkCompaction_call(String path, String user, List<Long> blockIds, CheckCompactionTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.user = user;
+        this.blockIds = blockIds;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("checkCompaction", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        checkCompaction_args args = new checkCompaction_args();
+        args.setPath(path);
+        args.setUser(user);
+        args.setBlockIds(blockIds);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public CheckCompactionTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_checkCompaction();
+      }
+    }
+
     public void completePartition(String path, PartitionInfo info, CompletePartitionTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       completePartition_call method_call = new completePartition_call(path, info, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -615,6 +743,44 @@ public class KeyValueMasterClientService {
       }
     }
 
+    public void replaceStore(String fromPath, String toPath, ReplaceStoreTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      replaceStore_call method_call = new replaceStore_call(fromPath, toPath, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class replaceStore_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String fromPath;
+      private String toPath;
+      private ReplaceStoreTOptions options;
+      public replaceStore_call(String fromPath, String toPath, ReplaceStoreTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fromPath = fromPath;
+        this.toPath = toPath;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("replaceStore", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        replaceStore_args args = new replaceStore_args();
+        args.setFromPath(fromPath);
+        args.setToPath(toPath);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ReplaceStoreTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_replaceStore();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends alluxio.thrift.AlluxioService.Processor<I> implements org.apache.thrift.TProcessor {
@@ -628,6 +794,7 @@ public class KeyValueMasterClientService {
     }
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("checkCompaction", new checkCompaction());
       processMap.put("completePartition", new completePartition());
       processMap.put("completeStore", new completeStore());
       processMap.put("createStore", new createStore());
@@ -635,9 +802,34 @@ public class KeyValueMasterClientService {
       processMap.put("getPartitionInfo", new getPartitionInfo());
       processMap.put("mergeStore", new mergeStore());
       processMap.put("renameStore", new renameStore());
+      processMap.put("replaceStore", new replaceStore());
       return processMap;
     }
 
+    public static class checkCompaction<I extends Iface> extends org.apache.thrift.ProcessFunction<I, checkCompaction_args> {
+      public checkCompaction() {
+        super("checkCompaction");
+      }
+
+      public checkCompaction_args getEmptyArgsInstance() {
+        return new checkCompaction_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public checkCompaction_result getResult(I iface, checkCompaction_args args) throws org.apache.thrift.TException {
+        checkCompaction_result result = new checkCompaction_result();
+        try {
+          result.success = iface.checkCompaction(args.path, args.user, args.blockIds, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class completePartition<I extends Iface> extends org.apache.thrift.ProcessFunction<I, completePartition_args> {
       public completePartition() {
         super("completePartition");
@@ -806,6 +998,30 @@ public class KeyValueMasterClientService {
       }
     }
 
+    public static class replaceStore<I extends Iface> extends org.apache.thrift.ProcessFunction<I, replaceStore_args> {
+      public replaceStore() {
+        super("replaceStore");
+      }
+
+      public replaceStore_args getEmptyArgsInstance() {
+        return new replaceStore_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public replaceStore_result getResult(I iface, replaceStore_args args) throws org.apache.thrift.TException {
+        replaceStore_result result = new replaceStore_result();
+        try {
+          result.success = iface.replaceStore(args.fromPath, args.toPath, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends alluxio.thrift.AlluxioService.AsyncProcessor<I> {
@@ -819,6 +1035,7 @@ public class KeyValueMasterClientService {
     }
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("checkCompaction", new checkCompaction());
       processMap.put("completePartition", new completePartition());
       processMap.put("completeStore", new completeStore());
       processMap.put("createStore", new createStore());
@@ -826,9 +1043,67 @@ public class KeyValueMasterClientService {
       processMap.put("getPartitionInfo", new getPartitionInfo());
       processMap.put("mergeStore", new mergeStore());
       processMap.put("renameStore", new renameStore());
+      processMap.put("replaceStore", new replaceStore());
       return processMap;
     }
 
+    public static class checkCompaction<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, checkCompaction_args, CheckCompactionTResponse> {
+      public checkCompaction() {
+        super("checkCompaction");
+      }
+
+      public checkCompaction_args getEmptyArgsInstance() {
+        return new checkCompaction_args();
+      }
+
+      public AsyncMethodCallback<CheckCompactionTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<CheckCompactionTResponse>() { 
+          public void onComplete(CheckCompactionTResponse o) {
+            checkCompaction_result result = new checkCompaction_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            checkCompaction_result result = new checkCompaction_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, checkCompaction_args args, org.apache.thrift.async.AsyncMethodCallback<CheckCompactionTResponse> resultHandler) throws TException {
+        iface.checkCompaction(args.path, args.user, args.blockIds, args.options,resultHandler);
+      }
+    }
+
     public static class completePartition<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, completePartition_args, CompletePartitionTResponse> {
       public completePartition() {
         super("completePartition");
@@ -1228,24 +1503,83 @@ public class KeyValueMasterClientService {
       }
     }
 
+    public static class replaceStore<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, replaceStore_args, ReplaceStoreTResponse> {
+      public replaceStore() {
+        super("replaceStore");
+      }
+
+      public replaceStore_args getEmptyArgsInstance() {
+        return new replaceStore_args();
+      }
+
+      public AsyncMethodCallback<ReplaceStoreTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ReplaceStoreTResponse>() { 
+          public void onComplete(ReplaceStoreTResponse o) {
+            replaceStore_result result = new replaceStore_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            replaceStore_result result = new replaceStore_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, replaceStore_args args, org.apache.thrift.async.AsyncMethodCallback<ReplaceStoreTResponse> resultHandler) throws TException {
+        iface.replaceStore(args.fromPath, args.toPath, args.options,resultHandler);
+      }
+    }
+
   }
 
-  public static class completePartition_args implements org.apache.thrift.TBase<completePartition_args, completePartition_args._Fields>, java.io.Serializable, Cloneable, Comparable<completePartition_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completePartition_args");
+  public static class checkCompaction_args implements org.apache.thrift.TBase<checkCompaction_args, checkCompaction_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkCompaction_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkCompaction_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("info", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)3);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completePartition_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completePartition_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new checkCompaction_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkCompaction_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private PartitionInfo info; // required
-    private CompletePartitionTOptions options; // required
+    private String user; // required
+    private List<Long> blockIds; // required
+    private CheckCompactionTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -1254,13 +1588,17 @@ public class KeyValueMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * information about the partition to mark complete
+       * the user compacting into the store
        */
-      INFO((short)2, "info"),
+      USER((short)2, "user"),
+      /**
+       * the ids of the blocks of the partitions to compact
+       */
+      BLOCK_IDS((short)3, "blockIds"),
       /**
        * the method options
        */
-      OPTIONS((short)3, "options");
+      OPTIONS((short)4, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1277,9 +1615,11 @@ public class KeyValueMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // INFO
-            return INFO;
-          case 3: // OPTIONS
+          case 2: // USER
+            return USER;
+          case 3: // BLOCK_IDS
+            return BLOCK_IDS;
+          case 4: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -1326,51 +1666,61 @@ public class KeyValueMasterClientService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INFO, new org.apache.thrift.meta_data.FieldMetaData("info", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PartitionInfo.class)));
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompletePartitionTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckCompactionTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completePartition_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkCompaction_args.class, metaDataMap);
     }
 
-    public completePartition_args() {
+    public checkCompaction_args() {
     }
 
-    public completePartition_args(
+    public checkCompaction_args(
       String path,
-      PartitionInfo info,
-      CompletePartitionTOptions options)
+      String user,
+      List<Long> blockIds,
+      CheckCompactionTOptions options)
     {
       this();
       this.path = path;
-      this.info = info;
+      this.user = user;
+      this.blockIds = blockIds;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completePartition_args(completePartition_args other) {
+    public checkCompaction_args(checkCompaction_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      if (other.isSetInfo()) {
-        this.info = new PartitionInfo(other.info);
+      if (other.isSetUser()) {
+        this.user = other.user;
+      }
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
       }
       if (other.isSetOptions()) {
-        this.options = new CompletePartitionTOptions(other.options);
+        this.options = new CheckCompactionTOptions(other.options);
       }
     }
 
-    public completePartition_args deepCopy() {
-      return new completePartition_args(this);
+    public checkCompaction_args deepCopy() {
+      return new checkCompaction_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      this.info = null;
+      this.user = null;
+      this.blockIds = null;
       this.options = null;
     }
 
@@ -1384,7 +1734,7 @@ public class KeyValueMasterClientService {
     /**
      * the path of the store
      */
-    public completePartition_args setPath(String path) {
+    public checkCompaction_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -1405,46 +1755,91 @@ public class KeyValueMasterClientService {
     }
 
     /**
-     * information about the partition to mark complete
+     * the user compacting into the store
      */
-    public PartitionInfo getInfo() {
-      return this.info;
+    public String getUser() {
+      return this.user;
     }
 
     /**
-     * information about the partition to mark complete
+     * the user compacting into the store
      */
-    public completePartition_args setInfo(PartitionInfo info) {
-      this.info = info;
+    public checkCompaction_args setUser(String user) {
+      this.user = user;
       return this;
     }
 
-    public void unsetInfo() {
-      this.info = null;
+    public void unsetUser() {
+      this.user = null;
     }
 
-    /** Returns true if field info is set (has been assigned a value) and false otherwise */
-    public boolean isSetInfo() {
-      return this.info != null;
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
     }
 
-    public void setInfoIsSet(boolean value) {
+    public void setUserIsSet(boolean value) {
       if (!value) {
-        this.info = null;
+        this.user = null;
+      }
+    }
+
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
+    }
+
+    /**
+     * the ids of the blocks of the partitions to compact
+     */
+    public List<Long> getBlockIds() {
+      return this.blockIds;
+    }
+
+    /**
+     * the ids of the blocks of the partitions to compact
+     */
+    public checkCompaction_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
+      return this;
+    }
+
+    public void unsetBlockIds() {
+      this.blockIds = null;
+    }
+
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
+    }
+
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
       }
     }
 
     /**
      * the method options
      */
-    public CompletePartitionTOptions getOptions() {
+    public CheckCompactionTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public completePartition_args setOptions(CompletePartitionTOptions options) {
+    public checkCompaction_args setOptions(CheckCompactionTOptions options) {
       this.options = options;
       return this;
     }
@@ -1474,11 +1869,19 @@ public class KeyValueMasterClientService {
         }
         break;
 
-      case INFO:
+      case USER:
         if (value == null) {
-          unsetInfo();
+          unsetUser();
         } else {
-          setInfo((PartitionInfo)value);
+          setUser((String)value);
+        }
+        break;
+
+      case BLOCK_IDS:
+        if (value == null) {
+          unsetBlockIds();
+        } else {
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -1486,7 +1889,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CompletePartitionTOptions)value);
+          setOptions((CheckCompactionTOptions)value);
         }
         break;
 
@@ -1498,8 +1901,11 @@ public class KeyValueMasterClientService {
       case PATH:
         return getPath();
 
-      case INFO:
-        return getInfo();
+      case USER:
+        return getUser();
+
+      case BLOCK_IDS:
+        return getBlockIds();
 
       case OPTIONS:
         return getOptions();
@@ -1517,8 +1923,10 @@ public class KeyValueMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case INFO:
-        return isSetInfo();
+      case USER:
+        return isSetUser();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       case OPTIONS:
         return isSetOptions();
       }
@@ -1529,12 +1937,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completePartition_args)
-        return this.equals((completePartition_args)that);
+      if (that instanceof checkCompaction_args)
+        return this.equals((checkCompaction_args)that);
       return false;
     }
 
-    public boolean equals(completePartition_args that) {
+    public boolean equals(checkCompaction_args that) {
       if (that == null)
         return false;
 
@@ -1547,12 +1955,21 @@ public class KeyValueMasterClientService {
           return false;
       }
 
-      boolean this_present_info = true && this.isSetInfo();
-      boolean that_present_info = true && that.isSetInfo();
-      if (this_present_info || that_present_info) {
-        if (!(this_present_info && that_present_info))
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
           return false;
-        if (!this.info.equals(that.info))
+        if (!this.user.equals(that.user))
+          return false;
+      }
+
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
+          return false;
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -1577,10 +1994,15 @@ public class KeyValueMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_info = true && (isSetInfo());
-      list.add(present_info);
-      if (present_info)
-        list.add(info);
+      boolean present_user = true && (isSetUser());
+      list.add(present_user);
+      if (present_user)
+        list.add(user);
+
+      boolean present_blockIds = true && (isSetBlockIds());
+      list.add(present_blockIds);
+      if (present_blockIds)
+        list.add(blockIds);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -1591,7 +2013,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(completePartition_args other) {
+    public int compareTo(checkCompaction_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1608,12 +2030,22 @@ public class KeyValueMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetInfo()).compareTo(other.isSetInfo());
+      lastComparison = Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInfo()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.info, other.info);
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1645,7 +2077,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completePartition_args(");
+      StringBuilder sb = new StringBuilder("checkCompaction_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -1656,11 +2088,19 @@ public class KeyValueMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("info:");
-      if (this.info == null) {
+      sb.append("user:");
+      if (this.user == null) {
         sb.append("null");
       } else {
-        sb.append(this.info);
+        sb.append(this.user);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -1678,9 +2118,6 @@ public class KeyValueMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (info != null) {
-        info.validate();
-      }
       if (options != null) {
         options.validate();
       }
@@ -1702,15 +2139,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class completePartition_argsStandardSchemeFactory implements SchemeFactory {
-      public completePartition_argsStandardScheme getScheme() {
-        return new completePartition_argsStandardScheme();
+    private static class checkCompaction_argsStandardSchemeFactory implements SchemeFactory {
+      public checkCompaction_argsStandardScheme getScheme() {
+        return new checkCompaction_argsStandardScheme();
       }
     }
 
-    private static class completePartition_argsStandardScheme extends StandardScheme<completePartition_args> {
+    private static class checkCompaction_argsStandardScheme extends StandardScheme<checkCompaction_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completePartition_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkCompaction_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1728,18 +2165,35 @@ public class KeyValueMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // INFO
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.info = new PartitionInfo();
-                struct.info.read(iprot);
-                struct.setInfoIsSet(true);
+            case 2: // USER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.user = iprot.readString();
+                struct.setUserIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // OPTIONS
+            case 3: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list8.size);
+                  long _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = iprot.readI64();
+                    struct.blockIds.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CompletePartitionTOptions();
+                struct.options = new CheckCompactionTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -1757,7 +2211,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completePartition_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkCompaction_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1766,9 +2220,21 @@ public class KeyValueMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        if (struct.info != null) {
-          oprot.writeFieldBegin(INFO_FIELD_DESC);
-          struct.info.write(oprot);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          oprot.writeString(struct.user);
+          oprot.writeFieldEnd();
+        }
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter11 : struct.blockIds)
+            {
+              oprot.writeI64(_iter11);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -1782,33 +2248,45 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class completePartition_argsTupleSchemeFactory implements SchemeFactory {
-      public completePartition_argsTupleScheme getScheme() {
-        return new completePartition_argsTupleScheme();
+    private static class checkCompaction_argsTupleSchemeFactory implements SchemeFactory {
+      public checkCompaction_argsTupleScheme getScheme() {
+        return new checkCompaction_argsTupleScheme();
       }
     }
 
-    private static class completePartition_argsTupleScheme extends TupleScheme<completePartition_args> {
+    private static class checkCompaction_argsTupleScheme extends TupleScheme<checkCompaction_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completePartition_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkCompaction_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetInfo()) {
+        if (struct.isSetUser()) {
           optionals.set(1);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetOptions()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetInfo()) {
-          struct.info.write(oprot);
+        if (struct.isSetUser()) {
+          oprot.writeString(struct.user);
+        }
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter12 : struct.blockIds)
+            {
+              oprot.writeI64(_iter12);
+            }
+          }
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -1816,20 +2294,32 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completePartition_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkCompaction_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.info = new PartitionInfo();
-          struct.info.read(iprot);
-          struct.setInfoIsSet(true);
+          struct.user = iprot.readString();
+          struct.setUserIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.options = new CompletePartitionTOptions();
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list13.size);
+            long _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = iprot.readI64();
+              struct.blockIds.add(_elem14);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.options = new CheckCompactionTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -1838,19 +2328,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class completePartition_result implements org.apache.thrift.TBase<completePartition_result, completePartition_result._Fields>, java.io.Serializable, Cloneable, Comparable<completePartition_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completePartition_result");
+  public static class checkCompaction_result implements org.apache.thrift.TBase<checkCompaction_result, checkCompaction_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkCompaction_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkCompaction_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completePartition_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completePartition_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new checkCompaction_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkCompaction_resultTupleSchemeFactory());
     }
 
-    private CompletePartitionTResponse success; // required
+    private CheckCompactionTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -1919,18 +2409,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompletePartitionTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckCompactionTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completePartition_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkCompaction_result.class, metaDataMap);
     }
 
-    public completePartition_result() {
+    public checkCompaction_result() {
     }
 
-    public completePartition_result(
-      CompletePartitionTResponse success,
+    public checkCompaction_result(
+      CheckCompactionTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -1941,17 +2431,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completePartition_result(completePartition_result other) {
+    public checkCompaction_result(checkCompaction_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CompletePartitionTResponse(other.success);
+        this.success = new CheckCompactionTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public completePartition_result deepCopy() {
-      return new completePartition_result(this);
+    public checkCompaction_result deepCopy() {
+      return new checkCompaction_result(this);
     }
 
     @Override
@@ -1960,11 +2450,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public CompletePartitionTResponse getSuccess() {
+    public CheckCompactionTResponse getSuccess() {
       return this.success;
     }
 
-    public completePartition_result setSuccess(CompletePartitionTResponse success) {
+    public checkCompaction_result setSuccess(CheckCompactionTResponse success) {
       this.success = success;
       return this;
     }
@@ -1988,7 +2478,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public completePartition_result setE(alluxio.thrift.AlluxioTException e) {
+    public checkCompaction_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -2014,7 +2504,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CompletePartitionTResponse)value);
+          setSuccess((CheckCompactionTResponse)value);
         }
         break;
 
@@ -2060,12 +2550,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completePartition_result)
-        return this.equals((completePartition_result)that);
+      if (that instanceof checkCompaction_result)
+        return this.equals((checkCompaction_result)that);
       return false;
     }
 
-    public boolean equals(completePartition_result that) {
+    public boolean equals(checkCompaction_result that) {
       if (that == null)
         return false;
 
@@ -2108,7 +2598,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(completePartition_result other) {
+    public int compareTo(checkCompaction_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2152,7 +2642,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completePartition_result(");
+      StringBuilder sb = new StringBuilder("checkCompaction_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2198,15 +2688,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class completePartition_resultStandardSchemeFactory implements SchemeFactory {
-      public completePartition_resultStandardScheme getScheme() {
-        return new completePartition_resultStandardScheme();
+    private static class checkCompaction_resultStandardSchemeFactory implements SchemeFactory {
+      public checkCompaction_resultStandardScheme getScheme() {
+        return new checkCompaction_resultStandardScheme();
       }
     }
 
-    private static class completePartition_resultStandardScheme extends StandardScheme<completePartition_result> {
+    private static class checkCompaction_resultStandardScheme extends StandardScheme<checkCompaction_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completePartition_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkCompaction_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2218,7 +2708,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CompletePartitionTResponse();
+                struct.success = new CheckCompactionTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -2245,7 +2735,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completePartition_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkCompaction_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2265,16 +2755,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class completePartition_resultTupleSchemeFactory implements SchemeFactory {
-      public completePartition_resultTupleScheme getScheme() {
-        return new completePartition_resultTupleScheme();
+    private static class checkCompaction_resultTupleSchemeFactory implements SchemeFactory {
+      public checkCompaction_resultTupleScheme getScheme() {
+        return new checkCompaction_resultTupleScheme();
       }
     }
 
-    private static class completePartition_resultTupleScheme extends TupleScheme<completePartition_result> {
+    private static class checkCompaction_resultTupleScheme extends TupleScheme<checkCompaction_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completePartition_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkCompaction_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -2293,11 +2783,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completePartition_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkCompaction_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CompletePartitionTResponse();
+          struct.success = new CheckCompactionTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -2311,20 +2801,22 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class completeStore_args implements org.apache.thrift.TBase<completeStore_args, completeStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeStore_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeStore_args");
+  public static class completePartition_args implements org.apache.thrift.TBase<completePartition_args, completePartition_args._Fields>, java.io.Serializable, Cloneable, Comparable<completePartition_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completePartition_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("info", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeStore_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeStore_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completePartition_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completePartition_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CompleteStoreTOptions options; // required
+    private PartitionInfo info; // required
+    private CompletePartitionTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -2332,10 +2824,14 @@ public class KeyValueMasterClientService {
        * the path of the store
        */
       PATH((short)1, "path"),
+      /**
+       * information about the partition to mark complete
+       */
+      INFO((short)2, "info"),
       /**
        * the method options
        */
-      OPTIONS((short)2, "options");
+      OPTIONS((short)3, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2352,7 +2848,9 @@ public class KeyValueMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // OPTIONS
+          case 2: // INFO
+            return INFO;
+          case 3: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -2399,43 +2897,51 @@ public class KeyValueMasterClientService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INFO, new org.apache.thrift.meta_data.FieldMetaData("info", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, PartitionInfo.class)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteStoreTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompletePartitionTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeStore_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completePartition_args.class, metaDataMap);
     }
 
-    public completeStore_args() {
+    public completePartition_args() {
     }
 
-    public completeStore_args(
+    public completePartition_args(
       String path,
-      CompleteStoreTOptions options)
+      PartitionInfo info,
+      CompletePartitionTOptions options)
     {
       this();
       this.path = path;
+      this.info = info;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeStore_args(completeStore_args other) {
+    public completePartition_args(completePartition_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
+      if (other.isSetInfo()) {
+        this.info = new PartitionInfo(other.info);
+      }
       if (other.isSetOptions()) {
-        this.options = new CompleteStoreTOptions(other.options);
+        this.options = new CompletePartitionTOptions(other.options);
       }
     }
 
-    public completeStore_args deepCopy() {
-      return new completeStore_args(this);
+    public completePartition_args deepCopy() {
+      return new completePartition_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
+      this.info = null;
       this.options = null;
     }
 
@@ -2449,7 +2955,7 @@ public class KeyValueMasterClientService {
     /**
      * the path of the store
      */
-    public completeStore_args setPath(String path) {
+    public completePartition_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -2470,21 +2976,51 @@ public class KeyValueMasterClientService {
     }
 
     /**
-     * the method options
+     * information about the partition to mark complete
      */
-    public CompleteStoreTOptions getOptions() {
-      return this.options;
+    public PartitionInfo getInfo() {
+      return this.info;
     }
 
     /**
-     * the method options
+     * information about the partition to mark complete
      */
-    public completeStore_args setOptions(CompleteStoreTOptions options) {
-      this.options = options;
+    public completePartition_args setInfo(PartitionInfo info) {
+      this.info = info;
       return this;
     }
 
-    public void unsetOptions() {
+    public void unsetInfo() {
+      this.info = null;
+    }
+
+    /** Returns true if field info is set (has been assigned a value) and false otherwise */
+    public boolean isSetInfo() {
+      return this.info != null;
+    }
+
+    public void setInfoIsSet(boolean value) {
+      if (!value) {
+        this.info = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CompletePartitionTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public completePartition_args setOptions(CompletePartitionTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
       this.options = null;
     }
 
@@ -2509,11 +3045,19 @@ public class KeyValueMasterClientService {
         }
         break;
 
+      case INFO:
+        if (value == null) {
+          unsetInfo();
+        } else {
+          setInfo((PartitionInfo)value);
+        }
+        break;
+
       case OPTIONS:
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CompleteStoreTOptions)value);
+          setOptions((CompletePartitionTOptions)value);
         }
         break;
 
@@ -2525,6 +3069,9 @@ public class KeyValueMasterClientService {
       case PATH:
         return getPath();
 
+      case INFO:
+        return getInfo();
+
       case OPTIONS:
         return getOptions();
 
@@ -2541,6 +3088,8 @@ public class KeyValueMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
+      case INFO:
+        return isSetInfo();
       case OPTIONS:
         return isSetOptions();
       }
@@ -2551,12 +3100,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeStore_args)
-        return this.equals((completeStore_args)that);
+      if (that instanceof completePartition_args)
+        return this.equals((completePartition_args)that);
       return false;
     }
 
-    public boolean equals(completeStore_args that) {
+    public boolean equals(completePartition_args that) {
       if (that == null)
         return false;
 
@@ -2569,6 +3118,15 @@ public class KeyValueMasterClientService {
           return false;
       }
 
+      boolean this_present_info = true && this.isSetInfo();
+      boolean that_present_info = true && that.isSetInfo();
+      if (this_present_info || that_present_info) {
+        if (!(this_present_info && that_present_info))
+          return false;
+        if (!this.info.equals(that.info))
+          return false;
+      }
+
       boolean this_present_options = true && this.isSetOptions();
       boolean that_present_options = true && that.isSetOptions();
       if (this_present_options || that_present_options) {
@@ -2590,6 +3148,11 @@ public class KeyValueMasterClientService {
       if (present_path)
         list.add(path);
 
+      boolean present_info = true && (isSetInfo());
+      list.add(present_info);
+      if (present_info)
+        list.add(info);
+
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
       if (present_options)
@@ -2599,7 +3162,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(completeStore_args other) {
+    public int compareTo(completePartition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2616,6 +3179,16 @@ public class KeyValueMasterClientService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetInfo()).compareTo(other.isSetInfo());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInfo()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.info, other.info);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
@@ -2643,7 +3216,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeStore_args(");
+      StringBuilder sb = new StringBuilder("completePartition_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -2654,6 +3227,14 @@ public class KeyValueMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
+      sb.append("info:");
+      if (this.info == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.info);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("options:");
       if (this.options == null) {
         sb.append("null");
@@ -2668,6 +3249,9 @@ public class KeyValueMasterClientService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (info != null) {
+        info.validate();
+      }
       if (options != null) {
         options.validate();
       }
@@ -2689,15 +3273,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class completeStore_argsStandardSchemeFactory implements SchemeFactory {
-      public completeStore_argsStandardScheme getScheme() {
-        return new completeStore_argsStandardScheme();
+    private static class completePartition_argsStandardSchemeFactory implements SchemeFactory {
+      public completePartition_argsStandardScheme getScheme() {
+        return new completePartition_argsStandardScheme();
       }
     }
 
-    private static class completeStore_argsStandardScheme extends StandardScheme<completeStore_args> {
+    private static class completePartition_argsStandardScheme extends StandardScheme<completePartition_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completePartition_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2715,9 +3299,18 @@ public class KeyValueMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // OPTIONS
+            case 2: // INFO
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CompleteStoreTOptions();
+                struct.info = new PartitionInfo();
+                struct.info.read(iprot);
+                struct.setInfoIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CompletePartitionTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -2735,7 +3328,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completePartition_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2744,6 +3337,11 @@ public class KeyValueMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
+        if (struct.info != null) {
+          oprot.writeFieldBegin(INFO_FIELD_DESC);
+          struct.info.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -2755,43 +3353,54 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class completeStore_argsTupleSchemeFactory implements SchemeFactory {
-      public completeStore_argsTupleScheme getScheme() {
-        return new completeStore_argsTupleScheme();
+    private static class completePartition_argsTupleSchemeFactory implements SchemeFactory {
+      public completePartition_argsTupleScheme getScheme() {
+        return new completePartition_argsTupleScheme();
       }
     }
 
-    private static class completeStore_argsTupleScheme extends TupleScheme<completeStore_args> {
+    private static class completePartition_argsTupleScheme extends TupleScheme<completePartition_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completePartition_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetOptions()) {
+        if (struct.isSetInfo()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
+        if (struct.isSetInfo()) {
+          struct.info.write(oprot);
+        }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completePartition_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CompleteStoreTOptions();
+          struct.info = new PartitionInfo();
+          struct.info.read(iprot);
+          struct.setInfoIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new CompletePartitionTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -2800,19 +3409,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class completeStore_result implements org.apache.thrift.TBase<completeStore_result, completeStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeStore_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeStore_result");
+  public static class completePartition_result implements org.apache.thrift.TBase<completePartition_result, completePartition_result._Fields>, java.io.Serializable, Cloneable, Comparable<completePartition_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completePartition_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeStore_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeStore_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completePartition_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completePartition_resultTupleSchemeFactory());
     }
 
-    private CompleteStoreTResponse success; // required
+    private CompletePartitionTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -2881,18 +3490,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteStoreTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompletePartitionTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeStore_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completePartition_result.class, metaDataMap);
     }
 
-    public completeStore_result() {
+    public completePartition_result() {
     }
 
-    public completeStore_result(
-      CompleteStoreTResponse success,
+    public completePartition_result(
+      CompletePartitionTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -2903,17 +3512,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeStore_result(completeStore_result other) {
+    public completePartition_result(completePartition_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CompleteStoreTResponse(other.success);
+        this.success = new CompletePartitionTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public completeStore_result deepCopy() {
-      return new completeStore_result(this);
+    public completePartition_result deepCopy() {
+      return new completePartition_result(this);
     }
 
     @Override
@@ -2922,11 +3531,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public CompleteStoreTResponse getSuccess() {
+    public CompletePartitionTResponse getSuccess() {
       return this.success;
     }
 
-    public completeStore_result setSuccess(CompleteStoreTResponse success) {
+    public completePartition_result setSuccess(CompletePartitionTResponse success) {
       this.success = success;
       return this;
     }
@@ -2950,7 +3559,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public completeStore_result setE(alluxio.thrift.AlluxioTException e) {
+    public completePartition_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -2976,7 +3585,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CompleteStoreTResponse)value);
+          setSuccess((CompletePartitionTResponse)value);
         }
         break;
 
@@ -3022,12 +3631,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeStore_result)
-        return this.equals((completeStore_result)that);
+      if (that instanceof completePartition_result)
+        return this.equals((completePartition_result)that);
       return false;
     }
 
-    public boolean equals(completeStore_result that) {
+    public boolean equals(completePartition_result that) {
       if (that == null)
         return false;
 
@@ -3070,7 +3679,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(completeStore_result other) {
+    public int compareTo(completePartition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3114,7 +3723,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeStore_result(");
+      StringBuilder sb = new StringBuilder("completePartition_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3160,15 +3769,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class completeStore_resultStandardSchemeFactory implements SchemeFactory {
-      public completeStore_resultStandardScheme getScheme() {
-        return new completeStore_resultStandardScheme();
+    private static class completePartition_resultStandardSchemeFactory implements SchemeFactory {
+      public completePartition_resultStandardScheme getScheme() {
+        return new completePartition_resultStandardScheme();
       }
     }
 
-    private static class completeStore_resultStandardScheme extends StandardScheme<completeStore_result> {
+    private static class completePartition_resultStandardScheme extends StandardScheme<completePartition_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completePartition_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3180,7 +3789,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CompleteStoreTResponse();
+                struct.success = new CompletePartitionTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3207,7 +3816,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completePartition_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3227,16 +3836,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class completeStore_resultTupleSchemeFactory implements SchemeFactory {
-      public completeStore_resultTupleScheme getScheme() {
-        return new completeStore_resultTupleScheme();
+    private static class completePartition_resultTupleSchemeFactory implements SchemeFactory {
+      public completePartition_resultTupleScheme getScheme() {
+        return new completePartition_resultTupleScheme();
       }
     }
 
-    private static class completeStore_resultTupleScheme extends TupleScheme<completeStore_result> {
+    private static class completePartition_resultTupleScheme extends TupleScheme<completePartition_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completePartition_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3255,11 +3864,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completePartition_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CompleteStoreTResponse();
+          struct.success = new CompletePartitionTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -3273,20 +3882,20 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class createStore_args implements org.apache.thrift.TBase<createStore_args, createStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<createStore_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createStore_args");
+  public static class completeStore_args implements org.apache.thrift.TBase<completeStore_args, completeStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeStore_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createStore_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createStore_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeStore_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CreateStoreTOptions options; // required
+    private CompleteStoreTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -3362,17 +3971,17 @@ public class KeyValueMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateStoreTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteStoreTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createStore_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeStore_args.class, metaDataMap);
     }
 
-    public createStore_args() {
+    public completeStore_args() {
     }
 
-    public createStore_args(
+    public completeStore_args(
       String path,
-      CreateStoreTOptions options)
+      CompleteStoreTOptions options)
     {
       this();
       this.path = path;
@@ -3382,17 +3991,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createStore_args(createStore_args other) {
+    public completeStore_args(completeStore_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CreateStoreTOptions(other.options);
+        this.options = new CompleteStoreTOptions(other.options);
       }
     }
 
-    public createStore_args deepCopy() {
-      return new createStore_args(this);
+    public completeStore_args deepCopy() {
+      return new completeStore_args(this);
     }
 
     @Override
@@ -3411,7 +4020,7 @@ public class KeyValueMasterClientService {
     /**
      * the path of the store
      */
-    public createStore_args setPath(String path) {
+    public completeStore_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -3434,14 +4043,14 @@ public class KeyValueMasterClientService {
     /**
      * the method options
      */
-    public CreateStoreTOptions getOptions() {
+    public CompleteStoreTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public createStore_args setOptions(CreateStoreTOptions options) {
+    public completeStore_args setOptions(CompleteStoreTOptions options) {
       this.options = options;
       return this;
     }
@@ -3475,7 +4084,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateStoreTOptions)value);
+          setOptions((CompleteStoreTOptions)value);
         }
         break;
 
@@ -3513,12 +4122,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createStore_args)
-        return this.equals((createStore_args)that);
+      if (that instanceof completeStore_args)
+        return this.equals((completeStore_args)that);
       return false;
     }
 
-    public boolean equals(createStore_args that) {
+    public boolean equals(completeStore_args that) {
       if (that == null)
         return false;
 
@@ -3561,7 +4170,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(createStore_args other) {
+    public int compareTo(completeStore_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3605,7 +4214,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createStore_args(");
+      StringBuilder sb = new StringBuilder("completeStore_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -3651,15 +4260,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class createStore_argsStandardSchemeFactory implements SchemeFactory {
-      public createStore_argsStandardScheme getScheme() {
-        return new createStore_argsStandardScheme();
+    private static class completeStore_argsStandardSchemeFactory implements SchemeFactory {
+      public completeStore_argsStandardScheme getScheme() {
+        return new completeStore_argsStandardScheme();
       }
     }
 
-    private static class createStore_argsStandardScheme extends StandardScheme<createStore_args> {
+    private static class completeStore_argsStandardScheme extends StandardScheme<completeStore_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeStore_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3679,7 +4288,7 @@ public class KeyValueMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateStoreTOptions();
+                struct.options = new CompleteStoreTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -3697,7 +4306,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeStore_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3717,16 +4326,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class createStore_argsTupleSchemeFactory implements SchemeFactory {
-      public createStore_argsTupleScheme getScheme() {
-        return new createStore_argsTupleScheme();
+    private static class completeStore_argsTupleSchemeFactory implements SchemeFactory {
+      public completeStore_argsTupleScheme getScheme() {
+        return new completeStore_argsTupleScheme();
       }
     }
 
-    private static class createStore_argsTupleScheme extends TupleScheme<createStore_args> {
+    private static class completeStore_argsTupleScheme extends TupleScheme<completeStore_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -3745,7 +4354,7 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -3753,7 +4362,7 @@ public class KeyValueMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateStoreTOptions();
+          struct.options = new CompleteStoreTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -3762,19 +4371,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class createStore_result implements org.apache.thrift.TBase<createStore_result, createStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<createStore_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createStore_result");
+  public static class completeStore_result implements org.apache.thrift.TBase<completeStore_result, completeStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeStore_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createStore_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createStore_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeStore_resultTupleSchemeFactory());
     }
 
-    private CreateStoreTResponse success; // required
+    private CompleteStoreTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3843,18 +4452,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateStoreTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteStoreTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createStore_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeStore_result.class, metaDataMap);
     }
 
-    public createStore_result() {
+    public completeStore_result() {
     }
 
-    public createStore_result(
-      CreateStoreTResponse success,
+    public completeStore_result(
+      CompleteStoreTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -3865,17 +4474,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createStore_result(createStore_result other) {
+    public completeStore_result(completeStore_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CreateStoreTResponse(other.success);
+        this.success = new CompleteStoreTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public createStore_result deepCopy() {
-      return new createStore_result(this);
+    public completeStore_result deepCopy() {
+      return new completeStore_result(this);
     }
 
     @Override
@@ -3884,11 +4493,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public CreateStoreTResponse getSuccess() {
+    public CompleteStoreTResponse getSuccess() {
       return this.success;
     }
 
-    public createStore_result setSuccess(CreateStoreTResponse success) {
+    public completeStore_result setSuccess(CompleteStoreTResponse success) {
       this.success = success;
       return this;
     }
@@ -3912,7 +4521,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public createStore_result setE(alluxio.thrift.AlluxioTException e) {
+    public completeStore_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -3938,7 +4547,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CreateStoreTResponse)value);
+          setSuccess((CompleteStoreTResponse)value);
         }
         break;
 
@@ -3984,12 +4593,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createStore_result)
-        return this.equals((createStore_result)that);
+      if (that instanceof completeStore_result)
+        return this.equals((completeStore_result)that);
       return false;
     }
 
-    public boolean equals(createStore_result that) {
+    public boolean equals(completeStore_result that) {
       if (that == null)
         return false;
 
@@ -4032,7 +4641,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(createStore_result other) {
+    public int compareTo(completeStore_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4076,7 +4685,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createStore_result(");
+      StringBuilder sb = new StringBuilder("completeStore_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -4122,15 +4731,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class createStore_resultStandardSchemeFactory implements SchemeFactory {
-      public createStore_resultStandardScheme getScheme() {
-        return new createStore_resultStandardScheme();
+    private static class completeStore_resultStandardSchemeFactory implements SchemeFactory {
+      public completeStore_resultStandardScheme getScheme() {
+        return new completeStore_resultStandardScheme();
       }
     }
 
-    private static class createStore_resultStandardScheme extends StandardScheme<createStore_result> {
+    private static class completeStore_resultStandardScheme extends StandardScheme<completeStore_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeStore_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4142,7 +4751,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CreateStoreTResponse();
+                struct.success = new CompleteStoreTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -4169,7 +4778,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeStore_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4189,16 +4798,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class createStore_resultTupleSchemeFactory implements SchemeFactory {
-      public createStore_resultTupleScheme getScheme() {
-        return new createStore_resultTupleScheme();
+    private static class completeStore_resultTupleSchemeFactory implements SchemeFactory {
+      public completeStore_resultTupleScheme getScheme() {
+        return new completeStore_resultTupleScheme();
       }
     }
 
-    private static class createStore_resultTupleScheme extends TupleScheme<createStore_result> {
+    private static class completeStore_resultTupleScheme extends TupleScheme<completeStore_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -4217,11 +4826,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CreateStoreTResponse();
+          struct.success = new CompleteStoreTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -4235,20 +4844,20 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class deleteStore_args implements org.apache.thrift.TBase<deleteStore_args, deleteStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteStore_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteStore_args");
+  public static class createStore_args implements org.apache.thrift.TBase<createStore_args, createStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<createStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createStore_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteStore_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteStore_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createStore_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private DeleteStoreTOptions options; // required
+    private CreateStoreTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -4324,17 +4933,17 @@ public class KeyValueMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteStoreTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateStoreTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteStore_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createStore_args.class, metaDataMap);
     }
 
-    public deleteStore_args() {
+    public createStore_args() {
     }
 
-    public deleteStore_args(
+    public createStore_args(
       String path,
-      DeleteStoreTOptions options)
+      CreateStoreTOptions options)
     {
       this();
       this.path = path;
@@ -4344,17 +4953,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteStore_args(deleteStore_args other) {
+    public createStore_args(createStore_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new DeleteStoreTOptions(other.options);
+        this.options = new CreateStoreTOptions(other.options);
       }
     }
 
-    public deleteStore_args deepCopy() {
-      return new deleteStore_args(this);
+    public createStore_args deepCopy() {
+      return new createStore_args(this);
     }
 
     @Override
@@ -4373,7 +4982,7 @@ public class KeyValueMasterClientService {
     /**
      * the path of the store
      */
-    public deleteStore_args setPath(String path) {
+    public createStore_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -4396,14 +5005,14 @@ public class KeyValueMasterClientService {
     /**
      * the method options
      */
-    public DeleteStoreTOptions getOptions() {
+    public CreateStoreTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public deleteStore_args setOptions(DeleteStoreTOptions options) {
+    public createStore_args setOptions(CreateStoreTOptions options) {
       this.options = options;
       return this;
     }
@@ -4437,7 +5046,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((DeleteStoreTOptions)value);
+          setOptions((CreateStoreTOptions)value);
         }
         break;
 
@@ -4475,12 +5084,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteStore_args)
-        return this.equals((deleteStore_args)that);
+      if (that instanceof createStore_args)
+        return this.equals((createStore_args)that);
       return false;
     }
 
-    public boolean equals(deleteStore_args that) {
+    public boolean equals(createStore_args that) {
       if (that == null)
         return false;
 
@@ -4523,7 +5132,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(deleteStore_args other) {
+    public int compareTo(createStore_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4567,7 +5176,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteStore_args(");
+      StringBuilder sb = new StringBuilder("createStore_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -4613,15 +5222,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class deleteStore_argsStandardSchemeFactory implements SchemeFactory {
-      public deleteStore_argsStandardScheme getScheme() {
-        return new deleteStore_argsStandardScheme();
+    private static class createStore_argsStandardSchemeFactory implements SchemeFactory {
+      public createStore_argsStandardScheme getScheme() {
+        return new createStore_argsStandardScheme();
       }
     }
 
-    private static class deleteStore_argsStandardScheme extends StandardScheme<deleteStore_args> {
+    private static class createStore_argsStandardScheme extends StandardScheme<createStore_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createStore_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4641,7 +5250,7 @@ public class KeyValueMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new DeleteStoreTOptions();
+                struct.options = new CreateStoreTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -4659,7 +5268,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createStore_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4679,16 +5288,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class deleteStore_argsTupleSchemeFactory implements SchemeFactory {
-      public deleteStore_argsTupleScheme getScheme() {
-        return new deleteStore_argsTupleScheme();
+    private static class createStore_argsTupleSchemeFactory implements SchemeFactory {
+      public createStore_argsTupleScheme getScheme() {
+        return new createStore_argsTupleScheme();
       }
     }
 
-    private static class deleteStore_argsTupleScheme extends TupleScheme<deleteStore_args> {
+    private static class createStore_argsTupleScheme extends TupleScheme<createStore_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -4707,7 +5316,7 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -4715,7 +5324,7 @@ public class KeyValueMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new DeleteStoreTOptions();
+          struct.options = new CreateStoreTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -4724,19 +5333,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class deleteStore_result implements org.apache.thrift.TBase<deleteStore_result, deleteStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteStore_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteStore_result");
+  public static class createStore_result implements org.apache.thrift.TBase<createStore_result, createStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<createStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createStore_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteStore_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteStore_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createStore_resultTupleSchemeFactory());
     }
 
-    private DeleteStoreTResponse success; // required
+    private CreateStoreTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4805,18 +5414,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteStoreTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateStoreTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteStore_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createStore_result.class, metaDataMap);
     }
 
-    public deleteStore_result() {
+    public createStore_result() {
     }
 
-    public deleteStore_result(
-      DeleteStoreTResponse success,
+    public createStore_result(
+      CreateStoreTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -4827,17 +5436,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteStore_result(deleteStore_result other) {
+    public createStore_result(createStore_result other) {
       if (other.isSetSuccess()) {
-        this.success = new DeleteStoreTResponse(other.success);
+        this.success = new CreateStoreTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public deleteStore_result deepCopy() {
-      return new deleteStore_result(this);
+    public createStore_result deepCopy() {
+      return new createStore_result(this);
     }
 
     @Override
@@ -4846,11 +5455,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public DeleteStoreTResponse getSuccess() {
+    public CreateStoreTResponse getSuccess() {
       return this.success;
     }
 
-    public deleteStore_result setSuccess(DeleteStoreTResponse success) {
+    public createStore_result setSuccess(CreateStoreTResponse success) {
       this.success = success;
       return this;
     }
@@ -4874,7 +5483,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public deleteStore_result setE(alluxio.thrift.AlluxioTException e) {
+    public createStore_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -4900,7 +5509,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((DeleteStoreTResponse)value);
+          setSuccess((CreateStoreTResponse)value);
         }
         break;
 
@@ -4946,12 +5555,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteStore_result)
-        return this.equals((deleteStore_result)that);
+      if (that instanceof createStore_result)
+        return this.equals((createStore_result)that);
       return false;
     }
 
-    public boolean equals(deleteStore_result that) {
+    public boolean equals(createStore_result that) {
       if (that == null)
         return false;
 
@@ -4994,7 +5603,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(deleteStore_result other) {
+    public int compareTo(createStore_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5038,7 +5647,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteStore_result(");
+      StringBuilder sb = new StringBuilder("createStore_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5084,15 +5693,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class deleteStore_resultStandardSchemeFactory implements SchemeFactory {
-      public deleteStore_resultStandardScheme getScheme() {
-        return new deleteStore_resultStandardScheme();
+    private static class createStore_resultStandardSchemeFactory implements SchemeFactory {
+      public createStore_resultStandardScheme getScheme() {
+        return new createStore_resultStandardScheme();
       }
     }
 
-    private static class deleteStore_resultStandardScheme extends StandardScheme<deleteStore_result> {
+    private static class createStore_resultStandardScheme extends StandardScheme<createStore_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createStore_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5104,7 +5713,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new DeleteStoreTResponse();
+                struct.success = new CreateStoreTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -5131,7 +5740,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createStore_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5151,16 +5760,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class deleteStore_resultTupleSchemeFactory implements SchemeFactory {
-      public deleteStore_resultTupleScheme getScheme() {
-        return new deleteStore_resultTupleScheme();
-      }
+    private static class createStore_resultTupleSchemeFactory implements SchemeFactory {
+      public createStore_resultTupleScheme getScheme() {
+        return new createStore_resultTupleScheme();
+      }
     }
 
-    private static class deleteStore_resultTupleScheme extends TupleScheme<deleteStore_result> {
+    private static class createStore_resultTupleScheme extends TupleScheme<createStore_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5179,11 +5788,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new DeleteStoreTResponse();
+          struct.success = new CreateStoreTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -5197,20 +5806,20 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class getPartitionInfo_args implements org.apache.thrift.TBase<getPartitionInfo_args, getPartitionInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPartitionInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPartitionInfo_args");
+  public static class deleteStore_args implements org.apache.thrift.TBase<deleteStore_args, deleteStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteStore_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPartitionInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPartitionInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteStore_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private GetPartitionInfoTOptions options; // required
+    private DeleteStoreTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5286,17 +5895,17 @@ public class KeyValueMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetPartitionInfoTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteStoreTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPartitionInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteStore_args.class, metaDataMap);
     }
 
-    public getPartitionInfo_args() {
+    public deleteStore_args() {
     }
 
-    public getPartitionInfo_args(
+    public deleteStore_args(
       String path,
-      GetPartitionInfoTOptions options)
+      DeleteStoreTOptions options)
     {
       this();
       this.path = path;
@@ -5306,17 +5915,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPartitionInfo_args(getPartitionInfo_args other) {
+    public deleteStore_args(deleteStore_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new GetPartitionInfoTOptions(other.options);
+        this.options = new DeleteStoreTOptions(other.options);
       }
     }
 
-    public getPartitionInfo_args deepCopy() {
-      return new getPartitionInfo_args(this);
+    public deleteStore_args deepCopy() {
+      return new deleteStore_args(this);
     }
 
     @Override
@@ -5335,7 +5944,7 @@ public class KeyValueMasterClientService {
     /**
      * the path of the store
      */
-    public getPartitionInfo_args setPath(String path) {
+    public deleteStore_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -5358,14 +5967,14 @@ public class KeyValueMasterClientService {
     /**
      * the method options
      */
-    public GetPartitionInfoTOptions getOptions() {
+    public DeleteStoreTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public getPartitionInfo_args setOptions(GetPartitionInfoTOptions options) {
+    public deleteStore_args setOptions(DeleteStoreTOptions options) {
       this.options = options;
       return this;
     }
@@ -5399,7 +6008,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((GetPartitionInfoTOptions)value);
+          setOptions((DeleteStoreTOptions)value);
         }
         break;
 
@@ -5437,12 +6046,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPartitionInfo_args)
-        return this.equals((getPartitionInfo_args)that);
+      if (that instanceof deleteStore_args)
+        return this.equals((deleteStore_args)that);
       return false;
     }
 
-    public boolean equals(getPartitionInfo_args that) {
+    public boolean equals(deleteStore_args that) {
       if (that == null)
         return false;
 
@@ -5485,7 +6094,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(getPartitionInfo_args other) {
+    public int compareTo(deleteStore_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5529,7 +6138,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPartitionInfo_args(");
+      StringBuilder sb = new StringBuilder("deleteStore_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -5575,15 +6184,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class getPartitionInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public getPartitionInfo_argsStandardScheme getScheme() {
-        return new getPartitionInfo_argsStandardScheme();
+    private static class deleteStore_argsStandardSchemeFactory implements SchemeFactory {
+      public deleteStore_argsStandardScheme getScheme() {
+        return new deleteStore_argsStandardScheme();
       }
     }
 
-    private static class getPartitionInfo_argsStandardScheme extends StandardScheme<getPartitionInfo_args> {
+    private static class deleteStore_argsStandardScheme extends StandardScheme<deleteStore_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteStore_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5603,7 +6212,7 @@ public class KeyValueMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new GetPartitionInfoTOptions();
+                struct.options = new DeleteStoreTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -5621,7 +6230,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteStore_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5641,16 +6250,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class getPartitionInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public getPartitionInfo_argsTupleScheme getScheme() {
-        return new getPartitionInfo_argsTupleScheme();
+    private static class deleteStore_argsTupleSchemeFactory implements SchemeFactory {
+      public deleteStore_argsTupleScheme getScheme() {
+        return new deleteStore_argsTupleScheme();
       }
     }
 
-    private static class getPartitionInfo_argsTupleScheme extends TupleScheme<getPartitionInfo_args> {
+    private static class deleteStore_argsTupleScheme extends TupleScheme<deleteStore_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -5669,7 +6278,7 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -5677,7 +6286,7 @@ public class KeyValueMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new GetPartitionInfoTOptions();
+          struct.options = new DeleteStoreTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -5686,19 +6295,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class getPartitionInfo_result implements org.apache.thrift.TBase<getPartitionInfo_result, getPartitionInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPartitionInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPartitionInfo_result");
+  public static class deleteStore_result implements org.apache.thrift.TBase<deleteStore_result, deleteStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteStore_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getPartitionInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getPartitionInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deleteStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteStore_resultTupleSchemeFactory());
     }
 
-    private GetPartitionInfoTResponse success; // required
+    private DeleteStoreTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -5767,18 +6376,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetPartitionInfoTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, DeleteStoreTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPartitionInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteStore_result.class, metaDataMap);
     }
 
-    public getPartitionInfo_result() {
+    public deleteStore_result() {
     }
 
-    public getPartitionInfo_result(
-      GetPartitionInfoTResponse success,
+    public deleteStore_result(
+      DeleteStoreTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -5789,17 +6398,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getPartitionInfo_result(getPartitionInfo_result other) {
+    public deleteStore_result(deleteStore_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GetPartitionInfoTResponse(other.success);
+        this.success = new DeleteStoreTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getPartitionInfo_result deepCopy() {
-      return new getPartitionInfo_result(this);
+    public deleteStore_result deepCopy() {
+      return new deleteStore_result(this);
     }
 
     @Override
@@ -5808,11 +6417,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public GetPartitionInfoTResponse getSuccess() {
+    public DeleteStoreTResponse getSuccess() {
       return this.success;
     }
 
-    public getPartitionInfo_result setSuccess(GetPartitionInfoTResponse success) {
+    public deleteStore_result setSuccess(DeleteStoreTResponse success) {
       this.success = success;
       return this;
     }
@@ -5836,7 +6445,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public getPartitionInfo_result setE(alluxio.thrift.AlluxioTException e) {
+    public deleteStore_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -5862,7 +6471,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GetPartitionInfoTResponse)value);
+          setSuccess((DeleteStoreTResponse)value);
         }
         break;
 
@@ -5908,12 +6517,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getPartitionInfo_result)
-        return this.equals((getPartitionInfo_result)that);
+      if (that instanceof deleteStore_result)
+        return this.equals((deleteStore_result)that);
       return false;
     }
 
-    public boolean equals(getPartitionInfo_result that) {
+    public boolean equals(deleteStore_result that) {
       if (that == null)
         return false;
 
@@ -5956,7 +6565,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(getPartitionInfo_result other) {
+    public int compareTo(deleteStore_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6000,7 +6609,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getPartitionInfo_result(");
+      StringBuilder sb = new StringBuilder("deleteStore_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6046,15 +6655,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class getPartitionInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public getPartitionInfo_resultStandardScheme getScheme() {
-        return new getPartitionInfo_resultStandardScheme();
+    private static class deleteStore_resultStandardSchemeFactory implements SchemeFactory {
+      public deleteStore_resultStandardScheme getScheme() {
+        return new deleteStore_resultStandardScheme();
       }
     }
 
-    private static class getPartitionInfo_resultStandardScheme extends StandardScheme<getPartitionInfo_result> {
+    private static class deleteStore_resultStandardScheme extends StandardScheme<deleteStore_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteStore_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6066,7 +6675,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GetPartitionInfoTResponse();
+                struct.success = new DeleteStoreTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -6093,7 +6702,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteStore_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6113,16 +6722,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class getPartitionInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public getPartitionInfo_resultTupleScheme getScheme() {
-        return new getPartitionInfo_resultTupleScheme();
+    private static class deleteStore_resultTupleSchemeFactory implements SchemeFactory {
+      public deleteStore_resultTupleScheme getScheme() {
+        return new deleteStore_resultTupleScheme();
       }
     }
 
-    private static class getPartitionInfo_resultTupleScheme extends TupleScheme<getPartitionInfo_result> {
+    private static class deleteStore_resultTupleScheme extends TupleScheme<deleteStore_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6141,11 +6750,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new GetPartitionInfoTResponse();
+          struct.success = new DeleteStoreTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -6159,37 +6768,31 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class mergeStore_args implements org.apache.thrift.TBase<mergeStore_args, mergeStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<mergeStore_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mergeStore_args");
+  public static class getPartitionInfo_args implements org.apache.thrift.TBase<getPartitionInfo_args, getPartitionInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getPartitionInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPartitionInfo_args");
 
-    private static final org.apache.thrift.protocol.TField FROM_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("fromPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField TO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("toPath", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mergeStore_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mergeStore_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getPartitionInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPartitionInfo_argsTupleSchemeFactory());
     }
 
-    private String fromPath; // required
-    private String toPath; // required
-    private MergeStoreTOptions options; // required
+    private String path; // required
+    private GetPartitionInfoTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the store to be merged
-       */
-      FROM_PATH((short)1, "fromPath"),
-      /**
-       * the path of the store to be merged to
+       * the path of the store
        */
-      TO_PATH((short)2, "toPath"),
+      PATH((short)1, "path"),
       /**
        * the method options
        */
-      OPTIONS((short)3, "options");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6204,11 +6807,9 @@ public class KeyValueMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FROM_PATH
-            return FROM_PATH;
-          case 2: // TO_PATH
-            return TO_PATH;
-          case 3: // OPTIONS
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -6253,127 +6854,2173 @@ public class KeyValueMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FROM_PATH, new org.apache.thrift.meta_data.FieldMetaData("fromPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.TO_PATH, new org.apache.thrift.meta_data.FieldMetaData("toPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MergeStoreTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetPartitionInfoTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mergeStore_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPartitionInfo_args.class, metaDataMap);
     }
 
-    public mergeStore_args() {
+    public getPartitionInfo_args() {
     }
 
-    public mergeStore_args(
-      String fromPath,
-      String toPath,
-      MergeStoreTOptions options)
+    public getPartitionInfo_args(
+      String path,
+      GetPartitionInfoTOptions options)
     {
       this();
-      this.fromPath = fromPath;
-      this.toPath = toPath;
+      this.path = path;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mergeStore_args(mergeStore_args other) {
-      if (other.isSetFromPath()) {
-        this.fromPath = other.fromPath;
-      }
-      if (other.isSetToPath()) {
-        this.toPath = other.toPath;
+    public getPartitionInfo_args(getPartitionInfo_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new MergeStoreTOptions(other.options);
+        this.options = new GetPartitionInfoTOptions(other.options);
       }
     }
 
-    public mergeStore_args deepCopy() {
-      return new mergeStore_args(this);
+    public getPartitionInfo_args deepCopy() {
+      return new getPartitionInfo_args(this);
     }
 
     @Override
     public void clear() {
-      this.fromPath = null;
-      this.toPath = null;
+      this.path = null;
       this.options = null;
     }
 
     /**
-     * the path of the store to be merged
+     * the path of the store
      */
-    public String getFromPath() {
-      return this.fromPath;
+    public String getPath() {
+      return this.path;
     }
 
     /**
-     * the path of the store to be merged
+     * the path of the store
      */
-    public mergeStore_args setFromPath(String fromPath) {
-      this.fromPath = fromPath;
+    public getPartitionInfo_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetFromPath() {
-      this.fromPath = null;
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field fromPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetFromPath() {
-      return this.fromPath != null;
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public GetPartitionInfoTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public getPartitionInfo_args setOptions(GetPartitionInfoTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((GetPartitionInfoTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getPartitionInfo_args)
+        return this.equals((getPartitionInfo_args)that);
+      return false;
+    }
+
+    public boolean equals(getPartitionInfo_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getPartitionInfo_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getPartitionInfo_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getPartitionInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public getPartitionInfo_argsStandardScheme getScheme() {
+        return new getPartitionInfo_argsStandardScheme();
+      }
+    }
+
+    private static class getPartitionInfo_argsStandardScheme extends StandardScheme<getPartitionInfo_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new GetPartitionInfoTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getPartitionInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public getPartitionInfo_argsTupleScheme getScheme() {
+        return new getPartitionInfo_argsTupleScheme();
+      }
+    }
+
+    private static class getPartitionInfo_argsTupleScheme extends TupleScheme<getPartitionInfo_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new GetPartitionInfoTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getPartitionInfo_result implements org.apache.thrift.TBase<getPartitionInfo_result, getPartitionInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getPartitionInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getPartitionInfo_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getPartitionInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getPartitionInfo_resultTupleSchemeFactory());
+    }
+
+    private GetPartitionInfoTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetPartitionInfoTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getPartitionInfo_result.class, metaDataMap);
+    }
+
+    public getPartitionInfo_result() {
+    }
+
+    public getPartitionInfo_result(
+      GetPartitionInfoTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getPartitionInfo_result(getPartitionInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GetPartitionInfoTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getPartitionInfo_result deepCopy() {
+      return new getPartitionInfo_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public GetPartitionInfoTResponse getSuccess() {
+      return this.success;
+    }
+
+    public getPartitionInfo_result setSuccess(GetPartitionInfoTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getPartitionInfo_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GetPartitionInfoTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getPartitionInfo_result)
+        return this.equals((getPartitionInfo_result)that);
+      return false;
+    }
+
+    public boolean equals(getPartitionInfo_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getPartitionInfo_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getPartitionInfo_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getPartitionInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public getPartitionInfo_resultStandardScheme getScheme() {
+        return new getPartitionInfo_resultStandardScheme();
+      }
+    }
+
+    private static class getPartitionInfo_resultStandardScheme extends StandardScheme<getPartitionInfo_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GetPartitionInfoTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getPartitionInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public getPartitionInfo_resultTupleScheme getScheme() {
+        return new getPartitionInfo_resultTupleScheme();
+      }
+    }
+
+    private static class getPartitionInfo_resultTupleScheme extends TupleScheme<getPartitionInfo_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getPartitionInfo_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new GetPartitionInfoTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class mergeStore_args implements org.apache.thrift.TBase<mergeStore_args, mergeStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<mergeStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mergeStore_args");
+
+    private static final org.apache.thrift.protocol.TField FROM_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("fromPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("toPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mergeStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mergeStore_argsTupleSchemeFactory());
+    }
+
+    private String fromPath; // required
+    private String toPath; // required
+    private MergeStoreTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the store to be merged
+       */
+      FROM_PATH((short)1, "fromPath"),
+      /**
+       * the path of the store to be merged to
+       */
+      TO_PATH((short)2, "toPath"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)3, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FROM_PATH
+            return FROM_PATH;
+          case 2: // TO_PATH
+            return TO_PATH;
+          case 3: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FROM_PATH, new org.apache.thrift.meta_data.FieldMetaData("fromPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TO_PATH, new org.apache.thrift.meta_data.FieldMetaData("toPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MergeStoreTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mergeStore_args.class, metaDataMap);
+    }
+
+    public mergeStore_args() {
+    }
+
+    public mergeStore_args(
+      String fromPath,
+      String toPath,
+      MergeStoreTOptions options)
+    {
+      this();
+      this.fromPath = fromPath;
+      this.toPath = toPath;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mergeStore_args(mergeStore_args other) {
+      if (other.isSetFromPath()) {
+        this.fromPath = other.fromPath;
+      }
+      if (other.isSetToPath()) {
+        this.toPath = other.toPath;
+      }
+      if (other.isSetOptions()) {
+        this.options = new MergeStoreTOptions(other.options);
+      }
+    }
+
+    public mergeStore_args deepCopy() {
+      return new mergeStore_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.fromPath = null;
+      this.toPath = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the store to be merged
+     */
+    public String getFromPath() {
+      return this.fromPath;
+    }
+
+    /**
+     * the path of the store to be merged
+     */
+    public mergeStore_args setFromPath(String fromPath) {
+      this.fromPath = fromPath;
+      return this;
+    }
+
+    public void unsetFromPath() {
+      this.fromPath = null;
+    }
+
+    /** Returns true if field fromPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetFromPath() {
+      return this.fromPath != null;
     }
 
     public void setFromPathIsSet(boolean value) {
       if (!value) {
-        this.fromPath = null;
+        this.fromPath = null;
+      }
+    }
+
+    /**
+     * the path of the store to be merged to
+     */
+    public String getToPath() {
+      return this.toPath;
+    }
+
+    /**
+     * the path of the store to be merged to
+     */
+    public mergeStore_args setToPath(String toPath) {
+      this.toPath = toPath;
+      return this;
+    }
+
+    public void unsetToPath() {
+      this.toPath = null;
+    }
+
+    /** Returns true if field toPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetToPath() {
+      return this.toPath != null;
+    }
+
+    public void setToPathIsSet(boolean value) {
+      if (!value) {
+        this.toPath = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public MergeStoreTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public mergeStore_args setOptions(MergeStoreTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FROM_PATH:
+        if (value == null) {
+          unsetFromPath();
+        } else {
+          setFromPath((String)value);
+        }
+        break;
+
+      case TO_PATH:
+        if (value == null) {
+          unsetToPath();
+        } else {
+          setToPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((MergeStoreTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FROM_PATH:
+        return getFromPath();
+
+      case TO_PATH:
+        return getToPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FROM_PATH:
+        return isSetFromPath();
+      case TO_PATH:
+        return isSetToPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mergeStore_args)
+        return this.equals((mergeStore_args)that);
+      return false;
+    }
+
+    public boolean equals(mergeStore_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fromPath = true && this.isSetFromPath();
+      boolean that_present_fromPath = true && that.isSetFromPath();
+      if (this_present_fromPath || that_present_fromPath) {
+        if (!(this_present_fromPath && that_present_fromPath))
+          return false;
+        if (!this.fromPath.equals(that.fromPath))
+          return false;
+      }
+
+      boolean this_present_toPath = true && this.isSetToPath();
+      boolean that_present_toPath = true && that.isSetToPath();
+      if (this_present_toPath || that_present_toPath) {
+        if (!(this_present_toPath && that_present_toPath))
+          return false;
+        if (!this.toPath.equals(that.toPath))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_fromPath = true && (isSetFromPath());
+      list.add(present_fromPath);
+      if (present_fromPath)
+        list.add(fromPath);
+
+      boolean present_toPath = true && (isSetToPath());
+      list.add(present_toPath);
+      if (present_toPath)
+        list.add(toPath);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(mergeStore_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFromPath()).compareTo(other.isSetFromPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFromPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fromPath, other.fromPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetToPath()).compareTo(other.isSetToPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetToPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.toPath, other.toPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mergeStore_args(");
+      boolean first = true;
+
+      sb.append("fromPath:");
+      if (this.fromPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.fromPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("toPath:");
+      if (this.toPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.toPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class mergeStore_argsStandardSchemeFactory implements SchemeFactory {
+      public mergeStore_argsStandardScheme getScheme() {
+        return new mergeStore_argsStandardScheme();
+      }
+    }
+
+    private static class mergeStore_argsStandardScheme extends StandardScheme<mergeStore_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mergeStore_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FROM_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.fromPath = iprot.readString();
+                struct.setFromPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TO_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.toPath = iprot.readString();
+                struct.setToPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new MergeStoreTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mergeStore_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.fromPath != null) {
+          oprot.writeFieldBegin(FROM_PATH_FIELD_DESC);
+          oprot.writeString(struct.fromPath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.toPath != null) {
+          oprot.writeFieldBegin(TO_PATH_FIELD_DESC);
+          oprot.writeString(struct.toPath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class mergeStore_argsTupleSchemeFactory implements SchemeFactory {
+      public mergeStore_argsTupleScheme getScheme() {
+        return new mergeStore_argsTupleScheme();
+      }
+    }
+
+    private static class mergeStore_argsTupleScheme extends TupleScheme<mergeStore_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mergeStore_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFromPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetToPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetFromPath()) {
+          oprot.writeString(struct.fromPath);
+        }
+        if (struct.isSetToPath()) {
+          oprot.writeString(struct.toPath);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mergeStore_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.fromPath = iprot.readString();
+          struct.setFromPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.toPath = iprot.readString();
+          struct.setToPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new MergeStoreTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class mergeStore_result implements org.apache.thrift.TBase<mergeStore_result, mergeStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<mergeStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mergeStore_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new mergeStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new mergeStore_resultTupleSchemeFactory());
+    }
+
+    private MergeStoreTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MergeStoreTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mergeStore_result.class, metaDataMap);
+    }
+
+    public mergeStore_result() {
+    }
+
+    public mergeStore_result(
+      MergeStoreTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public mergeStore_result(mergeStore_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new MergeStoreTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public mergeStore_result deepCopy() {
+      return new mergeStore_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public MergeStoreTResponse getSuccess() {
+      return this.success;
+    }
+
+    public mergeStore_result setSuccess(MergeStoreTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public mergeStore_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((MergeStoreTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof mergeStore_result)
+        return this.equals((mergeStore_result)that);
+      return false;
+    }
+
+    public boolean equals(mergeStore_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(mergeStore_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("mergeStore_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class mergeStore_resultStandardSchemeFactory implements SchemeFactory {
+      public mergeStore_resultStandardScheme getScheme() {
+        return new mergeStore_resultStandardScheme();
+      }
+    }
+
+    private static class mergeStore_resultStandardScheme extends StandardScheme<mergeStore_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, mergeStore_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new MergeStoreTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, mergeStore_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class mergeStore_resultTupleSchemeFactory implements SchemeFactory {
+      public mergeStore_resultTupleScheme getScheme() {
+        return new mergeStore_resultTupleScheme();
+      }
+    }
+
+    private static class mergeStore_resultTupleScheme extends TupleScheme<mergeStore_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, mergeStore_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, mergeStore_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new MergeStoreTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class renameStore_args implements org.apache.thrift.TBase<renameStore_args, renameStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameStore_args");
+
+    private static final org.apache.thrift.protocol.TField OLD_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("oldPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NEW_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("newPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new renameStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new renameStore_argsTupleSchemeFactory());
+    }
+
+    private String oldPath; // required
+    private String newPath; // required
+    private RenameStoreTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the old path of the store
+       */
+      OLD_PATH((short)1, "oldPath"),
+      /**
+       * the new path of the store
+       */
+      NEW_PATH((short)2, "newPath"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)3, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // OLD_PATH
+            return OLD_PATH;
+          case 2: // NEW_PATH
+            return NEW_PATH;
+          case 3: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.OLD_PATH, new org.apache.thrift.meta_data.FieldMetaData("oldPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NEW_PATH, new org.apache.thrift.meta_data.FieldMetaData("newPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameStoreTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameStore_args.class, metaDataMap);
+    }
+
+    public renameStore_args() {
+    }
+
+    public renameStore_args(
+      String oldPath,
+      String newPath,
+      RenameStoreTOptions options)
+    {
+      this();
+      this.oldPath = oldPath;
+      this.newPath = newPath;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public renameStore_args(renameStore_args other) {
+      if (other.isSetOldPath()) {
+        this.oldPath = other.oldPath;
+      }
+      if (other.isSetNewPath()) {
+        this.newPath = other.newPath;
+      }
+      if (other.isSetOptions()) {
+        this.options = new RenameStoreTOptions(other.options);
+      }
+    }
+
+    public renameStore_args deepCopy() {
+      return new renameStore_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.oldPath = null;
+      this.newPath = null;
+      this.options = null;
+    }
+
+    /**
+     * the old path of the store
+     */
+    public String getOldPath() {
+      return this.oldPath;
+    }
+
+    /**
+     * the old path of the store
+     */
+    public renameStore_args setOldPath(String oldPath) {
+      this.oldPath = oldPath;
+      return this;
+    }
+
+    public void unsetOldPath() {
+      this.oldPath = null;
+    }
+
+    /** Returns true if field oldPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetOldPath() {
+      return this.oldPath != null;
+    }
+
+    public void setOldPathIsSet(boolean value) {
+      if (!value) {
+        this.oldPath = null;
       }
     }
 
     /**
-     * the path of the store to be merged to
+     * the new path of the store
      */
-    public String getToPath() {
-      return this.toPath;
+    public String getNewPath() {
+      return this.newPath;
     }
 
     /**
-     * the path of the store to be merged to
+     * the new path of the store
      */
-    public mergeStore_args setToPath(String toPath) {
-      this.toPath = toPath;
+    public renameStore_args setNewPath(String newPath) {
+      this.newPath = newPath;
       return this;
     }
 
-    public void unsetToPath() {
-      this.toPath = null;
+    public void unsetNewPath() {
+      this.newPath = null;
     }
 
-    /** Returns true if field toPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetToPath() {
-      return this.toPath != null;
+    /** Returns true if field newPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetNewPath() {
+      return this.newPath != null;
     }
 
-    public void setToPathIsSet(boolean value) {
+    public void setNewPathIsSet(boolean value) {
       if (!value) {
-        this.toPath = null;
+        this.newPath = null;
       }
     }
 
     /**
      * the method options
      */
-    public MergeStoreTOptions getOptions() {
+    public RenameStoreTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public mergeStore_args setOptions(MergeStoreTOptions options) {
+    public renameStore_args setOptions(RenameStoreTOptions options) {
       this.options = options;
       return this;
     }
@@ -6395,19 +9042,19 @@ public class KeyValueMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FROM_PATH:
+      case OLD_PATH:
         if (value == null) {
-          unsetFromPath();
+          unsetOldPath();
         } else {
-          setFromPath((String)value);
+          setOldPath((String)value);
         }
         break;
 
-      case TO_PATH:
+      case NEW_PATH:
         if (value == null) {
-          unsetToPath();
+          unsetNewPath();
         } else {
-          setToPath((String)value);
+          setNewPath((String)value);
         }
         break;
 
@@ -6415,7 +9062,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((MergeStoreTOptions)value);
+          setOptions((RenameStoreTOptions)value);
         }
         break;
 
@@ -6424,11 +9071,11 @@ public class KeyValueMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FROM_PATH:
-        return getFromPath();
+      case OLD_PATH:
+        return getOldPath();
 
-      case TO_PATH:
-        return getToPath();
+      case NEW_PATH:
+        return getNewPath();
 
       case OPTIONS:
         return getOptions();
@@ -6444,10 +9091,10 @@ public class KeyValueMasterClientService {
       }
 
       switch (field) {
-      case FROM_PATH:
-        return isSetFromPath();
-      case TO_PATH:
-        return isSetToPath();
+      case OLD_PATH:
+        return isSetOldPath();
+      case NEW_PATH:
+        return isSetNewPath();
       case OPTIONS:
         return isSetOptions();
       }
@@ -6458,30 +9105,30 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mergeStore_args)
-        return this.equals((mergeStore_args)that);
+      if (that instanceof renameStore_args)
+        return this.equals((renameStore_args)that);
       return false;
     }
 
-    public boolean equals(mergeStore_args that) {
+    public boolean equals(renameStore_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fromPath = true && this.isSetFromPath();
-      boolean that_present_fromPath = true && that.isSetFromPath();
-      if (this_present_fromPath || that_present_fromPath) {
-        if (!(this_present_fromPath && that_present_fromPath))
+      boolean this_present_oldPath = true && this.isSetOldPath();
+      boolean that_present_oldPath = true && that.isSetOldPath();
+      if (this_present_oldPath || that_present_oldPath) {
+        if (!(this_present_oldPath && that_present_oldPath))
           return false;
-        if (!this.fromPath.equals(that.fromPath))
+        if (!this.oldPath.equals(that.oldPath))
           return false;
       }
 
-      boolean this_present_toPath = true && this.isSetToPath();
-      boolean that_present_toPath = true && that.isSetToPath();
-      if (this_present_toPath || that_present_toPath) {
-        if (!(this_present_toPath && that_present_toPath))
+      boolean this_present_newPath = true && this.isSetNewPath();
+      boolean that_present_newPath = true && that.isSetNewPath();
+      if (this_present_newPath || that_present_newPath) {
+        if (!(this_present_newPath && that_present_newPath))
           return false;
-        if (!this.toPath.equals(that.toPath))
+        if (!this.newPath.equals(that.newPath))
           return false;
       }
 
@@ -6501,15 +9148,15 @@ public class KeyValueMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_fromPath = true && (isSetFromPath());
-      list.add(present_fromPath);
-      if (present_fromPath)
-        list.add(fromPath);
+      boolean present_oldPath = true && (isSetOldPath());
+      list.add(present_oldPath);
+      if (present_oldPath)
+        list.add(oldPath);
 
-      boolean present_toPath = true && (isSetToPath());
-      list.add(present_toPath);
-      if (present_toPath)
-        list.add(toPath);
+      boolean present_newPath = true && (isSetNewPath());
+      list.add(present_newPath);
+      if (present_newPath)
+        list.add(newPath);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -6520,29 +9167,29 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(mergeStore_args other) {
+    public int compareTo(renameStore_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFromPath()).compareTo(other.isSetFromPath());
+      lastComparison = Boolean.valueOf(isSetOldPath()).compareTo(other.isSetOldPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFromPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fromPath, other.fromPath);
+      if (isSetOldPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.oldPath, other.oldPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetToPath()).compareTo(other.isSetToPath());
+      lastComparison = Boolean.valueOf(isSetNewPath()).compareTo(other.isSetNewPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetToPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.toPath, other.toPath);
+      if (isSetNewPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newPath, other.newPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6574,22 +9221,22 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mergeStore_args(");
+      StringBuilder sb = new StringBuilder("renameStore_args(");
       boolean first = true;
 
-      sb.append("fromPath:");
-      if (this.fromPath == null) {
+      sb.append("oldPath:");
+      if (this.oldPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.fromPath);
+        sb.append(this.oldPath);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("toPath:");
-      if (this.toPath == null) {
+      sb.append("newPath:");
+      if (this.newPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.toPath);
+        sb.append(this.newPath);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -6628,15 +9275,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class mergeStore_argsStandardSchemeFactory implements SchemeFactory {
-      public mergeStore_argsStandardScheme getScheme() {
-        return new mergeStore_argsStandardScheme();
+    private static class renameStore_argsStandardSchemeFactory implements SchemeFactory {
+      public renameStore_argsStandardScheme getScheme() {
+        return new renameStore_argsStandardScheme();
       }
     }
 
-    private static class mergeStore_argsStandardScheme extends StandardScheme<mergeStore_args> {
+    private static class renameStore_argsStandardScheme extends StandardScheme<renameStore_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mergeStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameStore_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6646,25 +9293,25 @@ public class KeyValueMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FROM_PATH
+            case 1: // OLD_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.fromPath = iprot.readString();
-                struct.setFromPathIsSet(true);
+                struct.oldPath = iprot.readString();
+                struct.setOldPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // TO_PATH
+            case 2: // NEW_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.toPath = iprot.readString();
-                struct.setToPathIsSet(true);
+                struct.newPath = iprot.readString();
+                struct.setNewPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new MergeStoreTOptions();
+                struct.options = new RenameStoreTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -6682,18 +9329,18 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mergeStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameStore_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.fromPath != null) {
-          oprot.writeFieldBegin(FROM_PATH_FIELD_DESC);
-          oprot.writeString(struct.fromPath);
+        if (struct.oldPath != null) {
+          oprot.writeFieldBegin(OLD_PATH_FIELD_DESC);
+          oprot.writeString(struct.oldPath);
           oprot.writeFieldEnd();
         }
-        if (struct.toPath != null) {
-          oprot.writeFieldBegin(TO_PATH_FIELD_DESC);
-          oprot.writeString(struct.toPath);
+        if (struct.newPath != null) {
+          oprot.writeFieldBegin(NEW_PATH_FIELD_DESC);
+          oprot.writeString(struct.newPath);
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -6707,33 +9354,33 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class mergeStore_argsTupleSchemeFactory implements SchemeFactory {
-      public mergeStore_argsTupleScheme getScheme() {
-        return new mergeStore_argsTupleScheme();
+    private static class renameStore_argsTupleSchemeFactory implements SchemeFactory {
+      public renameStore_argsTupleScheme getScheme() {
+        return new renameStore_argsTupleScheme();
       }
     }
 
-    private static class mergeStore_argsTupleScheme extends TupleScheme<mergeStore_args> {
+    private static class renameStore_argsTupleScheme extends TupleScheme<renameStore_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mergeStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFromPath()) {
+        if (struct.isSetOldPath()) {
           optionals.set(0);
         }
-        if (struct.isSetToPath()) {
+        if (struct.isSetNewPath()) {
           optionals.set(1);
         }
         if (struct.isSetOptions()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
-        if (struct.isSetFromPath()) {
-          oprot.writeString(struct.fromPath);
+        if (struct.isSetOldPath()) {
+          oprot.writeString(struct.oldPath);
         }
-        if (struct.isSetToPath()) {
-          oprot.writeString(struct.toPath);
+        if (struct.isSetNewPath()) {
+          oprot.writeString(struct.newPath);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -6741,19 +9388,19 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mergeStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.fromPath = iprot.readString();
-          struct.setFromPathIsSet(true);
+          struct.oldPath = iprot.readString();
+          struct.setOldPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.toPath = iprot.readString();
-          struct.setToPathIsSet(true);
+          struct.newPath = iprot.readString();
+          struct.setNewPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.options = new MergeStoreTOptions();
+          struct.options = new RenameStoreTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -6762,19 +9409,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class mergeStore_result implements org.apache.thrift.TBase<mergeStore_result, mergeStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<mergeStore_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("mergeStore_result");
+  public static class renameStore_result implements org.apache.thrift.TBase<renameStore_result, renameStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameStore_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new mergeStore_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new mergeStore_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new renameStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new renameStore_resultTupleSchemeFactory());
     }
 
-    private MergeStoreTResponse success; // required
+    private RenameStoreTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6843,18 +9490,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, MergeStoreTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameStoreTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(mergeStore_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameStore_result.class, metaDataMap);
     }
 
-    public mergeStore_result() {
+    public renameStore_result() {
     }
 
-    public mergeStore_result(
-      MergeStoreTResponse success,
+    public renameStore_result(
+      RenameStoreTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -6865,17 +9512,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public mergeStore_result(mergeStore_result other) {
+    public renameStore_result(renameStore_result other) {
       if (other.isSetSuccess()) {
-        this.success = new MergeStoreTResponse(other.success);
+        this.success = new RenameStoreTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public mergeStore_result deepCopy() {
-      return new mergeStore_result(this);
+    public renameStore_result deepCopy() {
+      return new renameStore_result(this);
     }
 
     @Override
@@ -6884,11 +9531,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public MergeStoreTResponse getSuccess() {
+    public RenameStoreTResponse getSuccess() {
       return this.success;
     }
 
-    public mergeStore_result setSuccess(MergeStoreTResponse success) {
+    public renameStore_result setSuccess(RenameStoreTResponse success) {
       this.success = success;
       return this;
     }
@@ -6912,7 +9559,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public mergeStore_result setE(alluxio.thrift.AlluxioTException e) {
+    public renameStore_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -6938,7 +9585,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((MergeStoreTResponse)value);
+          setSuccess((RenameStoreTResponse)value);
         }
         break;
 
@@ -6984,12 +9631,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof mergeStore_result)
-        return this.equals((mergeStore_result)that);
+      if (that instanceof renameStore_result)
+        return this.equals((renameStore_result)that);
       return false;
     }
 
-    public boolean equals(mergeStore_result that) {
+    public boolean equals(renameStore_result that) {
       if (that == null)
         return false;
 
@@ -7032,7 +9679,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(mergeStore_result other) {
+    public int compareTo(renameStore_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7076,7 +9723,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("mergeStore_result(");
+      StringBuilder sb = new StringBuilder("renameStore_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7122,15 +9769,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class mergeStore_resultStandardSchemeFactory implements SchemeFactory {
-      public mergeStore_resultStandardScheme getScheme() {
-        return new mergeStore_resultStandardScheme();
+    private static class renameStore_resultStandardSchemeFactory implements SchemeFactory {
+      public renameStore_resultStandardScheme getScheme() {
+        return new renameStore_resultStandardScheme();
       }
     }
 
-    private static class mergeStore_resultStandardScheme extends StandardScheme<mergeStore_result> {
+    private static class renameStore_resultStandardScheme extends StandardScheme<renameStore_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, mergeStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, renameStore_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7142,7 +9789,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new MergeStoreTResponse();
+                struct.success = new RenameStoreTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -7169,7 +9816,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, mergeStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, renameStore_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7189,16 +9836,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class mergeStore_resultTupleSchemeFactory implements SchemeFactory {
-      public mergeStore_resultTupleScheme getScheme() {
-        return new mergeStore_resultTupleScheme();
+    private static class renameStore_resultTupleSchemeFactory implements SchemeFactory {
+      public renameStore_resultTupleScheme getScheme() {
+        return new renameStore_resultTupleScheme();
       }
     }
 
-    private static class mergeStore_resultTupleScheme extends TupleScheme<mergeStore_result> {
+    private static class renameStore_resultTupleScheme extends TupleScheme<renameStore_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, mergeStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, renameStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7217,11 +9864,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, mergeStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, renameStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new MergeStoreTResponse();
+          struct.success = new RenameStoreTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -7235,33 +9882,33 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class renameStore_args implements org.apache.thrift.TBase<renameStore_args, renameStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<renameStore_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameStore_args");
+  public static class replaceStore_args implements org.apache.thrift.TBase<replaceStore_args, replaceStore_args._Fields>, java.io.Serializable, Cloneable, Comparable<replaceStore_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("replaceStore_args");
 
-    private static final org.apache.thrift.protocol.TField OLD_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("oldPath", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NEW_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("newPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField FROM_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("fromPath", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TO_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("toPath", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new renameStore_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new renameStore_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new replaceStore_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new replaceStore_argsTupleSchemeFactory());
     }
 
-    private String oldPath; // required
-    private String newPath; // required
-    private RenameStoreTOptions options; // required
+    private String fromPath; // required
+    private String toPath; // required
+    private ReplaceStoreTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the old path of the store
+       * the path of the store whose partitions replace the others
        */
-      OLD_PATH((short)1, "oldPath"),
+      FROM_PATH((short)1, "fromPath"),
       /**
-       * the new path of the store
+       * the path of the store to be replaced
        */
-      NEW_PATH((short)2, "newPath"),
+      TO_PATH((short)2, "toPath"),
       /**
        * the method options
        */
@@ -7280,10 +9927,10 @@ public class KeyValueMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // OLD_PATH
-            return OLD_PATH;
-          case 2: // NEW_PATH
-            return NEW_PATH;
+          case 1: // FROM_PATH
+            return FROM_PATH;
+          case 2: // TO_PATH
+            return TO_PATH;
           case 3: // OPTIONS
             return OPTIONS;
           default:
@@ -7329,127 +9976,127 @@ public class KeyValueMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.OLD_PATH, new org.apache.thrift.meta_data.FieldMetaData("oldPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FROM_PATH, new org.apache.thrift.meta_data.FieldMetaData("fromPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NEW_PATH, new org.apache.thrift.meta_data.FieldMetaData("newPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TO_PATH, new org.apache.thrift.meta_data.FieldMetaData("toPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameStoreTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ReplaceStoreTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameStore_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(replaceStore_args.class, metaDataMap);
     }
 
-    public renameStore_args() {
+    public replaceStore_args() {
     }
 
-    public renameStore_args(
-      String oldPath,
-      String newPath,
-      RenameStoreTOptions options)
+    public replaceStore_args(
+      String fromPath,
+      String toPath,
+      ReplaceStoreTOptions options)
     {
-      this();
-      this.oldPath = oldPath;
-      this.newPath = newPath;
+      this();
+      this.fromPath = fromPath;
+      this.toPath = toPath;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameStore_args(renameStore_args other) {
-      if (other.isSetOldPath()) {
-        this.oldPath = other.oldPath;
+    public replaceStore_args(replaceStore_args other) {
+      if (other.isSetFromPath()) {
+        this.fromPath = other.fromPath;
       }
-      if (other.isSetNewPath()) {
-        this.newPath = other.newPath;
+      if (other.isSetToPath()) {
+        this.toPath = other.toPath;
       }
       if (other.isSetOptions()) {
-        this.options = new RenameStoreTOptions(other.options);
+        this.options = new ReplaceStoreTOptions(other.options);
       }
     }
 
-    public renameStore_args deepCopy() {
-      return new renameStore_args(this);
+    public replaceStore_args deepCopy() {
+      return new replaceStore_args(this);
     }
 
     @Override
     public void clear() {
-      this.oldPath = null;
-      this.newPath = null;
+      this.fromPath = null;
+      this.toPath = null;
       this.options = null;
     }
 
     /**
-     * the old path of the store
+     * the path of the store whose partitions replace the others
      */
-    public String getOldPath() {
-      return this.oldPath;
+    public String getFromPath() {
+      return this.fromPath;
     }
 
     /**
-     * the old path of the store
+     * the path of the store whose partitions replace the others
      */
-    public renameStore_args setOldPath(String oldPath) {
-      this.oldPath = oldPath;
+    public replaceStore_args setFromPath(String fromPath) {
+      this.fromPath = fromPath;
       return this;
     }
 
-    public void unsetOldPath() {
-      this.oldPath = null;
+    public void unsetFromPath() {
+      this.fromPath = null;
     }
 
-    /** Returns true if field oldPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetOldPath() {
-      return this.oldPath != null;
+    /** Returns true if field fromPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetFromPath() {
+      return this.fromPath != null;
     }
 
-    public void setOldPathIsSet(boolean value) {
+    public void setFromPathIsSet(boolean value) {
       if (!value) {
-        this.oldPath = null;
+        this.fromPath = null;
       }
     }
 
     /**
-     * the new path of the store
+     * the path of the store to be replaced
      */
-    public String getNewPath() {
-      return this.newPath;
+    public String getToPath() {
+      return this.toPath;
     }
 
     /**
-     * the new path of the store
+     * the path of the store to be replaced
      */
-    public renameStore_args setNewPath(String newPath) {
-      this.newPath = newPath;
+    public replaceStore_args setToPath(String toPath) {
+      this.toPath = toPath;
       return this;
     }
 
-    public void unsetNewPath() {
-      this.newPath = null;
+    public void unsetToPath() {
+      this.toPath = null;
     }
 
-    /** Returns true if field newPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetNewPath() {
-      return this.newPath != null;
+    /** Returns true if field toPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetToPath() {
+      return this.toPath != null;
     }
 
-    public void setNewPathIsSet(boolean value) {
+    public void setToPathIsSet(boolean value) {
       if (!value) {
-        this.newPath = null;
+        this.toPath = null;
       }
     }
 
     /**
      * the method options
      */
-    public RenameStoreTOptions getOptions() {
+    public ReplaceStoreTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public renameStore_args setOptions(RenameStoreTOptions options) {
+    public replaceStore_args setOptions(ReplaceStoreTOptions options) {
       this.options = options;
       return this;
     }
@@ -7471,19 +10118,19 @@ public class KeyValueMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case OLD_PATH:
+      case FROM_PATH:
         if (value == null) {
-          unsetOldPath();
+          unsetFromPath();
         } else {
-          setOldPath((String)value);
+          setFromPath((String)value);
         }
         break;
 
-      case NEW_PATH:
+      case TO_PATH:
         if (value == null) {
-          unsetNewPath();
+          unsetToPath();
         } else {
-          setNewPath((String)value);
+          setToPath((String)value);
         }
         break;
 
@@ -7491,7 +10138,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((RenameStoreTOptions)value);
+          setOptions((ReplaceStoreTOptions)value);
         }
         break;
 
@@ -7500,11 +10147,11 @@ public class KeyValueMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case OLD_PATH:
-        return getOldPath();
+      case FROM_PATH:
+        return getFromPath();
 
-      case NEW_PATH:
-        return getNewPath();
+      case TO_PATH:
+        return getToPath();
 
       case OPTIONS:
         return getOptions();
@@ -7520,10 +10167,10 @@ public class KeyValueMasterClientService {
       }
 
       switch (field) {
-      case OLD_PATH:
-        return isSetOldPath();
-      case NEW_PATH:
-        return isSetNewPath();
+      case FROM_PATH:
+        return isSetFromPath();
+      case TO_PATH:
+        return isSetToPath();
       case OPTIONS:
         return isSetOptions();
       }
@@ -7534,30 +10181,30 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameStore_args)
-        return this.equals((renameStore_args)that);
+      if (that instanceof replaceStore_args)
+        return this.equals((replaceStore_args)that);
       return false;
     }
 
-    public boolean equals(renameStore_args that) {
+    public boolean equals(replaceStore_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_oldPath = true && this.isSetOldPath();
-      boolean that_present_oldPath = true && that.isSetOldPath();
-      if (this_present_oldPath || that_present_oldPath) {
-        if (!(this_present_oldPath && that_present_oldPath))
+      boolean this_present_fromPath = true && this.isSetFromPath();
+      boolean that_present_fromPath = true && that.isSetFromPath();
+      if (this_present_fromPath || that_present_fromPath) {
+        if (!(this_present_fromPath && that_present_fromPath))
           return false;
-        if (!this.oldPath.equals(that.oldPath))
+        if (!this.fromPath.equals(that.fromPath))
           return false;
       }
 
-      boolean this_present_newPath = true && this.isSetNewPath();
-      boolean that_present_newPath = true && that.isSetNewPath();
-      if (this_present_newPath || that_present_newPath) {
-        if (!(this_present_newPath && that_present_newPath))
+      boolean this_present_toPath = true && this.isSetToPath();
+      boolean that_present_toPath = true && that.isSetToPath();
+      if (this_present_toPath || that_present_toPath) {
+        if (!(this_present_toPath && that_present_toPath))
           return false;
-        if (!this.newPath.equals(that.newPath))
+        if (!this.toPath.equals(that.toPath))
           return false;
       }
 
@@ -7577,15 +10224,15 @@ public class KeyValueMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_oldPath = true && (isSetOldPath());
-      list.add(present_oldPath);
-      if (present_oldPath)
-        list.add(oldPath);
+      boolean present_fromPath = true && (isSetFromPath());
+      list.add(present_fromPath);
+      if (present_fromPath)
+        list.add(fromPath);
 
-      boolean present_newPath = true && (isSetNewPath());
-      list.add(present_newPath);
-      if (present_newPath)
-        list.add(newPath);
+      boolean present_toPath = true && (isSetToPath());
+      list.add(present_toPath);
+      if (present_toPath)
+        list.add(toPath);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -7596,29 +10243,29 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(renameStore_args other) {
+    public int compareTo(replaceStore_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetOldPath()).compareTo(other.isSetOldPath());
+      lastComparison = Boolean.valueOf(isSetFromPath()).compareTo(other.isSetFromPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetOldPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.oldPath, other.oldPath);
+      if (isSetFromPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fromPath, other.fromPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetNewPath()).compareTo(other.isSetNewPath());
+      lastComparison = Boolean.valueOf(isSetToPath()).compareTo(other.isSetToPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNewPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.newPath, other.newPath);
+      if (isSetToPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.toPath, other.toPath);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7650,22 +10297,22 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("renameStore_args(");
+      StringBuilder sb = new StringBuilder("replaceStore_args(");
       boolean first = true;
 
-      sb.append("oldPath:");
-      if (this.oldPath == null) {
+      sb.append("fromPath:");
+      if (this.fromPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.oldPath);
+        sb.append(this.fromPath);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("newPath:");
-      if (this.newPath == null) {
+      sb.append("toPath:");
+      if (this.toPath == null) {
         sb.append("null");
       } else {
-        sb.append(this.newPath);
+        sb.append(this.toPath);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -7704,15 +10351,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class renameStore_argsStandardSchemeFactory implements SchemeFactory {
-      public renameStore_argsStandardScheme getScheme() {
-        return new renameStore_argsStandardScheme();
+    private static class replaceStore_argsStandardSchemeFactory implements SchemeFactory {
+      public replaceStore_argsStandardScheme getScheme() {
+        return new replaceStore_argsStandardScheme();
       }
     }
 
-    private static class renameStore_argsStandardScheme extends StandardScheme<renameStore_args> {
+    private static class replaceStore_argsStandardScheme extends StandardScheme<replaceStore_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, replaceStore_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7722,25 +10369,25 @@ public class KeyValueMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // OLD_PATH
+            case 1: // FROM_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.oldPath = iprot.readString();
-                struct.setOldPathIsSet(true);
+                struct.fromPath = iprot.readString();
+                struct.setFromPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // NEW_PATH
+            case 2: // TO_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.newPath = iprot.readString();
-                struct.setNewPathIsSet(true);
+                struct.toPath = iprot.readString();
+                struct.setToPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 3: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new RenameStoreTOptions();
+                struct.options = new ReplaceStoreTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -7758,18 +10405,18 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, replaceStore_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.oldPath != null) {
-          oprot.writeFieldBegin(OLD_PATH_FIELD_DESC);
-          oprot.writeString(struct.oldPath);
+        if (struct.fromPath != null) {
+          oprot.writeFieldBegin(FROM_PATH_FIELD_DESC);
+          oprot.writeString(struct.fromPath);
           oprot.writeFieldEnd();
         }
-        if (struct.newPath != null) {
-          oprot.writeFieldBegin(NEW_PATH_FIELD_DESC);
-          oprot.writeString(struct.newPath);
+        if (struct.toPath != null) {
+          oprot.writeFieldBegin(TO_PATH_FIELD_DESC);
+          oprot.writeString(struct.toPath);
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -7783,33 +10430,33 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class renameStore_argsTupleSchemeFactory implements SchemeFactory {
-      public renameStore_argsTupleScheme getScheme() {
-        return new renameStore_argsTupleScheme();
+    private static class replaceStore_argsTupleSchemeFactory implements SchemeFactory {
+      public replaceStore_argsTupleScheme getScheme() {
+        return new replaceStore_argsTupleScheme();
       }
     }
 
-    private static class renameStore_argsTupleScheme extends TupleScheme<renameStore_args> {
+    private static class replaceStore_argsTupleScheme extends TupleScheme<replaceStore_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameStore_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, replaceStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetOldPath()) {
+        if (struct.isSetFromPath()) {
           optionals.set(0);
         }
-        if (struct.isSetNewPath()) {
+        if (struct.isSetToPath()) {
           optionals.set(1);
         }
         if (struct.isSetOptions()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
-        if (struct.isSetOldPath()) {
-          oprot.writeString(struct.oldPath);
+        if (struct.isSetFromPath()) {
+          oprot.writeString(struct.fromPath);
         }
-        if (struct.isSetNewPath()) {
-          oprot.writeString(struct.newPath);
+        if (struct.isSetToPath()) {
+          oprot.writeString(struct.toPath);
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -7817,19 +10464,19 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameStore_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, replaceStore_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.oldPath = iprot.readString();
-          struct.setOldPathIsSet(true);
+          struct.fromPath = iprot.readString();
+          struct.setFromPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.newPath = iprot.readString();
-          struct.setNewPathIsSet(true);
+          struct.toPath = iprot.readString();
+          struct.setToPathIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.options = new RenameStoreTOptions();
+          struct.options = new ReplaceStoreTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -7838,19 +10485,19 @@ public class KeyValueMasterClientService {
 
   }
 
-  public static class renameStore_result implements org.apache.thrift.TBase<renameStore_result, renameStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<renameStore_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("renameStore_result");
+  public static class replaceStore_result implements org.apache.thrift.TBase<replaceStore_result, replaceStore_result._Fields>, java.io.Serializable, Cloneable, Comparable<replaceStore_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("replaceStore_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new renameStore_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new renameStore_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new replaceStore_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new replaceStore_resultTupleSchemeFactory());
     }
 
-    private RenameStoreTResponse success; // required
+    private ReplaceStoreTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7919,18 +10566,18 @@ public class KeyValueMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RenameStoreTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ReplaceStoreTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(renameStore_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(replaceStore_result.class, metaDataMap);
     }
 
-    public renameStore_result() {
+    public replaceStore_result() {
     }
 
-    public renameStore_result(
-      RenameStoreTResponse success,
+    public replaceStore_result(
+      ReplaceStoreTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -7941,17 +10588,17 @@ public class KeyValueMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public renameStore_result(renameStore_result other) {
+    public replaceStore_result(replaceStore_result other) {
       if (other.isSetSuccess()) {
-        this.success = new RenameStoreTResponse(other.success);
+        this.success = new ReplaceStoreTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public renameStore_result deepCopy() {
-      return new renameStore_result(this);
+    public replaceStore_result deepCopy() {
+      return new replaceStore_result(this);
     }
 
     @Override
@@ -7960,11 +10607,11 @@ public class KeyValueMasterClientService {
       this.e = null;
     }
 
-    public RenameStoreTResponse getSuccess() {
+    public ReplaceStoreTResponse getSuccess() {
       return this.success;
     }
 
-    public renameStore_result setSuccess(RenameStoreTResponse success) {
+    public replaceStore_result setSuccess(ReplaceStoreTResponse success) {
       this.success = success;
       return this;
     }
@@ -7988,7 +10635,7 @@ public class KeyValueMasterClientService {
       return this.e;
     }
 
-    public renameStore_result setE(alluxio.thrift.AlluxioTException e) {
+    public replaceStore_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -8014,7 +10661,7 @@ public class KeyValueMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((RenameStoreTResponse)value);
+          setSuccess((ReplaceStoreTResponse)value);
         }
         break;
 
@@ -8060,12 +10707,12 @@ public class KeyValueMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof renameStore_result)
-        return this.equals((renameStore_result)that);
+      if (that instanceof replaceStore_result)
+        return this.equals((replaceStore_result)that);
       return false;
     }
 
-    public boolean equals(renameStore_result that) {
+    public boolean equals(replaceStore_result that) {
       if (that == null)
         return false;
 
@@ -8108,7 +10755,7 @@ public class KeyValueMasterClientService {
     }
 
     @Override
-    public int compareTo(renameStore_result other) {
+    public int compareTo(replaceStore_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8152,7 +10799,7 @@ public class KeyValueMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("renameStore_result(");
+      StringBuilder sb = new StringBuilder("replaceStore_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8198,15 +10845,15 @@ public class KeyValueMasterClientService {
       }
     }
 
-    private static class renameStore_resultStandardSchemeFactory implements SchemeFactory {
-      public renameStore_resultStandardScheme getScheme() {
-        return new renameStore_resultStandardScheme();
+    private static class replaceStore_resultStandardSchemeFactory implements SchemeFactory {
+      public replaceStore_resultStandardScheme getScheme() {
+        return new replaceStore_resultStandardScheme();
       }
     }
 
-    private static class renameStore_resultStandardScheme extends StandardScheme<renameStore_result> {
+    private static class replaceStore_resultStandardScheme extends StandardScheme<replaceStore_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, renameStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, replaceStore_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8218,7 +10865,7 @@ public class KeyValueMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RenameStoreTResponse();
+                struct.success = new ReplaceStoreTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -8245,7 +10892,7 @@ public class KeyValueMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, renameStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, replaceStore_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8265,16 +10912,16 @@ public class KeyValueMasterClientService {
 
     }
 
-    private static class renameStore_resultTupleSchemeFactory implements SchemeFactory {
-      public renameStore_resultTupleScheme getScheme() {
-        return new renameStore_resultTupleScheme();
+    private static class replaceStore_resultTupleSchemeFactory implements SchemeFactory {
+      public replaceStore_resultTupleScheme getScheme() {
+        return new replaceStore_resultTupleScheme();
       }
     }
 
-    private static class renameStore_resultTupleScheme extends TupleScheme<renameStore_result> {
+    private static class replaceStore_resultTupleScheme extends TupleScheme<replaceStore_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, renameStore_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, replaceStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8293,11 +10940,11 @@ public class KeyValueMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, renameStore_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, replaceStore_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new RenameStoreTResponse();
+          struct.success = new ReplaceStoreTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -65,6 +65,41 @@ public class KeyValueWorkerClientService {
      */
     public GetNextKeysTResponse getNextKeys(long blockId, ByteBuffer key, int numKeys, GetNextKeysTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Gets a batch of the key-value pairs in a range of keys in the partition, in key order.
+     * Fewer pairs than requested are returned only if there are no more pairs in the range.
+     * 
+     * @param blockId the id of the partition
+     * 
+     * @param startKey the first key of the range, or empty to start from the first key
+     * 
+     * @param endKey the key after the range, or empty to end at the last key
+     * 
+     * @param numPairs maximum number of key-value pairs to get
+     * 
+     * @param options the method options
+     */
+    public ScanTResponse scan(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
+    /**
+     * Merges the key-value pairs in a range of keys of the given partitions, which may overlap,
+     * into new non-overlapping partitions of an incomplete store. When a key is in several of the
+     * partitions, the value in the first of them is kept.
+     * 
+     * @param partitions the partitions to merge
+     * 
+     * @param startKey the first key of the range, or empty to start from the first key
+     * 
+     * @param endKey the key after the range, or empty to end at the last key
+     * 
+     * @param storePath the path of the store to write the partitions to
+     * 
+     * @param partitionPrefix the prefix of the names of the new partitions
+     * 
+     * @param options the method options
+     */
+    public CompactTResponse compact(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Gets the number of key-value pairs in the partition.
      * 
@@ -82,6 +117,10 @@ public class KeyValueWorkerClientService {
 
     public void getNextKeys(long blockId, ByteBuffer key, int numKeys, GetNextKeysTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void scan(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void compact(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getSize(long blockId, GetSizeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -163,6 +202,67 @@ public class KeyValueWorkerClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getNextKeys failed: unknown result");
     }
 
+    public ScanTResponse scan(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_scan(blockId, startKey, endKey, numPairs, options);
+      return recv_scan();
+    }
+
+    public void send_scan(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options) throws org.apache.thrift.TException
+    {
+      scan_args args = new scan_args();
+      args.setBlockId(blockId);
+      args.setStartKey(startKey);
+      args.setEndKey(endKey);
+      args.setNumPairs(numPairs);
+      args.setOptions(options);
+      sendBase("scan", args);
+    }
+
+    public ScanTResponse recv_scan() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      scan_result result = new scan_result();
+      receiveBase(result, "scan");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "scan failed: unknown result");
+    }
+
+    public CompactTResponse compact(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_compact(partitions, startKey, endKey, storePath, partitionPrefix, options);
+      return recv_compact();
+    }
+
+    public void send_compact(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options) throws org.apache.thrift.TException
+    {
+      compact_args args = new compact_args();
+      args.setPartitions(partitions);
+      args.setStartKey(startKey);
+      args.setEndKey(endKey);
+      args.setStorePath(storePath);
+      args.setPartitionPrefix(partitionPrefix);
+      args.setOptions(options);
+      sendBase("compact", args);
+    }
+
+    public CompactTResponse recv_compact() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      compact_result result = new compact_result();
+      receiveBase(result, "compact");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "compact failed: unknown result");
+    }
+
     public GetSizeTResponse getSize(long blockId, GetSizeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getSize(blockId, options);
@@ -287,6 +387,97 @@ public class KeyValueWorkerClientService {
       }
     }
 
+    public void scan(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      scan_call method_call = new scan_call(blockId, startKey, endKey, numPairs, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class scan_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long blockId;
+      private ByteBuffer startKey;
+      private ByteBuffer endKey;
+      private int numPairs;
+      private ScanTOptions options;
+      public scan_call(long blockId, ByteBuffer startKey, ByteBuffer endKey, int numPairs, ScanTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockId = blockId;
+        this.startKey = startKey;
+        this.endKey = endKey;
+        this.numPairs = numPairs;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("scan", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        scan_args args = new scan_args();
+        args.setBlockId(blockId);
+        args.setStartKey(startKey);
+        args.setEndKey(endKey);
+        args.setNumPairs(numPairs);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ScanTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_scan();
+      }
+    }
+
+    public void compact(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      compact_call method_call = new compact_call(partitions, startKey, endKey, storePath, partitionPrefix, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class compact_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<alluxio.thrift.PartitionInfo> partitions;
+      private ByteBuffer startKey;
+      private ByteBuffer endKey;
+      private String storePath;
+      private String partitionPrefix;
+      private CompactTOptions options;
+      public compact_call(List<alluxio.thrift.PartitionInfo> partitions, ByteBuffer startKey, ByteBuffer endKey, String storePath, String partitionPrefix, CompactTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.partitions = partitions;
+        this.startKey = startKey;
+        this.endKey = endKey;
+        this.storePath = storePath;
+        this.partitionPrefix = partitionPrefix;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("compact", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        compact_args args = new compact_args();
+        args.setPartitions(partitions);
+        args.setStartKey(startKey);
+        args.setEndKey(endKey);
+        args.setStorePath(storePath);
+        args.setPartitionPrefix(partitionPrefix);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public CompactTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_compact();
+      }
+    }
+
     public void getSize(long blockId, GetSizeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getSize_call method_call = new getSize_call(blockId, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -337,6 +528,8 @@ public class KeyValueWorkerClientService {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("get", new get());
       processMap.put("getNextKeys", new getNextKeys());
+      processMap.put("scan", new scan());
+      processMap.put("compact", new compact());
       processMap.put("getSize", new getSize());
       return processMap;
     }
@@ -389,6 +582,54 @@ public class KeyValueWorkerClientService {
       }
     }
 
+    public static class scan<I extends Iface> extends org.apache.thrift.ProcessFunction<I, scan_args> {
+      public scan() {
+        super("scan");
+      }
+
+      public scan_args getEmptyArgsInstance() {
+        return new scan_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public scan_result getResult(I iface, scan_args args) throws org.apache.thrift.TException {
+        scan_result result = new scan_result();
+        try {
+          result.success = iface.scan(args.blockId, args.startKey, args.endKey, args.numPairs, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class compact<I extends Iface> extends org.apache.thrift.ProcessFunction<I, compact_args> {
+      public compact() {
+        super("compact");
+      }
+
+      public compact_args getEmptyArgsInstance() {
+        return new compact_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public compact_result getResult(I iface, compact_args args) throws org.apache.thrift.TException {
+        compact_result result = new compact_result();
+        try {
+          result.success = iface.compact(args.partitions, args.startKey, args.endKey, args.storePath, args.partitionPrefix, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getSize<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getSize_args> {
       public getSize() {
         super("getSize");
@@ -428,6 +669,8 @@ public class KeyValueWorkerClientService {
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("get", new get());
       processMap.put("getNextKeys", new getNextKeys());
+      processMap.put("scan", new scan());
+      processMap.put("compact", new compact());
       processMap.put("getSize", new getSize());
       return processMap;
     }
@@ -546,6 +789,120 @@ public class KeyValueWorkerClientService {
       }
     }
 
+    public static class scan<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, scan_args, ScanTResponse> {
+      public scan() {
+        super("scan");
+      }
+
+      public scan_args getEmptyArgsInstance() {
+        return new scan_args();
+      }
+
+      public AsyncMethodCallback<ScanTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ScanTResponse>() { 
+          public void onComplete(ScanTResponse o) {
+            scan_result result = new scan_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            scan_result result = new scan_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, scan_args args, org.apache.thrift.async.AsyncMethodCallback<ScanTResponse> resultHandler) throws TException {
+        iface.scan(args.blockId, args.startKey, args.endKey, args.numPairs, args.options,resultHandler);
+      }
+    }
+
+    public static class compact<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, compact_args, CompactTResponse> {
+      public compact() {
+        super("compact");
+      }
+
+      public compact_args getEmptyArgsInstance() {
+        return new compact_args();
+      }
+
+      public AsyncMethodCallback<CompactTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<CompactTResponse>() { 
+          public void onComplete(CompactTResponse o) {
+            compact_result result = new compact_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            compact_result result = new compact_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, compact_args args, org.apache.thrift.async.AsyncMethodCallback<CompactTResponse> resultHandler) throws TException {
+        iface.compact(args.partitions, args.startKey, args.endKey, args.storePath, args.partitionPrefix, args.options,resultHandler);
+      }
+    }
+
     public static class getSize<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getSize_args, GetSizeTResponse> {
       public getSize() {
         super("getSize");
@@ -2881,6 +3238,2814 @@ public class KeyValueWorkerClientService {
 
   }
 
+  public static class scan_args implements org.apache.thrift.TBase<scan_args, scan_args._Fields>, java.io.Serializable, Cloneable, Comparable<scan_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scan_args");
+
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField START_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("startKey", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField END_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("endKey", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField NUM_PAIRS_FIELD_DESC = new org.apache.thrift.protocol.TField("numPairs", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new scan_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scan_argsTupleSchemeFactory());
+    }
+
+    private long blockId; // required
+    private ByteBuffer startKey; // required
+    private ByteBuffer endKey; // required
+    private int numPairs; // required
+    private ScanTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the partition
+       */
+      BLOCK_ID((short)1, "blockId"),
+      /**
+       * the first key of the range, or empty to start from the first key
+       */
+      START_KEY((short)2, "startKey"),
+      /**
+       * the key after the range, or empty to end at the last key
+       */
+      END_KEY((short)3, "endKey"),
+      /**
+       * maximum number of key-value pairs to get
+       */
+      NUM_PAIRS((short)4, "numPairs"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)5, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BLOCK_ID
+            return BLOCK_ID;
+          case 2: // START_KEY
+            return START_KEY;
+          case 3: // END_KEY
+            return END_KEY;
+          case 4: // NUM_PAIRS
+            return NUM_PAIRS;
+          case 5: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __NUMPAIRS_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.START_KEY, new org.apache.thrift.meta_data.FieldMetaData("startKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.END_KEY, new org.apache.thrift.meta_data.FieldMetaData("endKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.NUM_PAIRS, new org.apache.thrift.meta_data.FieldMetaData("numPairs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScanTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scan_args.class, metaDataMap);
+    }
+
+    public scan_args() {
+    }
+
+    public scan_args(
+      long blockId,
+      ByteBuffer startKey,
+      ByteBuffer endKey,
+      int numPairs,
+      ScanTOptions options)
+    {
+      this();
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      this.startKey = org.apache.thrift.TBaseHelper.copyBinary(startKey);
+      this.endKey = org.apache.thrift.TBaseHelper.copyBinary(endKey);
+      this.numPairs = numPairs;
+      setNumPairsIsSet(true);
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public scan_args(scan_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.blockId = other.blockId;
+      if (other.isSetStartKey()) {
+        this.startKey = org.apache.thrift.TBaseHelper.copyBinary(other.startKey);
+      }
+      if (other.isSetEndKey()) {
+        this.endKey = org.apache.thrift.TBaseHelper.copyBinary(other.endKey);
+      }
+      this.numPairs = other.numPairs;
+      if (other.isSetOptions()) {
+        this.options = new ScanTOptions(other.options);
+      }
+    }
+
+    public scan_args deepCopy() {
+      return new scan_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+      this.startKey = null;
+      this.endKey = null;
+      setNumPairsIsSet(false);
+      this.numPairs = 0;
+      this.options = null;
+    }
+
+    /**
+     * the id of the partition
+     */
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    /**
+     * the id of the partition
+     */
+    public scan_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    /**
+     * the first key of the range, or empty to start from the first key
+     */
+    public byte[] getStartKey() {
+      setStartKey(org.apache.thrift.TBaseHelper.rightSize(startKey));
+      return startKey == null ? null : startKey.array();
+    }
+
+    public ByteBuffer bufferForStartKey() {
+      return org.apache.thrift.TBaseHelper.copyBinary(startKey);
+    }
+
+    /**
+     * the first key of the range, or empty to start from the first key
+     */
+    public scan_args setStartKey(byte[] startKey) {
+      this.startKey = startKey == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(startKey, startKey.length));
+      return this;
+    }
+
+    public scan_args setStartKey(ByteBuffer startKey) {
+      this.startKey = org.apache.thrift.TBaseHelper.copyBinary(startKey);
+      return this;
+    }
+
+    public void unsetStartKey() {
+      this.startKey = null;
+    }
+
+    /** Returns true if field startKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetStartKey() {
+      return this.startKey != null;
+    }
+
+    public void setStartKeyIsSet(boolean value) {
+      if (!value) {
+        this.startKey = null;
+      }
+    }
+
+    /**
+     * the key after the range, or empty to end at the last key
+     */
+    public byte[] getEndKey() {
+      setEndKey(org.apache.thrift.TBaseHelper.rightSize(endKey));
+      return endKey == null ? null : endKey.array();
+    }
+
+    public ByteBuffer bufferForEndKey() {
+      return org.apache.thrift.TBaseHelper.copyBinary(endKey);
+    }
+
+    /**
+     * the key after the range, or empty to end at the last key
+     */
+    public scan_args setEndKey(byte[] endKey) {
+      this.endKey = endKey == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(endKey, endKey.length));
+      return this;
+    }
+
+    public scan_args setEndKey(ByteBuffer endKey) {
+      this.endKey = org.apache.thrift.TBaseHelper.copyBinary(endKey);
+      return this;
+    }
+
+    public void unsetEndKey() {
+      this.endKey = null;
+    }
+
+    /** Returns true if field endKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetEndKey() {
+      return this.endKey != null;
+    }
+
+    public void setEndKeyIsSet(boolean value) {
+      if (!value) {
+        this.endKey = null;
+      }
+    }
+
+    /**
+     * maximum number of key-value pairs to get
+     */
+    public int getNumPairs() {
+      return this.numPairs;
+    }
+
+    /**
+     * maximum number of key-value pairs to get
+     */
+    public scan_args setNumPairs(int numPairs) {
+      this.numPairs = numPairs;
+      setNumPairsIsSet(true);
+      return this;
+    }
+
+    public void unsetNumPairs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NUMPAIRS_ISSET_ID);
+    }
+
+    /** Returns true if field numPairs is set (has been assigned a value) and false otherwise */
+    public boolean isSetNumPairs() {
+      return EncodingUtils.testBit(__isset_bitfield, __NUMPAIRS_ISSET_ID);
+    }
+
+    public void setNumPairsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NUMPAIRS_ISSET_ID, value);
+    }
+
+    /**
+     * the method options
+     */
+    public ScanTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public scan_args setOptions(ScanTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      case START_KEY:
+        if (value == null) {
+          unsetStartKey();
+        } else {
+          setStartKey((ByteBuffer)value);
+        }
+        break;
+
+      case END_KEY:
+        if (value == null) {
+          unsetEndKey();
+        } else {
+          setEndKey((ByteBuffer)value);
+        }
+        break;
+
+      case NUM_PAIRS:
+        if (value == null) {
+          unsetNumPairs();
+        } else {
+          setNumPairs((Integer)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((ScanTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BLOCK_ID:
+        return getBlockId();
+
+      case START_KEY:
+        return getStartKey();
+
+      case END_KEY:
+        return getEndKey();
+
+      case NUM_PAIRS:
+        return getNumPairs();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BLOCK_ID:
+        return isSetBlockId();
+      case START_KEY:
+        return isSetStartKey();
+      case END_KEY:
+        return isSetEndKey();
+      case NUM_PAIRS:
+        return isSetNumPairs();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof scan_args)
+        return this.equals((scan_args)that);
+      return false;
+    }
+
+    public boolean equals(scan_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      boolean this_present_startKey = true && this.isSetStartKey();
+      boolean that_present_startKey = true && that.isSetStartKey();
+      if (this_present_startKey || that_present_startKey) {
+        if (!(this_present_startKey && that_present_startKey))
+          return false;
+        if (!this.startKey.equals(that.startKey))
+          return false;
+      }
+
+      boolean this_present_endKey = true && this.isSetEndKey();
+      boolean that_present_endKey = true && that.isSetEndKey();
+      if (this_present_endKey || that_present_endKey) {
+        if (!(this_present_endKey && that_present_endKey))
+          return false;
+        if (!this.endKey.equals(that.endKey))
+          return false;
+      }
+
+      boolean this_present_numPairs = true;
+      boolean that_present_numPairs = true;
+      if (this_present_numPairs || that_present_numPairs) {
+        if (!(this_present_numPairs && that_present_numPairs))
+          return false;
+        if (this.numPairs != that.numPairs)
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_blockId = true;
+      list.add(present_blockId);
+      if (present_blockId)
+        list.add(blockId);
+
+      boolean present_startKey = true && (isSetStartKey());
+      list.add(present_startKey);
+      if (present_startKey)
+        list.add(startKey);
+
+      boolean present_endKey = true && (isSetEndKey());
+      list.add(present_endKey);
+      if (present_endKey)
+        list.add(endKey);
+
+      boolean present_numPairs = true;
+      list.add(present_numPairs);
+      if (present_numPairs)
+        list.add(numPairs);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(scan_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetStartKey()).compareTo(other.isSetStartKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStartKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startKey, other.startKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEndKey()).compareTo(other.isSetEndKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEndKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.endKey, other.endKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetNumPairs()).compareTo(other.isSetNumPairs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNumPairs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.numPairs, other.numPairs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("scan_args(");
+      boolean first = true;
+
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("startKey:");
+      if (this.startKey == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.startKey, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("endKey:");
+      if (this.endKey == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.endKey, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("numPairs:");
+      sb.append(this.numPairs);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class scan_argsStandardSchemeFactory implements SchemeFactory {
+      public scan_argsStandardScheme getScheme() {
+        return new scan_argsStandardScheme();
+      }
+    }
+
+    private static class scan_argsStandardScheme extends StandardScheme<scan_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scan_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // START_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.startKey = iprot.readBinary();
+                struct.setStartKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // END_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.endKey = iprot.readBinary();
+                struct.setEndKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // NUM_PAIRS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.numPairs = iprot.readI32();
+                struct.setNumPairsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new ScanTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scan_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        if (struct.startKey != null) {
+          oprot.writeFieldBegin(START_KEY_FIELD_DESC);
+          oprot.writeBinary(struct.startKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.endKey != null) {
+          oprot.writeFieldBegin(END_KEY_FIELD_DESC);
+          oprot.writeBinary(struct.endKey);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(NUM_PAIRS_FIELD_DESC);
+        oprot.writeI32(struct.numPairs);
+        oprot.writeFieldEnd();
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class scan_argsTupleSchemeFactory implements SchemeFactory {
+      public scan_argsTupleScheme getScheme() {
+        return new scan_argsTupleScheme();
+      }
+    }
+
+    private static class scan_argsTupleScheme extends TupleScheme<scan_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, scan_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBlockId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetStartKey()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEndKey()) {
+          optionals.set(2);
+        }
+        if (struct.isSetNumPairs()) {
+          optionals.set(3);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+        if (struct.isSetStartKey()) {
+          oprot.writeBinary(struct.startKey);
+        }
+        if (struct.isSetEndKey()) {
+          oprot.writeBinary(struct.endKey);
+        }
+        if (struct.isSetNumPairs()) {
+          oprot.writeI32(struct.numPairs);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, scan_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.startKey = iprot.readBinary();
+          struct.setStartKeyIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.endKey = iprot.readBinary();
+          struct.setEndKeyIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.numPairs = iprot.readI32();
+          struct.setNumPairsIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.options = new ScanTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class scan_result implements org.apache.thrift.TBase<scan_result, scan_result._Fields>, java.io.Serializable, Cloneable, Comparable<scan_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("scan_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new scan_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new scan_resultTupleSchemeFactory());
+    }
+
+    private ScanTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ScanTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(scan_result.class, metaDataMap);
+    }
+
+    public scan_result() {
+    }
+
+    public scan_result(
+      ScanTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public scan_result(scan_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ScanTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public scan_result deepCopy() {
+      return new scan_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public ScanTResponse getSuccess() {
+      return this.success;
+    }
+
+    public scan_result setSuccess(ScanTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public scan_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ScanTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof scan_result)
+        return this.equals((scan_result)that);
+      return false;
+    }
+
+    public boolean equals(scan_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(scan_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("scan_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class scan_resultStandardSchemeFactory implements SchemeFactory {
+      public scan_resultStandardScheme getScheme() {
+        return new scan_resultStandardScheme();
+      }
+    }
+
+    private static class scan_resultStandardScheme extends StandardScheme<scan_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, scan_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ScanTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, scan_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class scan_resultTupleSchemeFactory implements SchemeFactory {
+      public scan_resultTupleScheme getScheme() {
+        return new scan_resultTupleScheme();
+      }
+    }
+
+    private static class scan_resultTupleScheme extends TupleScheme<scan_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, scan_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, scan_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new ScanTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class compact_args implements org.apache.thrift.TBase<compact_args, compact_args._Fields>, java.io.Serializable, Cloneable, Comparable<compact_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("compact_args");
+
+    private static final org.apache.thrift.protocol.TField PARTITIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("partitions", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField START_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("startKey", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField END_KEY_FIELD_DESC = new org.apache.thrift.protocol.TField("endKey", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField STORE_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("storePath", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField PARTITION_PREFIX_FIELD_DESC = new org.apache.thrift.protocol.TField("partitionPrefix", org.apache.thrift.protocol.TType.STRING, (short)5);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)6);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new compact_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new compact_argsTupleSchemeFactory());
+    }
+
+    private List<alluxio.thrift.PartitionInfo> partitions; // required
+    private ByteBuffer startKey; // required
+    private ByteBuffer endKey; // required
+    private String storePath; // required
+    private String partitionPrefix; // required
+    private CompactTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the partitions to merge
+       */
+      PARTITIONS((short)1, "partitions"),
+      /**
+       * the first key of the range, or empty to start from the first key
+       */
+      START_KEY((short)2, "startKey"),
+      /**
+       * the key after the range, or empty to end at the last key
+       */
+      END_KEY((short)3, "endKey"),
+      /**
+       * the path of the store to write the partitions to
+       */
+      STORE_PATH((short)4, "storePath"),
+      /**
+       * the prefix of the names of the new partitions
+       */
+      PARTITION_PREFIX((short)5, "partitionPrefix"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)6, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PARTITIONS
+            return PARTITIONS;
+          case 2: // START_KEY
+            return START_KEY;
+          case 3: // END_KEY
+            return END_KEY;
+          case 4: // STORE_PATH
+            return STORE_PATH;
+          case 5: // PARTITION_PREFIX
+            return PARTITION_PREFIX;
+          case 6: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PARTITIONS, new org.apache.thrift.meta_data.FieldMetaData("partitions", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, alluxio.thrift.PartitionInfo.class))));
+      tmpMap.put(_Fields.START_KEY, new org.apache.thrift.meta_data.FieldMetaData("startKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.END_KEY, new org.apache.thrift.meta_data.FieldMetaData("endKey", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      tmpMap.put(_Fields.STORE_PATH, new org.apache.thrift.meta_data.FieldMetaData("storePath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARTITION_PREFIX, new org.apache.thrift.meta_data.FieldMetaData("partitionPrefix", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompactTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(compact_args.class, metaDataMap);
+    }
+
+    public compact_args() {
+    }
+
+    public compact_args(
+      List<alluxio.thrift.PartitionInfo> partitions,
+      ByteBuffer startKey,
+      ByteBuffer endKey,
+      String storePath,
+      String partitionPrefix,
+      CompactTOptions options)
+    {
+      this();
+      this.partitions = partitions;
+      this.startKey = org.apache.thrift.TBaseHelper.copyBinary(startKey);
+      this.endKey = org.apache.thrift.TBaseHelper.copyBinary(endKey);
+      this.storePath = storePath;
+      this.partitionPrefix = partitionPrefix;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public compact_args(compact_args other) {
+      if (other.isSetPartitions()) {
+        List<alluxio.thrift.PartitionInfo> __this__partitions = new ArrayList<alluxio.thrift.PartitionInfo>(other.partitions.size());
+        for (alluxio.thrift.PartitionInfo other_element : other.partitions) {
+          __this__partitions.add(new alluxio.thrift.PartitionInfo(other_element));
+        }
+        this.partitions = __this__partitions;
+      }
+      if (other.isSetStartKey()) {
+        this.startKey = org.apache.thrift.TBaseHelper.copyBinary(other.startKey);
+      }
+      if (other.isSetEndKey()) {
+        this.endKey = org.apache.thrift.TBaseHelper.copyBinary(other.endKey);
+      }
+      if (other.isSetStorePath()) {
+        this.storePath = other.storePath;
+      }
+      if (other.isSetPartitionPrefix()) {
+        this.partitionPrefix = other.partitionPrefix;
+      }
+      if (other.isSetOptions()) {
+        this.options = new CompactTOptions(other.options);
+      }
+    }
+
+    public compact_args deepCopy() {
+      return new compact_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.partitions = null;
+      this.startKey = null;
+      this.endKey = null;
+      this.storePath = null;
+      this.partitionPrefix = null;
+      this.options = null;
+    }
+
+    public int getPartitionsSize() {
+      return (this.partitions == null) ? 0 : this.partitions.size();
+    }
+
+    public java.util.Iterator<alluxio.thrift.PartitionInfo> getPartitionsIterator() {
+      return (this.partitions == null) ? null : this.partitions.iterator();
+    }
+
+    public void addToPartitions(alluxio.thrift.PartitionInfo elem) {
+      if (this.partitions == null) {
+        this.partitions = new ArrayList<alluxio.thrift.PartitionInfo>();
+      }
+      this.partitions.add(elem);
+    }
+
+    /**
+     * the partitions to merge
+     */
+    public List<alluxio.thrift.PartitionInfo> getPartitions() {
+      return this.partitions;
+    }
+
+    /**
+     * the partitions to merge
+     */
+    public compact_args setPartitions(List<alluxio.thrift.PartitionInfo> partitions) {
+      this.partitions = partitions;
+      return this;
+    }
+
+    public void unsetPartitions() {
+      this.partitions = null;
+    }
+
+    /** Returns true if field partitions is set (has been assigned a value) and false otherwise */
+    public boolean isSetPartitions() {
+      return this.partitions != null;
+    }
+
+    public void setPartitionsIsSet(boolean value) {
+      if (!value) {
+        this.partitions = null;
+      }
+    }
+
+    /**
+     * the first key of the range, or empty to start from the first key
+     */
+    public byte[] getStartKey() {
+      setStartKey(org.apache.thrift.TBaseHelper.rightSize(startKey));
+      return startKey == null ? null : startKey.array();
+    }
+
+    public ByteBuffer bufferForStartKey() {
+      return org.apache.thrift.TBaseHelper.copyBinary(startKey);
+    }
+
+    /**
+     * the first key of the range, or empty to start from the first key
+     */
+    public compact_args setStartKey(byte[] startKey) {
+      this.startKey = startKey == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(startKey, startKey.length));
+      return this;
+    }
+
+    public compact_args setStartKey(ByteBuffer startKey) {
+      this.startKey = org.apache.thrift.TBaseHelper.copyBinary(startKey);
+      return this;
+    }
+
+    public void unsetStartKey() {
+      this.startKey = null;
+    }
+
+    /** Returns true if field startKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetStartKey() {
+      return this.startKey != null;
+    }
+
+    public void setStartKeyIsSet(boolean value) {
+      if (!value) {
+        this.startKey = null;
+      }
+    }
+
+    /**
+     * the key after the range, or empty to end at the last key
+     */
+    public byte[] getEndKey() {
+      setEndKey(org.apache.thrift.TBaseHelper.rightSize(endKey));
+      return endKey == null ? null : endKey.array();
+    }
+
+    public ByteBuffer bufferForEndKey() {
+      return org.apache.thrift.TBaseHelper.copyBinary(endKey);
+    }
+
+    /**
+     * the key after the range, or empty to end at the last key
+     */
+    public compact_args setEndKey(byte[] endKey) {
+      this.endKey = endKey == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(endKey, endKey.length));
+      return this;
+    }
+
+    public compact_args setEndKey(ByteBuffer endKey) {
+      this.endKey = org.apache.thrift.TBaseHelper.copyBinary(endKey);
+      return this;
+    }
+
+    public void unsetEndKey() {
+      this.endKey = null;
+    }
+
+    /** Returns true if field endKey is set (has been assigned a value) and false otherwise */
+    public boolean isSetEndKey() {
+      return this.endKey != null;
+    }
+
+    public void setEndKeyIsSet(boolean value) {
+      if (!value) {
+        this.endKey = null;
+      }
+    }
+
+    /**
+     * the path of the store to write the partitions to
+     */
+    public String getStorePath() {
+      return this.storePath;
+    }
+
+    /**
+     * the path of the store to write the partitions to
+     */
+    public compact_args setStorePath(String storePath) {
+      this.storePath = storePath;
+      return this;
+    }
+
+    public void unsetStorePath() {
+      this.storePath = null;
+    }
+
+    /** Returns true if field storePath is set (has been assigned a value) and false otherwise */
+    public boolean isSetStorePath() {
+      return this.storePath != null;
+    }
+
+    public void setStorePathIsSet(boolean value) {
+      if (!value) {
+        this.storePath = null;
+      }
+    }
+
+    /**
+     * the prefix of the names of the new partitions
+     */
+    public String getPartitionPrefix() {
+      return this.partitionPrefix;
+    }
+
+    /**
+     * the prefix of the names of the new partitions
+     */
+    public compact_args setPartitionPrefix(String partitionPrefix) {
+      this.partitionPrefix = partitionPrefix;
+      return this;
+    }
+
+    public void unsetPartitionPrefix() {
+      this.partitionPrefix = null;
+    }
+
+    /** Returns true if field partitionPrefix is set (has been assigned a value) and false otherwise */
+    public boolean isSetPartitionPrefix() {
+      return this.partitionPrefix != null;
+    }
+
+    public void setPartitionPrefixIsSet(boolean value) {
+      if (!value) {
+        this.partitionPrefix = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public CompactTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public compact_args setOptions(CompactTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PARTITIONS:
+        if (value == null) {
+          unsetPartitions();
+        } else {
+          setPartitions((List<alluxio.thrift.PartitionInfo>)value);
+        }
+        break;
+
+      case START_KEY:
+        if (value == null) {
+          unsetStartKey();
+        } else {
+          setStartKey((ByteBuffer)value);
+        }
+        break;
+
+      case END_KEY:
+        if (value == null) {
+          unsetEndKey();
+        } else {
+          setEndKey((ByteBuffer)value);
+        }
+        break;
+
+      case STORE_PATH:
+        if (value == null) {
+          unsetStorePath();
+        } else {
+          setStorePath((String)value);
+        }
+        break;
+
+      case PARTITION_PREFIX:
+        if (value == null) {
+          unsetPartitionPrefix();
+        } else {
+          setPartitionPrefix((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((CompactTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PARTITIONS:
+        return getPartitions();
+
+      case START_KEY:
+        return getStartKey();
+
+      case END_KEY:
+        return getEndKey();
+
+      case STORE_PATH:
+        return getStorePath();
+
+      case PARTITION_PREFIX:
+        return getPartitionPrefix();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PARTITIONS:
+        return isSetPartitions();
+      case START_KEY:
+        return isSetStartKey();
+      case END_KEY:
+        return isSetEndKey();
+      case STORE_PATH:
+        return isSetStorePath();
+      case PARTITION_PREFIX:
+        return isSetPartitionPrefix();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof compact_args)
+        return this.equals((compact_args)that);
+      return false;
+    }
+
+    public boolean equals(compact_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_partitions = true && this.isSetPartitions();
+      boolean that_present_partitions = true && that.isSetPartitions();
+      if (this_present_partitions || that_present_partitions) {
+        if (!(this_present_partitions && that_present_partitions))
+          return false;
+        if (!this.partitions.equals(that.partitions))
+          return false;
+      }
+
+      boolean this_present_startKey = true && this.isSetStartKey();
+      boolean that_present_startKey = true && that.isSetStartKey();
+      if (this_present_startKey || that_present_startKey) {
+        if (!(this_present_startKey && that_present_startKey))
+          return false;
+        if (!this.startKey.equals(that.startKey))
+          return false;
+      }
+
+      boolean this_present_endKey = true && this.isSetEndKey();
+      boolean that_present_endKey = true && that.isSetEndKey();
+      if (this_present_endKey || that_present_endKey) {
+        if (!(this_present_endKey && that_present_endKey))
+          return false;
+        if (!this.endKey.equals(that.endKey))
+          return false;
+      }
+
+      boolean this_present_storePath = true && this.isSetStorePath();
+      boolean that_present_storePath = true && that.isSetStorePath();
+      if (this_present_storePath || that_present_storePath) {
+        if (!(this_present_storePath && that_present_storePath))
+          return false;
+        if (!this.storePath.equals(that.storePath))
+          return false;
+      }
+
+      boolean this_present_partitionPrefix = true && this.isSetPartitionPrefix();
+      boolean that_present_partitionPrefix = true && that.isSetPartitionPrefix();
+      if (this_present_partitionPrefix || that_present_partitionPrefix) {
+        if (!(this_present_partitionPrefix && that_present_partitionPrefix))
+          return false;
+        if (!this.partitionPrefix.equals(that.partitionPrefix))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_partitions = true && (isSetPartitions());
+      list.add(present_partitions);
+      if (present_partitions)
+        list.add(partitions);
+
+      boolean present_startKey = true && (isSetStartKey());
+      list.add(present_startKey);
+      if (present_startKey)
+        list.add(startKey);
+
+      boolean present_endKey = true && (isSetEndKey());
+      list.add(present_endKey);
+      if (present_endKey)
+        list.add(endKey);
+
+      boolean present_storePath = true && (isSetStorePath());
+      list.add(present_storePath);
+      if (present_storePath)
+        list.add(storePath);
+
+      boolean present_partitionPrefix = true && (isSetPartitionPrefix());
+      list.add(present_partitionPrefix);
+      if (present_partitionPrefix)
+        list.add(partitionPrefix);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(compact_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPartitions()).compareTo(other.isSetPartitions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPartitions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partitions, other.partitions);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetStartKey()).compareTo(other.isSetStartKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStartKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startKey, other.startKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEndKey()).compareTo(other.isSetEndKey());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEndKey()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.endKey, other.endKey);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetStorePath()).compareTo(other.isSetStorePath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStorePath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.storePath, other.storePath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPartitionPrefix()).compareTo(other.isSetPartitionPrefix());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPartitionPrefix()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.partitionPrefix, other.partitionPrefix);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("compact_args(");
+      boolean first = true;
+
+      sb.append("partitions:");
+      if (this.partitions == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.partitions);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("startKey:");
+      if (this.startKey == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.startKey, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("endKey:");
+      if (this.endKey == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.endKey, sb);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("storePath:");
+      if (this.storePath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.storePath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("partitionPrefix:");
+      if (this.partitionPrefix == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.partitionPrefix);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class compact_argsStandardSchemeFactory implements SchemeFactory {
+      public compact_argsStandardScheme getScheme() {
+        return new compact_argsStandardScheme();
+      }
+    }
+
+    private static class compact_argsStandardScheme extends StandardScheme<compact_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, compact_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PARTITIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.partitions = new ArrayList<alluxio.thrift.PartitionInfo>(_list24.size);
+                  alluxio.thrift.PartitionInfo _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new alluxio.thrift.PartitionInfo();
+                    _elem25.read(iprot);
+                    struct.partitions.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPartitionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // START_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.startKey = iprot.readBinary();
+                struct.setStartKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // END_KEY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.endKey = iprot.readBinary();
+                struct.setEndKeyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // STORE_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.storePath = iprot.readString();
+                struct.setStorePathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // PARTITION_PREFIX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.partitionPrefix = iprot.readString();
+                struct.setPartitionPrefixIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CompactTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, compact_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.partitions != null) {
+          oprot.writeFieldBegin(PARTITIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.partitions.size()));
+            for (alluxio.thrift.PartitionInfo _iter27 : struct.partitions)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.startKey != null) {
+          oprot.writeFieldBegin(START_KEY_FIELD_DESC);
+          oprot.writeBinary(struct.startKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.endKey != null) {
+          oprot.writeFieldBegin(END_KEY_FIELD_DESC);
+          oprot.writeBinary(struct.endKey);
+          oprot.writeFieldEnd();
+        }
+        if (struct.storePath != null) {
+          oprot.writeFieldBegin(STORE_PATH_FIELD_DESC);
+          oprot.writeString(struct.storePath);
+          oprot.writeFieldEnd();
+        }
+        if (struct.partitionPrefix != null) {
+          oprot.writeFieldBegin(PARTITION_PREFIX_FIELD_DESC);
+          oprot.writeString(struct.partitionPrefix);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class compact_argsTupleSchemeFactory implements SchemeFactory {
+      public compact_argsTupleScheme getScheme() {
+        return new compact_argsTupleScheme();
+      }
+    }
+
+    private static class compact_argsTupleScheme extends TupleScheme<compact_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, compact_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPartitions()) {
+          optionals.set(0);
+        }
+        if (struct.isSetStartKey()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEndKey()) {
+          optionals.set(2);
+        }
+        if (struct.isSetStorePath()) {
+          optionals.set(3);
+        }
+        if (struct.isSetPartitionPrefix()) {
+          optionals.set(4);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
+        if (struct.isSetPartitions()) {
+          {
+            oprot.writeI32(struct.partitions.size());
+            for (alluxio.thrift.PartitionInfo _iter28 : struct.partitions)
+            {
+              _iter28.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetStartKey()) {
+          oprot.writeBinary(struct.startKey);
+        }
+        if (struct.isSetEndKey()) {
+          oprot.writeBinary(struct.endKey);
+        }
+        if (struct.isSetStorePath()) {
+          oprot.writeString(struct.storePath);
+        }
+        if (struct.isSetPartitionPrefix()) {
+          oprot.writeString(struct.partitionPrefix);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, compact_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(6);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.partitions = new ArrayList<alluxio.thrift.PartitionInfo>(_list29.size);
+            alluxio.thrift.PartitionInfo _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new alluxio.thrift.PartitionInfo();
+              _elem30.read(iprot);
+              struct.partitions.add(_elem30);
+            }
+          }
+          struct.setPartitionsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.startKey = iprot.readBinary();
+          struct.setStartKeyIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.endKey = iprot.readBinary();
+          struct.setEndKeyIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.storePath = iprot.readString();
+          struct.setStorePathIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.partitionPrefix = iprot.readString();
+          struct.setPartitionPrefixIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.options = new CompactTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class compact_result implements org.apache.thrift.TBase<compact_result, compact_result._Fields>, java.io.Serializable, Cloneable, Comparable<compact_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("compact_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new compact_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new compact_resultTupleSchemeFactory());
+    }
+
+    private CompactTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompactTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(compact_result.class, metaDataMap);
+    }
+
+    public compact_result() {
+    }
+
+    public compact_result(
+      CompactTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public compact_result(compact_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CompactTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public compact_result deepCopy() {
+      return new compact_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CompactTResponse getSuccess() {
+      return this.success;
+    }
+
+    public compact_result setSuccess(CompactTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public compact_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CompactTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof compact_result)
+        return this.equals((compact_result)that);
+      return false;
+    }
+
+    public boolean equals(compact_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(compact_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("compact_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class compact_resultStandardSchemeFactory implements SchemeFactory {
+      public compact_resultStandardScheme getScheme() {
+        return new compact_resultStandardScheme();
+      }
+    }
+
+    private static class compact_resultStandardScheme extends StandardScheme<compact_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, compact_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CompactTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, compact_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class compact_resultTupleSchemeFactory implements SchemeFactory {
+      public compact_resultTupleScheme getScheme() {
+        return new compact_resultTupleScheme();
+      }
+    }
+
+    private static class compact_resultTupleScheme extends TupleScheme<compact_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, compact_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, compact_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CompactTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
   public static class getSize_args implements org.apache.thrift.TBase<getSize_args, getSize_args._Fields>, java.io.Serializable, Cloneable, Comparable<getSize_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getSize_args");
 
@@ -13,13 +13,19 @@ struct PartitionInfo {
   4: i32 keyCount
 }
 
+struct CheckCompactionTOptions {}
+struct CheckCompactionTResponse {}
+
 struct CompletePartitionTOptions {}
 struct CompletePartitionTResponse {}
 
 struct CompleteStoreTOptions {}
 struct CompleteStoreTResponse {}
 
-struct CreateStoreTOptions {}
+struct CreateStoreTOptions {
+  // the store whose partitions the workers compact into the new store for the caller
+  1: optional string compactedPath
+}
 struct CreateStoreTResponse {}
 
 struct DeleteStoreTOptions {}
@@ -36,11 +42,26 @@ struct MergeStoreTResponse {}
 struct RenameStoreTOptions {}
 struct RenameStoreTResponse {}
 
+struct ReplaceStoreTOptions {}
+struct ReplaceStoreTResponse {}
+
 /**
  * This interface contains key-value master service endpoints for Alluxio clients.
  */
 service KeyValueMasterClientService extends common.AlluxioService {
 
+  /**
+   * Checks that an incomplete store was created by the given user to compact another store into,
+   * and that the given blocks are partitions of the compacted store.
+   */
+  CheckCompactionTResponse checkCompaction(
+    /** the path of the store */ 1: string path,
+    /** the user compacting into the store */ 2: string user,
+    /** the ids of the blocks of the partitions to compact */ 3: list<i64> blockIds,
+    /** the method options */ 4: CheckCompactionTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Marks a partition complete and adds it to the store.
    */
@@ -106,4 +127,15 @@ service KeyValueMasterClientService extends common.AlluxioService {
     /** the method options */ 3: RenameStoreTOptions options,
     )
     throws (1: exception.AlluxioTException e)
+
+  /**
+   * Atomically replaces the partitions of a completed key-value store with the partitions of
+   * another completed key-value store, which is removed.
+   */
+  ReplaceStoreTResponse replaceStore(
+    /** the path of the store whose partitions replace the others */ 1: string fromPath,
+    /** the path of the store to be replaced */ 2: string toPath,
+    /** the method options */ 3: ReplaceStoreTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
 }
@@ -2,6 +2,7 @@ namespace java alluxio.thrift
 
 include "common.thrift"
 include "exception.thrift"
+include "key_value_master.thrift"
 
 struct GetTOptions {}
 struct GetTResponse {
@@ -13,6 +14,17 @@ struct GetNextKeysTResponse {
   1: list<binary> keys
 }
 
+struct ScanTOptions {}
+struct ScanTResponse {
+  1: list<binary> keys
+  2: list<binary> values
+}
+
+struct CompactTOptions {}
+struct CompactTResponse {
+  1: i32 keyCount
+}
+
 struct GetSizeTOptions {}
 struct GetSizeTResponse {
   1: i32 size
@@ -42,6 +54,34 @@ service KeyValueWorkerClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Gets a batch of the key-value pairs in a range of keys in the partition, in key order.
+   * Fewer pairs than requested are returned only if there are no more pairs in the range.
+   */
+  ScanTResponse scan(
+    /** the id of the partition */ 1: i64 blockId,
+    /** the first key of the range, or empty to start from the first key */ 2: binary startKey,
+    /** the key after the range, or empty to end at the last key */ 3: binary endKey,
+    /** maximum number of key-value pairs to get */ 4: i32 numPairs,
+    /** the method options */ 5: ScanTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
+  /**
+   * Merges the key-value pairs in a range of keys of the given partitions, which may overlap,
+   * into new non-overlapping partitions of an incomplete store. When a key is in several of the
+   * partitions, the value in the first of them is kept.
+   */
+  CompactTResponse compact(
+    /** the partitions to merge */ 1: list<key_value_master.PartitionInfo> partitions,
+    /** the first key of the range, or empty to start from the first key */ 2: binary startKey,
+    /** the key after the range, or empty to end at the last key */ 3: binary endKey,
+    /** the path of the store to write the partitions to */ 4: string storePath,
+    /** the prefix of the names of the new partitions */ 5: string partitionPrefix,
+    /** the method options */ 6: CompactTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Gets the number of key-value pairs in the partition.
    */
@@ -25,37 +25,53 @@ import alluxio.master.AbstractMaster;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.options.CreateDirectoryOptions;
 import alluxio.master.file.options.DeleteOptions;
+import alluxio.master.file.options.ListStatusOptions;
 import alluxio.master.file.options.RenameOptions;
 import alluxio.master.journal.Journal;
+import alluxio.master.journal.JournalContext;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.proto.journal.KeyValue;
 import alluxio.thrift.KeyValueMasterClientService;
 import alluxio.thrift.PartitionInfo;
 import alluxio.util.IdUtils;
+import alluxio.util.SecurityUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.io.PathUtils;
+import alluxio.wire.FileInfo;
+import alluxio.wire.LoadMetadataType;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterators;
 import org.apache.thrift.TProcessor;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This master stores key-value store information in Alluxio, including the partitions of
  * each key-value store.
+ *
+ * Each store has its own lock, so that operations on different stores, e.g. the partitions of
+ * several stores being completed by concurrent writers, do not wait for each other. An operation
+ * holds the lock of its stores while it changes them and appends its journal entry, and waits for
+ * the journal to be flushed after releasing the lock.
+ *
+ * A store created to compact another store into records the user who created it, so that the
+ * workers only write the partitions of a compaction into a store of the user who asked for it.
+ * This is not journaled, so the compactions in progress fail after a master failover.
  */
 @ThreadSafe
 public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMaster {
@@ -64,13 +80,8 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
 
   private final FileSystemMaster mFileSystemMaster;
 
-  /** Map from file id of a complete store to the list of partitions in this store. */
-  private final Map<Long, List<PartitionInfo>> mCompleteStoreToPartitions;
-  /**
-   * Map from file id of an incomplete store (i.e., some one is still writing new partitions) to the
-   * list of partitions in this store.
-   */
-  private final Map<Long, List<PartitionInfo>> mIncompleteStoreToPartitions;
+  /** Map from file id of a store to the store, both complete and incomplete. */
+  private final ConcurrentHashMap<Long, Store> mStores;
 
   /**
    * @param fileSystemMaster the file system master handle
@@ -80,8 +91,7 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
     super(journal, new SystemClock(), ExecutorServiceFactories
         .fixedThreadPoolExecutorServiceFactory(Constants.KEY_VALUE_MASTER_NAME, 2));
     mFileSystemMaster = fileSystemMaster;
-    mCompleteStoreToPartitions = new HashMap<>();
-    mIncompleteStoreToPartitions = new HashMap<>();
+    mStores = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -103,7 +113,7 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
   }
 
   @Override
-  public synchronized void processJournalEntry(alluxio.proto.journal.Journal.JournalEntry entry)
+  public void processJournalEntry(alluxio.proto.journal.Journal.JournalEntry entry)
       throws IOException {
     try {
       if (entry.hasCreateStore()) {
@@ -118,6 +128,8 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
         renameStoreFromEntry(entry.getRenameStore());
       } else if (entry.hasMergeStore()) {
         mergeStoreFromEntry(entry.getMergeStore());
+      } else if (entry.hasReplaceStore()) {
+        replaceStoreFromEntry(entry.getReplaceStore());
       } else {
         throw new IOException(ExceptionMessage.UNEXPECTED_JOURNAL_ENTRY.getMessage(entry));
       }
@@ -127,9 +139,30 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
   }
 
   @Override
-  public synchronized Iterator<JournalEntry> getJournalEntryIterator() {
-    return Iterators.concat(getStoreIterator(mCompleteStoreToPartitions),
-        getStoreIterator(mIncompleteStoreToPartitions));
+  public Iterator<JournalEntry> getJournalEntryIterator() {
+    // Each store is copied under its own lock, so the entries of a store are consistent although
+    // the stores may be copied at different times.
+    List<JournalEntry> entries = new ArrayList<>();
+    for (Map.Entry<Long, Store> entry : mStores.entrySet()) {
+      long fileId = entry.getKey();
+      Store store = entry.getValue();
+      store.mLock.lock();
+      try {
+        if (mStores.get(fileId) != store) {
+          continue;
+        }
+        entries.add(newCreateStoreEntry(fileId));
+        for (PartitionInfo info : store.mPartitions) {
+          entries.add(newCompletePartitionEntry(fileId, info));
+        }
+        if (store.mComplete) {
+          entries.add(newCompleteStoreEntry(fileId));
+        }
+      } finally {
+        store.mLock.unlock();
+      }
+    }
+    return entries.iterator();
   }
 
   @Override
@@ -138,7 +171,45 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
   }
 
   @Override
-  public synchronized void completePartition(AlluxioURI path, PartitionInfo info)
+  public void checkCompaction(AlluxioURI path, String user, List<Long> blockIds)
+      throws AccessControlException, FileDoesNotExistException, InvalidPathException {
+    long compactedFileId;
+    Store store = lockStore(getFileId(path));
+    try {
+      if (store == null || store.mComplete || store.mCompactingUser == null) {
+        throw new InvalidPathException(String.format(
+            "Failed to checkCompaction: %s is not an incomplete store to compact into", path));
+      }
+      if (!store.mCompactingUser.equals(user)) {
+        throw new AccessControlException(String.format(
+            "Failed to checkCompaction: store %s was not created by user %s", path, user));
+      }
+      compactedFileId = store.mCompactedFileId;
+    } finally {
+      unlockStore(store);
+    }
+    Set<Long> partitionBlockIds = new HashSet<>();
+    Store compacted = lockStore(compactedFileId);
+    try {
+      if (compacted != null) {
+        for (PartitionInfo info : compacted.mPartitions) {
+          partitionBlockIds.add(info.getBlockId());
+        }
+      }
+    } finally {
+      unlockStore(compacted);
+    }
+    for (long blockId : blockIds) {
+      if (!partitionBlockIds.contains(blockId)) {
+        throw new AccessControlException(String.format(
+            "Failed to checkCompaction: block %d is not a partition of the store compacted into %s",
+            blockId, path));
+      }
+    }
+  }
+
+  @Override
+  public void completePartition(AlluxioURI path, PartitionInfo info)
       throws AccessControlException, FileDoesNotExistException, InvalidPathException {
     final long fileId = mFileSystemMaster.getFileId(path);
     if (fileId == IdUtils.INVALID_FILE_ID) {
@@ -146,10 +217,15 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
           String.format("Failed to completePartition: path %s does not exist", path));
     }
 
-    completePartitionInternal(fileId, info);
-
-    writeJournalEntry(newCompletePartitionEntry(fileId, info));
-    flushJournal();
+    try (JournalContext journalContext = createJournalContext()) {
+      Store store = lockStore(fileId);
+      try {
+        completePartitionInternal(fileId, store, info);
+        appendJournalEntry(newCompletePartitionEntry(fileId, info), journalContext);
+      } finally {
+        unlockStore(store);
+      }
+    }
   }
 
   // Marks a partition complete, called when replaying journals
@@ -157,53 +233,84 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
       throws FileDoesNotExistException {
     PartitionInfo info = new PartitionInfo(entry.getKeyStartBytes().asReadOnlyByteBuffer(),
         entry.getKeyLimitBytes().asReadOnlyByteBuffer(), entry.getBlockId(), entry.getKeyCount());
-    completePartitionInternal(entry.getStoreId(), info);
+    completePartitionInternal(entry.getStoreId(), mStores.get(entry.getStoreId()), info);
   }
 
   // Internal implementation to mark a partition complete
-  private void completePartitionInternal(long fileId, PartitionInfo info)
+  private void completePartitionInternal(long fileId, Store store, PartitionInfo info)
       throws FileDoesNotExistException {
-    if (!mIncompleteStoreToPartitions.containsKey(fileId)) {
+    if (store == null || store.mComplete) {
       // TODO(binfan): throw a better exception
       throw new FileDoesNotExistException(String.format(
           "Failed to completeStore: KeyValueStore (fileId=%d) was not created before", fileId));
     }
     // NOTE: deep copy the partition info object
-    mIncompleteStoreToPartitions.get(fileId).add(new PartitionInfo(info));
+    store.mPartitions.add(new PartitionInfo(info));
   }
 
   @Override
-  public synchronized void completeStore(AlluxioURI path)
+  public void completeStore(AlluxioURI path)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException {
     final long fileId = mFileSystemMaster.getFileId(path);
     if (fileId == IdUtils.INVALID_FILE_ID) {
       throw new FileDoesNotExistException(
           String.format("Failed to completeStore: path %s does not exist", path));
     }
-    completeStoreInternal(fileId);
-    writeJournalEntry(newCompleteStoreEntry(fileId));
-    flushJournal();
+    try (JournalContext journalContext = createJournalContext()) {
+      Store store = lockStore(fileId);
+      try {
+        completeStoreInternal(fileId, store);
+        appendJournalEntry(newCompleteStoreEntry(fileId), journalContext);
+      } finally {
+        unlockStore(store);
+      }
+    }
   }
 
   // Marks a store complete, called when replaying journals
   private void completeStoreFromEntry(KeyValue.CompleteStoreEntry entry)
       throws FileDoesNotExistException {
-    completeStoreInternal(entry.getStoreId());
+    completeStoreInternal(entry.getStoreId(), mStores.get(entry.getStoreId()));
   }
 
   // Internal implementation to mark a store complete
-  private void completeStoreInternal(long fileId) throws FileDoesNotExistException {
-    if (!mIncompleteStoreToPartitions.containsKey(fileId)) {
+  private void completeStoreInternal(long fileId, Store store) throws FileDoesNotExistException {
+    if (store == null || store.mComplete) {
       // TODO(binfan): throw a better exception
       throw new FileDoesNotExistException(String.format(
           "Failed to completeStore: KeyValueStore (fileId=%d) was not created before", fileId));
     }
-    List<PartitionInfo> partitions = mIncompleteStoreToPartitions.remove(fileId);
-    mCompleteStoreToPartitions.put(fileId, partitions);
+    store.mComplete = true;
+  }
+
+  @Override
+  public void createStore(AlluxioURI path)
+      throws FileAlreadyExistsException, InvalidPathException, AccessControlException {
+    createStore(path, null, IdUtils.INVALID_FILE_ID);
   }
 
   @Override
-  public synchronized void createStore(AlluxioURI path)
+  public void createStore(AlluxioURI path, AlluxioURI compactedPath)
+      throws FileAlreadyExistsException, FileDoesNotExistException, InvalidPathException,
+      AccessControlException {
+    long compactedFileId = getFileId(compactedPath);
+    if (!mStores.containsKey(compactedFileId)) {
+      throw new InvalidPathException(
+          ExceptionMessage.INVALID_KEY_VALUE_STORE_URI.getMessage(compactedPath));
+    }
+    createStore(path, SecurityUtils.getOwnerFromThriftClient(), compactedFileId);
+  }
+
+  /**
+   * Creates a new key-value store.
+   *
+   * @param path URI of the key-value store
+   * @param compactingUser the user compacting another store into the new store, or null if the
+   *        store is not created for a compaction
+   * @param compactedFileId the file id of the store compacted into the new store
+   */
+  private void createStore(AlluxioURI path, @Nullable String compactingUser,
+      long compactedFileId)
       throws FileAlreadyExistsException, InvalidPathException, AccessControlException {
     try {
       // Create this dir
@@ -219,36 +326,50 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
     long fileId = mFileSystemMaster.getFileId(path);
     Preconditions.checkState(fileId != IdUtils.INVALID_FILE_ID);
 
-    createStoreInternal(fileId);
-    writeJournalEntry(newCreateStoreEntry(fileId));
-    flushJournal();
+    try (JournalContext journalContext = createJournalContext()) {
+      Store store = new Store();
+      store.mCompactingUser = compactingUser;
+      store.mCompactedFileId = compactedFileId;
+      store.mLock.lock();
+      try {
+        createStoreInternal(fileId, store);
+        appendJournalEntry(newCreateStoreEntry(fileId), journalContext);
+      } finally {
+        store.mLock.unlock();
+      }
+    }
   }
 
   // Creates a store, called when replaying journals
   private void createStoreFromEntry(KeyValue.CreateStoreEntry entry)
       throws FileAlreadyExistsException {
-    createStoreInternal(entry.getStoreId());
+    createStoreInternal(entry.getStoreId(), new Store());
   }
 
   // Internal implementation to create a store
-  private void createStoreInternal(long fileId) throws FileAlreadyExistsException {
-    if (mIncompleteStoreToPartitions.containsKey(fileId)) {
+  private void createStoreInternal(long fileId, Store store) throws FileAlreadyExistsException {
+    if (mStores.putIfAbsent(fileId, store) != null) {
       // TODO(binfan): throw a better exception
       throw new FileAlreadyExistsException(String
           .format("Failed to createStore: KeyValueStore (fileId=%d) is already created", fileId));
     }
-    mIncompleteStoreToPartitions.put(fileId, new ArrayList<PartitionInfo>());
   }
 
   @Override
-  public synchronized void deleteStore(AlluxioURI uri)
+  public void deleteStore(AlluxioURI uri)
       throws IOException, InvalidPathException, FileDoesNotExistException, AlluxioException {
     long fileId = getFileId(uri);
-    checkIsCompletePartition(fileId, uri);
-    mFileSystemMaster.delete(uri, DeleteOptions.defaults().setRecursive(true));
-    deleteStoreInternal(fileId);
-    writeJournalEntry(newDeleteStoreEntry(fileId));
-    flushJournal();
+    try (JournalContext journalContext = createJournalContext()) {
+      Store store = lockStore(fileId);
+      try {
+        checkIsCompletePartition(store, uri);
+        mFileSystemMaster.delete(uri, DeleteOptions.defaults().setRecursive(true));
+        deleteStoreInternal(fileId);
+        appendJournalEntry(newDeleteStoreEntry(fileId), journalContext);
+      } finally {
+        unlockStore(store);
+      }
+    }
   }
 
   // Deletes a store, called when replaying journals.
@@ -258,7 +379,7 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
 
   // Internal implementation to deleteStore a key-value store.
   private void deleteStoreInternal(long fileId) {
-    mCompleteStoreToPartitions.remove(fileId);
+    mStores.remove(fileId);
   }
 
   private long getFileId(AlluxioURI uri)
@@ -270,35 +391,68 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
     return fileId;
   }
 
-  void checkIsCompletePartition(long fileId, AlluxioURI uri) throws InvalidPathException {
-    if (!mCompleteStoreToPartitions.containsKey(fileId)) {
+  private void checkIsCompletePartition(Store store, AlluxioURI uri) throws InvalidPathException {
+    if (store == null || !store.mComplete) {
       throw new InvalidPathException(ExceptionMessage.INVALID_KEY_VALUE_STORE_URI.getMessage(uri));
     }
   }
 
+  /**
+   * Locks the store with the given file id.
+   *
+   * @param fileId the file id of the store
+   * @return the locked store, or null if there is no such store
+   */
+  private Store lockStore(long fileId) {
+    while (true) {
+      Store store = mStores.get(fileId);
+      if (store == null) {
+        return null;
+      }
+      store.mLock.lock();
+      if (mStores.get(fileId) == store) {
+        return store;
+      }
+      // The store was removed or replaced while waiting for the lock.
+      store.mLock.unlock();
+    }
+  }
+
+  private void unlockStore(Store store) {
+    if (store != null) {
+      store.mLock.unlock();
+    }
+  }
+
   @Override
-  public synchronized void renameStore(AlluxioURI oldUri, AlluxioURI newUri)
+  public void renameStore(AlluxioURI oldUri, AlluxioURI newUri)
       throws IOException, AlluxioException {
     long oldFileId = getFileId(oldUri);
-    checkIsCompletePartition(oldFileId, oldUri);
-    try {
-      mFileSystemMaster.rename(oldUri, newUri, RenameOptions.defaults());
-    } catch (FileAlreadyExistsException e) {
-      throw new FileAlreadyExistsException(
-          String.format("failed to rename store:the path %s has been used", newUri), e);
-    }
+    try (JournalContext journalContext = createJournalContext()) {
+      Store store = lockStore(oldFileId);
+      try {
+        checkIsCompletePartition(store, oldUri);
+        try {
+          mFileSystemMaster.rename(oldUri, newUri, RenameOptions.defaults());
+        } catch (FileAlreadyExistsException e) {
+          throw new FileAlreadyExistsException(
+              String.format("failed to rename store:the path %s has been used", newUri), e);
+        }
 
-    final long newFileId = mFileSystemMaster.getFileId(newUri);
-    Preconditions.checkState(newFileId != IdUtils.INVALID_FILE_ID);
-    renameStoreInternal(oldFileId, newFileId);
+        final long newFileId = mFileSystemMaster.getFileId(newUri);
+        Preconditions.checkState(newFileId != IdUtils.INVALID_FILE_ID);
+        renameStoreInternal(oldFileId, newFileId);
 
-    writeJournalEntry(newRenameStoreEntry(oldFileId, newFileId));
-    flushJournal();
+        appendJournalEntry(newRenameStoreEntry(oldFileId, newFileId), journalContext);
+      } finally {
+        unlockStore(store);
+      }
+    }
   }
 
   private void renameStoreInternal(long oldFileId, long newFileId) {
-    List<PartitionInfo> partitionsRenamed = mCompleteStoreToPartitions.remove(oldFileId);
-    mCompleteStoreToPartitions.put(newFileId, partitionsRenamed);
+    Store storeRenamed = mStores.remove(oldFileId);
+    mStores.put(newFileId, storeRenamed);
   }
 
   // Rename one completed stores, called when replaying journals.
@@ -307,30 +461,43 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
   }
 
   @Override
-  public synchronized void mergeStore(AlluxioURI fromUri, AlluxioURI toUri)
+  public void mergeStore(AlluxioURI fromUri, AlluxioURI toUri)
       throws IOException, FileDoesNotExistException, InvalidPathException, AlluxioException {
     long fromFileId = getFileId(fromUri);
     long toFileId = getFileId(toUri);
-    checkIsCompletePartition(fromFileId, fromUri);
-    checkIsCompletePartition(toFileId, toUri);
-
-    // Rename fromUri to "toUri/%s-%s" % (last component of fromUri, UUID).
-    // NOTE: rename does not change the existing block IDs.
-    mFileSystemMaster.rename(fromUri,
-        new AlluxioURI(PathUtils.concatPath(toUri.toString(),
-            String.format("%s-%s", fromUri.getName(), UUID.randomUUID().toString()))),
-        RenameOptions.defaults());
-    mergeStoreInternal(fromFileId, toFileId);
-
-    writeJournalEntry(newMergeStoreEntry(fromFileId, toFileId));
-    flushJournal();
+    if (fromFileId == toFileId) {
+      throw new InvalidPathException(
+          String.format("Failed to mergeStore: can not merge store %s into itself", fromUri));
+    }
+    try (JournalContext journalContext = createJournalContext()) {
+      // Lock the stores in the order of their ids to avoid deadlocks with concurrent merges.
+      Store first = lockStore(Math.min(fromFileId, toFileId));
+      Store second = lockStore(Math.max(fromFileId, toFileId));
+      try {
+        checkIsCompletePartition(fromFileId < toFileId ? first : second, fromUri);
+        checkIsCompletePartition(fromFileId < toFileId ? second : first, toUri);
+
+        // Rename fromUri to "toUri/%s-%s" % (last component of fromUri, UUID).
+        // NOTE: rename does not change the existing block IDs.
+        mFileSystemMaster.rename(fromUri,
+            new AlluxioURI(PathUtils.concatPath(toUri.toString(),
+                String.format("%s-%s", fromUri.getName(), UUID.randomUUID().toString()))),
+            RenameOptions.defaults());
+        mergeStoreInternal(fromFileId, toFileId);
+
+        appendJournalEntry(newMergeStoreEntry(fromFileId, toFileId), journalContext);
+      } finally {
+        unlockStore(second);
+        unlockStore(first);
+      }
+    }
   }
 
   // Internal implementation to merge two completed stores.
   private void mergeStoreInternal(long fromFileId, long toFileId) {
     // Move partition infos to the new store.
-    List<PartitionInfo> partitionsToBeMerged = mCompleteStoreToPartitions.remove(fromFileId);
-    mCompleteStoreToPartitions.get(toFileId).addAll(partitionsToBeMerged);
+    Store storeToBeMerged = mStores.remove(fromFileId);
+    mStores.get(toFileId).mPartitions.addAll(storeToBeMerged.mPartitions);
   }
 
   // Merges two completed stores, called when replaying journals.
@@ -339,14 +506,70 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
   }
 
   @Override
-  public synchronized List<PartitionInfo> getPartitionInfo(AlluxioURI path)
+  public void replaceStore(AlluxioURI fromUri, AlluxioURI toUri)
+      throws IOException, FileDoesNotExistException, InvalidPathException, AlluxioException {
+    long fromFileId = getFileId(fromUri);
+    long toFileId = getFileId(toUri);
+    if (fromFileId == toFileId) {
+      throw new InvalidPathException(
+          String.format("Failed to replaceStore: can not replace store %s with itself", fromUri));
+    }
+    try (JournalContext journalContext = createJournalContext()) {
+      // Lock the stores in the order of their ids to avoid deadlocks with concurrent merges.
+      Store first = lockStore(Math.min(fromFileId, toFileId));
+      Store second = lockStore(Math.max(fromFileId, toFileId));
+      try {
+        checkIsCompletePartition(fromFileId < toFileId ? first : second, fromUri);
+        checkIsCompletePartition(fromFileId < toFileId ? second : first, toUri);
+
+        // The path of the replaced store always exists, so the partitions of fromUri are moved
+        // into it as in mergeStore, and the replaced partitions are deleted afterwards.
+        List<AlluxioURI> replaced = new ArrayList<>();
+        for (FileInfo info : mFileSystemMaster.listStatus(toUri,
+            ListStatusOptions.defaults().setLoadMetadataType(LoadMetadataType.Never))) {
+          replaced.add(new AlluxioURI(info.getPath()));
+        }
+        mFileSystemMaster.rename(fromUri,
+            new AlluxioURI(PathUtils.concatPath(toUri.toString(),
+                String.format("%s-%s", fromUri.getName(), UUID.randomUUID().toString()))),
+            RenameOptions.defaults());
+        mFileSystemMaster.deleteBatch(replaced, DeleteOptions.defaults().setRecursive(true));
+        replaceStoreInternal(fromFileId, toFileId);
+
+        appendJournalEntry(newReplaceStoreEntry(fromFileId, toFileId), journalContext);
+      } finally {
+        unlockStore(second);
+        unlockStore(first);
+      }
+    }
+  }
+
+  // Internal implementation to replace the partitions of a completed store.
+  private void replaceStoreInternal(long fromFileId, long toFileId) {
+    Store storeReplacing = mStores.remove(fromFileId);
+    List<PartitionInfo> partitions = mStores.get(toFileId).mPartitions;
+    partitions.clear();
+    partitions.addAll(storeReplacing.mPartitions);
+  }
+
+  // Replaces the partitions of a completed store, called when replaying journals.
+  private void replaceStoreFromEntry(KeyValue.ReplaceStoreEntry entry) {
+    replaceStoreInternal(entry.getFromStoreId(), entry.getToStoreId());
+  }
+
+  @Override
+  public List<PartitionInfo> getPartitionInfo(AlluxioURI path)
       throws FileDoesNotExistException, AccessControlException, InvalidPathException {
     long fileId = getFileId(path);
-    List<PartitionInfo> partitions = mCompleteStoreToPartitions.get(fileId);
-    if (partitions == null) {
-      return new ArrayList<>();
+    Store store = lockStore(fileId);
+    try {
+      if (store == null || !store.mComplete) {
+        return new ArrayList<>();
+      }
+      return new ArrayList<>(store.mPartitions);
+    } finally {
+      unlockStore(store);
     }
-    return partitions;
   }
 
   private alluxio.proto.journal.Journal.JournalEntry newCreateStoreEntry(long fileId) {
@@ -397,54 +620,30 @@ public class DefaultKeyValueMaster extends AbstractMaster implements KeyValueMas
         .build();
   }
 
-  private Iterator<alluxio.proto.journal.Journal.JournalEntry> getStoreIterator(
-      Map<Long, List<PartitionInfo>> storeToPartitions) {
-    final Iterator<Map.Entry<Long, List<PartitionInfo>>> it =
-        storeToPartitions.entrySet().iterator();
-    return new Iterator<alluxio.proto.journal.Journal.JournalEntry>() {
-      // Initial state: mEntry == null, mInfoIterator == null
-      // hasNext: mEntry == null, mInfoIterator == null, it.hasNext()
-      // mEntry == null, mInfoIterator == null, => create
-      // mEntry != null, mInfoIterator.hasNext() => partitions
-      // mEntry != null, !mInfoIterator.hasNext() => complete
-      private Map.Entry<Long, List<PartitionInfo>> mEntry;
-      private Iterator<PartitionInfo> mInfoIterator;
-
-      @Override
-      public boolean hasNext() {
-        if (mEntry == null && mInfoIterator == null && !it.hasNext()) {
-          return false;
-        }
-        return true;
-      }
-
-      @Override
-      public alluxio.proto.journal.Journal.JournalEntry next() {
-        if (!hasNext()) {
-          throw new NoSuchElementException();
-        }
-        if (mEntry == null) {
-          Preconditions.checkState(mInfoIterator == null);
-          mEntry = it.next();
-          mInfoIterator = mEntry.getValue().iterator();
-          return newCreateStoreEntry(mEntry.getKey());
-        }
-
-        if (mInfoIterator.hasNext()) {
-          return newCompletePartitionEntry(mEntry.getKey(), mInfoIterator.next());
-        }
-
-        alluxio.proto.journal.Journal.JournalEntry completeEntry =
-            newCompleteStoreEntry(mEntry.getKey());
-        mEntry = null;
-        mInfoIterator = null;
-        return completeEntry;
-      }
+  private alluxio.proto.journal.Journal.JournalEntry newReplaceStoreEntry(long fromFileId,
+      long toFileId) {
+    KeyValue.ReplaceStoreEntry replaceStore = KeyValue.ReplaceStoreEntry.newBuilder()
+        .setFromStoreId(fromFileId).setToStoreId(toFileId).build();
+    return alluxio.proto.journal.Journal.JournalEntry.newBuilder().setReplaceStore(replaceStore)
+        .build();
+  }
 
-      @Override
-      public void remove() {
-        throw new UnsupportedOperationException("remove is not supported.");
-      }
-    };
+  /**
+   * The partitions of a key-value store. The fields are guarded by the lock of the store.
+   */
+  private static final class Store {
+    private final ReentrantLock mLock = new ReentrantLock();
+    private final List<PartitionInfo> mPartitions = new ArrayList<>();
+    /** Whether the store is complete, i.e. no more partitions can be added. */
+    private boolean mComplete;
+    /** The user compacting another store into this store, or null if there is none. */
+    private String mCompactingUser;
+    /** The file id of the store compacted into this store. */
+    private long mCompactedFileId = IdUtils.INVALID_FILE_ID;
+
+    /**
+     * Creates a new instance of {@link Store}.
+     */
+    Store() {}
   }
 }
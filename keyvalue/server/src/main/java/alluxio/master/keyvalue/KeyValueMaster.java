@@ -29,6 +29,23 @@ import java.util.List;
  */
 public interface KeyValueMaster extends Master {
 
+  /**
+   * Checks that an incomplete key-value store was created by the given user with
+   * {@link #createStore(AlluxioURI, AlluxioURI)}, and that the given blocks are partitions of the
+   * store compacted into it. The workers check this before writing the partitions of a compaction,
+   * since they write them as their own user.
+   *
+   * @param path URI of the key-value store being written
+   * @param user the user compacting into the store
+   * @param blockIds the ids of the blocks of the partitions to compact
+   * @throws AccessControlException if the store was not created by the user, or a block is not a
+   *         partition of the compacted store
+   * @throws FileDoesNotExistException if the key-value store URI does not exist
+   * @throws InvalidPathException if the store is not an incomplete store created for a compaction
+   */
+  void checkCompaction(AlluxioURI path, String user, List<Long> blockIds)
+      throws AccessControlException, FileDoesNotExistException, InvalidPathException;
+
   /**
    * Marks a partition complete and adds it to an incomplete key-value store.
    *
@@ -63,6 +80,22 @@ public interface KeyValueMaster extends Master {
   void createStore(AlluxioURI path)
       throws FileAlreadyExistsException, InvalidPathException, AccessControlException;
 
+  /**
+   * Creates a new key-value store, into which the workers compact the partitions of another store
+   * on behalf of the caller.
+   *
+   * @param path URI of the key-value store
+   * @param compactedPath URI of the key-value store to compact into the new store
+   * @throws FileAlreadyExistsException if a key-value store URI exists
+   * @throws FileDoesNotExistException if the compacted store URI does not exist
+   * @throws InvalidPathException if the given path is invalid, or the compacted store URI is not a
+   *         key-value store
+   * @throws AccessControlException if permission checking fails
+   */
+  void createStore(AlluxioURI path, AlluxioURI compactedPath)
+      throws FileAlreadyExistsException, FileDoesNotExistException, InvalidPathException,
+      AccessControlException;
+
   /**
    * Deletes a completed key-value store.
    *
@@ -92,6 +125,18 @@ public interface KeyValueMaster extends Master {
   void mergeStore(AlluxioURI fromUri, AlluxioURI toUri)
       throws IOException, FileDoesNotExistException, InvalidPathException, AlluxioException;
 
+  /**
+   * Atomically replaces the partitions of a completed key-value store with the partitions of
+   * another completed key-value store, which is removed. The replaced partitions are deleted.
+   *
+   * @param fromUri the {@link AlluxioURI} to the store whose partitions replace the others
+   * @param toUri the {@link AlluxioURI} to the store to be replaced
+   * @throws InvalidPathException if the uri exists but is not a key-value store
+   * @throws FileDoesNotExistException if the uri does not exist
+   */
+  void replaceStore(AlluxioURI fromUri, AlluxioURI toUri)
+      throws IOException, FileDoesNotExistException, InvalidPathException, AlluxioException;
+
   /**
    * Gets a list of partitions of a given key-value store.
    *
@@ -18,6 +18,8 @@ import alluxio.RpcUtils.RpcCallable;
 import alluxio.RpcUtils.RpcCallableThrowsIOException;
 import alluxio.exception.AlluxioException;
 import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.CheckCompactionTOptions;
+import alluxio.thrift.CheckCompactionTResponse;
 import alluxio.thrift.CompletePartitionTOptions;
 import alluxio.thrift.CompletePartitionTResponse;
 import alluxio.thrift.CompleteStoreTOptions;
@@ -36,11 +38,14 @@ import alluxio.thrift.MergeStoreTResponse;
 import alluxio.thrift.PartitionInfo;
 import alluxio.thrift.RenameStoreTOptions;
 import alluxio.thrift.RenameStoreTResponse;
+import alluxio.thrift.ReplaceStoreTOptions;
+import alluxio.thrift.ReplaceStoreTResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -68,6 +73,18 @@ public final class KeyValueMasterClientServiceHandler implements KeyValueMasterC
     return new GetServiceVersionTResponse(Constants.KEY_VALUE_MASTER_CLIENT_SERVICE_VERSION);
   }
 
+  @Override
+  public CheckCompactionTResponse checkCompaction(final String path, final String user,
+      final List<Long> blockIds, CheckCompactionTOptions options) throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallable<CheckCompactionTResponse>() {
+      @Override
+      public CheckCompactionTResponse call() throws AlluxioException {
+        mKeyValueMaster.checkCompaction(new AlluxioURI(path), user, blockIds);
+        return new CheckCompactionTResponse();
+      }
+    });
+  }
+
   @Override
   public CompletePartitionTResponse completePartition(final String path, final PartitionInfo info,
       CompletePartitionTOptions options) throws AlluxioTException {
@@ -81,12 +98,17 @@ public final class KeyValueMasterClientServiceHandler implements KeyValueMasterC
   }
 
   @Override
-  public CreateStoreTResponse createStore(final String path, CreateStoreTOptions options)
+  public CreateStoreTResponse createStore(final String path, final CreateStoreTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcCallable<CreateStoreTResponse>() {
       @Override
       public CreateStoreTResponse call() throws AlluxioException {
-        mKeyValueMaster.createStore(new AlluxioURI(path));
+        if (options.isSetCompactedPath()) {
+          mKeyValueMaster.createStore(new AlluxioURI(path),
+              new AlluxioURI(options.getCompactedPath()));
+        } else {
+          mKeyValueMaster.createStore(new AlluxioURI(path));
+        }
         return new CreateStoreTResponse();
       }
     });
@@ -151,4 +173,16 @@ public final class KeyValueMasterClientServiceHandler implements KeyValueMasterC
       }
     });
   }
+
+  @Override
+  public ReplaceStoreTResponse replaceStore(final String fromPath, final String toPath,
+      ReplaceStoreTOptions options) throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<ReplaceStoreTResponse>() {
+      @Override
+      public ReplaceStoreTResponse call() throws AlluxioException, IOException {
+        mKeyValueMaster.replaceStore(new AlluxioURI(fromPath), new AlluxioURI(toPath));
+        return new ReplaceStoreTResponse();
+      }
+    });
+  }
 }
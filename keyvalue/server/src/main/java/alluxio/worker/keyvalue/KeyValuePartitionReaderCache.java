@@ -0,0 +1,309 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.keyvalue;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.Sessions;
+import alluxio.client.keyvalue.ByteBufferKeyValuePartitionReader;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.exception.InvalidWorkerStateException;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.AbstractBlockStoreEventListener;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache of the readers of the key-value partitions stored on the worker. A cached reader keeps
+ * its partition memory-mapped and its index parsed, so a lookup only touches the pages it reads
+ * instead of mapping the whole partition again. The least recently used partitions are evicted
+ * when the total size of the cached partitions exceeds
+ * {@link PropertyKey#KEY_VALUE_PARTITION_CACHE_SIZE_BYTES_MAX}.
+ * <p>
+ * A cached partition is leased by the key-value session instead of being locked, so it does not
+ * keep the block from being removed or moved. The lease is renewed on each lookup, and a partition
+ * whose lease was revoked in between is mapped again, or dropped if the block is gone. A partition
+ * is also dropped as soon as its block is removed or moved, so its mapping does not outlive the
+ * block file until the next lookup.
+ */
+@ThreadSafe
+final class KeyValuePartitionReaderCache {
+  private static final long SESSION_ID = Sessions.KEYVALUE_SESSION_ID;
+
+  private final BlockWorker mBlockWorker;
+  private final long mCapacityBytes;
+
+  /** The cached partitions by block id, in the order of their last access. */
+  @GuardedBy("this")
+  private final LinkedHashMap<Long, Partition> mPartitions = new LinkedHashMap<>(16, 0.75f, true);
+  /** The total size of the cached partitions in bytes. */
+  @GuardedBy("this")
+  private long mSizeBytes;
+
+  /**
+   * Creates a new instance of {@link KeyValuePartitionReaderCache}.
+   *
+   * @param blockWorker the block worker storing the partitions
+   */
+  KeyValuePartitionReaderCache(BlockWorker blockWorker) {
+    this(blockWorker,
+        Configuration.getBytes(PropertyKey.KEY_VALUE_PARTITION_CACHE_SIZE_BYTES_MAX));
+  }
+
+  /**
+   * Creates a new instance of {@link KeyValuePartitionReaderCache}.
+   *
+   * @param blockWorker the block worker storing the partitions
+   * @param capacityBytes the maximum total size of the cached partitions in bytes
+   */
+  KeyValuePartitionReaderCache(BlockWorker blockWorker, long capacityBytes) {
+    mBlockWorker = Preconditions.checkNotNull(blockWorker);
+    mCapacityBytes = capacityBytes;
+    mBlockWorker.registerBlockStoreEventListener(new AbstractBlockStoreEventListener() {
+      @Override
+      public void onMoveBlockByClient(long sessionId, long blockId,
+          BlockStoreLocation oldLocation, BlockStoreLocation newLocation) {
+        invalidate(blockId);
+      }
+
+      @Override
+      public void onMoveBlockByWorker(long sessionId, long blockId,
+          BlockStoreLocation oldLocation, BlockStoreLocation newLocation) {
+        invalidate(blockId);
+      }
+
+      @Override
+      public void onRemoveBlockByClient(long sessionId, long blockId) {
+        invalidate(blockId);
+      }
+
+      @Override
+      public void onRemoveBlockByWorker(long sessionId, long blockId) {
+        invalidate(blockId);
+      }
+    });
+  }
+
+  /**
+   * Acquires the reader of a partition, mapping the partition if it is not cached. The returned
+   * partition must be closed once the data read from it is no longer used, since the partition
+   * may be unmapped after that.
+   *
+   * @param blockId the id of the partition block
+   * @return the partition
+   * @throws BlockDoesNotExistException if the worker is not serving the block
+   */
+  Partition acquire(long blockId) throws AlluxioException, IOException {
+    try {
+      return acquireInternal(blockId);
+    } catch (InvalidWorkerStateException | BlockDoesNotExistException e) {
+      // The lease may have been released by a concurrent eviction after it was renewed, in which
+      // case leasing the block again gets a new lock.
+      return acquireInternal(blockId);
+    }
+  }
+
+  /**
+   * Drops all the cached partitions and releases their leases.
+   */
+  void clear() {
+    List<Partition> removed;
+    synchronized (this) {
+      removed = new ArrayList<>(mPartitions.values());
+      for (Partition partition : removed) {
+        remove(partition, true);
+      }
+    }
+    for (Partition partition : removed) {
+      partition.close();
+    }
+  }
+
+  /**
+   * @return the number of cached partitions
+   */
+  synchronized int size() {
+    return mPartitions.size();
+  }
+
+  private Partition acquireInternal(long blockId) throws AlluxioException, IOException {
+    long lockId;
+    try {
+      lockId = mBlockWorker.leaseBlock(SESSION_ID, blockId, Long.MAX_VALUE);
+    } catch (BlockDoesNotExistException e) {
+      invalidate(blockId);
+      throw e;
+    }
+    Partition stale;
+    synchronized (this) {
+      Partition partition = mPartitions.get(blockId);
+      if (partition != null && partition.mLockId == lockId) {
+        partition.mRefCount++;
+        return partition;
+      }
+      // A partition with another lock was mapped before its lease was revoked.
+      stale = partition == null ? null : remove(partition, false);
+    }
+    if (stale != null) {
+      stale.close();
+    }
+
+    ByteBuffer buf;
+    BlockReader blockReader = mBlockWorker.readBlockRemote(SESSION_ID, blockId, lockId);
+    try {
+      buf = blockReader.read(0, blockReader.getLength());
+    } finally {
+      blockReader.close();
+    }
+    Partition partition = new Partition(blockId, lockId, buf);
+    List<Partition> evicted = new ArrayList<>();
+    synchronized (this) {
+      Partition existing = mPartitions.get(blockId);
+      if (existing != null && existing.mLockId == lockId) {
+        // Mapped concurrently by another lookup.
+        existing.mRefCount++;
+        evicted.add(partition);
+        partition = existing;
+      } else {
+        if (existing != null) {
+          evicted.add(remove(existing, false));
+        }
+        partition.mRefCount++;
+        mPartitions.put(blockId, partition);
+        mSizeBytes += partition.mSizeBytes;
+        Iterator<Partition> iterator = mPartitions.values().iterator();
+        while (mSizeBytes > mCapacityBytes && iterator.hasNext()) {
+          Partition lru = iterator.next();
+          iterator.remove();
+          evicted.add(evict(lru, true));
+        }
+      }
+    }
+    for (Partition p : evicted) {
+      p.close();
+    }
+    return partition;
+  }
+
+  /**
+   * Drops the partition of a block which was removed or moved. The lease of the partition was
+   * revoked by then, and the partition is unmapped once no lookup uses it.
+   *
+   * @param blockId the id of the partition block
+   */
+  private void invalidate(long blockId) {
+    Partition partition;
+    synchronized (this) {
+      partition = mPartitions.get(blockId);
+      if (partition == null) {
+        return;
+      }
+      remove(partition, false);
+    }
+    partition.close();
+  }
+
+  /**
+   * Removes a partition from the cache.
+   *
+   * @param partition the partition to remove
+   * @param releaseLease whether to release the lease of the partition, which is already gone if
+   *        the lease was revoked
+   * @return the removed partition, to be closed outside the monitor
+   */
+  @GuardedBy("this")
+  private Partition remove(Partition partition, boolean releaseLease) {
+    mPartitions.remove(partition.mBlockId);
+    return evict(partition, releaseLease);
+  }
+
+  /**
+   * Accounts for a partition which was taken out of the map.
+   *
+   * @param partition the partition
+   * @param releaseLease whether to release the lease of the partition
+   * @return the partition, to be closed outside the monitor
+   */
+  @GuardedBy("this")
+  private Partition evict(Partition partition, boolean releaseLease) {
+    mSizeBytes -= partition.mSizeBytes;
+    if (releaseLease) {
+      mBlockWorker.releaseBlockLease(SESSION_ID, partition.mBlockId);
+    }
+    return partition;
+  }
+
+  /**
+   * A mapped partition. It is referenced by the cache while it is cached and by each lookup which
+   * acquired it, and is unmapped when it is no longer referenced.
+   */
+  @ThreadSafe
+  final class Partition implements Closeable {
+    private final long mBlockId;
+    private final long mLockId;
+    private final long mSizeBytes;
+    private final ByteBuffer mBuffer;
+    private final ByteBufferKeyValuePartitionReader mReader;
+    @GuardedBy("KeyValuePartitionReaderCache.this")
+    private int mRefCount = 1;
+
+    private Partition(long blockId, long lockId, ByteBuffer buffer) {
+      mBlockId = blockId;
+      mLockId = lockId;
+      mSizeBytes = buffer.limit();
+      mBuffer = buffer;
+      mReader = new ByteBufferKeyValuePartitionReader(buffer);
+    }
+
+    /**
+     * The reader only does absolute reads from views of the mapped partition, so it can be used
+     * by concurrent lookups.
+     *
+     * @return the reader of the partition
+     */
+    ByteBufferKeyValuePartitionReader getReader() {
+      return mReader;
+    }
+
+    /**
+     * Releases a reference to the partition.
+     */
+    @Override
+    public void close() {
+      synchronized (KeyValuePartitionReaderCache.this) {
+        Preconditions.checkState(mRefCount > 0, "Partition of block %s is already unmapped",
+            mBlockId);
+        if (--mRefCount > 0) {
+          return;
+        }
+      }
+      if (mBuffer.isDirect()) {
+        BufferUtils.cleanDirectBuffer(mBuffer);
+      }
+    }
+  }
+}
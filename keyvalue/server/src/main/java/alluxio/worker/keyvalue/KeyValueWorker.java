@@ -40,6 +40,8 @@ public final class KeyValueWorker extends AbstractWorker {
 
   /** Logic for handling key-value RPC requests. */
   private final KeyValueWorkerClientServiceHandler mKeyValueServiceHandler;
+  /** The readers of the partitions served by this worker. */
+  private final KeyValuePartitionReaderCache mReaderCache;
 
   /**
    * Constructor of {@link KeyValueWorker}.
@@ -50,7 +52,8 @@ public final class KeyValueWorker extends AbstractWorker {
     // TODO(binfan): figure out do we really need thread pool for key-value worker (and for what)
     super(Executors.newFixedThreadPool(1,
         ThreadFactoryUtils.build("keyvalue-worker-heartbeat-%d", true)));
-    mKeyValueServiceHandler = new KeyValueWorkerClientServiceHandler(blockWorker);
+    mReaderCache = new KeyValuePartitionReaderCache(blockWorker);
+    mKeyValueServiceHandler = new KeyValueWorkerClientServiceHandler(mReaderCache);
   }
 
   @Override
@@ -78,6 +81,7 @@ public final class KeyValueWorker extends AbstractWorker {
 
   @Override
   public void stop() throws IOException {
-    // nothing to do, Thrift service will be started by the Alluxio worker process
+    // Thrift service will be stopped by the Alluxio worker process
+    mReaderCache.clear();
   }
 }
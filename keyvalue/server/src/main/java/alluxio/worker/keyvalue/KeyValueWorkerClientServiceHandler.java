@@ -11,17 +11,22 @@
 
 package alluxio.worker.keyvalue;
 
+import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.RpcUtils;
 import alluxio.RpcUtils.RpcCallableThrowsIOException;
-import alluxio.Sessions;
 import alluxio.client.keyvalue.ByteBufferKeyValuePartitionReader;
 import alluxio.client.keyvalue.Index;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.keyvalue.KeyValueMasterClient;
+import alluxio.client.keyvalue.KeyValuePair;
+import alluxio.client.keyvalue.KeyValueStoreCompactor;
 import alluxio.client.keyvalue.PayloadReader;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.BlockDoesNotExistException;
-import alluxio.exception.InvalidWorkerStateException;
 import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.CompactTOptions;
+import alluxio.thrift.CompactTResponse;
 import alluxio.thrift.GetNextKeysTOptions;
 import alluxio.thrift.GetNextKeysTResponse;
 import alluxio.thrift.GetServiceVersionTOptions;
@@ -31,9 +36,11 @@ import alluxio.thrift.GetSizeTResponse;
 import alluxio.thrift.GetTOptions;
 import alluxio.thrift.GetTResponse;
 import alluxio.thrift.KeyValueWorkerClientService;
+import alluxio.thrift.PartitionInfo;
+import alluxio.thrift.ScanTOptions;
+import alluxio.thrift.ScanTResponse;
+import alluxio.util.SecurityUtils;
 import alluxio.util.io.BufferUtils;
-import alluxio.worker.block.BlockWorker;
-import alluxio.worker.block.io.BlockReader;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
@@ -42,12 +49,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * RPC service handler on worker side to read a local key-value block.
+ * RPC service handler on worker side to read a local key-value block, and to compact key-value
+ * partitions.
  */
 // TODO(binfan): move logic outside and make this a simple wrapper.
 @ThreadSafe
@@ -55,14 +64,14 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
   private static final Logger LOG =
       LoggerFactory.getLogger(KeyValueWorkerClientServiceHandler.class);
 
-  /** BlockWorker handler for access block info. */
-  private final BlockWorker mBlockWorker;
+  /** The readers of the partitions served by the worker. */
+  private final KeyValuePartitionReaderCache mReaderCache;
 
   /**
-   * @param blockWorker the {@link BlockWorker}
+   * @param readerCache the cache of the partition readers
    */
-  KeyValueWorkerClientServiceHandler(BlockWorker blockWorker) {
-    mBlockWorker = Preconditions.checkNotNull(blockWorker);
+  KeyValueWorkerClientServiceHandler(KeyValuePartitionReaderCache readerCache) {
+    mReaderCache = Preconditions.checkNotNull(readerCache);
   }
 
   @Override
@@ -80,14 +89,15 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
         if (value == null) {
           return new GetTResponse(ByteBuffer.allocate(0));
         }
-        return new GetTResponse(copyAsNonDirectBuffer(value));
+        return new GetTResponse(value);
       }
     });
   }
 
   private ByteBuffer copyAsNonDirectBuffer(ByteBuffer directBuffer) {
     // Thrift assumes the ByteBuffer returned has array() method, which is not true if the
-    // ByteBuffer is direct. We make a non-direct copy of the ByteBuffer to return.
+    // ByteBuffer is direct. We make a non-direct copy of the ByteBuffer to return. The copy also
+    // stays valid after the partition is unmapped.
     return BufferUtils.cloneByteBuffer(directBuffer);
   }
 
@@ -96,33 +106,15 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
    *
    * @param blockId Block Id
    * @param keyBuffer bytes of key
-   * @return key found in the key-value block or null if not found
+   * @return a copy of the value found in the key-value block or null if not found
    * @throws BlockDoesNotExistException if the worker is not serving this block
    */
   private ByteBuffer getInternal(long blockId, ByteBuffer keyBuffer)
-      throws BlockDoesNotExistException, IOException {
-    final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-    final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-    try {
-      return getReader(sessionId, lockId, blockId).get(keyBuffer);
-    } catch (InvalidWorkerStateException e) {
-      // We shall never reach here
-      LOG.error("Reaching invalid state to get a key", e);
-    } finally {
-      mBlockWorker.unlockBlock(lockId);
+      throws AlluxioException, IOException {
+    try (KeyValuePartitionReaderCache.Partition partition = mReaderCache.acquire(blockId)) {
+      ByteBuffer value = partition.getReader().get(keyBuffer);
+      return value == null ? null : copyAsNonDirectBuffer(value);
     }
-    return null;
-  }
-
-  private ByteBufferKeyValuePartitionReader getReader(long sessionId, long lockId, long blockId)
-      throws InvalidWorkerStateException, BlockDoesNotExistException, IOException {
-    BlockReader blockReader = mBlockWorker.readBlockRemote(sessionId, blockId, lockId);
-    ByteBuffer fileBuffer = blockReader.read(0, blockReader.getLength());
-    ByteBufferKeyValuePartitionReader reader = new ByteBufferKeyValuePartitionReader(fileBuffer);
-    // TODO(binfan): clean fileBuffer which is a direct byte buffer
-
-    blockReader.close();
-    return reader;
   }
 
   @Override
@@ -131,10 +123,8 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
     return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetNextKeysTResponse>() {
       @Override
       public GetNextKeysTResponse call() throws AlluxioException, IOException {
-        final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-        final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-        try {
-          ByteBufferKeyValuePartitionReader reader = getReader(sessionId, lockId, blockId);
+        try (KeyValuePartitionReaderCache.Partition partition = mReaderCache.acquire(blockId)) {
+          ByteBufferKeyValuePartitionReader reader = partition.getReader();
           Index index = reader.getIndex();
           PayloadReader payloadReader = reader.getPayloadReader();
 
@@ -149,35 +139,70 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
             currentKey = nextKey;
           }
           return new GetNextKeysTResponse(ret);
-        } catch (InvalidWorkerStateException e) {
-          // We shall never reach here
-          LOG.error("Reaching invalid state to get all keys", e);
-        } finally {
-          mBlockWorker.unlockBlock(lockId);
         }
-        return new GetNextKeysTResponse();
       }
     });
   }
 
-  // TODO(cc): Try to remove the duplicated try-catch logic in other methods like getNextKeys.
+  @Override
+  public ScanTResponse scan(final long blockId, final ByteBuffer startKey,
+      final ByteBuffer endKey, final int numPairs, ScanTOptions options)
+      throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<ScanTResponse>() {
+      @Override
+      public ScanTResponse call() throws AlluxioException, IOException {
+        try (KeyValuePartitionReaderCache.Partition partition = mReaderCache.acquire(blockId)) {
+          // Keys are never empty, so an empty key stands for no bound of the range.
+          List<KeyValuePair> pairs = partition.getReader().scan(
+              startKey.hasRemaining() ? startKey : null, endKey.hasRemaining() ? endKey : null,
+              numPairs);
+          List<ByteBuffer> keys = Lists.newArrayListWithExpectedSize(pairs.size());
+          List<ByteBuffer> values = Lists.newArrayListWithExpectedSize(pairs.size());
+          for (KeyValuePair pair : pairs) {
+            keys.add(copyAsNonDirectBuffer(pair.getKey()));
+            values.add(copyAsNonDirectBuffer(pair.getValue()));
+          }
+          return new ScanTResponse(keys, values);
+        }
+      }
+    });
+  }
+
+  @Override
+  public CompactTResponse compact(final List<PartitionInfo> partitions, final ByteBuffer startKey,
+      final ByteBuffer endKey, final String storePath, final String partitionPrefix,
+      CompactTOptions options) throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<CompactTResponse>() {
+      @Override
+      public CompactTResponse call() throws AlluxioException, IOException {
+        // The partitions are written as the user of this worker, so only the stores created by the
+        // caller to compact the given partitions into are accepted.
+        List<Long> blockIds = new ArrayList<>(partitions.size());
+        for (PartitionInfo partition : partitions) {
+          blockIds.add(partition.getBlockId());
+        }
+        try (KeyValueMasterClient masterClient =
+            new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress())) {
+          masterClient.checkCompaction(new AlluxioURI(storePath),
+              SecurityUtils.getOwnerFromThriftClient(), blockIds);
+        }
+        // Keys are never empty, so an empty key stands for no bound of the range.
+        return new CompactTResponse(KeyValueStoreCompactor.mergePartitions(partitions,
+            startKey.hasRemaining() ? startKey : null, endKey.hasRemaining() ? endKey : null,
+            new AlluxioURI(storePath), partitionPrefix));
+      }
+    });
+  }
+
   @Override
   public GetSizeTResponse getSize(final long blockId, GetSizeTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetSizeTResponse>() {
       @Override
       public GetSizeTResponse call() throws AlluxioException, IOException {
-        final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-        final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-        try {
-          return new GetSizeTResponse(getReader(sessionId, lockId, blockId).size());
-        } catch (InvalidWorkerStateException e) {
-          // We shall never reach here
-          LOG.error("Reaching invalid state to get size", e);
-        } finally {
-          mBlockWorker.unlockBlock(lockId);
+        try (KeyValuePartitionReaderCache.Partition partition = mReaderCache.acquire(blockId)) {
+          return new GetSizeTResponse(partition.getReader().size());
         }
-        return new GetSizeTResponse(0);
       }
     });
   }
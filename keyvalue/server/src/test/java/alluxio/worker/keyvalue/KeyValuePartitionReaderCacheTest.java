@@ -0,0 +1,183 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.keyvalue;
+
+import alluxio.Sessions;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.BlockStoreEventListener;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link KeyValuePartitionReaderCache}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({BufferUtils.class})
+public final class KeyValuePartitionReaderCacheTest {
+  private static final long SESSION_ID = Sessions.KEYVALUE_SESSION_ID;
+  private static final int PARTITION_SIZE = 64;
+  private static final long BLOCK_ID1 = 1;
+  private static final long BLOCK_ID2 = 2;
+  private static final long BLOCK_ID3 = 3;
+
+  private BlockWorker mBlockWorker;
+  private BlockStoreEventListener mListener;
+  /** The mapped partitions by block id, which are never actually unmapped by the tests. */
+  private Map<Long, ByteBuffer> mBuffers;
+  private KeyValuePartitionReaderCache mCache;
+
+  /**
+   * Sets up a cache of at most two partitions over a mocked block worker.
+   */
+  @Before
+  public void before() throws Exception {
+    PowerMockito.spy(BufferUtils.class);
+    PowerMockito.doNothing().when(BufferUtils.class);
+    BufferUtils.cleanDirectBuffer(Mockito.any(ByteBuffer.class));
+
+    mBlockWorker = Mockito.mock(BlockWorker.class);
+    mBuffers = new HashMap<>();
+    for (long blockId : new long[] {BLOCK_ID1, BLOCK_ID2, BLOCK_ID3}) {
+      ByteBuffer buffer = createPartition();
+      mBuffers.put(blockId, buffer);
+      BlockReader reader = Mockito.mock(BlockReader.class);
+      Mockito.when(reader.getLength()).thenReturn((long) PARTITION_SIZE);
+      Mockito.when(reader.read(0, PARTITION_SIZE)).thenReturn(buffer);
+      // The lock id of a lease is the block id, so it does not change between lookups.
+      Mockito.when(mBlockWorker.leaseBlock(SESSION_ID, blockId, Long.MAX_VALUE))
+          .thenReturn(blockId);
+      Mockito.when(mBlockWorker.readBlockRemote(SESSION_ID, blockId, blockId)).thenReturn(reader);
+    }
+    mCache = new KeyValuePartitionReaderCache(mBlockWorker, 2 * PARTITION_SIZE);
+
+    ArgumentCaptor<BlockStoreEventListener> listener =
+        ArgumentCaptor.forClass(BlockStoreEventListener.class);
+    Mockito.verify(mBlockWorker).registerBlockStoreEventListener(listener.capture());
+    mListener = listener.getValue();
+  }
+
+  /**
+   * Tests that lookups of a cached partition share its reader without mapping it again.
+   */
+  @Test
+  public void acquireCached() throws Exception {
+    KeyValuePartitionReaderCache.Partition partition = mCache.acquire(BLOCK_ID1);
+    partition.close();
+    KeyValuePartitionReaderCache.Partition again = mCache.acquire(BLOCK_ID1);
+    Assert.assertSame(partition, again);
+    Assert.assertNull(again.getReader().get("key".getBytes()));
+    again.close();
+
+    Mockito.verify(mBlockWorker).readBlockRemote(SESSION_ID, BLOCK_ID1, BLOCK_ID1);
+    Assert.assertEquals(1, mCache.size());
+    verifyUnmapped(BLOCK_ID1, 0);
+  }
+
+  /**
+   * Tests that the least recently used partition is evicted, unmapped and its lease released.
+   */
+  @Test
+  public void evictLeastRecentlyUsed() throws Exception {
+    mCache.acquire(BLOCK_ID1).close();
+    mCache.acquire(BLOCK_ID2).close();
+    // Accessing the first partition makes the second one the least recently used.
+    mCache.acquire(BLOCK_ID1).close();
+    mCache.acquire(BLOCK_ID3).close();
+
+    Assert.assertEquals(2, mCache.size());
+    Mockito.verify(mBlockWorker).releaseBlockLease(SESSION_ID, BLOCK_ID2);
+    Mockito.verify(mBlockWorker, Mockito.never()).releaseBlockLease(SESSION_ID, BLOCK_ID1);
+    verifyUnmapped(BLOCK_ID1, 0);
+    verifyUnmapped(BLOCK_ID2, 1);
+    verifyUnmapped(BLOCK_ID3, 0);
+  }
+
+  /**
+   * Tests that an evicted partition is only unmapped once the lookup using it releases it.
+   */
+  @Test
+  public void deferUnmapWhileAcquired() throws Exception {
+    KeyValuePartitionReaderCache.Partition partition = mCache.acquire(BLOCK_ID1);
+    mCache.acquire(BLOCK_ID2).close();
+    mCache.acquire(BLOCK_ID3).close();
+
+    Assert.assertEquals(2, mCache.size());
+    Mockito.verify(mBlockWorker).releaseBlockLease(SESSION_ID, BLOCK_ID1);
+    verifyUnmapped(BLOCK_ID1, 0);
+    Assert.assertNull(partition.getReader().get("key".getBytes()));
+
+    partition.close();
+    verifyUnmapped(BLOCK_ID1, 1);
+  }
+
+  /**
+   * Tests that a partition is dropped and unmapped when its block is removed or moved.
+   */
+  @Test
+  public void invalidateOnRemoveOrMove() throws Exception {
+    BlockStoreLocation location = BlockStoreLocation.anyTier();
+    mCache.acquire(BLOCK_ID1).close();
+    KeyValuePartitionReaderCache.Partition partition = mCache.acquire(BLOCK_ID2);
+
+    mListener.onRemoveBlockByWorker(SESSION_ID, BLOCK_ID1);
+    mListener.onMoveBlockByWorker(SESSION_ID, BLOCK_ID2, location, location);
+    Assert.assertEquals(0, mCache.size());
+    verifyUnmapped(BLOCK_ID1, 1);
+    // The partition still used by a lookup is unmapped once released.
+    verifyUnmapped(BLOCK_ID2, 0);
+    partition.close();
+    verifyUnmapped(BLOCK_ID2, 1);
+
+    // A dropped partition is mapped again on its next lookup.
+    mCache.acquire(BLOCK_ID1).close();
+    Mockito.verify(mBlockWorker, Mockito.times(2)).readBlockRemote(SESSION_ID, BLOCK_ID1,
+        BLOCK_ID1);
+    mCache.acquire(BLOCK_ID3).close();
+    mListener.onRemoveBlockByClient(SESSION_ID, BLOCK_ID1);
+    mListener.onMoveBlockByClient(SESSION_ID, BLOCK_ID3, location, location);
+    Assert.assertEquals(0, mCache.size());
+    verifyUnmapped(BLOCK_ID1, 2);
+    verifyUnmapped(BLOCK_ID3, 1);
+
+    // The leases were revoked by the worker before the blocks were removed or moved.
+    Mockito.verify(mBlockWorker, Mockito.never())
+        .releaseBlockLease(Mockito.anyLong(), Mockito.anyLong());
+  }
+
+  /**
+   * @return an empty partition with an empty linear probing index
+   */
+  private static ByteBuffer createPartition() {
+    // The index offset in the last four bytes is 0, and the index starts with a key count of 0.
+    return ByteBuffer.allocateDirect(PARTITION_SIZE);
+  }
+
+  private void verifyUnmapped(long blockId, int times) {
+    PowerMockito.verifyStatic(Mockito.times(times));
+    BufferUtils.cleanDirectBuffer(Mockito.same(mBuffers.get(blockId)));
+  }
+}
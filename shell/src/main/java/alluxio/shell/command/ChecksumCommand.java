@@ -12,6 +12,7 @@
 package alluxio.shell.command;
 
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.client.ReadType;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
@@ -20,8 +21,11 @@ import alluxio.client.file.options.OpenFileOptions;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.FileDoesNotExistException;
+import alluxio.util.io.CRC32C;
 
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
 import org.apache.commons.codec.digest.DigestUtils;
 
 import java.io.IOException;
@@ -29,11 +33,18 @@ import java.io.IOException;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * Calculates the MD5 checksum for a file.
+ * Calculates the MD5 checksum for a file, or gets its CRC32C checksum from the master.
  */
 @ThreadSafe
 public final class ChecksumCommand extends AbstractShellCommand {
 
+  private static final Option CRC32C_OPTION =
+      Option.builder("crc32c")
+          .required(false)
+          .hasArg(false)
+          .desc("get the CRC32C checksum of the file from the master without reading the file")
+          .build();
+
   /**
    * @param fs the filesystem of Alluxio
    */
@@ -51,6 +62,11 @@ public final class ChecksumCommand extends AbstractShellCommand {
     return 1;
   }
 
+  @Override
+  public Options getOptions() {
+    return new Options().addOption(CRC32C_OPTION);
+  }
+
   @Override
   public int run(CommandLine cl) throws AlluxioException, IOException {
     String[] args = cl.getArgs();
@@ -59,11 +75,39 @@ public final class ChecksumCommand extends AbstractShellCommand {
     if (status.isFolder()) {
       throw new FileDoesNotExistException(ExceptionMessage.PATH_MUST_BE_FILE.getMessage(args[0]));
     }
+    if (cl.hasOption("crc32c")) {
+      long crc = mFileSystem.getFileChecksum(loc);
+      if (crc == Constants.UNKNOWN_CHECKSUM) {
+        // The file is not complete, or some of its blocks were never written to Alluxio.
+        crc = calculateCrc32c(loc);
+      }
+      System.out.println(String.format("crc32c: %08x", crc));
+      return 0;
+    }
     String str = calculateChecksum(loc);
     System.out.println("md5sum: " + str);
     return 0;
   }
 
+  /**
+   * Calculates the CRC32C checksum for a file by reading it.
+   *
+   * @param filePath The {@link AlluxioURI} path of the file calculate the checksum on
+   * @return the CRC32C checksum of the file
+   */
+  private long calculateCrc32c(AlluxioURI filePath) throws AlluxioException, IOException {
+    OpenFileOptions options = OpenFileOptions.defaults().setReadType(ReadType.NO_CACHE);
+    CRC32C crc = new CRC32C();
+    byte[] buf = new byte[Constants.MB];
+    try (FileInStream fis = mFileSystem.openFile(filePath, options)) {
+      int read;
+      while ((read = fis.read(buf)) != -1) {
+        crc.update(buf, 0, read);
+      }
+    }
+    return crc.getValue();
+  }
+
   /**
    * Calculates the md5 checksum for a file.
    *
@@ -80,11 +124,13 @@ public final class ChecksumCommand extends AbstractShellCommand {
 
   @Override
   public String getUsage() {
-    return "checksum <Alluxio path>";
+    return "checksum [-crc32c] <Alluxio path>";
   }
 
   @Override
   public String getDescription() {
-    return "Calculates the md5 checksum of a file in the Alluxio filesystem.";
+    return "Calculates the md5 checksum of a file in the Alluxio filesystem."
+        + " Specify -crc32c to get the CRC32C checksum of the file, which the master composes from"
+        + " the checksums of the blocks without reading the file when they are available.";
   }
 }
@@ -19,9 +19,14 @@ import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.options.OpenFileOptions;
 import alluxio.exception.AlluxioException;
+import alluxio.util.CommonUtils;
+import alluxio.util.FormatUtils;
+import alluxio.wire.LoadJobInfo;
 
 import com.google.common.io.Closer;
 import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
 
 import java.io.IOException;
 import java.util.List;
@@ -30,10 +35,32 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Loads a file or directory in Alluxio space, making it resident in memory.
+ *
+ * By default, the master schedules the workers to read the blocks from the under storage, and this
+ * command only waits for the load to complete, or for the time given with the -timeout option.
+ * With the -local option, the data is read through this client, which caches it in the local
+ * worker if there is one.
  */
 @ThreadSafe
 public final class LoadCommand extends WithWildCardPathCommand {
 
+  private static final Option LOCAL_OPTION =
+      Option.builder("local")
+          .required(false)
+          .hasArg(false)
+          .desc("load the data by reading it through this client")
+          .build();
+
+  private static final Option TIMEOUT_OPTION =
+      Option.builder("timeout")
+          .required(false)
+          .numberOfArgs(1)
+          .desc("the time to wait for the load to complete, e.g. 30sec or 10min")
+          .build();
+
+  /** The time to wait for a load to complete, or -1 to wait until it completes. */
+  private long mTimeoutMs = -1;
+
   /**
    * Constructs a new instance to load a file or directory in Alluxio space.
    *
@@ -43,28 +70,86 @@ public final class LoadCommand extends WithWildCardPathCommand {
     super(fs);
   }
 
+  @Override
+  public Options getOptions() {
+    return new Options().addOption(LOCAL_OPTION).addOption(TIMEOUT_OPTION);
+  }
+
   @Override
   public String getCommandName() {
     return "load";
   }
 
+  @Override
+  public CommandLine parseAndValidateArgs(String... args) {
+    CommandLine cmd = super.parseAndValidateArgs(args);
+    mTimeoutMs = -1;
+    if (cmd == null || !cmd.hasOption("timeout")) {
+      return cmd;
+    }
+    try {
+      mTimeoutMs = FormatUtils.parseTimeSize(cmd.getOptionValue("timeout"));
+    } catch (Exception e) {
+      System.err.println("timeout should be a time, e.g. 30sec or 10min");
+      return null;
+    }
+    return cmd;
+  }
+
   @Override
   protected void runCommand(AlluxioURI path, CommandLine cl) throws AlluxioException, IOException {
-    load(path);
+    if (cl.hasOption("local")) {
+      loadLocal(path);
+    } else {
+      load(path);
+    }
+  }
+
+  /**
+   * Loads a file or directory in Alluxio space on the workers, and waits for the load to complete.
+   *
+   * @param path The {@link AlluxioURI} path to load into Alluxio memory
+   */
+  private void load(AlluxioURI path) throws AlluxioException, IOException {
+    long startMs = CommonUtils.getCurrentMs();
+    LoadJobInfo jobInfo = mFileSystem.load(path);
+    long loadedBlocks = -1;
+    while (!jobInfo.isCompleted()) {
+      if (jobInfo.getLoadedBlocks() != loadedBlocks) {
+        loadedBlocks = jobInfo.getLoadedBlocks();
+        System.out.println(String.format("Loading %s: %d of %d blocks loaded", path,
+            loadedBlocks, jobInfo.getTotalBlocks()));
+      }
+      if (mTimeoutMs >= 0 && CommonUtils.getCurrentMs() - startMs >= mTimeoutMs) {
+        // The workers keep loading the blocks, and loading the path again waits for the same job.
+        throw new IOException(String.format(
+            "Timed out after %dms waiting for %s to load: %d of %d blocks loaded, %d failed",
+            mTimeoutMs, path, jobInfo.getLoadedBlocks(), jobInfo.getTotalBlocks(),
+            jobInfo.getFailedBlocks()));
+      }
+      CommonUtils.sleepMs(Constants.SECOND_MS);
+      jobInfo = mFileSystem.getLoadJobInfo(jobInfo.getId());
+    }
+    if (jobInfo.getFailedBlocks() > 0) {
+      throw new IOException(String.format("Failed to load %d of %d blocks of %s",
+          jobInfo.getFailedBlocks(), jobInfo.getTotalBlocks(), path));
+    }
+    System.out.println(path + " loaded");
   }
 
   /**
-   * Loads a file or directory in Alluxio space, makes it resident in memory.
+   * Loads a file or directory in Alluxio space by reading it through this client, makes it
+   * resident in memory.
    *
    * @param filePath The {@link AlluxioURI} path to load into Alluxio memory
    */
-  private void load(AlluxioURI filePath) throws AlluxioException, IOException {
+  private void loadLocal(AlluxioURI filePath) throws AlluxioException, IOException {
     URIStatus status = mFileSystem.getStatus(filePath);
     if (status.isFolder()) {
       List<URIStatus> statuses = mFileSystem.listStatus(filePath);
       for (URIStatus uriStatus : statuses) {
         AlluxioURI newPath = new AlluxioURI(uriStatus.getPath());
-        load(newPath);
+        loadLocal(newPath);
       }
     } else {
       if (status.getInMemoryPercentage() == 100) {
@@ -89,12 +174,14 @@ public final class LoadCommand extends WithWildCardPathCommand {
 
   @Override
   public String getUsage() {
-    return "load <path>";
+    return "load [-local] [-timeout <time>] <path>";
   }
 
   @Override
   public String getDescription() {
-    return "Loads a file or directory in Alluxio space, makes it resident in memory.";
+    return "Loads a file or directory in Alluxio space, makes it resident in memory."
+        + " Specify -local to read the data through this client instead of the workers."
+        + " Specify -timeout to stop waiting for the workers after the given time, e.g. 10min.";
   }
 
   @Override
@@ -13,6 +13,7 @@ package alluxio;
 
 import alluxio.client.file.FileSystemMasterClient;
 import alluxio.client.file.options.GetStatusOptions;
+import alluxio.collections.LongHashSet;
 import alluxio.heartbeat.HeartbeatContext;
 import alluxio.heartbeat.HeartbeatScheduler;
 import alluxio.util.CommonUtils;
@@ -25,8 +26,6 @@ import com.google.common.base.Throwables;
 import org.powermock.reflect.Whitebox;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * Util methods for writing integration tests.
@@ -89,8 +88,13 @@ public final class IntegrationTestUtils {
         @Override
         public Boolean apply(Void input) {
           BlockHeartbeatReporter reporter = Whitebox.getInternalState(bw, "mHeartbeatReporter");
-          List<Long> blocksToRemove = Whitebox.getInternalState(reporter, "mRemovedBlocks");
-          return blocksToRemove.containsAll(Arrays.asList(blockIds));
+          LongHashSet blocksToRemove = Whitebox.getInternalState(reporter, "mRemovedBlocks");
+          for (long blockId : blockIds) {
+            if (!blocksToRemove.contains(blockId)) {
+              return false;
+            }
+          }
+          return true;
         }
       }, WaitForOptions.defaults().setTimeoutMs(100 * Constants.SECOND_MS));
 
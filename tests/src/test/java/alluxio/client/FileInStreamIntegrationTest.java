@@ -23,6 +23,7 @@ import alluxio.client.file.FileSystemTestUtils;
 import alluxio.client.file.options.CreateFileOptions;
 import alluxio.client.file.options.OpenFileOptions;
 import alluxio.security.authorization.Mode;
+import alluxio.util.CommonUtils;
 import alluxio.util.io.BufferUtils;
 import alluxio.util.io.PathUtils;
 
@@ -158,6 +159,66 @@ public final class FileInStreamIntegrationTest extends BaseIntegrationTest {
     }
   }
 
+  /**
+   * Tests {@link FileInStream#read(byte[])} with short-circuit reads through memory maps, where
+   * the second read of each block uses the block leased by the first read.
+   */
+  @Test
+  @LocalAlluxioClusterResource.Config(
+      confParams = {PropertyKey.Name.USER_SHORT_CIRCUIT_MMAP_ENABLED, "true"})
+  public void readWithMmap() throws Exception {
+    for (int k = MIN_LEN; k <= MAX_LEN; k += DELTA) {
+      for (CreateFileOptions op : getOptionSet()) {
+        String filename = mTestPath + "/file_" + k + "_" + op.hashCode();
+        AlluxioURI uri = new AlluxioURI(filename);
+
+        for (int i = 0; i < 2; i++) {
+          FileInStream is = mFileSystem.openFile(uri, FileSystemTestUtils.toOpenFileOptions(op));
+          byte[] ret = new byte[k];
+          Assert.assertEquals(k, is.read(ret));
+          Assert.assertTrue(BufferUtils.equalIncreasingByteArray(k, ret));
+          is.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests short-circuit reads through memory maps when the leases lapse in the middle of a read.
+   * The block being read stays mapped until it is released, and the lapsed blocks are leased and
+   * mapped again on their next read.
+   */
+  @Test
+  @LocalAlluxioClusterResource.Config(
+      confParams = {PropertyKey.Name.USER_SHORT_CIRCUIT_MMAP_ENABLED, "true",
+          PropertyKey.Name.USER_SHORT_CIRCUIT_LEASE_MS, "200"})
+  public void readWithMmapAfterLeasesLapse() throws Exception {
+    String filename = mTestPath + "/file_" + MAX_LEN + "_" + mWriteAlluxio.hashCode();
+    AlluxioURI uri = new AlluxioURI(filename);
+    OpenFileOptions options = FileSystemTestUtils.toOpenFileOptions(mWriteAlluxio);
+
+    FileInStream is = mFileSystem.openFile(uri, options);
+    byte[] ret = new byte[MAX_LEN];
+    int half = BLOCK_SIZE + BLOCK_SIZE / 2;
+    Assert.assertEquals(half, is.read(ret, 0, half));
+    // Waits for the sweeps to drop the blocks of the file.
+    CommonUtils.sleepMs(1000);
+    int read = half;
+    while (read < MAX_LEN) {
+      int n = is.read(ret, read, MAX_LEN - read);
+      Assert.assertTrue(n > 0);
+      read += n;
+    }
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(MAX_LEN, ret));
+    is.close();
+
+    is = mFileSystem.openFile(uri, options);
+    ret = new byte[MAX_LEN];
+    Assert.assertEquals(MAX_LEN, is.read(ret));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(MAX_LEN, ret));
+    is.close();
+  }
+
   /**
    * Tests {@link FileInStream#read(byte[], int, int)}.
    */
@@ -0,0 +1,117 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.Constants;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.client.concurrent.ConcurrencyTestUtils;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.PathUtils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Integration tests for reading and writing blocks on streams multiplexed over shared netty
+ * channels.
+ */
+public final class MultiplexedStreamIntegrationTest extends BaseIntegrationTest {
+  private static final int FILE_LENGTH = 64 * Constants.KB;
+  private static final int STREAMS = 8;
+
+  @Rule
+  public LocalAlluxioClusterResource mLocalAlluxioClusterResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.USER_NETWORK_NETTY_MULTIPLEX_ENABLED, true)
+          .setProperty(PropertyKey.USER_NETWORK_NETTY_MULTIPLEX_CHANNELS, 2)
+          .setProperty(PropertyKey.USER_SHORT_CIRCUIT_ENABLED, false)
+          .setProperty(PropertyKey.USER_NETWORK_NETTY_READER_PACKET_SIZE_BYTES, "1KB")
+          .setProperty(PropertyKey.USER_NETWORK_NETTY_WRITER_PACKET_SIZE_BYTES, "1KB")
+          .build();
+
+  private FileSystem mFileSystem;
+
+  @Before
+  public void before() throws Exception {
+    mFileSystem = mLocalAlluxioClusterResource.get().getClient();
+  }
+
+  /**
+   * Tests that concurrent streams sharing channels each write and read back their own data.
+   */
+  @Test
+  public void concurrentStreams() throws Exception {
+    final String uniqPath = PathUtils.uniqPath();
+    List<Runnable> runnables = new ArrayList<>();
+    for (int i = 0; i < STREAMS; i++) {
+      final AlluxioURI uri = new AlluxioURI(uniqPath + "/file_" + i);
+      final int length = FILE_LENGTH + i;
+      runnables.add(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            FileSystemTestUtils.createByteFile(mFileSystem, uri, WriteType.MUST_CACHE, length);
+            try (FileInStream is = mFileSystem.openFile(uri)) {
+              byte[] ret = new byte[length];
+              int read = 0;
+              while (read < length) {
+                int n = is.read(ret, read, length - read);
+                Assert.assertTrue(n > 0);
+                read += n;
+              }
+              Assert.assertEquals(-1, is.read());
+              Assert.assertTrue(BufferUtils.equalIncreasingByteArray(length, ret));
+            }
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+        }
+      });
+    }
+    ConcurrencyTestUtils.assertConcurrent(runnables, 60);
+  }
+
+  /**
+   * Tests that closing a stream before reading all of it does not affect the other streams on
+   * the channel.
+   */
+  @Test
+  public void partialRead() throws Exception {
+    AlluxioURI uri = new AlluxioURI(PathUtils.uniqPath());
+    FileSystemTestUtils.createByteFile(mFileSystem, uri, WriteType.MUST_CACHE, FILE_LENGTH);
+    for (int i = 0; i < STREAMS; i++) {
+      try (FileInStream is = mFileSystem.openFile(uri)) {
+        Assert.assertEquals(0, is.read());
+        Assert.assertEquals(1, is.read());
+      }
+    }
+    try (FileInStream is = mFileSystem.openFile(uri)) {
+      byte[] ret = new byte[FILE_LENGTH];
+      int read = 0;
+      while (read < FILE_LENGTH) {
+        read += is.read(ret, read, FILE_LENGTH - read);
+      }
+      Assert.assertTrue(BufferUtils.equalIncreasingByteArray(FILE_LENGTH, ret));
+    }
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.Constants;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.file.FileSystemContext;
+import alluxio.thrift.PartitionInfo;
+import alluxio.util.io.PathUtils;
+import alluxio.wire.WorkerNetAddress;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Integration tests for {@link KeyValueSystem#compactStore} and
+ * {@link KeyValueSystem#bulkLoadStore}.
+ */
+public final class KeyValueStoreCompactionIntegrationTest extends BaseIntegrationTest {
+  /** Each partition holds about 20 key-value pairs. */
+  private static final int PARTITION_SIZE = 2 * Constants.KB;
+  private static final int VALUE_LENGTH = 50;
+
+  private KeyValueSystem mKeyValueSystem;
+  private AlluxioURI mDirUri;
+
+  @ClassRule
+  public static LocalAlluxioClusterResource sLocalAlluxioClusterResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.WORKER_MEMORY_SIZE, Constants.GB)
+          .setProperty(PropertyKey.KEY_VALUE_ENABLED, true)
+          .setProperty(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.SORTED.name())
+          .setProperty(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX, PARTITION_SIZE)
+          .setProperty(PropertyKey.KEY_VALUE_SCAN_BATCH_SIZE, 7)
+          .setProperty(PropertyKey.KEY_VALUE_BULK_LOAD_BUFFER_SIZE_BYTES, 3 * Constants.KB)
+          .setProperty(PropertyKey.KEY_VALUE_BULK_LOAD_THREADS, 2)
+          .build();
+
+  @Before
+  public void before() throws Exception {
+    mKeyValueSystem = KeyValueSystem.Factory.create();
+    mDirUri = new AlluxioURI(PathUtils.uniqPath());
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%04d", i).getBytes();
+  }
+
+  private static byte[] value(String prefix, int i) {
+    byte[] value = new byte[VALUE_LENGTH];
+    byte[] prefixBytes = String.format("%s%04d", prefix, i).getBytes();
+    System.arraycopy(prefixBytes, 0, value, 0, prefixBytes.length);
+    return value;
+  }
+
+  private AlluxioURI createStore(String name, String valuePrefix, int start, int end, int step)
+      throws Exception {
+    AlluxioURI uri = mDirUri.join(name);
+    KeyValueStoreWriter writer = mKeyValueSystem.createStore(uri);
+    for (int i = start; i < end; i += step) {
+      writer.put(key(i), value(valuePrefix, i));
+    }
+    writer.close();
+    return uri;
+  }
+
+  /**
+   * @param uri the URI of a store
+   * @return whether the key ranges of some partitions of the store overlap
+   */
+  private static boolean isOverlapping(AlluxioURI uri) throws Exception {
+    KeyValueMasterClient client =
+        new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress());
+    List<PartitionInfo> partitions = new ArrayList<>(client.getPartitionInfo(uri));
+    client.close();
+    Collections.sort(partitions, new Comparator<PartitionInfo>() {
+      @Override
+      public int compare(PartitionInfo a, PartitionInfo b) {
+        return a.bufferForKeyStart().compareTo(b.bufferForKeyStart());
+      }
+    });
+    for (int i = 1; i < partitions.size(); i++) {
+      if (partitions.get(i).bufferForKeyStart()
+          .compareTo(partitions.get(i - 1).bufferForKeyLimit()) <= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks that a store has exactly the expected key-value pairs by a scan in key order, and that
+   * lookups of every fifth key return the expected values, since each lookup takes a few RPCs.
+   *
+   * @param uri the URI of the store
+   * @param expected the expected values by key index, null for keys not in the store
+   */
+  private void assertStore(AlluxioURI uri, byte[][] expected) throws Exception {
+    KeyValueStoreReader reader = mKeyValueSystem.openStore(uri);
+    KeyValueIterator iterator = reader.scan(null, null);
+    for (int i = 0; i < expected.length; i++) {
+      if (i % 5 == 0) {
+        Assert.assertArrayEquals(expected[i], reader.get(key(i)));
+      }
+      if (expected[i] == null) {
+        continue;
+      }
+      Assert.assertTrue(iterator.hasNext());
+      KeyValuePair pair = iterator.next();
+      Assert.assertEquals(ByteBuffer.wrap(key(i)), pair.getKey());
+      Assert.assertEquals(ByteBuffer.wrap(expected[i]), pair.getValue());
+    }
+    Assert.assertFalse(iterator.hasNext());
+    reader.close();
+  }
+
+  /**
+   * Tests that a store with overlapping partitions after a merge is readable, and is compacted
+   * into non-overlapping partitions with the same key-value pairs.
+   */
+  @Test
+  public void compactMergedStore() throws Exception {
+    int numKeys = 300;
+    AlluxioURI toUri = createStore("to", "a", 0, numKeys, 2);
+    AlluxioURI fromUri = createStore("from", "b", 0, numKeys, 3);
+    byte[][] expected = new byte[numKeys][];
+    for (int i = 0; i < numKeys; i++) {
+      if (i % 2 == 0) {
+        // The partitions of the store merged to come first.
+        expected[i] = value("a", i);
+      } else if (i % 3 == 0) {
+        expected[i] = value("b", i);
+      }
+    }
+
+    mKeyValueSystem.mergeStore(fromUri, toUri);
+    Assert.assertTrue(isOverlapping(toUri));
+    assertStore(toUri, expected);
+
+    mKeyValueSystem.compactStore(toUri);
+    Assert.assertFalse(isOverlapping(toUri));
+    assertStore(toUri, expected);
+    // Only the compacted store is left.
+    Assert.assertEquals(1,
+        sLocalAlluxioClusterResource.get().getClient().listStatus(mDirUri).size());
+  }
+
+  /**
+   * Tests that a store bulk loaded from key-value pairs in random order has non-overlapping
+   * partitions with all the pairs, keeping the last value put for a key put twice in a run.
+   */
+  @Test
+  public void bulkLoad() throws Exception {
+    int numKeys = 500;
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = 0; i < numKeys; i++) {
+      indexes.add(i);
+    }
+    Collections.shuffle(indexes, new Random(0));
+    AlluxioURI uri = mDirUri.join("store");
+    KeyValueStoreWriter writer = mKeyValueSystem.bulkLoadStore(uri);
+    byte[][] expected = new byte[numKeys][];
+    for (int i : indexes) {
+      if (i % 7 == 0) {
+        continue;
+      }
+      writer.put(key(i), value("old", i));
+      writer.put(key(i), value("new", i));
+      expected[i] = value("new", i);
+    }
+    writer.close();
+
+    Assert.assertTrue(
+        sLocalAlluxioClusterResource.get().getClient().listStatus(uri).size() > 1);
+    Assert.assertFalse(isOverlapping(uri));
+    assertStore(uri, expected);
+    // The temporary store of the sorted runs is deleted.
+    Assert.assertEquals(1,
+        sLocalAlluxioClusterResource.get().getClient().listStatus(mDirUri).size());
+  }
+
+  /**
+   * Tests that a bulk loaded store keeps the last value put for a key put again in a later run.
+   */
+  @Test
+  public void bulkLoadDuplicateKeysAcrossRuns() throws Exception {
+    // Each pass over the keys fills several runs.
+    int numKeys = 200;
+    AlluxioURI uri = mDirUri.join("store");
+    KeyValueStoreWriter writer = mKeyValueSystem.bulkLoadStore(uri);
+    byte[][] expected = new byte[numKeys][];
+    for (int i = 0; i < numKeys; i++) {
+      writer.put(key(i), value("old", i));
+      expected[i] = value("old", i);
+    }
+    for (int i = numKeys - 1; i >= 0; i -= 2) {
+      writer.put(key(i), value("new", i));
+      expected[i] = value("new", i);
+    }
+    writer.close();
+
+    Assert.assertFalse(isOverlapping(uri));
+    assertStore(uri, expected);
+  }
+
+  /**
+   * Tests that the workers only compact partitions into a store created to compact the store of
+   * the partitions into.
+   */
+  @Test
+  public void compactOnlyIntoCompactionStore() throws Exception {
+    AlluxioURI uri = createStore("store", "a", 0, 100, 1);
+    AlluxioURI otherUri = createStore("other", "b", 0, 100, 1);
+    AlluxioURI plainUri = mDirUri.join("plain");
+    AlluxioURI compactionUri = mDirUri.join("compaction");
+    WorkerNetAddress address =
+        AlluxioBlockStore.create().getWorkerInfoList().get(0).getNetAddress();
+    try (KeyValueMasterClient masterClient =
+        new KeyValueMasterClient(FileSystemContext.INSTANCE.getMasterAddress());
+        KeyValueWorkerClient workerClient = new KeyValueWorkerClient(address)) {
+      List<PartitionInfo> partitions = masterClient.getPartitionInfo(uri);
+      masterClient.createStore(plainUri);
+      masterClient.createStore(compactionUri, uri);
+      // a store which was not created for a compaction
+      assertCompactFails(workerClient, partitions, plainUri);
+      // the partitions of a store other than the one being compacted
+      assertCompactFails(workerClient, masterClient.getPartitionInfo(otherUri), compactionUri);
+      Assert.assertEquals(100, workerClient.compact(partitions, null, null, compactionUri, "p"));
+    }
+  }
+
+  private static void assertCompactFails(KeyValueWorkerClient client,
+      List<PartitionInfo> partitions, AlluxioURI storeUri) {
+    try {
+      client.compact(partitions, null, null, storeUri, "p");
+      Assert.fail("Compacting into " + storeUri + " should fail");
+    } catch (Exception e) {
+      // expected
+    }
+  }
+
+  /**
+   * Tests that a canceled bulk load leaves no store behind.
+   */
+  @Test
+  public void cancelBulkLoad() throws Exception {
+    KeyValueStoreWriter writer = mKeyValueSystem.bulkLoadStore(mDirUri.join("store"));
+    for (int i = 0; i < 100; i++) {
+      writer.put(key(i), value("a", i));
+    }
+    writer.cancel();
+    Assert.assertTrue(
+        sLocalAlluxioClusterResource.get().getClient().listStatus(mDirUri).isEmpty());
+  }
+}
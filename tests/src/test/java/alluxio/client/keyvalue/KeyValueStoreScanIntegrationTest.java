@@ -0,0 +1,127 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.Constants;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.util.io.PathUtils;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Integration tests for {@link KeyValueStoreReader#scan} and
+ * {@link KeyValueStoreReader#prefixScan} on a store of sorted partitions.
+ */
+public final class KeyValueStoreScanIntegrationTest extends BaseIntegrationTest {
+  private static final int NUM_KEYS = 200;
+  private static final int VALUE_LENGTH = 100;
+  /** Each partition holds about 20 key-value pairs. */
+  private static final int PARTITION_SIZE = 2 * Constants.KB;
+
+  private static AlluxioURI sStoreUri;
+  private static KeyValueStoreReader sReader;
+
+  @ClassRule
+  public static LocalAlluxioClusterResource sLocalAlluxioClusterResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.WORKER_MEMORY_SIZE, Constants.GB)
+          .setProperty(PropertyKey.KEY_VALUE_ENABLED, true)
+          .setProperty(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.SORTED.name())
+          .setProperty(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX, PARTITION_SIZE)
+          .setProperty(PropertyKey.KEY_VALUE_SCAN_BATCH_SIZE, 7)
+          .build();
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    KeyValueSystem keyValueSystem = KeyValueSystem.Factory.create();
+    sStoreUri = new AlluxioURI(PathUtils.uniqPath());
+    KeyValueStoreWriter writer = keyValueSystem.createStore(sStoreUri);
+    for (int i = 0; i < NUM_KEYS; i++) {
+      writer.put(key(i), value(i));
+    }
+    writer.close();
+    sReader = keyValueSystem.openStore(sStoreUri);
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%04d", i).getBytes();
+  }
+
+  private static byte[] value(int i) {
+    byte[] value = new byte[VALUE_LENGTH];
+    Arrays.fill(value, (byte) i);
+    return value;
+  }
+
+  /**
+   * Checks that an iterator returns the key-value pairs of the keys in a range, in order.
+   *
+   * @param iterator the iterator
+   * @param start the index of the first key
+   * @param end the index after the last key
+   */
+  private static void assertPairs(KeyValueIterator iterator, int start, int end)
+      throws Exception {
+    for (int i = start; i < end; i++) {
+      Assert.assertTrue(iterator.hasNext());
+      KeyValuePair pair = iterator.next();
+      Assert.assertEquals(ByteBuffer.wrap(key(i)), pair.getKey());
+      Assert.assertEquals(ByteBuffer.wrap(value(i)), pair.getValue());
+    }
+    Assert.assertFalse(iterator.hasNext());
+  }
+
+  /**
+   * Tests that the store has multiple partitions, and that a scan without bounds returns all the
+   * key-value pairs in order.
+   */
+  @Test
+  public void scanAll() throws Exception {
+    Assert.assertTrue(sLocalAlluxioClusterResource.get().getClient().listStatus(sStoreUri).size()
+        > 1);
+    assertPairs(sReader.scan(null, null), 0, NUM_KEYS);
+  }
+
+  /**
+   * Tests scans of ranges spanning partitions, and of ranges with no keys.
+   */
+  @Test
+  public void scanRange() throws Exception {
+    assertPairs(sReader.scan(ByteBuffer.wrap(key(13)), ByteBuffer.wrap(key(150))), 13, 150);
+    assertPairs(sReader.scan(ByteBuffer.wrap(key(190)), null), 190, NUM_KEYS);
+    assertPairs(sReader.scan(null, ByteBuffer.wrap(key(5))), 0, 5);
+    assertPairs(sReader.scan(ByteBuffer.wrap("key0010a".getBytes()),
+        ByteBuffer.wrap("key0011".getBytes())), 0, 0);
+    assertPairs(sReader.scan(ByteBuffer.wrap("z".getBytes()), null), 0, 0);
+  }
+
+  /**
+   * Tests scans of the keys with a prefix.
+   */
+  @Test
+  public void prefixScan() throws Exception {
+    assertPairs(sReader.prefixScan(ByteBuffer.wrap("key01".getBytes())), 100, 200);
+    assertPairs(sReader.prefixScan(ByteBuffer.wrap("key002".getBytes())), 20, 30);
+    assertPairs(sReader.prefixScan(ByteBuffer.wrap("key0042".getBytes())), 42, 43);
+    assertPairs(sReader.prefixScan(ByteBuffer.wrap(new byte[0])), 0, NUM_KEYS);
+    assertPairs(sReader.prefixScan(ByteBuffer.wrap("nokey".getBytes())), 0, 0);
+  }
+}
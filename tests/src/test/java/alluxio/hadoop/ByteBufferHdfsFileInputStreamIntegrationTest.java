@@ -0,0 +1,75 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.hadoop;
+
+import alluxio.BaseIntegrationTest;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.util.io.BufferUtils;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.Path;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+/**
+ * Integration tests for {@link ByteBufferHdfsFileInputStream}.
+ */
+public final class ByteBufferHdfsFileInputStreamIntegrationTest extends BaseIntegrationTest {
+  private static final int FILE_LEN = 255;
+  private static final String FILE = "/byteBufferFile";
+
+  @ClassRule
+  public static LocalAlluxioClusterResource sLocalAlluxioClusterResource =
+      new LocalAlluxioClusterResource.Builder().build();
+  private static org.apache.hadoop.fs.FileSystem sTFS;
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    Configuration conf = new Configuration();
+    conf.set("fs.alluxio.impl", FileSystem.class.getName());
+
+    alluxio.client.file.FileSystem alluxioFS = sLocalAlluxioClusterResource.get().getClient();
+    FileSystemTestUtils.createByteFile(alluxioFS, FILE, WriteType.MUST_CACHE, FILE_LEN);
+
+    URI uri = URI.create(sLocalAlluxioClusterResource.get().getMasterURI());
+    sTFS = org.apache.hadoop.fs.FileSystem.get(uri, conf);
+  }
+
+  /**
+   * Tests that {@link FileSystem#open(Path)} returns a stream which reads into direct buffers.
+   */
+  @Test
+  public void readDirectBuffer() throws Exception {
+    try (FSDataInputStream inStream = sTFS.open(new Path(FILE))) {
+      Assert.assertTrue(inStream.getWrappedStream() instanceof ByteBufferHdfsFileInputStream);
+      ByteBuffer buf = ByteBuffer.allocateDirect(FILE_LEN);
+      while (buf.hasRemaining()) {
+        Assert.assertTrue(inStream.read(buf) > 0);
+      }
+      Assert.assertEquals(FILE_LEN, inStream.getPos());
+      Assert.assertEquals(-1, inStream.read(ByteBuffer.allocateDirect(1)));
+
+      buf.flip();
+      byte[] bytes = new byte[FILE_LEN];
+      buf.get(bytes);
+      Assert.assertTrue(BufferUtils.equalIncreasingByteArray(FILE_LEN, bytes));
+    }
+  }
+}
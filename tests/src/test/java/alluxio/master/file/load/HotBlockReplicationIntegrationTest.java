@@ -0,0 +1,84 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.load;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.CreateFileOptions;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Function;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Integration tests for the replication of hot blocks.
+ */
+public final class HotBlockReplicationIntegrationTest extends BaseIntegrationTest {
+  private static final int FILE_SIZE = 1024;
+
+  @Rule
+  public LocalAlluxioClusterResource mResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_ENABLED, true)
+          .setProperty(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_HEAT_THRESHOLD, 1)
+          .setProperty(PropertyKey.MASTER_HOT_BLOCK_REPLICATION_INTERVAL_MS, "100ms")
+          .setProperty(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS, "100ms")
+          .setProperty(PropertyKey.WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS, "100ms")
+          .setNumWorkers(2)
+          .build();
+
+  /**
+   * Tests that the replica of a hot block is copied from the worker holding it, without reading
+   * the under storage.
+   */
+  @Test
+  public void copyReplicaFromHolder() throws Exception {
+    final FileSystem fs = mResource.get().getClient();
+    final AlluxioURI file = new AlluxioURI("/hot");
+    FileSystemTestUtils.createByteFile(fs, file.getPath(), FILE_SIZE,
+        CreateFileOptions.defaults().setWriteType(WriteType.CACHE_THROUGH));
+    // The replica can only be copied from the other worker once the file is gone from the UFS.
+    String ufsPath = fs.getStatus(file).getUfsPath();
+    UnderFileSystem.Factory.create(ufsPath).deleteFile(ufsPath);
+
+    for (int i = 0; i < 10; i++) {
+      try (FileInStream in = fs.openFile(file)) {
+        Assert.assertTrue(
+            BufferUtils.equalIncreasingByteArray(FILE_SIZE, IOUtils.toByteArray(in)));
+      }
+    }
+    CommonUtils.waitFor("the hot block to be replicated", new Function<Void, Boolean>() {
+      @Override
+      public Boolean apply(Void input) {
+        try {
+          URIStatus status = fs.getStatus(file);
+          return status.getFileBlockInfos().get(0).getBlockInfo().getLocations().size() == 2;
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }, WaitForOptions.defaults().setTimeoutMs(30000));
+  }
+}
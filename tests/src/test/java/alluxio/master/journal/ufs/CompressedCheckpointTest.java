@@ -0,0 +1,169 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.ufs;
+
+import alluxio.BaseIntegrationTest;
+import alluxio.proto.journal.File.DeleteFileEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.underfs.UnderFileSystem;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+
+/**
+ * Unit tests for {@link CompressedCheckpointWriter} and {@link CompressedCheckpointReader}.
+ */
+public final class CompressedCheckpointTest extends BaseIntegrationTest {
+  private static final int ENTRIES = 1000;
+  private static final int BLOCK_SIZE = 256;
+  private static final int THREADS = 3;
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  private File mFile;
+  private UnderFileSystem mUfs;
+
+  @Before
+  public void before() throws Exception {
+    mFile = mFolder.newFile();
+    mUfs = UnderFileSystem.Factory.create(mFile.getAbsolutePath());
+  }
+
+  /**
+   * Writes entries in many blocks, and reads them back in order.
+   */
+  @Test
+  public void writeAndRead() throws Exception {
+    writeCheckpoint(ENTRIES);
+    CompressedCheckpointReader.validate(mUfs, mFile.getAbsolutePath());
+    try (CompressedCheckpointReader reader = new CompressedCheckpointReader(
+        new FileInputStream(mFile), THREADS)) {
+      for (int i = 0; i < ENTRIES; i++) {
+        Assert.assertEquals(newEntry(i), reader.read());
+      }
+      Assert.assertNull(reader.read());
+    }
+  }
+
+  /**
+   * Writes and reads a checkpoint without entries.
+   */
+  @Test
+  public void empty() throws Exception {
+    writeCheckpoint(0);
+    CompressedCheckpointReader.validate(mUfs, mFile.getAbsolutePath());
+    try (CompressedCheckpointReader reader = new CompressedCheckpointReader(
+        new FileInputStream(mFile), THREADS)) {
+      Assert.assertNull(reader.read());
+    }
+  }
+
+  /**
+   * Tells compressed checkpoints from checkpoints of delimited entries.
+   */
+  @Test
+  public void isCompressed() throws Exception {
+    writeCheckpoint(1);
+    try (InputStream in = new BufferedInputStream(new FileInputStream(mFile))) {
+      Assert.assertTrue(CompressedCheckpointReader.isCompressed(in));
+      // The magic bytes are not consumed.
+      Assert.assertEquals(0, in.read());
+    }
+    try (FileOutputStream out = new FileOutputStream(mFile)) {
+      newEntry(0).writeDelimitedTo(out);
+    }
+    try (InputStream in = new BufferedInputStream(new FileInputStream(mFile))) {
+      Assert.assertFalse(CompressedCheckpointReader.isCompressed(in));
+    }
+    Assert.assertFalse(
+        CompressedCheckpointReader.isCompressed(new ByteArrayInputStream(new byte[0])));
+  }
+
+  /**
+   * A truncated checkpoint fails validation and reading.
+   */
+  @Test
+  public void truncated() throws Exception {
+    writeCheckpoint(ENTRIES);
+    try (RandomAccessFile file = new RandomAccessFile(mFile, "rw")) {
+      file.setLength(file.length() / 2);
+    }
+    try {
+      CompressedCheckpointReader.validate(mUfs, mFile.getAbsolutePath());
+      Assert.fail("A truncated checkpoint should fail validation");
+    } catch (IOException e) {
+      // expected
+    }
+    try (CompressedCheckpointReader reader = new CompressedCheckpointReader(
+        new FileInputStream(mFile), THREADS)) {
+      while (reader.read() != null) {
+        continue;
+      }
+      Assert.fail("Reading a truncated checkpoint should fail");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  /**
+   * A corrupted block is detected by its checksum.
+   */
+  @Test
+  public void corrupted() throws Exception {
+    writeCheckpoint(ENTRIES);
+    try (RandomAccessFile file = new RandomAccessFile(mFile, "rw")) {
+      long offset = CompressedCheckpointWriter.MAGIC.length
+          + CompressedCheckpointWriter.BLOCK_HEADER_LENGTH;
+      file.seek(offset);
+      int b = file.read();
+      file.seek(offset);
+      file.write(b ^ 0xff);
+    }
+    // The structure is intact, so only reading the blocks detects the corruption.
+    CompressedCheckpointReader.validate(mUfs, mFile.getAbsolutePath());
+    try (CompressedCheckpointReader reader = new CompressedCheckpointReader(
+        new FileInputStream(mFile), THREADS)) {
+      reader.read();
+      Assert.fail("Reading a corrupted checkpoint should fail");
+    } catch (IOException e) {
+      Assert.assertTrue(e.getCause().getMessage().contains("Checksum mismatch"));
+    }
+  }
+
+  private void writeCheckpoint(int entries) throws IOException {
+    try (CompressedCheckpointWriter writer = new CompressedCheckpointWriter(
+        new FileOutputStream(mFile), BLOCK_SIZE, THREADS)) {
+      for (int i = 0; i < entries; i++) {
+        writer.write(newEntry(i));
+      }
+    }
+  }
+
+  private JournalEntry newEntry(long sequenceNumber) {
+    return JournalEntry.newBuilder().setSequenceNumber(sequenceNumber)
+        .setDeleteFile(DeleteFileEntry.newBuilder().setId(sequenceNumber).setRecursive(true))
+        .build();
+  }
+}
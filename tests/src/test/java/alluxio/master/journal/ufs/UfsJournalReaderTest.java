@@ -12,7 +12,9 @@
 package alluxio.master.journal.ufs;
 
 import alluxio.BaseIntegrationTest;
+import alluxio.Configuration;
 import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
 import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalWriter;
 import alluxio.master.journal.options.JournalReaderOptions;
@@ -76,6 +78,28 @@ public final class UfsJournalReaderTest extends BaseIntegrationTest {
     }
   }
 
+  /**
+   * Reads a checkpoint written without compression.
+   */
+  @Test
+  public void readUncompressedCheckpoint() throws Exception {
+    Configuration.set(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED, false);
+    long endSN = 0x20;
+    buildCheckpoint(endSN);
+    try (JournalReader reader = mJournal
+        .getReader(JournalReaderOptions.defaults().setPrimary(true))) {
+      Journal.JournalEntry entry;
+      int sn = 0;
+      while ((entry = reader.read()) != null) {
+        Assert.assertEquals(sn, entry.getSequenceNumber());
+        sn++;
+      }
+
+      Assert.assertEquals(CHECKPOINT_SIZE, sn);
+      Assert.assertEquals(endSN, reader.getNextSequenceNumber());
+    }
+  }
+
   /**
    * Reads a checkpoint that has journal log sequence number (encoded in the file) smaller
    * than the number of journal entries in the checkpoint.
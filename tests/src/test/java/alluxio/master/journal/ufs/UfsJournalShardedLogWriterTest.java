@@ -0,0 +1,413 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.ufs;
+
+import alluxio.BaseIntegrationTest;
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.PropertyKey;
+import alluxio.master.journal.AsyncJournalWriter;
+import alluxio.master.journal.JournalReader;
+import alluxio.master.journal.JournalWriter;
+import alluxio.master.journal.options.JournalReaderOptions;
+import alluxio.master.journal.options.JournalWriterOptions;
+import alluxio.proto.journal.File;
+import alluxio.proto.journal.Journal;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.CreateOptions;
+import alluxio.util.URIUtils;
+
+import com.google.common.base.Strings;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Unit tests for {@link UfsJournalShardedLogWriter} and the reading of sharded journals.
+ */
+public final class UfsJournalShardedLogWriterTest extends BaseIntegrationTest {
+  private static final int SHARDS = 4;
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  private URI mLocation;
+  private UfsJournal mJournal;
+  private UnderFileSystem mUfs;
+  /** Whether the streams created by the UFS fail to flush. */
+  private volatile boolean mFailFlush;
+  /** The time in nanoseconds a stream created by the UFS takes to flush each byte written. */
+  private volatile long mFlushNanosPerByte;
+  /** If set, the flushes of the streams created by the UFS wait for it. */
+  private volatile CountDownLatch mFlushLatch;
+
+  @Before
+  public void before() throws Exception {
+    mLocation = URIUtils
+        .appendPathOrDie(new URI(mFolder.newFolder().getAbsolutePath()), "FileSystemMaster");
+    mUfs = Mockito.spy(UnderFileSystem.Factory.create(mLocation));
+    Mockito.when(mUfs.supportsFlush()).thenReturn(true);
+    Mockito.doAnswer(new Answer<OutputStream>() {
+      @Override
+      public OutputStream answer(InvocationOnMock invocation) throws Throwable {
+        return new FilterOutputStream((OutputStream) invocation.callRealMethod()) {
+          private long mUnflushedBytes;
+
+          @Override
+          public void write(int b) throws IOException {
+            out.write(b);
+            mUnflushedBytes++;
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            mUnflushedBytes += len;
+          }
+
+          @Override
+          public void flush() throws IOException {
+            if (mFailFlush) {
+              throw new IOException("flush failed");
+            }
+            CountDownLatch latch = mFlushLatch;
+            if (latch != null) {
+              try {
+                latch.await();
+              } catch (InterruptedException e) {
+                throw new IOException(e);
+              }
+            }
+            if (mFlushNanosPerByte > 0) {
+              long deadline = System.nanoTime() + mUnflushedBytes * mFlushNanosPerByte;
+              while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(deadline - System.nanoTime());
+              }
+            }
+            mUnflushedBytes = 0;
+            super.flush();
+          }
+        };
+      }
+    }).when(mUfs).create(Matchers.anyString(), Matchers.any(CreateOptions.class));
+    mJournal = new UfsJournal(mLocation, mUfs, SHARDS);
+  }
+
+  @After
+  public void after() throws Exception {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Writes journal entries to the shard logs and reads them back in order.
+   */
+  @Test
+  public void writeAndRead() throws Exception {
+    long nextSN = 0x20;
+    JournalWriter writer = newWriter(nextSN);
+    for (int i = 0; i < 100; i++) {
+      writer.write(newEntry(nextSN));
+      nextSN++;
+      if (i % 7 == 0) {
+        writer.flush();
+      }
+    }
+    writer.close();
+
+    UfsJournalSnapshot snapshot = UfsJournalSnapshot.getSnapshot(mJournal);
+    Assert.assertEquals(SHARDS, snapshot.getLogs().size());
+    for (UfsJournalFile log : snapshot.getLogs()) {
+      Assert.assertEquals(UfsJournalFile.encodeLogFileLocation(mJournal, 0x20, nextSN,
+          log.getShard()), log.getLocation());
+    }
+    Assert.assertEquals(nextSN, checkRead(0x20, false));
+  }
+
+  /**
+   * Tests the rotation of the shard logs.
+   */
+  @Test
+  public void rotate() throws Exception {
+    Configuration.set(PropertyKey.MASTER_JOURNAL_LOG_SIZE_BYTES_MAX, "1");
+    long nextSN = 0x20;
+    JournalWriter writer = newWriter(nextSN);
+    for (int i = 0; i < 10; i++) {
+      writer.write(newEntry(nextSN));
+      writer.write(newEntry(nextSN + 1));
+      nextSN += 2;
+      writer.flush();
+    }
+    writer.close();
+
+    UfsJournalSnapshot snapshot = UfsJournalSnapshot.getSnapshot(mJournal);
+    Assert.assertEquals(10 * SHARDS, snapshot.getLogs().size());
+    Assert.assertEquals(nextSN, checkRead(0x20, false));
+  }
+
+  /**
+   * The entries which failed to be flushed are written again to the next segment.
+   */
+  @Test
+  public void flushFailure() throws Exception {
+    long nextSN = 0x20;
+    JournalWriter writer = newWriter(nextSN);
+    for (int i = 0; i < 4; i++) {
+      writer.write(newEntry(nextSN++));
+    }
+    writer.flush();
+    mFailFlush = true;
+    for (int i = 0; i < 4; i++) {
+      writer.write(newEntry(nextSN++));
+    }
+    try {
+      writer.flush();
+      Assert.fail("The flush should fail.");
+    } catch (IOException e) {
+      // expected
+    }
+    mFailFlush = false;
+    writer.flush();
+    writer.write(newEntry(nextSN++));
+    writer.close();
+
+    for (UfsJournalFile log : UfsJournalSnapshot.getSnapshot(mJournal).getLogs()) {
+      Assert.assertTrue(log.getStart() == 0x20 && log.getEnd() == 0x24
+          || log.getStart() == 0x24 && log.getEnd() == nextSN);
+    }
+    Assert.assertEquals(nextSN, checkRead(0x20, false));
+  }
+
+  /**
+   * Entries can be written while a flush is in flight, and are flushed by the next flush.
+   */
+  @Test(timeout = 30000)
+  public void writeDuringFlush() throws Exception {
+    long nextSN = 0x20;
+    final JournalWriter writer = newWriter(nextSN);
+    writer.write(newEntry(nextSN++));
+    writer.flush();
+
+    mFlushLatch = new CountDownLatch(1);
+    writer.write(newEntry(nextSN++));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Void> flush = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          writer.flush();
+          return null;
+        }
+      });
+      // The flush in flight does not block the writes.
+      for (int i = 0; i < 10; i++) {
+        writer.write(newEntry(nextSN++));
+      }
+      Assert.assertFalse(flush.isDone());
+      mFlushLatch.countDown();
+      flush.get();
+    } finally {
+      mFlushLatch = null;
+      executor.shutdownNow();
+    }
+    writer.flush();
+    writer.close();
+    Assert.assertEquals(nextSN, checkRead(0x20, false));
+  }
+
+  /**
+   * The shards are flushed in parallel, and the flushes of concurrent writers overlap, so the
+   * throughput of the journal rises with the number of shards when a flush takes time in
+   * proportion to the bytes it flushes.
+   */
+  @Test(timeout = 120000)
+  public void throughputRisesWithShards() throws Exception {
+    mFlushNanosPerByte = 5000;
+    long oneShardMs = timeConcurrentWrites(1);
+    long shardsMs = timeConcurrentWrites(SHARDS);
+    Assert.assertTrue(String.format("1 shard took %dms, %d shards took %dms", oneShardMs, SHARDS,
+        shardsMs), shardsMs * 2 < oneShardMs);
+  }
+
+  /**
+   * A new journal writer completes the current shard logs, and deletes them if they are empty.
+   */
+  @Test
+  public void completeCurrentLogs() throws Exception {
+    writeLog(0x10, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 0, 0x10, 0x12);
+    writeLog(0x10, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 1, 0x11);
+    newWriter(0x13).close();
+
+    UfsJournalSnapshot snapshot = UfsJournalSnapshot.getSnapshot(mJournal);
+    Assert.assertEquals(2, snapshot.getLogs().size());
+    for (UfsJournalFile log : snapshot.getLogs()) {
+      Assert.assertEquals(UfsJournalFile.encodeLogFileLocation(mJournal, 0x10, 0x13,
+          log.getShard()), log.getLocation());
+    }
+    Assert.assertTrue(UfsJournalSnapshot.getIncompleteLogs(mJournal).isEmpty());
+    Assert.assertEquals(0x13, checkRead(0x10, false));
+
+    newWriter(0x13).close();
+    Assert.assertEquals(2, UfsJournalSnapshot.getSnapshot(mJournal).getLogs().size());
+  }
+
+  /**
+   * A journal writer of a journal which is not sharded completes the current shard logs.
+   */
+  @Test
+  public void completeCurrentLogsWithoutShards() throws Exception {
+    writeLog(0x10, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 0, 0x10);
+    writeLog(0x10, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 1, 0x11);
+    UfsJournal journal = new UfsJournal(mLocation, mUfs, 1);
+    JournalWriter writer = journal
+        .getWriter(JournalWriterOptions.defaults().setPrimary(true).setNextSequenceNumber(0x12));
+    writer.write(newEntry(0x12));
+    writer.close();
+
+    UfsJournalSnapshot snapshot = UfsJournalSnapshot.getSnapshot(mJournal);
+    Assert.assertEquals(3, snapshot.getLogs().size());
+    Assert.assertEquals(0x13, checkRead(0x10, false));
+  }
+
+  /**
+   * A secondary master does not read a segment until all its shard logs are complete, and a
+   * primary master reads the current segment up to the first missing entry.
+   */
+  @Test
+  public void readCurrentSegment() throws Exception {
+    writeLog(0x10, 0x14, 0, 0x10, 0x12);
+    writeLog(0x10, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 1, 0x11, 0x13);
+    writeLog(0x14, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 0, 0x14, 0x16);
+    writeLog(0x14, UfsJournal.UNKNOWN_SEQUENCE_NUMBER, 1, 0x17);
+
+    Assert.assertEquals(0x10, checkRead(0x10, false));
+    Assert.assertEquals(0x15, checkRead(0x10, true));
+  }
+
+  /**
+   * Writes and flushes journal entries from several threads through an {@link AsyncJournalWriter}
+   * to a new journal with the given number of shards.
+   *
+   * @param shards the number of shards
+   * @return the time in milliseconds it takes
+   */
+  private long timeConcurrentWrites(int shards) throws Exception {
+    final int threads = 16;
+    final int entriesPerThread = 12;
+    UfsJournal journal = new UfsJournal(URIUtils.appendPathOrDie(
+        new URI(mFolder.newFolder().getAbsolutePath()), "FileSystemMaster"), mUfs, shards);
+    JournalWriter writer = journal
+        .getWriter(JournalWriterOptions.defaults().setPrimary(true).setNextSequenceNumber(0));
+    final AsyncJournalWriter asyncWriter = new AsyncJournalWriter(writer);
+    // An entry of about 1KB, which is not about an inode so that it may go to any shard.
+    final Journal.JournalEntry entry = Journal.JournalEntry.newBuilder()
+        .setAddMountPoint(File.AddMountPointEntry.newBuilder()
+            .setAlluxioPath("/" + Strings.repeat("a", 1000)).setUfsPath("/ufs"))
+        .build();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      long startMs = System.currentTimeMillis();
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            for (int j = 0; j < entriesPerThread; j++) {
+              asyncWriter.flush(asyncWriter.appendEntry(entry));
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+      return System.currentTimeMillis() - startMs;
+    } finally {
+      executor.shutdownNow();
+      writer.close();
+    }
+  }
+
+  /**
+   * Reads the journal from the given sequence number, and checks that the entries are in order.
+   *
+   * @param startSN the sequence number to read from
+   * @param primary whether to read as the primary master
+   * @return the next sequence number after reading
+   */
+  private long checkRead(long startSN, boolean primary) throws Exception {
+    try (JournalReader reader = mJournal.getReader(JournalReaderOptions.defaults()
+        .setPrimary(primary).setNextSequenceNumber(startSN))) {
+      Journal.JournalEntry entry;
+      long sn = startSN;
+      while ((entry = reader.read()) != null) {
+        Assert.assertEquals(sn, entry.getSequenceNumber());
+        sn++;
+      }
+      Assert.assertEquals(sn, reader.getNextSequenceNumber());
+      return sn;
+    }
+  }
+
+  /**
+   * Writes a shard log with entries of the given sequence numbers.
+   *
+   * @param start the start sequence number of the log
+   * @param end the end sequence number of the log
+   * @param shard the shard index
+   * @param sequenceNumbers the sequence numbers of the entries
+   */
+  private void writeLog(long start, long end, int shard, long... sequenceNumbers)
+      throws Exception {
+    try (OutputStream out = mUfs.create(
+        UfsJournalFile.encodeLogFileLocation(mJournal, start, end, shard).toString())) {
+      for (long sequenceNumber : sequenceNumbers) {
+        newEntry(sequenceNumber).writeDelimitedTo(out);
+      }
+    }
+  }
+
+  private JournalWriter newWriter(long nextSN) throws IOException {
+    return mJournal
+        .getWriter(JournalWriterOptions.defaults().setPrimary(true).setNextSequenceNumber(nextSN));
+  }
+
+  /**
+   * Creates a dummy journal entry with the given sequence number.
+   *
+   * @param sequenceNumber the sequence number
+   * @return the journal entry
+   */
+  private Journal.JournalEntry newEntry(long sequenceNumber) {
+    return Journal.JournalEntry.newBuilder().setSequenceNumber(sequenceNumber).build();
+  }
+}
@@ -34,6 +34,7 @@ import alluxio.wire.FileInfo;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import org.junit.Assert;
 import org.junit.Before;
@@ -106,6 +107,38 @@ public final class FileSystemClientRestApiTest extends RestApiTest {
     Assert.assertEquals(message, new String(readFile(uri)));
   }
 
+  @Test
+  public void downloadRange() throws Exception {
+    AlluxioURI uri = new AlluxioURI("/file");
+    String message = "Greetings traveller!";
+    writeFile(uri, message.getBytes());
+    String result = new TestCase(mHostname, mPort,
+        PATHS_PREFIX + uri.toString() + "/" + PathsRestServiceHandler.OPEN_FILE, NO_PARAMS,
+        HttpMethod.POST, null, TestCaseOptions.defaults().setBody(OpenFileOptions.defaults()))
+        .call();
+    Integer id = new ObjectMapper().readValue(result, Integer.TYPE);
+    result = new TestCase(mHostname, mPort,
+        STREAMS_PREFIX + id.toString() + "/" + StreamsRestServiceHandler.READ, NO_PARAMS,
+        HttpMethod.POST, null, TestCaseOptions.defaults()
+        .setHeaders(ImmutableMap.of(StreamsRestServiceHandler.RANGE_HEADER, "bytes=10-15")))
+        .call();
+    Assert.assertEquals(message.substring(10, 16), result);
+    result = new TestCase(mHostname, mPort,
+        STREAMS_PREFIX + id.toString() + "/" + StreamsRestServiceHandler.READ, NO_PARAMS,
+        HttpMethod.POST, null, TestCaseOptions.defaults()
+        .setHeaders(ImmutableMap.of(StreamsRestServiceHandler.RANGE_HEADER, "bytes=-9")))
+        .call();
+    Assert.assertEquals(message.substring(message.length() - 9), result);
+    // Range reads do not move the position of the stream.
+    result = new TestCase(mHostname, mPort,
+        STREAMS_PREFIX + id.toString() + "/" + StreamsRestServiceHandler.READ, NO_PARAMS,
+        HttpMethod.POST, null).call();
+    Assert.assertEquals(message, result);
+    new TestCase(mHostname, mPort,
+        STREAMS_PREFIX + id.toString() + "/" + StreamsRestServiceHandler.CLOSE, NO_PARAMS,
+        HttpMethod.POST, null).run();
+  }
+
   @Test
   public void exists() throws Exception  {
     AlluxioURI uri = new AlluxioURI("/file");
@@ -161,6 +194,38 @@ public final class FileSystemClientRestApiTest extends RestApiTest {
         HttpMethod.POST, null, TestCaseOptions.defaults().setBody(MountOptions.defaults())).run();
   }
 
+  @Test
+  public void multipartUpload() throws Exception {
+    AlluxioURI uri = new AlluxioURI("/file");
+    String[] parts = {"Greetings ", "traveller", "!"};
+    String result = new TestCase(mHostname, mPort,
+        PATHS_PREFIX + uri.toString() + "/" + PathsRestServiceHandler.CREATE_MULTIPART_UPLOAD,
+        NO_PARAMS, HttpMethod.POST, null).call();
+    Long uploadId = new ObjectMapper().readValue(result, Long.TYPE);
+    // Upload the parts out of order.
+    for (int partNumber : new int[] {2, 0, 1}) {
+      Map<String, String> params = new HashMap<>();
+      params.put("uploadId", uploadId.toString());
+      params.put("partNumber", Integer.toString(partNumber));
+      new TestCase(mHostname, mPort,
+          PATHS_PREFIX + uri.toString() + "/" + PathsRestServiceHandler.UPLOAD_PART, params,
+          HttpMethod.POST, (long) parts[partNumber].length(), TestCaseOptions.defaults()
+          .setInputStream(new ByteArrayInputStream(parts[partNumber].getBytes()))).run();
+    }
+    Map<String, String> params = new HashMap<>();
+    params.put("uploadId", uploadId.toString());
+    String message = "Greetings traveller!";
+    new TestCase(mHostname, mPort,
+        PATHS_PREFIX + uri.toString() + "/" + PathsRestServiceHandler.COMPLETE_MULTIPART_UPLOAD,
+        params, HttpMethod.POST, (long) message.length(),
+        TestCaseOptions.defaults().setBody(CreateFileOptions.defaults())).run();
+    Assert.assertEquals(message, new String(readFile(uri)));
+    // The parts are deleted.
+    List<FileInfo> fileInfos = mFileSystemMaster.listStatus(new AlluxioURI("/"),
+        alluxio.master.file.options.ListStatusOptions.defaults());
+    Assert.assertEquals(uri.getPath(), Iterables.getOnlyElement(fileInfos).getPath());
+  }
+
   @Test
   public void rename() throws Exception {
     AlluxioURI uri1 = new AlluxioURI("/file1");
@@ -132,6 +132,9 @@ public final class TestCase {
   public String call() throws Exception {
     HttpURLConnection connection = (HttpURLConnection) createURL().openConnection();
     connection.setRequestMethod(mMethod);
+    for (Map.Entry<String, String> header : mOptions.getHeaders().entrySet()) {
+      connection.setRequestProperty(header.getKey(), header.getValue());
+    }
     if (mOptions.getInputStream() != null) {
       connection.setDoOutput(true);
       connection.setRequestProperty("Content-Type", "application/octet-stream");
@@ -149,7 +152,8 @@ public final class TestCase {
     }
 
     connection.connect();
-    if (connection.getResponseCode() != Response.Status.OK.getStatusCode()) {
+    if (connection.getResponseCode() != Response.Status.OK.getStatusCode()
+        && connection.getResponseCode() != Response.Status.PARTIAL_CONTENT.getStatusCode()) {
       InputStream errorStream = connection.getErrorStream();
       if (errorStream != null) {
         Assert.fail("Request failed: " + IOUtils.toString(errorStream));
@@ -14,6 +14,8 @@ package alluxio.rest;
 import com.google.common.base.Objects;
 
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -24,6 +26,7 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class TestCaseOptions {
   private Object mBody;
+  private Map<String, String> mHeaders;
   private InputStream mInputStream;
   private boolean mPrettyPrint;
 
@@ -36,6 +39,7 @@ public final class TestCaseOptions {
 
   private TestCaseOptions() {
     mBody = null;
+    mHeaders = new HashMap<>();
     mInputStream = null;
     mPrettyPrint = false;
   }
@@ -47,6 +51,13 @@ public final class TestCaseOptions {
     return mBody;
   }
 
+  /**
+   * @return the headers to be sent to the web server
+   */
+  public Map<String, String> getHeaders() {
+    return mHeaders;
+  }
+
   /**
    * @return the input stream representing data to be sent to the web server
    */
@@ -70,6 +81,15 @@ public final class TestCaseOptions {
     return this;
   }
 
+  /**
+   * @param headers the headers to use
+   * @return the updated options object
+   */
+  public TestCaseOptions setHeaders(Map<String, String> headers) {
+    mHeaders = headers;
+    return this;
+  }
+
   /**
    * @param inputStream the input stream to use
    * @return the updated options object
@@ -98,19 +118,21 @@ public final class TestCaseOptions {
     }
     TestCaseOptions that = (TestCaseOptions) o;
     return Objects.equal(mBody, that.mBody)
+        && Objects.equal(mHeaders, that.mHeaders)
         && Objects.equal(mInputStream, that.mInputStream)
         && mPrettyPrint == that.mPrettyPrint;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mBody, mInputStream, mPrettyPrint);
+    return Objects.hashCode(mBody, mHeaders, mInputStream, mPrettyPrint);
   }
 
   @Override
   public String toString() {
     return Objects.toStringHelper(this)
         .add("body", mBody)
+        .add("headers", mHeaders)
         .add("input stream", mInputStream)
         .add("pretty print", mPrettyPrint)
         .toString();
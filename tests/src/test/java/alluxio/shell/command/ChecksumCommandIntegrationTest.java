@@ -11,11 +11,15 @@
 
 package alluxio.shell.command;
 
+import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.client.WriteType;
 import alluxio.client.file.FileSystemTestUtils;
 import alluxio.exception.ExceptionMessage;
 import alluxio.shell.AbstractAlluxioShellTest;
 import alluxio.util.io.BufferUtils;
+import alluxio.util.io.CRC32C;
+import alluxio.worker.block.io.BlockChecksum;
 
 import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Assert;
@@ -45,6 +49,33 @@ public final class ChecksumCommandIntegrationTest extends AbstractAlluxioShellTe
     }
   }
 
+  /**
+   * Tests getting the CRC32C checksum of files whose blocks were written to Alluxio, and of a file
+   * whose checksum is calculated by reading it.
+   */
+  @Test
+  public void checksumCrc32c() throws Exception {
+    int length = 3 * BlockChecksum.CHUNK_SIZE + 10;
+    byte[] data = BufferUtils.getIncreasingByteArray(length);
+    CRC32C crc = new CRC32C();
+    crc.update(data, 0, length);
+    String expected = String.format("crc32c: %08x%n", crc.getValue());
+
+    FileSystemTestUtils.createByteFile(mFileSystem, "/cacheFile", WriteType.MUST_CACHE, length);
+    Assert.assertEquals(crc.getValue(),
+        mFileSystem.getFileChecksum(new AlluxioURI("/cacheFile")));
+    mFsShell.run("checksum", "-crc32c", "/cacheFile");
+    Assert.assertEquals(expected, mOutput.toString());
+
+    // The blocks of a file written through to the under storage have no checksums.
+    FileSystemTestUtils.createByteFile(mFileSystem, "/throughFile", WriteType.THROUGH, length);
+    Assert.assertEquals(Constants.UNKNOWN_CHECKSUM,
+        mFileSystem.getFileChecksum(new AlluxioURI("/throughFile")));
+    mOutput.reset();
+    mFsShell.run("checksum", "-crc32c", "/throughFile");
+    Assert.assertEquals(expected, mOutput.toString());
+  }
+
   /**
    * Test invalid args.
    */
@@ -58,4 +58,25 @@ public final class LoadCommandIntegrationTest extends AbstractAlluxioShellTest {
     status = mFileSystem.getStatus(uri);
     Assert.assertTrue(status.getInMemoryPercentage() == 100);
   }
+
+  @Test
+  public void loadFileWithTimeout() throws IOException, AlluxioException {
+    FileSystemTestUtils.createByteFile(mFileSystem, "/testFile", WriteType.THROUGH, 10);
+    AlluxioURI uri = new AlluxioURI("/testFile");
+    Assert.assertEquals(-1, mFsShell.run("load", "-timeout", "soon", "/testFile"));
+    Assert.assertEquals(0, mFsShell.run("load", "-timeout", "1min", "/testFile"));
+    Assert.assertTrue(mFileSystem.getStatus(uri).getInMemoryPercentage() == 100);
+  }
+
+  @Test
+  public void loadFileLocal() throws IOException, AlluxioException {
+    FileSystemTestUtils.createByteFile(mFileSystem, "/testFile", WriteType.THROUGH, 10);
+    AlluxioURI uri = new AlluxioURI("/testFile");
+    URIStatus status = mFileSystem.getStatus(uri);
+    Assert.assertFalse(status.getInMemoryPercentage() == 100);
+    // Testing loading of a single file through the client
+    mFsShell.run("load", "-local", "/testFile");
+    status = mFileSystem.getStatus(uri);
+    Assert.assertTrue(status.getInMemoryPercentage() == 100);
+  }
 }